@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package instrumentation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.mysql.cj.jdbc.CallableStatement;
+import com.mysql.cj.jdbc.ClientPreparedStatement;
+import com.mysql.cj.jdbc.StatementImpl;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.util.Util;
+
+/**
+ * Writes the sources of the com.mysql.cj.jdbc.ha.JdbcInterfaceDelegate subclasses that stand in for the dynamic proxies multi-host connections wrap
+ * statements and result sets in. Each delegate implements the same interfaces as its sample class and forwards every call the way
+ * MultiHostConnectionProxy.JdbcInterfaceProxy does.
+ * 
+ * Usage: <code>JdbcInterfaceDelegatesGenerator [output dir]</code>, with the compiled driver in the class path. The generated sources are kept in
+ * src/generated/java and must be regenerated, with the "generate-jdbc-delegates" Ant target, when the JDBC interfaces change; "check-jdbc-delegates" fails
+ * the build if they are stale.
+ */
+public class JdbcInterfaceDelegatesGenerator {
+    private static final String PACKAGE = "com.mysql.cj.jdbc.ha";
+    private static final Pattern QUALIFIED_NAME = Pattern.compile("\\b(?:[a-z_][a-z0-9_]*\\.)+[A-Z][A-Za-z0-9_]*(?:\\$[A-Z][A-Za-z0-9_]*)*");
+
+    private static String LICENSE;
+
+    public static void main(String[] args) throws Exception {
+        // the generated sources carry the same license header as this one
+        String source = new String(Files.readAllBytes(new File("src/build/java/instrumentation/JdbcInterfaceDelegatesGenerator.java").toPath()),
+                StandardCharsets.UTF_8);
+        LICENSE = source.substring(0, source.indexOf("*/") + 2);
+
+        File dir = new File(args.length > 0 ? args[0] : "src/generated/java", PACKAGE.replace('.', File.separatorChar));
+        dir.mkdirs();
+
+        generate(dir, "StatementDelegate", StatementImpl.class);
+        generate(dir, "PreparedStatementDelegate", ClientPreparedStatement.class);
+        generate(dir, "CallableStatementDelegate", CallableStatement.class);
+        generate(dir, "ResultSetDelegate", ResultSetImpl.class);
+    }
+
+    private static void generate(File dir, String className, Class<?> sample) throws IOException {
+        // the interfaces a dynamic proxy of the sample would implement, minus those inherited from another one
+        List<Class<?>> interfaces = new ArrayList<>(Arrays.asList(Util.getImplementedInterfaces(sample)));
+        interfaces.removeIf(i -> interfaces.stream().anyMatch(o -> o != i && i.isAssignableFrom(o)));
+
+        Map<String, List<Method>> signatures = new LinkedHashMap<>();
+        for (Class<?> iface : interfaces) {
+            for (Method m : iface.getMethods()) {
+                if (!Modifier.isStatic(m.getModifiers())) {
+                    signatures.computeIfAbsent(m.getName() + Arrays.toString(m.getParameterTypes()), k -> new ArrayList<>()).add(m);
+                }
+            }
+        }
+        signatures.remove("equals" + Arrays.toString(new Class<?>[] { Object.class }));
+
+        Imports imports = new Imports();
+        StringBuilder body = new StringBuilder();
+        List<String> fields = new ArrayList<>();
+        for (Class<?> iface : interfaces) {
+            fields.add(fieldName(iface));
+        }
+
+        body.append("    ").append(className).append("(MultiHostConnectionProxy proxy, Object target) {\n");
+        body.append("        super(proxy, target);\n");
+        for (Class<?> iface : interfaces) {
+            body.append("        this.").append(fieldName(iface)).append(" = (").append(imports.name(iface)).append(") target;\n");
+        }
+        body.append("    }\n");
+
+        List<String> keys = new ArrayList<>(signatures.keySet());
+        keys.sort(Comparator.naturalOrder());
+        for (String key : keys) {
+            List<Method> candidates = signatures.get(key);
+            Method m = mostSpecific(candidates);
+            Class<?> owner = interfaces.stream().filter(i -> declares(i, m)).findFirst().get();
+            body.append('\n');
+            appendMethod(body, imports, m, candidates.stream().anyMatch(c -> c.isAnnotationPresent(Deprecated.class)), fieldName(owner),
+                    exceptions(candidates));
+        }
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(new File(dir, className + ".java").toPath(), StandardCharsets.UTF_8))) {
+            out.println(LICENSE);
+            out.println();
+            out.println("package " + PACKAGE + ";");
+            out.println();
+            out.println("// Generated by instrumentation.JdbcInterfaceDelegatesGenerator. DO NOT EDIT!");
+            out.println();
+            String group = null;
+            for (String imp : imports.list()) {
+                String impGroup = imp.startsWith("java.") ? "java" : imp.startsWith("javax.") ? "javax" : "";
+                if (group != null && !group.equals(impGroup)) {
+                    out.println();
+                }
+                group = impGroup;
+                out.println("import " + imp + ";");
+            }
+            out.println();
+            out.println("final class " + className + " extends JdbcInterfaceDelegate implements "
+                    + interfaces.stream().map(imports::name).collect(Collectors.joining(", ")) + " {");
+            for (Class<?> iface : interfaces) {
+                out.println("    private final " + imports.name(iface) + " " + fieldName(iface) + ";");
+            }
+            out.println();
+            out.print(body);
+            out.println("}");
+        }
+    }
+
+    private static void appendMethod(StringBuilder body, Imports imports, Method m, boolean deprecated, String field, List<Class<?>> exceptions) {
+        Class<?> returnType = m.getReturnType();
+        String genericReturnType = imports.type(m.getGenericReturnType());
+        boolean isVoid = returnType == void.class;
+        boolean isExecute = m.getName().startsWith("execute");
+
+        if (deprecated) {
+            // also keeps the call to the deprecated target method from warning
+            body.append("    @Deprecated\n");
+        }
+        body.append("    @Override\n    public ");
+        if (m.getTypeParameters().length > 0) {
+            body.append('<');
+            for (TypeVariable<Method> t : m.getTypeParameters()) {
+                if (t != m.getTypeParameters()[0]) {
+                    body.append(", ");
+                }
+                body.append(t.getName());
+                List<Type> bounds = new ArrayList<>(Arrays.asList(t.getBounds()));
+                bounds.remove(Object.class);
+                if (!bounds.isEmpty()) {
+                    body.append(" extends ").append(bounds.stream().map(imports::type).collect(Collectors.joining(" & ")));
+                }
+            }
+            body.append("> ");
+        }
+        body.append(genericReturnType).append(' ').append(m.getName()).append('(');
+        Type[] params = m.getGenericParameterTypes();
+        for (int i = 0; i < params.length; i++) {
+            String type = imports.type(params[i]);
+            if (m.isVarArgs() && i == params.length - 1) {
+                type = type.substring(0, type.length() - 2) + "...";
+            }
+            body.append(i > 0 ? ", " : "").append(type).append(" p").append(i);
+        }
+        body.append(')');
+        if (!exceptions.isEmpty()) {
+            body.append(" throws ").append(exceptions.stream().map(imports::name).collect(Collectors.joining(", ")));
+        }
+        body.append(" {\n");
+
+        String call = "this." + field + "." + m.getName() + "(" + IntStream.range(0, params.length).mapToObj(i -> "p" + i).collect(Collectors.joining(", "))
+                + ")";
+        if (Util.isJdbcInterface(returnType)) {
+            call = "(" + genericReturnType + ") this.proxy.proxyIfReturnTypeIsJdbcInterface(" + imports.name(returnType) + ".class, " + call + ")";
+        }
+
+        body.append("        this.proxy.connectionLock.lock();\n");
+        body.append("        try {\n");
+        if (isExecute) {
+            body.append("            this.proxy.jdbcInterfaceExecuteBegins();\n");
+            body.append("            ").append(isVoid ? "" : genericReturnType + " result = ").append(call).append(";\n");
+            body.append("            this.proxy.jdbcInterfaceExecuteEnds();\n");
+            if (!isVoid) {
+                body.append("            return result;\n");
+            }
+        } else {
+            body.append("            ").append(isVoid ? "" : "return ").append(call).append(";\n");
+        }
+        body.append("        } catch (RuntimeException e) {\n");
+        if (exceptions.stream().anyMatch(e -> e.isAssignableFrom(SQLException.class))) {
+            body.append("            throw this.proxy.dealWithException(e);\n");
+        } else {
+            body.append("            throw dealWithUncheckedException(e);\n");
+        }
+        for (Class<?> e : exceptions) {
+            body.append("        } catch (").append(imports.name(e)).append(" e) {\n");
+            body.append("            throw this.proxy.dealWithException(e);\n");
+        }
+        body.append("        } finally {\n");
+        body.append("            this.proxy.connectionLock.unlock();\n");
+        body.append("        }\n");
+        body.append("    }\n");
+    }
+
+    /**
+     * Picks, among the same method inherited from several interfaces, the one with the most specific return type.
+     */
+    private static Method mostSpecific(List<Method> candidates) {
+        Method best = candidates.get(0);
+        for (Method m : candidates) {
+            if (best.getReturnType() != m.getReturnType() && best.getReturnType().isAssignableFrom(m.getReturnType())) {
+                best = m;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The checked exceptions all the given methods may throw, that is, those an implementation of all of them can declare.
+     */
+    private static List<Class<?>> exceptions(List<Method> candidates) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (Class<?> e : candidates.get(0).getExceptionTypes()) {
+            for (Method m : candidates) {
+                for (Class<?> other : m.getExceptionTypes()) {
+                    if (e.isAssignableFrom(other)) {
+                        result.add(other);
+                    } else if (other.isAssignableFrom(e)) {
+                        result.add(e);
+                    }
+                }
+            }
+        }
+        result.removeIf(e -> RuntimeException.class.isAssignableFrom(e) || Error.class.isAssignableFrom(e)
+                || candidates.stream().anyMatch(m -> Arrays.stream(m.getExceptionTypes()).noneMatch(o -> o.isAssignableFrom(e))));
+        result.removeIf(e -> result.stream().anyMatch(o -> o != e && o.isAssignableFrom(e)));
+        return new ArrayList<>(result);
+    }
+
+    private static boolean declares(Class<?> iface, Method m) {
+        try {
+            return iface.getMethod(m.getName(), m.getParameterTypes()).getReturnType() == m.getReturnType();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String fieldName(Class<?> iface) {
+        return Character.toLowerCase(iface.getSimpleName().charAt(0)) + iface.getSimpleName().substring(1);
+    }
+
+    /**
+     * Shortens qualified type names to simple names, as long as they don't clash, and keeps track of the imports that need.
+     */
+    private static class Imports {
+        private Map<String, String> simpleToQualified = new HashMap<>();
+        private Set<String> imports = new TreeSet<>();
+
+        String name(Class<?> clazz) {
+            return type(clazz);
+        }
+
+        String type(Type type) {
+            Matcher matcher = QUALIFIED_NAME.matcher(type.getTypeName());
+            StringBuffer sb = new StringBuffer();
+            while (matcher.find()) {
+                String qualified = matcher.group();
+                int dollar = qualified.indexOf('$');
+                String outer = dollar < 0 ? qualified : qualified.substring(0, dollar);
+                String simple = outer.substring(outer.lastIndexOf('.') + 1);
+                String known = this.simpleToQualified.putIfAbsent(simple, outer);
+                String replacement = qualified.replace('$', '.');
+                if (known == null || known.equals(outer)) {
+                    replacement = simple + replacement.substring(outer.length());
+                    if (!outer.startsWith("java.lang.") || outer.lastIndexOf('.') > "java.lang".length()) {
+                        if (!outer.substring(0, outer.lastIndexOf('.')).equals(PACKAGE)) {
+                            this.imports.add(outer);
+                        }
+                    }
+                }
+                matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+            }
+            matcher.appendTail(sb);
+            return sb.toString();
+        }
+
+        /**
+         * The imports in the order sources are formatted in: java.*, javax.* and then the rest.
+         */
+        List<String> list() {
+            List<String> list = new ArrayList<>(this.imports);
+            list.sort(Comparator.comparing((String i) -> i.startsWith("java.") ? 0 : i.startsWith("javax.") ? 1 : 2).thenComparing(Comparator.naturalOrder()));
+            return list;
+        }
+    }
+}
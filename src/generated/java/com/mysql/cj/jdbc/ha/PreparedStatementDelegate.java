@@ -0,0 +1,2312 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+// Generated by instrumentation.JdbcInterfaceDelegatesGenerator. DO NOT EDIT!
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.PingTarget;
+import com.mysql.cj.Query;
+import com.mysql.cj.QueryAttributesBindings;
+import com.mysql.cj.QueryBindings;
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.ParameterBindings;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset;
+
+final class PreparedStatementDelegate extends JdbcInterfaceDelegate implements JdbcPreparedStatement {
+    private final JdbcPreparedStatement jdbcPreparedStatement;
+
+    PreparedStatementDelegate(MultiHostConnectionProxy proxy, Object target) {
+        super(proxy, target);
+        this.jdbcPreparedStatement = (JdbcPreparedStatement) target;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.addBatch();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void addBatch(Object p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.addBatch(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void addBatch(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.addBatch(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.cancel();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void checkCancelTimeout() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.checkCancelTimeout();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearAttributes() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.clearAttributes();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.clearBatch();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBatchedArgs() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.clearBatchedArgs();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.clearParameters();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.clearWarnings();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.closeOnCompletion();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void closeQuery() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.closeQuery();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.close();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void disableStreamingResults() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.disableStreamingResults();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void enableStreamingResults() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.enableStreamingResults();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int[] result = this.jdbcPreparedStatement.executeBatch();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long[] result = this.jdbcPreparedStatement.executeLargeBatch();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcPreparedStatement.executeLargeUpdate();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0, int[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcPreparedStatement.executeLargeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0, String[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcPreparedStatement.executeLargeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcPreparedStatement.executeLargeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcPreparedStatement.executeLargeUpdate(p0);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            ResultSet result = (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcPreparedStatement.executeQuery());
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            ResultSet result = (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcPreparedStatement.executeQuery(p0));
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcPreparedStatement.executeUpdate();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0, int[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcPreparedStatement.executeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0, String[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcPreparedStatement.executeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcPreparedStatement.executeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcPreparedStatement.executeUpdate(p0);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcPreparedStatement.execute();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0, int[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcPreparedStatement.execute(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0, String[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcPreparedStatement.execute(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcPreparedStatement.execute(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcPreparedStatement.execute(p0);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Object> getBatchedArgs() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getBatchedArgs();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytesRepresentation(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getBytesRepresentation(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Lock getCancelTimeoutLock() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getCancelTimeoutLock();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Connection) this.proxy.proxyIfReturnTypeIsJdbcInterface(Connection.class, this.jdbcPreparedStatement.getConnection());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getCurrentDatabase() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getCurrentDatabase();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ExceptionInterceptor getExceptionInterceptor() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getExceptionInterceptor();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getExecuteTime() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getExecuteTime();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getFetchDirection();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getFetchSize();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcPreparedStatement.getGeneratedKeys());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getId() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getId();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getLargeMaxRows();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getLargeUpdateCount();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getLocalInfileInputStream() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getLocalInfileInputStream();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getMaxFieldSize();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getMaxRows();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSetMetaData) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSetMetaData.class, this.jdbcPreparedStatement.getMetaData());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getMoreResults();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getMoreResults(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getOpenResultSetCount() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getOpenResultSetCount();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ParameterBindings getParameterBindings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ParameterBindings) this.proxy.proxyIfReturnTypeIsJdbcInterface(ParameterBindings.class, this.jdbcPreparedStatement.getParameterBindings());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ParameterMetaData) this.proxy.proxyIfReturnTypeIsJdbcInterface(ParameterMetaData.class, this.jdbcPreparedStatement.getParameterMetaData());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getPreparedSql() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getPreparedSql();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public QueryAttributesBindings getQueryAttributesBindings() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getQueryAttributesBindings();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public QueryBindings getQueryBindings() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getQueryBindings();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public QueryInfo getQueryInfo() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getQueryInfo();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getQueryTimeout();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Query getQuery() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getQuery();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultFetchSize() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getResultFetchSize();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getResultSetConcurrency();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T extends Resultset, M extends Message> ProtocolEntityFactory<T, M> getResultSetFactory() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getResultSetFactory();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getResultSetHoldability();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetInternalMethods getResultSetInternal() {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSetInternalMethods) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSetInternalMethods.class, this.jdbcPreparedStatement.getResultSetInternal());
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getResultSetType();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcPreparedStatement.getResultSet());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Resultset.Type getResultType() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getResultType();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getSession();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public AtomicBoolean getStatementExecuting() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getStatementExecuting();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeoutInMillis() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getTimeoutInMillis();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getUpdateCount();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.getWarnings();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClearWarningsCalled() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.isClearWarningsCalled();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.isCloseOnCompletion();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.isClosed();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isNull(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.isNull(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.isPoolable();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.isWrapperFor(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void realClose(boolean p0, boolean p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.realClose(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeOpenResultSet(ResultSetInternalMethods p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.removeOpenResultSet(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void resetCancelledState() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.resetCancelledState();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setArray(int p0, Array p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setArray(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setAsciiStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setAsciiStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setAsciiStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setAttribute(String p0, Object p1) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setAttribute(p0, p1);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBigDecimal(int p0, BigDecimal p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBigDecimal(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBigInteger(int p0, BigInteger p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBigInteger(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBinaryStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBinaryStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBinaryStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(int p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBlob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(int p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBlob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(int p0, Blob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBlob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBoolean(int p0, boolean p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBoolean(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setByte(int p0, byte p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setByte(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBytes(int p0, byte[] p1, boolean p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBytes(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setBytes(int p0, byte[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setBytes(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCancelStatus(Query.CancelStatus p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setCancelStatus(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int p0, Reader p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setCharacterStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setClearWarningsCalled(boolean p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setClearWarningsCalled(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setClob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(int p0, Clob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCurrentDatabase(String p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setCurrentDatabase(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCursorName(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setCursorName(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setDate(int p0, Date p1, Calendar p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setDate(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setDate(int p0, Date p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setDate(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setDouble(int p0, double p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setDouble(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setEscapeProcessing(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setExecuteTime(long p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setExecuteTime(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setFetchDirection(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setFetchSize(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFloat(int p0, float p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setFloat(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setHoldResultsOpenOverClose(boolean p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setHoldResultsOpenOverClose(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setInt(int p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setInt(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setLargeMaxRows(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setLocalInfileInputStream(InputStream p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setLocalInfileInputStream(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setLong(int p0, long p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setLong(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setMaxFieldSize(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setMaxRows(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNCharacterStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNClob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(int p0, NClob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNString(int p0, String p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNString(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(int p0, MysqlType p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNull(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(int p0, int p1, String p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNull(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(int p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setNull(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int p0, Object p1, int p2, int p3) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setObject(p0, p1, p2, p3);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int p0, Object p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setObject(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int p0, Object p1, SQLType p2, int p3) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setObject(p0, p1, p2, p3);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int p0, Object p1, SQLType p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setObject(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int p0, Object p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setPingTarget(PingTarget p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setPingTarget(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setPoolable(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setQueryTimeout(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setRef(int p0, Ref p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setRef(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultFetchSize(int p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setResultFetchSize(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultType(Resultset.Type p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setResultType(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setRowId(int p0, RowId p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setRowId(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setSQLXML(int p0, SQLXML p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setSQLXML(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setShort(int p0, short p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setShort(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setString(int p0, String p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setString(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTime(int p0, Time p1, Calendar p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setTime(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTime(int p0, Time p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setTime(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimeoutInMillis(int p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setTimeoutInMillis(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int p0, Timestamp p1, Calendar p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setTimestamp(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int p0, Timestamp p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setTimestamp(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setURL(int p0, URL p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setURL(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public void setUnicodeStream(int p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.setUnicodeStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public CancelQueryTask startQueryTimer(Query p0, int p1) {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.startQueryTimer(p0, p1);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void statementBegins() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.statementBegins();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void stopQueryTimer(CancelQueryTask p0, boolean p1, boolean p2) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcPreparedStatement.stopQueryTimer(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcPreparedStatement.unwrap(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+}
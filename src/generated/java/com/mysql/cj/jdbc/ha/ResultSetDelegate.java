@@ -0,0 +1,3273 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+// Generated by instrumentation.JdbcInterfaceDelegatesGenerator. DO NOT EDIT!
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.Session;
+import com.mysql.cj.WarningListener;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ResultsetRows;
+
+final class ResultSetDelegate extends JdbcInterfaceDelegate implements ResultSetInternalMethods, WarningListener {
+    private final ResultSetInternalMethods resultSetInternalMethods;
+    private final WarningListener warningListener;
+
+    ResultSetDelegate(MultiHostConnectionProxy proxy, Object target) {
+        super(proxy, target);
+        this.resultSetInternalMethods = (ResultSetInternalMethods) target;
+        this.warningListener = (WarningListener) target;
+    }
+
+    @Override
+    public boolean absolute(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.absolute(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.afterLast();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.beforeFirst();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.cancelRowUpdates();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearNextResultset() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.clearNextResultset();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.clearWarnings();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void closeOwner(boolean p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.closeOwner(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.close();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.deleteRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int findColumn(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.findColumn(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.first();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Array getArray(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Array) this.proxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.resultSetInternalMethods.getArray(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Array getArray(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Array) this.proxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.resultSetInternalMethods.getArray(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getAsciiStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getAsciiStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBigDecimal(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBigDecimal(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(int p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBigDecimal(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBigDecimal(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public BigInteger getBigInteger(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBigInteger(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBinaryStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBinaryStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Blob getBlob(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Blob) this.proxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.resultSetInternalMethods.getBlob(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Blob getBlob(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Blob) this.proxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.resultSetInternalMethods.getBlob(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBoolean(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBoolean(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public byte getByte(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getByte(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public byte getByte(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getByte(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBytes(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getBytes(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getCharacterStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getCharacterStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Clob getClob(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Clob) this.proxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.resultSetInternalMethods.getClob(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Clob getClob(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Clob) this.proxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.resultSetInternalMethods.getClob(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ColumnDefinition getColumnDefinition() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getColumnDefinition();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getConcurrency();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public MysqlConnection getConnection() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getConnection();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getCursorName();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(String p0, Calendar p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getDate(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getDate(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(int p0, Calendar p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getDate(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getDate(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public double getDouble(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getDouble(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public double getDouble(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getDouble(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getFetchDirection();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getFetchSize();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public char getFirstCharOfQuery() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getFirstCharOfQuery();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public float getFloat(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getFloat(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public float getFloat(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getFloat(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getHoldability();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getInt(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getInt(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getInt(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getInt(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLong(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getLong(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLong(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getLong(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSetMetaData) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSetMetaData.class, this.resultSetInternalMethods.getMetaData());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getNCharacterStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getNCharacterStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public NClob getNClob(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (NClob) this.proxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.resultSetInternalMethods.getNClob(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public NClob getNClob(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (NClob) this.proxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.resultSetInternalMethods.getNClob(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getNString(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getNString(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getNString(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getNString(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Resultset getNextResultset() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getNextResultset();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObjectStoredProc(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(String p0, Map<Object, Object> p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObjectStoredProc(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(int p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObjectStoredProc(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(int p0, Map<Object, Object> p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObjectStoredProc(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T getObject(String p0, Class<T> p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(String p0, Map<String, Class<?>> p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObject(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T getObject(int p0, Class<T> p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(int p0, Map<String, Class<?>> p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getObject(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getOwnerFetchSize() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getOwnerFetchSize();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Query getOwningQuery() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getOwningQuery();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getOwningStatementFetchSize() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getOwningStatementFetchSize();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getOwningStatementMaxRows() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getOwningStatementMaxRows();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getOwningStatementServerId() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getOwningStatementServerId();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getPointOfOrigin() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getPointOfOrigin();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Ref getRef(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Ref) this.proxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.resultSetInternalMethods.getRef(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Ref getRef(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Ref) this.proxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.resultSetInternalMethods.getRef(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultId() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getResultId();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public RowId getRowId(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (RowId) this.proxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.resultSetInternalMethods.getRowId(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public RowId getRowId(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (RowId) this.proxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.resultSetInternalMethods.getRowId(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultsetRows getRows() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getRows();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (SQLXML) this.proxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.resultSetInternalMethods.getSQLXML(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (SQLXML) this.proxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.resultSetInternalMethods.getSQLXML(p0));
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getServerInfo() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getServerInfo();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getSession();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public short getShort(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getShort(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public short getShort(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getShort(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Statement) this.proxy.proxyIfReturnTypeIsJdbcInterface(Statement.class, this.resultSetInternalMethods.getStatement());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getString(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getString(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Lock getSyncLock() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getSyncLock();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getSyncMutex() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getSyncMutex();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(String p0, Calendar p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTime(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTime(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(int p0, Calendar p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTime(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTime(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String p0, Calendar p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTimestamp(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTimestamp(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int p0, Calendar p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTimestamp(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getTimestamp(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getType();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public URL getURL(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getURL(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public URL getURL(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getURL(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getUnicodeStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getUnicodeStream(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getUpdateCount() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getUpdateCount();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getUpdateID() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getUpdateID();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.getWarnings();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean hasRows() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.hasRows();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void initRowsWithMetadata() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.initRowsWithMetadata();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void initializeWithMetadata() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.initializeWithMetadata();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.insertRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.isAfterLast();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.isBeforeFirst();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.isClosed();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.isFirst();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.isLast();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.isWrapperFor(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.last();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.moveToCurrentRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.moveToInsertRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.next();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void populateCachedMetaData(CachedResultSetMetaData p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.populateCachedMetaData(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.previous();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void realClose(boolean p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.realClose(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.refreshRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean relative(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.relative(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.rowDeleted();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.rowInserted();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.rowUpdated();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setColumnDefinition(ColumnDefinition p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setColumnDefinition(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setFetchDirection(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setFetchSize(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFirstCharOfQuery(char p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setFirstCharOfQuery(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setNextResultset(Resultset p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setNextResultset(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setOwningStatement(JdbcStatement p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setOwningStatement(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setStatementUsedForFetchingRows(JdbcPreparedStatement p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setStatementUsedForFetchingRows(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setWrapperStatement(Statement p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.setWrapperStatement(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.unwrap(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateArray(String p0, Array p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateArray(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateArray(int p0, Array p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateArray(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateAsciiStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateAsciiStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateAsciiStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateAsciiStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateAsciiStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateAsciiStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(String p0, BigDecimal p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBigDecimal(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(int p0, BigDecimal p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBigDecimal(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBinaryStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBinaryStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBinaryStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int p0, InputStream p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBinaryStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBinaryStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBinaryStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(String p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBlob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(String p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBlob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(String p0, Blob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBlob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(int p0, InputStream p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBlob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(int p0, InputStream p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBlob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(int p0, Blob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBlob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBoolean(String p0, boolean p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBoolean(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBoolean(int p0, boolean p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBoolean(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateByte(String p0, byte p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateByte(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateByte(int p0, byte p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateByte(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBytes(String p0, byte[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBytes(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBytes(int p0, byte[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateBytes(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String p0, Reader p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateCharacterStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int p0, Reader p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateCharacterStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(String p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateClob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(String p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(String p0, Clob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateClob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(int p0, Clob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDate(String p0, Date p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateDate(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDate(int p0, Date p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateDate(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDouble(String p0, double p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateDouble(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDouble(int p0, double p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateDouble(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateFloat(String p0, float p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateFloat(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateFloat(int p0, float p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateFloat(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateInt(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateInt(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateInt(int p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateInt(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateLong(String p0, long p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateLong(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateLong(int p0, long p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateLong(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNCharacterStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNCharacterStream(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNCharacterStream(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(String p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNClob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(String p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(String p0, NClob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(int p0, Reader p1, long p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNClob(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(int p0, Reader p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(int p0, NClob p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNClob(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNString(String p0, String p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNString(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNString(int p0, String p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNString(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNull(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNull(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNull(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateNull(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String p0, Object p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String p0, Object p1, SQLType p2, int p3) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1, p2, p3);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String p0, Object p1, SQLType p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String p0, Object p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int p0, Object p1, int p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int p0, Object p1, SQLType p2, int p3) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1, p2, p3);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int p0, Object p1, SQLType p2) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int p0, Object p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateObject(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRef(String p0, Ref p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateRef(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRef(int p0, Ref p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateRef(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRowId(String p0, RowId p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateRowId(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRowId(int p0, RowId p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateRowId(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateRow();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateSQLXML(String p0, SQLXML p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateSQLXML(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateSQLXML(int p0, SQLXML p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateSQLXML(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateShort(String p0, short p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateShort(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateShort(int p0, short p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateShort(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateString(String p0, String p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateString(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateString(int p0, String p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateString(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTime(String p0, Time p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateTime(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTime(int p0, Time p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateTime(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTimestamp(String p0, Timestamp p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateTimestamp(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTimestamp(int p0, Timestamp p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.resultSetInternalMethods.updateTimestamp(p0, p1);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void warningEncountered(String p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.warningListener.warningEncountered(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.resultSetInternalMethods.wasNull();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+}
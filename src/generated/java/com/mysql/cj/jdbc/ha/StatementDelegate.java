@@ -0,0 +1,1331 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+// Generated by instrumentation.JdbcInterfaceDelegatesGenerator. DO NOT EDIT!
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.PingTarget;
+import com.mysql.cj.Query;
+import com.mysql.cj.QueryAttributesBindings;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset;
+
+final class StatementDelegate extends JdbcInterfaceDelegate implements JdbcStatement {
+    private final JdbcStatement jdbcStatement;
+
+    StatementDelegate(MultiHostConnectionProxy proxy, Object target) {
+        super(proxy, target);
+        this.jdbcStatement = (JdbcStatement) target;
+    }
+
+    @Override
+    public void addBatch(Object p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.addBatch(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void addBatch(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.addBatch(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.cancel();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void checkCancelTimeout() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.checkCancelTimeout();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearAttributes() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.clearAttributes();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.clearBatch();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBatchedArgs() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.clearBatchedArgs();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.clearWarnings();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.closeOnCompletion();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void closeQuery() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.closeQuery();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.close();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void disableStreamingResults() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.disableStreamingResults();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void enableStreamingResults() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.enableStreamingResults();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int[] result = this.jdbcStatement.executeBatch();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long[] result = this.jdbcStatement.executeLargeBatch();
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0, int[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcStatement.executeLargeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0, String[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcStatement.executeLargeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcStatement.executeLargeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            long result = this.jdbcStatement.executeLargeUpdate(p0);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            ResultSet result = (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcStatement.executeQuery(p0));
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0, int[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcStatement.executeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0, String[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcStatement.executeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcStatement.executeUpdate(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            int result = this.jdbcStatement.executeUpdate(p0);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0, int[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcStatement.execute(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0, String[] p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcStatement.execute(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0, int p1) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcStatement.execute(p0, p1);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.proxy.jdbcInterfaceExecuteBegins();
+            boolean result = this.jdbcStatement.execute(p0);
+            this.proxy.jdbcInterfaceExecuteEnds();
+            return result;
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Object> getBatchedArgs() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getBatchedArgs();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Lock getCancelTimeoutLock() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getCancelTimeoutLock();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (Connection) this.proxy.proxyIfReturnTypeIsJdbcInterface(Connection.class, this.jdbcStatement.getConnection());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public String getCurrentDatabase() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getCurrentDatabase();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ExceptionInterceptor getExceptionInterceptor() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getExceptionInterceptor();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getExecuteTime() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getExecuteTime();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getFetchDirection();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getFetchSize();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcStatement.getGeneratedKeys());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getId() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getId();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getLargeMaxRows();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getLargeUpdateCount();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getLocalInfileInputStream() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getLocalInfileInputStream();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getMaxFieldSize();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getMaxRows();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getMoreResults();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getMoreResults(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getOpenResultSetCount() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getOpenResultSetCount();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public QueryAttributesBindings getQueryAttributesBindings() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getQueryAttributesBindings();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getQueryTimeout();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Query getQuery() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getQuery();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultFetchSize() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getResultFetchSize();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getResultSetConcurrency();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T extends Resultset, M extends Message> ProtocolEntityFactory<T, M> getResultSetFactory() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getResultSetFactory();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getResultSetHoldability();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetInternalMethods getResultSetInternal() {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSetInternalMethods) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSetInternalMethods.class, this.jdbcStatement.getResultSetInternal());
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getResultSetType();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return (ResultSet) this.proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.jdbcStatement.getResultSet());
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Resultset.Type getResultType() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getResultType();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getSession();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public AtomicBoolean getStatementExecuting() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getStatementExecuting();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getTimeoutInMillis() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getTimeoutInMillis();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getUpdateCount();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.getWarnings();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClearWarningsCalled() {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.isClearWarningsCalled();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.isCloseOnCompletion();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.isClosed();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.isPoolable();
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.isWrapperFor(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeOpenResultSet(ResultSetInternalMethods p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.removeOpenResultSet(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void resetCancelledState() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.resetCancelledState();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setAttribute(String p0, Object p1) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setAttribute(p0, p1);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCancelStatus(Query.CancelStatus p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setCancelStatus(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setClearWarningsCalled(boolean p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setClearWarningsCalled(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCurrentDatabase(String p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setCurrentDatabase(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setCursorName(String p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setCursorName(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setEscapeProcessing(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setExecuteTime(long p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setExecuteTime(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setFetchDirection(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setFetchSize(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setHoldResultsOpenOverClose(boolean p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setHoldResultsOpenOverClose(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setLargeMaxRows(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setLocalInfileInputStream(InputStream p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setLocalInfileInputStream(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setMaxFieldSize(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setMaxRows(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setPingTarget(PingTarget p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setPingTarget(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setPoolable(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setQueryTimeout(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultFetchSize(int p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setResultFetchSize(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultType(Resultset.Type p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setResultType(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimeoutInMillis(int p0) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.setTimeoutInMillis(p0);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public CancelQueryTask startQueryTimer(Query p0, int p1) {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.startQueryTimer(p0, p1);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void statementBegins() {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.statementBegins();
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void stopQueryTimer(CancelQueryTask p0, boolean p1, boolean p2) {
+        this.proxy.connectionLock.lock();
+        try {
+            this.jdbcStatement.stopQueryTimer(p0, p1, p2);
+        } catch (RuntimeException e) {
+            throw dealWithUncheckedException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> p0) throws SQLException {
+        this.proxy.connectionLock.lock();
+        try {
+            return this.jdbcStatement.unwrap(p0);
+        } catch (RuntimeException e) {
+            throw this.proxy.dealWithException(e);
+        } catch (SQLException e) {
+            throw this.proxy.dealWithException(e);
+        } finally {
+            this.proxy.connectionLock.unlock();
+        }
+    }
+}
@@ -30,6 +30,7 @@
 package com.mysql.cj;
 
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.conf.PropertySet;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
@@ -58,6 +59,15 @@ public interface MysqlConnection {
 
     Object getConnectionMutex();
 
+    /**
+     * Returns the lock serializing the use of this connection, shared by all physical connections of a multi-host connection. It is held around all
+     * operations that exchange messages with the server; being a {@link Lock} rather than a monitor, waiting for the server doesn't pin the carrier of a
+     * virtual thread.
+     * 
+     * @return {@link Lock}
+     */
+    Lock getConnectionLock();
+
     Session getSession();
 
     String getURL();
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+
+/**
+ * {@link CacheAdapterFactory} of {@link QueryInfo} caches shared by all connections to the same URL, so that each statement is parsed and held once per VM
+ * rather than once per connection.
+ * <p>
+ * Reads don't lock: entries live in a {@link ConcurrentHashMap} and are evicted with the CLOCK (second chance) algorithm, which approximates LRU without
+ * reordering anything on reads. A cache holds at most the largest 'prepStmtCacheSize' and 'queryInfoCacheMaxBytes' of the connections using it, the
+ * latter compared with an estimate of the memory held by each {@link QueryInfo}.
+ * <p>
+ * Connections sharing a cache have to parse statements alike, so caches are shared by the connections to the same URL that currently agree on the
+ * character encoding, 'rewriteBatchedStatements', 'dontCheckOnDuplicateKeyUpdateInSQL' and the server's NO_BACKSLASH_ESCAPES mode. These settings are
+ * checked on each lookup, so a connection whose settings change at runtime moves to the cache matching them. A cache is only weakly referenced by this
+ * factory, and released once no connection uses it anymore.
+ */
+public class PerVmQueryInfoCacheFactory implements CacheAdapterFactory<String, QueryInfo> {
+    /** Caches by URL and parse settings, see {@link #key(String, String)}. */
+    static final ConcurrentHashMap<String, CacheReference> caches = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<SharedQueryInfoCache> releasedCaches = new ReferenceQueue<>();
+
+    public CacheAdapter<String, QueryInfo> getInstance(Object syncMutex, String url, int cacheMaxSize, int maxKeySize) {
+        MysqlConnection connection = syncMutex instanceof MysqlConnection ? (MysqlConnection) syncMutex : null;
+        long maxBytes = 0;
+        if (connection != null) {
+            maxBytes = connection.getPropertySet().getMemorySizeProperty(PropertyKey.queryInfoCacheMaxBytes).getValue();
+        }
+        return new CacheView(connection, url, cacheMaxSize, maxBytes, maxKeySize);
+    }
+
+    /**
+     * Returns the caches shared by the connections to the given URL, one per combination of parse settings in use, for monitoring.
+     * 
+     * @param url
+     *            the connection URL
+     * @return the caches, empty if no connection to the URL uses this factory
+     */
+    public static List<SharedQueryInfoCache> getCaches(String url) {
+        List<SharedQueryInfoCache> result = new ArrayList<>();
+        String prefix = key(url, "");
+        caches.forEach((key, ref) -> {
+            SharedQueryInfoCache cache = ref.get();
+            if (cache != null && key.startsWith(prefix)) {
+                result.add(cache);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The key of the cache shared by connections to the given URL with the given parse settings.
+     */
+    static String key(String url, String settings) {
+        return url + '\0' + settings;
+    }
+
+    /**
+     * Returns the cache with the given key, creating it if there is none or if it was released. Also drops the entries of the caches released so far.
+     */
+    static SharedQueryInfoCache sharedCache(String key) {
+        for (Reference<? extends SharedQueryInfoCache> released; (released = releasedCaches.poll()) != null;) {
+            caches.remove(((CacheReference) released).key, released);
+        }
+        while (true) {
+            CacheReference ref = caches.get(key);
+            SharedQueryInfoCache cache = ref == null ? null : ref.get();
+            if (cache != null) {
+                return cache;
+            }
+            cache = new SharedQueryInfoCache();
+            CacheReference newRef = new CacheReference(key, cache);
+            if (ref == null ? caches.putIfAbsent(key, newRef) == null : caches.replace(key, ref, newRef)) {
+                return cache;
+            }
+        }
+    }
+
+    static final class CacheReference extends WeakReference<SharedQueryInfoCache> {
+        final String key;
+
+        CacheReference(String key, SharedQueryInfoCache cache) {
+            super(cache, releasedCaches);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Applies the SQL length limit of one connection to the shared cache, and follows the parse settings of that connection.
+     */
+    static class CacheView implements CacheAdapter<String, QueryInfo> {
+        private final MysqlConnection connection;
+        private final String url;
+        private final int cacheMaxSize;
+        private final long maxBytes;
+        private final int cacheSqlLimit;
+
+        /** Parse settings the current cache was chosen for. */
+        private String encoding;
+        private boolean noBackslashEscapes;
+        private boolean rewriteBatchedStatements;
+        private boolean dontCheckOnDuplicateKeyUpdateInSQL;
+        private SharedQueryInfoCache cache;
+
+        CacheView(MysqlConnection connection, String url, int cacheMaxSize, long maxBytes, int maxKeySize) {
+            this.connection = connection;
+            this.url = url;
+            this.cacheMaxSize = cacheMaxSize;
+            this.maxBytes = maxBytes;
+            this.cacheSqlLimit = maxKeySize;
+            if (connection == null) {
+                bind(key(url, ""));
+            }
+        }
+
+        /**
+         * Returns the cache matching the current parse settings of the connection.
+         */
+        SharedQueryInfoCache cache() {
+            if (this.connection != null) {
+                PropertySet pset = this.connection.getPropertySet();
+                String enc = pset.getStringProperty(PropertyKey.characterEncoding).getValue();
+                Session session = this.connection.getSession();
+                boolean noBackslash = session != null && session.getServerSession() != null && session.getServerSession().isNoBackslashEscapesSet();
+                boolean rewrite = pset.getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue();
+                boolean dontCheck = pset.getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue();
+                if (this.cache == null || !Objects.equals(enc, this.encoding) || noBackslash != this.noBackslashEscapes || rewrite != this.rewriteBatchedStatements
+                        || dontCheck != this.dontCheckOnDuplicateKeyUpdateInSQL) {
+                    this.encoding = enc;
+                    this.noBackslashEscapes = noBackslash;
+                    this.rewriteBatchedStatements = rewrite;
+                    this.dontCheckOnDuplicateKeyUpdateInSQL = dontCheck;
+                    bind(key(this.url, enc + (noBackslash ? ",nbe" : "") + (rewrite ? ",rbs" : "") + (dontCheck ? ",dcodku" : "")));
+                }
+            }
+            return this.cache;
+        }
+
+        private void bind(String key) {
+            SharedQueryInfoCache shared = sharedCache(key);
+            shared.ensureCapacity(this.cacheMaxSize, this.maxBytes);
+            this.cache = shared;
+        }
+
+        public QueryInfo get(String key) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return null;
+            }
+            return cache().get(key);
+        }
+
+        public void put(String key, QueryInfo value) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return;
+            }
+            cache().put(key, value);
+        }
+
+        public void invalidate(String key) {
+            cache().invalidate(key);
+        }
+
+        public void invalidateAll(Set<String> keys) {
+            cache().invalidateAll(keys);
+        }
+
+        public void invalidateAll() {
+            cache().invalidateAll();
+        }
+    }
+
+    public static class SharedQueryInfoCache implements CacheAdapter<String, QueryInfo> {
+        /** Rough size of the hash table node, the entry and the fixed part of a {@link QueryInfo}. */
+        static final int ENTRY_OVERHEAD = 192;
+
+        private final ConcurrentHashMap<String, Entry> map = new ConcurrentHashMap<>();
+        /** The clock: every live entry in insertion order, entries given a second chance go back to the tail. */
+        private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        private volatile int maxEntries = 0;
+        /** Negative until set by the first connection, 0 for no limit. */
+        private volatile long maxBytes = -1;
+        private final AtomicLong bytes = new AtomicLong();
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        static final class Entry {
+            final String key;
+            final QueryInfo value;
+            final int size;
+            volatile boolean referenced = false;
+            volatile boolean removed = false;
+
+            Entry(String key, QueryInfo value) {
+                this.key = key;
+                this.value = value;
+                this.size = estimateSize(key, value);
+            }
+        }
+
+        /**
+         * Estimates the memory held by a cache entry. The SQL string is counted once since the {@link QueryInfo} normally references the key itself.
+         * 
+         * @param sql
+         *            the statement
+         * @param queryInfo
+         *            its parsed representation
+         * @return estimated size in bytes
+         */
+        static int estimateSize(String sql, QueryInfo queryInfo) {
+            int size = ENTRY_OVERHEAD + 40 + 2 * sql.length();
+            byte[][] parts = queryInfo.getStaticSqlParts();
+            if (parts != null) {
+                size += 16 + 4 * parts.length;
+                for (byte[] part : parts) {
+                    size += 16 + part.length;
+                }
+            }
+            return size;
+        }
+
+        synchronized void ensureCapacity(int entries, long sizeInBytes) {
+            if (entries > this.maxEntries) {
+                this.maxEntries = entries;
+            }
+            if (this.maxBytes < 0 || sizeInBytes == 0 || this.maxBytes != 0 && sizeInBytes > this.maxBytes) {
+                this.maxBytes = sizeInBytes;
+            }
+        }
+
+        public QueryInfo get(String key) {
+            Entry e = this.map.get(key);
+            if (e == null) {
+                this.misses.increment();
+                return null;
+            }
+            if (!e.referenced) {
+                // only written when it changes, keeping hot entries' cache lines shared between readers
+                e.referenced = true;
+            }
+            this.hits.increment();
+            return e.value;
+        }
+
+        public void put(String key, QueryInfo value) {
+            Entry e = new Entry(key, value);
+            if (this.map.putIfAbsent(key, e) != null) {
+                // parsed concurrently by another connection
+                return;
+            }
+            this.clock.offer(e);
+            long total = this.bytes.addAndGet(e.size);
+            if (isOverLimit(total)) {
+                evict();
+            }
+        }
+
+        private boolean isOverLimit(long total) {
+            long limit = this.maxBytes;
+            return this.map.size() > this.maxEntries || limit > 0 && total > limit;
+        }
+
+        /**
+         * Sweeps the clock until the cache is within its limits. Only one thread sweeps at a time, others carry on without waiting: the sweeping thread
+         * checks the limits again once it released the lock, so the entries they added while it was sweeping are accounted for.
+         */
+        private void evict() {
+            while (isOverLimit(this.bytes.get()) && this.evictionLock.tryLock()) {
+                try {
+                    Entry e;
+                    while (isOverLimit(this.bytes.get()) && (e = this.clock.poll()) != null) {
+                        if (e.removed) {
+                            continue;
+                        }
+                        if (e.referenced) {
+                            e.referenced = false;
+                            this.clock.offer(e);
+                            continue;
+                        }
+                        if (remove(e)) {
+                            this.evictions.increment();
+                        }
+                    }
+                } finally {
+                    this.evictionLock.unlock();
+                }
+            }
+        }
+
+        private boolean remove(Entry e) {
+            if (this.map.remove(e.key, e)) {
+                e.removed = true;
+                this.bytes.addAndGet(-e.size);
+                return true;
+            }
+            return false;
+        }
+
+        public void invalidate(String key) {
+            Entry e = this.map.get(key);
+            if (e != null && remove(e)) {
+                this.clock.remove(e);
+            }
+        }
+
+        public void invalidateAll(Set<String> keys) {
+            for (String key : keys) {
+                Entry e = this.map.get(key);
+                if (e != null) {
+                    remove(e);
+                }
+            }
+            this.clock.removeIf(e -> e.removed);
+        }
+
+        public void invalidateAll() {
+            for (Entry e : this.map.values()) {
+                remove(e);
+            }
+            this.clock.removeIf(e -> e.removed);
+        }
+
+        /**
+         * @return the number of cached statements
+         */
+        public int size() {
+            return this.map.size();
+        }
+
+        /**
+         * @return the estimated memory held by the cached statements, in bytes
+         */
+        public long getEstimatedBytes() {
+            return this.bytes.get();
+        }
+
+        /**
+         * @return the number of lookups that found a cached statement
+         */
+        public long getHits() {
+            return this.hits.sum();
+        }
+
+        /**
+         * @return the number of lookups that found nothing
+         */
+        public long getMisses() {
+            return this.misses.sum();
+        }
+
+        /**
+         * @return the number of statements dropped to stay within the cache limits
+         */
+        public long getEvictions() {
+            return this.evictions.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "SharedQueryInfoCache[size=" + size() + ", bytes=" + getEstimatedBytes() + ", hits=" + getHits() + ", misses=" + getMisses()
+                    + ", evictions=" + getEvictions() + "]";
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.ArrayList;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.WrongArgumentException;
 import com.mysql.cj.util.SearchMode;
 import com.mysql.cj.util.StringInspector;
@@ -84,8 +85,31 @@ public class QueryInfo {
      *            the characters encoding to use when extracting the query static parts as byte arrays.
      */
     public QueryInfo(String sql, Session session, String encoding) {
+        this(sql, encoding, session.getServerSession().isNoBackslashEscapesSet(),
+                session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue(),
+                session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue(), session.getExceptionInterceptor());
+    }
+
+    /**
+     * Constructs a {@link QueryInfo} object for the given query or multi-query, for callers that don't have a {@link Session}.
+     * 
+     * @param sql
+     *            the query SQL string to parse and analyze
+     * @param encoding
+     *            the characters encoding to use when extracting the query static parts as byte arrays.
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     * @param rewriteBatchedStatements
+     *            whether the query should be analyzed for rewriting as a multi-values clause query
+     * @param dontCheckOnDuplicateKeyUpdateInSQL
+     *            whether the query should not be searched for an ON DUPLICATE KEY UPDATE clause
+     * @param exceptionInterceptor
+     *            the {@link ExceptionInterceptor} to use, may be null
+     */
+    public QueryInfo(String sql, String encoding, boolean noBackslashEscapes, boolean rewriteBatchedStatements, boolean dontCheckOnDuplicateKeyUpdateInSQL,
+            ExceptionInterceptor exceptionInterceptor) {
         if (sql == null) {
-            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("QueryInfo.NullSql"), session.getExceptionInterceptor());
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("QueryInfo.NullSql"), exceptionInterceptor);
         }
 
         this.baseQueryInfo = this;
@@ -93,10 +117,6 @@ public class QueryInfo {
         this.sql = sql;
         this.encoding = encoding;
 
-        boolean noBackslashEscapes = session.getServerSession().isNoBackslashEscapesSet();
-        boolean rewriteBatchedStatements = session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue();
-        boolean dontCheckOnDuplicateKeyUpdateInSQL = session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue();
-
         this.queryReturnType = getQueryReturnType(this.sql, noBackslashEscapes);
         this.queryLength = this.sql.length();
 
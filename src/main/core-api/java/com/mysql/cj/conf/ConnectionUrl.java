@@ -115,7 +115,9 @@ public abstract class ConnectionUrl implements DatabaseUrlContainer {
         REPLICATION_CONNECTION("jdbc:mysql:replication:", HostsCardinality.ONE_OR_MORE, "com.mysql.cj.conf.url.ReplicationConnectionUrl", PropertyKey.dnsSrv,
                 REPLICATION_DNS_SRV_CONNECTION), //
         XDEVAPI_SESSION("mysqlx:", HostsCardinality.ONE_OR_MORE, "com.mysql.cj.conf.url.XDevApiConnectionUrl", PropertyKey.xdevapiDnsSrv,
-                XDEVAPI_DNS_SRV_SESSION);
+                XDEVAPI_DNS_SRV_SESSION), //
+        // HTTP query gateway:
+        SSE_CONNECTION("jdbc:mysql:sse:", HostsCardinality.SINGLE, "com.mysql.cj.conf.url.SseConnectionUrl");
 
         private String scheme;
         private HostsCardinality cardinality;
@@ -322,6 +322,15 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useCompression, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCompression"), "3.0.17", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
+                new StringPropertyDefinition(PropertyKey.compressionAlgorithms, "zlib,zstd", RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.compressionAlgorithms"), "8.0.29", CATEGORY_NETWORK, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.compressionThreshold, 50, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.compressionThreshold"), "8.0.29", CATEGORY_NETWORK, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.zstdCompressionLevel, 3, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.zstdCompressionLevel"), "8.0.29", CATEGORY_NETWORK, Integer.MIN_VALUE, 1, 22),
+
                 new IntegerPropertyDefinition(PropertyKey.maxAllowedPacket, 65535, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.maxAllowedPacket"), "5.1.8", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
@@ -584,6 +593,15 @@ public class PropertyDefinitions {
                 new IntegerPropertyDefinition(PropertyKey.loadBalanceBlocklistTimeout, 0, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.loadBalanceBlocklistTimeout"), "5.1.0", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.loadBalanceEjectionErrorRate, 50, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.loadBalanceEjectionErrorRate"), "8.0.29", CATEGORY_HA, Integer.MIN_VALUE, 0, 100),
+
+                new IntegerPropertyDefinition(PropertyKey.loadBalanceEjectionLatency, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.loadBalanceEjectionLatency"), "8.0.29", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.loadBalanceEjectionTime, 30000, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.loadBalanceEjectionTime"), "8.0.29", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.loadBalancePingTimeout, 0, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.loadBalancePingTimeout"), "5.1.13", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
 
@@ -624,6 +642,15 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.reconnectAtTxEnd, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.reconnectAtTxEnd"), "3.0.10", CATEGORY_HA, 4),
 
+                new IntegerPropertyDefinition(PropertyKey.replicaLagProbeInterval, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaLagProbeInterval"), "8.0.29", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
+                new StringPropertyDefinition(PropertyKey.replicaLagQuery, DEFAULT_VALUE_NULL_STRING, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaLagQuery"), "8.0.29", CATEGORY_HA, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.replicaMaxStaleness, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaMaxStaleness"), "8.0.29", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
                 new StringPropertyDefinition(PropertyKey.replicationConnectionGroup, DEFAULT_VALUE_NULL_STRING, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.replicationConnectionGroup"), "8.0.7", CATEGORY_HA, Integer.MIN_VALUE),
 
@@ -669,6 +696,9 @@ public class PropertyDefinitions {
                 new StringPropertyDefinition(PropertyKey.serverConfigCacheFactory, PerVmServerConfigCacheFactory.class.getName(), RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.serverConfigCacheFactory"), "5.1.1", CATEGORY_PERFORMANCE, 12),
 
+                new IntegerPropertyDefinition(PropertyKey.serverConfigCacheTtl, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.serverConfigCacheTtl"), "8.0.29", CATEGORY_PERFORMANCE, 13, 0, Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.cacheServerConfiguration, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.cacheServerConfiguration"), "3.1.5", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
@@ -700,9 +730,15 @@ public class PropertyDefinitions {
                 new IntegerPropertyDefinition(PropertyKey.prepStmtCacheSqlLimit, 256, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.prepStmtCacheSqlLimit"), "3.0.10", CATEGORY_PERFORMANCE, 11, 1, Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.pipelineBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.pipelineBatchedStatements"), "8.0.29", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new StringPropertyDefinition(PropertyKey.queryInfoCacheFactory, PerConnectionLRUFactory.class.getName(), RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.queryInfoCacheFactory"), "5.1.1", CATEGORY_PERFORMANCE, 12),
 
+                new MemorySizePropertyDefinition(PropertyKey.queryInfoCacheMaxBytes, 16 * 1024 * 1024, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.queryInfoCacheMaxBytes"), "8.0.29", CATEGORY_PERFORMANCE, 13, 0, Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.rewriteBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.rewriteBatchedStatements"), "3.1.13", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
@@ -718,6 +754,12 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useReadAheadInput, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useReadAheadInput"), "3.1.5", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.usePacketBufferPool, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.usePacketBufferPool"), "8.0.29", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.lockFreeResultSetReads, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.lockFreeResultSetReads"), "8.0.29", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.dontCheckOnDuplicateKeyUpdateInSQL"), "5.1.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
@@ -868,7 +910,7 @@ public class PropertyDefinitions {
                         Messages.getString("ConnectionProperties.xdevapiDnsSrv"), "8.0.19", CATEGORY_XDEVAPI, Integer.MIN_VALUE),
                 new EnumPropertyDefinition<>(PropertyKey.xdevapiCompression, Compression.PREFERRED, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.xdevapiCompression"), "8.0.20", CATEGORY_XDEVAPI, Integer.MIN_VALUE),
-                new StringPropertyDefinition(PropertyKey.xdevapiCompressionAlgorithms, "zstd_stream,lz4_message,deflate_stream", RUNTIME_NOT_MODIFIABLE,
+                new StringPropertyDefinition(PropertyKey.xdevapiCompressionAlgorithms, "lz4_message,zstd_stream,deflate_stream", RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.xdevapiCompressionAlgorithms"), "8.0.22", CATEGORY_XDEVAPI, Integer.MIN_VALUE),
                 new StringPropertyDefinition(PropertyKey.xdevapiCompressionExtensions, DEFAULT_VALUE_NULL_STRING, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.xdevapiCompressionExtensions"), "8.0.22", CATEGORY_XDEVAPI, Integer.MIN_VALUE)
@@ -94,6 +94,8 @@ public enum PropertyKey {
     clobberStreamingResults("clobberStreamingResults", true), //
     clobCharacterEncoding("clobCharacterEncoding", true), //
     compensateOnDuplicateKeyUpdateCounts("compensateOnDuplicateKeyUpdateCounts", true), //
+    compressionAlgorithms("compressionAlgorithms", true), //
+    compressionThreshold("compressionThreshold", true), //
     connectionAttributes("connectionAttributes", true), //
     connectionCollation("connectionCollation", true), //
     connectionLifecycleInterceptors("connectionLifecycleInterceptors", true), //
@@ -145,6 +147,9 @@ public enum PropertyKey {
     loadBalanceAutoCommitStatementThreshold("loadBalanceAutoCommitStatementThreshold", true), //
     loadBalanceBlocklistTimeout("loadBalanceBlocklistTimeout", "loadBalanceBlacklistTimeout", true), //
     loadBalanceConnectionGroup("loadBalanceConnectionGroup", true), //
+    loadBalanceEjectionErrorRate("loadBalanceEjectionErrorRate", true), //
+    loadBalanceEjectionLatency("loadBalanceEjectionLatency", true), //
+    loadBalanceEjectionTime("loadBalanceEjectionTime", true), //
     loadBalanceExceptionChecker("loadBalanceExceptionChecker", true), //
     loadBalanceHostRemovalGracePeriod("loadBalanceHostRemovalGracePeriod", true), //
     loadBalancePingTimeout("loadBalancePingTimeout", true), //
@@ -153,6 +158,7 @@ public enum PropertyKey {
     loadBalanceValidateConnectionOnSwapServer("loadBalanceValidateConnectionOnSwapServer", true), //
     localSocketAddress("localSocketAddress", true), //
     locatorFetchBufferSize("locatorFetchBufferSize", true), //
+    lockFreeResultSetReads("lockFreeResultSetReads", true), //
     logger("logger", true), //
     logSlowQueries("logSlowQueries", true), //
     logXaCommands("logXaCommands", true), //
@@ -172,11 +178,13 @@ public enum PropertyKey {
     padCharsWithSpace("padCharsWithSpace", true), //
     paranoid("paranoid", false), //
     queryInfoCacheFactory("queryInfoCacheFactory", "parseInfoCacheFactory", true), //
+    queryInfoCacheMaxBytes("queryInfoCacheMaxBytes", true), //
     password1("password1", true), //
     password2("password2", true), //
     password3("password3", true), //
     passwordCharacterEncoding("passwordCharacterEncoding", true), //
     pedantic("pedantic", true), //
+    pipelineBatchedStatements("pipelineBatchedStatements", true), //
     pinGlobalTxToPhysicalConnection("pinGlobalTxToPhysicalConnection", true), //
     populateInsertRowWithDefaultValues("populateInsertRowWithDefaultValues", true), //
     prepStmtCacheSize("prepStmtCacheSize", true), //
@@ -192,6 +200,9 @@ public enum PropertyKey {
     readFromSourceWhenNoReplicas("readFromSourceWhenNoReplicas", "readFromMasterWhenNoSlaves", true), //
     readOnlyPropagatesToServer("readOnlyPropagatesToServer", true), //
     reconnectAtTxEnd("reconnectAtTxEnd", true), //
+    replicaLagProbeInterval("replicaLagProbeInterval", true), //
+    replicaLagQuery("replicaLagQuery", true), //
+    replicaMaxStaleness("replicaMaxStaleness", true), //
     replicationConnectionGroup("replicationConnectionGroup", true), //
     reportMetricsIntervalMillis("reportMetricsIntervalMillis", true), //
     requireSSL("requireSSL", true), //
@@ -208,6 +219,7 @@ public enum PropertyKey {
     sendFractionalSecondsForTime("sendFractionalSecondsForTime", true), //
     serverAffinityOrder("serverAffinityOrder", true), //
     serverConfigCacheFactory("serverConfigCacheFactory", true), //
+    serverConfigCacheTtl("serverConfigCacheTtl", true), //
     serverRSAPublicKeyFile("serverRSAPublicKeyFile", true), //
     sessionVariables("sessionVariables", true), //
     slowQueryThresholdMillis("slowQueryThresholdMillis", true), //
@@ -247,6 +259,7 @@ public enum PropertyKey {
     useNanosForElapsedTime("useNanosForElapsedTime", true), //
     useOldAliasMetadataBehavior("useOldAliasMetadataBehavior", true), //
     useOnlyServerErrorMessages("useOnlyServerErrorMessages", true), //
+    usePacketBufferPool("usePacketBufferPool", true), //
     useReadAheadInput("useReadAheadInput", true), //
     useServerPrepStmts("useServerPrepStmts", true), //
     useSSL("useSSL", true), //
@@ -276,7 +289,8 @@ public enum PropertyKey {
     xdevapiTlsVersions("xdevapi.tls-versions", "xdevapiTlsVersions", true), //
 
     yearIsDateType("yearIsDateType", true), //
-    zeroDateTimeBehavior("zeroDateTimeBehavior", true) //
+    zeroDateTimeBehavior("zeroDateTimeBehavior", true), //
+    zstdCompressionLevel("zstdCompressionLevel", true) //
     ;
 
     private String keyName;
@@ -66,10 +66,6 @@ public interface ColumnDefinition extends ProtocolEntity {
 
     void setColumnNameToIndex(Map<String, Integer> colNameToIndex);
 
-    public Map<String, Integer> getColumnToIndexCache();
-
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache);
-
     void initializeFrom(ColumnDefinition columnDefinition);
 
     void exportTo(ColumnDefinition columnDefinition);
@@ -94,6 +94,27 @@ public interface MessageSender<M extends Message> {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
     }
 
+    /**
+     * Set whether the messages sent from now on may be held in this sender's buffers until {@link #flush()} is called, so that several messages can be
+     * transmitted together. Senders that transmit each message right away ignore it.
+     * 
+     * @param flushDeferred
+     *            true to defer the transmission, false to transmit each message when it is sent; messages still held must then be flushed explicitly
+     */
+    default void setFlushDeferred(boolean flushDeferred) {
+        // transmits each message right away
+    }
+
+    /**
+     * Transmit the messages held by this sender, if any.
+     * 
+     * @throws IOException
+     *             if an error occurs
+     */
+    default void flush() throws IOException {
+        // nothing held
+    }
+
     /**
      * Return a PacketSender instance free of decorators.
      * 
@@ -29,6 +29,8 @@
 
 package com.mysql.cj.protocol;
 
+import java.util.concurrent.locks.Lock;
+
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.Query;
 import com.mysql.cj.Session;
@@ -43,6 +45,15 @@ public interface ResultsetRowsOwner {
 
     Object getSyncMutex();
 
+    /**
+     * Lock to hold while reading more rows from the server, see {@link MysqlConnection#getConnectionLock()}.
+     * 
+     * @return {@link Lock} or null if the owner isn't bound to a connection
+     */
+    default Lock getSyncLock() {
+        return null;
+    }
+
     /**
      * StackTrace generated where ResultSet was created... used when profiling
      * 
@@ -29,6 +29,9 @@
 
 package com.mysql.cj.protocol;
 
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.ValueFactory;
 
@@ -76,4 +79,39 @@ public interface ValueDecoder {
     <T> T decodeSet(byte[] bytes, int offset, int length, Field f, ValueFactory<T> vf);
 
     <T> T decodeYear(byte[] bytes, int offset, int length, ValueFactory<T> vf);
+
+    /**
+     * Decode an integer value straight to a primitive, without a {@link ValueFactory}. Only TINY, SHORT, INT24, LONG and signed LONGLONG protocol types are
+     * accepted; unsigned LONGLONG values may not fit into a long and go through {@link #decodeUInt8(byte[], int, int, ValueFactory)}.
+     * 
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @param f
+     *            field the value belongs to
+     * @return value
+     */
+    default long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
+    /**
+     * Decode a FLOAT or DOUBLE value straight to a primitive, without a {@link ValueFactory}.
+     * 
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @param f
+     *            field the value belongs to
+     * @return value
+     */
+    default double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
 }
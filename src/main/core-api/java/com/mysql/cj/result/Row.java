@@ -53,6 +53,36 @@ public interface Row extends ProtocolEntity {
      */
     <T> T getValue(int columnIndex, ValueFactory<T> vf);
 
+    /**
+     * Retrieve a numeric value for the given column as a primitive long. Rows able to decode integer protocol types directly do so without calling the
+     * value factory or boxing the value; any other column is converted by the value factory as in {@link #getValue(int, ValueFactory)}.
+     *
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @param vf
+     *            value factory used for columns that can't be decoded directly
+     * @return the value, or 0 if it's SQL <code>NULL</code>
+     */
+    default long getLong(int columnIndex, ValueFactory<? extends Number> vf) {
+        Number value = getValue(columnIndex, vf);
+        return value == null ? 0 : value.longValue();
+    }
+
+    /**
+     * Retrieve a numeric value for the given column as a primitive double. Rows able to decode integer and floating point protocol types directly do so
+     * without calling the value factory or boxing the value; any other column is converted by the value factory as in {@link #getValue(int, ValueFactory)}.
+     *
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @param vf
+     *            value factory used for columns that can't be decoded directly
+     * @return the value, or 0 if it's SQL <code>NULL</code>
+     */
+    default double getDouble(int columnIndex, ValueFactory<? extends Number> vf) {
+        Number value = getValue(columnIndex, vf);
+        return value == null ? 0 : value.doubleValue();
+    }
+
     /**
      * Set metadata to enable getValue functionality.
      * 
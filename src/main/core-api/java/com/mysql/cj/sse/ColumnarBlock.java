@@ -0,0 +1,162 @@
+package com.mysql.cj.sse;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+/**
+ * A run of rows of a columnar gateway result, held as one typed vector per column. Integral and timestamp columns are kept in <code>long[]</code>,
+ * floating point columns in <code>double[]</code> and text columns as one byte array with the end offset of every cell, so reading a cell allocates
+ * nothing unless an object is asked for.
+ * <p>
+ * Blocks are filled by {@link ColumnarDecoder} and may be refilled with the next rows once the current ones are consumed.
+ */
+public class ColumnarBlock {
+
+    private final byte[] types;
+
+    private int rowCount;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final byte[][] bytes;
+    /** End offset in {@link #bytes} of each cell of a variable length column, the start being the end of the previous cell. */
+    private final int[][] ends;
+    /** Null bitmap of each column, or null if the column has no null cell in this block. */
+    private final byte[][] nulls;
+    private final boolean[] hasNulls;
+
+    ColumnarBlock(byte[] types) {
+        int n = types.length;
+        this.types = types;
+        this.longs = new long[n][];
+        this.doubles = new double[n][];
+        this.bytes = new byte[n][];
+        this.ends = new int[n][];
+        this.nulls = new byte[n][];
+        this.hasNulls = new boolean[n];
+    }
+
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public byte getType(int column) {
+        return this.types[column];
+    }
+
+    /**
+     * @return true if the column is stored as a <code>long</code> vector
+     */
+    public boolean isIntegral(int column) {
+        byte t = this.types[column];
+        return t == ColumnarDecoder.TYPE_INT32 || t == ColumnarDecoder.TYPE_INT64;
+    }
+
+    public boolean isNull(int column, int row) {
+        return this.hasNulls[column] && (this.nulls[column][row >>> 3] & 1 << (row & 7)) != 0;
+    }
+
+    /**
+     * @return the value of an integral or timestamp cell, 0 when null
+     */
+    public long getLong(int column, int row) {
+        return this.longs[column][row];
+    }
+
+    /**
+     * @return the value of a floating point cell, 0 when null
+     */
+    public double getDouble(int column, int row) {
+        return this.doubles[column][row];
+    }
+
+    /**
+     * @return the text of a decimal or string cell
+     */
+    public String getText(int column, int row) {
+        int[] e = this.ends[column];
+        int start = row == 0 ? 0 : e[row - 1];
+        return new String(this.bytes[column], start, e[row] - start,
+                this.types[column] == ColumnarDecoder.TYPE_DECIMAL ? StandardCharsets.US_ASCII : StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the cell as the object fastjson would have decoded from the JSON format, except for timestamps which are returned as
+     *         {@link Timestamp}; null for a null cell
+     */
+    public Object getObject(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+        switch (this.types[column]) {
+            case ColumnarDecoder.TYPE_INT32:
+                return (int) this.longs[column][row];
+            case ColumnarDecoder.TYPE_INT64:
+                return this.longs[column][row];
+            case ColumnarDecoder.TYPE_DOUBLE:
+                return this.doubles[column][row];
+            case ColumnarDecoder.TYPE_DECIMAL:
+                return new BigDecimal(getText(column, row));
+            case ColumnarDecoder.TYPE_TIMESTAMP:
+                return new Timestamp(this.longs[column][row]);
+            default:
+                return getText(column, row);
+        }
+    }
+
+    long[] longs(int column, int capacity) {
+        long[] v = this.longs[column];
+        if (v == null || v.length < capacity) {
+            v = this.longs[column] = new long[capacity];
+        }
+        return v;
+    }
+
+    double[] doubles(int column, int capacity) {
+        double[] v = this.doubles[column];
+        if (v == null || v.length < capacity) {
+            v = this.doubles[column] = new double[capacity];
+        }
+        return v;
+    }
+
+    int[] ends(int column, int capacity) {
+        int[] v = this.ends[column];
+        if (v == null || v.length < capacity) {
+            v = this.ends[column] = new int[capacity];
+        }
+        return v;
+    }
+
+    byte[] bytes(int column) {
+        byte[] v = this.bytes[column];
+        if (v == null) {
+            v = this.bytes[column] = new byte[256];
+        }
+        return v;
+    }
+
+    void setBytes(int column, byte[] data) {
+        this.bytes[column] = data;
+    }
+
+    /**
+     * @return the null bitmap to fill for the column, or null to mark the column as having no nulls
+     */
+    byte[] nulls(int column, boolean present, int rows) {
+        this.hasNulls[column] = present;
+        if (!present) {
+            return null;
+        }
+        int len = (rows + 7) >>> 3;
+        byte[] v = this.nulls[column];
+        if (v == null || v.length < len) {
+            v = this.nulls[column] = new byte[len];
+        }
+        return v;
+    }
+}
@@ -0,0 +1,307 @@
+package com.mysql.cj.sse;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decoder of the binary, column-oriented result format the gateway sends as {@value #CONTENT_TYPE} when the request accepts it.
+ * <p>
+ * All integers are big-endian. The body starts with a header:
+ * <ul>
+ * <li>the magic bytes <code>"MYCR"</code> and a format version byte, currently 1;</li>
+ * <li>an unsigned 16-bit column count, then for each column an unsigned 16-bit length and that many bytes of UTF-8 label, and one type byte.</li>
+ * </ul>
+ * Rows follow in blocks. Each block is a 32-bit row count, a count of 0 ending the result, then every column of the block in turn:
+ * <ul>
+ * <li>a byte set to 1 if the block has null cells in this column, followed by a bitmap of <code>(rows + 7) / 8</code> bytes where bit
+ * <code>i % 8</code> (least significant first) of byte <code>i / 8</code> is set when row <code>i</code> is null;</li>
+ * <li>the cell values: 4 bytes each for {@link #TYPE_INT32}, 8 bytes each for {@link #TYPE_INT64}, {@link #TYPE_DOUBLE} (IEEE 754) and
+ * {@link #TYPE_TIMESTAMP} (milliseconds since the epoch), and for {@link #TYPE_DECIMAL} and {@link #TYPE_STRING} an unsigned LEB128 byte length
+ * followed by the text. Null cells still take their fixed width, or a zero length.</li>
+ * </ul>
+ */
+public class ColumnarDecoder {
+
+    public static final String CONTENT_TYPE = "application/x-mysql-columnar";
+    /** Accept header of queries that negotiate the columnar format, JSON remaining acceptable for gateways that don't support it. */
+    public static final String ACCEPT = CONTENT_TYPE + ", application/json;q=0.5";
+
+    public static final byte TYPE_INT32 = 1;
+    public static final byte TYPE_INT64 = 2;
+    public static final byte TYPE_DOUBLE = 3;
+    public static final byte TYPE_DECIMAL = 4;
+    public static final byte TYPE_STRING = 5;
+    public static final byte TYPE_TIMESTAMP = 6;
+
+    static final byte[] MAGIC = { 'M', 'Y', 'C', 'R' };
+    static final byte VERSION = 1;
+
+    private final InputStream in;
+    private final byte[] buf = new byte[16 * 1024];
+    private int pos;
+    private int limit;
+
+    private final String[] labels;
+    private final byte[] types;
+    private boolean done;
+
+    /**
+     * Reads the header of a columnar result.
+     *
+     * @param in
+     *            stream positioned at the start of the body
+     * @throws IOException
+     *             if reading fails or the body is not in the columnar format
+     */
+    public ColumnarDecoder(InputStream in) throws IOException {
+        this.in = in;
+        ensure(MAGIC.length + 3);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (this.buf[this.pos++] != MAGIC[i]) {
+                throw new IOException("Not a columnar result");
+            }
+        }
+        byte version = this.buf[this.pos++];
+        if (version != VERSION) {
+            throw new IOException("Unsupported columnar result version " + version);
+        }
+        int count = readUnsignedShort();
+        this.labels = new String[count];
+        this.types = new byte[count];
+        for (int i = 0; i < count; i++) {
+            int len = readUnsignedShort();
+            ensure(len + 1);
+            this.labels[i] = new String(this.buf, this.pos, len, StandardCharsets.UTF_8);
+            this.pos += len;
+            this.types[i] = this.buf[this.pos++];
+            if (this.types[i] < TYPE_INT32 || this.types[i] > TYPE_TIMESTAMP) {
+                throw new IOException("Unknown type " + this.types[i] + " of column '" + this.labels[i] + "'");
+            }
+        }
+    }
+
+    /**
+     * @param contentType
+     *            Content-Type header of a response, may be null
+     * @return true if the response is in the columnar format
+     */
+    public static boolean isColumnar(String contentType) {
+        return contentType != null && contentType.regionMatches(true, 0, CONTENT_TYPE, 0, CONTENT_TYPE.length());
+    }
+
+    public String[] getLabels() {
+        return this.labels;
+    }
+
+    public byte[] getTypes() {
+        return this.types;
+    }
+
+    /**
+     * Decodes the next block of rows.
+     *
+     * @param reuse
+     *            block whose vectors may be overwritten, or null to allocate a new one
+     * @return the block, or null after the last one
+     * @throws IOException
+     *             if reading fails
+     */
+    public ColumnarBlock nextBlock(ColumnarBlock reuse) throws IOException {
+        if (this.done) {
+            return null;
+        }
+        int rows = readInt();
+        if (rows <= 0) {
+            if (rows < 0) {
+                throw new IOException("Malformed columnar result, negative row count");
+            }
+            this.done = true;
+            return null;
+        }
+        ColumnarBlock block = reuse != null ? reuse : new ColumnarBlock(this.types);
+        block.setRowCount(rows);
+        for (int c = 0; c < this.types.length; c++) {
+            ensure(1);
+            byte[] nulls = block.nulls(c, this.buf[this.pos++] != 0, rows);
+            if (nulls != null) {
+                readFully(nulls, 0, (rows + 7) >>> 3);
+            }
+            switch (this.types[c]) {
+                case TYPE_INT32:
+                    readInts(block.longs(c, rows), rows);
+                    break;
+                case TYPE_INT64:
+                case TYPE_TIMESTAMP:
+                    readLongs(block.longs(c, rows), rows);
+                    break;
+                case TYPE_DOUBLE:
+                    readDoubles(block.doubles(c, rows), rows);
+                    break;
+                default:
+                    readVarBytes(block, c, rows);
+                    break;
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Consumes whatever follows the last block so that the connection can be reused.
+     *
+     * @throws IOException
+     *             if reading fails
+     */
+    public void drain() throws IOException {
+        this.pos = this.limit = 0;
+        while (this.in.read(this.buf) != -1) {
+            // discard
+        }
+    }
+
+    private void readInts(long[] dst, int n) throws IOException {
+        int i = 0;
+        while (i < n) {
+            int avail = (this.limit - this.pos) >>> 2;
+            if (avail == 0) {
+                ensure(4);
+                continue;
+            }
+            int end = Math.min(n, i + avail);
+            byte[] b = this.buf;
+            int p = this.pos;
+            for (; i < end; i++, p += 4) {
+                dst[i] = b[p] << 24 | (b[p + 1] & 0xff) << 16 | (b[p + 2] & 0xff) << 8 | b[p + 3] & 0xff;
+            }
+            this.pos = p;
+        }
+    }
+
+    private void readLongs(long[] dst, int n) throws IOException {
+        int i = 0;
+        while (i < n) {
+            int avail = (this.limit - this.pos) >>> 3;
+            if (avail == 0) {
+                ensure(8);
+                continue;
+            }
+            int end = Math.min(n, i + avail);
+            for (; i < end; i++) {
+                dst[i] = longAt(this.pos);
+                this.pos += 8;
+            }
+        }
+    }
+
+    private void readDoubles(double[] dst, int n) throws IOException {
+        int i = 0;
+        while (i < n) {
+            int avail = (this.limit - this.pos) >>> 3;
+            if (avail == 0) {
+                ensure(8);
+                continue;
+            }
+            int end = Math.min(n, i + avail);
+            for (; i < end; i++) {
+                dst[i] = Double.longBitsToDouble(longAt(this.pos));
+                this.pos += 8;
+            }
+        }
+    }
+
+    private void readVarBytes(ColumnarBlock block, int column, int n) throws IOException {
+        int[] ends = block.ends(column, n);
+        byte[] data = block.bytes(column);
+        int off = 0;
+        for (int i = 0; i < n; i++) {
+            int len = readVarInt();
+            if (off + len > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length << 1, off + len));
+            }
+            readFully(data, off, len);
+            off += len;
+            ends[i] = off;
+        }
+        block.setBytes(column, data);
+    }
+
+    private long longAt(int p) {
+        byte[] b = this.buf;
+        return (long) b[p] << 56 | (b[p + 1] & 0xffL) << 48 | (b[p + 2] & 0xffL) << 40 | (b[p + 3] & 0xffL) << 32 | (b[p + 4] & 0xffL) << 24
+                | (b[p + 5] & 0xffL) << 16 | (b[p + 6] & 0xffL) << 8 | b[p + 7] & 0xffL;
+    }
+
+    private int readUnsignedShort() throws IOException {
+        ensure(2);
+        int v = (this.buf[this.pos] & 0xff) << 8 | this.buf[this.pos + 1] & 0xff;
+        this.pos += 2;
+        return v;
+    }
+
+    private int readInt() throws IOException {
+        ensure(4);
+        byte[] b = this.buf;
+        int p = this.pos;
+        this.pos += 4;
+        return b[p] << 24 | (b[p + 1] & 0xff) << 16 | (b[p + 2] & 0xff) << 8 | b[p + 3] & 0xff;
+    }
+
+    private int readVarInt() throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (this.pos == this.limit) {
+                ensure(1);
+            }
+            byte b = this.buf[this.pos++];
+            v |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                if (v < 0) {
+                    break;
+                }
+                return v;
+            }
+        }
+        throw new IOException("Malformed columnar result, invalid length");
+    }
+
+    private void readFully(byte[] dst, int off, int len) throws IOException {
+        int n = Math.min(len, this.limit - this.pos);
+        System.arraycopy(this.buf, this.pos, dst, off, n);
+        this.pos += n;
+        off += n;
+        len -= n;
+        while (len > 0) {
+            // large values skip the buffer
+            int r = this.in.read(dst, off, len);
+            if (r == -1) {
+                throw new EOFException("Columnar result ended prematurely");
+            }
+            off += r;
+            len -= r;
+        }
+    }
+
+    /**
+     * Makes at least the given number of bytes, which must not exceed the buffer size, available from {@link #pos}.
+     */
+    private void ensure(int n) throws IOException {
+        if (this.limit - this.pos >= n) {
+            return;
+        }
+        if (n > this.buf.length) {
+            throw new IOException("Malformed columnar result, field of " + n + " bytes");
+        }
+        System.arraycopy(this.buf, this.pos, this.buf, 0, this.limit - this.pos);
+        this.limit -= this.pos;
+        this.pos = 0;
+        while (this.limit < n) {
+            int r = this.in.read(this.buf, this.limit, this.buf.length - this.limit);
+            if (r == -1) {
+                throw new EOFException("Columnar result ended prematurely");
+            }
+            this.limit += r;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.mysql.cj.sse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.fastjson.JSONArray;
+
+/**
+ * Rows of a columnar gateway response, see {@link ColumnarDecoder}. Either all blocks are decoded up front and the connection is handed back at once,
+ * or, when streaming, one block is decoded at a time into the same vectors and the connection is handed back after the last one.
+ */
+class ColumnarRows {
+
+    private final HttpChannel channel;
+    private final ColumnarDecoder decoder;
+    private final JSONArray columns;
+
+    /** All blocks when not streaming. */
+    private List<ColumnarBlock> blocks;
+    private int blockIndex;
+
+    private ColumnarBlock block;
+    private int row = -1;
+    /** Whole response read, or rows closed. */
+    private boolean done;
+
+    private ColumnarRows(HttpChannel channel) throws IOException {
+        this.channel = channel;
+        this.decoder = new ColumnarDecoder(channel.getReader().getBody());
+        this.columns = new JSONArray(this.decoder.getLabels().length);
+        for (String label : this.decoder.getLabels()) {
+            this.columns.add(label);
+        }
+    }
+
+    /**
+     * Starts decoding the columnar response pending on the channel.
+     *
+     * @param channel
+     *            leased channel positioned at the response body; owned by the returned rows
+     * @param stream
+     *            whether to decode blocks as rows are read rather than now
+     * @return rows
+     * @throws IOException
+     *             if reading fails
+     */
+    static ColumnarRows open(HttpChannel channel, boolean stream) throws IOException {
+        ColumnarRows rows = new ColumnarRows(channel);
+        if (!stream) {
+            rows.blocks = new ArrayList<>();
+            ColumnarBlock block;
+            while ((block = rows.decoder.nextBlock(null)) != null) {
+                rows.blocks.add(block);
+            }
+            rows.finish();
+        }
+        return rows;
+    }
+
+    JSONArray getColumns() {
+        return this.columns;
+    }
+
+    ColumnarBlock getBlock() {
+        return this.block;
+    }
+
+    int getRow() {
+        return this.row;
+    }
+
+    boolean isOnRow() {
+        return this.block != null;
+    }
+
+    boolean next() throws IOException {
+        if (this.block != null && ++this.row < this.block.getRowCount()) {
+            return true;
+        }
+        this.row = 0;
+        if (this.blocks != null) {
+            this.block = this.blockIndex < this.blocks.size() ? this.blocks.get(this.blockIndex++) : null;
+        } else if (!this.done) {
+            this.block = this.decoder.nextBlock(this.block);
+            if (this.block == null) {
+                finish();
+            }
+        } else {
+            this.block = null;
+        }
+        return this.block != null;
+    }
+
+    /**
+     * Releases the connection. If blocks are still pending the connection is closed rather than drained.
+     */
+    void close() {
+        if (!this.done) {
+            this.done = true;
+            this.channel.discard();
+        }
+        this.blocks = null;
+        this.block = null;
+    }
+
+    private void finish() throws IOException {
+        this.decoder.drain();
+        this.done = true;
+        this.channel.release();
+    }
+}
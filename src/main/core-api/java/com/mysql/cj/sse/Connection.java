@@ -6,12 +6,19 @@ public class Connection {
 
     public URI uri;
 
+    private final HttpConnectionPool pool;
+
     public Connection( URI uri){
         this.uri = uri;
+        this.pool = HttpConnectionPool.getInstance(uri);
     }
 
+    /**
+     * Statements of all connections to the same gateway share one pool of keep-alive HTTP connections, so a connection can be used from many threads
+     * at once, up to {@link URI#maxConnections} queries in flight.
+     */
     public Statement createStatement(){
-        return new Statement(this.uri);
+        return new Statement(this.uri, this.pool);
     }
     public void close() throws SQLException {
 
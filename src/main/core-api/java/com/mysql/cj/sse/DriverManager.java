@@ -5,16 +5,23 @@ public class DriverManager {
     public static Connection getConnection(String url, String username, String password){
         String ip_port = "";
         String db = "";
+        String query = null;
         if (url.startsWith("jdbc:mysql")){
             ip_port = url.split("/")[2];
-            db = url.split("/")[3].split("\\?")[0];
+            String[] dbAndQuery = url.split("/")[3].split("\\?", 2);
+            db = dbAndQuery[0];
+            if (dbAndQuery.length > 1) {
+                query = dbAndQuery[1];
+            }
         }
-        System.out.println(ip_port);
         URI uri = new URI();
         uri.setUrl("http://" + ip_port + "/query_jar");
         uri.setUsername(username);
         uri.setPassword(password);
         uri.setDb(db);
+        if (query != null) {
+            applyProperties(uri, query);
+        }
         Connection connection = new Connection(uri);
         return connection;
     }
@@ -22,4 +29,44 @@ public class DriverManager {
     public static void registerDriver( Driver driver){
 
     }
+
+    /**
+     * Picks the transport settings out of the URL query string, leaving any other property to the gateway.
+     */
+    private static void applyProperties(URI uri, String query) {
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            String key = pair.substring(0, eq);
+            String value = pair.substring(eq + 1);
+            try {
+                switch (key) {
+                    case "maxConnections":
+                        uri.setMaxConnections(Integer.parseInt(value));
+                        break;
+                    case "connectTimeout":
+                        uri.setConnectTimeout(Integer.parseInt(value));
+                        break;
+                    case "socketTimeout":
+                        uri.setSocketTimeout(Integer.parseInt(value));
+                        break;
+                    case "idleTimeout":
+                        uri.setIdleTimeout(Integer.parseInt(value));
+                        break;
+                    case "streamResults":
+                        uri.setStreamResults(Boolean.parseBoolean(value));
+                        break;
+                    case "columnarResults":
+                        uri.setColumnarResults(Boolean.parseBoolean(value));
+                        break;
+                    default:
+                        break;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value '" + value + "' for property '" + key + "'", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package com.mysql.cj.sse;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * One persistent (HTTP/1.1 keep-alive) connection to the gateway, together with the request encoder and response reader that are reused for every
+ * query sent over it.
+ */
+public class HttpChannel {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final HttpConnectionPool pool;
+    private final Socket socket;
+    private final BufferedInputStream in;
+    private final OutputStream out;
+    private final HttpRequestEncoder encoder;
+    private final HttpResponseReader reader;
+
+    private long lastUsed;
+    private int useCount;
+    private boolean unanswered;
+
+    HttpChannel(HttpConnectionPool pool, String host, int port, int connectTimeout, int socketTimeout) throws IOException {
+        this.pool = pool;
+        this.socket = new Socket();
+        try {
+            this.socket.setTcpNoDelay(true);
+            this.socket.setKeepAlive(true);
+            this.socket.setSoTimeout(socketTimeout);
+            this.socket.connect(new InetSocketAddress(host, port), connectTimeout);
+            this.in = new BufferedInputStream(this.socket.getInputStream(), BUFFER_SIZE);
+            this.out = new BufferedOutputStream(this.socket.getOutputStream(), BUFFER_SIZE);
+        } catch (IOException e) {
+            this.socket.close();
+            throw e;
+        }
+        this.encoder = new HttpRequestEncoder();
+        this.reader = new HttpResponseReader(this.in);
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    public HttpRequestEncoder getEncoder() {
+        return this.encoder;
+    }
+
+    public HttpResponseReader getReader() {
+        return this.reader;
+    }
+
+    /**
+     * Writes the request currently held by the encoder and reads the response status line and headers. The body is left on the stream for the caller.
+     *
+     * @return the response reader positioned at the start of the body
+     * @throws IOException
+     *             if the exchange fails
+     */
+    public HttpResponseReader exchange() throws IOException {
+        this.useCount++;
+        this.unanswered = true;
+        this.encoder.writeTo(this.out);
+        this.out.flush();
+        this.in.mark(1);
+        int first;
+        try {
+            first = this.in.read();
+        } catch (SocketTimeoutException e) {
+            // the server may be executing the request, sending it again could run it twice
+            this.unanswered = false;
+            throw e;
+        }
+        if (first == -1) {
+            throw new EOFException("Connection closed before the HTTP response");
+        }
+        this.in.reset();
+        this.unanswered = false;
+        this.reader.readHead();
+        return this.reader;
+    }
+
+    /**
+     * @return true if this channel already completed at least one exchange, i.e. a failure may just mean the server dropped an idle keep-alive
+     *         connection
+     */
+    public boolean isReused() {
+        return this.useCount > 1;
+    }
+
+    /**
+     * Tells whether the last failed {@link #exchange()} can safely be sent again on a new connection: the channel was reused, so the server may have
+     * closed it while idle, and the failure happened while writing the request or as a close/reset before the first response byte. Read timeouts and
+     * failures after the response started are never retryable.
+     *
+     * @return true if the request can be resent
+     */
+    public boolean isRetryable() {
+        return isReused() && this.unanswered;
+    }
+
+    boolean isExpired(long now, int idleTimeout) {
+        return this.socket.isClosed() || idleTimeout > 0 && now - this.lastUsed > idleTimeout;
+    }
+
+    void touch() {
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    /**
+     * Hands this channel back to its pool. The channel is kept for reuse only if the last response was fully consumed and allows keep-alive.
+     */
+    public void release() {
+        this.pool.release(this, this.reader.isReusable());
+    }
+
+    /**
+     * Hands the pool slot back and closes the socket, used after any failure or when a response is abandoned half read.
+     */
+    public void discard() {
+        this.pool.release(this, false);
+    }
+
+    void close() {
+        try {
+            this.socket.close();
+        } catch (IOException e) {
+            // ignore, nothing more can be done with this socket
+        }
+    }
+}
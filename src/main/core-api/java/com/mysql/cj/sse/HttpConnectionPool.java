@@ -0,0 +1,142 @@
+package com.mysql.cj.sse;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool of persistent HTTP connections to one gateway endpoint, shared by every {@link Connection} created for the same host and port.
+ * <p>
+ * The number of connections, and so of concurrent queries, is bounded by {@link URI#maxConnections}; threads beyond that wait for a connection to be
+ * released instead of opening new sockets.
+ */
+public class HttpConnectionPool {
+
+    private static final ConcurrentMap<String, HttpConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    private final String host;
+    private final int port;
+    private final String path;
+    private final String hostHeader;
+    private final int connectTimeout;
+    private final int socketTimeout;
+    private final int idleTimeout;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<HttpChannel> idle = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Returns the pool for the endpoint of the given URI, creating it on first use. Transport settings are taken from the first URI seen for an
+     * endpoint.
+     *
+     * @param uri
+     *            connection URI
+     * @return the shared pool
+     */
+    public static HttpConnectionPool getInstance(URI uri) {
+        URL url;
+        try {
+            url = new URL(uri.getUrl());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid gateway URL '" + uri.getUrl() + "'", e);
+        }
+        String key = url.getHost() + ":" + url.getPort() + url.getPath();
+        return POOLS.computeIfAbsent(key, k -> new HttpConnectionPool(url, uri));
+    }
+
+    private HttpConnectionPool(URL url, URI uri) {
+        this.host = url.getHost();
+        this.port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        this.path = url.getPath().isEmpty() ? "/" : url.getPath();
+        this.hostHeader = url.getPort() == -1 ? this.host : this.host + ":" + this.port;
+        this.connectTimeout = uri.getConnectTimeout();
+        this.socketTimeout = uri.getSocketTimeout();
+        this.idleTimeout = uri.getIdleTimeout();
+        this.permits = new Semaphore(Math.max(1, uri.getMaxConnections()), true);
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+
+    public String getHostHeader() {
+        return this.hostHeader;
+    }
+
+    /**
+     * Leases a connection, reusing an idle one when available. Blocks while the pool is at its connection limit.
+     *
+     * @return a channel that must be given back with {@link HttpChannel#release()} or {@link HttpChannel#discard()}
+     * @throws IOException
+     *             if a new connection cannot be opened or the thread is interrupted while waiting
+     */
+    public HttpChannel borrow() throws IOException {
+        try {
+            this.permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a gateway connection", e);
+        }
+        try {
+            long now = System.currentTimeMillis();
+            HttpChannel channel;
+            while ((channel = this.idle.pollFirst()) != null) {
+                if (!channel.isExpired(now, this.idleTimeout)) {
+                    return channel;
+                }
+                channel.close();
+            }
+            return newChannel();
+        } catch (IOException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces a channel whose request failed because the server dropped an idle keep-alive connection. The new channel takes over the pool slot of
+     * the stale one and carries a copy of its encoded request.
+     *
+     * @param stale
+     *            the failed channel, closed by this method
+     * @return a new channel, ready to repeat the exchange
+     * @throws IOException
+     *             if the connection cannot be opened, in which case the slot stays with the stale channel and is given back when the caller
+     *             discards it
+     */
+    HttpChannel reopen(HttpChannel stale) throws IOException {
+        stale.close();
+        HttpChannel channel = newChannel();
+        channel.getEncoder().copyFrom(stale.getEncoder());
+        return channel;
+    }
+
+    private HttpChannel newChannel() throws IOException {
+        return new HttpChannel(this, this.host, this.port, this.connectTimeout, this.socketTimeout);
+    }
+
+    void release(HttpChannel channel, boolean reusable) {
+        if (reusable) {
+            channel.touch();
+            // LIFO keeps the hottest connections busy and lets the rest reach the idle timeout
+            this.idle.offerFirst(channel);
+        } else {
+            channel.close();
+        }
+        this.permits.release();
+    }
+
+    /**
+     * Closes all idle connections of this pool. Connections currently leased are closed when released if they are not reusable.
+     */
+    public void closeIdle() {
+        HttpChannel channel;
+        while ((channel = this.idle.pollFirst()) != null) {
+            channel.close();
+        }
+    }
+}
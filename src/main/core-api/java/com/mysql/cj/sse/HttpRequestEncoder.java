@@ -0,0 +1,158 @@
+package com.mysql.cj.sse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Encodes HTTP/1.1 POST requests with an <code>application/x-www-form-urlencoded</code> body into a byte buffer that is reused from one request to
+ * the next, so sending a query allocates neither strings nor arrays once the buffer has grown to the usual request size.
+ */
+public class HttpRequestEncoder {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+    private static final int CONTENT_LENGTH_DIGITS = 10;
+
+    private byte[] buf = new byte[1024];
+    private int pos = 0;
+    private int bodyStart = -1;
+    private int contentLengthPos = -1;
+
+    /**
+     * Starts a new request, discarding the previous one.
+     *
+     * @param path
+     *            request path
+     * @param hostHeader
+     *            value of the Host header
+     * @param accept
+     *            value of the Accept header
+     */
+    public void begin(String path, String hostHeader, String accept) {
+        this.pos = 0;
+        writeAscii("POST ");
+        writeAscii(path);
+        writeAscii(" HTTP/1.1\r\nHost: ");
+        writeAscii(hostHeader);
+        writeAscii("\r\nAccept: ");
+        writeAscii(accept);
+        writeAscii("\r\nConnection: keep-alive\r\nContent-Type: application/x-www-form-urlencoded;charset=utf-8\r\nContent-Length: ");
+        // the length is patched in by end(), it is left padded with spaces which HTTP allows as optional whitespace
+        this.contentLengthPos = this.pos;
+        for (int i = 0; i < CONTENT_LENGTH_DIGITS; i++) {
+            writeByte(' ');
+        }
+        writeAscii("\r\n\r\n");
+        this.bodyStart = this.pos;
+    }
+
+    /**
+     * Appends one form field to the body, percent-encoding both name and value as UTF-8.
+     *
+     * @param name
+     *            field name
+     * @param value
+     *            field value, null is sent as an empty value
+     */
+    public void addField(String name, String value) {
+        if (this.pos > this.bodyStart) {
+            writeByte('&');
+        }
+        writeEncoded(name);
+        writeByte('=');
+        if (value != null) {
+            writeEncoded(value);
+        }
+    }
+
+    /**
+     * Completes the request by filling in the Content-Length header.
+     */
+    public void end() {
+        int len = this.pos - this.bodyStart;
+        int p = this.contentLengthPos + CONTENT_LENGTH_DIGITS;
+        do {
+            this.buf[--p] = (byte) ('0' + len % 10);
+            len /= 10;
+        } while (len > 0);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(this.buf, 0, this.pos);
+    }
+
+    void copyFrom(HttpRequestEncoder other) {
+        ensureCapacity(other.pos);
+        System.arraycopy(other.buf, 0, this.buf, 0, other.pos);
+        this.pos = other.pos;
+        this.bodyStart = other.bodyStart;
+        this.contentLengthPos = other.contentLengthPos;
+    }
+
+    /**
+     * @return number of bytes of the encoded request
+     */
+    public int size() {
+        return this.pos;
+    }
+
+    private void writeAscii(String s) {
+        int len = s.length();
+        ensureCapacity(this.pos + len);
+        for (int i = 0; i < len; i++) {
+            this.buf[this.pos++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(this.pos + 1);
+        this.buf[this.pos++] = (byte) b;
+    }
+
+    private void writeEncoded(String s) {
+        int len = s.length();
+        // worst case is 3 UTF-8 bytes per char, each percent-encoded into 3 bytes
+        ensureCapacity(this.pos + len * 9);
+        byte[] b = this.buf;
+        int p = this.pos;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_' || c == '.' || c == '*') {
+                b[p++] = (byte) c;
+            } else if (c == ' ') {
+                b[p++] = '+';
+            } else if (c < 0x80) {
+                p = percent(b, p, c);
+            } else if (c < 0x800) {
+                p = percent(b, p, 0xC0 | c >> 6);
+                p = percent(b, p, 0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                p = percent(b, p, 0xF0 | cp >> 18);
+                p = percent(b, p, 0x80 | cp >> 12 & 0x3F);
+                p = percent(b, p, 0x80 | cp >> 6 & 0x3F);
+                p = percent(b, p, 0x80 | cp & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                p = percent(b, p, '?');
+            } else {
+                p = percent(b, p, 0xE0 | c >> 12);
+                p = percent(b, p, 0x80 | c >> 6 & 0x3F);
+                p = percent(b, p, 0x80 | c & 0x3F);
+            }
+        }
+        this.pos = p;
+    }
+
+    private static int percent(byte[] b, int p, int v) {
+        b[p] = '%';
+        b[p + 1] = HEX[v >> 4 & 0xF];
+        b[p + 2] = HEX[v & 0xF];
+        return p + 3;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > this.buf.length) {
+            this.buf = Arrays.copyOf(this.buf, Math.max(required, this.buf.length << 1));
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.mysql.cj.sse;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads HTTP/1.1 responses off a persistent connection. Headers are parsed in place from a reusable line buffer and the body is exposed either as a
+ * stream limited to the current response, or read in full into a reusable byte buffer.
+ * <p>
+ * Both <code>Content-Length</code> and <code>chunked</code> bodies are supported. A response without either is delimited by the connection close
+ * and marks the connection as not reusable.
+ */
+public class HttpResponseReader {
+
+    private final InputStream in;
+    private final BodyInputStream body = new BodyInputStream();
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+
+    private byte[] buf = new byte[8 * 1024];
+    private int bufLength;
+
+    private int statusCode;
+    private String contentType;
+    private boolean keepAlive;
+    private boolean chunked;
+    /** Bytes left in the fixed length body or in the current chunk; -1 when delimited by connection close. */
+    private long remaining;
+    private boolean bodyDone;
+    private boolean chunkStarted;
+
+    HttpResponseReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the status line and headers of the next response.
+     *
+     * @throws IOException
+     *             if the stream ends or the response is malformed
+     */
+    void readHead() throws IOException {
+        this.contentType = null;
+        this.keepAlive = true;
+        this.chunked = false;
+        this.remaining = -1;
+        this.bodyDone = false;
+
+        readLine();
+        // "HTTP/1.1 200 OK"
+        int sp = indexOf(' ', 0);
+        if (sp < 0 || this.lineLength < sp + 4 || !startsWith("HTTP/")) {
+            throw new IOException("Malformed HTTP status line: " + lineAsString(0));
+        }
+        if (this.lineLength >= 8 && this.line[5] == '1' && this.line[7] == '0') {
+            this.keepAlive = false; // HTTP/1.0 defaults to close
+        }
+        this.statusCode = parseInt(sp + 1, sp + 4);
+
+        while (true) {
+            readLine();
+            if (this.lineLength == 0) {
+                break;
+            }
+            int colon = indexOf(':', 0);
+            if (colon <= 0) {
+                continue;
+            }
+            int valueStart = colon + 1;
+            while (valueStart < this.lineLength && this.line[valueStart] == ' ') {
+                valueStart++;
+            }
+            if (headerIs("content-length", colon)) {
+                this.remaining = parseLong(valueStart, this.lineLength);
+            } else if (headerIs("transfer-encoding", colon)) {
+                this.chunked = valueContains("chunked", valueStart);
+            } else if (headerIs("connection", colon)) {
+                if (valueContains("close", valueStart)) {
+                    this.keepAlive = false;
+                } else if (valueContains("keep-alive", valueStart)) {
+                    this.keepAlive = true;
+                }
+            } else if (headerIs("content-type", colon)) {
+                this.contentType = lineAsString(valueStart);
+            }
+        }
+
+        if (this.chunked) {
+            this.chunkStarted = false;
+            nextChunk();
+        } else if (this.remaining < 0) {
+            this.keepAlive = false;
+        } else if (this.remaining == 0) {
+            this.bodyDone = true;
+        }
+    }
+
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    /**
+     * @return true if the body of the last response was consumed completely and the server allows the connection to be reused
+     */
+    public boolean isReusable() {
+        return this.keepAlive && this.bodyDone;
+    }
+
+    /**
+     * Returns the body of the current response as a stream that ends with the response. Closing it does not close the connection.
+     *
+     * @return body stream
+     */
+    public InputStream getBody() {
+        return this.body;
+    }
+
+    /**
+     * Reads the whole body of the current response into the reusable buffer returned by {@link #getBuffer()}.
+     *
+     * @return the body length
+     * @throws IOException
+     *             if reading fails
+     */
+    public int readBody() throws IOException {
+        int len = 0;
+        int n;
+        while ((n = this.body.read(this.buf, len, this.buf.length - len)) != -1) {
+            len += n;
+            if (len == this.buf.length) {
+                this.buf = Arrays.copyOf(this.buf, this.buf.length << 1);
+            }
+        }
+        this.bufLength = len;
+        return len;
+    }
+
+    /**
+     * @return the buffer filled by the last {@link #readBody()}, valid up to {@link #getBufferLength()} and only until the next response
+     */
+    public byte[] getBuffer() {
+        return this.buf;
+    }
+
+    public int getBufferLength() {
+        return this.bufLength;
+    }
+
+    /**
+     * @return the body read by the last {@link #readBody()} decoded as UTF-8, meant for error messages
+     */
+    public String getBufferAsString() {
+        return new String(this.buf, 0, this.bufLength, StandardCharsets.UTF_8);
+    }
+
+    private void nextChunk() throws IOException {
+        if (this.chunkStarted) {
+            readLine(); // CRLF closing the data of the previous chunk
+        }
+        this.chunkStarted = true;
+        readLine();
+        int end = indexOf(';', 0);
+        this.remaining = parseHex(0, end < 0 ? this.lineLength : end);
+        if (this.remaining == 0) {
+            // last chunk, skip the trailers
+            do {
+                readLine();
+            } while (this.lineLength > 0);
+            this.bodyDone = true;
+        }
+    }
+
+    private class BodyInputStream extends InputStream {
+
+        private final byte[] one = new byte[1];
+
+        @Override
+        public int read() throws IOException {
+            return read(this.one, 0, 1) == -1 ? -1 : this.one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (HttpResponseReader.this.bodyDone) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (HttpResponseReader.this.remaining < 0) {
+                // delimited by connection close
+                int n = HttpResponseReader.this.in.read(b, off, len);
+                if (n == -1) {
+                    HttpResponseReader.this.bodyDone = true;
+                }
+                return n;
+            }
+            int n = HttpResponseReader.this.in.read(b, off, (int) Math.min(len, HttpResponseReader.this.remaining));
+            if (n == -1) {
+                throw new EOFException("Connection closed before the end of the HTTP response body");
+            }
+            HttpResponseReader.this.remaining -= n;
+            if (HttpResponseReader.this.remaining == 0) {
+                if (HttpResponseReader.this.chunked) {
+                    nextChunk();
+                } else {
+                    HttpResponseReader.this.bodyDone = true;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (HttpResponseReader.this.bodyDone) {
+                return 0;
+            }
+            int avail = HttpResponseReader.this.in.available();
+            return HttpResponseReader.this.remaining < 0 ? avail : (int) Math.min(avail, HttpResponseReader.this.remaining);
+        }
+
+        @Override
+        public void close() {
+            // the connection stays open, whoever leased it decides whether it can be reused
+        }
+    }
+
+    private void readLine() throws IOException {
+        int len = 0;
+        int b;
+        while ((b = this.in.read()) != '\n') {
+            if (b == -1) {
+                throw new EOFException("Connection closed while reading HTTP response");
+            }
+            if (len == this.line.length) {
+                this.line = Arrays.copyOf(this.line, len << 1);
+            }
+            this.line[len++] = (byte) b;
+        }
+        if (len > 0 && this.line[len - 1] == '\r') {
+            len--;
+        }
+        this.lineLength = len;
+    }
+
+    private int indexOf(char c, int from) {
+        for (int i = from; i < this.lineLength; i++) {
+            if (this.line[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean startsWith(String prefix) {
+        if (this.lineLength < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (this.line[i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean headerIs(String lowerCaseName, int nameEnd) {
+        if (nameEnd != lowerCaseName.length()) {
+            return false;
+        }
+        for (int i = 0; i < nameEnd; i++) {
+            if (Character.toLowerCase((char) this.line[i]) != lowerCaseName.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean valueContains(String lowerCaseToken, int from) {
+        int n = lowerCaseToken.length();
+        outer: for (int i = from; i <= this.lineLength - n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (Character.toLowerCase((char) this.line[i + j]) != lowerCaseToken.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private int parseInt(int from, int to) throws IOException {
+        return (int) parseLong(from, to);
+    }
+
+    private long parseLong(int from, int to) throws IOException {
+        while (to > from && this.line[to - 1] == ' ') {
+            to--;
+        }
+        if (from >= to) {
+            throw new IOException("Malformed HTTP response: " + lineAsString(0));
+        }
+        long v = 0;
+        for (int i = from; i < to; i++) {
+            int d = this.line[i] - '0';
+            if (d < 0 || d > 9) {
+                throw new IOException("Malformed HTTP response: " + lineAsString(0));
+            }
+            v = v * 10 + d;
+        }
+        return v;
+    }
+
+    private long parseHex(int from, int to) throws IOException {
+        while (to > from && this.line[to - 1] == ' ') {
+            to--;
+        }
+        if (from >= to) {
+            throw new IOException("Malformed HTTP chunk header: " + lineAsString(0));
+        }
+        long v = 0;
+        for (int i = from; i < to; i++) {
+            int d = Character.digit(this.line[i], 16);
+            if (d < 0) {
+                throw new IOException("Malformed HTTP chunk header: " + lineAsString(0));
+            }
+            v = v << 4 | d;
+        }
+        return v;
+    }
+
+    private String lineAsString(int from) {
+        return new String(this.line, from, this.lineLength - from, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mysql.cj.sse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONReader;
+import com.alibaba.fastjson.parser.Feature;
+
+/**
+ * Decodes the rows of a gateway response one at a time straight off the HTTP body, so only the row being read is held in memory.
+ * <p>
+ * The response is the usual <code>{"columns": [[...]], "result": [[...], ...]}</code> document. Rows are streamed when <code>columns</code> comes
+ * before <code>result</code>; otherwise the rows have to be kept until the column names arrive and the stream falls back to buffering them.
+ * <p>
+ * The pooled connection is handed back as soon as the end of the document is read, or discarded if the stream is closed before that.
+ */
+public class JsonRowStream {
+
+    private final HttpChannel channel;
+    private final InputStream body;
+    private final JSONReader reader;
+
+    private JSONArray columns;
+    private JSONArray bufferedRows;
+    private int bufferedPos;
+    /** Positioned inside the "result" array. */
+    private boolean inResult;
+    /** Whole document read, or stream closed. */
+    private boolean done;
+
+    private JsonRowStream(HttpChannel channel) {
+        this.channel = channel;
+        this.body = channel.getReader().getBody();
+        // without DisableCircularReferenceDetect the parser keeps a context entry for every row read, defeating the point of streaming
+        this.reader = new JSONReader(new InputStreamReader(this.body, StandardCharsets.UTF_8), Feature.DisableCircularReferenceDetect);
+    }
+
+    /**
+     * Starts decoding the response body currently pending on the channel, reading up to the first row.
+     *
+     * @param channel
+     *            leased channel positioned at the response body; owned by the returned stream
+     * @return row stream
+     * @throws IOException
+     *             if reading fails
+     */
+    static JsonRowStream open(HttpChannel channel) throws IOException {
+        JsonRowStream stream = new JsonRowStream(channel);
+        stream.reader.startObject();
+        stream.advance();
+        return stream;
+    }
+
+    public JSONArray getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * @return the next row, or null after the last one
+     * @throws IOException
+     *             if reading fails
+     */
+    public JSONArray next() throws IOException {
+        if (this.inResult) {
+            if (this.reader.hasNext()) {
+                return this.reader.readObject(JSONArray.class);
+            }
+            this.reader.endArray();
+            this.inResult = false;
+            advance();
+        }
+        if (this.bufferedRows != null && this.bufferedPos < this.bufferedRows.size()) {
+            return this.bufferedRows.getJSONArray(this.bufferedPos++);
+        }
+        return null;
+    }
+
+    /**
+     * Releases the connection. If rows are still pending the connection is closed rather than drained.
+     */
+    public void close() {
+        if (!this.done) {
+            this.done = true;
+            this.channel.discard();
+        }
+        this.bufferedRows = null;
+    }
+
+    /**
+     * Reads top level members until positioned at the first row of "result" with the columns known, or until the end of the document.
+     */
+    private void advance() throws IOException {
+        while (this.reader.hasNext()) {
+            String key = this.reader.readString();
+            if ("columns".equals(key)) {
+                this.columns = this.reader.readObject(JSONArray.class).getJSONArray(0);
+            } else if ("result".equals(key)) {
+                if (this.columns != null) {
+                    this.reader.startArray();
+                    this.inResult = true;
+                    return;
+                }
+                this.bufferedRows = this.reader.readObject(JSONArray.class);
+            } else {
+                this.reader.readObject();
+            }
+        }
+        this.reader.endObject();
+        // trailing whitespace must be consumed before the connection can be reused
+        byte[] skip = new byte[64];
+        while (this.body.read(skip) != -1) {
+            // discard
+        }
+        this.done = true;
+        this.channel.release();
+    }
+}
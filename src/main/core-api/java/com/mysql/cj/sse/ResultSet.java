@@ -3,29 +3,70 @@ package com.mysql.cj.sse;
 
 import com.alibaba.fastjson.JSONArray;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
+/**
+ * Rows of a gateway query. Rows are read forward from the first to the last; columns are addressed either by label or, as in JDBC, by a 1-based
+ * index.
+ */
 public class ResultSet {
 
-    public boolean next(){
-        if (this.current > 0){
-            this.current = this.current - 1;
+    public boolean next() throws SQLException {
+        if (this.columnar != null) {
+            try {
+                return this.columnar.next();
+            } catch (IOException | RuntimeException e) {
+                this.columnar.close();
+                throw new SQLException("Communication failure while reading rows", "08S01", e);
+            }
+        }
+        if (this.rowStream != null) {
+            try {
+                this.currentRow = this.rowStream.next();
+            } catch (IOException | RuntimeException e) {
+                this.rowStream.close();
+                throw new SQLException("Communication failure while reading rows", "08S01", e);
+            }
+            if (this.columns == null) {
+                setColumns(this.rowStream.getColumns());
+            }
+            if (this.currentRow == null) {
+                this.rowStream.close();
+                return false;
+            }
             return true;
         }
-        else{
-            return false;
+        if (this.values != null && this.current + 1 < this.values.size()) {
+            this.current++;
+            this.currentRow = this.values.getJSONArray(this.current);
+            return true;
         }
+        this.current = this.values == null ? -1 : this.values.size();
+        this.currentRow = null;
+        return false;
     }
 
+    /**
+     * @return 0-based index of the current row in {@link #getValues()}, -1 before the first row
+     */
     public int getCurrent() {
         return current;
     }
 
     public void setCurrent(int current) {
         this.current = current;
+        this.currentRow = this.values != null && current >= 0 && current < this.values.size() ? this.values.getJSONArray(current) : null;
     }
 
-    private int current = 0;
+    private int current = -1;
 
     public JSONArray getValues() {
         return values;
@@ -33,6 +74,8 @@ public class ResultSet {
 
     public void setValues(JSONArray values) {
         this.values = values;
+        this.current = -1;
+        this.currentRow = null;
     }
 
     public JSONArray getColumns() {
@@ -41,30 +84,395 @@ public class ResultSet {
 
     public void setColumns(JSONArray columns) {
         this.columns = columns;
+        this.columnIndex = null;
+    }
+
+    /**
+     * Makes this result set read its rows incrementally from the given stream instead of from {@link #getValues()}.
+     */
+    void setRowStream(JsonRowStream rowStream) {
+        this.rowStream = rowStream;
+        setColumns(rowStream.getColumns());
+    }
+
+    /**
+     * Makes this result set read its rows from a columnar response instead of from {@link #getValues()}.
+     */
+    void setColumnarRows(ColumnarRows columnar) {
+        this.columnar = columnar;
+        setColumns(columnar.getColumns());
     }
 
     private JSONArray values;
     private JSONArray columns;
 
+    private JsonRowStream rowStream;
+    private JSONArray currentRow;
+    private ColumnarRows columnar;
 
-    public String getString(String str){
-        int index = -1;
-        for (int i=0 ; i< this.getColumns().size(); i++){
-            if (str.equals(this.getColumns().get(i))){
-                index = i;
-                break;
+    /** Label to 0-based column index, built on first lookup. Labels are also registered lower-cased for case-insensitive matches. */
+    private Map<String, Integer> columnIndex;
+    private boolean wasNull;
+
+    /**
+     * @param label
+     *            column label
+     * @return the 1-based index of the column
+     * @throws SQLException
+     *             if there is no such column
+     */
+    public int findColumn(String label) throws SQLException {
+        int index = indexOf(label);
+        if (index < 0) {
+            throw new SQLException("Column '" + label + "' not found.", "S0022");
+        }
+        return index + 1;
+    }
+
+    /**
+     * @return the cells of the current row, null when not positioned on a row. Rows of a columnar result are boxed into a new array on every call.
+     */
+    public JSONArray getRow() {
+        if (this.columnar != null) {
+            if (!this.columnar.isOnRow()) {
+                return null;
+            }
+            int n = getColumnCount();
+            JSONArray row = new JSONArray(n);
+            for (int i = 0; i < n; i++) {
+                row.add(this.columnar.getBlock().getObject(i, this.columnar.getRow()));
             }
+            return row;
         }
+        return this.currentRow;
+    }
+
+    public int getColumnCount() {
+        return this.columns == null ? 0 : this.columns.size();
+    }
+
+    /**
+     * @return true if the last column read was null
+     */
+    public boolean wasNull() {
+        return this.wasNull;
+    }
+
+    public String getString(String str){
+        int index = indexOf(str);
         if (index< 0){
             return null;
         }
         else{
-            return this.getValues().getJSONArray(this.current).getString(index);
+            return getString0(index);
         }
     }
 
-    public void close() throws SQLException {
+    public String getString(int columnIndex) throws SQLException {
+        return getString0(checkColumn(columnIndex));
+    }
+
+    public int getInt(String label) throws SQLException {
+        return getInt(findColumn(label));
+    }
+
+    public int getInt(int columnIndex) throws SQLException {
+        int index = checkColumn(columnIndex);
+        if (this.columnar != null && this.columnar.getBlock().isIntegral(index)) {
+            long l = columnarLong(index);
+            if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+                throw new SQLException("Value '" + l + "' is outside of valid range for type int", "22003");
+            }
+            return (int) l;
+        }
+        Object v = cell(index);
+        if (v == null) {
+            return 0;
+        }
+        if (v instanceof Integer) {
+            return (Integer) v;
+        }
+        long l = toLong(v, columnIndex);
+        if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+            throw new SQLException("Value '" + v + "' is outside of valid range for type int", "22003");
+        }
+        return (int) l;
+    }
+
+    public long getLong(String label) throws SQLException {
+        return getLong(findColumn(label));
+    }
+
+    public long getLong(int columnIndex) throws SQLException {
+        int index = checkColumn(columnIndex);
+        if (this.columnar != null && this.columnar.getBlock().isIntegral(index)) {
+            return columnarLong(index);
+        }
+        Object v = cell(index);
+        return v == null ? 0 : toLong(v, columnIndex);
+    }
+
+    public double getDouble(String label) throws SQLException {
+        return getDouble(findColumn(label));
+    }
+
+    public double getDouble(int columnIndex) throws SQLException {
+        int index = checkColumn(columnIndex);
+        if (this.columnar != null) {
+            ColumnarBlock block = this.columnar.getBlock();
+            if (block.getType(index) == ColumnarDecoder.TYPE_DOUBLE) {
+                int row = this.columnar.getRow();
+                this.wasNull = block.isNull(index, row);
+                return block.getDouble(index, row);
+            } else if (block.isIntegral(index)) {
+                return columnarLong(index);
+            }
+        }
+        Object v = cell(index);
+        if (v == null) {
+            return 0;
+        }
+        if (v instanceof Number) {
+            return ((Number) v).doubleValue();
+        }
+        if (v instanceof Boolean) {
+            return (Boolean) v ? 1 : 0;
+        }
+        try {
+            return Double.parseDouble(v.toString().trim());
+        } catch (NumberFormatException e) {
+            throw conversionError(v, "double", e);
+        }
+    }
+
+    public BigDecimal getBigDecimal(String label) throws SQLException {
+        return getBigDecimal(findColumn(label));
+    }
+
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        Object v = cell(checkColumn(columnIndex));
+        if (v == null) {
+            return null;
+        }
+        if (v instanceof BigDecimal) {
+            return (BigDecimal) v;
+        }
+        if (v instanceof Integer || v instanceof Long) {
+            return BigDecimal.valueOf(((Number) v).longValue());
+        }
+        if (v instanceof BigInteger) {
+            return new BigDecimal((BigInteger) v);
+        }
+        if (v instanceof Number) {
+            return BigDecimal.valueOf(((Number) v).doubleValue());
+        }
+        try {
+            return new BigDecimal(v.toString().trim());
+        } catch (NumberFormatException e) {
+            throw conversionError(v, "BigDecimal", e);
+        }
+    }
+
+    public Timestamp getTimestamp(String label) throws SQLException {
+        return getTimestamp(findColumn(label));
+    }
 
+    /**
+     * Numbers are read as milliseconds since the epoch, strings in the <code>yyyy-mm-dd[( |T)hh:mm:ss[.f...]]</code> format.
+     */
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        Object v = cell(checkColumn(columnIndex));
+        if (v == null) {
+            return null;
+        }
+        if (v instanceof Timestamp) {
+            return (Timestamp) v;
+        }
+        if (v instanceof Number) {
+            return new Timestamp(((Number) v).longValue());
+        }
+        String s = v.toString().trim();
+        try {
+            if (s.length() == 10) {
+                return Timestamp.valueOf(s + " 00:00:00");
+            }
+            if (s.length() > 10 && s.charAt(10) == 'T') {
+                s = s.substring(0, 10) + ' ' + s.substring(11);
+            }
+            return Timestamp.valueOf(s);
+        } catch (IllegalArgumentException e) {
+            throw conversionError(v, "Timestamp", e);
+        }
+    }
+
+    public Object getObject(int columnIndex) throws SQLException {
+        return cell(checkColumn(columnIndex));
+    }
+
+    public Object getObject(String label) throws SQLException {
+        return getObject(findColumn(label));
+    }
+
+    private int indexOf(String label) {
+        if (this.columnIndex == null) {
+            if (this.columns == null) {
+                return -1;
+            }
+            int n = this.columns.size();
+            Map<String, Integer> index = new HashMap<>(n * 4 / 3 + 1);
+            for (int i = n - 1; i >= 0; i--) {
+                // walking backwards lets the first of duplicated labels win
+                String name = String.valueOf(this.columns.get(i));
+                index.put(name.toLowerCase(Locale.ROOT), i);
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                index.put(String.valueOf(this.columns.get(i)), i);
+            }
+            this.columnIndex = index;
+        }
+        Integer i = this.columnIndex.get(label);
+        if (i == null) {
+            i = this.columnIndex.get(label.toLowerCase(Locale.ROOT));
+        }
+        return i == null ? -1 : i;
+    }
+
+    private int checkColumn(int columnIndex) throws SQLException {
+        if (this.columnar != null ? !this.columnar.isOnRow() : this.currentRow == null) {
+            throw new SQLException("Before start of result set or after end of result set.", "S1000");
+        }
+        int count = this.columnar != null ? getColumnCount() : this.currentRow.size();
+        if (columnIndex < 1 || columnIndex > count) {
+            throw new SQLException("Column Index out of range, " + columnIndex + " > " + count + ".", "S1009");
+        }
+        return columnIndex - 1;
+    }
+
+    private long columnarLong(int index) {
+        ColumnarBlock block = this.columnar.getBlock();
+        int row = this.columnar.getRow();
+        this.wasNull = block.isNull(index, row);
+        return block.getLong(index, row);
+    }
+
+    private Object cell(int index) {
+        Object v = this.columnar != null ? this.columnar.getBlock().getObject(index, this.columnar.getRow()) : this.currentRow.get(index);
+        this.wasNull = v == null;
+        return v;
+    }
+
+    private String getString0(int index) {
+        if (this.columnar != null) {
+            if (!this.columnar.isOnRow()) {
+                return null;
+            }
+            Object v = cell(index);
+            return v == null ? null : v.toString();
+        }
+        JSONArray row = this.currentRow;
+        String s = row == null ? null : row.getString(index);
+        this.wasNull = s == null;
+        return s;
+    }
+
+    private long toLong(Object v, int columnIndex) throws SQLException {
+        if (v instanceof Integer || v instanceof Long || v instanceof Short || v instanceof Byte) {
+            return ((Number) v).longValue();
+        }
+        if (v instanceof BigDecimal) {
+            try {
+                return ((BigDecimal) v).setScale(0, RoundingMode.DOWN).longValueExact();
+            } catch (ArithmeticException e) {
+                throw conversionError(v, "long", e);
+            }
+        }
+        if (v instanceof BigInteger) {
+            try {
+                return ((BigInteger) v).longValueExact();
+            } catch (ArithmeticException e) {
+                throw conversionError(v, "long", e);
+            }
+        }
+        if (v instanceof Number) {
+            return ((Number) v).longValue();
+        }
+        if (v instanceof Boolean) {
+            return (Boolean) v ? 1 : 0;
+        }
+        return parseLong(v.toString());
+    }
+
+    /**
+     * Parses an integral value from its text, accepting a fractional part that is truncated as MySQL does for numeric strings.
+     */
+    private static long parseLong(String s) throws SQLException {
+        int len = s.length();
+        int i = 0;
+        while (i < len && s.charAt(i) == ' ') {
+            i++;
+        }
+        while (len > i && s.charAt(len - 1) == ' ') {
+            len--;
+        }
+        boolean negative = false;
+        if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        int start = i;
+        long v = 0;
+        for (; i < len; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            // accumulate negatively so that Long.MIN_VALUE fits
+            if (v < Long.MIN_VALUE / 10 || v * 10 < Long.MIN_VALUE + d) {
+                throw new SQLException("Value '" + s + "' is outside of valid range for type long", "22003");
+            }
+            v = v * 10 - d;
+        }
+        if (i == start || i < len && !isFraction(s, i, len)) {
+            try {
+                // exponents and the like
+                return new BigDecimal(s.trim()).setScale(0, RoundingMode.DOWN).longValueExact();
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw conversionError(s, "long", e);
+            }
+        }
+        if (!negative) {
+            if (v == Long.MIN_VALUE) {
+                throw new SQLException("Value '" + s + "' is outside of valid range for type long", "22003");
+            }
+            v = -v;
+        }
+        return v;
+    }
+
+    private static boolean isFraction(String s, int from, int to) {
+        if (s.charAt(from) != '.') {
+            return false;
+        }
+        for (int i = from + 1; i < to; i++) {
+            if (s.charAt(i) < '0' || s.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static SQLException conversionError(Object v, String type, Exception cause) {
+        return new SQLException("Cannot determine value type from string '" + v + "' for " + type, "S1009", cause);
+    }
+
+    public void close() throws SQLException {
+        if (this.rowStream != null) {
+            this.rowStream.close();
+        }
+        if (this.columnar != null) {
+            this.columnar.close();
+        }
+        this.currentRow = null;
     }
 
 
@@ -2,6 +2,7 @@ package com.mysql.cj.sse;
 
 import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
 import org.junit.platform.commons.util.StringUtils;
 
 import java.io.*;
@@ -16,25 +17,144 @@ import java.util.Map;
 public class Statement {
     public URI uri;
 
+    private final HttpConnectionPool pool;
+    private boolean streamResults;
+
     public Statement (URI uri){
+        this(uri, HttpConnectionPool.getInstance(uri));
+    }
+
+    Statement(URI uri, HttpConnectionPool pool) {
         this.uri = uri;
+        this.pool = pool;
+        this.streamResults = uri.isStreamResults();
     }
+
+    /**
+     * When enabled, rows are decoded from the HTTP response as {@link ResultSet#next()} is called instead of parsing the whole response up front.
+     * Memory use is then bounded by the size of one row, but the pooled connection stays leased until the result set is exhausted or closed.
+     */
+    public void setStreamResults(boolean streamResults) {
+        this.streamResults = streamResults;
+    }
+
+    public boolean isStreamResults() {
+        return this.streamResults;
+    }
+
     public ResultSet executeQuery(String sql) throws SQLException {
-        Map<String, String> headMap = new HashMap<>();
+        HttpChannel channel = send(sql, this.uri.isColumnarResults() ? ColumnarDecoder.ACCEPT : "application/json");
+        if (ColumnarDecoder.isColumnar(channel.getReader().getContentType())) {
+            try {
+                ResultSet resultSet = new ResultSet();
+                resultSet.setColumnarRows(ColumnarRows.open(channel, this.streamResults));
+                return resultSet;
+            } catch (IOException | RuntimeException e) {
+                channel.discard();
+                throw new SQLException("Communication failure with " + this.uri.url, "08S01", e);
+            }
+        }
+        if (this.streamResults) {
+            try {
+                ResultSet resultSet = new ResultSet();
+                resultSet.setRowStream(JsonRowStream.open(channel));
+                return resultSet;
+            } catch (IOException | RuntimeException e) {
+                channel.discard();
+                throw new SQLException("Communication failure with " + this.uri.url, "08S01", e);
+            }
+        }
 
-        Map maps = this.sendPost1(this.uri.url, "query="+sql + "&" + "db=" +
-                this.uri.db + "&" + "user=" + this.uri.username + "&" + "password=" + this.uri.password);
+        Map<String, Object> maps = readResponse(channel);
         JSONArray jsonArray = (JSONArray) maps.get("result");
         JSONArray jsonArray1 = (JSONArray) maps.get("columns");
 
         ResultSet resultSet = new ResultSet();
-        resultSet.setCurrent(jsonArray.size());
         resultSet.setValues(jsonArray);
         resultSet.setColumns(jsonArray1.getJSONArray(0));
 
         return resultSet;
     }
 
+    /**
+     * Runs a statement that returns no rows.
+     *
+     * @return the update count reported by the gateway in the "updateCount" member, or {@link java.sql.Statement#SUCCESS_NO_INFO} if the gateway
+     *         doesn't report one
+     */
+    public int executeUpdate(String sql) throws SQLException {
+        Map<String, Object> maps = readResponse(send(sql, "application/json"));
+        Object count = maps.get("updateCount");
+        return count instanceof Number ? ((Number) count).intValue() : java.sql.Statement.SUCCESS_NO_INFO;
+    }
+
+    /**
+     * Sends the query over a pooled keep-alive connection.
+     *
+     * @param accept
+     *            Accept header of the request, listing the response formats the caller can decode
+     * @return the leased channel, positioned at the body of a successful response
+     */
+    private HttpChannel send(String sql, String accept) throws SQLException {
+        HttpChannel channel;
+        try {
+            channel = this.pool.borrow();
+        } catch (IOException e) {
+            throw new SQLException("Unable to connect to " + this.uri.url, "08001", e);
+        }
+        try {
+            HttpRequestEncoder encoder = channel.getEncoder();
+            encoder.begin(this.pool.getPath(), this.pool.getHostHeader(), accept);
+            encoder.addField("query", sql);
+            encoder.addField("db", this.uri.db);
+            encoder.addField("user", this.uri.username);
+            encoder.addField("password", this.uri.password);
+            encoder.end();
+
+            HttpResponseReader response;
+            try {
+                response = channel.exchange();
+            } catch (IOException e) {
+                if (!channel.isRetryable()) {
+                    throw e;
+                }
+                // the server closed the idle keep-alive connection before it read the request
+                channel = this.pool.reopen(channel);
+                response = channel.exchange();
+            }
+            if (response.getStatusCode() / 100 != 2) {
+                response.readBody();
+                String message = response.getBufferAsString();
+                channel.release();
+                throw new SQLException("Gateway returned HTTP " + response.getStatusCode() + ": " + message, "08S01");
+            }
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.discard();
+            throw new SQLException("Communication failure with " + this.uri.url, "08S01", e);
+        }
+    }
+
+    /**
+     * Reads the whole response and parses the JSON straight from the response bytes, then hands the channel back to the pool.
+     */
+    private Map<String, Object> readResponse(HttpChannel channel) throws SQLException {
+        Map<String, Object> maps;
+        try {
+            HttpResponseReader response = channel.getReader();
+            int len = response.readBody();
+            maps = JSON.parseObject(response.getBuffer(), 0, len, StandardCharsets.UTF_8, JSONObject.class);
+        } catch (IOException | RuntimeException e) {
+            channel.discard();
+            throw new SQLException("Communication failure with " + this.uri.url, "08S01", e);
+        }
+        channel.release();
+        if (maps == null) {
+            throw new SQLException("Empty response from " + this.uri.url, "08S01");
+        }
+        return maps;
+    }
+
     public void close() throws SQLException {
 
     }
@@ -99,6 +219,9 @@ public class Statement {
         return result;
     }
 
+    /**
+     * Legacy single-shot transport, one new {@link HttpURLConnection} per request. Kept for callers that use it directly.
+     */
     public  Map sendPost1(String curl, String param) {
         String result = "";// 返回的结果
         BufferedReader in = null;// 读取响应输入流
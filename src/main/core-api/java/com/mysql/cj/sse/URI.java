@@ -2,6 +2,10 @@ package com.mysql.cj.sse;
 
 public class URI {
 
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+    public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+    public static final int DEFAULT_IDLE_TIMEOUT = 30000;
+
     public String url;
     public String username;
     public String password;
@@ -16,6 +20,19 @@ public class URI {
 
     public String db;
 
+    /** Upper bound of concurrent HTTP connections (and so in-flight queries) to the gateway. */
+    public int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    /** Socket connect timeout in milliseconds, 0 means no timeout. */
+    public int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    /** Socket read timeout in milliseconds, 0 means no timeout. */
+    public int socketTimeout = 0;
+    /** Keep-alive connections idle for longer than this many milliseconds are not reused. */
+    public int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    /** Decode rows incrementally off the response stream, see {@link Statement#setStreamResults(boolean)}. */
+    public boolean streamResults = false;
+    /** Ask the gateway for the binary columnar result format, see {@link ColumnarDecoder}. JSON responses are still accepted. */
+    public boolean columnarResults = false;
+
     public String getUrl() {
         return url;
     }
@@ -40,6 +57,52 @@ public class URI {
         this.password = password;
     }
 
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(int socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public int getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(int idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public boolean isStreamResults() {
+        return streamResults;
+    }
+
+    public void setStreamResults(boolean streamResults) {
+        this.streamResults = streamResults;
+    }
 
+    public boolean isColumnarResults() {
+        return columnarResults;
+    }
+
+    public void setColumnarResults(boolean columnarResults) {
+        this.columnarResults = columnarResults;
+    }
 
 }
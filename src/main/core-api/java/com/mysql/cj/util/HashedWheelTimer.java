@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A timer for many short-lived timeouts, most of which are cancelled before they expire, as query timeouts are.
+ * 
+ * The timeouts are kept in a wheel of buckets, one per tick, each holding a doubly linked list of the timeouts expiring on the ticks mapped to it. Scheduling
+ * and cancelling a timeout are constant time operations. A single daemon thread advances the wheel while timeouts are pending, and runs the tasks of the
+ * expired ones; tasks must hand any lengthy work to another thread. Timeouts expire up to one tick late. The thread sleeps over the ticks whose buckets are
+ * empty, and ends once the timer has been idle for a while; the next timeout starts a new one.
+ */
+public class HashedWheelTimer {
+
+    /**
+     * A scheduled task, which can be cancelled until it runs.
+     */
+    public final class Timeout {
+        private final Runnable task;
+        private final long deadlineTick;
+        private Timeout prev;
+        private Timeout next;
+        /** Bucket holding this timeout, null once it expired or was cancelled. */
+        private Bucket bucket;
+
+        Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancels this timeout.
+         * 
+         * @return true if the timeout was pending, false if its task already ran or is running, or it was already cancelled
+         */
+        public boolean cancel() {
+            HashedWheelTimer.this.lock.lock();
+            try {
+                if (this.bucket == null) {
+                    return false;
+                }
+                this.bucket.remove(this);
+                HashedWheelTimer.this.pending--;
+            } finally {
+                HashedWheelTimer.this.lock.unlock();
+            }
+            HashedWheelTimer.this.cancelledCount.incrementAndGet();
+            return true;
+        }
+    }
+
+    private static final class Bucket {
+        Timeout head;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.next = this.head;
+            if (this.head != null) {
+                this.head.prev = timeout;
+            }
+            this.head = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                this.head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private static final long DEFAULT_IDLE_MILLIS = 10000;
+
+    private final String threadName;
+    private final long tickNanos;
+    private final long idleNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startNanos = System.nanoTime();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition timeoutsPending = this.lock.newCondition();
+    /** Number of timeouts in the wheel, guarded by the lock. */
+    private int pending = 0;
+    /** Last tick whose bucket was processed, guarded by the lock. */
+    private long lastTick;
+    /** Tick the worker sleeps until, guarded by the lock. */
+    private long wakeTick = Long.MAX_VALUE;
+    /** The timer thread, null when it isn't running, guarded by the lock. */
+    private Thread worker;
+
+    private final AtomicLong scheduledCount = new AtomicLong();
+    private final AtomicLong firedCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+
+    /**
+     * Creates a timer. Its thread is started when the first timeout is scheduled.
+     * 
+     * @param threadName
+     *            name of the timer thread
+     * @param tickMillis
+     *            tick duration in milliseconds, the precision of the timer
+     * @param wheelSize
+     *            number of buckets, rounded up to a power of 2
+     */
+    public HashedWheelTimer(String threadName, long tickMillis, int wheelSize) {
+        this(threadName, tickMillis, wheelSize, DEFAULT_IDLE_MILLIS);
+    }
+
+    /**
+     * Creates a timer. Its thread is started when the first timeout is scheduled.
+     * 
+     * @param threadName
+     *            name of the timer thread
+     * @param tickMillis
+     *            tick duration in milliseconds, the precision of the timer
+     * @param wheelSize
+     *            number of buckets, rounded up to a power of 2
+     * @param idleMillis
+     *            time in milliseconds without pending timeouts after which the thread ends
+     */
+    public HashedWheelTimer(String threadName, long tickMillis, int wheelSize, long idleMillis) {
+        this.threadName = threadName;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, idleMillis));
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.lastTick = currentTick();
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - this.startNanos) / this.tickNanos;
+    }
+
+    /**
+     * Schedules a task.
+     * 
+     * @param task
+     *            task to run once the delay expired, in the timer thread
+     * @param delayMillis
+     *            delay in milliseconds
+     * @return the timeout, to cancel it
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        // the current tick is partially elapsed, the deadline is rounded up to the next one
+        long deadlineTick = (System.nanoTime() - this.startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis)) + this.tickNanos - 1)
+                / this.tickNanos;
+        Timeout timeout = new Timeout(task, deadlineTick);
+        this.lock.lock();
+        try {
+            // ticks already processed aren't looked at again
+            long tick = Math.max(deadlineTick, this.lastTick + 1);
+            this.wheel[(int) (tick & this.mask)].add(timeout);
+            this.pending++;
+            if (this.worker == null) {
+                this.worker = new Thread(this::runWorker, this.threadName);
+                this.worker.setDaemon(true);
+                this.worker.start();
+            } else if (tick < this.wakeTick) {
+                this.timeoutsPending.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        this.scheduledCount.incrementAndGet();
+        return timeout;
+    }
+
+    private void runWorker() {
+        Thread self = Thread.currentThread();
+        while (true) {
+            Timeout expired = null;
+            this.lock.lock();
+            try {
+                long tick;
+                while (true) {
+                    if (this.worker != self) {
+                        // stopped
+                        return;
+                    }
+                    if (this.pending == 0) {
+                        this.wakeTick = Long.MAX_VALUE;
+                        if (this.timeoutsPending.awaitNanos(this.idleNanos) <= 0 && this.pending == 0 && this.worker == self) {
+                            this.worker = null;
+                            return;
+                        }
+                        continue;
+                    }
+                    tick = currentTick();
+                    long busyTick = nextBusyTick();
+                    if (busyTick <= tick) {
+                        break;
+                    }
+                    this.wakeTick = busyTick;
+                    long waitNanos = busyTick * this.tickNanos - (System.nanoTime() - this.startNanos);
+                    if (waitNanos > 0) {
+                        this.timeoutsPending.awaitNanos(waitNanos);
+                    }
+                }
+                this.wakeTick = Long.MAX_VALUE;
+
+                // after a long pause, going once around the wheel processes all the buckets
+                long from = Math.max(this.lastTick + 1, tick - this.mask);
+                for (long t = from; t <= tick; t++) {
+                    Bucket bucket = this.wheel[(int) (t & this.mask)];
+                    for (Timeout timeout = bucket.head; timeout != null;) {
+                        Timeout next = timeout.next;
+                        if (timeout.deadlineTick <= tick) {
+                            bucket.remove(timeout);
+                            this.pending--;
+                            timeout.next = expired;
+                            expired = timeout;
+                        }
+                        timeout = next;
+                    }
+                }
+                this.lastTick = tick;
+            } catch (InterruptedException e) {
+                // the thread isn't interrupted by the timer
+            } finally {
+                this.lock.unlock();
+            }
+
+            while (expired != null) {
+                Timeout next = expired.next;
+                expired.next = null;
+                this.firedCount.incrementAndGet();
+                try {
+                    expired.task.run();
+                } catch (Throwable t) {
+                    // a failing task doesn't stop the timer
+                }
+                expired = next;
+            }
+        }
+    }
+
+    /**
+     * Returns the first tick after the last one processed whose bucket holds timeouts, the earliest one any timeout can expire on. Must be called holding the
+     * lock, with timeouts pending.
+     */
+    private long nextBusyTick() {
+        for (long t = this.lastTick + 1; t <= this.lastTick + this.wheel.length; t++) {
+            if (this.wheel[(int) (t & this.mask)].head != null) {
+                return t;
+            }
+        }
+        return this.lastTick + 1;
+    }
+
+    /**
+     * Stops the timer thread, e.g. when the driver is unloaded. Pending timeouts expire once a new timeout is scheduled, which starts a new thread.
+     */
+    public void stop() {
+        this.lock.lock();
+        try {
+            this.worker = null;
+            this.timeoutsPending.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the timer thread is running
+     */
+    boolean isRunning() {
+        this.lock.lock();
+        try {
+            return this.worker != null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of timeouts scheduled since the timer was created
+     */
+    public long getScheduledCount() {
+        return this.scheduledCount.get();
+    }
+
+    /**
+     * @return number of timeouts which expired and whose task was run
+     */
+    public long getFiredCount() {
+        return this.firedCount.get();
+    }
+
+    /**
+     * @return number of timeouts cancelled before they expired
+     */
+    public long getCancelledCount() {
+        return this.cancelledCount.get();
+    }
+
+    /**
+     * @return number of timeouts waiting to expire
+     */
+    public int getPendingCount() {
+        this.lock.lock();
+        try {
+            return this.pending;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -33,6 +33,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
@@ -60,8 +62,8 @@ public abstract class AbstractQuery implements Query {
     /** The character encoding to use (if available) */
     protected String charEncoding = null;
 
-    /** Mutex to prevent race between returning query results and noticing that query has been timed-out or cancelled. */
-    protected Object cancelTimeoutMutex = new Object();
+    /** Lock to prevent race between returning query results and noticing that query has been timed-out or cancelled. */
+    protected Lock cancelTimeoutLock = new ReentrantLock();
 
     private CancelStatus cancelStatus = CancelStatus.NOT_CANCELED;
 
@@ -122,18 +124,24 @@ public abstract class AbstractQuery implements Query {
 
     @Override
     public void checkCancelTimeout() {
-        synchronized (this.cancelTimeoutMutex) {
+        this.cancelTimeoutLock.lock();
+        try {
             if (this.cancelStatus != CancelStatus.NOT_CANCELED) {
                 CJException cause = this.cancelStatus == CancelStatus.CANCELED_BY_TIMEOUT ? new CJTimeoutException() : new OperationCancelledException();
                 resetCancelledState();
                 throw cause;
             }
+        } finally {
+            this.cancelTimeoutLock.unlock();
         }
     }
 
     public void resetCancelledState() {
-        synchronized (this.cancelTimeoutMutex) {
+        this.cancelTimeoutLock.lock();
+        try {
             this.cancelStatus = CancelStatus.NOT_CANCELED;
+        } finally {
+            this.cancelTimeoutLock.unlock();
         }
     }
 
@@ -149,8 +157,8 @@ public abstract class AbstractQuery implements Query {
     }
 
     @Override
-    public Object getCancelTimeoutMutex() {
-        return this.cancelTimeoutMutex;
+    public Lock getCancelTimeoutLock() {
+        return this.cancelTimeoutLock;
     }
 
     public void closeQuery() {
@@ -210,7 +218,7 @@ public abstract class AbstractQuery implements Query {
     public CancelQueryTask startQueryTimer(Query stmtToCancel, int timeout) {
         if (this.session.getPropertySet().getBooleanProperty(PropertyKey.enableQueryTimeouts).getValue() && timeout != 0) {
             CancelQueryTaskImpl timeoutTask = new CancelQueryTaskImpl(stmtToCancel);
-            this.session.getCancelTimer().schedule(timeoutTask, timeout);
+            timeoutTask.schedule(timeout);
             return timeoutTask;
         }
         return null;
@@ -225,8 +233,6 @@ public abstract class AbstractQuery implements Query {
                 throw ExceptionFactory.createException(t.getMessage(), t);
             }
 
-            this.session.getCancelTimer().purge();
-
             if (checkCancelTimeout) {
                 checkCancelTimeout();
             }
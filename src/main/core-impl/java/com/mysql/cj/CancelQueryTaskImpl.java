@@ -29,26 +29,24 @@
 
 package com.mysql.cj;
 
-import java.util.TimerTask;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Query.CancelStatus;
-import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.OperationCancelledException;
-import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.util.HashedWheelTimer;
 
 //TODO should not be protocol-specific
 
 /**
- * Thread used to implement query timeouts...Eventually we could be more
- * efficient and have one thread with timers, but this is a straightforward
- * and simple way to implement a feature that isn't used all that often.
+ * Query timeout, scheduled in the timer shared by all sessions. When it expires, the query is killed by {@link KillSessionPool}, in one of its threads.
  */
-public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
+public class CancelQueryTaskImpl implements Runnable, CancelQueryTask {
 
     Query queryToCancel;
     Throwable caughtWhileCancelling = null;
     boolean queryTimeoutKillsConnection = false;
+    private HashedWheelTimer.Timeout timeout;
 
     public CancelQueryTaskImpl(Query cancellee) {
         this.queryToCancel = cancellee;
@@ -56,77 +54,61 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
         this.queryTimeoutKillsConnection = session.getPropertySet().getBooleanProperty(PropertyKey.queryTimeoutKillsConnection).getValue();
     }
 
+    /**
+     * Schedules this task in the timer shared by all sessions.
+     * 
+     * @param timeoutMillis
+     *            query timeout in milliseconds
+     */
+    public void schedule(int timeoutMillis) {
+        this.timeout = NativeSession.getCancelTimer().schedule(this, timeoutMillis);
+    }
+
     @Override
     public boolean cancel() {
-        boolean res = super.cancel();
+        HashedWheelTimer.Timeout localTimeout = this.timeout;
+        boolean res = localTimeout != null && localTimeout.cancel();
         this.queryToCancel = null;
         return res;
     }
 
     @Override
     public void run() {
+        // the timer thread is shared by all sessions, killing the query is left to another thread
+        KillSessionPool.getInstance().execute(() -> {
+            Query localQueryToCancel = CancelQueryTaskImpl.this.queryToCancel;
+            if (localQueryToCancel == null) {
+                return;
+            }
+            NativeSession session = (NativeSession) localQueryToCancel.getSession();
+            if (session == null) {
+                return;
+            }
 
-        Thread cancelThread = new Thread() {
-
-            @Override
-            public void run() {
-                Query localQueryToCancel = CancelQueryTaskImpl.this.queryToCancel;
-                if (localQueryToCancel == null) {
-                    return;
-                }
-                NativeSession session = (NativeSession) localQueryToCancel.getSession();
-                if (session == null) {
-                    return;
-                }
-
-                try {
-                    if (CancelQueryTaskImpl.this.queryTimeoutKillsConnection) {
+            try {
+                if (CancelQueryTaskImpl.this.queryTimeoutKillsConnection) {
+                    localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
+                    session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
+                } else {
+                    Lock cancelTimeoutLock = localQueryToCancel.getCancelTimeoutLock();
+                    cancelTimeoutLock.lock();
+                    try {
+                        KillSessionPool.getInstance().killQuery(session);
                         localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
-                    } else {
-                        synchronized (localQueryToCancel.getCancelTimeoutMutex()) {
-                            long origConnId = session.getThreadId();
-                            HostInfo hostInfo = session.getHostInfo();
-                            String database = hostInfo.getDatabase();
-                            String user = hostInfo.getUser();
-                            String password = hostInfo.getPassword();
-
-                            NativeSession newSession = null;
-                            try {
-                                newSession = new NativeSession(hostInfo, session.getPropertySet());
-                                newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-                                    @Override
-                                    public void transactionCompleted() {
-                                    }
-
-                                    public void transactionBegun() {
-                                    }
-                                });
-                                newSession.getProtocol().sendCommand(new NativeMessageBuilder(newSession.getServerSession().supportsQueryAttributes())
-                                        .buildComQuery(newSession.getSharedSendPacket(), "KILL QUERY " + origConnId), false, 0);
-                            } finally {
-                                try {
-                                    newSession.forceClose();
-                                } catch (Throwable t) {
-                                    // no-op.
-                                }
-                            }
-                            localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        }
+                    } finally {
+                        cancelTimeoutLock.unlock();
                     }
-                    // } catch (NullPointerException npe) {
-                    // Case when connection closed while starting to cancel.
-                    // We can't easily synchronize this, because then one thread can't cancel() a running query.
-                    // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
-                } catch (Throwable t) {
-                    CancelQueryTaskImpl.this.caughtWhileCancelling = t;
-                } finally {
-                    setQueryToCancel(null);
                 }
+                // } catch (NullPointerException npe) {
+                // Case when connection closed while starting to cancel.
+                // We can't easily synchronize this, because then one thread can't cancel() a running query.
+                // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
+            } catch (Throwable t) {
+                CancelQueryTaskImpl.this.caughtWhileCancelling = t;
+            } finally {
+                setQueryToCancel(null);
             }
-        };
-
-        cancelThread.start();
+        });
     }
 
     public Throwable getCaughtWhileCancelling() {
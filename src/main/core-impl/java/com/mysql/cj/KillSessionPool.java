@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.exceptions.CJCommunicationsException;
+import com.mysql.cj.protocol.a.NativeMessageBuilder;
+
+/**
+ * Sessions used to send "KILL QUERY" for the query timeouts and the cancellations of other sessions. Instead of opening a new session for each "KILL QUERY",
+ * a few idle sessions are kept per host and user, and closed after {@link #IDLE_TIMEOUT_MILLIS}. The kills are run by a small pool of daemon threads shared
+ * by all connections.
+ */
+public class KillSessionPool {
+
+    /** Maximum number of idle sessions kept per host and user. */
+    static final int MAX_IDLE_SESSIONS_PER_KEY = 2;
+
+    /** Time after which an idle session is closed. */
+    static final long IDLE_TIMEOUT_MILLIS = 60000;
+
+    private static final int MAX_THREADS = 8;
+    private static final int LOGIN_TIMEOUT_MILLIS = 30000;
+
+    private static final KillSessionPool INSTANCE = new KillSessionPool();
+
+    private static class IdleSession {
+        final NativeSession session;
+        final long idleSinceNanos = System.nanoTime();
+
+        IdleSession(NativeSession session) {
+            this.session = session;
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Lock lock = new ReentrantLock();
+    /** Idle sessions per host and user, most recently used first, guarded by the lock. */
+    private final Map<String, Deque<IdleSession>> idleSessions = new HashMap<>();
+    /** Whether an eviction of idle sessions is scheduled, guarded by the lock. */
+    private boolean evictionScheduled = false;
+
+    private final AtomicLong killCount = new AtomicLong();
+    private final AtomicLong sessionsOpenedCount = new AtomicLong();
+
+    /**
+     * @return the pool shared by all connections
+     */
+    public static KillSessionPool getInstance() {
+        return INSTANCE;
+    }
+
+    private KillSessionPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "MySQL Statement Cancellation Thread " + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs a task in one of the threads of the pool, so that the timer thread isn't held while a query is killed.
+     * 
+     * @param task
+     *            task
+     */
+    public void execute(Runnable task) {
+        this.executor.execute(task);
+    }
+
+    /**
+     * Kills the query currently executed by the given session, with "KILL QUERY", using an idle session to the same host as the same user if there is one.
+     * 
+     * @param session
+     *            session whose query is killed
+     * @throws IOException
+     *             if a session to send "KILL QUERY" can't be opened
+     */
+    public void killQuery(NativeSession session) throws IOException {
+        HostInfo hostInfo = session.getHostInfo();
+        String key = hostInfo.getHostPortPair() + '\0' + hostInfo.getUser() + '\0' + hostInfo.getPassword();
+        long threadId = session.getThreadId();
+
+        NativeSession killSession = borrow(key);
+        if (killSession != null) {
+            try {
+                sendKill(killSession, threadId);
+                giveBack(key, killSession);
+                return;
+            } catch (CJCommunicationsException e) {
+                // closed by the server while idle, a new session is opened
+                killSession.forceClose();
+            } catch (Throwable t) {
+                killSession.forceClose();
+                throw t;
+            }
+        }
+
+        killSession = new NativeSession(hostInfo, session.getPropertySet());
+        try {
+            killSession.connect(hostInfo, hostInfo.getUser(), hostInfo.getPassword(), hostInfo.getDatabase(), LOGIN_TIMEOUT_MILLIS,
+                    new TransactionEventHandler() {
+                        @Override
+                        public void transactionCompleted() {
+                        }
+
+                        @Override
+                        public void transactionBegun() {
+                        }
+                    });
+            this.sessionsOpenedCount.incrementAndGet();
+            sendKill(killSession, threadId);
+        } catch (Throwable t) {
+            killSession.forceClose();
+            throw t;
+        }
+        giveBack(key, killSession);
+    }
+
+    private void sendKill(NativeSession killSession, long threadId) {
+        killSession.getProtocol().sendCommand(new NativeMessageBuilder(killSession.getServerSession().supportsQueryAttributes())
+                .buildComQuery(killSession.getSharedSendPacket(), "KILL QUERY " + threadId), false, 0);
+        this.killCount.incrementAndGet();
+    }
+
+    private NativeSession borrow(String key) {
+        this.lock.lock();
+        try {
+            Deque<IdleSession> sessions = this.idleSessions.get(key);
+            IdleSession idle = sessions == null ? null : sessions.pollFirst();
+            return idle == null ? null : idle.session;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void giveBack(String key, NativeSession killSession) {
+        this.lock.lock();
+        try {
+            Deque<IdleSession> sessions = this.idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>());
+            if (sessions.size() < MAX_IDLE_SESSIONS_PER_KEY) {
+                sessions.addFirst(new IdleSession(killSession));
+                if (!this.evictionScheduled) {
+                    this.evictionScheduled = true;
+                    NativeSession.getCancelTimer().schedule(() -> execute(this::evictIdleSessions), IDLE_TIMEOUT_MILLIS);
+                }
+                return;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        killSession.quit();
+    }
+
+    private void evictIdleSessions() {
+        Deque<NativeSession> evicted = new ArrayDeque<>();
+        this.lock.lock();
+        try {
+            long now = System.nanoTime();
+            for (Iterator<Deque<IdleSession>> it = this.idleSessions.values().iterator(); it.hasNext();) {
+                Deque<IdleSession> sessions = it.next();
+                // the least recently used sessions are at the end
+                while (!sessions.isEmpty() && now - sessions.peekLast().idleSinceNanos >= TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MILLIS)) {
+                    evicted.add(sessions.pollLast().session);
+                }
+                if (sessions.isEmpty()) {
+                    it.remove();
+                }
+            }
+            this.evictionScheduled = !this.idleSessions.isEmpty();
+            if (this.evictionScheduled) {
+                NativeSession.getCancelTimer().schedule(() -> execute(this::evictIdleSessions), IDLE_TIMEOUT_MILLIS);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        for (NativeSession session : evicted) {
+            session.quit();
+        }
+    }
+
+    /**
+     * @return number of "KILL QUERY" statements sent
+     */
+    public long getKillCount() {
+        return this.killCount.get();
+    }
+
+    /**
+     * @return number of sessions opened to send "KILL QUERY"
+     */
+    public long getSessionsOpenedCount() {
+        return this.sessionsOpenedCount.get();
+    }
+
+    /**
+     * @return number of idle sessions kept
+     */
+    public int getIdleSessionsCount() {
+        this.lock.lock();
+        try {
+            int count = 0;
+            for (Deque<IdleSession> sessions : this.idleSessions.values()) {
+                count += sessions.size();
+            }
+            return count;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
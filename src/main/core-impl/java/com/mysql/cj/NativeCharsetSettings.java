@@ -122,6 +122,12 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
     private static final Map<String, Map<String, String>> customJavaEncodingUcToCharsetNameByUrl = new HashMap<>();
     private static final Map<String, Set<String>> customMultibyteEncodingsByUrl = new HashMap<>();
 
+    /**
+     * Version of the server and time the custom charsets of given server URLs were loaded from and at, to expire them.
+     */
+    private static final Map<String, String> customCharsetsServerVersionByUrl = new HashMap<>();
+    private static final Map<String, Long> customCharsetsLoadedAtByUrl = new HashMap<>();
+
     /**
      * We store the platform 'encoding' here, only used to avoid munging filenames for LOAD DATA LOCAL INFILE...
      */
@@ -532,6 +538,19 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
 
         if (this.cacheServerConfiguration.getValue()) {
             synchronized (customCollationIndexToCharsetNameByUrl) {
+                Long loadedAt = customCharsetsLoadedAtByUrl.get(databaseURL);
+                if (loadedAt != null && !this.session.isCachedServerConfigurationValid(customCharsetsServerVersionByUrl.get(databaseURL), loadedAt)) {
+                    customCollationIndexToCollationNameByUrl.remove(databaseURL);
+                    customCollationNameToCollationIndexByUrl.remove(databaseURL);
+                    customCollationIndexToCharsetNameByUrl.remove(databaseURL);
+                    customCharsetNameToMblenByUrl.remove(databaseURL);
+                    customCharsetNameToJavaEncodingByUrl.remove(databaseURL);
+                    customJavaEncodingUcToCharsetNameByUrl.remove(databaseURL);
+                    customCharsetNameToCollationIndexByUrl.remove(databaseURL);
+                    customMultibyteEncodingsByUrl.remove(databaseURL);
+                    customCharsetsServerVersionByUrl.remove(databaseURL);
+                    customCharsetsLoadedAtByUrl.remove(databaseURL);
+                }
                 customCollationIndexToCollationName = customCollationIndexToCollationNameByUrl.get(databaseURL);
                 customCollationNameToCollationIndex = customCollationNameToCollationIndexByUrl.get(databaseURL);
                 customCollationIndexToCharsetName = customCollationIndexToCharsetNameByUrl.get(databaseURL);
@@ -624,6 +643,8 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
                     customJavaEncodingUcToCharsetNameByUrl.put(databaseURL, Collections.unmodifiableMap(customJavaEncodingUcToCharsetName));
                     customCharsetNameToCollationIndexByUrl.put(databaseURL, Collections.unmodifiableMap(customCharsetNameToCollationIndex));
                     customMultibyteEncodingsByUrl.put(databaseURL, Collections.unmodifiableSet(customMultibyteEncodings));
+                    customCharsetsServerVersionByUrl.put(databaseURL, this.serverSession.getServerVersion().toString());
+                    customCharsetsLoadedAtByUrl.put(databaseURL, System.currentTimeMillis());
                 }
             }
         }
@@ -41,8 +41,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Timer;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import com.mysql.cj.conf.HostInfo;
@@ -72,11 +73,13 @@ import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.protocol.a.NativeServerSession;
 import com.mysql.cj.protocol.a.NativeSocketConnection;
 import com.mysql.cj.protocol.a.ResultsetFactory;
+import com.mysql.cj.protocol.a.result.OkPacket;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.LongValueFactory;
 import com.mysql.cj.result.Row;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
+import com.mysql.cj.util.HashedWheelTimer;
 import com.mysql.cj.util.StringUtils;
 
 public class NativeSession extends CoreSession implements Serializable {
@@ -101,7 +104,11 @@ public class NativeSession extends CoreSession implements Serializable {
 
     private CopyOnWriteArrayList<WeakReference<SessionEventListener>> listeners = new CopyOnWriteArrayList<>();
 
-    private transient Timer cancelTimer;
+    /** Timer of the query timeouts of all sessions, with a 10 ms precision. */
+    private static final HashedWheelTimer CANCEL_TIMER = new HashedWheelTimer("MySQL Statement Cancellation Timer", 10, 512);
+
+    /** Serializes the exchanges of prepared statements with the server and guards the cancel timer. */
+    private final Lock sessionLock = new ReentrantLock();
 
     public NativeSession(HostInfo hostInfo, PropertySet propSet) {
         super(hostInfo, propSet);
@@ -151,12 +158,6 @@ public class NativeSession extends CoreSession implements Serializable {
             }
 
         }
-        synchronized (this) {
-            if (this.cancelTimer != null) {
-                this.cancelTimer.cancel();
-                this.cancelTimer = null;
-            }
-        }
         this.isClosed = true;
         super.quit();
     }
@@ -177,12 +178,6 @@ public class NativeSession extends CoreSession implements Serializable {
             }
             //this.protocol = null; // TODO actually we shouldn't remove protocol instance because some it's methods can be called after closing socket
         }
-        synchronized (this) {
-            if (this.cancelTimer != null) {
-                this.cancelTimer.cancel();
-                this.cancelTimer = null;
-            }
-        }
         this.isClosed = true;
         super.forceClose();
     }
@@ -370,6 +365,60 @@ public class NativeSession extends CoreSession implements Serializable {
     // TODO what's the purpose of this variable?
     private final static String SERVER_VERSION_STRING_VAR_NAME = "server_version_string";
 
+    // time the cached server variables were loaded at, only kept in the cache
+    private final static String SERVER_CONFIG_LOADED_AT_VAR_NAME = "server_config_loaded_at";
+
+    /**
+     * Checks if server configuration cached from a server of the given version at the given time can be used by this session, i.e. this session's server has
+     * the same version and the configuration is younger than 'serverConfigCacheTtl'.
+     * 
+     * @param cachedServerVersion
+     *            version string of the server the configuration was loaded from
+     * @param loadedAtMillis
+     *            time the configuration was loaded at, in milliseconds since the epoch
+     * @return true if the cached configuration can be used
+     */
+    boolean isCachedServerConfigurationValid(String cachedServerVersion, long loadedAtMillis) {
+        if (cachedServerVersion == null || getServerSession().getServerVersion() == null
+                || !cachedServerVersion.equals(getServerSession().getServerVersion().toString())) {
+            return false;
+        }
+        int ttl = getPropertySet().getIntegerProperty(PropertyKey.serverConfigCacheTtl).getValue();
+        return ttl <= 0 || System.currentTimeMillis() - loadedAtMillis < ttl;
+    }
+
+    /**
+     * Sets this session's server variables from the server configuration cache, if it holds a configuration this session can use. A cached configuration
+     * that can't be used is evicted.
+     * 
+     * @param syncMutex
+     *            synchronization mutex
+     * @return true if the server variables were taken from the cache
+     */
+    boolean loadCachedServerVariables(Object syncMutex) {
+        createConfigCacheIfNeeded(syncMutex);
+
+        Map<String, String> cachedVariableMap = this.serverConfigCache.get(this.hostInfo.getDatabaseUrl());
+
+        if (cachedVariableMap != null) {
+            String cachedServerVersion = cachedVariableMap.get(SERVER_VERSION_STRING_VAR_NAME);
+            String loadedAt = cachedVariableMap.get(SERVER_CONFIG_LOADED_AT_VAR_NAME);
+
+            if (isCachedServerConfigurationValid(cachedServerVersion, loadedAt == null ? 0 : Long.parseLong(loadedAt))) {
+                Map<String, String> localVariableMap = this.protocol.getServerSession().getServerVariables();
+                Map<String, String> newLocalVariableMap = new HashMap<>();
+                newLocalVariableMap.putAll(cachedVariableMap);
+                newLocalVariableMap.remove(SERVER_CONFIG_LOADED_AT_VAR_NAME);
+                newLocalVariableMap.putAll(localVariableMap); // preserving variables already configured on previous session initialization steps
+                this.protocol.getServerSession().setServerVariables(newLocalVariableMap);
+                return true;
+            }
+
+            this.serverConfigCache.invalidate(this.hostInfo.getDatabaseUrl());
+        }
+        return false;
+    }
+
     /**
      * Loads the result of 'SHOW VARIABLES' into the serverVariables field so
      * that the driver can configure itself.
@@ -381,26 +430,8 @@ public class NativeSession extends CoreSession implements Serializable {
      */
     public void loadServerVariables(Object syncMutex, String version) {
 
-        if (this.cacheServerConfiguration.getValue()) {
-            createConfigCacheIfNeeded(syncMutex);
-
-            Map<String, String> cachedVariableMap = this.serverConfigCache.get(this.hostInfo.getDatabaseUrl());
-
-            if (cachedVariableMap != null) {
-                String cachedServerVersion = cachedVariableMap.get(SERVER_VERSION_STRING_VAR_NAME);
-
-                if (cachedServerVersion != null && getServerSession().getServerVersion() != null
-                        && cachedServerVersion.equals(getServerSession().getServerVersion().toString())) {
-                    Map<String, String> localVariableMap = this.protocol.getServerSession().getServerVariables();
-                    Map<String, String> newLocalVariableMap = new HashMap<>();
-                    newLocalVariableMap.putAll(cachedVariableMap);
-                    newLocalVariableMap.putAll(localVariableMap); // preserving variables already configured on previous session initialization steps
-                    this.protocol.getServerSession().setServerVariables(newLocalVariableMap);
-                    return;
-                }
-
-                this.serverConfigCache.invalidate(this.hostInfo.getDatabaseUrl());
-            }
+        if (this.cacheServerConfiguration.getValue() && loadCachedServerVariables(syncMutex)) {
+            return;
         }
 
         try {
@@ -485,6 +516,7 @@ public class NativeSession extends CoreSession implements Serializable {
             this.protocol.getServerSession().getServerVariables().put(SERVER_VERSION_STRING_VAR_NAME, getServerSession().getServerVersion().toString());
             Map<String, String> localVariableMap = new HashMap<>();
             localVariableMap.putAll(this.protocol.getServerSession().getServerVariables());
+            localVariableMap.put(SERVER_CONFIG_LOADED_AT_VAR_NAME, String.valueOf(System.currentTimeMillis()));
             this.serverConfigCache.put(this.hostInfo.getDatabaseUrl(), Collections.unmodifiableMap(localVariableMap));
         }
     }
@@ -741,6 +773,20 @@ public class NativeSession extends CoreSession implements Serializable {
         this.protocol.sendCommand(this.commandBuilder.buildComPing(null), false, timeoutMillis); // it isn't safe to use a shared packet here 
     }
 
+    /**
+     * Resets the session state on the server with COM_RESET_CONNECTION, which is cheaper than COM_CHANGE_USER as it doesn't re-authenticate. Session
+     * variables go back to their global values, temporary tables, user variables and prepared statements are dropped and any open transaction is rolled
+     * back. Requires MySQL 5.7.3 or later.
+     */
+    public void resetSessionState() {
+        checkClosed();
+        NativePacketPayload resultPacket = (NativePacketPayload) this.protocol.sendCommand(this.commandBuilder.buildComResetConnection(null), false, 0);
+        OkPacket ok = OkPacket.parse(resultPacket, getServerSession().getCharsetSettings().getErrorMessageEncoding());
+        // the autocommit mode is now the server default
+        getServerSession().setStatusFlags(ok.getStatusFlags());
+        getServerSession().setAutoCommit(getServerSession().isAutocommit());
+    }
+
     public long getConnectionCreationTimeMillis() {
         return this.connectionCreationTimeMillis;
     }
@@ -825,10 +871,16 @@ public class NativeSession extends CoreSession implements Serializable {
         return this.protocol != null && this.protocol.getServerSession().useAnsiQuotedIdentifiers() ? "\"" : "`";
     }
 
-    public synchronized Timer getCancelTimer() {
-        if (this.cancelTimer == null) {
-            this.cancelTimer = new Timer("MySQL Statement Cancellation Timer", Boolean.TRUE);
-        }
-        return this.cancelTimer;
+    public Lock getSessionLock() {
+        return this.sessionLock;
+    }
+
+    /**
+     * Returns the timer of the query timeouts, shared by all sessions.
+     * 
+     * @return timer
+     */
+    public static HashedWheelTimer getCancelTimer() {
+        return CANCEL_TIMER;
     }
 }
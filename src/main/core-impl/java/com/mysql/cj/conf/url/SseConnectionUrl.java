@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.conf.url;
+
+import java.util.Properties;
+
+import com.mysql.cj.conf.ConnectionUrl;
+import com.mysql.cj.conf.ConnectionUrlParser;
+
+/**
+ * Connection URL of the HTTP query gateway, <code>jdbc:mysql:sse://host[:port]/database</code>. The port defaults to the HTTP one.
+ */
+public class SseConnectionUrl extends ConnectionUrl {
+    public static final int DEFAULT_PORT = 80;
+
+    /**
+     * Constructs an instance of {@link SseConnectionUrl}, performing all the required initializations.
+     * 
+     * @param connStrParser
+     *            a {@link ConnectionUrlParser} instance containing the parsed version of the original connection string
+     * @param info
+     *            the connection arguments map
+     */
+    public SseConnectionUrl(ConnectionUrlParser connStrParser, Properties info) {
+        super(connStrParser, info);
+        this.type = Type.SSE_CONNECTION;
+    }
+
+    @Override
+    public int getDefaultPort() {
+        return DEFAULT_PORT;
+    }
+}
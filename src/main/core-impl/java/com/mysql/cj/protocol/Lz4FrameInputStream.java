@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.mysql.cj.Messages;
+
+/**
+ * An {@link InputStream} that decompresses data in the LZ4 frame format, as used by the X Protocol compression algorithm "lz4_message".
+ * 
+ * Both independent and linked blocks are supported, as well as concatenated and skippable frames. Header, block and content checksums are verified when
+ * present. Frames that depend on a dictionary are not supported.
+ */
+public class Lz4FrameInputStream extends FilterInputStream {
+    private static final int SKIPPABLE_MAGIC = 0x184D2A50;
+    private static final int HISTORY_SIZE = 64 * 1024;
+
+    private boolean inFrame = false;
+    private boolean independentBlocks;
+    private boolean blockChecksum;
+    private boolean contentChecksum;
+    private int maxBlockSize;
+    private XxHash32 contentHash = null;
+
+    private byte[] header = new byte[15];
+    private byte[] block = new byte[0];
+    private byte[] window = new byte[0];
+    private int windowPos = 0;
+    private int windowEnd = 0;
+
+    private byte[] singleByte = new byte[1];
+    private boolean closed = false;
+
+    public Lz4FrameInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Returns the number of decompressed bytes that can be read without reading from the underlying {@link InputStream}.
+     * 
+     * @see FilterInputStream#available()
+     */
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return this.windowEnd - this.windowPos;
+    }
+
+    /**
+     * Forwards the read to {@link #read(byte[], int, int)}.
+     * 
+     * @see FilterInputStream#read()
+     */
+    @Override
+    public int read() throws IOException {
+        int read = read(this.singleByte, 0, 1);
+        return read < 0 ? read : this.singleByte[0] & 0xff;
+    }
+
+    /**
+     * Forwards the read to {@link #read(byte[], int, int)}.
+     * 
+     * @see FilterInputStream#read(byte[])
+     */
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    /**
+     * Reads decompressed bytes, decompressing the next block from the underlying {@link InputStream} when the current one was fully consumed.
+     * 
+     * @see FilterInputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | (b.length - (len + off)) | (off + len)) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (this.windowPos == this.windowEnd) {
+            if (!nextBlock()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, this.windowEnd - this.windowPos);
+        System.arraycopy(this.window, this.windowPos, b, off, n);
+        this.windowPos += n;
+        return n;
+    }
+
+    /**
+     * Skips decompressed bytes, decompressing as much as needed.
+     * 
+     * @see FilterInputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        ensureOpen();
+        long skipped = 0;
+        while (skipped < n && (this.windowPos < this.windowEnd || nextBlock())) {
+            int s = (int) Math.min(n - skipped, this.windowEnd - this.windowPos);
+            this.windowPos += s;
+            skipped += s;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * Reads and decompresses the next block of the current frame or, after its end mark, the header of the next frame.
+     * 
+     * @return
+     *         <code>false</code> if the underlying {@link InputStream} ended after the last frame, <code>true</code> otherwise.
+     * @throws IOException
+     *             if any of the underlying I/O operations fail or the data is malformed.
+     */
+    private boolean nextBlock() throws IOException {
+        if (!this.inFrame) {
+            return readFrameHeader();
+        }
+
+        readFully(this.header, 0, 4);
+        int blockSize = readInt(this.header, 0);
+        if (blockSize == 0) { // End mark.
+            if (this.contentChecksum) {
+                readFully(this.header, 0, 4);
+                if (readInt(this.header, 0) != this.contentHash.getValue()) {
+                    throw malformed();
+                }
+            }
+            this.inFrame = false;
+            return true;
+        }
+        boolean uncompressed = blockSize < 0;
+        blockSize &= 0x7FFFFFFF;
+        if (blockSize > this.maxBlockSize) {
+            throw malformed();
+        }
+
+        int start = 0;
+        if (!this.independentBlocks) {
+            // Linked blocks may reference the last 64 KiB of decompressed data.
+            if (this.windowEnd + this.maxBlockSize > this.window.length) {
+                int keep = Math.min(this.windowEnd, HISTORY_SIZE);
+                byte[] newWindow = this.window.length < HISTORY_SIZE + this.maxBlockSize ? new byte[HISTORY_SIZE + this.maxBlockSize] : this.window;
+                System.arraycopy(this.window, this.windowEnd - keep, newWindow, 0, keep);
+                this.window = newWindow;
+                this.windowEnd = keep;
+            }
+            start = this.windowEnd;
+        } else if (this.window.length < this.maxBlockSize) {
+            this.window = new byte[this.maxBlockSize];
+        }
+
+        int decompressedSize;
+        if (uncompressed) {
+            readFully(this.window, start, blockSize);
+            decompressedSize = blockSize;
+            verifyBlockChecksum(this.window, start, blockSize);
+        } else {
+            if (this.block.length < blockSize) {
+                this.block = new byte[Math.max(blockSize, Math.min(this.block.length * 2, this.maxBlockSize))];
+            }
+            readFully(this.block, 0, blockSize);
+            verifyBlockChecksum(this.block, 0, blockSize);
+            decompressedSize = decompressBlock(this.block, blockSize, this.window, start, start + this.maxBlockSize,
+                    this.independentBlocks ? start : 0);
+        }
+        if (this.contentChecksum) {
+            this.contentHash.update(this.window, start, decompressedSize);
+        }
+        this.windowPos = start;
+        this.windowEnd = start + decompressedSize;
+        return true;
+    }
+
+    /**
+     * Reads the header of the next frame, skipping over skippable frames.
+     * 
+     * @return
+     *         <code>false</code> if the underlying {@link InputStream} ended before the next frame, <code>true</code> otherwise.
+     * @throws IOException
+     *             if any of the underlying I/O operations fail or the data is malformed.
+     */
+    private boolean readFrameHeader() throws IOException {
+        while (true) {
+            int first = this.in.read();
+            if (first < 0) {
+                return false;
+            }
+            this.header[0] = (byte) first;
+            readFully(this.header, 1, 3);
+            int magic = readInt(this.header, 0);
+            if ((magic & 0xFFFFFFF0) == SKIPPABLE_MAGIC) {
+                readFully(this.header, 0, 4);
+                long size = readInt(this.header, 0) & 0xFFFFFFFFL;
+                while (size > 0) {
+                    int n = (int) Math.min(size, this.header.length);
+                    readFully(this.header, 0, n);
+                    size -= n;
+                }
+                continue;
+            }
+            if (magic != Lz4FrameOutputStream.MAGIC) {
+                throw malformed();
+            }
+
+            readFully(this.header, 0, 2);
+            int flags = this.header[0];
+            int blockDescriptor = this.header[1];
+            if ((flags & 0xC2) != 0x40 || (blockDescriptor & 0x8F) != 0) { // Version 01 and reserved bits.
+                throw malformed();
+            }
+            int descriptorLength = 2 + ((flags & 0x08) != 0 ? 8 : 0) + ((flags & 0x01) != 0 ? 4 : 0);
+            readFully(this.header, 2, descriptorLength - 1);
+            if ((XxHash32.hash(this.header, 0, descriptorLength) >>> 8 & 0xFF) != (this.header[descriptorLength] & 0xFF)) {
+                throw malformed();
+            }
+            if ((flags & 0x01) != 0) {
+                throw new IOException(Messages.getString("CompressionCodec.1", new Object[] { "LZ4", "dictionary" }));
+            }
+            int blockSizeId = blockDescriptor >>> 4 & 0x07;
+            if (blockSizeId < 4) {
+                throw malformed();
+            }
+
+            this.independentBlocks = (flags & 0x20) != 0;
+            this.blockChecksum = (flags & 0x10) != 0;
+            this.contentChecksum = (flags & 0x04) != 0;
+            this.maxBlockSize = 1 << 2 * blockSizeId + 8;
+            if (this.contentChecksum) {
+                if (this.contentHash == null) {
+                    this.contentHash = new XxHash32();
+                }
+                this.contentHash.reset();
+            }
+            this.windowPos = 0;
+            this.windowEnd = 0;
+            this.inFrame = true;
+            return true;
+        }
+    }
+
+    private void verifyBlockChecksum(byte[] b, int off, int len) throws IOException {
+        if (this.blockChecksum) {
+            readFully(this.header, 0, 4);
+            if (readInt(this.header, 0) != XxHash32.hash(b, off, len)) {
+                throw malformed();
+            }
+        }
+    }
+
+    /**
+     * Decompresses an LZ4 block.
+     * 
+     * @param src
+     *            the compressed block
+     * @param srcLen
+     *            the length of the compressed block
+     * @param dst
+     *            the buffer where to decompress the data
+     * @param dstOff
+     *            the offset in {@code dst} where to start writing
+     * @param dstLimit
+     *            the maximum position in {@code dst} that can be written
+     * @param lowLimit
+     *            the first position in {@code dst} that matches can reference
+     * @return the decompressed length
+     * @throws IOException
+     *             if the block is malformed.
+     */
+    private static int decompressBlock(byte[] src, int srcLen, byte[] dst, int dstOff, int dstLimit, int lowLimit) throws IOException {
+        int ip = 0;
+        int op = dstOff;
+        while (true) {
+            if (ip >= srcLen) {
+                throw malformed();
+            }
+            int token = src[ip++] & 0xFF;
+            int literalsLength = token >>> 4;
+            if (literalsLength == 15) {
+                int b;
+                do {
+                    if (ip >= srcLen) {
+                        throw malformed();
+                    }
+                    b = src[ip++] & 0xFF;
+                    literalsLength += b;
+                } while (b == 255);
+            }
+            if (literalsLength > srcLen - ip || literalsLength > dstLimit - op) {
+                throw malformed();
+            }
+            System.arraycopy(src, ip, dst, op, literalsLength);
+            ip += literalsLength;
+            op += literalsLength;
+            if (ip == srcLen) {
+                return op - dstOff;
+            }
+
+            if (ip > srcLen - 2) {
+                throw malformed();
+            }
+            int offset = src[ip] & 0xFF | (src[ip + 1] & 0xFF) << 8;
+            ip += 2;
+            int matchLength = token & 0x0F;
+            if (matchLength == 15) {
+                int b;
+                do {
+                    if (ip >= srcLen) {
+                        throw malformed();
+                    }
+                    b = src[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += Lz4FrameOutputStream.MIN_MATCH;
+            if (offset == 0 || offset > op - lowLimit || matchLength > dstLimit - op) {
+                throw malformed();
+            }
+            int ref = op - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(dst, ref, dst, op, matchLength);
+                op += matchLength;
+            } else {
+                for (int end = op + matchLength; op < end;) {
+                    dst[op++] = dst[ref++];
+                }
+            }
+        }
+    }
+
+    private void readFully(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = this.in.read(b, off, len);
+            if (n < 0) {
+                throw new EOFException(Messages.getString("CompressionCodec.0", new Object[] { "LZ4" }));
+            }
+            off += n;
+            len -= n;
+        }
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return b[off] & 0xFF | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | b[off + 3] << 24;
+    }
+
+    private static IOException malformed() {
+        return new IOException(Messages.getString("CompressionCodec.0", new Object[] { "LZ4" }));
+    }
+
+    /**
+     * Ensures that this {@link InputStream} wasn't closed yet.
+     * 
+     * @throws IOException
+     *             if this {@link InputStream} was closed.
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
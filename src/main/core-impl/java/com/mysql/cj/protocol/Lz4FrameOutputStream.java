@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * An {@link OutputStream} that compresses data into the LZ4 frame format, as used by the X Protocol compression algorithm "lz4_message".
+ * 
+ * Data is buffered and compressed in independent blocks of up to 64 KiB using the LZ4 fast algorithm. {@link #flush()} ends the current block and
+ * {@link #close()} ends the frame. Blocks that don't shrink are stored uncompressed.
+ */
+public class Lz4FrameOutputStream extends FilterOutputStream {
+    static final int MAGIC = 0x184D2204;
+    static final int MAX_BLOCK_SIZE = 64 * 1024;
+    static final int MIN_MATCH = 4;
+
+    private static final int HASH_LOG = 12;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 65535;
+    private static final int SKIP_TRIGGER = 6;
+
+    private byte[] buffer = new byte[4096];
+    private int buffered = 0;
+    private byte[] compressed = new byte[0];
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+    private int hashBase = 1;
+
+    private boolean headerWritten = false;
+    private byte[] singleByte = new byte[1];
+    private boolean closed = false;
+
+    public Lz4FrameOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Forwards the write to {@link #write(byte[], int, int)}.
+     * 
+     * @see FilterOutputStream#write(int)
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.singleByte[0] = (byte) b;
+        write(this.singleByte, 0, 1);
+    }
+
+    /**
+     * Buffers the given bytes, compressing a block each time 64 KiB are collected.
+     * 
+     * @see FilterOutputStream#write(byte[], int, int)
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | (b.length - (len + off)) | (off + len)) < 0) { // Borrowed from FilterOutputStream.
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            int n = Math.min(len, MAX_BLOCK_SIZE - this.buffered);
+            if (this.buffered + n > this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.min(MAX_BLOCK_SIZE, Math.max(this.buffered + n, this.buffer.length * 2)));
+            }
+            System.arraycopy(b, off, this.buffer, this.buffered, n);
+            this.buffered += n;
+            off += n;
+            len -= n;
+            if (this.buffered == MAX_BLOCK_SIZE) {
+                writeBlock();
+            }
+        }
+    }
+
+    /**
+     * Compresses the buffered data into a block and flushes the underlying {@link OutputStream}.
+     * 
+     * @see FilterOutputStream#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeBlock();
+        this.out.flush();
+    }
+
+    /**
+     * Compresses the buffered data, ends the frame and closes the underlying {@link OutputStream}.
+     * 
+     * @see FilterOutputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            writeBlock();
+            writeHeader();
+            this.out.write(new byte[4]); // End mark.
+            this.out.flush();
+        } finally {
+            this.closed = true;
+            this.out.close();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        if (!this.headerWritten) {
+            byte[] header = new byte[7];
+            writeInt(header, 0, MAGIC);
+            header[4] = 0x60; // Version 01, independent blocks, no checksums, no content size.
+            header[5] = 0x40; // 64 KiB blocks.
+            header[6] = (byte) (XxHash32.hash(header, 4, 2) >>> 8);
+            this.out.write(header);
+            this.headerWritten = true;
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (this.buffered == 0) {
+            return;
+        }
+        writeHeader();
+        int capacity = 4 + this.buffered + this.buffered / 255 + 16;
+        if (this.compressed.length < capacity) {
+            this.compressed = new byte[capacity];
+        }
+        int compressedLength = compressBlock(this.buffer, this.buffered, this.compressed, 4);
+        if (compressedLength < this.buffered) {
+            writeInt(this.compressed, 0, compressedLength);
+            this.out.write(this.compressed, 0, 4 + compressedLength);
+        } else {
+            writeInt(this.compressed, 0, this.buffered | 0x80000000);
+            this.out.write(this.compressed, 0, 4);
+            this.out.write(this.buffer, 0, this.buffered);
+        }
+        this.buffered = 0;
+    }
+
+    /**
+     * Compresses the data in an LZ4 block. Positions of 4 bytes sequences are kept in a hash table, offset by a base value that moves forward with each block
+     * so that the table doesn't need to be cleared.
+     * 
+     * @param src
+     *            the data to compress
+     * @param len
+     *            the length of the data
+     * @param dst
+     *            the buffer where to write the block, with room for at least {@code len + len / 255 + 16} bytes
+     * @param dstOff
+     *            the offset in {@code dst} where to start writing
+     * @return the length of the compressed block
+     */
+    private int compressBlock(byte[] src, int len, byte[] dst, int dstOff) {
+        int[] table = this.hashTable;
+        int base = this.hashBase;
+        int anchor = 0;
+        int op = dstOff;
+
+        if (len > MF_LIMIT) {
+            int mfLimit = len - MF_LIMIT; // Last position where a match can start.
+            int matchLimit = len - LAST_LITERALS; // Matches must leave the last bytes as literals.
+            int ip = 0;
+            search: while (true) {
+                int ref;
+                int attempts = 1 << SKIP_TRIGGER;
+                int step = 1;
+                while (true) {
+                    if (ip > mfLimit) {
+                        break search;
+                    }
+                    int sequence = readInt(src, ip);
+                    int h = hash(sequence);
+                    int stored = table[h];
+                    table[h] = base + ip;
+                    ref = stored - base;
+                    if (stored >= base && ip - ref <= MAX_DISTANCE && readInt(src, ref) == sequence) {
+                        break;
+                    }
+                    ip += step;
+                    step = attempts++ >>> SKIP_TRIGGER; // Skip faster over data that doesn't compress.
+                }
+                while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchEnd = ip + MIN_MATCH;
+                while (matchEnd < matchLimit && src[matchEnd] == src[ref + matchEnd - ip]) {
+                    matchEnd++;
+                }
+                op = writeSequence(src, anchor, ip - anchor, ip - ref, matchEnd - ip, dst, op);
+                ip = matchEnd;
+                anchor = ip;
+                if (ip > mfLimit) {
+                    break;
+                }
+                table[hash(readInt(src, ip - 2))] = base + ip - 2;
+            }
+        }
+        op = writeSequence(src, anchor, len - anchor, 0, 0, dst, op);
+
+        if (base > Integer.MAX_VALUE - 2 * MAX_BLOCK_SIZE) {
+            Arrays.fill(table, 0);
+            this.hashBase = 1;
+        } else {
+            this.hashBase = base + MAX_BLOCK_SIZE;
+        }
+        return op - dstOff;
+    }
+
+    /**
+     * Writes an LZ4 sequence: a token, the literals and, except for the last sequence of a block, the match offset and length.
+     * 
+     * @param src
+     *            the uncompressed data
+     * @param literalsOff
+     *            the offset of the literals in {@code src}
+     * @param literalsLength
+     *            the number of literals
+     * @param offset
+     *            the match offset
+     * @param matchLength
+     *            the match length, 0 for the last sequence of the block
+     * @param dst
+     *            the compressed block
+     * @param op
+     *            the position in {@code dst} where to start writing
+     * @return the position in {@code dst} after the sequence
+     */
+    private static int writeSequence(byte[] src, int literalsOff, int literalsLength, int offset, int matchLength, byte[] dst, int op) {
+        int token = op++;
+        if (literalsLength >= 15) {
+            dst[token] = (byte) 0xF0;
+            op = writeLength(literalsLength - 15, dst, op);
+        } else {
+            dst[token] = (byte) (literalsLength << 4);
+        }
+        System.arraycopy(src, literalsOff, dst, op, literalsLength);
+        op += literalsLength;
+        if (matchLength > 0) {
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            int length = matchLength - MIN_MATCH;
+            if (length >= 15) {
+                dst[token] |= 0x0F;
+                op = writeLength(length - 15, dst, op);
+            } else {
+                dst[token] |= length;
+            }
+        }
+        return op;
+    }
+
+    private static int writeLength(int length, byte[] dst, int op) {
+        for (; length >= 255; length -= 255) {
+            dst[op++] = (byte) 255;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+
+    private static int hash(int sequence) {
+        return sequence * -1640531535 >>> 32 - HASH_LOG;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return b[off] & 0xFF | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | b[off + 3] << 24;
+    }
+
+    private static void writeInt(byte[] b, int off, int value) {
+        b[off] = (byte) value;
+        b[off + 1] = (byte) (value >>> 8);
+        b[off + 2] = (byte) (value >>> 16);
+        b[off + 3] = (byte) (value >>> 24);
+    }
+
+    /**
+     * Ensures that this {@link OutputStream} wasn't closed yet.
+     * 
+     * @throws IOException
+     *             if this {@link OutputStream} was closed.
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
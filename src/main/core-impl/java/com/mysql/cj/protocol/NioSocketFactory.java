@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.exceptions.ExceptionFactory;
+
+/**
+ * A socket factory creating sockets backed by a {@link SocketChannel}. They are used in blocking mode like "standard" sockets, TLS included, but
+ * while the server executes a query sent with <code>JdbcConnection.executeQueryAsync()</code> or <code>executeUpdateAsync()</code> the channel is
+ * handed to the shared {@link ReadinessSelector}, so no thread is held until the response starts arriving.
+ */
+public class NioSocketFactory extends StandardSocketFactory {
+
+    @Override
+    protected Socket createSocket(PropertySet props) {
+        try {
+            return SocketChannel.open().socket();
+        } catch (IOException e) {
+            throw ExceptionFactory.createException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the channel of the connected socket.
+     * 
+     * @return channel, or null if not connected
+     */
+    public SocketChannel getChannel() {
+        return this.rawSocket == null ? null : this.rawSocket.getChannel();
+    }
+
+    /**
+     * Waits for the socket to become readable without holding a thread.
+     * 
+     * @param timeoutMillis
+     *            time limit, 0 for none
+     * @return future completed once data can be read, or exceptionally with a {@link java.net.SocketTimeoutException} after the time limit. The
+     *         channel is back in blocking mode when it completes.
+     */
+    public CompletableFuture<Void> awaitReadable(int timeoutMillis) {
+        try {
+            return ReadinessSelector.getInstance().awaitReadable(getChannel(), timeoutMillis);
+        } catch (IOException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+}
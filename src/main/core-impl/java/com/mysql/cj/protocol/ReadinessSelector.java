@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single daemon thread multiplexing, with one {@link Selector}, the waits of any number of connections for the response to a command.
+ * 
+ * A waiting channel is switched to non-blocking mode and registered for reading. Once readable, or timed out or closed, it is deregistered and switched
+ * back to blocking mode before its future completes, so that the response is then read with the usual blocking streams.
+ */
+public class ReadinessSelector implements Runnable {
+
+    /** Period of the checks for timed out waits and channels closed while waiting. */
+    private static final long HOUSEKEEPING_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static ReadinessSelector instance = null;
+
+    private static class Wait {
+        final SocketChannel channel;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final long deadline;
+        SelectionKey key;
+        boolean finished;
+        Throwable failure;
+
+        Wait(SocketChannel channel, int timeoutMillis) {
+            this.channel = channel;
+            this.deadline = timeoutMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0;
+        }
+    }
+
+    private final Selector selector;
+    private final Queue<Wait> registrations = new ConcurrentLinkedQueue<>();
+    /** Registered waits, only accessed by the selector thread. */
+    private final List<Wait> waits = new ArrayList<>();
+
+    /**
+     * Returns the selector shared by all connections, starting its thread on first use.
+     * 
+     * @return selector
+     * @throws IOException
+     *             if the selector can't be opened
+     */
+    public static synchronized ReadinessSelector getInstance() throws IOException {
+        if (instance == null) {
+            instance = new ReadinessSelector();
+            Thread t = new Thread(instance, "mysql-cj-readiness-selector");
+            t.setDaemon(true);
+            t.start();
+        }
+        return instance;
+    }
+
+    ReadinessSelector() throws IOException {
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Waits for the given blocking-mode channel to become readable. Nothing else may use the channel until the returned future completes.
+     * 
+     * @param channel
+     *            connected channel
+     * @param timeoutMillis
+     *            time limit, 0 for none
+     * @return future completed once data can be read, or exceptionally with a {@link SocketTimeoutException} after the time limit or a
+     *         {@link ClosedChannelException} if the channel is closed meanwhile
+     */
+    public CompletableFuture<Void> awaitReadable(SocketChannel channel, int timeoutMillis) {
+        Wait wait = new Wait(channel, timeoutMillis);
+        this.registrations.add(wait);
+        this.selector.wakeup();
+        return wait.future;
+    }
+
+    @Override
+    public void run() {
+        long nextHousekeeping = System.nanoTime() + HOUSEKEEPING_NANOS;
+        List<Wait> done = new ArrayList<>();
+        while (true) {
+            try {
+                Wait wait;
+                while ((wait = this.registrations.poll()) != null) {
+                    try {
+                        wait.channel.configureBlocking(false);
+                        wait.key = wait.channel.register(this.selector, SelectionKey.OP_READ, wait);
+                        this.waits.add(wait);
+                    } catch (IOException | RuntimeException e) {
+                        wait.failure = e;
+                        finish(wait, done);
+                    }
+                }
+
+                if (done.isEmpty()) {
+                    if (this.selector.selectedKeys().isEmpty()) {
+                        this.selector.select(this.waits.isEmpty() ? 0 : TimeUnit.NANOSECONDS.toMillis(HOUSEKEEPING_NANOS));
+                    } else {
+                        // keys selected while flushing cancelled ones last time round
+                        this.selector.selectNow();
+                    }
+                }
+
+                for (Iterator<SelectionKey> it = this.selector.selectedKeys().iterator(); it.hasNext();) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    key.cancel();
+                    finish((Wait) key.attachment(), done);
+                }
+
+                long now = System.nanoTime();
+                if (now - nextHousekeeping >= 0) {
+                    nextHousekeeping = now + HOUSEKEEPING_NANOS;
+                    for (Wait w : this.waits) {
+                        if (w.finished) {
+                            continue;
+                        }
+                        if (!w.key.isValid()) {
+                            w.failure = new ClosedChannelException();
+                            finish(w, done);
+                        } else if (w.deadline != 0 && now - w.deadline >= 0) {
+                            w.key.cancel();
+                            w.failure = new SocketTimeoutException("Read timed out");
+                            finish(w, done);
+                        }
+                    }
+                }
+
+                if (!done.isEmpty()) {
+                    // deregister the cancelled keys, channels can't be switched to blocking mode before
+                    this.selector.selectNow();
+                    this.waits.removeIf(w -> w.finished);
+                    for (Wait w : done) {
+                        complete(w);
+                    }
+                    done.clear();
+                }
+            } catch (Throwable t) {
+                // fail everything rather than leaving futures hanging
+                done.addAll(this.waits);
+                this.waits.clear();
+                for (Wait w : done) {
+                    if (w.failure == null) {
+                        w.failure = t;
+                    }
+                    if (w.key != null) {
+                        w.key.cancel();
+                    }
+                    w.future.completeExceptionally(w.failure);
+                }
+                done.clear();
+            }
+        }
+    }
+
+    private static void finish(Wait wait, List<Wait> done) {
+        wait.finished = true;
+        done.add(wait);
+    }
+
+    private void complete(Wait wait) {
+        try {
+            if (wait.channel.isOpen()) {
+                wait.channel.configureBlocking(true);
+            } else if (wait.failure == null) {
+                wait.failure = new ClosedChannelException();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (wait.failure == null) {
+                wait.failure = e;
+            }
+        }
+        if (wait.failure != null) {
+            wait.future.completeExceptionally(wait.failure);
+        } else {
+            wait.future.complete(null);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+/**
+ * The 32 bits variant of the xxHash algorithm, used for the checksums of the LZ4 frame format.
+ */
+final class XxHash32 {
+    private static final int PRIME1 = 0x9E3779B1;
+    private static final int PRIME2 = 0x85EBCA77;
+    private static final int PRIME3 = 0xC2B2AE3D;
+    private static final int PRIME4 = 0x27D4EB2F;
+    private static final int PRIME5 = 0x165667B1;
+
+    private int v1;
+    private int v2;
+    private int v3;
+    private int v4;
+    private long length;
+    private final byte[] stripe = new byte[16];
+    private int stripeLength;
+
+    XxHash32() {
+        reset();
+    }
+
+    /**
+     * Restarts the computation of a hash with seed 0.
+     */
+    void reset() {
+        this.v1 = PRIME1 + PRIME2;
+        this.v2 = PRIME2;
+        this.v3 = 0;
+        this.v4 = -PRIME1;
+        this.length = 0;
+        this.stripeLength = 0;
+    }
+
+    /**
+     * Adds the given bytes to the hash being computed.
+     * 
+     * @param b
+     *            the data
+     * @param off
+     *            the start offset in the data
+     * @param len
+     *            the number of bytes to hash
+     */
+    void update(byte[] b, int off, int len) {
+        this.length += len;
+        if (this.stripeLength > 0) {
+            int n = Math.min(len, 16 - this.stripeLength);
+            System.arraycopy(b, off, this.stripe, this.stripeLength, n);
+            this.stripeLength += n;
+            off += n;
+            len -= n;
+            if (this.stripeLength < 16) {
+                return;
+            }
+            consumeStripe(this.stripe, 0);
+            this.stripeLength = 0;
+        }
+        int end = off + len;
+        for (; off <= end - 16; off += 16) {
+            consumeStripe(b, off);
+        }
+        this.stripeLength = end - off;
+        System.arraycopy(b, off, this.stripe, 0, this.stripeLength);
+    }
+
+    /**
+     * Gets the hash of all the bytes added since the last reset.
+     * 
+     * @return the hash value
+     */
+    int getValue() {
+        int h = this.length >= 16 ? Integer.rotateLeft(this.v1, 1) + Integer.rotateLeft(this.v2, 7) + Integer.rotateLeft(this.v3, 12)
+                + Integer.rotateLeft(this.v4, 18) : this.v3 + PRIME5;
+        return finish(h + (int) this.length, this.stripe, 0, this.stripeLength);
+    }
+
+    private void consumeStripe(byte[] b, int off) {
+        this.v1 = round(this.v1, readInt(b, off));
+        this.v2 = round(this.v2, readInt(b, off + 4));
+        this.v3 = round(this.v3, readInt(b, off + 8));
+        this.v4 = round(this.v4, readInt(b, off + 12));
+    }
+
+    /**
+     * Computes the hash of the given bytes, with seed 0.
+     * 
+     * @param b
+     *            the data
+     * @param off
+     *            the start offset in the data
+     * @param len
+     *            the number of bytes to hash
+     * @return the hash value
+     */
+    static int hash(byte[] b, int off, int len) {
+        int end = off + len;
+        int h;
+        if (len >= 16) {
+            int a1 = PRIME1 + PRIME2;
+            int a2 = PRIME2;
+            int a3 = 0;
+            int a4 = -PRIME1;
+            for (; off <= end - 16; off += 16) {
+                a1 = round(a1, readInt(b, off));
+                a2 = round(a2, readInt(b, off + 4));
+                a3 = round(a3, readInt(b, off + 8));
+                a4 = round(a4, readInt(b, off + 12));
+            }
+            h = Integer.rotateLeft(a1, 1) + Integer.rotateLeft(a2, 7) + Integer.rotateLeft(a3, 12) + Integer.rotateLeft(a4, 18);
+        } else {
+            h = PRIME5;
+        }
+        return finish(h + len, b, off, end - off);
+    }
+
+    private static int finish(int h, byte[] b, int off, int len) {
+        int end = off + len;
+        for (; off <= end - 4; off += 4) {
+            h = Integer.rotateLeft(h + readInt(b, off) * PRIME3, 17) * PRIME4;
+        }
+        for (; off < end; off++) {
+            h = Integer.rotateLeft(h + (b[off] & 0xFF) * PRIME5, 11) * PRIME1;
+        }
+        h ^= h >>> 15;
+        h *= PRIME2;
+        h ^= h >>> 13;
+        h *= PRIME3;
+        return h ^ h >>> 16;
+    }
+
+    private static int round(int acc, int input) {
+        return Integer.rotateLeft(acc + input * PRIME2, 13) * PRIME1;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return b[off] & 0xFF | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | b[off + 3] << 24;
+    }
+}
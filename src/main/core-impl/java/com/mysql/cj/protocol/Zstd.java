@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+/**
+ * Constants and finite state entropy tables of the Zstandard format (RFC 8878), shared by {@link ZstdInputStream} and {@link ZstdOutputStream}.
+ * 
+ * FSE decoding tables are stored as <code>int</code> arrays indexed by state, each entry packing the base of the next state (bits 16-31), the number of bits
+ * to read to get the next state (bits 8-15) and the decoded symbol (bits 0-7).
+ */
+final class Zstd {
+    static final int MAGIC = 0xFD2FB528;
+    static final int SKIPPABLE_MAGIC = 0x184D2A50;
+    static final int MAX_BLOCK_SIZE = 128 * 1024;
+
+    static final int BLOCK_RAW = 0;
+    static final int BLOCK_RLE = 1;
+    static final int BLOCK_COMPRESSED = 2;
+
+    static final int LITERALS_RAW = 0;
+    static final int LITERALS_RLE = 1;
+    static final int LITERALS_COMPRESSED = 2;
+    static final int LITERALS_TREELESS = 3;
+
+    static final int MAX_HUFFMAN_BITS = 11;
+
+    static final int LITERALS_LENGTH = 0;
+    static final int OFFSETS = 1;
+    static final int MATCH_LENGTH = 2;
+
+    static final int[] MAX_SYMBOL = { 35, 31, 52 };
+    static final int[] MAX_ACCURACY_LOG = { 9, 8, 9 };
+
+    static final int[] LL_BASE = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 18, 20, 22, 24, 28, 32, 40, 48, 64, 128, 256, 512, 1024, 2048, 4096,
+            8192, 16384, 32768, 65536 };
+    static final int[] LL_BITS = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 3, 3, 4, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+    static final int[] ML_BASE = { 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35,
+            37, 39, 41, 43, 47, 51, 59, 67, 83, 99, 131, 259, 515, 1027, 2051, 4099, 8195, 16387, 32771, 65539 };
+    static final int[] ML_BITS = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 3, 3, 4, 4, 5,
+            7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+
+    /** Accuracy logs of the predefined distributions, indexed by {@link #LITERALS_LENGTH}, {@link #OFFSETS} and {@link #MATCH_LENGTH}. */
+    static final int[] DEFAULT_ACCURACY_LOG = { 6, 5, 6 };
+    /** Predefined normalized distributions, indexed by {@link #LITERALS_LENGTH}, {@link #OFFSETS} and {@link #MATCH_LENGTH}. */
+    static final short[][] DEFAULT_DISTRIBUTIONS = { //
+            { 4, 3, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 1, 1, 1, 2, 2, 2, 2, 2, 2, 2, 2, 2, 3, 2, 1, 1, 1, 1, 1, -1, -1, -1, -1 },
+            { 1, 1, 1, 1, 1, 1, 2, 2, 2, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, -1, -1, -1, -1, -1 },
+            { 1, 4, 3, 2, 2, 2, 2, 2, 2, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, -1,
+                    -1, -1, -1, -1, -1, -1 } };
+    /** FSE decoding tables of the predefined distributions, indexed by {@link #LITERALS_LENGTH}, {@link #OFFSETS} and {@link #MATCH_LENGTH}. */
+    static final int[][] DEFAULT_TABLES = new int[3][];
+    static {
+        for (int i = 0; i < 3; i++) {
+            DEFAULT_TABLES[i] = new int[1 << DEFAULT_ACCURACY_LOG[i]];
+            buildFseTable(DEFAULT_DISTRIBUTIONS[i], DEFAULT_DISTRIBUTIONS[i].length, DEFAULT_ACCURACY_LOG[i], DEFAULT_TABLES[i]);
+        }
+    }
+
+    private Zstd() {
+    }
+
+    /**
+     * Builds an FSE decoding table from a normalized distribution.
+     * 
+     * @param normalized
+     *            the normalized counts of each symbol, -1 standing for a "less than 1" probability; they must add up to {@code 1 << accuracyLog}
+     * @param symbols
+     *            the number of symbols in the distribution
+     * @param accuracyLog
+     *            the accuracy log of the distribution
+     * @param table
+     *            the table to fill, with room for {@code 1 << accuracyLog} states
+     */
+    static void buildFseTable(short[] normalized, int symbols, int accuracyLog, int[] table) {
+        int size = 1 << accuracyLog;
+        int highThreshold = size - 1;
+        int[] next = new int[symbols];
+        for (int s = 0; s < symbols; s++) {
+            if (normalized[s] == -1) {
+                table[highThreshold--] = s;
+                next[s] = 1;
+            } else {
+                next[s] = normalized[s];
+            }
+        }
+
+        int step = (size >>> 1) + (size >>> 3) + 3;
+        int mask = size - 1;
+        int position = 0;
+        for (int s = 0; s < symbols; s++) {
+            for (int i = 0; i < normalized[s]; i++) {
+                table[position] = s;
+                do {
+                    position = position + step & mask;
+                } while (position > highThreshold);
+            }
+        }
+
+        for (int state = 0; state < size; state++) {
+            int symbol = table[state];
+            int nextState = next[symbol]++;
+            int bits = accuracyLog - (31 - Integer.numberOfLeadingZeros(nextState));
+            table[state] = (nextState << bits) - size << 16 | bits << 8 | symbol;
+        }
+    }
+}
@@ -0,0 +1,1033 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import static com.mysql.cj.protocol.Zstd.LITERALS_LENGTH;
+import static com.mysql.cj.protocol.Zstd.MATCH_LENGTH;
+import static com.mysql.cj.protocol.Zstd.OFFSETS;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import com.mysql.cj.Messages;
+
+/**
+ * An {@link InputStream} that decompresses data in the Zstandard format (RFC 8878), as used by the X Protocol compression algorithm "zstd_stream".
+ * 
+ * Data is decompressed one block at a time, so everything the peer flushed can be read before the rest of the frame arrives. Concatenated and skippable
+ * frames are supported. Frames that depend on a dictionary are not, and content checksums are skipped without being verified.
+ */
+public class ZstdInputStream extends FilterInputStream {
+    private static final int MAX_WINDOW_LOG = 27;
+    private static final int MAX_HISTORY_SLIDE = 8 * 1024 * 1024;
+
+    private boolean inFrame = false;
+    private boolean lastBlock;
+    private boolean contentChecksum;
+    private int windowSize;
+    private int blockMaxSize;
+
+    private byte[] header = new byte[8];
+    private byte[] block = new byte[0];
+    private byte[] window = new byte[0];
+    private int windowPos = 0;
+    private int windowEnd = 0;
+
+    private byte[] literals = new byte[0];
+    private byte[] literalsSource;
+    private int literalsPos;
+    private int literalsEnd;
+
+    private final int[] huffmanTable = new int[1 << Zstd.MAX_HUFFMAN_BITS];
+    private int huffmanBits = 0;
+    private final int[] weights = new int[256];
+    private final int[] rankStart = new int[Zstd.MAX_HUFFMAN_BITS + 2];
+    private final int[] weightsTable = new int[1 << 6];
+
+    private final int[][] fseTables = { new int[1 << 9], new int[1 << 8], new int[1 << 9] };
+    private final int[][] currentTables = new int[3][];
+    private final int[] accuracyLogs = new int[3];
+    private final short[] normalized = new short[256];
+    private int normalizedLog;
+    private int normalizedSymbols;
+
+    private final int[] repeatedOffsets = new int[3];
+    private final BitReader bits = new BitReader();
+
+    private byte[] singleByte = new byte[1];
+    private boolean closed = false;
+
+    public ZstdInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Returns the number of decompressed bytes that can be read without reading from the underlying {@link InputStream}.
+     * 
+     * @see FilterInputStream#available()
+     */
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return this.windowEnd - this.windowPos;
+    }
+
+    /**
+     * Forwards the read to {@link #read(byte[], int, int)}.
+     * 
+     * @see FilterInputStream#read()
+     */
+    @Override
+    public int read() throws IOException {
+        int read = read(this.singleByte, 0, 1);
+        return read < 0 ? read : this.singleByte[0] & 0xff;
+    }
+
+    /**
+     * Forwards the read to {@link #read(byte[], int, int)}.
+     * 
+     * @see FilterInputStream#read(byte[])
+     */
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    /**
+     * Reads decompressed bytes, decompressing the next block from the underlying {@link InputStream} when the current one was fully consumed.
+     * 
+     * @see FilterInputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | (b.length - (len + off)) | (off + len)) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (this.windowPos == this.windowEnd) {
+            if (!nextBlock()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, this.windowEnd - this.windowPos);
+        System.arraycopy(this.window, this.windowPos, b, off, n);
+        this.windowPos += n;
+        return n;
+    }
+
+    /**
+     * Skips decompressed bytes, decompressing as much as needed.
+     * 
+     * @see FilterInputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        ensureOpen();
+        long skipped = 0;
+        while (skipped < n && (this.windowPos < this.windowEnd || nextBlock())) {
+            int s = (int) Math.min(n - skipped, this.windowEnd - this.windowPos);
+            this.windowPos += s;
+            skipped += s;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * Reads and decompresses the next block of the current frame or, after its last block, the header of the next frame.
+     * 
+     * @return
+     *         <code>false</code> if the underlying {@link InputStream} ended after the last frame, <code>true</code> otherwise.
+     * @throws IOException
+     *             if any of the underlying I/O operations fail or the data is malformed.
+     */
+    private boolean nextBlock() throws IOException {
+        if (!this.inFrame) {
+            return readFrameHeader();
+        }
+
+        readFully(this.header, 0, 3);
+        int blockHeader = this.header[0] & 0xFF | (this.header[1] & 0xFF) << 8 | (this.header[2] & 0xFF) << 16;
+        int blockSize = blockHeader >>> 3;
+        if (blockSize > this.blockMaxSize) {
+            throw malformed();
+        }
+        this.lastBlock = (blockHeader & 1) != 0;
+
+        int start = prepareWindow();
+        int end;
+        switch (blockHeader >>> 1 & 3) {
+            case Zstd.BLOCK_RAW:
+                readFully(this.window, start, blockSize);
+                end = start + blockSize;
+                break;
+            case Zstd.BLOCK_RLE:
+                readFully(this.header, 0, 1);
+                end = start + blockSize;
+                Arrays.fill(this.window, start, end, this.header[0]);
+                break;
+            case Zstd.BLOCK_COMPRESSED:
+                if (this.block.length < blockSize) {
+                    this.block = new byte[Math.max(blockSize, Math.min(this.block.length * 2, this.blockMaxSize))];
+                }
+                readFully(this.block, 0, blockSize);
+                end = decompressBlock(this.block, blockSize, start);
+                break;
+            default:
+                throw malformed();
+        }
+        this.windowPos = start;
+        this.windowEnd = end;
+
+        if (this.lastBlock) {
+            if (this.contentChecksum) {
+                readFully(this.header, 0, 4);
+            }
+            this.inFrame = false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the header of the next frame, skipping over skippable frames.
+     * 
+     * @return
+     *         <code>false</code> if the underlying {@link InputStream} ended before the next frame, <code>true</code> otherwise.
+     * @throws IOException
+     *             if any of the underlying I/O operations fail or the data is malformed.
+     */
+    private boolean readFrameHeader() throws IOException {
+        while (true) {
+            int first = this.in.read();
+            if (first < 0) {
+                return false;
+            }
+            this.header[0] = (byte) first;
+            readFully(this.header, 1, 3);
+            int magic = readInt(this.header, 0);
+            if ((magic & 0xFFFFFFF0) == Zstd.SKIPPABLE_MAGIC) {
+                readFully(this.header, 0, 4);
+                long size = readInt(this.header, 0) & 0xFFFFFFFFL;
+                while (size > 0) {
+                    int n = (int) Math.min(size, this.header.length);
+                    readFully(this.header, 0, n);
+                    size -= n;
+                }
+                continue;
+            }
+            if (magic != Zstd.MAGIC) {
+                throw malformed();
+            }
+
+            readFully(this.header, 0, 1);
+            int descriptor = this.header[0] & 0xFF;
+            if ((descriptor & 0x08) != 0) { // Reserved bit.
+                throw malformed();
+            }
+            boolean singleSegment = (descriptor & 0x20) != 0;
+            long window = 0;
+            if (!singleSegment) {
+                readFully(this.header, 0, 1);
+                int windowLog = 10 + ((this.header[0] & 0xFF) >>> 3);
+                if (windowLog > MAX_WINDOW_LOG) {
+                    throw new IOException(Messages.getString("CompressionCodec.1", new Object[] { "Zstandard", "window size" }));
+                }
+                window = (1L << windowLog) + (1L << windowLog - 3) * (this.header[0] & 0x07);
+            }
+
+            int dictionaryIdLength = new int[] { 0, 1, 2, 4 }[descriptor & 0x03];
+            if (dictionaryIdLength > 0) {
+                readFully(this.header, 0, dictionaryIdLength);
+                for (int i = 0; i < dictionaryIdLength; i++) {
+                    if (this.header[i] != 0) {
+                        throw new IOException(Messages.getString("CompressionCodec.1", new Object[] { "Zstandard", "dictionary" }));
+                    }
+                }
+            }
+
+            int contentSizeLength = new int[] { singleSegment ? 1 : 0, 2, 4, 8 }[descriptor >>> 6];
+            if (contentSizeLength > 0) {
+                readFully(this.header, 0, contentSizeLength);
+                if (singleSegment) {
+                    window = 0;
+                    for (int i = contentSizeLength - 1; i >= 0; i--) {
+                        window = window << 8 | this.header[i] & 0xFF;
+                    }
+                    if (contentSizeLength == 2) {
+                        window += 256;
+                    }
+                    if (window > 1L << MAX_WINDOW_LOG || window < 0) {
+                        throw new IOException(Messages.getString("CompressionCodec.1", new Object[] { "Zstandard", "window size" }));
+                    }
+                }
+            }
+
+            this.windowSize = (int) window;
+            this.blockMaxSize = Math.min(this.windowSize, Zstd.MAX_BLOCK_SIZE);
+            this.contentChecksum = (descriptor & 0x04) != 0;
+            this.repeatedOffsets[0] = 1;
+            this.repeatedOffsets[1] = 4;
+            this.repeatedOffsets[2] = 8;
+            this.huffmanBits = 0;
+            Arrays.fill(this.currentTables, null);
+            this.windowPos = 0;
+            this.windowEnd = 0;
+            this.inFrame = true;
+            return true;
+        }
+    }
+
+    /**
+     * Makes room for a new block after the decompressed data, keeping as history, at most, the window size of the frame. The buffer grows as the history
+     * does, up to the window size plus the larger of the window size and 8 MiB, so that history is slid only after that many bytes have been decompressed.
+     * 
+     * @return the position where the new block starts
+     */
+    private int prepareWindow() {
+        if (this.windowEnd + this.blockMaxSize > this.window.length) {
+            int keep = Math.min(this.windowEnd, this.windowSize);
+            int capacity = this.window.length;
+            int maxCapacity = this.windowSize + Math.min(this.windowSize, MAX_HISTORY_SLIDE) + this.blockMaxSize;
+            byte[] target = this.window;
+            if (keep + this.blockMaxSize > capacity || keep > capacity / 2 && capacity < maxCapacity) {
+                target = new byte[Math.min(maxCapacity, Math.max(keep + this.blockMaxSize, capacity * 2))];
+            }
+            System.arraycopy(this.window, this.windowEnd - keep, target, 0, keep);
+            this.window = target;
+            this.windowEnd = keep;
+        }
+        return this.windowEnd;
+    }
+
+    /**
+     * Decompresses a compressed block: the literals section followed by the sequences section.
+     * 
+     * @param src
+     *            the compressed block
+     * @param size
+     *            the size of the compressed block
+     * @param start
+     *            the position in the window where to write the decompressed data
+     * @return the position in the window after the decompressed data
+     * @throws IOException
+     *             if the block is malformed.
+     */
+    private int decompressBlock(byte[] src, int size, int start) throws IOException {
+        int p = decodeLiterals(src, size);
+
+        if (p >= size) {
+            throw malformed();
+        }
+        int sequences = src[p++] & 0xFF;
+        if (sequences == 255) {
+            if (p + 2 > size) {
+                throw malformed();
+            }
+            sequences = (src[p] & 0xFF | (src[p + 1] & 0xFF) << 8) + 0x7F00;
+            p += 2;
+        } else if (sequences >= 128) {
+            if (p >= size) {
+                throw malformed();
+            }
+            sequences = (sequences - 128 << 8) + (src[p++] & 0xFF);
+        }
+
+        int op = start;
+        int limit = start + this.blockMaxSize;
+        if (sequences > 0) {
+            if (p >= size) {
+                throw malformed();
+            }
+            int modes = src[p++] & 0xFF;
+            if ((modes & 0x03) != 0) {
+                throw malformed();
+            }
+            p = readFseTable(LITERALS_LENGTH, modes >>> 6, src, p, size);
+            p = readFseTable(OFFSETS, modes >>> 4 & 3, src, p, size);
+            p = readFseTable(MATCH_LENGTH, modes >>> 2 & 3, src, p, size);
+            op = executeSequences(sequences, src, p, size, op, limit);
+        } else if (p != size) {
+            throw malformed();
+        }
+
+        int remaining = this.literalsEnd - this.literalsPos;
+        if (remaining > limit - op) {
+            throw malformed();
+        }
+        System.arraycopy(this.literalsSource, this.literalsPos, this.window, op, remaining);
+        return op + remaining;
+    }
+
+    /**
+     * Decodes the sequences bitstream and executes each sequence: copies its literals and then its match into the window.
+     * 
+     * @param sequences
+     *            the number of sequences
+     * @param src
+     *            the compressed block
+     * @param p
+     *            the position of the bitstream in the compressed block
+     * @param end
+     *            the end of the bitstream
+     * @param op
+     *            the position in the window where to write the decompressed data
+     * @param limit
+     *            the maximum position in the window that can be written
+     * @return the position in the window after the decompressed data
+     * @throws IOException
+     *             if the sequences are malformed.
+     */
+    private int executeSequences(int sequences, byte[] src, int p, int end, int op, int limit) throws IOException {
+        int[] llTable = this.currentTables[LITERALS_LENGTH];
+        int[] ofTable = this.currentTables[OFFSETS];
+        int[] mlTable = this.currentTables[MATCH_LENGTH];
+        byte[] window = this.window;
+        byte[] literalsSrc = this.literalsSource;
+        int lp = this.literalsPos;
+        int literalsLimit = this.literalsEnd;
+        int rep0 = this.repeatedOffsets[0];
+        int rep1 = this.repeatedOffsets[1];
+        int rep2 = this.repeatedOffsets[2];
+
+        BitReader br = this.bits;
+        br.init(src, p, end);
+        int llState = br.read(this.accuracyLogs[LITERALS_LENGTH]);
+        int ofState = br.read(this.accuracyLogs[OFFSETS]);
+        int mlState = br.read(this.accuracyLogs[MATCH_LENGTH]);
+
+        for (int i = 0; i < sequences; i++) {
+            int llEntry = llTable[llState];
+            int ofEntry = ofTable[ofState];
+            int mlEntry = mlTable[mlState];
+            int ofCode = ofEntry & 0xFF;
+            int mlCode = mlEntry & 0xFF;
+            int llCode = llEntry & 0xFF;
+
+            long offsetValue = (1L << ofCode) + br.read(ofCode);
+            int matchLength = Zstd.ML_BASE[mlCode] + br.read(Zstd.ML_BITS[mlCode]);
+            int literalsLength = Zstd.LL_BASE[llCode] + br.read(Zstd.LL_BITS[llCode]);
+
+            int offset;
+            if (offsetValue > 3) {
+                if (offsetValue - 3 > limit) {
+                    throw malformed();
+                }
+                offset = (int) offsetValue - 3;
+                rep2 = rep1;
+                rep1 = rep0;
+                rep0 = offset;
+            } else {
+                int index = (int) offsetValue - (literalsLength == 0 ? 0 : 1);
+                if (index == 0) {
+                    offset = rep0;
+                } else {
+                    offset = index == 1 ? rep1 : index == 2 ? rep2 : rep0 - 1;
+                    if (index != 1) {
+                        rep2 = rep1;
+                    }
+                    rep1 = rep0;
+                    rep0 = offset;
+                }
+            }
+
+            if (literalsLength > literalsLimit - lp || literalsLength > limit - op || matchLength > limit - op - literalsLength) {
+                throw malformed();
+            }
+            System.arraycopy(literalsSrc, lp, window, op, literalsLength);
+            lp += literalsLength;
+            op += literalsLength;
+
+            if (offset <= 0 || offset > op) {
+                throw malformed();
+            }
+            int ref = op - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(window, ref, window, op, matchLength);
+                op += matchLength;
+            } else {
+                for (int matchEnd = op + matchLength; op < matchEnd;) {
+                    window[op++] = window[ref++];
+                }
+            }
+
+            if (i < sequences - 1) {
+                llState = (llEntry >>> 16) + br.read(llEntry >>> 8 & 0xFF);
+                mlState = (mlEntry >>> 16) + br.read(mlEntry >>> 8 & 0xFF);
+                ofState = (ofEntry >>> 16) + br.read(ofEntry >>> 8 & 0xFF);
+            }
+        }
+        if (!br.isFullyConsumed()) {
+            throw malformed();
+        }
+
+        this.literalsPos = lp;
+        this.repeatedOffsets[0] = rep0;
+        this.repeatedOffsets[1] = rep1;
+        this.repeatedOffsets[2] = rep2;
+        return op;
+    }
+
+    /**
+     * Reads the FSE table used for literals lengths, offsets or match lengths codes in the current block.
+     * 
+     * @param kind
+     *            one of {@link Zstd#LITERALS_LENGTH}, {@link Zstd#OFFSETS} or {@link Zstd#MATCH_LENGTH}
+     * @param mode
+     *            the compression mode: predefined, RLE, FSE compressed or repeat
+     * @param src
+     *            the compressed block
+     * @param p
+     *            the position of the table description in the compressed block
+     * @param end
+     *            the end of the compressed block
+     * @return the position after the table description
+     * @throws IOException
+     *             if the table description is malformed.
+     */
+    private int readFseTable(int kind, int mode, byte[] src, int p, int end) throws IOException {
+        switch (mode) {
+            case 0: // Predefined.
+                this.currentTables[kind] = Zstd.DEFAULT_TABLES[kind];
+                this.accuracyLogs[kind] = Zstd.DEFAULT_ACCURACY_LOG[kind];
+                return p;
+            case 1: // RLE.
+                if (p >= end || (src[p] & 0xFF) > Zstd.MAX_SYMBOL[kind]) {
+                    throw malformed();
+                }
+                this.fseTables[kind][0] = src[p] & 0xFF;
+                this.currentTables[kind] = this.fseTables[kind];
+                this.accuracyLogs[kind] = 0;
+                return p + 1;
+            case 2: // FSE compressed.
+                p = readNormalizedCounts(src, p, end, Zstd.MAX_SYMBOL[kind], Zstd.MAX_ACCURACY_LOG[kind]);
+                Zstd.buildFseTable(this.normalized, this.normalizedSymbols, this.normalizedLog, this.fseTables[kind]);
+                this.currentTables[kind] = this.fseTables[kind];
+                this.accuracyLogs[kind] = this.normalizedLog;
+                return p;
+            default: // Repeat.
+                if (this.currentTables[kind] == null) {
+                    throw malformed();
+                }
+                return p;
+        }
+    }
+
+    /**
+     * Reads the description of an FSE table: its accuracy log and the normalized counts of its symbols.
+     * 
+     * @param src
+     *            the compressed data
+     * @param p
+     *            the position of the table description
+     * @param end
+     *            the limit of the table description
+     * @param maxSymbol
+     *            the maximum symbol value allowed
+     * @param maxLog
+     *            the maximum accuracy log allowed
+     * @return the position after the table description
+     * @throws IOException
+     *             if the table description is malformed.
+     */
+    private int readNormalizedCounts(byte[] src, int p, int end, int maxSymbol, int maxLog) throws IOException {
+        int bitOffset = 4;
+        int log = peekBits(src, p, end, 0, 4) + 5;
+        if (log > maxLog) {
+            throw malformed();
+        }
+        int remaining = (1 << log) + 1;
+        int threshold = 1 << log;
+        int nbBits = log + 1;
+        int symbol = 0;
+        boolean previousZero = false;
+        while (remaining > 1 && symbol <= maxSymbol) {
+            if (previousZero) {
+                int zeros = symbol;
+                int repeat;
+                while ((repeat = peekBits(src, p, end, bitOffset, 2)) == 3) {
+                    zeros += 3;
+                    bitOffset += 2;
+                }
+                zeros += repeat;
+                bitOffset += 2;
+                if (zeros > maxSymbol) {
+                    throw malformed();
+                }
+                while (symbol < zeros) {
+                    this.normalized[symbol++] = 0;
+                }
+            }
+
+            int max = 2 * threshold - 1 - remaining;
+            int count = peekBits(src, p, end, bitOffset, nbBits - 1);
+            if (count < max) {
+                bitOffset += nbBits - 1;
+            } else {
+                count = peekBits(src, p, end, bitOffset, nbBits);
+                if (count >= threshold) {
+                    count -= max;
+                }
+                bitOffset += nbBits;
+            }
+            count--;
+            remaining -= Math.abs(count);
+            if (remaining < 1) {
+                throw malformed();
+            }
+            this.normalized[symbol++] = (short) count;
+            previousZero = count == 0;
+            while (remaining < threshold) {
+                nbBits--;
+                threshold >>= 1;
+            }
+        }
+        int next = p + (bitOffset + 7 >>> 3);
+        if (remaining != 1 || next > end) {
+            throw malformed();
+        }
+        this.normalizedLog = log;
+        this.normalizedSymbols = symbol;
+        return next;
+    }
+
+    /**
+     * Decodes the literals section of a compressed block.
+     * 
+     * @param src
+     *            the compressed block
+     * @param size
+     *            the size of the compressed block
+     * @return the position after the literals section
+     * @throws IOException
+     *             if the literals section is malformed.
+     */
+    private int decodeLiterals(byte[] src, int size) throws IOException {
+        if (size < 1) {
+            throw malformed();
+        }
+        int first = src[0] & 0xFF;
+        int type = first & 3;
+        int sizeFormat = first >>> 2 & 3;
+
+        if (type == Zstd.LITERALS_RAW || type == Zstd.LITERALS_RLE) {
+            int regeneratedSize;
+            int headerSize;
+            if ((sizeFormat & 1) == 0) {
+                regeneratedSize = first >>> 3;
+                headerSize = 1;
+            } else if (sizeFormat == 1) {
+                if (size < 2) {
+                    throw malformed();
+                }
+                regeneratedSize = (first >>> 4) + ((src[1] & 0xFF) << 4);
+                headerSize = 2;
+            } else {
+                if (size < 3) {
+                    throw malformed();
+                }
+                regeneratedSize = (first >>> 4) + ((src[1] & 0xFF) << 4) + ((src[2] & 0xFF) << 12);
+                headerSize = 3;
+            }
+            if (regeneratedSize > this.blockMaxSize) {
+                throw malformed();
+            }
+            if (type == Zstd.LITERALS_RAW) {
+                if (headerSize + regeneratedSize > size) {
+                    throw malformed();
+                }
+                this.literalsSource = src;
+                this.literalsPos = headerSize;
+                this.literalsEnd = headerSize + regeneratedSize;
+                return headerSize + regeneratedSize;
+            }
+            if (headerSize >= size) {
+                throw malformed();
+            }
+            ensureLiteralsCapacity(regeneratedSize);
+            Arrays.fill(this.literals, 0, regeneratedSize, src[headerSize]);
+            this.literalsSource = this.literals;
+            this.literalsPos = 0;
+            this.literalsEnd = regeneratedSize;
+            return headerSize + 1;
+        }
+
+        int headerSize = sizeFormat < 2 ? 3 : sizeFormat + 2;
+        int sizeBits = sizeFormat < 2 ? 10 : sizeFormat == 2 ? 14 : 18;
+        if (size < headerSize) {
+            throw malformed();
+        }
+        long headerValue = 0;
+        for (int i = headerSize - 1; i >= 0; i--) {
+            headerValue = headerValue << 8 | src[i] & 0xFF;
+        }
+        int regeneratedSize = (int) (headerValue >>> 4) & (1 << sizeBits) - 1;
+        int compressedSize = (int) (headerValue >>> 4 + sizeBits) & (1 << sizeBits) - 1;
+        if (regeneratedSize > this.blockMaxSize || headerSize + compressedSize > size) {
+            throw malformed();
+        }
+        int p = headerSize;
+        int end = headerSize + compressedSize;
+        if (type == Zstd.LITERALS_COMPRESSED) {
+            p = readHuffmanTable(src, p, end);
+        } else if (this.huffmanBits == 0) {
+            throw malformed();
+        }
+
+        ensureLiteralsCapacity(regeneratedSize);
+        if (sizeFormat == 0) {
+            decodeHuffmanStream(src, p, end, 0, regeneratedSize);
+        } else {
+            if (end - p < 6) {
+                throw malformed();
+            }
+            int size1 = src[p] & 0xFF | (src[p + 1] & 0xFF) << 8;
+            int size2 = src[p + 2] & 0xFF | (src[p + 3] & 0xFF) << 8;
+            int size3 = src[p + 4] & 0xFF | (src[p + 5] & 0xFF) << 8;
+            p += 6;
+            int segment = (regeneratedSize + 3) / 4;
+            if (size1 + size2 + size3 > end - p || regeneratedSize < 3 * segment) {
+                throw malformed();
+            }
+            decodeHuffmanStream(src, p, p + size1, 0, segment);
+            p += size1;
+            decodeHuffmanStream(src, p, p + size2, segment, segment);
+            p += size2;
+            decodeHuffmanStream(src, p, p + size3, 2 * segment, segment);
+            p += size3;
+            decodeHuffmanStream(src, p, end, 3 * segment, regeneratedSize - 3 * segment);
+        }
+        this.literalsSource = this.literals;
+        this.literalsPos = 0;
+        this.literalsEnd = regeneratedSize;
+        return end;
+    }
+
+    private void ensureLiteralsCapacity(int size) {
+        if (this.literals.length < size) {
+            this.literals = new byte[Math.max(size, Math.min(this.literals.length * 2, this.blockMaxSize))];
+        }
+    }
+
+    /**
+     * Decodes a Huffman coded stream of literals.
+     * 
+     * @param src
+     *            the compressed block
+     * @param start
+     *            the position of the stream in the compressed block
+     * @param end
+     *            the end of the stream
+     * @param off
+     *            the position in the literals buffer where to write the decoded literals
+     * @param count
+     *            the number of literals to decode
+     * @throws IOException
+     *             if the stream is malformed.
+     */
+    private void decodeHuffmanStream(byte[] src, int start, int end, int off, int count) throws IOException {
+        BitReader br = this.bits;
+        br.init(src, start, end);
+        int[] table = this.huffmanTable;
+        int maxBits = this.huffmanBits;
+        byte[] out = this.literals;
+        for (int i = off, e = off + count; i < e; i++) {
+            int entry = table[br.peek(maxBits)];
+            out[i] = (byte) entry;
+            br.skip(entry >>> 8);
+        }
+        if (!br.isFullyConsumed()) {
+            throw malformed();
+        }
+    }
+
+    /**
+     * Reads the Huffman tree description of a compressed literals section and builds the decoding table.
+     * 
+     * @param src
+     *            the compressed block
+     * @param p
+     *            the position of the tree description
+     * @param end
+     *            the end of the compressed literals
+     * @return the position after the tree description
+     * @throws IOException
+     *             if the tree description is malformed.
+     */
+    private int readHuffmanTable(byte[] src, int p, int end) throws IOException {
+        if (p >= end) {
+            throw malformed();
+        }
+        int headerByte = src[p++] & 0xFF;
+        int count;
+        int[] w = this.weights;
+        if (headerByte >= 128) {
+            count = headerByte - 127;
+            int bytes = (count + 1) / 2;
+            if (p + bytes > end) {
+                throw malformed();
+            }
+            for (int i = 0; i < count; i++) {
+                int b = src[p + i / 2] & 0xFF;
+                w[i] = (i & 1) == 0 ? b >>> 4 : b & 0x0F;
+            }
+            p += bytes;
+        } else {
+            if (p + headerByte > end) {
+                throw malformed();
+            }
+            count = decodeWeights(src, p, p + headerByte);
+            p += headerByte;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            if (w[i] > Zstd.MAX_HUFFMAN_BITS) {
+                throw malformed();
+            }
+            sum += w[i] == 0 ? 0 : 1 << w[i] - 1;
+        }
+        if (sum == 0) {
+            throw malformed();
+        }
+        int maxBits = 32 - Integer.numberOfLeadingZeros(sum);
+        int left = (1 << maxBits) - sum;
+        if (maxBits > Zstd.MAX_HUFFMAN_BITS || (left & left - 1) != 0) {
+            throw malformed();
+        }
+        w[count++] = 32 - Integer.numberOfLeadingZeros(left); // The weight of the last symbol is implied.
+
+        int[] starts = this.rankStart;
+        Arrays.fill(starts, 0);
+        for (int i = 0; i < count; i++) {
+            starts[w[i]]++;
+        }
+        int position = 0;
+        for (int weight = 1; weight <= maxBits; weight++) {
+            int n = starts[weight];
+            starts[weight] = position;
+            position += n << weight - 1;
+        }
+        for (int symbol = 0; symbol < count; symbol++) {
+            int weight = w[symbol];
+            if (weight > 0) {
+                int length = 1 << weight - 1;
+                int from = starts[weight];
+                Arrays.fill(this.huffmanTable, from, from + length, symbol | maxBits + 1 - weight << 8);
+                starts[weight] = from + length;
+            }
+        }
+        this.huffmanBits = maxBits;
+        return p;
+    }
+
+    /**
+     * Decodes FSE compressed Huffman weights, interleaving two FSE states over the same bitstream.
+     * 
+     * @param src
+     *            the compressed block
+     * @param p
+     *            the position of the compressed weights
+     * @param end
+     *            the end of the compressed weights
+     * @return the number of weights decoded
+     * @throws IOException
+     *             if the compressed weights are malformed.
+     */
+    private int decodeWeights(byte[] src, int p, int end) throws IOException {
+        p = readNormalizedCounts(src, p, end, 255, 6);
+        int[] table = this.weightsTable;
+        Zstd.buildFseTable(this.normalized, this.normalizedSymbols, this.normalizedLog, table);
+        BitReader br = this.bits;
+        br.init(src, p, end);
+        int state1 = br.read(this.normalizedLog);
+        int state2 = br.read(this.normalizedLog);
+        int count = 0;
+        while (true) {
+            int entry = table[state1];
+            count = addWeight(count, entry);
+            state1 = (entry >>> 16) + br.read(entry >>> 8 & 0xFF);
+            if (br.isOverflowed()) {
+                return addWeight(count, table[state2]);
+            }
+            entry = table[state2];
+            count = addWeight(count, entry);
+            state2 = (entry >>> 16) + br.read(entry >>> 8 & 0xFF);
+            if (br.isOverflowed()) {
+                return addWeight(count, table[state1]);
+            }
+        }
+    }
+
+    private int addWeight(int count, int entry) throws IOException {
+        if (count >= 255) { // The weight of the last of 256 symbols is implied.
+            throw malformed();
+        }
+        this.weights[count] = entry & 0xFF;
+        return count + 1;
+    }
+
+    /**
+     * Reads bits from a forward, little-endian, bitstream. Bytes past the limit are read as zeros.
+     */
+    private static int peekBits(byte[] src, int p, int end, int bitOffset, int n) {
+        int from = p + (bitOffset >>> 3);
+        long word = 0;
+        for (int i = 0; i < 4 && from + i < end; i++) {
+            word |= (src[from + i] & 0xFFL) << 8 * i;
+        }
+        return (int) (word >>> (bitOffset & 7)) & (1 << n) - 1;
+    }
+
+    private void readFully(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = this.in.read(b, off, len);
+            if (n <= 0) {
+                throw new EOFException(Messages.getString("CompressionCodec.0", new Object[] { "Zstandard" }));
+            }
+            off += n;
+            len -= n;
+        }
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return b[off] & 0xFF | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | b[off + 3] << 24;
+    }
+
+    static IOException malformed() {
+        return new IOException(Messages.getString("CompressionCodec.0", new Object[] { "Zstandard" }));
+    }
+
+    /**
+     * Ensures that this {@link InputStream} wasn't closed yet.
+     * 
+     * @throws IOException
+     *             if this {@link InputStream} was closed.
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Reader of the backward bitstreams used for Huffman coded literals, FSE compressed weights and sequences. Bits are read from the end of the stream, right
+     * after the highest bit set in its last byte, towards its start. Reading past the start yields zeros and marks the stream as overflowed.
+     */
+    private static final class BitReader {
+        private byte[] src;
+        private int start;
+        private int pos;
+        private long container;
+        private int bitCount;
+        private int overflow;
+
+        BitReader() {
+        }
+
+        void init(byte[] b, int from, int end) throws IOException {
+            if (end <= from || b[end - 1] == 0) {
+                throw malformed();
+            }
+            int last = b[end - 1] & 0xFF;
+            this.src = b;
+            this.start = from;
+            this.pos = end - 1;
+            this.bitCount = 31 - Integer.numberOfLeadingZeros(last);
+            this.container = last;
+            this.overflow = 0;
+        }
+
+        private void refill() {
+            while (this.bitCount <= 56 && this.pos > this.start) {
+                this.container = this.container << 8 | this.src[--this.pos] & 0xFF;
+                this.bitCount += 8;
+            }
+        }
+
+        int read(int n) {
+            if (this.bitCount < n) {
+                refill();
+                if (this.bitCount < n) {
+                    int value = (int) ((this.container & (1L << this.bitCount) - 1) << n - this.bitCount);
+                    this.overflow += n - this.bitCount;
+                    this.bitCount = 0;
+                    return value;
+                }
+            }
+            this.bitCount -= n;
+            return (int) (this.container >>> this.bitCount) & (int) ((1L << n) - 1);
+        }
+
+        int peek(int n) {
+            if (this.bitCount < n) {
+                refill();
+                if (this.bitCount < n) {
+                    return (int) ((this.container & (1L << this.bitCount) - 1) << n - this.bitCount);
+                }
+            }
+            return (int) (this.container >>> this.bitCount - n) & (1 << n) - 1;
+        }
+
+        void skip(int n) {
+            if (n > this.bitCount) {
+                this.overflow += n - this.bitCount;
+                this.bitCount = 0;
+            } else {
+                this.bitCount -= n;
+            }
+        }
+
+        boolean isOverflowed() {
+            return this.overflow > 0;
+        }
+
+        boolean isFullyConsumed() {
+            return this.overflow == 0 && this.bitCount == 0 && this.pos == this.start;
+        }
+    }
+}
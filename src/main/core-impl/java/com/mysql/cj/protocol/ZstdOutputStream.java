@@ -0,0 +1,1055 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import static com.mysql.cj.protocol.Zstd.LITERALS_LENGTH;
+import static com.mysql.cj.protocol.Zstd.MATCH_LENGTH;
+import static com.mysql.cj.protocol.Zstd.OFFSETS;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * An {@link OutputStream} that compresses data in the Zstandard format (RFC 8878), as used by the X Protocol compression algorithm "zstd_stream".
+ * 
+ * The whole stream is a single frame with a 128 KiB window, so matches can reference data written before previous flushes. {@link #flush()} ends the current
+ * block and {@link #close()} ends the frame. Alternatively, {@link #finish()} ends the frame and lets the next writes start a new one, so that independent
+ * frames can be produced with the same buffers and tables, as the classic protocol compression does for each packet. Matches are found greedily with a hash
+ * table of 4 bytes sequences, checking the last offset used first.
+ * 
+ * Literals are Huffman coded when their symbols fit a directly described tree, i.e., when no byte value is above 128, which covers ASCII text and JSON
+ * documents. The literals lengths, offsets and match lengths codes of each block are each coded with the predefined FSE distribution, as a single repeated
+ * code, or with an FSE table normalized from that block's codes and described in the block, whichever is estimated the smallest. Blocks that don't shrink
+ * are stored uncompressed.
+ */
+public class ZstdOutputStream extends FilterOutputStream {
+    private static final int WINDOW_LOG = 17;
+    private static final int WINDOW_SIZE = 1 << WINDOW_LOG;
+    private static final int MAX_BUFFER_SIZE = WINDOW_SIZE + Zstd.MAX_BLOCK_SIZE;
+    private static final int HASH_LOG = 14;
+    private static final int MIN_MATCH = 4;
+    private static final int MIN_HUFFMAN_LITERALS = 64;
+    /** Magic number, no content size nor checksum, and a window descriptor. */
+    private static final byte[] FRAME_HEADER = { (byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD, 0, (byte) (WINDOW_LOG - 10 << 3) };
+
+    /** FSE encoding tables of the predefined distributions, see {@link #buildEncodingTable(int[], int, int[], int[])}. */
+    private static final int[][] DEFAULT_ENCODING_TABLES = new int[3][];
+    /** For each symbol of the predefined distributions, a decoding state of that symbol. */
+    private static final int[][] DEFAULT_INITIAL_STATES = new int[3][];
+    private static final byte[] LL_CODES = new byte[64];
+    private static final byte[] ML_CODES = new byte[128];
+    static {
+        for (int kind = 0; kind < 3; kind++) {
+            DEFAULT_ENCODING_TABLES[kind] = new int[Zstd.MAX_SYMBOL[kind] + 1 << Zstd.DEFAULT_ACCURACY_LOG[kind]];
+            DEFAULT_INITIAL_STATES[kind] = new int[Zstd.MAX_SYMBOL[kind] + 1];
+            buildEncodingTable(Zstd.DEFAULT_TABLES[kind], Zstd.DEFAULT_ACCURACY_LOG[kind], DEFAULT_ENCODING_TABLES[kind], DEFAULT_INITIAL_STATES[kind]);
+        }
+        for (int code = 0; code < 25; code++) {
+            for (int i = 0; i < 1 << Zstd.LL_BITS[code] && Zstd.LL_BASE[code] + i < LL_CODES.length; i++) {
+                LL_CODES[Zstd.LL_BASE[code] + i] = (byte) code;
+            }
+        }
+        for (int code = 0; code < 43; code++) {
+            for (int i = 0; i < 1 << Zstd.ML_BITS[code] && Zstd.ML_BASE[code] - 3 + i < ML_CODES.length; i++) {
+                ML_CODES[Zstd.ML_BASE[code] - 3 + i] = (byte) code;
+            }
+        }
+    }
+
+    private byte[] buffer = new byte[16 * 1024];
+    private int pos = 0;
+    private int blockStart = 0;
+    /** Positions of 4 bytes sequences, plus {@link #hashBase} and 1, so that entries below the base are stale without clearing the table. */
+    private final int[] hashTable = new int[1 << HASH_LOG];
+    private int hashBase = 0;
+    private final int[] repeatedOffsets = { 1, 4, 8 };
+
+    private byte[] literals = new byte[0];
+    private int literalsCount;
+    private int[] literalsLengths = new int[0];
+    private int[] matchLengths = new int[0];
+    private int[] offsetValues = new int[0];
+    private byte[][] sequenceCodes = new byte[3][0];
+    private int sequencesCount;
+
+    private final int[][] codeFrequencies = { new int[Zstd.MAX_SYMBOL[0] + 1], new int[Zstd.MAX_SYMBOL[1] + 1], new int[Zstd.MAX_SYMBOL[2] + 1] };
+    private final short[] normalized = new short[Zstd.MAX_SYMBOL[MATCH_LENGTH] + 1];
+    private final int[][] decodingTables = new int[3][];
+    private final int[][] encodingTables = new int[3][];
+    private final int[][] initialStates = new int[3][];
+    private final int[] accuracyLogs = new int[3];
+    private final byte[] tableDescription = new byte[128];
+    private int tableDescriptionLength;
+    private final int[][] fseDecodingTables = new int[3][];
+    private final int[][] fseEncodingTables = new int[3][];
+    private final int[][] fseInitialStates = new int[3][];
+
+    private byte[] compressed = new byte[0];
+    private final BitWriter bits = new BitWriter();
+    private final int[] frequencies = new int[256];
+    private final int[] codeLengths = new int[256];
+    private final int[] codes = new int[256];
+    private final long[] nodes = new long[512];
+    private final int[] parents = new int[512];
+
+    private boolean headerWritten = false;
+    private boolean finished = false;
+    private byte[] singleByte = new byte[1];
+    private boolean closed = false;
+
+    public ZstdOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Forwards the write to {@link #write(byte[], int, int)}.
+     * 
+     * @see FilterOutputStream#write(int)
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.singleByte[0] = (byte) b;
+        write(this.singleByte, 0, 1);
+    }
+
+    /**
+     * Buffers the given bytes, compressing a block each time 128 KiB are collected.
+     * 
+     * @see FilterOutputStream#write(byte[], int, int)
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | (b.length - (len + off)) | (off + len)) < 0) { // Borrowed from FilterOutputStream.
+            throw new IndexOutOfBoundsException();
+        }
+        this.finished = false;
+        while (len > 0) {
+            if (this.pos == this.buffer.length) {
+                makeRoom();
+            }
+            int n = Math.min(len, Math.min(this.buffer.length - this.pos, Zstd.MAX_BLOCK_SIZE - (this.pos - this.blockStart)));
+            System.arraycopy(b, off, this.buffer, this.pos, n);
+            this.pos += n;
+            off += n;
+            len -= n;
+            if (this.pos - this.blockStart == Zstd.MAX_BLOCK_SIZE) {
+                writeBlock(false);
+            }
+        }
+    }
+
+    /**
+     * Compresses the buffered data into a block and flushes the underlying {@link OutputStream}.
+     * 
+     * @see FilterOutputStream#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (this.pos > this.blockStart) {
+            writeBlock(false);
+        }
+        this.out.flush();
+    }
+
+    /**
+     * Compresses the buffered data into the last block of the frame, without flushing nor closing the underlying {@link OutputStream}. Data written afterwards
+     * goes to a new frame, which doesn't reference the data of the previous ones.
+     * 
+     * @throws IOException
+     *             if an I/O error occurs.
+     */
+    public void finish() throws IOException {
+        ensureOpen();
+        writeBlock(true);
+        newFrame();
+        this.finished = true;
+    }
+
+    /**
+     * Compresses the buffered data into the last block of the frame and closes the underlying {@link OutputStream}.
+     * 
+     * @see FilterOutputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            if (!this.finished) {
+                writeBlock(true);
+            }
+            this.out.flush();
+        } finally {
+            this.closed = true;
+            this.out.close();
+        }
+    }
+
+    /**
+     * Grows the buffer or, once it holds a full window, discards the data that no longer fits in the window.
+     */
+    private void makeRoom() {
+        if (this.buffer.length < MAX_BUFFER_SIZE) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.min(MAX_BUFFER_SIZE, this.buffer.length * 2));
+            return;
+        }
+        int delta = this.blockStart - WINDOW_SIZE;
+        System.arraycopy(this.buffer, delta, this.buffer, 0, this.pos - delta);
+        this.pos -= delta;
+        this.blockStart -= delta;
+        rebaseHashTable(delta);
+    }
+
+    /**
+     * Starts a new frame: forgets the data of the previous one.
+     */
+    private void newFrame() {
+        rebaseHashTable(this.pos + 1);
+        this.pos = 0;
+        this.blockStart = 0;
+        this.repeatedOffsets[0] = 1;
+        this.repeatedOffsets[1] = 4;
+        this.repeatedOffsets[2] = 8;
+        this.headerWritten = false;
+    }
+
+    /**
+     * Shifts the positions referenced by the hash table after the data in the buffer moved back.
+     * 
+     * @param delta
+     *            how far the data moved back
+     */
+    private void rebaseHashTable(int delta) {
+        if (this.hashBase > Integer.MAX_VALUE - MAX_BUFFER_SIZE - delta) {
+            Arrays.fill(this.hashTable, 0);
+            this.hashBase = 0;
+        } else {
+            this.hashBase += delta;
+        }
+    }
+
+    private void writeBlock(boolean last) throws IOException {
+        if (!this.headerWritten) {
+            this.out.write(FRAME_HEADER);
+            this.headerWritten = true;
+        }
+
+        int size = this.pos - this.blockStart;
+        if (this.compressed.length < size + 64) {
+            this.compressed = new byte[Math.max(size + 64, Math.min(this.compressed.length * 2, Zstd.MAX_BLOCK_SIZE + 64))];
+        }
+        int[] savedOffsets = this.repeatedOffsets.clone();
+        int compressedSize = size < MIN_MATCH * 4 ? size : compressBlock(this.blockStart, this.pos, this.compressed, 3);
+        byte[] block = this.compressed;
+        int blockHeader;
+        if (compressedSize < size) {
+            blockHeader = compressedSize << 3 | Zstd.BLOCK_COMPRESSED << 1;
+        } else {
+            // Stored blocks don't update the repeated offsets.
+            System.arraycopy(savedOffsets, 0, this.repeatedOffsets, 0, 3);
+            System.arraycopy(this.buffer, this.blockStart, block, 3, size);
+            compressedSize = size;
+            blockHeader = size << 3 | Zstd.BLOCK_RAW << 1;
+        }
+        blockHeader |= last ? 1 : 0;
+        block[0] = (byte) blockHeader;
+        block[1] = (byte) (blockHeader >>> 8);
+        block[2] = (byte) (blockHeader >>> 16);
+        this.out.write(block, 0, 3 + compressedSize);
+        this.blockStart = this.pos;
+    }
+
+    /**
+     * Compresses a block: finds the sequences, then writes the literals and sequences sections.
+     * 
+     * @param start
+     *            the position of the block in the buffer
+     * @param end
+     *            the end of the block in the buffer
+     * @param dst
+     *            the buffer where to write the compressed block
+     * @param dstOff
+     *            the position in {@code dst} where to start writing
+     * @return the size of the compressed block, or a value not smaller than the size of the block if it doesn't compress
+     */
+    private int compressBlock(int start, int end, byte[] dst, int dstOff) {
+        findSequences(start, end);
+        int limit = dstOff + end - start;
+        int op = writeLiterals(dst, dstOff, limit);
+        if (op < limit) {
+            op = writeSequences(dst, op, limit);
+        }
+        return op - dstOff;
+    }
+
+    /**
+     * Finds the sequences of a block, as literals followed by a match, greedily.
+     * 
+     * @param start
+     *            the position of the block in the buffer
+     * @param end
+     *            the end of the block in the buffer
+     */
+    private void findSequences(int start, int end) {
+        int size = end - start;
+        if (this.literals.length < size) {
+            this.literals = new byte[size];
+            this.literalsLengths = new int[size / MIN_MATCH + 1];
+            this.matchLengths = new int[size / MIN_MATCH + 1];
+            this.offsetValues = new int[size / MIN_MATCH + 1];
+            for (int kind = 0; kind < 3; kind++) {
+                this.sequenceCodes[kind] = new byte[size / MIN_MATCH + 1];
+            }
+        }
+        this.literalsCount = 0;
+        this.sequencesCount = 0;
+
+        byte[] src = this.buffer;
+        int[] table = this.hashTable;
+        int base = this.hashBase;
+        int rep0 = this.repeatedOffsets[0];
+        int rep1 = this.repeatedOffsets[1];
+        int rep2 = this.repeatedOffsets[2];
+        int anchor = start;
+        int ip = start;
+        int ipLimit = end - MIN_MATCH;
+        while (ip <= ipLimit) {
+            int sequence = readInt(src, ip);
+            int h = sequence * -1640531535 >>> 32 - HASH_LOG;
+            int candidate = table[h] - base - 1;
+            table[h] = base + ip + 1;
+
+            int matchStart = ip;
+            int offset;
+            if (ip > anchor && rep0 <= ip && readInt(src, ip - rep0) == sequence) {
+                offset = rep0;
+            } else if (candidate >= 0 && ip - candidate <= WINDOW_SIZE && readInt(src, candidate) == sequence) {
+                offset = ip - candidate;
+                while (matchStart > anchor && candidate > 0 && src[matchStart - 1] == src[candidate - 1]) {
+                    matchStart--;
+                    candidate--;
+                }
+            } else {
+                ip += 1 + (ip - anchor >>> 8); // Skip faster over data that doesn't compress.
+                continue;
+            }
+            int matchEnd = ip + MIN_MATCH;
+            while (matchEnd < end && src[matchEnd] == src[matchEnd - offset]) {
+                matchEnd++;
+            }
+
+            int literalsLength = matchStart - anchor;
+            int offsetValue;
+            if (literalsLength > 0) {
+                offsetValue = offset == rep0 ? 1 : offset == rep1 ? 2 : offset == rep2 ? 3 : offset + 3;
+            } else {
+                offsetValue = offset == rep1 ? 1 : offset == rep2 ? 2 : offset == rep0 - 1 ? 3 : offset + 3;
+            }
+            // Same updates of the repeated offsets as in decoding.
+            if (offsetValue > 3) {
+                rep2 = rep1;
+                rep1 = rep0;
+                rep0 = offset;
+            } else if (offsetValue - (literalsLength == 0 ? 0 : 1) != 0) {
+                if (offsetValue - (literalsLength == 0 ? 0 : 1) != 1) {
+                    rep2 = rep1;
+                }
+                rep1 = rep0;
+                rep0 = offset;
+            }
+
+            System.arraycopy(src, anchor, this.literals, this.literalsCount, literalsLength);
+            this.literalsCount += literalsLength;
+            this.literalsLengths[this.sequencesCount] = literalsLength;
+            this.matchLengths[this.sequencesCount] = matchEnd - matchStart;
+            this.offsetValues[this.sequencesCount] = offsetValue;
+            this.sequencesCount++;
+
+            ip = matchEnd;
+            anchor = ip;
+            if (ip <= ipLimit) {
+                table[readInt(src, ip - 2) * -1640531535 >>> 32 - HASH_LOG] = base + ip - 1;
+            }
+        }
+        System.arraycopy(src, anchor, this.literals, this.literalsCount, end - anchor);
+        this.literalsCount += end - anchor;
+
+        this.repeatedOffsets[0] = rep0;
+        this.repeatedOffsets[1] = rep1;
+        this.repeatedOffsets[2] = rep2;
+    }
+
+    /**
+     * Writes the literals section: Huffman coded if worth it, as a single repeated byte, or raw.
+     * 
+     * @param dst
+     *            the buffer where to write the compressed block
+     * @param op
+     *            the position in {@code dst} where to start writing
+     * @param limit
+     *            the position in {@code dst} past which writing isn't useful
+     * @return the position in {@code dst} after the literals section
+     */
+    private int writeLiterals(byte[] dst, int op, int limit) {
+        byte[] lits = this.literals;
+        int count = this.literalsCount;
+        int[] freq = this.frequencies;
+        Arrays.fill(freq, 0);
+        int maxSymbol = 0;
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            freq[lits[i] & 0xFF]++;
+        }
+        for (int s = 0; s < 256; s++) {
+            if (freq[s] > 0) {
+                maxSymbol = s;
+                distinct++;
+            }
+        }
+
+        if (distinct == 1 && count > 1) {
+            op = writeLiteralsHeader(dst, op, Zstd.LITERALS_RLE, count);
+            dst[op++] = lits[0];
+            return op;
+        }
+        if (count >= MIN_HUFFMAN_LITERALS && maxSymbol <= 128) {
+            int huffmanEnd = writeHuffmanLiterals(dst, op, limit, maxSymbol, distinct);
+            if (huffmanEnd > 0) {
+                return huffmanEnd;
+            }
+        }
+        if (op + 3 + count > limit) {
+            return limit;
+        }
+        op = writeLiteralsHeader(dst, op, Zstd.LITERALS_RAW, count);
+        System.arraycopy(lits, 0, dst, op, count);
+        return op + count;
+    }
+
+    private static int writeLiteralsHeader(byte[] dst, int op, int type, int count) {
+        if (count < 32) {
+            dst[op++] = (byte) (type | count << 3);
+        } else if (count < 4096) {
+            dst[op++] = (byte) (type | 1 << 2 | count << 4);
+            dst[op++] = (byte) (count >>> 4);
+        } else {
+            dst[op++] = (byte) (type | 3 << 2 | count << 4);
+            dst[op++] = (byte) (count >>> 4);
+            dst[op++] = (byte) (count >>> 12);
+        }
+        return op;
+    }
+
+    /**
+     * Writes Huffman coded literals, with the tree described by the weights of its symbols in 4 bits each.
+     * 
+     * @param dst
+     *            the buffer where to write the compressed block
+     * @param op
+     *            the position in {@code dst} where to start writing
+     * @param limit
+     *            the position in {@code dst} past which writing isn't useful
+     * @param maxSymbol
+     *            the highest literal value, at most 128
+     * @param distinct
+     *            the number of distinct literal values, at least 2
+     * @return the position in {@code dst} after the literals section, or 0 if Huffman coding doesn't pay off
+     */
+    private int writeHuffmanLiterals(byte[] dst, int op, int limit, int maxSymbol, int distinct) {
+        int count = this.literalsCount;
+        int maxBits = buildCodeLengths(maxSymbol, distinct);
+        int[] lengths = this.codeLengths;
+
+        long totalBits = 0;
+        for (int s = 0; s <= maxSymbol; s++) {
+            totalBits += (long) this.frequencies[s] * lengths[s];
+        }
+        boolean singleStream = count < 256;
+        int treeSize = 1 + (maxSymbol + 1) / 2;
+        int estimate = treeSize + (int) (totalBits >>> 3) + (singleStream ? 1 : 10);
+        int headerSize = Math.max(count, estimate) < 1024 ? 3 : Math.max(count, estimate) < 16384 ? 4 : 5;
+        if (op + headerSize + estimate + 8 >= limit || estimate + headerSize >= count - (count >>> 5)) {
+            return 0;
+        }
+
+        // Canonical codes, in the order the decoder lays out its table: by increasing weight, then by symbol.
+        int[] starts = new int[Zstd.MAX_HUFFMAN_BITS + 2];
+        for (int s = 0; s <= maxSymbol; s++) {
+            if (lengths[s] > 0) {
+                starts[maxBits + 1 - lengths[s]]++;
+            }
+        }
+        int position = 0;
+        for (int weight = 1; weight <= maxBits; weight++) {
+            int n = starts[weight];
+            starts[weight] = position;
+            position += n << weight - 1;
+        }
+        for (int s = 0; s <= maxSymbol; s++) {
+            if (lengths[s] > 0) {
+                int weight = maxBits + 1 - lengths[s];
+                this.codes[s] = starts[weight] >>> weight - 1;
+                starts[weight] += 1 << weight - 1;
+            }
+        }
+
+        int p = op + headerSize;
+        dst[p++] = (byte) (127 + maxSymbol);
+        for (int s = 0; s < maxSymbol; s += 2) {
+            int w1 = lengths[s] == 0 ? 0 : maxBits + 1 - lengths[s];
+            int w2 = s + 1 < maxSymbol && lengths[s + 1] > 0 ? maxBits + 1 - lengths[s + 1] : 0;
+            dst[p++] = (byte) (w1 << 4 | w2);
+        }
+        if (singleStream) {
+            p = writeHuffmanStream(dst, p, limit, 0, count);
+        } else {
+            int segment = (count + 3) / 4;
+            int jumpTable = p;
+            p += 6;
+            for (int i = 0; i < 4 && p > 0; i++) {
+                int streamStart = p;
+                p = writeHuffmanStream(dst, p, limit, i * segment, i < 3 ? segment : count - 3 * segment);
+                if (i < 3 && p > 0) {
+                    if (p - streamStart > 0xFFFF) {
+                        return 0;
+                    }
+                    dst[jumpTable + 2 * i] = (byte) (p - streamStart);
+                    dst[jumpTable + 2 * i + 1] = (byte) (p - streamStart >>> 8);
+                }
+            }
+        }
+        if (p <= 0) {
+            return 0;
+        }
+
+        int compressedSize = p - op - headerSize;
+        int sizeFormat;
+        int sizeBits;
+        if (headerSize == 3) {
+            sizeFormat = singleStream ? 0 : 1;
+            sizeBits = 10;
+        } else {
+            sizeFormat = headerSize - 2;
+            sizeBits = headerSize == 4 ? 14 : 18;
+        }
+        if (compressedSize >= 1 << sizeBits || compressedSize >= count - (count >>> 5)) {
+            return 0;
+        }
+        long header = Zstd.LITERALS_COMPRESSED | sizeFormat << 2 | (long) count << 4 | (long) compressedSize << 4 + sizeBits;
+        for (int i = 0; i < headerSize; i++) {
+            dst[op + i] = (byte) (header >>> 8 * i);
+        }
+        return p;
+    }
+
+    private int writeHuffmanStream(byte[] dst, int op, int limit, int from, int count) {
+        BitWriter bw = this.bits;
+        bw.init(dst, op, limit);
+        byte[] lits = this.literals;
+        int[] c = this.codes;
+        int[] lengths = this.codeLengths;
+        for (int i = from + count - 1; i >= from; i--) {
+            int s = lits[i] & 0xFF;
+            bw.add(c[s], lengths[s]);
+        }
+        return bw.finish();
+    }
+
+    /**
+     * Computes Huffman code lengths of the literals, limited to {@link Zstd#MAX_HUFFMAN_BITS} by halving the frequencies until the tree is shallow enough.
+     * 
+     * @param maxSymbol
+     *            the highest literal value
+     * @param distinct
+     *            the number of distinct literal values
+     * @return the maximum code length
+     */
+    private int buildCodeLengths(int maxSymbol, int distinct) {
+        int[] freq = this.frequencies.clone();
+        long[] n = this.nodes;
+        int[] parent = this.parents;
+        int[] lengths = this.codeLengths;
+        while (true) {
+            // Leaves sorted by frequency, then internal nodes in creation order, which is also by frequency.
+            int leaves = 0;
+            for (int s = 0; s <= maxSymbol; s++) {
+                if (freq[s] > 0) {
+                    n[leaves++] = (long) freq[s] << 8 | s;
+                }
+            }
+            Arrays.sort(n, 0, leaves);
+            int leaf = 0;
+            int node = distinct;
+            for (int next = distinct; next < 2 * distinct - 1; next++) {
+                int a = leaf < distinct && (node >= next || n[leaf] >>> 8 <= n[node] >>> 8) ? leaf++ : node++;
+                int b = leaf < distinct && (node >= next || n[leaf] >>> 8 <= n[node] >>> 8) ? leaf++ : node++;
+                n[next] = (n[a] >>> 8) + (n[b] >>> 8) << 8;
+                parent[a] = next;
+                parent[b] = next;
+            }
+            int root = 2 * distinct - 2;
+            parent[root] = -1;
+            int[] depth = new int[2 * distinct - 1];
+            int maxBits = 0;
+            for (int i = root - 1; i >= 0; i--) {
+                depth[i] = depth[parent[i]] + 1;
+            }
+            Arrays.fill(lengths, 0);
+            for (int i = 0; i < distinct; i++) {
+                lengths[(int) (n[i] & 0xFF)] = depth[i];
+                maxBits = Math.max(maxBits, depth[i]);
+            }
+            if (maxBits <= Zstd.MAX_HUFFMAN_BITS) {
+                return maxBits;
+            }
+            for (int s = 0; s <= maxSymbol; s++) {
+                if (freq[s] > 0) {
+                    freq[s] = (freq[s] + 1) >>> 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the sequences section. Literals lengths, offsets and match lengths codes are each coded with the predefined distribution, a single repeated
+     * code, or a distribution normalized from the codes of this block, whichever is estimated the smallest.
+     * 
+     * @param dst
+     *            the buffer where to write the compressed block
+     * @param op
+     *            the position in {@code dst} where to start writing
+     * @param limit
+     *            the position in {@code dst} past which writing isn't useful
+     * @return the position in {@code dst} after the sequences section, or {@code limit} if that position would be past it
+     */
+    private int writeSequences(byte[] dst, int op, int limit) {
+        int count = this.sequencesCount;
+        if (op + 4 > limit) {
+            return limit;
+        }
+        if (count < 128) {
+            dst[op++] = (byte) count;
+        } else if (count < 0x7F00) {
+            dst[op++] = (byte) ((count >>> 8) + 128);
+            dst[op++] = (byte) count;
+        } else {
+            dst[op++] = (byte) 255;
+            dst[op++] = (byte) (count - 0x7F00);
+            dst[op++] = (byte) (count - 0x7F00 >>> 8);
+        }
+        if (count == 0) {
+            return op;
+        }
+
+        byte[] llCodes = this.sequenceCodes[LITERALS_LENGTH];
+        byte[] ofCodes = this.sequenceCodes[OFFSETS];
+        byte[] mlCodes = this.sequenceCodes[MATCH_LENGTH];
+        for (int[] frequency : this.codeFrequencies) {
+            Arrays.fill(frequency, 0);
+        }
+        for (int i = 0; i < count; i++) {
+            int code = literalsLengthCode(this.literalsLengths[i]);
+            llCodes[i] = (byte) code;
+            this.codeFrequencies[LITERALS_LENGTH][code]++;
+            code = matchLengthCode(this.matchLengths[i]);
+            mlCodes[i] = (byte) code;
+            this.codeFrequencies[MATCH_LENGTH][code]++;
+            code = 31 - Integer.numberOfLeadingZeros(this.offsetValues[i]);
+            ofCodes[i] = (byte) code;
+            this.codeFrequencies[OFFSETS][code]++;
+        }
+
+        int modesPosition = op++;
+        int modes = 0;
+        for (int kind : new int[] { LITERALS_LENGTH, OFFSETS, MATCH_LENGTH }) {
+            int mode = selectTable(kind, count);
+            modes |= mode << 6 - 2 * kind;
+            if (mode == 1) {
+                dst[op++] = (byte) (this.decodingTables[kind][0] & 0xFF);
+            } else if (mode == 2) {
+                if (op + this.tableDescriptionLength + 4 > limit) {
+                    return limit;
+                }
+                System.arraycopy(this.tableDescription, 0, dst, op, this.tableDescriptionLength);
+                op += this.tableDescriptionLength;
+            }
+        }
+        dst[modesPosition] = (byte) modes;
+
+        int[] llEncoding = this.encodingTables[LITERALS_LENGTH];
+        int[] ofEncoding = this.encodingTables[OFFSETS];
+        int[] mlEncoding = this.encodingTables[MATCH_LENGTH];
+        int[] llDecoding = this.decodingTables[LITERALS_LENGTH];
+        int[] ofDecoding = this.decodingTables[OFFSETS];
+        int[] mlDecoding = this.decodingTables[MATCH_LENGTH];
+        int llLog = this.accuracyLogs[LITERALS_LENGTH];
+        int ofLog = this.accuracyLogs[OFFSETS];
+        int mlLog = this.accuracyLogs[MATCH_LENGTH];
+
+        BitWriter bw = this.bits;
+        bw.init(dst, op, limit);
+        // The decoder reads the bitstream backwards, so sequences are written from last to first, each in the reverse order of decoding.
+        int i = count - 1;
+        int llCode = llCodes[i];
+        int mlCode = mlCodes[i];
+        int ofCode = ofCodes[i];
+        int llState = this.initialStates[LITERALS_LENGTH][llCode];
+        int mlState = this.initialStates[MATCH_LENGTH][mlCode];
+        int ofState = this.initialStates[OFFSETS][ofCode];
+        while (true) {
+            bw.add(this.literalsLengths[i] - Zstd.LL_BASE[llCode], Zstd.LL_BITS[llCode]);
+            bw.add(this.matchLengths[i] - Zstd.ML_BASE[mlCode], Zstd.ML_BITS[mlCode]);
+            bw.add(this.offsetValues[i] - (1 << ofCode), ofCode);
+            if (--i < 0) {
+                break;
+            }
+            llCode = llCodes[i];
+            mlCode = mlCodes[i];
+            ofCode = ofCodes[i];
+            int previous = ofEncoding[(ofCode << ofLog) + ofState];
+            bw.add(ofState - (ofDecoding[previous] >>> 16), ofDecoding[previous] >>> 8 & 0xFF);
+            ofState = previous;
+            previous = mlEncoding[(mlCode << mlLog) + mlState];
+            bw.add(mlState - (mlDecoding[previous] >>> 16), mlDecoding[previous] >>> 8 & 0xFF);
+            mlState = previous;
+            previous = llEncoding[(llCode << llLog) + llState];
+            bw.add(llState - (llDecoding[previous] >>> 16), llDecoding[previous] >>> 8 & 0xFF);
+            llState = previous;
+        }
+        bw.add(mlState, mlLog);
+        bw.add(ofState, ofLog);
+        bw.add(llState, llLog);
+        int end = bw.finish();
+        return end > 0 ? end : limit;
+    }
+
+    /**
+     * Selects how to code the literals lengths, offsets or match lengths codes of the current block, and prepares the tables to do it.
+     * 
+     * @param kind
+     *            one of {@link Zstd#LITERALS_LENGTH}, {@link Zstd#OFFSETS} or {@link Zstd#MATCH_LENGTH}
+     * @param count
+     *            the number of sequences
+     * @return the compression mode: 0 for predefined, 1 for RLE or 2 for FSE compressed
+     */
+    private int selectTable(int kind, int count) {
+        int[] frequency = this.codeFrequencies[kind];
+        int maxSymbol = 0;
+        int distinct = 0;
+        for (int s = 0; s < frequency.length; s++) {
+            if (frequency[s] > 0) {
+                maxSymbol = s;
+                distinct++;
+            }
+        }
+
+        if (distinct == 1) {
+            if (this.fseDecodingTables[kind] == null) {
+                allocateTables(kind);
+            }
+            this.fseDecodingTables[kind][0] = maxSymbol;
+            this.fseEncodingTables[kind][maxSymbol] = 0;
+            this.fseInitialStates[kind][maxSymbol] = 0;
+            useTables(kind, this.fseDecodingTables[kind], 0, this.fseEncodingTables[kind], this.fseInitialStates[kind]);
+            return 1;
+        }
+
+        short[] defaults = Zstd.DEFAULT_DISTRIBUTIONS[kind];
+        double predefinedCost = 0;
+        for (int s = 0; s <= maxSymbol; s++) {
+            if (frequency[s] > 0) {
+                predefinedCost += frequency[s] * (Zstd.DEFAULT_ACCURACY_LOG[kind] - log2(Math.max(1, defaults[s])));
+            }
+        }
+
+        if (count >= 32) { // Below, a table description can't pay off.
+            int log = normalize(frequency, maxSymbol, count, Zstd.MAX_ACCURACY_LOG[kind]);
+            this.tableDescriptionLength = writeNormalizedCounts(this.tableDescription, maxSymbol, log);
+            double cost = 8 * this.tableDescriptionLength;
+            for (int s = 0; s <= maxSymbol; s++) {
+                if (frequency[s] > 0) {
+                    cost += frequency[s] * (log - log2(this.normalized[s]));
+                }
+            }
+            if (cost < predefinedCost) {
+                if (this.fseDecodingTables[kind] == null) {
+                    allocateTables(kind);
+                }
+                Zstd.buildFseTable(this.normalized, maxSymbol + 1, log, this.fseDecodingTables[kind]);
+                buildEncodingTable(this.fseDecodingTables[kind], log, this.fseEncodingTables[kind], this.fseInitialStates[kind]);
+                useTables(kind, this.fseDecodingTables[kind], log, this.fseEncodingTables[kind], this.fseInitialStates[kind]);
+                return 2;
+            }
+        }
+
+        useTables(kind, Zstd.DEFAULT_TABLES[kind], Zstd.DEFAULT_ACCURACY_LOG[kind], DEFAULT_ENCODING_TABLES[kind], DEFAULT_INITIAL_STATES[kind]);
+        return 0;
+    }
+
+    private void allocateTables(int kind) {
+        this.fseDecodingTables[kind] = new int[1 << Zstd.MAX_ACCURACY_LOG[kind]];
+        this.fseEncodingTables[kind] = new int[Zstd.MAX_SYMBOL[kind] + 1 << Zstd.MAX_ACCURACY_LOG[kind]];
+        this.fseInitialStates[kind] = new int[Zstd.MAX_SYMBOL[kind] + 1];
+    }
+
+    private void useTables(int kind, int[] decoding, int log, int[] encoding, int[] initial) {
+        this.decodingTables[kind] = decoding;
+        this.accuracyLogs[kind] = log;
+        this.encodingTables[kind] = encoding;
+        this.initialStates[kind] = initial;
+    }
+
+    /**
+     * Normalizes the frequencies of codes into {@link #normalized}, so that they add up to a power of 2, giving each code present a count of at least 1.
+     * 
+     * @param frequency
+     *            the frequencies of the codes
+     * @param maxSymbol
+     *            the highest code present
+     * @param total
+     *            the sum of the frequencies
+     * @param maxLog
+     *            the maximum accuracy log
+     * @return the accuracy log of the normalized distribution
+     */
+    private int normalize(int[] frequency, int maxSymbol, int total, int maxLog) {
+        // Same choice as the reference implementation: not more states than needed to represent the frequencies, nor fewer than needed to tell the codes apart.
+        int log = Math.min(maxLog, 31 - Integer.numberOfLeadingZeros(total - 1) - 2);
+        log = Math.max(log, Math.min(31 - Integer.numberOfLeadingZeros(total) + 1, 31 - Integer.numberOfLeadingZeros(maxSymbol) + 2));
+        log = Math.max(5, Math.min(maxLog, log));
+        int size = 1 << log;
+
+        short[] norm = this.normalized;
+        int sum = 0;
+        int largest = 0;
+        for (int s = 0; s <= maxSymbol; s++) {
+            if (frequency[s] == 0) {
+                norm[s] = 0;
+                continue;
+            }
+            norm[s] = (short) Math.max(1, ((long) frequency[s] * size + (total >>> 1)) / total);
+            sum += norm[s];
+            if (norm[s] > norm[largest]) {
+                largest = s;
+            }
+        }
+        if (sum <= size) {
+            norm[largest] += size - sum;
+        } else {
+            // Rounding up rare codes took too many states, take them back from the most frequent codes.
+            for (; sum > size; sum--) {
+                norm[largest]--;
+                for (int s = 0; s <= maxSymbol; s++) {
+                    if (norm[s] > norm[largest]) {
+                        largest = s;
+                    }
+                }
+            }
+        }
+        return log;
+    }
+
+    /**
+     * Writes the description of the distribution in {@link #normalized}, as read by the decoder before building its FSE table. This is the counterpart of
+     * {@link ZstdInputStream}'s reading of normalized counts.
+     * 
+     * @param dst
+     *            the buffer where to write the description
+     * @param maxSymbol
+     *            the highest code present
+     * @param log
+     *            the accuracy log of the distribution
+     * @return the size of the description
+     */
+    private int writeNormalizedCounts(byte[] dst, int maxSymbol, int log) {
+        BitWriter bw = this.bits;
+        bw.init(dst, 0, dst.length);
+        bw.add(log - 5, 4);
+        short[] norm = this.normalized;
+        int remaining = (1 << log) + 1;
+        int threshold = 1 << log;
+        int nbBits = log + 1;
+        int symbol = 0;
+        boolean previousZero = false;
+        while (symbol <= maxSymbol && remaining > 1) {
+            if (previousZero) {
+                int start = symbol;
+                while (norm[symbol] == 0) {
+                    symbol++;
+                }
+                for (; symbol >= start + 24; start += 24) {
+                    bw.add(0xFFFF, 16);
+                }
+                for (; symbol >= start + 3; start += 3) {
+                    bw.add(3, 2);
+                }
+                bw.add(symbol - start, 2);
+            }
+            int value = norm[symbol++];
+            int max = 2 * threshold - 1 - remaining;
+            remaining -= value;
+            value++;
+            if (value >= threshold) {
+                value += max;
+            }
+            bw.add(value, value < max ? nbBits - 1 : nbBits);
+            previousZero = value == 1;
+            while (remaining < threshold) {
+                nbBits--;
+                threshold >>>= 1;
+            }
+        }
+        return bw.flushBits();
+    }
+
+    private static double log2(int n) {
+        return Math.log(n) / Math.log(2);
+    }
+
+    /**
+     * Inverts an FSE decoding table into an encoding table: for each symbol and each state reached after decoding it, the state from which the decoder
+     * reaches that state when decoding that symbol.
+     * 
+     * @param decoding
+     *            the decoding table
+     * @param log
+     *            the accuracy log of the decoding table
+     * @param encoding
+     *            the encoding table to fill, indexed by {@code symbol << log | state}
+     * @param initial
+     *            the array to fill with a decoding state of each symbol, to start encoding with
+     */
+    private static void buildEncodingTable(int[] decoding, int log, int[] encoding, int[] initial) {
+        for (int state = (1 << log) - 1; state >= 0; state--) {
+            int entry = decoding[state];
+            int symbol = entry & 0xFF;
+            int from = (symbol << log) + (entry >>> 16);
+            Arrays.fill(encoding, from, from + (1 << (entry >>> 8 & 0xFF)), state);
+            initial[symbol] = state;
+        }
+    }
+
+    private static int literalsLengthCode(int length) {
+        return length < 64 ? LL_CODES[length] : 31 - Integer.numberOfLeadingZeros(length) + 19;
+    }
+
+    private static int matchLengthCode(int length) {
+        int base = length - 3;
+        return base < 128 ? ML_CODES[base] : 31 - Integer.numberOfLeadingZeros(base) + 36;
+    }
+
+    private static int readInt(byte[] b, int off) {
+        return b[off] & 0xFF | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | b[off + 3] << 24;
+    }
+
+    /**
+     * Ensures that this {@link OutputStream} wasn't closed yet.
+     * 
+     * @throws IOException
+     *             if this {@link OutputStream} was closed.
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Writer of the bitstreams that decoders read backwards. Bits are appended from the lowest to the highest, and a final bit set marks the end.
+     */
+    private static final class BitWriter {
+        private byte[] dst;
+        private int op;
+        private int limit;
+        private long container;
+        private int bitCount;
+
+        BitWriter() {
+        }
+
+        void init(byte[] b, int off, int lim) {
+            this.dst = b;
+            this.op = off;
+            this.limit = lim;
+            this.container = 0;
+            this.bitCount = 0;
+        }
+
+        void add(int value, int n) {
+            this.container |= (long) value << this.bitCount;
+            this.bitCount += n;
+            if (this.bitCount >= 32) {
+                if (this.op + 4 <= this.limit) {
+                    byte[] b = this.dst;
+                    int o = this.op;
+                    b[o] = (byte) this.container;
+                    b[o + 1] = (byte) (this.container >>> 8);
+                    b[o + 2] = (byte) (this.container >>> 16);
+                    b[o + 3] = (byte) (this.container >>> 24);
+                }
+                this.op += 4;
+                this.container >>>= 32;
+                this.bitCount -= 32;
+            }
+        }
+
+        /**
+         * Adds the end mark and writes the remaining bits.
+         * 
+         * @return the position after the bitstream, or 0 if the bitstream didn't fit before the limit
+         */
+        int finish() {
+            add(1, 1);
+            return flushBits();
+        }
+
+        /**
+         * Writes the remaining bits, padding the last byte with zeros.
+         * 
+         * @return the position after the bitstream, or 0 if the bitstream didn't fit before the limit
+         */
+        int flushBits() {
+            while (this.bitCount > 0) {
+                if (this.op < this.limit) {
+                    this.dst[this.op] = (byte) this.container;
+                }
+                this.op++;
+                this.container >>>= 8;
+                this.bitCount -= 8;
+            }
+            return this.op <= this.limit ? this.op : 0;
+        }
+    }
+}
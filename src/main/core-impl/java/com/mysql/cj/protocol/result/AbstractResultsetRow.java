@@ -245,6 +245,84 @@ public abstract class AbstractResultsetRow implements ResultsetRow {
         return retVal;
     }
 
+    /**
+     * Get a primitive long from a byte array. Integer protocol types are decoded by {@link ValueDecoder#decodeAsLong(byte[], int, int, Field)}, other
+     * types go through the value factory.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @param vf
+     *            value factory for types that can't be decoded directly
+     * @return value
+     */
+    protected long getLongFromBytes(int columnIndex, byte[] bytes, int offset, int length, ValueFactory<? extends Number> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        Field f = this.metadata.getFields()[columnIndex];
+        if (isDirectlyDecodableInteger(f)) {
+            return this.valueDecoder.decodeAsLong(bytes, offset, length, f);
+        }
+        Number retVal = decodeAndCreateReturnValue(columnIndex, bytes, offset, length, vf);
+        this.wasNull = (retVal == null);
+        return retVal == null ? 0 : retVal.longValue();
+    }
+
+    /**
+     * Get a primitive double from a byte array. Integer and floating point protocol types are decoded by the {@link ValueDecoder} directly, other types go
+     * through the value factory.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @param vf
+     *            value factory for types that can't be decoded directly
+     * @return value
+     */
+    protected double getDoubleFromBytes(int columnIndex, byte[] bytes, int offset, int length, ValueFactory<? extends Number> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        Field f = this.metadata.getFields()[columnIndex];
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_FLOAT:
+            case MysqlType.FIELD_TYPE_DOUBLE:
+                return this.valueDecoder.decodeAsDouble(bytes, offset, length, f);
+        }
+        if (isDirectlyDecodableInteger(f)) {
+            return this.valueDecoder.decodeAsLong(bytes, offset, length, f);
+        }
+        Number retVal = decodeAndCreateReturnValue(columnIndex, bytes, offset, length, vf);
+        this.wasNull = (retVal == null);
+        return retVal == null ? 0 : retVal.doubleValue();
+    }
+
+    private static boolean isDirectlyDecodableInteger(Field f) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+            case MysqlType.FIELD_TYPE_SHORT:
+            case MysqlType.FIELD_TYPE_INT24:
+            case MysqlType.FIELD_TYPE_LONG:
+                return true;
+            case MysqlType.FIELD_TYPE_LONGLONG:
+                // unsigned values above Long.MAX_VALUE need a BigInteger
+                return !f.isUnsigned();
+            default:
+                return false;
+        }
+    }
+
     @Override
     public Row setMetadata(ColumnDefinition f) {
         this.metadata = f;
@@ -60,6 +60,17 @@ public class ByteValueFactory extends DefaultValueFactory<Byte> {
 
     @Override
     public Byte createFromLong(long l) {
+        return createByteFromLong(l);
+    }
+
+    /**
+     * Primitive counterpart of {@link #createFromLong(long)}.
+     * 
+     * @param l
+     *            value
+     * @return value
+     */
+    public byte createByteFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Byte.MIN_VALUE || l > Byte.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
@@ -29,9 +29,9 @@
 
 package com.mysql.cj.result;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Function;
 
 import com.mysql.cj.protocol.ColumnDefinition;
 
@@ -46,12 +46,6 @@ public class DefaultColumnDefinition implements ColumnDefinition {
     /** Map column names (and all of their permutations) to column indices */
     private Map<String, Integer> columnLabelToIndex = null;
 
-    /**
-     * The above map is a case-insensitive tree-map, it can be slow, this caches lookups into that map, because the other alternative is to create new
-     * object instances for every call to findColumn()....
-     */
-    private Map<String, Integer> columnToIndexCache = new HashMap<>();
-
     /** Map of fully-specified column names to column indices */
     private Map<String, Integer> fullColumnNameToIndex = null;
 
@@ -60,6 +54,14 @@ public class DefaultColumnDefinition implements ColumnDefinition {
 
     private boolean builtIndexMapping = false;
 
+    /**
+     * Lookup tables behind {@link #findColumn(String, boolean, int)}, built from the fields on first use. Result sets may be read from several threads, so they
+     * are volatile and labelTable, written last, tells whether the other two are built.
+     */
+    private volatile ColumnIndexTable labelTable = null;
+    private volatile ColumnIndexTable nameTable = null;
+    private volatile ColumnIndexTable fullNameTable = null;
+
     public DefaultColumnDefinition() {
     }
 
@@ -73,6 +75,9 @@ public class DefaultColumnDefinition implements ColumnDefinition {
 
     public void setFields(Field[] fields) {
         this.fields = fields;
+        this.labelTable = null;
+        this.nameTable = null;
+        this.fullNameTable = null;
     }
 
     @Override
@@ -144,16 +149,11 @@ public class DefaultColumnDefinition implements ColumnDefinition {
         this.columnNameToIndex = colNameToIndex;
     }
 
-    public Map<String, Integer> getColumnToIndexCache() {
-        return this.columnToIndexCache;
-    }
-
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache) {
-        this.columnToIndexCache = columnToIndexCache;
-    }
-
     public void initializeFrom(ColumnDefinition columnDefinition) {
         this.fields = columnDefinition.getFields();
+        this.labelTable = null;
+        this.nameTable = null;
+        this.fullNameTable = null;
         this.columnLabelToIndex = columnDefinition.getColumnNameToIndex();
         this.fullColumnNameToIndex = columnDefinition.getFullColumnNameToIndex();
         this.builtIndexMapping = true;
@@ -166,46 +166,29 @@ public class DefaultColumnDefinition implements ColumnDefinition {
     }
 
     public int findColumn(String columnName, boolean useColumnNamesInFindColumn, int indexBase) {
-
-        Integer index;
-
-        if (!hasBuiltIndexMapping()) {
-            buildIndexMapping();
+        ColumnIndexTable labels = this.labelTable;
+        ColumnIndexTable names;
+        ColumnIndexTable fullNames;
+        if (labels == null) {
+            this.nameTable = names = new ColumnIndexTable(this.fields, Field::getOriginalName);
+            this.fullNameTable = fullNames = new ColumnIndexTable(this.fields, Field::getFullName);
+            this.labelTable = labels = new ColumnIndexTable(this.fields, Field::getName);
+        } else {
+            names = this.nameTable;
+            fullNames = this.fullNameTable;
         }
 
-        index = this.columnToIndexCache.get(columnName);
+        int index = labels.get(columnName);
 
-        if (index != null) {
-            return index.intValue() + indexBase;
+        if (index == -1 && useColumnNamesInFindColumn) {
+            index = names.get(columnName);
         }
 
-        index = this.columnLabelToIndex.get(columnName);
-
-        if (index == null && useColumnNamesInFindColumn) {
-            index = this.columnNameToIndex.get(columnName);
-        }
-
-        if (index == null) {
-            index = this.fullColumnNameToIndex.get(columnName);
-        }
-
-        if (index != null) {
-            this.columnToIndexCache.put(columnName, index);
-
-            return index.intValue() + indexBase;
+        if (index == -1) {
+            index = fullNames.get(columnName);
         }
 
-        // Try this inefficient way, now
-
-        for (int i = 0; i < this.fields.length; i++) {
-            if (this.fields[i].getName().equalsIgnoreCase(columnName)) {
-                return i + indexBase;
-            } else if (this.fields[i].getFullName().equalsIgnoreCase(columnName)) {
-                return i + indexBase;
-            }
-        }
-
-        return -1;
+        return index == -1 ? -1 : index + indexBase;
     }
 
     /**
@@ -236,4 +219,90 @@ public class DefaultColumnDefinition implements ColumnDefinition {
         return false;
     }
 
+    /**
+     * Case-insensitive open-addressing table from column names to column indices. Keys are compared the way {@link String#CASE_INSENSITIVE_ORDER} compares
+     * them, and the first column with a given name wins, as the JDBC spec requires. Names spelled exactly as in the metadata, the usual case, are found
+     * through a second table keyed on the cached {@link String#hashCode()} before falling back to hashing the name case-insensitively. Lookups don't
+     * allocate, unlike lookups in a case-insensitive {@link TreeMap}.
+     */
+    static final class ColumnIndexTable {
+        private final String[] keys;
+        private final int[] indices;
+        private final String[] exactKeys;
+        private final int[] exactIndices;
+        private final int mask;
+
+        ColumnIndexTable(Field[] fields, Function<Field, String> key) {
+            int capacity = 2;
+            while (capacity < fields.length * 2) {
+                capacity <<= 1;
+            }
+            this.keys = new String[capacity];
+            this.indices = new int[capacity];
+            this.exactKeys = new String[capacity];
+            this.exactIndices = new int[capacity];
+            this.mask = capacity - 1;
+
+            for (int i = 0; i < fields.length; i++) {
+                String name = key.apply(fields[i]);
+                if (name == null) {
+                    continue;
+                }
+                int slot = hash(name) & this.mask;
+                while (this.keys[slot] != null && !this.keys[slot].equalsIgnoreCase(name)) {
+                    slot = (slot + 1) & this.mask;
+                }
+                if (this.keys[slot] == null) {
+                    this.keys[slot] = name;
+                    this.indices[slot] = i;
+                }
+
+                slot = spread(name.hashCode()) & this.mask;
+                while (this.exactKeys[slot] != null && !this.exactKeys[slot].equals(name)) {
+                    slot = (slot + 1) & this.mask;
+                }
+                if (this.exactKeys[slot] == null) {
+                    this.exactKeys[slot] = name;
+                    // "A" and "a" both resolve to whichever came first
+                    this.exactIndices[slot] = this.indices[slot(name)];
+                }
+            }
+        }
+
+        int get(String name) {
+            int slot = spread(name.hashCode()) & this.mask;
+            String key;
+            while ((key = this.exactKeys[slot]) != null) {
+                if (key.equals(name)) {
+                    return this.exactIndices[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+
+            slot = slot(name);
+            return this.keys[slot] == null ? -1 : this.indices[slot];
+        }
+
+        private int slot(String name) {
+            int slot = hash(name) & this.mask;
+            String key;
+            while ((key = this.keys[slot]) != null && !key.equalsIgnoreCase(name)) {
+                slot = (slot + 1) & this.mask;
+            }
+            return slot;
+        }
+
+        private static int hash(String name) {
+            int h = 0;
+            for (int i = 0; i < name.length(); i++) {
+                // equal for any two chars String.equalsIgnoreCase() considers equal
+                h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+            }
+            return spread(h);
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
 }
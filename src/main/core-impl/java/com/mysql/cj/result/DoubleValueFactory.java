@@ -75,6 +75,17 @@ public class DoubleValueFactory extends AbstractNumericValueFactory<Double> {
 
     @Override
     public Double createFromDouble(double d) {
+        return createDoubleFromDouble(d);
+    }
+
+    /**
+     * Primitive counterpart of {@link #createFromDouble(double)}.
+     * 
+     * @param d
+     *            value
+     * @return value
+     */
+    public double createDoubleFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < -Double.MAX_VALUE || d > Double.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
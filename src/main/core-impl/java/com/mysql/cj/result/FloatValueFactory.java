@@ -75,6 +75,17 @@ public class FloatValueFactory extends AbstractNumericValueFactory<Float> {
 
     @Override
     public Float createFromDouble(double d) {
+        return createFloatFromDouble(d);
+    }
+
+    /**
+     * Primitive counterpart of {@link #createFromDouble(double)}.
+     * 
+     * @param d
+     *            value
+     * @return value
+     */
+    public float createFloatFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < -Float.MAX_VALUE || d > Float.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
@@ -58,6 +58,17 @@ public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> {
 
     @Override
     public Integer createFromLong(long l) {
+        return createIntFromLong(l);
+    }
+
+    /**
+     * Primitive counterpart of {@link #createFromLong(long)}.
+     * 
+     * @param l
+     *            value
+     * @return value
+     */
+    public int createIntFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
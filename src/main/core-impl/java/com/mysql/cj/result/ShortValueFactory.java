@@ -58,6 +58,17 @@ public class ShortValueFactory extends AbstractNumericValueFactory<Short> {
 
     @Override
     public Short createFromLong(long l) {
+        return createShortFromLong(l);
+    }
+
+    /**
+     * Primitive counterpart of {@link #createFromLong(long)}.
+     * 
+     * @param l
+     *            value
+     * @return value
+     */
+    public short createShortFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Short.MIN_VALUE || l > Short.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
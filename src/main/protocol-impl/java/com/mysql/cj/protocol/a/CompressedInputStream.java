@@ -29,29 +29,49 @@
 
 package com.mysql.cj.protocol.a;
 
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
 import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.ZstdInputStream;
 import com.mysql.cj.util.StringUtils;
 
 /**
  * Used to de-compress packets from the MySQL server when protocol-level compression is turned on.
+ * 
+ * The buffers are kept from one packet to the next, unless they had to grow larger than {@link #MAX_RETAINED_BUFFER_SIZE} for a large packet.
  */
 public class CompressedInputStream extends InputStream {
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
     /** The packet data after it has been un-compressed */
     private byte[] buffer;
 
+    /** The end of the packet data in {@link #buffer} */
+    private int limit = 0;
+
+    /** The packet data as it was read from the server */
+    private byte[] compressedBuffer;
+
     /** The stream we are reading from the server */
     private InputStream in;
 
-    /** The ZIP inflater used to un-compress packets */
+    /** The ZIP inflater used to un-compress packets, when "zlib" was negotiated */
     private Inflater inflater;
 
+    /** The Zstandard decompressor used to un-compress packets, when "zstd" was negotiated */
+    private ZstdInputStream zstd;
+
+    /** The compressed packet {@link #zstd} reads from */
+    private CompressedPacketInputStream zstdInput;
+
     /** Connection property reference */
     private RuntimeProperty<Boolean> traceProtocol;
 
@@ -78,10 +98,32 @@ public class CompressedInputStream extends InputStream {
      *            logger
      */
     public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log) {
+        this(streamFromServer, traceProtocol, log, NativeCompressionAlgorithm.ZLIB);
+    }
+
+    /**
+     * Creates a new CompressedInputStream that reads the given stream from the
+     * server, un-compressing packets with the given algorithm.
+     * 
+     * @param streamFromServer
+     *            original server InputStream
+     * @param traceProtocol
+     *            "traceProtocol" property
+     * @param log
+     *            logger
+     * @param algorithm
+     *            the negotiated compression algorithm
+     */
+    public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log, NativeCompressionAlgorithm algorithm) {
         this.traceProtocol = traceProtocol;
         this.log = log;
         this.in = streamFromServer;
-        this.inflater = new Inflater();
+        if (algorithm == NativeCompressionAlgorithm.ZSTD) {
+            this.zstdInput = new CompressedPacketInputStream();
+            this.zstd = new ZstdInputStream(this.zstdInput);
+        } else {
+            this.inflater = new Inflater();
+        }
     }
 
     @Override
@@ -90,15 +132,20 @@ public class CompressedInputStream extends InputStream {
             return this.in.available();
         }
 
-        return this.buffer.length - this.pos + this.in.available();
+        return this.limit - this.pos + this.in.available();
     }
 
     @Override
     public void close() throws IOException {
         this.in.close();
         this.buffer = null;
-        this.inflater.end();
-        this.inflater = null;
+        this.compressedBuffer = null;
+        if (this.inflater != null) {
+            this.inflater.end();
+            this.inflater = null;
+        }
+        this.zstd = null;
+        this.zstdInput = null;
         this.traceProtocol = null;
         this.log = null;
     }
@@ -111,8 +158,6 @@ public class CompressedInputStream extends InputStream {
      *             if an I/O error occurs
      */
     private void getNextPacketFromServer() throws IOException {
-        byte[] uncompressedData = null;
-
         int lengthRead = readFully(this.packetHeaderBuffer, 0, 7);
 
         if (lengthRead < 7) {
@@ -131,21 +176,27 @@ public class CompressedInputStream extends InputStream {
             this.log.logTrace("Reading compressed packet of length " + compressedPacketLength + " uncompressed to " + uncompressedLength);
         }
 
-        if (uncompressedLength > 0) {
-            uncompressedData = new byte[uncompressedLength];
-
-            byte[] compressedBuffer = new byte[compressedPacketLength];
-
-            readFully(compressedBuffer, 0, compressedPacketLength);
+        int remaining = this.limit - this.pos;
+        if (doTrace && remaining > 0) {
+            this.log.logTrace("Combining remaining packet with new: ");
+        }
+        // the remaining data is moved to the beginning of the buffer, followed by the new packet
+        int dataLength = uncompressedLength > 0 ? uncompressedLength : compressedPacketLength;
+        prepareBuffer(remaining, dataLength);
 
-            this.inflater.reset();
+        if (uncompressedLength > 0) {
+            if (this.compressedBuffer == null || this.compressedBuffer.length < compressedPacketLength
+                    || this.compressedBuffer.length > MAX_RETAINED_BUFFER_SIZE && compressedPacketLength <= MAX_RETAINED_BUFFER_SIZE) {
+                this.compressedBuffer = new byte[Math.max(compressedPacketLength, INITIAL_BUFFER_SIZE)];
+            }
 
-            this.inflater.setInput(compressedBuffer);
+            readFully(this.compressedBuffer, 0, compressedPacketLength);
 
-            try {
-                this.inflater.inflate(uncompressedData);
-            } catch (DataFormatException dfe) {
-                throw new IOException("Error while uncompressing packet from server.");
+            if (this.zstd != null) {
+                this.zstdInput.setPacket(this.compressedBuffer, compressedPacketLength);
+                inflateZstd(this.buffer, remaining, uncompressedLength);
+            } else {
+                inflate(this.compressedBuffer, compressedPacketLength, this.buffer, remaining, uncompressedLength);
             }
 
         } else {
@@ -156,41 +207,82 @@ public class CompressedInputStream extends InputStream {
             //	
             // Read data, note this this code is reached when using compressed packets that have not been compressed, as well
             //
-            uncompressedLength = compressedPacketLength;
-            uncompressedData = new byte[uncompressedLength];
-            readFully(uncompressedData, 0, uncompressedLength);
+            readFully(this.buffer, remaining, compressedPacketLength);
         }
 
+        this.limit = remaining + dataLength;
+
         if (doTrace) {
-            if (uncompressedLength > 1024) {
+            byte[] uncompressedData = Arrays.copyOfRange(this.buffer, remaining, this.limit);
+            if (dataLength > 1024) {
                 this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, 256));
                 byte[] tempData = new byte[256];
-                System.arraycopy(uncompressedData, uncompressedLength - 256, tempData, 0, 256);
+                System.arraycopy(uncompressedData, dataLength - 256, tempData, 0, 256);
                 this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(tempData, 256));
                 this.log.logTrace("Large packet dump truncated. Showing first and last 256 bytes.");
             } else {
-                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, uncompressedLength));
+                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, dataLength));
             }
         }
+    }
 
-        if ((this.buffer != null) && (this.pos < this.buffer.length)) {
-            if (doTrace) {
-                this.log.logTrace("Combining remaining packet with new: ");
+    /**
+     * Moves the unread data to the beginning of the buffer, making room for a new packet after it.
+     * 
+     * @param remaining
+     *            length of the unread data, starting at {@link #pos}
+     * @param packetLength
+     *            length of the new packet
+     */
+    private void prepareBuffer(int remaining, int packetLength) {
+        int needed = remaining + packetLength;
+        if (this.buffer == null || this.buffer.length < needed || this.buffer.length > MAX_RETAINED_BUFFER_SIZE && needed <= MAX_RETAINED_BUFFER_SIZE) {
+            byte[] newBuffer = new byte[Math.max(needed, INITIAL_BUFFER_SIZE)];
+            if (remaining > 0) {
+                System.arraycopy(this.buffer, this.pos, newBuffer, 0, remaining);
             }
+            this.buffer = newBuffer;
+        } else if (remaining > 0) {
+            System.arraycopy(this.buffer, this.pos, this.buffer, 0, remaining);
+        }
+        this.pos = 0;
+        this.limit = remaining;
+    }
 
-            int remaining = this.buffer.length - this.pos;
-            byte[] newBuffer = new byte[remaining + uncompressedData.length];
+    private void inflate(byte[] compressedData, int compressedLength, byte[] b, int off, int len) throws IOException {
+        this.inflater.reset();
 
-            System.arraycopy(this.buffer, this.pos, newBuffer, 0, remaining);
-            System.arraycopy(uncompressedData, 0, newBuffer, remaining, uncompressedData.length);
+        this.inflater.setInput(compressedData, 0, compressedLength);
 
-            uncompressedData = newBuffer;
+        try {
+            this.inflater.inflate(b, off, len);
+        } catch (DataFormatException dfe) {
+            throw new IOException("Error while uncompressing packet from server.");
         }
+    }
 
-        this.pos = 0;
-        this.buffer = uncompressedData;
-
-        return;
+    /**
+     * Un-compresses the Zstandard frame of a packet, which must hold exactly the expected number of bytes.
+     * 
+     * @param b
+     *            the buffer to fill
+     * @param off
+     *            offset in the buffer
+     * @param len
+     *            the uncompressed length of the packet
+     * @throws IOException
+     *             if the packet is not a valid frame of the expected length
+     */
+    private void inflateZstd(byte[] b, int off, int len) throws IOException {
+        int n = 0;
+        int count;
+        while (n < len && (count = this.zstd.read(b, off + n, len - n)) != -1) {
+            n += count;
+        }
+        // the rest of the frame, if any, may only be an empty last block
+        if (n < len || this.zstdInput.available() > 0 && this.zstd.read() != -1 || this.zstdInput.available() > 0) {
+            throw new IOException("Error while uncompressing packet from server.");
+        }
     }
 
     /**
@@ -204,7 +296,7 @@ public class CompressedInputStream extends InputStream {
      *             if an I/O error occors.
      */
     private void getNextPacketIfRequired(int numBytes) throws IOException {
-        if ((this.buffer == null) || ((this.pos + numBytes) > this.buffer.length)) {
+        if ((this.buffer == null) || ((this.pos + numBytes) > this.limit)) {
             getNextPacketFromServer();
         }
     }
@@ -243,7 +335,7 @@ public class CompressedInputStream extends InputStream {
             return -1;
         }
 
-        int remainingBufferLength = this.buffer.length - this.pos;
+        int remainingBufferLength = this.limit - this.pos;
         int consummedBytesLength = Math.min(remainingBufferLength, len);
 
         System.arraycopy(this.buffer, this.pos, b, off, consummedBytesLength);
@@ -288,4 +380,20 @@ public class CompressedInputStream extends InputStream {
 
         return count;
     }
+
+    /**
+     * The compressed packet being un-compressed by {@link CompressedInputStream#zstd}.
+     */
+    private static class CompressedPacketInputStream extends ByteArrayInputStream {
+        CompressedPacketInputStream() {
+            super(new byte[0]);
+        }
+
+        void setPacket(byte[] packet, int length) {
+            this.buf = packet;
+            this.pos = 0;
+            this.count = length;
+            this.mark = 0;
+        }
+    }
 }
@@ -31,43 +31,84 @@ package com.mysql.cj.protocol.a;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.zip.Deflater;
 
 import com.mysql.cj.protocol.MessageSender;
+import com.mysql.cj.protocol.ZstdOutputStream;
 
 /**
  * A {@link MessageSender} for the compressed protocol.
  * 
- * TODO: add support for pre-allocated buffer for large packets (if there's a demonstrable perf improvement)
+ * The compressor and the buffers are kept for the whole connection. While flushing is deferred, small packets are held and then compressed together, so
+ * that a sequence of short commands goes out in a single compressed packet.
  */
 public class CompressedPacketSender implements MessageSender<NativePacketPayload> {
     private BufferedOutputStream outputStream;
-    private Deflater deflater = new Deflater();
-    /** Buffer to compress data to. Used only across one send() invocation. */
+    /** The ZLIB compressor, when "zlib" was negotiated. */
+    private Deflater deflater;
+    /** The Zstandard compressor, when "zstd" was negotiated. It writes one frame per compressed packet. */
+    private ZstdOutputStream zstd;
+    /** Packets with a shorter payload are sent without compression. */
+    private int compressionThreshold;
+    /** Buffer to compress data to. Kept for the next send() invocations unless larger than {@link #MAX_RETAINED_BUFFER_SIZE}. */
     private byte compressedPacket[];
     /** Sequence id of compressed packet. Used only across one send() invocation. */
     private byte compressedSequenceId = 0;
     /** Length of current compressed packet. */
     private int compressedPayloadLen = 0;
+    /** Buffer for the headers of compressed packets. */
+    private byte[] compressedHeader = new byte[COMP_HEADER_LENGTH];
+    /** Buffer for the headers of uncompressed packets. */
+    private byte[] uncompressedHeader = new byte[NativeConstants.HEADER_LENGTH];
+
+    /** Whether packets may be held until {@link #flush()} is called. */
+    private boolean flushDeferred = false;
+    /** The packets held, with their headers, to be sent in one compressed packet. */
+    private byte[] coalescedPackets;
+    /** Length of the held packets. */
+    private int coalescedPacketsLen = 0;
+    /** Sequence id of the first held packet. */
+    private byte coalescedSequenceId = 0;
 
     public static final int COMP_HEADER_LENGTH = 7;
     public static final int MIN_COMPRESS_LEN = 50;
+    /** Maximum length of the packets held together, headers included, while flushing is deferred. */
+    public static final int MAX_COALESCED_LEN = 16 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
 
     public CompressedPacketSender(BufferedOutputStream outputStream) {
+        this(outputStream, NativeCompressionAlgorithm.ZLIB, MIN_COMPRESS_LEN);
+    }
+
+    public CompressedPacketSender(BufferedOutputStream outputStream, NativeCompressionAlgorithm algorithm, int compressionThreshold) {
         this.outputStream = outputStream;
+        this.compressionThreshold = compressionThreshold;
+        if (algorithm == NativeCompressionAlgorithm.ZSTD) {
+            this.zstd = new ZstdOutputStream(new CompressedPacketOutputStream());
+        } else {
+            this.deflater = new Deflater();
+        }
     }
 
     /**
      * Shut down this packet sender and deallocate any resources.
      */
     public void stop() {
-        this.deflater.end();
-        this.deflater = null;
+        if (this.deflater != null) {
+            this.deflater.end();
+            this.deflater = null;
+        }
+        this.zstd = null;
+        this.compressedPacket = null;
+        this.coalescedPackets = null;
     }
 
     private void resetPacket() {
         this.compressedPayloadLen = 0;
-        this.deflater.reset();
+        if (this.deflater != null) {
+            this.deflater.reset();
+        }
     }
 
     /**
@@ -77,12 +118,17 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            sequence id
      * @param uncompressedPacketLen
      *            uncompressed packet length
+     * @throws IOException
+     *             if compression fails
      */
-    private void addUncompressedHeader(byte packetSequence, int uncompressedPacketLen) {
-        byte uncompressedHeader[] = new byte[NativeConstants.HEADER_LENGTH];
-        NativeUtils.encodeMysqlThreeByteInteger(uncompressedPacketLen, uncompressedHeader, 0);
-        uncompressedHeader[3] = packetSequence;
-        this.deflater.setInput(uncompressedHeader);
+    private void addUncompressedHeader(byte packetSequence, int uncompressedPacketLen) throws IOException {
+        NativeUtils.encodeMysqlThreeByteInteger(uncompressedPacketLen, this.uncompressedHeader, 0);
+        this.uncompressedHeader[3] = packetSequence;
+        if (this.zstd != null) {
+            this.zstd.write(this.uncompressedHeader);
+            return;
+        }
+        this.deflater.setInput(this.uncompressedHeader);
         this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
@@ -96,8 +142,14 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            offset
      * @param payloadLen
      *            length
+     * @throws IOException
+     *             if compression fails
      */
-    private void addPayload(byte[] payload, int payloadOffset, int payloadLen) {
+    private void addPayload(byte[] payload, int payloadOffset, int payloadLen) throws IOException {
+        if (this.zstd != null) {
+            this.zstd.write(payload, payloadOffset, payloadLen);
+            return;
+        }
         this.deflater.setInput(payload, payloadOffset, payloadLen);
         this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
@@ -105,8 +157,15 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
 
     /**
      * Complete compression of the current payload contents to the compressed packet.
+     * 
+     * @throws IOException
+     *             if compression fails
      */
-    private void completeCompression() {
+    private void completeCompression() throws IOException {
+        if (this.zstd != null) {
+            this.zstd.finish();
+            return;
+        }
         this.deflater.finish();
         this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
@@ -125,9 +184,10 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *             if write exception occurs
      */
     private void writeCompressedHeader(int compLen, byte seq, int uncompLen) throws IOException {
-        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(compLen));
-        this.outputStream.write(seq);
-        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(uncompLen));
+        NativeUtils.encodeMysqlThreeByteInteger(compLen, this.compressedHeader, 0);
+        this.compressedHeader[3] = seq;
+        NativeUtils.encodeMysqlThreeByteInteger(uncompLen, this.compressedHeader, 4);
+        this.outputStream.write(this.compressedHeader, 0, COMP_HEADER_LENGTH);
     }
 
     /**
@@ -141,8 +201,9 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *             if write exception occurs
      */
     private void writeUncompressedHeader(int packetLen, byte packetSequence) throws IOException {
-        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(packetLen));
-        this.outputStream.write(packetSequence);
+        NativeUtils.encodeMysqlThreeByteInteger(packetLen, this.uncompressedHeader, 0);
+        this.uncompressedHeader[3] = packetSequence;
+        this.outputStream.write(this.uncompressedHeader, 0, NativeConstants.HEADER_LENGTH);
     }
 
     /**
@@ -178,22 +239,30 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *             if i/o exception occurs
      */
     public void send(byte[] packet, int packetLen, byte packetSequence) throws IOException {
+        if (this.flushDeferred && packetLen + NativeConstants.HEADER_LENGTH <= MAX_COALESCED_LEN) {
+            coalescePacket(packet, packetLen, packetSequence);
+            return;
+        }
+
+        sendCoalescedPackets();
+        sendPacket(packet, packetLen, packetSequence);
+        if (!this.flushDeferred) {
+            this.outputStream.flush();
+        }
+    }
+
+    private void sendPacket(byte[] packet, int packetLen, byte packetSequence) throws IOException {
         this.compressedSequenceId = packetSequence;
 
         // short-circuit send small packets without compression and return
-        if (packetLen < MIN_COMPRESS_LEN) {
+        if (packetLen < this.compressionThreshold) {
             writeCompressedHeader(packetLen + NativeConstants.HEADER_LENGTH, this.compressedSequenceId, 0);
             writeUncompressedHeader(packetLen, packetSequence);
             this.outputStream.write(packet, 0, packetLen);
-            this.outputStream.flush();
             return;
         }
 
-        if (packetLen + NativeConstants.HEADER_LENGTH > NativeConstants.MAX_PACKET_SIZE) {
-            this.compressedPacket = new byte[NativeConstants.MAX_PACKET_SIZE];
-        } else {
-            this.compressedPacket = new byte[NativeConstants.HEADER_LENGTH + packetLen];
-        }
+        ensureCompressedPacketCapacity(Math.min(NativeConstants.HEADER_LENGTH + packetLen, NativeConstants.MAX_PACKET_SIZE));
 
         PacketSplitter packetSplitter = new PacketSplitter(packetLen);
 
@@ -252,10 +321,107 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
             }
         }
 
+        // release reference to (possibly large) compressed packet buffer
+        if (this.compressedPacket.length > MAX_RETAINED_BUFFER_SIZE) {
+            this.compressedPacket = null;
+        }
+    }
+
+    private void ensureCompressedPacketCapacity(int capacity) {
+        if (this.compressedPacket == null || this.compressedPacket.length < capacity) {
+            this.compressedPacket = new byte[capacity];
+        }
+    }
+
+    /**
+     * Hold a packet to send it with the next ones, sending the packets already held first if they would get too long.
+     * 
+     * @param packet
+     *            data bytes
+     * @param packetLen
+     *            packet length, not more than {@link #MAX_COALESCED_LEN} with its header
+     * @param packetSequence
+     *            sequence id
+     * @throws IOException
+     *             if i/o exception occurs
+     */
+    private void coalescePacket(byte[] packet, int packetLen, byte packetSequence) throws IOException {
+        if (this.coalescedPacketsLen + NativeConstants.HEADER_LENGTH + packetLen > MAX_COALESCED_LEN) {
+            sendCoalescedPackets();
+        }
+        if (this.coalescedPackets == null) {
+            this.coalescedPackets = new byte[MAX_COALESCED_LEN];
+        }
+        if (this.coalescedPacketsLen == 0) {
+            this.coalescedSequenceId = packetSequence;
+        }
+        NativeUtils.encodeMysqlThreeByteInteger(packetLen, this.coalescedPackets, this.coalescedPacketsLen);
+        this.coalescedPackets[this.coalescedPacketsLen + 3] = packetSequence;
+        System.arraycopy(packet, 0, this.coalescedPackets, this.coalescedPacketsLen + NativeConstants.HEADER_LENGTH, packetLen);
+        this.coalescedPacketsLen += NativeConstants.HEADER_LENGTH + packetLen;
+    }
+
+    /**
+     * Send the held packets, if any, in one compressed packet.
+     * 
+     * @throws IOException
+     *             if i/o exception occurs
+     */
+    private void sendCoalescedPackets() throws IOException {
+        if (this.coalescedPacketsLen == 0) {
+            return;
+        }
+        this.compressedSequenceId = this.coalescedSequenceId;
+        boolean compressed = false;
+        if (this.coalescedPacketsLen >= NativeConstants.HEADER_LENGTH + this.compressionThreshold) {
+            ensureCompressedPacketCapacity(this.coalescedPacketsLen);
+            this.compressedPayloadLen = 0;
+            addPayload(this.coalescedPackets, 0, this.coalescedPacketsLen);
+            completeCompression();
+            // don't send payloads with incompressible data
+            if (this.compressedPayloadLen < this.coalescedPacketsLen) {
+                sendCompressedPacket(this.coalescedPacketsLen);
+                compressed = true;
+            }
+            resetPacket();
+        }
+        if (!compressed) {
+            writeCompressedHeader(this.coalescedPacketsLen, this.compressedSequenceId, 0);
+            this.outputStream.write(this.coalescedPackets, 0, this.coalescedPacketsLen);
+        }
+        this.coalescedPacketsLen = 0;
+    }
+
+    @Override
+    public void setFlushDeferred(boolean flushDeferred) {
+        this.flushDeferred = flushDeferred;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        sendCoalescedPackets();
         this.outputStream.flush();
+    }
 
-        // release reference to (possibly large) compressed packet buffer
-        this.compressedPacket = null;
+    /**
+     * Stores the output of {@link #zstd} into {@link #compressedPacket}. The bytes that don't fit are counted but dropped, as the packet is then sent
+     * uncompressed anyway.
+     */
+    private class CompressedPacketOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+            if (CompressedPacketSender.this.compressedPayloadLen < CompressedPacketSender.this.compressedPacket.length) {
+                CompressedPacketSender.this.compressedPacket[CompressedPacketSender.this.compressedPayloadLen] = (byte) b;
+            }
+            CompressedPacketSender.this.compressedPayloadLen++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int n = Math.max(0, Math.min(len, CompressedPacketSender.this.compressedPacket.length - CompressedPacketSender.this.compressedPayloadLen));
+            System.arraycopy(b, off, CompressedPacketSender.this.compressedPacket, CompressedPacketSender.this.compressedPayloadLen, n);
+            CompressedPacketSender.this.compressedPayloadLen += len;
+        }
     }
 
     @Override
@@ -92,6 +92,16 @@ public class DebugBufferingPacketSender implements MessageSender<NativePacketPay
         this.packetSender.send(packet, packetLen, packetSequence);
     }
 
+    @Override
+    public void setFlushDeferred(boolean flushDeferred) {
+        this.packetSender.setFlushDeferred(flushDeferred);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.packetSender.flush();
+    }
+
     @Override
     public MessageSender<NativePacketPayload> undecorateAll() {
         return this.packetSender.undecorateAll();
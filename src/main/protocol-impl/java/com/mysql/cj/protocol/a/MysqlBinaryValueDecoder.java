@@ -33,6 +33,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.exceptions.DataReadException;
 import com.mysql.cj.protocol.InternalDate;
 import com.mysql.cj.protocol.InternalTime;
@@ -169,60 +170,31 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
     }
 
     public <T> T decodeUInt1(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT1) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "BYTE" }));
-        }
-        return vf.createFromLong(bytes[offset] & 0xff);
+        return vf.createFromLong(getInt1(bytes, offset, length) & 0xff);
     }
 
     public <T> T decodeInt1(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT1) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "BYTE" }));
-        }
-        return vf.createFromLong(bytes[offset]);
+        return vf.createFromLong(getInt1(bytes, offset, length));
     }
 
     public <T> T decodeUInt2(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT2) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
-        }
-        int asInt = ((bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8));
-        return vf.createFromLong(asInt);
+        return vf.createFromLong(getInt2(bytes, offset, length) & 0xffff);
     }
 
     public <T> T decodeInt2(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT2) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
-        }
-        short asShort = (short) ((bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8));
-        return vf.createFromLong(asShort);
+        return vf.createFromLong(getInt2(bytes, offset, length));
     }
 
     public <T> T decodeUInt4(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT4) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "INT" }));
-        }
-        long asLong = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16)
-                | ((long) (bytes[offset + 3] & 0xff) << 24);
-        return vf.createFromLong(asLong);
+        return vf.createFromLong(getInt4(bytes, offset, length) & 0xffffffffL);
     }
 
     public <T> T decodeInt4(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT4) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
-        }
-        int asInt = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24);
-        return vf.createFromLong(asInt);
+        return vf.createFromLong(getInt4(bytes, offset, length));
     }
 
     public <T> T decodeInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        if (length != NativeConstants.BIN_LEN_INT8) {
-            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "LONG" }));
-        }
-        long asLong = (bytes[offset] & 0xff) | ((long) (bytes[offset + 1] & 0xff) << 8) | ((long) (bytes[offset + 2] & 0xff) << 16)
-                | ((long) (bytes[offset + 3] & 0xff) << 24) | ((long) (bytes[offset + 4] & 0xff) << 32) | ((long) (bytes[offset + 5] & 0xff) << 40)
-                | ((long) (bytes[offset + 6] & 0xff) << 48) | ((long) (bytes[offset + 7] & 0xff) << 56);
-        return vf.createFromLong(asLong);
+        return vf.createFromLong(getInt8(bytes, offset, length));
     }
 
     public <T> T decodeUInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
@@ -243,21 +215,77 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
     }
 
     public <T> T decodeFloat(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromDouble(getFloat(bytes, offset, length));
+    }
+
+    public <T> T decodeDouble(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromDouble(getDouble(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+                return f.isUnsigned() ? getInt1(bytes, offset, length) & 0xff : getInt1(bytes, offset, length);
+            case MysqlType.FIELD_TYPE_SHORT:
+                return f.isUnsigned() ? getInt2(bytes, offset, length) & 0xffff : getInt2(bytes, offset, length);
+            case MysqlType.FIELD_TYPE_LONG:
+                return f.isUnsigned() ? getInt4(bytes, offset, length) & 0xffffffffL : getInt4(bytes, offset, length);
+            case MysqlType.FIELD_TYPE_INT24:
+                return getInt4(bytes, offset, length);
+            default:
+                return getInt8(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        return f.getMysqlTypeId() == MysqlType.FIELD_TYPE_FLOAT ? getFloat(bytes, offset, length) : getDouble(bytes, offset, length);
+    }
+
+    private static byte getInt1(byte[] bytes, int offset, int length) {
+        if (length != NativeConstants.BIN_LEN_INT1) {
+            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "BYTE" }));
+        }
+        return bytes[offset];
+    }
+
+    private static short getInt2(byte[] bytes, int offset, int length) {
+        if (length != NativeConstants.BIN_LEN_INT2) {
+            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
+        }
+        return (short) ((bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8));
+    }
+
+    private static int getInt4(byte[] bytes, int offset, int length) {
+        if (length != NativeConstants.BIN_LEN_INT4) {
+            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "INT" }));
+        }
+        return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24);
+    }
+
+    private static long getInt8(byte[] bytes, int offset, int length) {
+        if (length != NativeConstants.BIN_LEN_INT8) {
+            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "LONG" }));
+        }
+        return (bytes[offset] & 0xff) | ((long) (bytes[offset + 1] & 0xff) << 8) | ((long) (bytes[offset + 2] & 0xff) << 16)
+                | ((long) (bytes[offset + 3] & 0xff) << 24) | ((long) (bytes[offset + 4] & 0xff) << 32) | ((long) (bytes[offset + 5] & 0xff) << 40)
+                | ((long) (bytes[offset + 6] & 0xff) << 48) | ((long) (bytes[offset + 7] & 0xff) << 56);
+    }
+
+    private static float getFloat(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_FLOAT) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "FLOAT" }));
         }
-        int asInt = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24);
-        return vf.createFromDouble(Float.intBitsToFloat(asInt));
+        return Float.intBitsToFloat(
+                (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24));
     }
 
-    public <T> T decodeDouble(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+    private static double getDouble(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_DOUBLE) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "DOUBLE" }));
         }
-        long valueAsLong = (bytes[offset + 0] & 0xff) | ((long) (bytes[offset + 1] & 0xff) << 8) | ((long) (bytes[offset + 2] & 0xff) << 16)
-                | ((long) (bytes[offset + 3] & 0xff) << 24) | ((long) (bytes[offset + 4] & 0xff) << 32) | ((long) (bytes[offset + 5] & 0xff) << 40)
-                | ((long) (bytes[offset + 6] & 0xff) << 48) | ((long) (bytes[offset + 7] & 0xff) << 56);
-        return vf.createFromDouble(Double.longBitsToDouble(valueAsLong));
+        return Double.longBitsToDouble(getInt8(bytes, offset, NativeConstants.BIN_LEN_INT8));
     }
 
     public <T> T decodeDecimal(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
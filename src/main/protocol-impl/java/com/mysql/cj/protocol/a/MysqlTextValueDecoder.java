@@ -73,6 +73,10 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     /** Max string length of a signed long = 9223372036854775807 (19+1 for minus sign) */
     public static final int MAX_SIGNED_LONG_LEN = 20;
 
+    /** Powers of ten that are exactly representable as doubles. */
+    private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17,
+            1e18, 1e19, 1e20, 1e21, 1e22 };
+
     public <T> T decodeDate(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
         return vf.createFromDate(getDate(bytes, offset, length));
     }
@@ -157,6 +161,16 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return vf.createFromYear(getLong(bytes, offset, offset + length));
     }
 
+    @Override
+    public long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        return getLong(bytes, offset, offset + length);
+    }
+
+    @Override
+    public double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        return getDouble(bytes, offset, length);
+    }
+
     public static int getInt(byte[] buf, int offset, int endpos) throws NumberFormatException {
         long l = getLong(buf, offset, endpos);
         if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
@@ -245,7 +259,41 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return i;
     }
 
-    public static Double getDouble(byte[] bytes, int offset, int length) {
+    public static double getDouble(byte[] bytes, int offset, int length) {
+        // Plain decimals with at most 15 significant digits and 22 fraction digits are exactly a double divided by an exact power of ten, and that single
+        // division is correctly rounded, so they don't need a String to be parsed
+        int end = offset + length;
+        int pos = offset;
+        boolean negative = false;
+        if (pos < end && (bytes[pos] == '-' || bytes[pos] == '+')) {
+            negative = bytes[pos] == '-';
+            pos++;
+        }
+        boolean sawDigit = false;
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; pos < end; pos++) {
+            byte b = bytes[pos];
+            if (b >= '0' && b <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || b != '0') {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (pos == end && sawDigit && digits <= 15 && scale < EXACT_POWERS_OF_TEN.length) {
+            double d = scale > 0 ? mantissa / EXACT_POWERS_OF_TEN[scale] : mantissa;
+            return negative ? -d : d;
+        }
         return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+/**
+ * Compression algorithms of the classic protocol, as negotiated through the capability flags.
+ */
+public enum NativeCompressionAlgorithm {
+
+    ZLIB("zlib", NativeServerSession.CLIENT_COMPRESS), //
+    ZSTD("zstd", NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM);
+
+    private String name;
+    private int capabilityFlag;
+
+    private NativeCompressionAlgorithm(String name, int capabilityFlag) {
+        this.name = name;
+        this.capabilityFlag = capabilityFlag;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getCapabilityFlag() {
+        return this.capabilityFlag;
+    }
+
+    /**
+     * Returns the algorithm with the given name, as used in 'compressionAlgorithms'.
+     * 
+     * @param name
+     *            algorithm name, case insensitive
+     * @return the algorithm, or null if the name is unknown
+     */
+    public static NativeCompressionAlgorithm forName(String name) {
+        for (NativeCompressionAlgorithm a : values()) {
+            if (a.name.equalsIgnoreCase(name)) {
+                return a;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the algorithm negotiated by the given client capabilities.
+     * 
+     * @param clientParam
+     *            capability flags sent to the server
+     * @return the algorithm, or null if compression was not negotiated
+     */
+    public static NativeCompressionAlgorithm forClientParam(long clientParam) {
+        for (NativeCompressionAlgorithm a : values()) {
+            if ((clientParam & a.capabilityFlag) != 0) {
+                return a;
+            }
+        }
+        return null;
+    }
+}
@@ -29,8 +29,7 @@
 
 package com.mysql.cj.protocol.a;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import com.mysql.cj.Constants;
 import com.mysql.cj.Messages;
@@ -73,9 +72,17 @@ public class NativePacketPayload implements Message {
 
     private int position = 0;
 
+    /** Pool the buffer is leased from, if any. */
+    private PacketBufferPool bufferPool = null;
+
     static final int MAX_BYTES_TO_DUMP = 1024;
 
-    private Map<String, Integer> tags = new HashMap<>();
+    /** Number of position tags a payload holds before the slots have to grow; the driver itself only uses "QUERY". */
+    static final int TAG_SLOTS = 2;
+
+    /** Position tag keys and values, allocated on first {@link #setTag(String)}. */
+    private String[] tagKeys = null;
+    private int[] tagPositions = null;
 
     @Override
     public String toString() {
@@ -106,6 +113,20 @@ public class NativePacketPayload implements Message {
         this.payloadLength = size;
     }
 
+    /**
+     * Creates a payload whose buffer, and any buffer it grows into, is leased from the given pool. The buffer may be larger than the requested size.
+     * 
+     * @param size
+     *            payload length, 0 for an empty payload to be used as a reusable packet
+     * @param bufferPool
+     *            pool to lease buffers from, or null to allocate them
+     */
+    public NativePacketPayload(int size, PacketBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+        this.byteBuffer = size == 0 ? Constants.EMPTY_BYTE_ARRAY : bufferPool == null ? new byte[size] : bufferPool.lease(size);
+        this.payloadLength = size;
+    }
+
     public int getCapacity() {
         return this.byteBuffer.length;
     }
@@ -132,13 +153,30 @@ public class NativePacketPayload implements Message {
                 newLength = this.byteBuffer.length + additionalData;
             }
 
-            byte[] newBytes = new byte[newLength];
+            byte[] newBytes = this.bufferPool == null ? new byte[newLength] : this.bufferPool.lease(newLength);
 
             System.arraycopy(this.byteBuffer, 0, newBytes, 0, this.byteBuffer.length);
+            if (this.bufferPool != null) {
+                this.bufferPool.release(this.byteBuffer);
+            }
             this.byteBuffer = newBytes;
         }
     }
 
+    /**
+     * Returns the buffer to the pool it was leased from, if any, and leaves this payload empty. Must only be called once nothing refers to the buffer
+     * any more, e.g. after the row data were copied out of a row packet.
+     */
+    public void release() {
+        if (this.bufferPool != null) {
+            this.bufferPool.release(this.byteBuffer);
+            this.bufferPool = null;
+            this.byteBuffer = Constants.EMPTY_BYTE_ARRAY;
+            this.payloadLength = 0;
+            this.position = 0;
+        }
+    }
+
     @Override
     public byte[] getByteBuffer() {
         return this.byteBuffer;
@@ -151,9 +189,27 @@ public class NativePacketPayload implements Message {
      *            the array of bytes to use as a buffer
      */
     public void setByteBuffer(byte[] byteBufferToSet) {
+        // the caller owns the new buffer, never hand it to the pool
+        this.bufferPool = null;
         this.byteBuffer = byteBufferToSet;
     }
 
+    /**
+     * Replaces the buffer by one of at least the given size without copying its content. If the buffer is leased from a pool the new one is leased from
+     * it too and the old one is returned to it.
+     * 
+     * @param minSize
+     *            required buffer size
+     */
+    public void replaceByteBuffer(int minSize) {
+        if (this.bufferPool == null) {
+            this.byteBuffer = new byte[minSize];
+        } else {
+            this.bufferPool.release(this.byteBuffer);
+            this.byteBuffer = this.bufferPool.lease(minSize);
+        }
+    }
+
     /**
      * Get the actual length of payload the buffer contains.
      * It can be smaller than underlying buffer size because it can be reused after a big packet.
@@ -684,8 +740,25 @@ public class NativePacketPayload implements Message {
      *         the previous value of this tag, if there was one, or -1.
      */
     public int setTag(String key) {
-        Integer pos = this.tags.put(key, getPosition());
-        return pos == null ? -1 : pos;
+        if (this.tagKeys == null) {
+            this.tagKeys = new String[TAG_SLOTS];
+            this.tagPositions = new int[TAG_SLOTS];
+        }
+        int i = 0;
+        for (; i < this.tagKeys.length && this.tagKeys[i] != null; i++) {
+            if (this.tagKeys[i].equals(key)) {
+                int pos = this.tagPositions[i];
+                this.tagPositions[i] = getPosition();
+                return pos;
+            }
+        }
+        if (i == this.tagKeys.length) {
+            this.tagKeys = Arrays.copyOf(this.tagKeys, i * 2);
+            this.tagPositions = Arrays.copyOf(this.tagPositions, i * 2);
+        }
+        this.tagKeys[i] = key;
+        this.tagPositions[i] = getPosition();
+        return -1;
     }
 
     /**
@@ -697,7 +770,13 @@ public class NativePacketPayload implements Message {
      *         the position value of this tag, if there was one, or -1.
      */
     public int getTag(String key) {
-        Integer pos = this.tags.get(key);
-        return pos == null ? -1 : pos;
+        if (this.tagKeys != null) {
+            for (int i = 0; i < this.tagKeys.length && this.tagKeys[i] != null; i++) {
+                if (this.tagKeys[i].equals(key)) {
+                    return this.tagPositions[i];
+                }
+            }
+        }
+        return -1;
     }
 }
@@ -46,6 +46,8 @@ import java.net.Socket;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -174,6 +176,14 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     /** Use this when reading in rows to avoid thousands of new() calls, because the byte arrays just get copied out of the packet anyway */
     protected NativePacketPayload reusablePacket = null;
 
+    /**
+     * Number of commands sent with {@link #sendQueryStringNoWait(Query, String, String)} or {@link #sendPipelined(List)} whose responses are not read yet.
+     */
+    private int pendingResponses = 0;
+
+    /** Pool of packet buffers if "usePacketBufferPool" is enabled, guarded by external synchronization on the connection mutex. */
+    protected PacketBufferPool packetBufferPool = null;
+
     /**
      * Packet used for 'LOAD DATA LOCAL INFILE'
      * 
@@ -281,6 +291,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.useServerPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.useServerPrepStmts);
 
         this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+        if (this.propertySet.getBooleanProperty(PropertyKey.usePacketBufferPool).getValue()) {
+            this.packetBufferPool = new PacketBufferPool();
+        }
 
         try {
             this.packetSender = new SimplePacketSender(this.socketConnection.getMysqlOutput());
@@ -433,13 +446,14 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             //
             // Can't enable compression until after handshake
             //
-            if (((this.serverSession.getCapabilities().getCapabilityFlags() & NativeServerSession.CLIENT_COMPRESS) != 0)
-                    && this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()
+            NativeCompressionAlgorithm compressionAlgorithm = NativeCompressionAlgorithm.forClientParam(this.serverSession.getClientParam());
+            if (compressionAlgorithm != null && this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()
                     && !(this.socketConnection.getMysqlInput().getUnderlyingStream() instanceof CompressedInputStream)) {
                 this.useCompression = true;
                 this.socketConnection.setMysqlInput(new FullReadInputStream(new CompressedInputStream(this.socketConnection.getMysqlInput(),
-                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log)));
-                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput());
+                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log, compressionAlgorithm)));
+                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput(), compressionAlgorithm,
+                        this.propertySet.getIntegerProperty(PropertyKey.compressionThreshold).getValue());
                 this.packetSender = this.compressedPacketSender;
             }
 
@@ -632,6 +646,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     @Override
     public final NativePacketPayload sendCommand(Message queryPacket, boolean skipCheck, int timeoutMillis) {
+        if (this.pendingResponses > 0) {
+            throw ExceptionFactory.createException(Messages.getString("Protocol.QueryResultPending"), getExceptionInterceptor());
+        }
         int command = queryPacket.getByteBuffer()[0];
         this.commandCount++;
 
@@ -805,7 +822,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                 xOpen = MysqlErrorNumbers.mysqlToSqlState(errno);
             }
 
-            clearInputStream();
+            if (this.pendingResponses == 0) {
+                // the responses to pipelined commands that follow this one must be kept
+                clearInputStream();
+            }
 
             StringBuilder errorBuf = new StringBuilder();
 
@@ -852,7 +872,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     private void reclaimLargeSharedSendPacket() {
         if ((this.sharedSendPacket != null) && (this.sharedSendPacket.getCapacity() > 1048576)) {
-            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+            this.sharedSendPacket.release();
+            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE, this.packetBufferPool);
         }
     }
 
@@ -905,6 +926,188 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public final <T extends Resultset> T sendQueryString(Query callingQuery, String query, String characterEncoding, int maxRows, boolean streamResults,
             ColumnDefinition cachedMetadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        NativePacketPayload sendPacket = buildQueryPacket(callingQuery, query, characterEncoding);
+        try {
+            return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, resultSetFactory);
+        } finally {
+            sendPacket.release();
+        }
+    }
+
+    /**
+     * Build a query packet from the given string and send it to the server without reading the response, so that the caller may wait for the response
+     * without holding a thread. The result must be read with {@link #readQueryResult(int, ProtocolEntityFactory)} before any other command is sent.
+     * 
+     * @param callingQuery
+     *            {@link Query}
+     * @param query
+     *            query string
+     * @param characterEncoding
+     *            Java encoding name
+     */
+    public final void sendQueryStringNoWait(Query callingQuery, String query, String characterEncoding) {
+        NativePacketPayload sendPacket = buildQueryPacket(callingQuery, query, characterEncoding);
+        try {
+            sendCommand(sendPacket, true, 0);
+            this.pendingResponses = 1;
+        } finally {
+            sendPacket.release();
+        }
+    }
+
+    /**
+     * Reads the result of a query sent with {@link #sendQueryStringNoWait(Query, String, String)}.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param maxRows
+     *            rows limit
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @return T instance
+     */
+    public final <T extends Resultset> T readQueryResult(int maxRows, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) {
+        this.pendingResponses = 0;
+        try {
+            T rs = readAllResults(maxRows, false, checkErrorMessage(), false, null, resultSetFactory);
+            if (this.hadWarnings) {
+                scanForAndThrowDataTruncation();
+            }
+            return rs;
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+        }
+    }
+
+    /**
+     * @return true if a query was sent with {@link #sendQueryStringNoWait(Query, String, String)} and its result is not read yet
+     */
+    public boolean isQueryResultPending() {
+        return this.pendingResponses > 0;
+    }
+
+    /**
+     * Sends the given command packets back to back, in as few network writes as possible, without reading any response. The responses must then be read
+     * in the same order, each one starting with {@link #readPipelinedResponse()}, before any other command is sent.
+     * 
+     * The server executes the commands one after the other as they arrive. An error in one of them doesn't prevent the next ones from being executed.
+     * 
+     * @param packets
+     *            command packets, none of which may need a further exchange with the client, as "LOAD DATA LOCAL INFILE" does
+     */
+    public final void sendPipelined(List<NativePacketPayload> packets) {
+        // check all packets first, nothing may be sent if one of them can't be
+        for (NativePacketPayload packet : packets) {
+            checkPipelinedPacket(packet);
+        }
+
+        beginPipeline();
+        boolean sent = false;
+        try {
+            for (NativePacketPayload packet : packets) {
+                sendPipelined(packet);
+            }
+            sent = true;
+        } finally {
+            if (!sent) {
+                this.packetSender.setFlushDeferred(false);
+            }
+        }
+        flushPipeline();
+    }
+
+    /**
+     * Starts sending command packets with {@link #sendPipelined(NativePacketPayload)}: they are held in the output buffers until
+     * {@link #flushPipeline()} is called.
+     */
+    public final void beginPipeline() {
+        if (this.pendingResponses > 0) {
+            throw ExceptionFactory.createException(Messages.getString("Protocol.QueryResultPending"), getExceptionInterceptor());
+        }
+        try {
+            checkForOutstandingStreamingData();
+
+            if (this.useCompression) {
+                int bytesLeft = this.socketConnection.getMysqlInput().available();
+
+                if (bytesLeft > 0) {
+                    this.socketConnection.getMysqlInput().skip(bytesLeft);
+                }
+            }
+
+            clearInputStream();
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+        }
+        this.packetSender.setFlushDeferred(true);
+    }
+
+    /**
+     * Sends a command packet after {@link #beginPipeline()}, without reading its response. The packet may be reused once this returns.
+     * 
+     * @param packet
+     *            command packet, which may not need a further exchange with the client, as "LOAD DATA LOCAL INFILE" does
+     * @throws CJPacketTooBigException
+     *             if the packet is larger than 'max_allowed_packet', in which case nothing is sent
+     */
+    public final void sendPipelined(NativePacketPayload packet) {
+        this.packetSequence = -1;
+        send(packet, packet.getPosition());
+        this.commandCount++;
+        this.pendingResponses++;
+    }
+
+    /**
+     * Writes out the packets sent since {@link #beginPipeline()}. Their responses can be read with {@link #readPipelinedResponse()} after this.
+     */
+    public final void flushPipeline() {
+        try {
+            this.packetSender.flush();
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+        } finally {
+            this.packetSender.setFlushDeferred(false);
+        }
+    }
+
+    private void checkPipelinedPacket(NativePacketPayload packet) {
+        if (this.maxAllowedPacket.getValue() > 0 && packet.getPosition() > this.maxAllowedPacket.getValue()) {
+            throw new CJPacketTooBigException(packet.getPosition(), this.maxAllowedPacket.getValue());
+        }
+    }
+
+    /**
+     * Reads the first packet of the response to the next command sent with {@link #sendPipelined(List)}. The rest of the response, if any, is read as it
+     * would be after {@link #sendCommand(Message, boolean, int)}.
+     * 
+     * @return the first packet of the response
+     * @throws CJException
+     *             if the response is an error packet; the responses to the next commands are left to be read
+     */
+    public final NativePacketPayload readPipelinedResponse() {
+        this.pendingResponses--;
+        this.serverSession.setStatusFlags(0, true);
+        this.hadWarnings = false;
+        this.setWarningCount(0);
+        this.packetReader.resetMessageSequence();
+        return checkErrorMessage();
+    }
+
+    /**
+     * Builds a COM_QUERY packet for the given query string, with the statement comment and the query attributes of the calling query.
+     * 
+     * @param callingQuery
+     *            {@link Query}
+     * @param query
+     *            query string
+     * @param characterEncoding
+     *            Java encoding name
+     * @return packet, to be released once sent
+     */
+    public NativePacketPayload buildQueryPacket(Query callingQuery, String query, String characterEncoding) {
         String statementComment = this.queryComment;
 
         if (this.propertySet.getBooleanProperty(PropertyKey.includeThreadNamesAsStatementComment).getValue()) {
@@ -949,7 +1152,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
 
         // TODO decide how to safely use the shared this.sendPacket
-        NativePacketPayload sendPacket = new NativePacketPayload(packLength);
+        NativePacketPayload sendPacket = new NativePacketPayload(packLength, this.packetBufferPool);
 
         sendPacket.setPosition(0);
         sendPacket.writeInteger(IntegerDataType.INT1, NativeConstants.COM_QUERY);
@@ -994,7 +1197,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, StringUtils.getBytes(query, characterEncoding));
         }
 
-        return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, resultSetFactory);
+        return sendPacket;
     }
 
     /**
@@ -1348,7 +1551,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public NativePacketPayload getSharedSendPacket() {
         if (this.sharedSendPacket == null) {
-            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE, this.packetBufferPool);
         }
         this.sharedSendPacket.setPosition(0);
 
@@ -1442,6 +1645,16 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Returns the pool of packet buffers of this connection.
+     * Guarded by external synchronization on a mutex.
+     * 
+     * @return the pool, or null if "usePacketBufferPool" is disabled
+     */
+    public PacketBufferPool getPacketBufferPool() {
+        return this.packetBufferPool;
+    }
+
     public NativePacketPayload getReusablePacket() {
         return this.reusablePacket;
     }
@@ -1713,6 +1926,35 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     public <T extends Resultset> T readAllResults(int maxRows, boolean streamResults, NativePacketPayload resultPacket, boolean isBinaryEncoded,
             ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        return readAllResults(maxRows, streamResults, resultPacket, isBinaryEncoded, metadata, resultSetFactory, true);
+    }
+
+    /**
+     * Reads all the results of a command, the first packet of which was already read.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param maxRows
+     *            rows limit
+     * @param streamResults
+     *            whether to stream the rows
+     * @param resultPacket
+     *            first packet of the response
+     * @param isBinaryEncoded
+     *            whether the rows are in the binary protocol
+     * @param metadata
+     *            cached metadata, if any
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param checkTruncation
+     *            whether to turn truncation warnings into exceptions, with 'jdbcCompliantTruncation'; this needs a "SHOW WARNINGS", which can't be sent
+     *            between the responses to pipelined commands
+     * @return T instance
+     * @throws IOException
+     *             if an i/o error occurs
+     */
+    public <T extends Resultset> T readAllResults(int maxRows, boolean streamResults, NativePacketPayload resultPacket, boolean isBinaryEncoded,
+            ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, boolean checkTruncation) throws IOException {
 
         resultPacket.setPosition(0);
         T topLevelResultSet = read(Resultset.class, maxRows, streamResults, resultPacket, isBinaryEncoded, metadata, resultSetFactory);
@@ -1729,7 +1971,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             }
         }
 
-        if (this.hadWarnings) {
+        if (this.hadWarnings && checkTruncation) {
             scanForAndThrowDataTruncation();
         }
 
@@ -1797,7 +2039,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                 alignPacketSize(oneMeg - 16, 4096) - (NativeConstants.HEADER_LENGTH * 3));
         int packetLength = Math.min(smallerPacketSizeAligned, bigPacketLength);
 
-        if (filePacket == null) {
+        if (filePacket == null || filePacket.getByteBuffer().length < packetLength) {
             try {
                 filePacket = new NativePacketPayload(packetLength);
                 this.loadFileBufRef = new SoftReference<>(filePacket);
@@ -1809,16 +2051,23 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
         filePacket.setPosition(0);
 
-        byte[] fileBuf = new byte[packetLength];
-        BufferedInputStream fileIn = null;
+        InputStream fileIn = null;
         try {
             fileIn = getFileStream(fileName);
 
-            int bytesRead = 0;
-            while ((bytesRead = fileIn.read(fileBuf)) != -1) {
-                filePacket.setPosition(0);
-                filePacket.writeBytes(StringLengthDataType.STRING_FIXED, fileBuf, 0, bytesRead);
-                send(filePacket, filePacket.getPosition());
+            SocketChannel fileTransferChannel = fileIn instanceof FileInputStream ? getFileTransferChannel() : null;
+            FileChannel file = fileTransferChannel != null ? ((FileInputStream) fileIn).getChannel() : null;
+            long fileSize = file != null ? file.size() : 0;
+
+            if (fileSize > 0) {
+                sendFileRegions(file, fileSize, packetLength, fileTransferChannel);
+            } else {
+                // read straight into the packet, streams wider than the buffer skip the BufferedInputStream copy
+                byte[] fileBuf = filePacket.getByteBuffer();
+                int bytesRead = 0;
+                while ((bytesRead = fileIn.read(fileBuf, 0, packetLength)) != -1) {
+                    send(filePacket, bytesRead);
+                }
             }
         } catch (IOException ioEx) {
             boolean isParanoid = this.propertySet.getBooleanProperty(PropertyKey.paranoid).getValue();
@@ -1860,7 +2109,57 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return checkErrorMessage();
     }
 
-    private BufferedInputStream getFileStream(String fileName) throws IOException {
+    /**
+     * Sends a regular file in packets of at most packetLength bytes, each payload going from the file to the socket without passing through the heap.
+     * 
+     * @param file
+     *            file
+     * @param fileSize
+     *            number of bytes to send
+     * @param packetLength
+     *            maximum payload length
+     * @param channel
+     *            channel from {@link #getFileTransferChannel()}
+     */
+    private void sendFileRegions(FileChannel file, long fileSize, int packetLength, SocketChannel channel) {
+        SimplePacketSender sender = (SimplePacketSender) this.packetSender.undecorateAll();
+        try {
+            for (long position = 0; position < fileSize; position += packetLength) {
+                this.packetSequence++;
+                sender.sendFileRegion(file, position, (int) Math.min(packetLength, fileSize - position), this.packetSequence, channel);
+            }
+        } catch (IOException ioEx) {
+            // part of a packet may have been sent, the connection can't be used anymore
+            throw ExceptionFactory.createCommunicationsException(this.getPropertySet(), this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+        }
+    }
+
+    /**
+     * Returns the socket channel that LOAD DATA LOCAL INFILE payloads can be transferred to straight from the file. It is only available on channel-backed
+     * sockets in blocking mode, see {@link com.mysql.cj.protocol.NioSocketFactory}, when packets are written as they are: no TLS, no compression, no
+     * protocol tracing or packet debugging.
+     * 
+     * @return channel, or null if packets must be sent through the packet sender
+     * @throws IOException
+     *             if the socket is not available
+     */
+    private SocketChannel getFileTransferChannel() throws IOException {
+        if (this.socketConnection.isSSLEstablished()) {
+            return null;
+        }
+        MessageSender<NativePacketPayload> sender = this.packetSender;
+        if (sender instanceof TimeTrackingPacketSender) {
+            sender = sender.undecorate();
+        }
+        if (!(sender instanceof SimplePacketSender)) {
+            return null;
+        }
+        SocketChannel channel = this.socketConnection.getMysqlSocket().getChannel();
+        return channel != null && channel.isBlocking() ? channel : null;
+    }
+
+    private InputStream getFileStream(String fileName) throws IOException {
         RuntimeProperty<Boolean> allowLoadLocalInfile = this.propertySet.getBooleanProperty(PropertyKey.allowLoadLocalInfile);
         RuntimeProperty<String> allowLoadLocaInfileInPath = this.propertySet.getStringProperty(PropertyKey.allowLoadLocalInfileInPath);
         RuntimeProperty<Boolean> allowUrlInLocalInfile = this.propertySet.getBooleanProperty(PropertyKey.allowUrlInLocalInfile);
@@ -1885,7 +2184,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                     }
                 }
             }
-            return new BufferedInputStream(new FileInputStream(fileName));
+            return new FileInputStream(fileName);
         }
 
         // Given the code paths above, allowLoadLocaInfileInPath.isExplicitlySet() must be true and restrictions to "LOAD DATA LOCAL INFILE" apply.
@@ -1951,7 +2250,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         if (!filePath.startsWith(safePath)) {
             throw ExceptionFactory.createException(Messages.getString("MysqlIO.61", new Object[] { filePath, safePath }), this.exceptionInterceptor);
         }
-        return new BufferedInputStream(new FileInputStream(filePath.toFile()));
+        return new FileInputStream(filePath.toFile());
     }
 
     private int alignPacketSize(int a, int l) {
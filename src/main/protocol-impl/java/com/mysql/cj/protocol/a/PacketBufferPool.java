@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+/**
+ * Pool of byte arrays backing the {@link NativePacketPayload}s of one connection, used when "usePacketBufferPool" is enabled.
+ * 
+ * Arrays are handed out in power-of-two size classes from {@value #MIN_CLASS_SIZE} bytes to {@value #MAX_CLASS_SIZE} bytes, so a leased array may
+ * be larger than requested. Requests above the largest class are served by plain allocation and such arrays are never retained. At most
+ * {@value #ARRAYS_PER_CLASS} arrays per class and {@value #MAX_RETAINED_BYTES} bytes overall are kept for reuse.
+ * 
+ * Not thread-safe: like the shared send packet and the reusable packet, it is guarded by external synchronization on the connection mutex.
+ */
+public class PacketBufferPool {
+
+    static final int MIN_CLASS_SIZE = 64;
+    static final int MAX_CLASS_SIZE = 1024 * 1024;
+    static final int ARRAYS_PER_CLASS = 4;
+    static final int MAX_RETAINED_BYTES = 2 * 1024 * 1024;
+
+    private static final int MIN_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_CLASS_SIZE);
+    private static final int CLASSES = Integer.numberOfTrailingZeros(MAX_CLASS_SIZE) - MIN_CLASS_SHIFT + 1;
+
+    private final byte[][][] free = new byte[CLASSES][ARRAYS_PER_CLASS][];
+    private final int[] freeCount = new int[CLASSES];
+    private int retainedBytes = 0;
+
+    private long leases = 0;
+    private long reuses = 0;
+
+    /**
+     * Returns an array of at least the given length, reused if one of the matching size class is available.
+     * 
+     * @param minLength
+     *            required length
+     * @return array, its content is undefined
+     */
+    public byte[] lease(int minLength) {
+        this.leases++;
+        if (minLength > MAX_CLASS_SIZE) {
+            return new byte[minLength];
+        }
+        int c = sizeClass(minLength);
+        if (this.freeCount[c] > 0) {
+            byte[] buf = this.free[c][--this.freeCount[c]];
+            this.free[c][this.freeCount[c]] = null;
+            this.retainedBytes -= buf.length;
+            this.reuses++;
+            return buf;
+        }
+        return new byte[MIN_CLASS_SIZE << c];
+    }
+
+    /**
+     * Hands an array back for reuse. The caller must not use it afterwards. Arrays not obtained from {@link #lease(int)}, or that don't fit in the pool,
+     * are left to the garbage collector.
+     * 
+     * @param buf
+     *            array
+     */
+    public void release(byte[] buf) {
+        int len = buf.length;
+        if (len < MIN_CLASS_SIZE || len > MAX_CLASS_SIZE || (len & (len - 1)) != 0 || this.retainedBytes + len > MAX_RETAINED_BYTES) {
+            return;
+        }
+        int c = sizeClass(len);
+        if (this.freeCount[c] < ARRAYS_PER_CLASS) {
+            this.free[c][this.freeCount[c]++] = buf;
+            this.retainedBytes += len;
+        }
+    }
+
+    /**
+     * Drops all retained arrays.
+     */
+    public void clear() {
+        for (int c = 0; c < CLASSES; c++) {
+            for (int i = 0; i < this.freeCount[c]; i++) {
+                this.free[c][i] = null;
+            }
+            this.freeCount[c] = 0;
+        }
+        this.retainedBytes = 0;
+    }
+
+    public int getRetainedBytes() {
+        return this.retainedBytes;
+    }
+
+    public long getLeaseCount() {
+        return this.leases;
+    }
+
+    public long getReuseCount() {
+        return this.reuses;
+    }
+
+    private static int sizeClass(int length) {
+        return length <= MIN_CLASS_SIZE ? 0 : 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_CLASS_SHIFT;
+    }
+}
@@ -38,6 +38,7 @@ import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.a.result.ByteArrayRow;
 
 public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, NativePacketPayload> {
 
@@ -71,8 +72,16 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
         NativePacketHeader hdr = this.protocol.getPacketReader().readHeader();
 
         // read the entire packet(s)
-        rowPacket = this.protocol.getPacketReader()
-                .readMessage(rf.canReuseRowPacketForBufferRow() ? Optional.ofNullable(this.protocol.getReusablePacket()) : Optional.empty(), hdr);
+        Optional<NativePacketPayload> reuse;
+        if (rf.canReuseRowPacketForBufferRow()) {
+            reuse = Optional.ofNullable(this.protocol.getReusablePacket());
+        } else if (this.protocol.getPacketBufferPool() != null && hdr.getMessageSize() < this.useBufferRowSizeThreshold.getValue()) {
+            // lease the buffer of rows that are copied out of the packet, it goes back to the pool right after
+            reuse = Optional.of(new NativePacketPayload(0, this.protocol.getPacketBufferPool()));
+        } else {
+            reuse = Optional.empty();
+        }
+        rowPacket = this.protocol.getPacketReader().readMessage(reuse, hdr);
         this.protocol.checkErrorMessage(rowPacket);
         // Didn't read an error, so re-position to beginning of packet in order to read result set data
         rowPacket.setPosition(rowPacket.getPosition() - 1);
@@ -81,10 +90,16 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
         if (!this.protocol.getServerSession().isEOFDeprecated() && rowPacket.isEOFPacket()
                 || this.protocol.getServerSession().isEOFDeprecated() && rowPacket.isResultSetOKPacket()) {
             this.protocol.readServerStatusForResultSets(rowPacket, true);
+            rowPacket.release();
             return null;
         }
 
-        return sf.createFromMessage(rowPacket);
+        ResultsetRow row = sf.createFromMessage(rowPacket);
+        if (row instanceof ByteArrayRow) {
+            // the values were copied out, unlike buffer rows which keep reading from the packet
+            rowPacket.release();
+        }
+        return row;
     }
 
 }
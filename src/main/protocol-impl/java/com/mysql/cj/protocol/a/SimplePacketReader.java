@@ -124,7 +124,7 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
                 if (message.getByteBuffer().length < packetLength) {
                     // Note: We actually check the length of the buffer, rather than getBufLength(), because getBufLength()
                     // is not necessarily the actual length of the byte array used as the buffer
-                    message.setByteBuffer(new byte[packetLength]);
+                    message.replaceByteBuffer(packetLength);
                 }
 
                 // Set the new length
@@ -30,7 +30,10 @@
 package com.mysql.cj.protocol.a;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 import com.mysql.cj.protocol.MessageSender;
 
@@ -40,6 +43,8 @@ import com.mysql.cj.protocol.MessageSender;
  */
 public class SimplePacketSender implements MessageSender<NativePacketPayload> {
     private BufferedOutputStream outputStream;
+    /** Whether packets may be held in the output stream until {@link #flush()} is called. */
+    private boolean flushDeferred = false;
 
     public SimplePacketSender(BufferedOutputStream outputStream) {
         this.outputStream = outputStream;
@@ -52,7 +57,53 @@ public class SimplePacketSender implements MessageSender<NativePacketPayload> {
             this.outputStream.write(packetSequence++);
             this.outputStream.write(packet, packetSplitter.getOffset(), packetSplitter.getPacketLen());
         }
+        if (!this.flushDeferred) {
+            this.outputStream.flush();
+        }
+    }
+
+    @Override
+    public void setFlushDeferred(boolean flushDeferred) {
+        this.flushDeferred = flushDeferred;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.outputStream.flush();
+    }
+
+    /**
+     * Sends a region of a file as the payload of a single packet. The header goes through the output stream, which is flushed, and the payload is handed
+     * from the file to the channel under that stream with {@link FileChannel#transferTo(long, long, WritableByteChannel)}, so it isn't copied through the
+     * Java heap. On a socket channel this is done by the kernel.
+     * 
+     * @param file
+     *            file to read from
+     * @param position
+     *            position of the region in the file
+     * @param length
+     *            region length, less than {@link NativeConstants#MAX_PACKET_SIZE}
+     * @param packetSequence
+     *            packet sequence
+     * @param channel
+     *            channel writing to the same destination as the output stream
+     * @throws IOException
+     *             if the file ends before the region does, or on errors writing to the channel
+     */
+    public void sendFileRegion(FileChannel file, long position, int length, byte packetSequence, WritableByteChannel channel) throws IOException {
+        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(length));
+        this.outputStream.write(packetSequence);
         this.outputStream.flush();
+
+        long sent = 0;
+        while (sent < length) {
+            long n = file.transferTo(position + sent, length - sent, channel);
+            if (n <= 0) {
+                // the file was truncated meanwhile, the packet can't be completed
+                throw new EOFException();
+            }
+            sent += n;
+        }
     }
 
     @Override
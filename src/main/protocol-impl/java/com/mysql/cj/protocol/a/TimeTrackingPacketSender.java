@@ -62,6 +62,16 @@ public class TimeTrackingPacketSender implements MessageSender<NativePacketPaylo
         return this.previousPacketSentTime;
     }
 
+    @Override
+    public void setFlushDeferred(boolean flushDeferred) {
+        this.packetSender.setFlushDeferred(flushDeferred);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.packetSender.flush();
+    }
+
     @Override
     public MessageSender<NativePacketPayload> undecorateAll() {
         return this.packetSender.undecorateAll();
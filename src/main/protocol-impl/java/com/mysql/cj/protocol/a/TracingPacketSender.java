@@ -89,6 +89,16 @@ public class TracingPacketSender implements MessageSender<NativePacketPayload> {
         this.packetSender.send(packet, packetLen, packetSequence);
     }
 
+    @Override
+    public void setFlushDeferred(boolean flushDeferred) {
+        this.packetSender.setFlushDeferred(flushDeferred);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.packetSender.flush();
+    }
+
     @Override
     public MessageSender<NativePacketPayload> undecorateAll() {
         return this.packetSender.undecorateAll();
@@ -29,8 +29,6 @@
 
 package com.mysql.cj.protocol.a.result;
 
-import java.util.HashMap;
-
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Resultset;
 import com.mysql.cj.protocol.ResultsetRows;
@@ -123,7 +121,6 @@ public class NativeResultset implements Resultset {
         if (this.rowData != null) {
             this.rowData.setMetadata(this.columnDefinition);
         }
-        this.columnDefinition.setColumnToIndexCache(new HashMap<String, Integer>());
     }
 
     public synchronized void setNextResultset(Resultset nextResultset) {
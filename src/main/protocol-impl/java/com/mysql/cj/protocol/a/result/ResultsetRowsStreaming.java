@@ -29,6 +29,8 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.util.concurrent.locks.Lock;
+
 import com.mysql.cj.Messages;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.CJException;
@@ -106,12 +108,15 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
     @Override
     public void close() {
 
-        Object mutex = this.owner != null && this.owner.getSyncMutex() != null ? this.owner.getSyncMutex() : this;
+        Lock syncLock = this.owner != null ? this.owner.getSyncLock() : null;
 
         boolean hadMore = false;
         int howMuchMore = 0;
 
-        synchronized (mutex) {
+        if (syncLock != null) {
+            syncLock.lock();
+        }
+        try {
             // drain the rest of the records.
             while (next() != null) {
                 hadMore = true;
@@ -143,6 +148,10 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
                             Messages.getString("RowDataDynamic.1", new String[] { String.valueOf(howMuchMore), this.owner.getPointOfOrigin() }));
                 }
             }
+        } finally {
+            if (syncLock != null) {
+                syncLock.unlock();
+            }
         }
 
         this.metadata = null;
@@ -131,4 +131,18 @@ public class TextBufferRow extends AbstractBufferRow {
         int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
         return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
     }
+
+    @Override
+    public long getLong(int columnIndex, ValueFactory<? extends Number> vf) {
+        findAndSeekToOffset(columnIndex);
+        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        return getLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public double getDouble(int columnIndex, ValueFactory<? extends Number> vf) {
+        findAndSeekToOffset(columnIndex);
+        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        return getDoubleFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
 }
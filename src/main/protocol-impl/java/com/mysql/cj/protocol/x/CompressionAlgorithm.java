@@ -38,6 +38,10 @@ import java.util.zip.InflaterInputStream;
 import com.mysql.cj.Messages;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.WrongArgumentException;
+import com.mysql.cj.protocol.Lz4FrameInputStream;
+import com.mysql.cj.protocol.Lz4FrameOutputStream;
+import com.mysql.cj.protocol.ZstdInputStream;
+import com.mysql.cj.protocol.ZstdOutputStream;
 
 /**
  * Contains all information about a compression algorithm, its name, compression mode and classes that implement the inflating and deflating streams of data.
@@ -64,6 +68,8 @@ public class CompressionAlgorithm {
      */
     public static Map<String, CompressionAlgorithm> getDefaultInstances() {
         HashMap<String, CompressionAlgorithm> defaultInstances = new HashMap<>();
+        defaultInstances.put("lz4_message", new CompressionAlgorithm("lz4_message", Lz4FrameInputStream.class.getName(), Lz4FrameOutputStream.class.getName()));
+        defaultInstances.put("zstd_stream", new CompressionAlgorithm("zstd_stream", ZstdInputStream.class.getName(), ZstdOutputStream.class.getName()));
         defaultInstances.put("deflate_stream",
                 new CompressionAlgorithm("deflate_stream", InflaterInputStream.class.getName(), SyncFlushDeflaterOutputStream.class.getName()));
         return defaultInstances;
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Feeds a "LOAD DATA LOCAL INFILE" statement with rows pushed one value at a time, created by {@link JdbcConnection#createBulkLoader(String, String...)}.
+ * 
+ * Values are encoded straight into the data stream sent to the server, in the tab-separated format with backslash escapes that LOAD DATA reads by
+ * default. The data is handed to the connection in chunks of about one packet, a few chunks ahead of the server at most: adding values blocks while the
+ * server falls behind.
+ * 
+ * The data is loaded with "CHARACTER SET binary", i.e., the server stores the bytes sent as they are, without any conversion. Character values are sent in
+ * UTF-8, so they are only stored correctly in utf8mb4 (or utf8mb3) columns: in a column of another character set, such as latin1, non-ASCII characters end
+ * up as their UTF-8 bytes read in that character set. Binary values are sent unchanged, for BINARY, VARBINARY and BLOB columns.
+ * 
+ * <pre>
+ * try (BulkLoader loader = conn.createBulkLoader("orders", "id", "customer", "created")) {
+ *     for (Order o : orders) {
+ *         loader.add(o.getId()).add(o.getCustomer()).add(o.getCreated()).endRow();
+ *     }
+ *     long count = loader.finish();
+ * }
+ * </pre>
+ * 
+ * A loader is used by a single thread, and no other statement may be executed on the connection until it is finished or closed.
+ */
+public interface BulkLoader extends AutoCloseable {
+
+    /**
+     * Receives the progress of a load.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+        /**
+         * Called on the thread adding values, each time a chunk of data is handed to the connection.
+         * 
+         * @param rows
+         *            number of complete rows handed to the connection so far
+         * @param bytes
+         *            number of bytes handed to the connection so far
+         */
+        void progress(long rows, long bytes);
+    }
+
+    /**
+     * Sets the listener notified of the progress of this load.
+     * 
+     * @param listener
+     *            listener, null for none
+     * @return this loader
+     */
+    BulkLoader setProgressListener(ProgressListener listener);
+
+    /**
+     * Adds an integer value to the current row.
+     * 
+     * @param value
+     *            value
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader add(int value) throws SQLException;
+
+    /**
+     * Adds an integer value to the current row.
+     * 
+     * @param value
+     *            value
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader add(long value) throws SQLException;
+
+    /**
+     * Adds a character value to the current row, sent in UTF-8 and stored without conversion, for utf8mb4 columns.
+     * 
+     * @param value
+     *            value, null for SQL NULL
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader add(CharSequence value) throws SQLException;
+
+    /**
+     * Adds a binary value to the current row, sent and stored as it is.
+     * 
+     * @param value
+     *            value, null for SQL NULL
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader add(byte[] value) throws SQLException;
+
+    /**
+     * Adds a DATE value to the current row.
+     * 
+     * @param value
+     *            value, null for SQL NULL
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed, or if the year is not in 0..9999
+     */
+    BulkLoader add(LocalDate value) throws SQLException;
+
+    /**
+     * Adds a TIME value to the current row.
+     * 
+     * @param value
+     *            value, null for SQL NULL
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader add(LocalTime value) throws SQLException;
+
+    /**
+     * Adds a DATETIME or TIMESTAMP value to the current row.
+     * 
+     * @param value
+     *            value, null for SQL NULL
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed, or if the year is not in 0..9999
+     */
+    BulkLoader add(LocalDateTime value) throws SQLException;
+
+    /**
+     * Adds an SQL NULL to the current row.
+     * 
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader addNull() throws SQLException;
+
+    /**
+     * Ends the current row.
+     * 
+     * @return this loader
+     * @throws SQLException
+     *             if the load is finished or failed
+     */
+    BulkLoader endRow() throws SQLException;
+
+    /**
+     * Sends the remaining rows and waits for the statement to complete. A row that wasn't ended is not sent.
+     * 
+     * @return the number of rows affected by the statement
+     * @throws SQLException
+     *             if the statement fails
+     */
+    long finish() throws SQLException;
+
+    /**
+     * Aborts the load if {@link #finish()} was not called. The data stream fails before its end, so the statement never completes: the connection, left in
+     * the middle of the statement, is closed and the server rolls the statement back on transactional tables.
+     * 
+     * @throws SQLException
+     *             if the connection can't be closed
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -31,6 +31,10 @@ package com.mysql.cj.jdbc;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.ServerVersion;
@@ -283,6 +287,15 @@ public interface JdbcConnection extends java.sql.Connection, MysqlConnection, Tr
      */
     void resetServerState() throws SQLException;
 
+    /**
+     * Resets the server-side session state of this connection with COM_RESET_CONNECTION, which doesn't re-authenticate, and re-applies the session settings
+     * the driver made when connecting. Falls back to {@link #resetServerState()} on servers older than 5.7.3. Usually only used from connection pooling code.
+     * 
+     * @throws SQLException
+     *             if the operation fails while resetting the session.
+     */
+    void resetSession() throws SQLException;
+
     /**
      * Prepares a statement on the server (irregardless of the
      * configuration property 'useServerPrepStmts') with the same semantics
@@ -613,4 +626,116 @@ public interface JdbcConnection extends java.sql.Connection, MysqlConnection, Tr
      *             if an error occurs
      */
     String getDatabase() throws SQLException;
+
+    /**
+     * Executes the given SQL statement, which returns a single ResultSet object, without blocking the calling thread.
+     * 
+     * When the connection uses the socket factory <code>com.mysql.cj.protocol.NioSocketFactory</code>, the statement is sent by the calling thread
+     * and no thread is held while the server executes it: the result is read by the given executor once it starts arriving. Otherwise the statement is
+     * executed by the executor. Asynchronous statements of a connection are executed in the order of the calls, and no other statement may be executed
+     * on the connection before the returned future completes.
+     * 
+     * @param sql
+     *            an SQL statement to be sent to the database, typically a static SQL SELECT statement
+     * @param executor
+     *            the executor reading the result
+     * @return a future of the result set, whose statement is closed with it
+     */
+    default CompletableFuture<java.sql.ResultSet> executeQueryAsync(String sql, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                java.sql.Statement stmt = createStatement();
+                stmt.closeOnCompletion();
+                return stmt.executeQuery(sql);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Same as {@link #executeQueryAsync(String, Executor)}, reading the result in the common fork-join pool.
+     * 
+     * @param sql
+     *            an SQL statement to be sent to the database, typically a static SQL SELECT statement
+     * @return a future of the result set, whose statement is closed with it
+     */
+    default CompletableFuture<java.sql.ResultSet> executeQueryAsync(String sql) {
+        return executeQueryAsync(sql, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executes the given SQL statement, which may be an INSERT, UPDATE, or DELETE statement or an SQL statement that returns nothing, without blocking
+     * the calling thread. See {@link #executeQueryAsync(String, Executor)}.
+     * 
+     * @param sql
+     *            an SQL Data Manipulation Language (DML) statement or an SQL statement that returns nothing
+     * @param executor
+     *            the executor reading the result
+     * @return a future of the row count
+     */
+    default CompletableFuture<Long> executeUpdateAsync(String sql, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (java.sql.Statement stmt = createStatement()) {
+                return stmt.executeLargeUpdate(sql);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Same as {@link #executeUpdateAsync(String, Executor)}, reading the result in the common fork-join pool.
+     * 
+     * @param sql
+     *            an SQL Data Manipulation Language (DML) statement or an SQL statement that returns nothing
+     * @return a future of the row count
+     */
+    default CompletableFuture<Long> executeUpdateAsync(String sql) {
+        return executeUpdateAsync(sql, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts a "LOAD DATA LOCAL INFILE" into the given table, fed with the rows added to the returned loader. The statement is executed by the executor,
+     * reading the data as the rows are added, until the loader is finished. Requires 'allowLoadLocalInfile=true'.
+     * 
+     * @param table
+     *            table name, as it would appear in the statement
+     * @param columns
+     *            names of the columns the values of each row go to, as they would appear in the statement, all the columns of the table if empty
+     * @param executor
+     *            executor running the statement
+     * @return loader
+     * @throws SQLException
+     *             if the connection is closed or doesn't allow "LOAD DATA LOCAL INFILE"
+     */
+    BulkLoader createBulkLoader(String table, String[] columns, Executor executor) throws SQLException;
+
+    /**
+     * Same as {@link #createBulkLoader(String, String[], Executor)}, running the statement in a new thread.
+     * 
+     * @param table
+     *            table name, as it would appear in the statement
+     * @param columns
+     *            names of the columns the values of each row go to, as they would appear in the statement, all the columns of the table if none
+     * @return loader
+     * @throws SQLException
+     *             if the connection is closed or doesn't allow "LOAD DATA LOCAL INFILE"
+     */
+    default BulkLoader createBulkLoader(String table, String... columns) throws SQLException {
+        return createBulkLoader(table, columns, r -> {
+            Thread t = new Thread(r, "MySQL bulk load into " + table);
+            t.setDaemon(true);
+            t.start();
+        });
+    }
+
+    /**
+     * Creates a pipeline of statements sent to the server in one write, their results read in order after that.
+     * 
+     * @return pipeline
+     * @throws SQLException
+     *             if the connection is closed
+     */
+    Pipeline createPipeline() throws SQLException;
 }
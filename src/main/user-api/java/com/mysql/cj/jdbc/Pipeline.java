@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Statements sent to the server together, created by {@link JdbcConnection#createPipeline()}. The server executes them one after the other, as if they were
+ * executed one by one, but they all go out in a single network write and their results are read afterwards, so that the round trips to the server are
+ * paid once for all of them instead of once per statement.
+ * 
+ * <pre>
+ * try (Pipeline pipeline = conn.createPipeline()) {
+ *     pipeline.add("SELECT name FROM customer WHERE id = 1").add(orderStatement).add("UPDATE stock SET count = count - 1 WHERE id = 7");
+ *     List&lt;Pipeline.Result&gt; results = pipeline.execute();
+ *     try (ResultSet rs = results.get(0).getResultSet()) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * 
+ * A statement that fails doesn't prevent the next ones from being executed: its error is reported by its own {@link Result}. The statements are independent,
+ * each one is executed in its own transaction when in auto-commit mode. Results are read entirely before {@link #execute()} returns, as with
+ * 'defaultFetchSize=0'. "LOAD DATA LOCAL INFILE" statements and server-prepared statements using cursor-based fetching can't be pipelined. Warnings
+ * about truncated data are not turned into exceptions, even with 'jdbcCompliantTruncation=true'.
+ * 
+ * A pipeline is used by a single thread.
+ */
+public interface Pipeline extends AutoCloseable {
+
+    /**
+     * The outcome of a statement of a pipeline.
+     */
+    interface Result {
+        /**
+         * Returns the result set of the statement.
+         * 
+         * @return result set, or null if the statement returned an update count
+         * @throws SQLException
+         *             the error of the statement, if it failed
+         */
+        java.sql.ResultSet getResultSet() throws SQLException;
+
+        /**
+         * Returns the update count of the statement.
+         * 
+         * @return update count, or -1 if the statement returned a result set
+         * @throws SQLException
+         *             the error of the statement, if it failed
+         */
+        long getUpdateCount() throws SQLException;
+
+        /**
+         * Returns the statement holding the results, to read the next ones of a multi-statement query with {@link java.sql.Statement#getMoreResults()}, or
+         * the generated keys.
+         * 
+         * @return statement
+         * @throws SQLException
+         *             the error of the statement, if it failed
+         */
+        java.sql.Statement getStatement() throws SQLException;
+
+        /**
+         * Returns the error of the statement.
+         * 
+         * @return error, or null if the statement succeeded
+         */
+        SQLException getException();
+    }
+
+    /**
+     * Queues an SQL statement.
+     * 
+     * @param sql
+     *            statement
+     * @return this pipeline
+     * @throws SQLException
+     *             if the pipeline is closed or the statement can't be pipelined
+     */
+    Pipeline add(String sql) throws SQLException;
+
+    /**
+     * Queues the execution of a prepared statement of the same connection with its current parameters, which may be changed as soon as this method returns.
+     * 
+     * @param preparedStatement
+     *            client-side or server-side prepared statement
+     * @return this pipeline
+     * @throws SQLException
+     *             if the pipeline or the statement is closed, if a parameter is not set or if the statement can't be pipelined
+     */
+    Pipeline add(java.sql.PreparedStatement preparedStatement) throws SQLException;
+
+    /**
+     * Returns the number of statements queued.
+     * 
+     * @return the number of statements to be sent by {@link #execute()}
+     */
+    int size();
+
+    /**
+     * Sends the queued statements and reads their results, in the order the statements were added. The pipeline is then empty and may be used again.
+     * 
+     * @return the results of the statements, which remain available until this pipeline is closed
+     * @throws SQLException
+     *             if the pipeline is closed, or if the communication with the server failed, in which case the connection is closed
+     */
+    List<Result> execute() throws SQLException;
+
+    /**
+     * Drops the queued statements and closes the results of the executed ones.
+     * 
+     * @throws SQLException
+     *             if a result can't be closed
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -175,6 +175,24 @@ public interface ReplicationConnection extends JdbcConnection {
 
     public boolean isHostReplica(String host);
 
+    /**
+     * Sets the maximum staleness of the replicas reads are sent to, overriding the connection property 'replicaMaxStaleness' for this connection. Takes
+     * effect when the connection is next set read-only, or immediately if it already is. Has no effect unless 'replicaLagProbeInterval' is set.
+     * 
+     * @param millis
+     *            staleness bound in milliseconds, or 0 for none
+     * @throws SQLException
+     *             if an error occurs
+     */
+    public void setReplicaMaxStaleness(int millis) throws SQLException;
+
+    /**
+     * Returns the maximum staleness of the replicas reads are sent to.
+     * 
+     * @return staleness bound in milliseconds, or 0 for none
+     */
+    public int getReplicaMaxStaleness();
+
     /**
      * Use {@link #isHostReplica(String)} instead.
      * 
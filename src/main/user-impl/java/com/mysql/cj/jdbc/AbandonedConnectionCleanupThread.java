@@ -40,6 +40,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.NativeSession;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.protocol.NetworkResources;
 
@@ -161,6 +162,8 @@ public class AbandonedConnectionCleanupThread implements Runnable {
         if (cleanupThreadExecutorService != null) {
             cleanupThreadExecutorService.shutdownNow();
         }
+        // the statement cancellation timer thread is driver-wide too
+        NativeSession.getCancelTimer().stop();
     }
 
     /**
@@ -0,0 +1,534 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * {@link BulkLoader} executing its statement on an executor, which reads the data from a queue of chunks filled by the thread adding values. Each chunk
+ * ends on a row boundary, so the current row can be left out when the load is closed before it is ended.
+ */
+public class BulkLoaderImpl implements BulkLoader {
+
+    /** Fits the 1 MiB packet payloads NativeProtocol.sendFileToServer() sends */
+    static final int CHUNK_SIZE = 1024 * 1024 - 4096;
+
+    /** How many chunks may be waiting to be sent */
+    static final int QUEUED_CHUNKS = 4;
+
+    private static final byte[] DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' };
+
+    /**
+     * Data handed to the statement.
+     */
+    private static final class Chunk {
+        byte[] data;
+        int length;
+
+        Chunk(byte[] data) {
+            this.data = data;
+        }
+    }
+
+    private static final Chunk END_OF_DATA = new Chunk(new byte[0]);
+    private static final Chunk ABORTED = new Chunk(new byte[0]);
+
+    private final BlockingQueue<Chunk> queued = new ArrayBlockingQueue<>(QUEUED_CHUNKS + 1);
+    private final BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(QUEUED_CHUNKS + 3);
+    private final CompletableFuture<Long> result;
+    private final JdbcConnection connection;
+    private final ExceptionInterceptor exceptionInterceptor;
+    /** Set by the statement once it failed on {@link #ABORTED}, in the middle of sending the data */
+    private volatile boolean abortRead = false;
+
+    /** The chunk being filled, and its data array */
+    private Chunk current = new Chunk(new byte[CHUNK_SIZE]);
+    private byte[] chunk = this.current.data;
+    private int position = 0;
+    private int rowStart = 0;
+    private int fieldsInRow = 0;
+    private boolean finished = false;
+
+    private long rows = 0;
+    private long bytes = 0;
+    private ProgressListener progressListener;
+
+    /**
+     * Creates a loader and starts its statement.
+     * 
+     * @param connection
+     *            connection executing the statement
+     * @param sql
+     *            "LOAD DATA LOCAL INFILE" statement in the format the loader writes
+     * @param executor
+     *            executor running the statement until the load is finished
+     */
+    public BulkLoaderImpl(JdbcConnection connection, String sql, Executor executor) {
+        this.connection = connection;
+        this.exceptionInterceptor = connection.getExceptionInterceptor();
+        InputStream data = new ChunkInputStream();
+        this.result = CompletableFuture.supplyAsync(() -> {
+            try (JdbcStatement stmt = (JdbcStatement) connection.createStatement()) {
+                stmt.setLocalInfileInputStream(data);
+                try {
+                    return stmt.executeLargeUpdate(sql);
+                } finally {
+                    stmt.setLocalInfileInputStream(null);
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public BulkLoader setProgressListener(ProgressListener listener) {
+        this.progressListener = listener;
+        return this;
+    }
+
+    @Override
+    public BulkLoader add(int value) throws SQLException {
+        return add((long) value);
+    }
+
+    @Override
+    public BulkLoader add(long value) throws SQLException {
+        startField(20);
+        if (value < 0) {
+            this.chunk[this.position++] = '-';
+            if (value == Long.MIN_VALUE) {
+                // can't be negated
+                this.chunk[this.position++] = '9';
+                value = 223372036854775808L;
+            } else {
+                value = -value;
+            }
+        }
+        putDigits(value);
+        return this;
+    }
+
+    @Override
+    public BulkLoader add(CharSequence value) throws SQLException {
+        if (value == null) {
+            return addNull();
+        }
+        startField(0);
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                putEscaped((byte) c);
+            } else if (c < 0x800) {
+                put((byte) (0xc0 | c >> 6));
+                put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                int cp = Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))
+                        ? Character.toCodePoint(c, value.charAt(++i)) : -1;
+                if (cp == -1) {
+                    // unpaired, replaced as String.getBytes() does
+                    put((byte) '?');
+                } else {
+                    put((byte) (0xf0 | cp >> 18));
+                    put((byte) (0x80 | cp >> 12 & 0x3f));
+                    put((byte) (0x80 | cp >> 6 & 0x3f));
+                    put((byte) (0x80 | cp & 0x3f));
+                }
+            } else {
+                put((byte) (0xe0 | c >> 12));
+                put((byte) (0x80 | c >> 6 & 0x3f));
+                put((byte) (0x80 | c & 0x3f));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public BulkLoader add(byte[] value) throws SQLException {
+        if (value == null) {
+            return addNull();
+        }
+        startField(0);
+        for (byte b : value) {
+            putEscaped(b);
+        }
+        return this;
+    }
+
+    @Override
+    public BulkLoader add(LocalDate value) throws SQLException {
+        if (value == null) {
+            return addNull();
+        }
+        checkYear(value.getYear());
+        startField(10);
+        putDate(value);
+        return this;
+    }
+
+    @Override
+    public BulkLoader add(LocalTime value) throws SQLException {
+        if (value == null) {
+            return addNull();
+        }
+        startField(18);
+        putTime(value);
+        return this;
+    }
+
+    @Override
+    public BulkLoader add(LocalDateTime value) throws SQLException {
+        if (value == null) {
+            return addNull();
+        }
+        checkYear(value.getYear());
+        startField(29);
+        putDate(value.toLocalDate());
+        this.chunk[this.position++] = ' ';
+        putTime(value.toLocalTime());
+        return this;
+    }
+
+    @Override
+    public BulkLoader addNull() throws SQLException {
+        startField(2);
+        this.chunk[this.position++] = '\\';
+        this.chunk[this.position++] = 'N';
+        return this;
+    }
+
+    @Override
+    public BulkLoader endRow() throws SQLException {
+        checkNotFinished();
+        put((byte) '\n');
+        this.rowStart = this.position;
+        this.fieldsInRow = 0;
+        this.rows++;
+        return this;
+    }
+
+    @Override
+    public long finish() throws SQLException {
+        checkNotFinished();
+        this.finished = true;
+
+        // a row that wasn't ended is left out
+        if (this.rowStart > 0) {
+            this.current.length = this.rowStart;
+            handOver(this.current);
+        }
+        handOver(END_OF_DATA);
+        this.current = null;
+        this.chunk = null;
+
+        try {
+            return this.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SQLError.createSQLException(Messages.getString("BulkLoader.1"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, e, this.exceptionInterceptor);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.finished) {
+            return;
+        }
+        this.finished = true;
+        this.current = null;
+        this.chunk = null;
+        if (this.result.isDone()) {
+            // the statement already failed, the connection is usable
+            return;
+        }
+
+        // the rows not read yet are dropped, and the statement fails instead of reading the end of the data
+        this.queued.clear();
+        this.queued.offer(ABORTED);
+        try {
+            this.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // expected
+        }
+        if (this.abortRead || !this.result.isDone()) {
+            // the server still waits for the rest of the data, closing the connection makes it abort the statement
+            this.connection.abortInternal();
+        }
+    }
+
+    private void checkNotFinished() throws SQLException {
+        if (this.finished) {
+            throw SQLError.createSQLException(Messages.getString("BulkLoader.0"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, this.exceptionInterceptor);
+        }
+    }
+
+    private void checkYear(int year) throws SQLException {
+        if (year < 0 || year > 9999) {
+            throw SQLError.createSQLException(Messages.getString("BulkLoader.4", new Object[] { year }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    this.exceptionInterceptor);
+        }
+    }
+
+    private SQLException failure(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof SQLException) {
+            return (SQLException) cause;
+        }
+        return SQLError.createSQLException(cause.getMessage(), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, cause, this.exceptionInterceptor);
+    }
+
+    /**
+     * Writes the separator before a field, making sure there is room for the given number of bytes after it.
+     */
+    private void startField(int room) throws SQLException {
+        checkNotFinished();
+        ensureRoom(room + 1);
+        if (this.fieldsInRow++ > 0) {
+            this.chunk[this.position++] = '\t';
+        }
+    }
+
+    private void put(byte b) throws SQLException {
+        if (this.position == this.chunk.length) {
+            ensureRoom(1);
+        }
+        this.chunk[this.position++] = b;
+    }
+
+    private void putEscaped(byte b) throws SQLException {
+        switch (b) {
+            case '\\':
+                put((byte) '\\');
+                put((byte) '\\');
+                break;
+            case '\t':
+                put((byte) '\\');
+                put((byte) 't');
+                break;
+            case '\n':
+                put((byte) '\\');
+                put((byte) 'n');
+                break;
+            case 0:
+                put((byte) '\\');
+                put((byte) '0');
+                break;
+            default:
+                put(b);
+        }
+    }
+
+    private void putDigits(long value) {
+        int length = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            length++;
+        }
+        int end = this.position + length;
+        for (int i = end - 1; i >= this.position; i--) {
+            this.chunk[i] = DIGITS[(int) (value % 10)];
+            value /= 10;
+        }
+        this.position = end;
+    }
+
+    private void putPadded(int value, int width) {
+        for (int i = this.position + width - 1; i >= this.position; i--) {
+            this.chunk[i] = DIGITS[value % 10];
+            value /= 10;
+        }
+        this.position += width;
+    }
+
+    private void putDate(LocalDate value) {
+        putPadded(value.getYear(), 4);
+        this.chunk[this.position++] = '-';
+        putPadded(value.getMonthValue(), 2);
+        this.chunk[this.position++] = '-';
+        putPadded(value.getDayOfMonth(), 2);
+    }
+
+    private void putTime(LocalTime value) {
+        putPadded(value.getHour(), 2);
+        this.chunk[this.position++] = ':';
+        putPadded(value.getMinute(), 2);
+        this.chunk[this.position++] = ':';
+        putPadded(value.getSecond(), 2);
+        int nanos = value.getNano();
+        if (nanos > 0) {
+            // the server rounds or truncates the digits beyond its precision
+            this.chunk[this.position++] = '.';
+            putPadded(nanos, 9);
+        }
+    }
+
+    /**
+     * Makes room in the current chunk, handing over the complete rows in it and carrying the current row over to the next chunk.
+     */
+    private void ensureRoom(int room) throws SQLException {
+        if (this.position + room <= this.chunk.length) {
+            return;
+        }
+        if (this.rowStart == 0) {
+            // a row longer than a chunk
+            this.chunk = this.current.data = Arrays.copyOf(this.chunk, Math.max(this.chunk.length * 2, this.position + room));
+            return;
+        }
+
+        Chunk next = this.free.poll();
+        if (next == null) {
+            next = new Chunk(new byte[CHUNK_SIZE]);
+        }
+        int carried = this.position - this.rowStart;
+        if (carried + room > next.data.length) {
+            next.data = new byte[Math.max(next.data.length * 2, carried + room)];
+        }
+        System.arraycopy(this.chunk, this.rowStart, next.data, 0, carried);
+
+        this.current.length = this.rowStart;
+        handOver(this.current);
+
+        this.current = next;
+        this.chunk = next.data;
+        this.position = carried;
+        this.rowStart = 0;
+    }
+
+    /**
+     * Queues a chunk for the statement, waiting while the queue is full.
+     */
+    private void handOver(Chunk data) throws SQLException {
+        try {
+            while (!this.queued.offer(data, 100, TimeUnit.MILLISECONDS)) {
+                if (this.result.isDone()) {
+                    // the statement failed before reading all data
+                    this.finished = true;
+                    try {
+                        this.result.join();
+                    } catch (CompletionException e) {
+                        throw failure(e);
+                    }
+                    throw SQLError.createSQLException(Messages.getString("BulkLoader.2"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR,
+                            this.exceptionInterceptor);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SQLError.createSQLException(Messages.getString("BulkLoader.1"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, e, this.exceptionInterceptor);
+        }
+        if (data != END_OF_DATA) {
+            // chunks end on row boundaries, all ended rows are handed over
+            this.bytes += data.length;
+            if (this.progressListener != null) {
+                this.progressListener.progress(this.rows, this.bytes);
+            }
+        }
+    }
+
+    /**
+     * The data read by the statement.
+     */
+    private class ChunkInputStream extends InputStream {
+        private Chunk chunk;
+        private int offset;
+
+        @Override
+        public int read() throws IOException {
+            if (!next()) {
+                return -1;
+            }
+            return this.chunk.data[this.offset++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (!next()) {
+                return -1;
+            }
+            int n = Math.min(len, this.chunk.length - this.offset);
+            System.arraycopy(this.chunk.data, this.offset, b, off, n);
+            this.offset += n;
+            return n;
+        }
+
+        /**
+         * Waits for a chunk if the current one is consumed.
+         * 
+         * @return false at the end of the data
+         */
+        private boolean next() throws IOException {
+            if (this.chunk == END_OF_DATA) {
+                return false;
+            }
+            if (this.chunk == null || this.offset == this.chunk.length) {
+                if (this.chunk != null) {
+                    BulkLoaderImpl.this.free.offer(this.chunk);
+                }
+                try {
+                    this.chunk = BulkLoaderImpl.this.queued.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+                this.offset = 0;
+            }
+            if (this.chunk == ABORTED) {
+                BulkLoaderImpl.this.abortRead = true;
+                throw new IOException(Messages.getString("BulkLoader.5"));
+            }
+            return this.chunk != END_OF_DATA;
+        }
+    }
+}
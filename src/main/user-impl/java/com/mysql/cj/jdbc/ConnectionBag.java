@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The lock-free container behind {@link MysqlPoolingDataSource}. Entries are claimed by a compare-and-set on their state rather than by taking them out of
+ * a queue, so borrowing and returning never lock. A thread first looks at the entries it returned itself, most recent first, which usually finds a free
+ * connection without touching any shared state; then it scans all entries; and only then parks until an entry is returned.
+ *
+ * A returned entry isn't handed over to a parked thread: the returning thread wakes the longest waiting one and both compete for the entry. Handing it
+ * over would force a context switch per borrow once threads outnumber connections, since the returning thread would have to park for its next borrow.
+ *
+ * @param <T>
+ *            entry type
+ */
+final class ConnectionBag<T extends ConnectionBag.Entry> {
+
+    static final int STATE_NOT_IN_USE = 0;
+    static final int STATE_IN_USE = 1;
+    static final int STATE_REMOVED = -1;
+    static final int STATE_RESERVED = -2;
+
+    /** Entries remembered per thread. */
+    private static final int THREAD_LOCAL_ENTRIES = 16;
+
+    /**
+     * An item of the bag, its state being one of the STATE_* constants.
+     */
+    interface Entry {
+        int getState();
+
+        void setState(int state);
+
+        boolean compareAndSetState(int expect, int update);
+    }
+
+    private final CopyOnWriteArrayList<T> entries = new CopyOnWriteArrayList<>();
+
+    private final ThreadLocal<List<T>> returnedByThread = ThreadLocal.withInitial(() -> new ArrayList<>(THREAD_LOCAL_ENTRIES));
+
+    /** Parked threads, longest waiting first. */
+    private final ConcurrentLinkedQueue<Thread> parked = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    /**
+     * Claims a free entry without waiting.
+     *
+     * @return an entry now in use, or null if all are taken
+     */
+    T poll() {
+        List<T> returned = this.returnedByThread.get();
+        for (int i = returned.size() - 1; i >= 0; i--) {
+            T entry = returned.remove(i);
+            if (entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                return entry;
+            }
+        }
+
+        for (T entry : this.entries) {
+            if (entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits for an entry to be returned, or added, by another thread.
+     *
+     * @param timeout
+     *            maximum time to wait
+     * @param unit
+     *            unit of timeout
+     * @return an entry now in use, or null if none became free in time
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting
+     */
+    T await(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Thread current = Thread.currentThread();
+        this.waiters.incrementAndGet();
+        try {
+            for (;;) {
+                this.parked.add(current);
+                // scanning after joining the queue, an entry returned in between either shows up here or wakes this thread
+                T entry = poll();
+                if (entry != null) {
+                    this.parked.remove(current);
+                    // this thread may have been woken for an entry it didn't take
+                    wakeWaiter();
+                    return entry;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    this.parked.remove(current);
+                    return null;
+                }
+                LockSupport.parkNanos(this, remaining);
+                this.parked.remove(current);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            this.waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gives back an entry taken with {@link #poll()} or {@link #await(long, TimeUnit)}, waking a waiting thread if there is one.
+     *
+     * @param entry
+     *            entry in use
+     */
+    void requite(T entry) {
+        entry.setState(STATE_NOT_IN_USE);
+
+        List<T> returned = this.returnedByThread.get();
+        if (returned.size() >= THREAD_LOCAL_ENTRIES) {
+            returned.remove(0);
+        }
+        returned.add(entry);
+
+        wakeWaiter();
+    }
+
+    /**
+     * Adds a new entry, free to be claimed.
+     *
+     * @param entry
+     *            entry in state {@link #STATE_NOT_IN_USE}
+     */
+    void add(T entry) {
+        this.entries.add(entry);
+        wakeWaiter();
+    }
+
+    /**
+     * Adds a new entry that the calling thread already uses.
+     *
+     * @param entry
+     *            entry in state {@link #STATE_IN_USE}
+     */
+    void addInUse(T entry) {
+        this.entries.add(entry);
+    }
+
+    /**
+     * Removes an entry that is in use or reserved.
+     *
+     * @param entry
+     *            entry to remove
+     * @return true if the entry was removed by this call
+     */
+    boolean remove(T entry) {
+        if (!entry.compareAndSetState(STATE_IN_USE, STATE_REMOVED) && !entry.compareAndSetState(STATE_RESERVED, STATE_REMOVED)) {
+            return false;
+        }
+        return this.entries.remove(entry);
+    }
+
+    /**
+     * Keeps a free entry from being claimed, for maintenance.
+     *
+     * @param entry
+     *            entry
+     * @return true if the entry was free and is now reserved
+     */
+    boolean reserve(T entry) {
+        return entry.compareAndSetState(STATE_NOT_IN_USE, STATE_RESERVED);
+    }
+
+    /**
+     * Makes a reserved entry free again.
+     *
+     * @param entry
+     *            reserved entry
+     */
+    void unreserve(T entry) {
+        if (entry.compareAndSetState(STATE_RESERVED, STATE_NOT_IN_USE)) {
+            wakeWaiter();
+        }
+    }
+
+    private void wakeWaiter() {
+        if (this.waiters.get() > 0) {
+            Thread waiter = this.parked.poll();
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    List<T> values() {
+        return new ArrayList<>(this.entries);
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    int count(int state) {
+        int count = 0;
+        for (T entry : this.entries) {
+            if (entry.getState() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int getWaiters() {
+        return this.waiters.get();
+    }
+}
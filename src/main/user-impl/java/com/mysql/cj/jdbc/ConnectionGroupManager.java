@@ -35,7 +35,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
+import com.mysql.cj.jdbc.ha.LoadBalancedHostStats;
 import com.mysql.cj.jdbc.jmx.LoadBalanceConnectionGroupManager;
 
 public class ConnectionGroupManager {
@@ -198,6 +200,56 @@ public class ConnectionGroupManager {
         return sb.toString();
     }
 
+    /**
+     * Returns the transaction statistics kept for the hosts of the matching groups, see {@link LoadBalancedHostStats#toString()}.
+     * 
+     * @param group
+     *            group name, or null or empty for all groups
+     * @return comma separated statistics
+     */
+    public static String getHostStats(String group) {
+        StringBuilder sb = new StringBuilder();
+        String sep = "";
+        for (String host : getHostsMatching(group)) {
+            LoadBalancedHostStats stats = LoadBalancedHostStats.getIfPresent(host);
+            if (stats != null) {
+                sb.append(sep);
+                sb.append(stats);
+                sep = ",";
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the hosts of the matching groups currently ejected by the "latencyAware" load balancing strategy.
+     * 
+     * @param group
+     *            group name, or null or empty for all groups
+     * @return comma separated hosts
+     */
+    public static String getEjectedHostsList(String group) {
+        StringBuilder sb = new StringBuilder();
+        String sep = "";
+        for (String host : getHostsMatching(group)) {
+            LoadBalancedHostStats stats = LoadBalancedHostStats.getIfPresent(host);
+            if (stats != null && stats.isEjected()) {
+                sb.append(sep);
+                sb.append(host);
+                sep = ",";
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Set<String> getHostsMatching(String group) {
+        Set<String> hosts = new TreeSet<>();
+        for (ConnectionGroup cg : getGroupsMatching(group)) {
+            hosts.addAll(cg.getInitialHosts());
+        }
+        return hosts;
+    }
+
     public static String getRegisteredConnectionGroups() {
         Collection<ConnectionGroup> s = getGroupsMatching(null);
         StringBuilder sb = new StringBuilder();
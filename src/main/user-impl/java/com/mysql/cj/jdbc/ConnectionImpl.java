@@ -29,9 +29,11 @@
 
 package com.mysql.cj.jdbc;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.DatabaseMetaData;
@@ -52,8 +54,12 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
 import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import com.mysql.cj.CacheAdapter;
@@ -81,6 +87,7 @@ import com.mysql.cj.exceptions.UnableToConnectException;
 import com.mysql.cj.interceptors.QueryInterceptor;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.jdbc.ha.MultiHostConnectionProxy;
 import com.mysql.cj.jdbc.ha.MultiHostMySQLConnection;
 import com.mysql.cj.jdbc.interceptors.ConnectionLifecycleInterceptor;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
@@ -90,7 +97,9 @@ import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.UpdatableResultSet;
 import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.log.StandardLogger;
+import com.mysql.cj.protocol.NioSocketFactory;
 import com.mysql.cj.protocol.ServerSessionStateController;
+import com.mysql.cj.protocol.SocketConnection;
 import com.mysql.cj.protocol.SocksProxySocketFactory;
 import com.mysql.cj.util.LRUCache;
 import com.mysql.cj.util.StringUtils;
@@ -120,6 +129,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private JdbcConnection parentProxy = null;
     private JdbcConnection topProxy = null;
     private InvocationHandler realProxy = null;
+    private final Lock connectionLock = new ReentrantLock();
+    /** Lock of the multi-host connection this one is part of, if any. */
+    private Lock proxyLock = null;
 
     @Override
     public boolean isProxySet() {
@@ -133,6 +145,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         }
         this.topProxy = proxy;
         this.realProxy = this.topProxy instanceof MultiHostMySQLConnection ? ((MultiHostMySQLConnection) proxy).getThisAsProxy() : null;
+        InvocationHandler handler = this.realProxy != null ? this.realProxy
+                : this.topProxy != null && Proxy.isProxyClass(this.topProxy.getClass()) ? Proxy.getInvocationHandler(this.topProxy) : null;
+        this.proxyLock = handler instanceof MultiHostConnectionProxy ? ((MultiHostConnectionProxy) handler).getConnectionLock() : null;
     }
 
     // this connection has to be proxied when using multi-host settings so that statements get routed to the right physical connection
@@ -161,6 +176,11 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         return (this.realProxy != null) ? this.realProxy : getProxy();
     }
 
+    @Override
+    public Lock getConnectionLock() {
+        return (this.proxyLock != null) ? this.proxyLock : this.connectionLock;
+    }
+
     /**
      * Used as a key for caching callable statements which (may) depend on
      * current database...In 5.0.x, they don't (currently), but stored procedure
@@ -283,6 +303,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     private NativeSession session = null;
 
+    /** Completes once the last statement given to executeQueryAsync() or executeUpdateAsync() is done. Guarded by the connection mutex. */
+    private CompletableFuture<?> lastAsyncStatement = CompletableFuture.completedFuture(null);
+
     /** Is this connection associated with a global tx? */
     private boolean isInGlobalTx = false;
 
@@ -532,7 +555,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void changeUser(String userName, String newPassword) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             if ((userName == null) || userName.equals("")) {
@@ -560,6 +585,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             this.session.setSessionVariables();
 
             setupServerForTruncationChecks();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -703,7 +730,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void close() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.connectionLifecycleInterceptors != null) {
                 for (ConnectionLifecycleInterceptor cli : this.connectionLifecycleInterceptors) {
                     cli.close();
@@ -711,6 +740,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             realClose(true, true, false, null);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -759,7 +790,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void commit() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             try {
@@ -802,13 +835,17 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 this.session.setNeedsPing(this.reconnectAtTxEnd.getValue());
             }
+        } finally {
+            connectionLock.unlock();
         }
         return;
     }
 
     @Override
     public void createNewIO(boolean isForReconnect) {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             // Synchronization Not needed for *new* connections, but definitely for connections going through fail-over, since we might get the new connection
             // up and running *enough* to start sending cached or still-open server-side prepared statements over to the backend before we get a chance to
             // re-prepare them...
@@ -824,6 +861,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } catch (SQLException ex) {
                 throw ExceptionFactory.createException(UnableToConnectException.class, ex.getMessage(), ex);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -847,7 +886,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 boolean oldReadOnly;
                 String oldDb;
 
-                synchronized (getConnectionMutex()) {
+                Lock connectionLock = getConnectionLock();
+                connectionLock.lock();
+                try {
                     // save state from old connection
                     oldAutoCommit = getAutoCommit();
                     oldIsolationLevel = this.isolationLevel;
@@ -855,6 +896,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     oldDb = getDatabase();
 
                     this.session.setQueryInterceptors(this.queryInterceptors);
+                } finally {
+                    connectionLock.unlock();
                 }
 
                 // Server properties might be different from previous connection, so initialize again...
@@ -1015,7 +1058,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     }
 
     private void createPreparedStatementCaches() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             int cacheSize = this.propertySet.getIntegerProperty(PropertyKey.prepStmtCacheSize).getValue();
             String queryInfoCacheFactory = this.propertySet.getStringProperty(PropertyKey.queryInfoCacheFactory).getValue();
 
@@ -1075,6 +1120,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     }
                 };
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1112,22 +1159,34 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean getAutoCommit() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.session.getServerSession().isAutoCommit();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public String getCatalog() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA ? null : this.database;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public String getCharacterSetMetadata() {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.session.getServerSession().getCharsetSettings().getMetadataEncoding();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1151,8 +1210,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     @Override
     public long getIdleFor() {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.session.getIdleFor();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1204,7 +1267,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public int getTransactionIsolation() throws SQLException {
 
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!this.useLocalSessionState.getValue()) {
                 String s = this.session.queryServerVariable(
                         versionMeetsMinimum(8, 0, 3) || (versionMeetsMinimum(5, 7, 20) && !versionMeetsMinimum(8, 0, 0)) ? "@@session.transaction_isolation"
@@ -1223,17 +1288,23 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return this.isolationLevel;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public java.util.Map<String, Class<?>> getTypeMap() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.typeMap == null) {
                 this.typeMap = new HashMap<>();
             }
 
             return this.typeMap;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1404,7 +1475,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean isSameResource(JdbcConnection otherConnection) {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (otherConnection == null) {
                 return false;
             }
@@ -1445,6 +1518,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return false;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1477,6 +1552,153 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         return ((EscapeProcessorResult) escapedSqlResult).escapedSql;
     }
 
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(String sql, Executor executor) {
+        return executeAsync(sql, executor).thenApply(stmt -> {
+            try {
+                java.sql.ResultSet rs = stmt.getResultSet();
+                if (rs == null) {
+                    stmt.close();
+                    throw SQLError.createSQLException(Messages.getString("Statement.57"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                            getExceptionInterceptor());
+                }
+                stmt.closeOnCompletion();
+                return rs;
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> executeUpdateAsync(String sql, Executor executor) {
+        return executeAsync(sql, executor).thenApply(stmt -> {
+            try {
+                long count = stmt.getResultSet() == null ? stmt.getLargeUpdateCount() : -1;
+                stmt.close();
+                if (count == -1) {
+                    throw SQLError.createSQLException(Messages.getString("Statement.46"), "01S03", getExceptionInterceptor());
+                }
+                return count;
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public BulkLoader createBulkLoader(String table, String[] columns, Executor executor) throws SQLException {
+        checkClosed();
+        if (!this.propertySet.getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue()) {
+            throw SQLError.createSQLException(Messages.getString("BulkLoader.3"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
+        }
+
+        // the loader writes the default LOAD DATA format, with text in UTF-8 and binary values as they are, stored without conversion
+        StringBuilder sql = new StringBuilder("LOAD DATA LOCAL INFILE 'BulkLoader' INTO TABLE ").append(table).append(" CHARACTER SET binary");
+        if (columns.length > 0) {
+            sql.append(" (").append(String.join(", ", columns)).append(')');
+        }
+        return new BulkLoaderImpl(this, sql.toString(), executor);
+    }
+
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        checkClosed();
+        return new PipelineImpl(this);
+    }
+
+    /**
+     * Queues an asynchronous statement after the previous ones.
+     * 
+     * @param sql
+     *            statement
+     * @param executor
+     *            executor reading the result
+     * @return future of the statement, with its results
+     */
+    private CompletableFuture<StatementImpl> executeAsync(String sql, Executor executor) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
+            CompletableFuture<StatementImpl> result = this.lastAsyncStatement.handle((r, t) -> null).thenCompose(v -> startAsync(sql, executor));
+            this.lastAsyncStatement = result;
+            return result;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Sends a statement and reads its result once the response arrives, or executes the statement on the executor if the socket doesn't support waiting
+     * for the response without a thread.
+     */
+    private CompletableFuture<StatementImpl> startAsync(String sql, Executor executor) {
+        StatementImpl stmt;
+        NioSocketFactory nioSocketFactory;
+        CompletableFuture<Void> responseReady;
+        try {
+            Lock connectionLock = getConnectionLock();
+            connectionLock.lock();
+            try {
+                checkClosed();
+                stmt = (StatementImpl) createStatement();
+                SocketConnection socketConnection = this.session.getProtocol().getSocketConnection();
+                if (!(socketConnection.getSocketFactory() instanceof NioSocketFactory) || !this.queryInterceptors.isEmpty()) {
+                    return CompletableFuture.supplyAsync(() -> {
+                        try {
+                            stmt.execute(sql);
+                            return stmt;
+                        } catch (SQLException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executor);
+                }
+                nioSocketFactory = (NioSocketFactory) socketConnection.getSocketFactory();
+                this.session.getProtocol().sendQueryStringNoWait(stmt, stmt.doEscapeProcessing ? nativeSQL(sql) : sql,
+                        this.propertySet.getStringProperty(PropertyKey.characterEncoding).getValue());
+                if (socketConnection.getMysqlInput().available() > 0) {
+                    responseReady = CompletableFuture.completedFuture(null);
+                } else {
+                    responseReady = nioSocketFactory.awaitReadable(this.propertySet.getIntegerProperty(PropertyKey.socketTimeout).getValue());
+                }
+            } finally {
+                connectionLock.unlock();
+            }
+        } catch (SQLException | IOException | CJException e) {
+            CompletableFuture<StatementImpl> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e instanceof CJException ? SQLExceptionsMapping.translateException(e, getExceptionInterceptor())
+                    : e instanceof IOException ? SQLError.createCommunicationsException(this, this.session.getProtocol().getPacketSentTimeHolder(),
+                            this.session.getProtocol().getPacketReceivedTimeHolder(), (IOException) e, getExceptionInterceptor()) : e);
+            return failed;
+        }
+
+        return responseReady.handleAsync((v, waitFailure) -> {
+            Lock connectionLock = getConnectionLock();
+            connectionLock.lock();
+            try {
+                try {
+                    if (waitFailure != null) {
+                        // the response may still come, the connection can't be used any more
+                        throw ExceptionFactory.createCommunicationsException(this.propertySet, this.session.getServerSession(),
+                                this.session.getProtocol().getPacketSentTimeHolder(), this.session.getProtocol().getPacketReceivedTimeHolder(), waitFailure,
+                                getExceptionInterceptor());
+                    }
+                    ResultSetInternalMethods rs = this.session.getProtocol().readQueryResult(stmt.maxRows, stmt.getResultSetFactory());
+                    stmt.results = rs;
+                    stmt.lastInsertId = rs.getUpdateID();
+                    return stmt;
+                } catch (CJException e) {
+                    if (e instanceof CJCommunicationsException) {
+                        cleanup(e);
+                    }
+                    throw new CompletionException(SQLExceptionsMapping.translateException(e, getExceptionInterceptor()));
+                }
+            } finally {
+                connectionLock.unlock();
+            }
+        }, executor);
+    }
+
     private CallableStatement parseCallableStatement(String sql) throws SQLException {
         Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, getMultiHostSafeProxy().getSession().getServerSession().getSessionTimeZone(),
                 getMultiHostSafeProxy().getSession().getServerSession().getCapabilities().serverSupportsFracSecs(),
@@ -1520,7 +1742,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             cStmt = parseCallableStatement(sql);
         } else {
-            synchronized (this.parsedCallableStatementCache) {
+            Lock connectionLock = getConnectionLock();
+            connectionLock.lock();
+            try {
                 CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
 
                 CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
@@ -1536,6 +1760,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                     this.parsedCallableStatementCache.put(key, cachedParamInfo);
                 }
+            } finally {
+                connectionLock.unlock();
             }
         }
 
@@ -1574,7 +1800,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public java.sql.PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             //
@@ -1592,35 +1820,33 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             if (this.useServerPrepStmts.getValue() && canServerPrepare) {
                 if (this.cachePrepStmts.getValue()) {
-                    synchronized (this.serverSideStatementCache) {
-                        pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+                    pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
 
-                        if (pStmt != null) {
-                            ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
-                            pStmt.clearParameters();
-                        }
+                    if (pStmt != null) {
+                        ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
+                        pStmt.clearParameters();
+                    }
 
-                        if (pStmt == null) {
-                            try {
-                                pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
-                                        resultSetConcurrency);
-                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                    ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
-                                }
+                    if (pStmt == null) {
+                        try {
+                            pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
+                                    resultSetConcurrency);
+                            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
+                            }
 
-                                pStmt.setResultSetType(resultSetType);
-                                pStmt.setResultSetConcurrency(resultSetConcurrency);
-                            } catch (SQLException sqlEx) {
-                                // Punt, if necessary
-                                if (this.emulateUnsupportedPstmts.getValue()) {
-                                    pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
-
-                                    if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                        this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
-                                    }
-                                } else {
-                                    throw sqlEx;
+                            pStmt.setResultSetType(resultSetType);
+                            pStmt.setResultSetConcurrency(resultSetConcurrency);
+                        } catch (SQLException sqlEx) {
+                            // Punt, if necessary
+                            if (this.emulateUnsupportedPstmts.getValue()) {
+                                pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
+
+                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                    this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
                                 }
+                            } else {
+                                throw sqlEx;
                             }
                         }
                     }
@@ -1644,6 +1870,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return pStmt;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1748,30 +1976,34 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void recachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.cachePrepStmts.getValue() && pstmt.isPoolable()) {
-                synchronized (this.serverSideStatementCache) {
-                    Object oldServerPrepStmt = this.serverSideStatementCache.put(
-                            new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()),
-                            (ServerPreparedStatement) pstmt);
-                    if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
-                        ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
-                        ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
-                        ((ServerPreparedStatement) oldServerPrepStmt).realClose(true, true);
-                    }
+                Object oldServerPrepStmt = this.serverSideStatementCache.put(
+                        new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()),
+                        (ServerPreparedStatement) pstmt);
+                if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
+                    ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
+                    ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
+                    ((ServerPreparedStatement) oldServerPrepStmt).realClose(true, true);
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void decachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.cachePrepStmts.getValue()) {
-                synchronized (this.serverSideStatementCache) {
-                    this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()));
-                }
+                this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()));
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1792,9 +2024,57 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         }
     }
 
+    @Override
+    public void resetSession() throws SQLException {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+
+            if (!versionMeetsMinimum(5, 7, 3)) {
+                resetServerState();
+                return;
+            }
+
+            // the reset drops the statements prepared on the server, so nothing the driver holds on to may refer to them any longer
+            closeAllOpenStatements();
+            if (this.serverSideStatementCache != null) {
+                for (ServerPreparedStatement pstmt : this.serverSideStatementCache.values()) {
+                    pstmt.isCached = false;
+                    pstmt.setClosed(false);
+                    pstmt.realClose(true, true);
+                }
+                this.serverSideStatementCache.clear();
+            }
+
+            try {
+                this.session.resetSessionState();
+            } catch (CJException ex) {
+                throw SQLExceptionsMapping.translateException(ex, getExceptionInterceptor());
+            }
+
+            this.session.getServerSession().getCharsetSettings().configurePostHandshake(true);
+
+            this.session.setSessionVariables();
+
+            checkTransactionIsolationLevel();
+            this.readOnly = false;
+
+            if (!this.session.getServerSession().isAutoCommit()) {
+                setAutoCommit(true); // required by JDBC specification
+            }
+
+            setupServerForTruncationChecks();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
     @Override
     public void rollback() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             try {
@@ -1840,13 +2120,17 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 this.session.setNeedsPing(this.reconnectAtTxEnd.getValue());
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void rollback(final Savepoint savepoint) throws SQLException {
 
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             try {
@@ -1913,11 +2197,15 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 this.session.setNeedsPing(this.reconnectAtTxEnd.getValue());
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     private void rollbackNoChecks() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.useLocalTransactionState.getValue()) {
                 if (!this.session.getServerSession().inTransactionOnServer()) {
                     return; // effectively a no-op
@@ -1926,6 +2214,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             this.session.execSQL(null, "rollback", -1, null, false, this.nullStatementResultSetFactory, null, false);
 
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1989,7 +2279,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void setAutoCommit(final boolean autoCommitFlag) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             if (this.connectionLifecycleInterceptors != null) {
@@ -2047,6 +2339,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2058,7 +2352,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     }
 
     public void setDatabase(final String db) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             if (db == null) {
@@ -2108,13 +2404,19 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             this.session.execSQL(null, query.toString(), -1, null, false, this.nullStatementResultSetFactory, null, false);
 
             this.database = db;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public String getDatabase() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.database;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2141,7 +2443,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void setReadOnlyInternal(boolean readOnlyFlag) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             // note this this is safe even inside a transaction
             if (this.readOnlyPropagatesToServer.getValue() && versionMeetsMinimum(5, 6, 5)) {
                 if (!this.useLocalSessionState.getValue() || (readOnlyFlag != this.readOnly)) {
@@ -2151,6 +2455,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             this.readOnly = readOnlyFlag;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2165,7 +2471,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     private void setSavepoint(MysqlSavepoint savepoint) throws SQLException {
 
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             StringBuilder savePointQuery = new StringBuilder("SAVEPOINT ");
@@ -2182,23 +2490,31 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 closeStatement(stmt);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public java.sql.Savepoint setSavepoint(String name) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             MysqlSavepoint savepoint = new MysqlSavepoint(name, getExceptionInterceptor());
 
             setSavepoint(savepoint);
 
             return savepoint;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setTransactionIsolation(int level) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             String sql = null;
@@ -2251,18 +2567,26 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                 this.isolationLevel = level;
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setTypeMap(java.util.Map<String, Class<?>> map) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             this.typeMap = map;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     private void setupServerForTruncationChecks() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             RuntimeProperty<Boolean> jdbcCompliantTruncation = this.propertySet.getProperty(PropertyKey.jdbcCompliantTruncation);
             if (jdbcCompliantTruncation.getValue()) {
                 String currentSqlMode = this.session.getServerSession().getServerVariable("sql_mode");
@@ -2287,6 +2611,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     jdbcCompliantTruncation.setValue(false); // server's handling this for us now
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2365,19 +2691,27 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void transactionBegun() {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.connectionLifecycleInterceptors != null) {
                 this.connectionLifecycleInterceptors.stream().forEach(ConnectionLifecycleInterceptor::transactionBegun);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void transactionCompleted() {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.connectionLifecycleInterceptors != null) {
                 this.connectionLifecycleInterceptors.stream().forEach(ConnectionLifecycleInterceptor::transactionCompleted);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2395,32 +2729,44 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean isServerLocal() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             try {
                 return this.session.isServerLocal(this.getSession());
             } catch (CJException ex) {
                 SQLException sqlEx = SQLExceptionsMapping.translateException(ex, getExceptionInterceptor());
                 throw sqlEx;
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public int getSessionMaxRows() {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.session.getSessionMaxRows();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setSessionMaxRows(int max) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
             if (this.session.getSessionMaxRows() != max) {
                 this.session.setSessionMaxRows(max);
                 this.session.execSQL(null, "SET SQL_SELECT_LIMIT=" + (this.session.getSessionMaxRows() == -1 ? "DEFAULT" : this.session.getSessionMaxRows()),
                         -1, null, false, this.nullStatementResultSetFactory, null, false);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2434,9 +2780,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public String getSchema() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
             return this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA ? this.database : null;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2467,7 +2817,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void setNetworkTimeout(Executor executor, final int milliseconds) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             SecurityManager sec = System.getSecurityManager();
 
             if (sec != null) {
@@ -2481,6 +2833,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             checkClosed();
 
             executor.execute(new NetworkTimeoutSetter(this, milliseconds));
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2497,8 +2851,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         public void run() {
             JdbcConnection conn = this.connRef.get();
             if (conn != null) {
-                synchronized (conn.getConnectionMutex()) {
+                Lock connectionLock = conn.getConnectionLock();
+                connectionLock.lock();
+                try {
                     ((NativeSession) conn.getSession()).setSocketTimeout(this.milliseconds);
+                } finally {
+                    connectionLock.unlock();
                 }
             }
         }
@@ -2506,9 +2864,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public int getNetworkTimeout() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
             return this.session.getSocketTimeout();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2534,7 +2896,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean isValid(int timeout) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (isClosed()) {
                 return false;
             }
@@ -2557,6 +2921,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return true;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2564,7 +2930,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public ClientInfoProvider getClientInfoProviderImpl() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.infoProvider == null) {
                 String clientInfoProvider = this.propertySet.getStringProperty(PropertyKey.clientInfoProvider).getStringValue();
                 try {
@@ -2589,6 +2957,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return this.infoProvider;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
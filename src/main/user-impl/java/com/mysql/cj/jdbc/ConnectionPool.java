@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * The connection pool of a {@link MysqlPoolingDataSource}.
+ *
+ * Connections are kept in a {@link ConnectionBag} and handed out as the same {@link ConnectionWrapper} logical handles {@link MysqlPooledConnection} hands
+ * out, so closing a handle rolls back an open transaction and communication failures mark the connection as broken. Returned connections are reset with
+ * {@link JdbcConnection#resetSession()}. Borrowers open new connections themselves while the pool is below its maximum size; a housekeeping thread closes
+ * expired and idle connections, pings idle connections and opens connections for waiting threads and the minimum idle count.
+ *
+ * Connection ages and idle times are kept on a coarse clock advanced by the housekeeping thread, so that borrowing an idle connection and returning it
+ * don't read the system clock, which takes as long as the rest of a borrow on some virtual machines.
+ */
+final class ConnectionPool {
+
+    /**
+     * A physical connection in the pool. Events of its logical handles go straight to the pool instead of to listeners.
+     */
+    static final class PoolEntry extends MysqlPooledConnection implements ConnectionBag.Entry {
+        private static final AtomicIntegerFieldUpdater<PoolEntry> STATE = AtomicIntegerFieldUpdater.newUpdater(PoolEntry.class, "state");
+
+        private volatile int state;
+
+        final ConnectionPool pool;
+        final JdbcConnection connection;
+        final long createdMillis;
+        // published to other threads by the state changes
+        long returnedMillis;
+        long validatedMillis;
+        boolean broken;
+
+        PoolEntry(ConnectionPool pool, JdbcConnection connection, int state) {
+            super(connection);
+            this.pool = pool;
+            this.connection = connection;
+            this.state = state;
+            this.createdMillis = this.returnedMillis = this.validatedMillis = pool.clock;
+        }
+
+        @Override
+        public int getState() {
+            return this.state;
+        }
+
+        @Override
+        public void setState(int state) {
+            this.state = state;
+        }
+
+        @Override
+        public boolean compareAndSetState(int expect, int update) {
+            return STATE.compareAndSet(this, expect, update);
+        }
+
+        @Override
+        protected void callConnectionEventListeners(int eventType, SQLException sqlException) {
+            if (eventType == CONNECTION_ERROR_EVENT) {
+                this.broken = true;
+            } else if (eventType == CONNECTION_CLOSED_EVENT) {
+                this.pool.recycle(this);
+            }
+        }
+    }
+
+    private final MysqlPoolingDataSource dataSource;
+    private final int maximumPoolSize;
+    private final int minimumIdle;
+    private final long connectionTimeoutNanos;
+    private final long idleTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final long validationIntervalMillis;
+    private final int validationTimeoutMillis;
+    private final boolean resetSessionOnReturn;
+
+    private final ConnectionBag<PoolEntry> bag = new ConnectionBag<>();
+    private final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(this.bag);
+
+    /** Open connections plus connections being opened. */
+    private final AtomicInteger slots = new AtomicInteger();
+
+    private final ScheduledExecutorService housekeeper;
+
+    private final long startNanos = System.nanoTime();
+
+    /** Milliseconds since the pool started, to a resolution of a tenth of the validation interval or a second, whichever is shorter. */
+    private volatile long clock = 0;
+
+    private volatile boolean closed = false;
+
+    private volatile SQLException lastConnectException = null;
+
+    ConnectionPool(MysqlPoolingDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.maximumPoolSize = Math.max(1, dataSource.getMaximumPoolSize());
+        this.minimumIdle = Math.min(Math.max(0, dataSource.getMinimumIdle()), this.maximumPoolSize);
+        this.connectionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(dataSource.getConnectionTimeout());
+        this.idleTimeoutMillis = dataSource.getIdleTimeout() > 0 ? dataSource.getIdleTimeout() : Long.MAX_VALUE;
+        this.maxLifetimeMillis = dataSource.getMaxLifetime() > 0 ? dataSource.getMaxLifetime() : Long.MAX_VALUE;
+        this.validationIntervalMillis = Math.max(1, dataSource.getValidationInterval());
+        this.validationTimeoutMillis = Math.max(0, dataSource.getValidationTimeout());
+        this.resetSessionOnReturn = dataSource.getResetSessionOnReturn();
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "mysql-cj-connection-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long resolution = Math.max(1, Math.min(1000, this.validationIntervalMillis / 10));
+        this.housekeeper.scheduleAtFixedRate(this::tick, resolution, resolution, TimeUnit.MILLISECONDS);
+        long period = Math.min(this.validationIntervalMillis, this.idleTimeoutMillis);
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+        if (this.minimumIdle > 0) {
+            this.housekeeper.execute(this::fill);
+        }
+    }
+
+    ConnectionPoolMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    Connection getConnection() throws SQLException {
+        // the time is only taken once borrowing has to open, wait for or validate a connection, anything else takes well under a microsecond
+        long start = 0;
+        boolean timed = false;
+        for (;;) {
+            if (this.closed) {
+                throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.0"), MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, null);
+            }
+
+            PoolEntry entry = this.bag.poll();
+            if (entry == null) {
+                if (!timed) {
+                    start = System.nanoTime();
+                    timed = true;
+                }
+                if (reserveSlot()) {
+                    entry = open(ConnectionBag.STATE_IN_USE);
+                    this.bag.addInUse(entry);
+                } else {
+                    entry = await(start + this.connectionTimeoutNanos);
+                }
+            }
+
+            long now = this.clock;
+            boolean expired = now - entry.createdMillis >= this.maxLifetimeMillis;
+            if (!expired && now - entry.validatedMillis >= this.validationIntervalMillis) {
+                if (!timed) {
+                    start = System.nanoTime();
+                    timed = true;
+                }
+                expired = !isAlive(entry);
+            }
+            if (expired) {
+                discard(entry);
+                continue;
+            }
+
+            this.metrics.borrowed(timed ? System.nanoTime() - start : 0);
+            return entry.getConnection(false, false);
+        }
+    }
+
+    private PoolEntry await(long deadline) throws SQLException {
+        long waitStart = System.nanoTime();
+        PoolEntry entry;
+        try {
+            entry = this.bag.await(deadline - waitStart, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.2"), MysqlErrorNumbers.SQL_STATE_UNABLE_TO_CONNECT_TO_DATASOURCE, e,
+                    null);
+        }
+        this.metrics.waited(System.nanoTime() - waitStart);
+
+        if (entry == null) {
+            this.metrics.timedOut();
+            throw SQLError.createSQLException(
+                    Messages.getString("MysqlPoolingDataSource.1", new Object[] { TimeUnit.NANOSECONDS.toMillis(this.connectionTimeoutNanos) }),
+                    MysqlErrorNumbers.SQL_STATE_UNABLE_TO_CONNECT_TO_DATASOURCE, 0, true, this.lastConnectException, null);
+        }
+        return entry;
+    }
+
+    /**
+     * Takes back a connection whose logical handle was closed.
+     *
+     * @param entry
+     *            entry in use
+     */
+    void recycle(PoolEntry entry) {
+        if (!entry.broken && !this.closed) {
+            try {
+                if (entry.connection.isClosed()) {
+                    entry.broken = true;
+                } else if (this.resetSessionOnReturn) {
+                    entry.connection.resetSession();
+                }
+            } catch (SQLException | RuntimeException e) {
+                entry.broken = true;
+            }
+        }
+
+        long now = this.clock;
+        entry.returnedMillis = entry.validatedMillis = now;
+        if (entry.broken || this.closed || now - entry.createdMillis >= this.maxLifetimeMillis) {
+            discard(entry);
+        } else {
+            this.bag.requite(entry);
+        }
+    }
+
+    private boolean reserveSlot() {
+        for (;;) {
+            int taken = this.slots.get();
+            if (taken >= this.maximumPoolSize) {
+                return false;
+            }
+            if (this.slots.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PoolEntry open(int state) throws SQLException {
+        try {
+            PoolEntry entry = new PoolEntry(this, (JdbcConnection) this.dataSource.openPhysicalConnection(), state);
+            this.metrics.connectionCreated();
+            this.lastConnectException = null;
+            return entry;
+        } catch (SQLException e) {
+            this.slots.decrementAndGet();
+            this.lastConnectException = e;
+            throw e;
+        } catch (RuntimeException e) {
+            this.slots.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean isAlive(PoolEntry entry) {
+        try {
+            entry.connection.pingInternal(false, this.validationTimeoutMillis);
+            entry.validatedMillis = this.clock;
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Removes an entry that is in use or reserved from the pool and closes its connection in the background.
+     *
+     * @param entry
+     *            entry
+     */
+    private void discard(PoolEntry entry) {
+        if (!this.bag.remove(entry)) {
+            return;
+        }
+        this.slots.decrementAndGet();
+        this.metrics.connectionClosed();
+        try {
+            this.housekeeper.execute(() -> {
+                closeQuietly(entry);
+                // a thread may be waiting for the slot that became free
+                fill();
+            });
+        } catch (RejectedExecutionException e) {
+            closeQuietly(entry);
+        }
+    }
+
+    private static void closeQuietly(PoolEntry entry) {
+        try {
+            entry.close();
+        } catch (SQLException | RuntimeException e) {
+            // the connection is gone either way
+        }
+    }
+
+    /**
+     * Opens connections while threads are waiting or there are fewer idle connections than the configured minimum.
+     */
+    private void fill() {
+        while (!this.closed && (this.bag.getWaiters() > 0 || this.bag.count(ConnectionBag.STATE_NOT_IN_USE) < this.minimumIdle) && reserveSlot()) {
+            try {
+                this.bag.add(open(ConnectionBag.STATE_NOT_IN_USE));
+            } catch (SQLException | RuntimeException e) {
+                // tried again on the next run, waiting threads get the exception when they time out
+                return;
+            }
+        }
+    }
+
+    private void tick() {
+        this.clock = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos);
+    }
+
+    private void housekeep() {
+        tick();
+        long now = this.clock;
+        int idle = this.bag.count(ConnectionBag.STATE_NOT_IN_USE);
+        for (PoolEntry entry : this.bag.values()) {
+            if (!this.bag.reserve(entry)) {
+                continue;
+            }
+            if (now - entry.createdMillis >= this.maxLifetimeMillis || (now - entry.returnedMillis >= this.idleTimeoutMillis && idle > this.minimumIdle)
+                    || (now - entry.validatedMillis >= this.validationIntervalMillis && !isAlive(entry))) {
+                idle--;
+                discard(entry);
+            } else {
+                this.bag.unreserve(entry);
+            }
+        }
+        fill();
+    }
+
+    /**
+     * Closes idle connections and stops housekeeping. Connections in use are closed when their handles are closed.
+     */
+    void close() {
+        this.closed = true;
+        this.housekeeper.shutdownNow();
+        for (PoolEntry entry : this.bag.values()) {
+            if (this.bag.reserve(entry)) {
+                discard(entry);
+            }
+        }
+    }
+}
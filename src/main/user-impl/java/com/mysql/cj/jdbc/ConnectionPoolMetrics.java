@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live statistics of a {@link MysqlPoolingDataSource}. Counters only ever grow; take two readings and subtract them to get rates.
+ */
+public class ConnectionPoolMetrics {
+
+    /**
+     * Number of borrow latency buckets. Bucket 0 counts borrows that took less than 1 microsecond, bucket i those that took at least 2^(i-1) and less than
+     * 2^i microseconds, and the last one everything slower.
+     */
+    public static final int LATENCY_BUCKETS = 32;
+
+    private final ConnectionBag<?> bag;
+
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    // striped, as borrowers on all cores mostly hit the first bucket
+    private final LongAdder[] borrowLatency = new LongAdder[LATENCY_BUCKETS];
+
+    ConnectionPoolMetrics(ConnectionBag<?> bag) {
+        this.bag = bag;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            this.borrowLatency[i] = new LongAdder();
+        }
+    }
+
+    void borrowed(long nanos) {
+        long micros = nanos / 1000;
+        this.borrowLatency[Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+    }
+
+    void waited(long nanos) {
+        this.waits.increment();
+        this.waitNanos.add(nanos);
+    }
+
+    void timedOut() {
+        this.timeouts.increment();
+    }
+
+    void connectionCreated() {
+        this.created.increment();
+    }
+
+    void connectionClosed() {
+        this.closed.increment();
+    }
+
+    /**
+     * @return number of connections handed out and not yet closed by the application
+     */
+    public int getActiveConnections() {
+        return this.bag.count(ConnectionBag.STATE_IN_USE);
+    }
+
+    /**
+     * @return number of connections ready to be borrowed
+     */
+    public int getIdleConnections() {
+        return this.bag.count(ConnectionBag.STATE_NOT_IN_USE);
+    }
+
+    /**
+     * @return number of open physical connections, including those being validated
+     */
+    public int getTotalConnections() {
+        return this.bag.size();
+    }
+
+    /**
+     * @return number of threads currently waiting for a connection
+     */
+    public int getThreadsAwaitingConnection() {
+        return this.bag.getWaiters();
+    }
+
+    /**
+     * @return number of connections handed out
+     */
+    public long getBorrowCount() {
+        long borrows = 0;
+        for (LongAdder bucket : this.borrowLatency) {
+            borrows += bucket.sum();
+        }
+        return borrows;
+    }
+
+    /**
+     * @return number of borrows that had to wait for another thread to return a connection
+     */
+    public long getWaitCount() {
+        return this.waits.sum();
+    }
+
+    /**
+     * @return total time threads spent waiting for another thread to return a connection, in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return this.waitNanos.sum();
+    }
+
+    /**
+     * @return number of borrows that gave up after the connection timeout
+     */
+    public long getTimeoutCount() {
+        return this.timeouts.sum();
+    }
+
+    /**
+     * @return number of physical connections opened
+     */
+    public long getConnectionsCreated() {
+        return this.created.sum();
+    }
+
+    /**
+     * @return number of physical connections closed because they were broken, expired or idle for too long
+     */
+    public long getConnectionsClosed() {
+        return this.closed.sum();
+    }
+
+    /**
+     * Returns the distribution of the time <code>getConnection()</code> took, including waiting, opening and validating connections. Borrows of an idle
+     * connection that needed none of these aren't timed and count as taking less than a microsecond.
+     *
+     * @return borrow counts per bucket, see {@link #LATENCY_BUCKETS}
+     */
+    public long[] getBorrowLatencyHistogram() {
+        long[] histogram = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = this.borrowLatency[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Estimates a borrow latency percentile from the histogram.
+     *
+     * @param percentile
+     *            percentile between 0 and 100, e.g. 99.9
+     * @return the upper bound, in microseconds, of the bucket holding the percentile, or 0 if nothing was borrowed yet
+     */
+    public long getBorrowLatencyPercentileMicros(double percentile) {
+        long[] histogram = getBorrowLatencyHistogram();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                return 1L << i;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "active=" + getActiveConnections() + ", idle=" + getIdleConnections() + ", total=" + getTotalConnections() + ", waiting="
+                + getThreadsAwaitingConnection() + ", borrows=" + getBorrowCount() + ", waits=" + getWaitCount() + ", waitMillis="
+                + getTotalWaitNanos() / 1000000 + ", timeouts=" + getTimeoutCount() + ", p99Micros=" + getBorrowLatencyPercentileMicros(99);
+    }
+}
@@ -44,19 +44,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.ServerVersion;
 import com.mysql.cj.Session;
 import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJException;
 import com.mysql.cj.exceptions.ConnectionIsClosedException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.interceptors.QueryInterceptor;
 import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.protocol.ServerSessionStateController;
@@ -156,6 +160,44 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         return null; // we don't reach this code, compiler can't tell
     }
 
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(String sql, Executor executor) {
+        checkClosed();
+        return this.mc.executeQueryAsync(sql, executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> executeUpdateAsync(String sql, Executor executor) {
+        checkClosed();
+        return this.mc.executeUpdateAsync(sql, executor);
+    }
+
+    @Override
+    public BulkLoader createBulkLoader(String table, String[] columns, Executor executor) throws SQLException {
+        checkClosed();
+
+        try {
+            return this.mc.createBulkLoader(table, columns, executor);
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+
+        return null; // we don't reach this code, compiler can't tell
+    }
+
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        checkClosed();
+
+        try {
+            return this.mc.createPipeline();
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+
+        return null; // we don't reach this code, compiler can't tell
+    }
+
     @Override
     public void setCatalog(String catalog) throws SQLException {
 
@@ -170,9 +212,12 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
     public String getCatalog() throws SQLException {
 
         try {
+            checkClosed();
             return this.mc.getCatalog();
         } catch (SQLException sqlException) {
             checkAndFireConnectionError(sqlException);
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
         }
 
         return null; // we don't reach this code, compiler can't tell
@@ -723,6 +768,15 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         }
     }
 
+    @Override
+    public void resetSession() throws SQLException {
+        try {
+            this.mc.resetSession();
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+    }
+
     @Override
     public java.sql.PreparedStatement serverPrepareStatement(String sql) throws SQLException {
         try {
@@ -890,6 +944,11 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         return this.mc.getConnectionMutex();
     }
 
+    @Override
+    public Lock getConnectionLock() {
+        return this.mc.getConnectionLock();
+    }
+
     @Override
     public int getSessionMaxRows() {
         return this.mc.getSessionMaxRows();
@@ -945,14 +1004,20 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
     }
 
     @Override
-    public synchronized boolean isValid(int timeout) throws SQLException {
+    public boolean isValid(int timeout) throws SQLException {
+        Lock connectionLock = this.mc.getConnectionLock();
+        connectionLock.lock();
         try {
-            return ((java.sql.Connection) this.mc).isValid(timeout);
-        } catch (SQLException sqlException) {
-            checkAndFireConnectionError(sqlException);
-        }
+            try {
+                return ((java.sql.Connection) this.mc).isValid(timeout);
+            } catch (SQLException sqlException) {
+                checkAndFireConnectionError(sqlException);
+            }
 
-        return false; // never reached, but compiler can't tell
+            return false; // never reached, but compiler can't tell
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -64,7 +64,7 @@ public class MysqlParameterMetadata implements ParameterMetaData {
      * @param count
      *            parameters number
      */
-    MysqlParameterMetadata(int count) {
+    public MysqlParameterMetadata(int count) {
         this.parameterCount = count;
         this.returnSimpleMetadata = true;
     }
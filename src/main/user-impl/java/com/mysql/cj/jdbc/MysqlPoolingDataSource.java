@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.SQLException;
+import java.util.Objects;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * A DataSource that pools its connections. It is configured like {@link MysqlDataSource}, plus the pool settings below, which are read when the first
+ * connection is requested.
+ *
+ * Closing a connection obtained from this data source gives it back to the pool, after rolling back an open transaction and, unless disabled with
+ * {@link #setResetSessionOnReturn(boolean)}, resetting the session with COM_RESET_CONNECTION. Idle connections are validated in the background with
+ * COM_PING. {@link #close()} closes the pool.
+ *
+ * <pre>
+ * MysqlPoolingDataSource ds = new MysqlPoolingDataSource();
+ * ds.setUrl("jdbc:mysql://localhost:3306/test");
+ * ds.setUser("app");
+ * ds.setPassword("secret");
+ * ds.setMaximumPoolSize(20);
+ * try (Connection c = ds.getConnection()) {
+ *     ...
+ * }
+ * </pre>
+ */
+public class MysqlPoolingDataSource extends MysqlDataSource implements AutoCloseable {
+
+    static final long serialVersionUID = 3463927156297018544L;
+
+    private int maximumPoolSize = 10;
+
+    private int minimumIdle = 0;
+
+    private long connectionTimeout = 30000;
+
+    private long idleTimeout = 600000;
+
+    private long maxLifetime = 1800000;
+
+    private long validationInterval = 30000;
+
+    private int validationTimeout = 5000;
+
+    private boolean resetSessionOnReturn = true;
+
+    private transient volatile ConnectionPool pool = null;
+
+    /**
+     * Default no-arg constructor for Serialization
+     */
+    public MysqlPoolingDataSource() {
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting at most the connection timeout for one to become available.
+     */
+    @Override
+    public java.sql.Connection getConnection() throws SQLException {
+        return getPool().getConnection();
+    }
+
+    /**
+     * Borrows a connection from the pool. Only the user and password this data source is configured with are accepted, since all pooled connections are
+     * authenticated as that user.
+     */
+    @Override
+    public java.sql.Connection getConnection(String userID, String pass) throws SQLException {
+        if (!Objects.equals(userID, this.user) || !Objects.equals(pass, this.password)) {
+            throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.3"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
+        }
+        return getConnection();
+    }
+
+    /**
+     * Opens a new physical connection, for the pool.
+     * 
+     * @return connection
+     * @throws SQLException
+     *             if the connection can't be established
+     */
+    java.sql.Connection openPhysicalConnection() throws SQLException {
+        return super.getConnection(this.user, this.password);
+    }
+
+    private ConnectionPool getPool() throws SQLException {
+        ConnectionPool p = this.pool;
+        if (p == null) {
+            synchronized (this) {
+                p = this.pool;
+                if (p == null) {
+                    this.pool = p = new ConnectionPool(this);
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Returns the statistics of the pool, starting the pool if no connection was requested yet.
+     * 
+     * @return pool metrics
+     * @throws SQLException
+     *             never, declared for symmetry with {@link #getConnection()}
+     */
+    public ConnectionPoolMetrics getMetrics() throws SQLException {
+        return getPool().getMetrics();
+    }
+
+    /**
+     * Closes all idle connections and stops pool maintenance. Connections in use are closed when the application closes them. Further calls to
+     * {@link #getConnection()} start a new pool.
+     */
+    @Override
+    public void close() {
+        ConnectionPool p;
+        synchronized (this) {
+            p = this.pool;
+            this.pool = null;
+        }
+        if (p != null) {
+            p.close();
+        }
+    }
+
+    public int getMaximumPoolSize() {
+        return this.maximumPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of connections, in use or idle. Default 10.
+     * 
+     * @param maximumPoolSize
+     *            maximum number of connections
+     */
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return this.minimumIdle;
+    }
+
+    /**
+     * Sets the number of idle connections the pool keeps open ahead of demand. Default 0.
+     * 
+     * @param minimumIdle
+     *            minimum number of idle connections
+     */
+    public void setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    public long getConnectionTimeout() {
+        return this.connectionTimeout;
+    }
+
+    /**
+     * Sets how long {@link #getConnection()} waits for a connection when all are in use before it throws a {@link java.sql.SQLTransientConnectionException}.
+     * Default 30000.
+     * 
+     * @param connectionTimeout
+     *            time in milliseconds
+     */
+    public void setConnectionTimeout(long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public long getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * Sets how long a connection may stay idle before it is closed, as long as the pool stays above its minimum idle count. 0 keeps idle connections open.
+     * Default 600000.
+     * 
+     * @param idleTimeout
+     *            time in milliseconds
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public long getMaxLifetime() {
+        return this.maxLifetime;
+    }
+
+    /**
+     * Sets how long a connection is used before it is replaced, which should be shorter than any connection time limit enforced by the network or the
+     * server. 0 means no limit. Default 1800000.
+     * 
+     * @param maxLifetime
+     *            time in milliseconds
+     */
+    public void setMaxLifetime(long maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    public long getValidationInterval() {
+        return this.validationInterval;
+    }
+
+    /**
+     * Sets how long a connection may go unused before it is pinged, in the background or, if it is borrowed first, before it is handed out. Default 30000.
+     * 
+     * @param validationInterval
+     *            time in milliseconds
+     */
+    public void setValidationInterval(long validationInterval) {
+        this.validationInterval = validationInterval;
+    }
+
+    public int getValidationTimeout() {
+        return this.validationTimeout;
+    }
+
+    /**
+     * Sets how long a ping may take before the connection is considered broken. Default 5000.
+     * 
+     * @param validationTimeout
+     *            time in milliseconds
+     */
+    public void setValidationTimeout(int validationTimeout) {
+        this.validationTimeout = validationTimeout;
+    }
+
+    public boolean getResetSessionOnReturn() {
+        return this.resetSessionOnReturn;
+    }
+
+    /**
+     * Sets whether returned connections are reset with {@link JdbcConnection#resetSession()}, which costs a round trip per return but keeps session
+     * variables, temporary tables and prepared statements from leaking to the next borrower. Default true.
+     * 
+     * @param resetSessionOnReturn
+     *            reset returned connections
+     */
+    public void setResetSessionOnReturn(boolean resetSessionOnReturn) {
+        this.resetSessionOnReturn = resetSessionOnReturn;
+    }
+}
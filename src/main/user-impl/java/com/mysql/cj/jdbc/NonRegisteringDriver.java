@@ -51,6 +51,7 @@ import com.mysql.cj.exceptions.UnsupportedConnectionStringException;
 import com.mysql.cj.jdbc.ha.FailoverConnectionProxy;
 import com.mysql.cj.jdbc.ha.LoadBalancedConnectionProxy;
 import com.mysql.cj.jdbc.ha.ReplicationConnectionProxy;
+import com.mysql.cj.jdbc.sse.SseConnection;
 import com.mysql.cj.util.StringUtils;
 
 /**
@@ -209,6 +210,9 @@ public class NonRegisteringDriver implements java.sql.Driver {
                 case REPLICATION_DNS_SRV_CONNECTION:
                     return ReplicationConnectionProxy.createProxyInstance(conStr);
 
+                case SSE_CONNECTION:
+                    return SseConnection.getInstance(conStr.getMainHost());
+
                 default:
                     return null;
             }
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.PreparedQuery;
+import com.mysql.cj.ServerPreparedQuery;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJCommunicationsException;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeProtocol;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * {@link Pipeline} over the classic protocol: the command packets of the statements are built as they are added, then sent back to back by
+ * {@link NativeProtocol#sendPipelined(List)}. When query interceptors are configured, they are sent one at a time instead, so that the interceptors see
+ * each one.
+ */
+public class PipelineImpl implements Pipeline {
+
+    /**
+     * A queued statement: its command packet, and how to read its result.
+     */
+    private static class Entry {
+        final NativePacketPayload packet;
+        final boolean binary;
+        final ColumnDefinition metadata;
+        final int maxRows;
+        final ResultImpl result;
+
+        Entry(NativePacketPayload packet, boolean binary, ColumnDefinition metadata, int maxRows, ResultImpl result) {
+            this.packet = packet;
+            this.binary = binary;
+            this.metadata = metadata;
+            this.maxRows = maxRows;
+            this.result = result;
+        }
+    }
+
+    private static class ResultImpl implements Result {
+        final StatementImpl statement;
+        SQLException exception;
+
+        ResultImpl(StatementImpl statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public java.sql.ResultSet getResultSet() throws SQLException {
+            return getStatement().getResultSet();
+        }
+
+        @Override
+        public long getUpdateCount() throws SQLException {
+            return getStatement().getLargeUpdateCount();
+        }
+
+        @Override
+        public java.sql.Statement getStatement() throws SQLException {
+            if (this.exception != null) {
+                throw this.exception;
+            }
+            return this.statement;
+        }
+
+        @Override
+        public SQLException getException() {
+            return this.exception;
+        }
+    }
+
+    private final JdbcConnection connection;
+    private List<Entry> queued = new ArrayList<>();
+    private final List<StatementImpl> statements = new ArrayList<>();
+    private boolean closed = false;
+
+    public PipelineImpl(JdbcConnection connection) {
+        this.connection = connection;
+    }
+
+    private void checkClosed() throws SQLException {
+        if (this.closed) {
+            throw SQLError.createSQLException(Messages.getString("Pipeline.0"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    this.connection.getExceptionInterceptor());
+        }
+    }
+
+    private void checkNotLoadData(String sql) throws SQLException {
+        if (StringUtils.startsWithIgnoreCaseAndWs(sql, "LOAD DATA")) {
+            throw SQLError.createSQLException(Messages.getString("Pipeline.2"), MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE,
+                    this.connection.getExceptionInterceptor());
+        }
+    }
+
+    private StatementImpl createResultStatement() throws SQLException {
+        StatementImpl statement = (StatementImpl) this.connection.createStatement();
+        this.statements.add(statement);
+        return statement;
+    }
+
+    @Override
+    public Pipeline add(String sql) throws SQLException {
+        Lock connectionLock = this.connection.getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+            checkNotLoadData(sql);
+            StatementImpl statement = createResultStatement();
+            NativeProtocol protocol = ((NativeSession) this.connection.getSession()).getProtocol();
+            NativePacketPayload packet = protocol.buildQueryPacket(statement.query, statement.doEscapeProcessing ? this.connection.nativeSQL(sql) : sql,
+                    this.connection.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue());
+            this.queued.add(new Entry(packet, false, null, -1, new ResultImpl(statement)));
+            return this;
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, this.connection.getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Pipeline add(java.sql.PreparedStatement preparedStatement) throws SQLException {
+        Lock connectionLock = this.connection.getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+            ClientPreparedStatement ps = preparedStatement.unwrap(ClientPreparedStatement.class);
+            ps.checkClosed();
+            if (ps.session != this.connection.getSession()) {
+                throw SQLError.createSQLException(Messages.getString("Pipeline.1"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                        this.connection.getExceptionInterceptor());
+            }
+            PreparedQuery query = (PreparedQuery) ps.query;
+            checkNotLoadData(query.getOriginalSql());
+
+            // the packet is built in the shared send packet, it is copied before anything else is sent
+            NativePacketPayload sharedPacket;
+            boolean binary = query instanceof ServerPreparedQuery;
+            if (binary) {
+                sharedPacket = ((ServerPreparedQuery) query).prepareExecutePacket();
+                if ((sharedPacket.getByteBuffer()[5] & ServerPreparedQuery.OPEN_CURSOR_FLAG) != 0) {
+                    throw SQLError.createSQLException(Messages.getString("Pipeline.3"), MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE,
+                            this.connection.getExceptionInterceptor());
+                }
+            } else {
+                query.getQueryBindings().checkAllParametersSet();
+                sharedPacket = query.fillSendPacket(query.getQueryBindings());
+            }
+            NativePacketPayload packet = new NativePacketPayload(Arrays.copyOf(sharedPacket.getByteBuffer(), sharedPacket.getPosition()));
+            packet.setPosition(sharedPacket.getPosition());
+
+            StatementImpl statement = createResultStatement();
+            this.queued.add(new Entry(packet, binary, binary ? ((ServerPreparedQuery) query).getResultFields() : null, ps.maxRows, new ResultImpl(statement)));
+            return this;
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, this.connection.getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.queued.size();
+    }
+
+    @Override
+    public List<Result> execute() throws SQLException {
+        Lock connectionLock = this.connection.getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+            List<Entry> entries = this.queued;
+            this.queued = new ArrayList<>();
+            if (entries.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            NativeSession session = (NativeSession) this.connection.getSession();
+            NativeProtocol protocol = session.getProtocol();
+            List<Result> results = new ArrayList<>(entries.size());
+            try {
+                boolean oneByOne = session.shouldIntercept();
+                if (!oneByOne) {
+                    List<NativePacketPayload> packets = new ArrayList<>(entries.size());
+                    for (Entry entry : entries) {
+                        packets.add(entry.packet);
+                    }
+                    protocol.sendPipelined(packets);
+                }
+                for (Entry entry : entries) {
+                    try {
+                        readResult(protocol, entry, oneByOne ? protocol.sendCommand(entry.packet, false, 0) : protocol.readPipelinedResponse());
+                    } catch (CJCommunicationsException e) {
+                        throw e;
+                    } catch (CJException e) {
+                        entry.result.exception = SQLExceptionsMapping.translateException(e, this.connection.getExceptionInterceptor());
+                    }
+                    results.add(entry.result);
+                }
+            } catch (CJCommunicationsException e) {
+                this.connection.cleanup(e);
+                throw SQLExceptionsMapping.translateException(e, this.connection.getExceptionInterceptor());
+            } catch (CJException e) {
+                throw SQLExceptionsMapping.translateException(e, this.connection.getExceptionInterceptor());
+            } finally {
+                for (Entry entry : entries) {
+                    entry.packet.release();
+                }
+            }
+            return results;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    private void readResult(NativeProtocol protocol, Entry entry, NativePacketPayload resultPacket) {
+        StatementImpl statement = entry.result.statement;
+        try {
+            ResultSetInternalMethods rs = protocol.readAllResults(entry.maxRows, false, resultPacket, entry.binary, entry.metadata,
+                    statement.getResultSetFactory(), false);
+            statement.results = rs;
+            statement.lastInsertId = rs.getUpdateID();
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.connection.getPropertySet(), this.connection.getSession().getServerSession(),
+                    protocol.getPacketSentTimeHolder(), protocol.getPacketReceivedTimeHolder(), ioEx, this.connection.getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        for (Entry entry : this.queued) {
+            entry.packet.release();
+        }
+        this.queued.clear();
+        SQLException failure = null;
+        for (StatementImpl statement : this.statements) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        this.statements.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
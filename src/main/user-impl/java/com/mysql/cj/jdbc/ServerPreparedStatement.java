@@ -36,6 +36,9 @@ import java.sql.ParameterMetaData;
 import java.sql.SQLException;
 import java.sql.Wrapper;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.BindValue;
 import com.mysql.cj.CancelQueryTask;
@@ -44,8 +47,10 @@ import com.mysql.cj.NativeSession;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.QueryBindings;
 import com.mysql.cj.QueryInfo;
+import com.mysql.cj.QueryReturnType;
 import com.mysql.cj.ServerPreparedQuery;
 import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJCommunicationsException;
 import com.mysql.cj.exceptions.CJException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
@@ -59,12 +64,16 @@ import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.ResultSetMetaData;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.NativeProtocol;
 
 /**
  * JDBC Interface for MySQL-4.1 and newer server-side PreparedStatements.
  */
 public class ServerPreparedStatement extends ClientPreparedStatement {
 
+    /** Maximum number of executions sent back to back by {@link #executeBatchPipelined(int)}, so that their results fit in the socket buffers. */
+    private static final int PIPELINED_BATCH_SIZE = 1000;
+
     private boolean hasOnDuplicateKeyUpdate = false;
 
     /** Has this prepared statement been marked invalid? */
@@ -155,8 +164,12 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
     @Override
     public void addBatch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.query.addBatch(((PreparedQuery) this.query).getQueryBindings().clone());
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -171,8 +184,12 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
     @Override
     public void clearParameters() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             ((ServerPreparedQuery) this.query).clearParameters(true);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -188,7 +205,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.isClosed) {
                 return; // already closed
             }
@@ -206,12 +225,16 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
             this.isClosed = false;
             realClose(true, true);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     protected long[] executeBatchSerially(int batchTimeout) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             JdbcConnection locallyScopedConn = this.connection;
 
             if (locallyScopedConn.isReadOnly()) {
@@ -226,6 +249,10 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
             BindValue[] oldBindValues = ((ServerPreparedQuery) this.query).getQueryBindings().getBindValues();
 
             try {
+                if (canPipelineBatch()) {
+                    return executeBatchPipelined(batchTimeout);
+                }
+
                 long[] updateCounts = null;
 
                 if (this.query.getBatchedArgs() != null) {
@@ -315,7 +342,193 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 clearBatch();
             }
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the batch can be executed by {@link #executeBatchPipelined(int)}: 'pipelineBatchedStatements' and 'continueBatchOnError' are enabled, the
+     * batch holds parameter sets of a statement that doesn't return results, with no stream parameters, and no query interceptor has to see each execution.
+     * 
+     * @return true if the batch can be pipelined
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    private boolean canPipelineBatch() throws SQLException {
+        if (!this.session.getPropertySet().getBooleanProperty(PropertyKey.pipelineBatchedStatements).getValue() || !this.continueBatchOnError
+                || this.batchHasPlainStatements || this.query.getBatchedArgs() == null || this.session.shouldIntercept()
+                || getQueryInfo().getQueryReturnType() != QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET
+                || !this.connection.getDatabase().equals(getCurrentDatabase())) {
+            return false;
+        }
+        for (Object arg : this.query.getBatchedArgs()) {
+            QueryBindings bindings = (QueryBindings) arg;
+            if (bindings.isLongParameterSwitchDetected()) {
+                return false;
+            }
+            for (BindValue bindValue : bindings.getBindValues()) {
+                if (bindValue.isStream()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes the batch by sending the executions back to back, in groups of {@link #PIPELINED_BATCH_SIZE}, and reading their results after each group.
+     * All the executions are built in the shared send packet, and the parameter types are only sent when they differ from the previous execution.
+     * 
+     * @param batchTimeout
+     *            timeout for the batch execution
+     * @return update counts
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    private long[] executeBatchPipelined(int batchTimeout) throws SQLException {
+        ServerPreparedQuery serverPreparedQuery = (ServerPreparedQuery) this.query;
+        NativeProtocol protocol = this.session.getProtocol();
+        List<Object> batchedArgs = this.query.getBatchedArgs();
+        int nbrCommands = batchedArgs.size();
+        long[] updateCounts = new long[nbrCommands];
+        Arrays.fill(updateCounts, -3);
+
+        if (this.retrieveGeneratedKeys) {
+            this.batchedGeneratedKeys = new ArrayList<>(nbrCommands);
+        }
+
+        implicitlyCloseAllOpenResults();
+        this.connection.setSessionMaxRows(-1);
+
+        SQLException sqlEx = null;
+        SQLException stopEx = null;
+        int[] sent = new int[Math.min(nbrCommands, PIPELINED_BATCH_SIZE)];
+        int commandIndex = 0;
+        BindValue[] previousBindValuesForBatch = null;
+
+        CancelQueryTask timeoutTask = null;
+        try {
+            timeoutTask = startQueryTimer(this, batchTimeout);
+
+            while (commandIndex < nbrCommands && stopEx == null) {
+                int sentCount = 0;
+                protocol.beginPipeline();
+                for (; commandIndex < nbrCommands && sentCount < sent.length; commandIndex++) {
+                    QueryBindings bindings = (QueryBindings) batchedArgs.get(commandIndex);
+                    serverPreparedQuery.setQueryBindings(bindings);
+                    BindValue[] parameterBindings = bindings.getBindValues();
+
+                    // We need to check types each time, as the user might have bound different types in each addBatch()
+                    if (previousBindValuesForBatch != null) {
+                        for (int j = 0; j < parameterBindings.length; j++) {
+                            if (parameterBindings[j].getMysqlType() != previousBindValuesForBatch[j].getMysqlType()) {
+                                bindings.getSendTypesToServer().set(true);
+                                break;
+                            }
+                        }
+                    }
+                    previousBindValuesForBatch = parameterBindings;
+
+                    try {
+                        protocol.sendPipelined(serverPreparedQuery.prepareExecutePacket());
+                    } catch (CJCommunicationsException e) {
+                        throw e;
+                    } catch (CJException e) {
+                        // nothing was sent for this execution
+                        updateCounts[commandIndex] = EXECUTE_FAILED;
+                        sqlEx = SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+                        continue;
+                    }
+                    bindings.getSendTypesToServer().set(false);
+                    sent[sentCount++] = commandIndex;
+                }
+                protocol.flushPipeline();
+
+                for (int i = 0; i < sentCount; i++) {
+                    try {
+                        updateCounts[sent[i]] = readPipelinedUpdateCount(protocol, serverPreparedQuery);
+                    } catch (CJCommunicationsException e) {
+                        throw e;
+                    } catch (CJException e) {
+                        updateCounts[sent[i]] = EXECUTE_FAILED;
+                        SQLException ex = SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+                        if (ex instanceof MySQLTimeoutException || ex instanceof MySQLStatementCancelledException || hasDeadlockOrTimeoutRolledBackTx(ex)) {
+                            // the executions sent after this one are still read, but no more are sent
+                            stopEx = stopEx == null ? ex : stopEx;
+                        } else {
+                            sqlEx = ex;
+                        }
+                    }
+                }
+
+                if (stopEx == null) {
+                    try {
+                        checkCancelTimeout();
+                    } catch (CJException e) {
+                        stopEx = SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+                    }
+                }
+            }
+        } catch (CJException e) {
+            if (e instanceof CJCommunicationsException) {
+                // the results of the executions sent can't be read anymore
+                this.connection.cleanup(e);
+            }
+            throw SQLError.createBatchUpdateException(SQLExceptionsMapping.translateException(e, this.exceptionInterceptor),
+                    Arrays.copyOf(updateCounts, commandIndex), this.exceptionInterceptor);
+        } finally {
+            stopQueryTimer(timeoutTask, false, false);
+            resetCancelledState();
+        }
+
+        if (stopEx != null) {
+            throw SQLError.createBatchUpdateException(stopEx, Arrays.copyOf(updateCounts, commandIndex), this.exceptionInterceptor);
+        }
+        if (sqlEx != null) {
+            throw SQLError.createBatchUpdateException(sqlEx, updateCounts, this.exceptionInterceptor);
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Reads the result of an execution sent by {@link #executeBatchPipelined(int)}.
+     * 
+     * @param protocol
+     *            protocol the execution was sent with
+     * @param serverPreparedQuery
+     *            the query of this statement
+     * @return update count
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    private long readPipelinedUpdateCount(NativeProtocol protocol, ServerPreparedQuery serverPreparedQuery) throws SQLException {
+        ResultSetInternalMethods rs;
+        try {
+            // truncation warnings are left to getWarnings(), "SHOW WARNINGS" can't be sent while the next executions are pending
+            rs = protocol.readAllResults(-1, false, protocol.readPipelinedResponse(), true, serverPreparedQuery.getResultFields(), this.resultSetFactory,
+                    false);
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.session.getPropertySet(), this.session.getServerSession(),
+                    protocol.getPacketSentTimeHolder(), protocol.getPacketReceivedTimeHolder(), ioEx, this.exceptionInterceptor);
+        }
+
+        if (this.retrieveGeneratedKeys) {
+            rs.setFirstCharOfQuery(getQueryInfo().getFirstStmtChar());
+        }
+        this.results = rs;
+        this.updateCount = rs.getUpdateCount();
+        if (containsOnDuplicateKeyUpdate() && this.compensateForOnDuplicateKeyUpdate) {
+            if (this.updateCount == 2 || this.updateCount == 0) {
+                this.updateCount = 1;
+            }
         }
+        this.lastInsertId = rs.getUpdateID();
+
+        // limit one generated key per OnDuplicateKey statement
+        getBatchedGeneratedKeys(containsOnDuplicateKeyUpdate() ? 1 : 0);
+
+        return this.updateCount;
     }
 
     private static SQLException appendMessageToException(SQLException sqlEx, String messageToAppend, ExceptionInterceptor interceptor) {
@@ -331,7 +544,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
     @Override
     protected <M extends Message> com.mysql.cj.jdbc.result.ResultSetInternalMethods executeInternal(int maxRowsToRetrieve, M sendPacket,
             boolean createStreamingResultSet, boolean queryIsSelectOnly, ColumnDefinition metadata, boolean isBatch) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             ((PreparedQuery) this.query).getQueryBindings().setNumberOfExecutions(((PreparedQuery) this.query).getQueryBindings().getNumberOfExecutions() + 1);
 
             // We defer to server-side execution
@@ -373,6 +588,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 throw sqlEx;
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -389,33 +606,45 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected BindValue getBinding(int parameterIndex, boolean forLongData) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             int i = getCoreParameterIndex(parameterIndex);
             return ((ServerPreparedQuery) this.query).getQueryBindings().getBinding(i, forLongData);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public java.sql.ResultSetMetaData getMetaData() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             ColumnDefinition resultFields = ((ServerPreparedQuery) this.query).getResultFields();
 
             return resultFields == null || resultFields.getFields() == null ? null
                     : new ResultSetMetaData(this.session, resultFields.getFields(),
                             this.session.getPropertySet().getBooleanProperty(PropertyKey.useOldAliasMetadataBehavior).getValue(),
                             this.session.getPropertySet().getBooleanProperty(PropertyKey.yearIsDateType).getValue(), this.exceptionInterceptor);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.parameterMetaData == null) {
                 this.parameterMetaData = new MysqlParameterMetadata(this.session, ((ServerPreparedQuery) this.query).getParameterFields(),
                         ((PreparedQuery) this.query).getParameterCount(), this.exceptionInterceptor);
             }
 
             return this.parameterMetaData;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -431,7 +660,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.connection != null) {
                 //
                 // Don't communicate with the server if we're being called from the finalizer...
@@ -453,13 +684,11 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 // Finally deallocate the prepared statement.
                 if (calledExplicitly && !locallyScopedConn.isClosed()) {
-                    synchronized (locallyScopedConn.getConnectionMutex()) {
-                        try {
-                            ((NativeSession) locallyScopedConn.getSession()).getProtocol().sendCommand(
-                                    this.commandBuilder.buildComStmtClose(null, ((ServerPreparedQuery) this.query).getServerStatementId()), true, 0);
-                        } catch (CJException sqlEx) {
-                            exceptionDuringClose = sqlEx;
-                        }
+                    try {
+                        ((NativeSession) locallyScopedConn.getSession()).getProtocol().sendCommand(
+                                this.commandBuilder.buildComStmtClose(null, ((ServerPreparedQuery) this.query).getServerStatementId()), true, 0);
+                    } catch (CJException sqlEx) {
+                        exceptionDuringClose = sqlEx;
                     }
                 }
 
@@ -467,6 +696,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     throw exceptionDuringClose;
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -478,7 +709,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
      *             if an error occurs.
      */
     protected void rePrepare() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.invalidationException = null;
 
             try {
@@ -515,6 +748,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     this.connection.unregisterStatement(this);
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -549,14 +784,20 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected ResultSetInternalMethods serverExecute(int maxRowsToRetrieve, boolean createStreamingResultSet, ColumnDefinition metadata) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.results = ((ServerPreparedQuery) this.query).serverExecute(maxRowsToRetrieve, createStreamingResultSet, metadata, this.resultSetFactory);
             return this.results;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     protected void serverPrepare(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             SQLException t = null;
 
             try {
@@ -592,6 +833,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     throw t;
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -637,7 +880,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
     @Override
     protected ClientPreparedStatement prepareBatchedInsertSQL(JdbcConnection localConn, int numBatches) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             try {
                 ClientPreparedStatement pstmt = ((Wrapper) localConn.prepareStatement(((PreparedQuery) this.query).getQueryInfo().getSqlForBatch(numBatches),
                         this.resultSetConcurrency, this.query.getResultType().getIntValue())).unwrap(ClientPreparedStatement.class);
@@ -653,6 +898,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 throw sqlEx;
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -41,8 +41,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.KillSessionPool;
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.NativeSession;
@@ -53,8 +55,6 @@ import com.mysql.cj.QueryInfo;
 import com.mysql.cj.QueryReturnType;
 import com.mysql.cj.Session;
 import com.mysql.cj.SimpleQuery;
-import com.mysql.cj.TransactionEventHandler;
-import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
@@ -265,10 +265,14 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void addBatch(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (sql != null) {
                 this.query.addBatch(sql);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -289,34 +293,12 @@ public class StatementImpl implements JdbcStatement {
         }
 
         if (!this.isClosed && this.connection != null) {
-            NativeSession newSession = null;
-
             try {
-                HostInfo hostInfo = this.session.getHostInfo();
-                String database = hostInfo.getDatabase();
-                String user = hostInfo.getUser();
-                String password = hostInfo.getPassword();
-                newSession = new NativeSession(this.session.getHostInfo(), this.session.getPropertySet());
-                newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-                    @Override
-                    public void transactionCompleted() {
-                    }
-
-                    @Override
-                    public void transactionBegun() {
-                    }
-                });
-                newSession.getProtocol().sendCommand(new NativeMessageBuilder(newSession.getServerSession().supportsQueryAttributes())
-                        .buildComQuery(newSession.getSharedSendPacket(), "KILL QUERY " + this.session.getThreadId()), false, 0);
+                KillSessionPool.getInstance().killQuery(this.session);
                 setCancelStatus(CancelStatus.CANCELED_BY_USER);
             } catch (IOException e) {
                 throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
-            } finally {
-                if (newSession != null) {
-                    newSession.forceClose();
-                }
             }
-
         }
     }
 
@@ -386,8 +368,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void clearBatch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.query.clearBatchedArgs();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -398,10 +384,14 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void clearWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             setClearWarningsCalled(true);
             this.warningChain = null;
             // TODO souldn't we also clear warnings from _server_ ?
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -437,7 +427,9 @@ public class StatementImpl implements JdbcStatement {
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.openResults != null) {
                 for (ResultSetInternalMethods element : this.openResults) {
                     try {
@@ -449,6 +441,8 @@ public class StatementImpl implements JdbcStatement {
 
                 this.openResults.clear();
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -478,7 +472,9 @@ public class StatementImpl implements JdbcStatement {
     @Override
     public void removeOpenResultSet(ResultSetInternalMethods rs) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 if (this.openResults != null) {
                     this.openResults.remove(rs);
                 }
@@ -499,6 +495,8 @@ public class StatementImpl implements JdbcStatement {
                 if (!this.isImplicitlyClosingResults && !hasMoreResults) {
                     checkAndPerformCloseOnCompletionAction();
                 }
+            } finally {
+                connectionLock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // we can't break the interface, having this be no-op in case of error is ok
@@ -508,12 +506,16 @@ public class StatementImpl implements JdbcStatement {
     @Override
     public int getOpenResultSetCount() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 if (this.openResults != null) {
                     return this.openResults.size();
                 }
 
                 return 0;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // we can't break the interface, having this be no-op in case of error is ok
@@ -528,12 +530,16 @@ public class StatementImpl implements JdbcStatement {
      */
     private void checkAndPerformCloseOnCompletionAction() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 if (isCloseOnCompletion() && !this.dontTrackOpenResources.getValue() && getOpenResultSetCount() == 0
                         && (this.results == null || !this.results.hasRows() || this.results.isClosed())
                         && (this.generatedKeysResults == null || !this.generatedKeysResults.hasRows() || this.generatedKeysResults.isClosed())) {
                     realClose(false, false);
                 }
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
         }
@@ -547,7 +553,9 @@ public class StatementImpl implements JdbcStatement {
      *             if a database access error occurs or this method is called on a closed Statement
      */
     private ResultSetInternalMethods createResultSetUsingServerFetch(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             java.sql.PreparedStatement pStmt = this.connection.prepareStatement(sql, this.query.getResultType().getIntValue(), this.resultSetConcurrency);
 
             pStmt.setFetchSize(this.query.getResultFetchSize());
@@ -574,6 +582,8 @@ public class StatementImpl implements JdbcStatement {
             this.results = rs;
 
             return rs;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -594,22 +604,30 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void enableStreamingResults() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.originalResultSetType = this.query.getResultType();
             this.originalFetchSize = this.query.getResultFetchSize();
 
             setFetchSize(Integer.MIN_VALUE);
             setResultSetType(Type.FORWARD_ONLY);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void disableStreamingResults() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.query.getResultFetchSize() == Integer.MIN_VALUE && this.query.getResultType() == Type.FORWARD_ONLY) {
                 setFetchSize(this.originalFetchSize);
                 setResultSetType(this.originalResultSetType);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -651,7 +669,9 @@ public class StatementImpl implements JdbcStatement {
     private boolean executeInternal(String sql, boolean returnGeneratedKeys) throws SQLException {
         JdbcConnection locallyScopedConn = checkClosed();
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             checkClosed();
 
             checkNullOrEmptyQuery(sql);
@@ -760,6 +780,8 @@ public class StatementImpl implements JdbcStatement {
             } finally {
                 this.query.getStatementExecuting().set(false);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -770,8 +792,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void resetCancelledState() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.query.resetCancelledState();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -798,7 +824,9 @@ public class StatementImpl implements JdbcStatement {
     protected long[] executeBatchInternal() throws SQLException {
         JdbcConnection locallyScopedConn = checkClosed();
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             if (locallyScopedConn.isReadOnly()) {
                 throw SQLError.createSQLException(Messages.getString("Statement.34") + Messages.getString("Statement.35"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
@@ -911,6 +939,8 @@ public class StatementImpl implements JdbcStatement {
 
                 clearBatch();
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -948,7 +978,9 @@ public class StatementImpl implements JdbcStatement {
 
         JdbcConnection locallyScopedConn = checkClosed();
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!multiQueriesEnabled) {
                 this.session.enableMultiQueries();
             }
@@ -1049,11 +1081,15 @@ public class StatementImpl implements JdbcStatement {
                     }
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     protected int processMultiCountsAndKeys(StatementImpl batchedStatement, int updateCountCounter, long[] updateCounts) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             updateCounts[updateCountCounter++] = batchedStatement.getLargeUpdateCount();
 
             boolean doGenKeys = this.batchedGeneratedKeys != null;
@@ -1081,6 +1117,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return updateCountCounter;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1103,7 +1141,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.ResultSet executeQuery(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             JdbcConnection locallyScopedConn = this.connection;
 
             this.retrieveGeneratedKeys = false;
@@ -1198,11 +1238,15 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.results;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     protected void doPingInstead() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.pingTarget != null) {
                 try {
                     this.pingTarget.doPing();
@@ -1217,11 +1261,15 @@ public class StatementImpl implements JdbcStatement {
 
             ResultSetInternalMethods fakeSelectOneResultSet = generatePingResultSet();
             this.results = fakeSelectOneResultSet;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     protected ResultSetInternalMethods generatePingResultSet() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             String encoding = this.session.getServerSession().getCharsetSettings().getMetadataEncoding();
             int collationIndex = this.session.getServerSession().getCharsetSettings().getMetadataCollationIndex();
             Field[] fields = { new Field(null, "1", collationIndex, encoding, MysqlType.BIGINT, 1) };
@@ -1232,12 +1280,18 @@ public class StatementImpl implements JdbcStatement {
 
             return this.resultSetFactory.createFromResultsetRows(ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE,
                     new ResultsetRowsStatic(rows, new DefaultColumnDefinition(fields)));
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     public void executeSimpleNonQuery(JdbcConnection c, String nonQuery) throws SQLException {
-        synchronized (c.getConnectionMutex()) {
+        Lock connectionLock = c.getConnectionLock();
+        connectionLock.lock();
+        try {
             ((NativeSession) c.getSession()).<ResultSetImpl>execSQL(this, nonQuery, -1, null, false, getResultSetFactory(), null, false).close();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1247,7 +1301,9 @@ public class StatementImpl implements JdbcStatement {
     }
 
     protected long executeUpdateInternal(String sql, boolean isBatch, boolean returnGeneratedKeys) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             JdbcConnection locallyScopedConn = this.connection;
 
             checkNullOrEmptyQuery(sql);
@@ -1332,6 +1388,8 @@ public class StatementImpl implements JdbcStatement {
             this.lastInsertId = rs.getUpdateID();
 
             return this.updateCount;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1352,8 +1410,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.Connection getConnection() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.connection;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1364,14 +1426,20 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public int getFetchSize() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.query.getResultFetchSize();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public java.sql.ResultSet getGeneratedKeys() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!this.retrieveGeneratedKeys) {
                 throw SQLError.createSQLException(Messages.getString("Statement.GeneratedKeysNotRequested"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
                         getExceptionInterceptor());
@@ -1393,6 +1461,8 @@ public class StatementImpl implements JdbcStatement {
                     new ResultsetRowsStatic(this.batchedGeneratedKeys, new DefaultColumnDefinition(fields)));
 
             return this.generatedKeysResults;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1407,7 +1477,9 @@ public class StatementImpl implements JdbcStatement {
     }
 
     protected ResultSetInternalMethods getGeneratedKeysInternal(long numKeys) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             String encoding = this.session.getServerSession().getCharsetSettings().getMetadataEncoding();
             int collationIndex = this.session.getServerSession().getCharsetSettings().getMetadataCollationIndex();
             Field[] fields = new Field[1];
@@ -1457,6 +1529,8 @@ public class StatementImpl implements JdbcStatement {
                     new ResultsetRowsStatic(rowSet, new DefaultColumnDefinition(fields)));
 
             return gkRs;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1472,8 +1546,12 @@ public class StatementImpl implements JdbcStatement {
      * @return the last update ID.
      */
     public long getLastInsertID() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.lastInsertId;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1489,7 +1567,9 @@ public class StatementImpl implements JdbcStatement {
      * @return the current update count.
      */
     public long getLongUpdateCount() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.results == null) {
                 return -1;
             }
@@ -1499,24 +1579,34 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.updateCount;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public int getMaxFieldSize() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.maxFieldSize;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public int getMaxRows() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.maxRows <= 0) {
                 return 0;
             }
 
             return this.maxRows;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1527,7 +1617,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public boolean getMoreResults(int current) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.results == null) {
                 return false;
             }
@@ -1603,13 +1695,19 @@ public class StatementImpl implements JdbcStatement {
                 checkAndPerformCloseOnCompletionAction();
             }
             return moreResults;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public int getQueryTimeout() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return getTimeoutInMillis() / 1000;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1683,15 +1781,23 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.ResultSet getResultSet() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return ((this.results != null) && this.results.hasRows()) ? (java.sql.ResultSet) this.results : null;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public int getResultSetConcurrency() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.resultSetConcurrency;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1703,8 +1809,12 @@ public class StatementImpl implements JdbcStatement {
     @Override
     public ResultSetInternalMethods getResultSetInternal() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 return this.results;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (StatementIsClosedException e) {
             return this.results; // you end up with the same thing as before, you'll get exception when actually trying to use it
@@ -1713,8 +1823,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public int getResultSetType() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.query.getResultType().getIntValue();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1725,7 +1839,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.SQLWarning getWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
 
             if (isClearWarningsCalled()) {
                 return null;
@@ -1740,6 +1856,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.warningChain;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1821,8 +1939,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setEscapeProcessing(boolean enable) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.doEscapeProcessing = enable;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1841,20 +1963,28 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (((rows < 0) && (rows != Integer.MIN_VALUE)) || ((this.maxRows > 0) && (rows > this.getMaxRows()))) {
                 throw SQLError.createSQLException(Messages.getString("Statement.7"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
             this.query.setResultFetchSize(rows);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setHoldResultsOpenOverClose(boolean holdResultsOpenOverClose) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.holdResultsOpenOverClose = holdResultsOpenOverClose;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // FIXME: can't break interface at this point
@@ -1863,7 +1993,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setMaxFieldSize(int max) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (max < 0) {
                 throw SQLError.createSQLException(Messages.getString("Statement.11"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
@@ -1876,6 +2008,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             this.maxFieldSize = max;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1886,12 +2020,16 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setQueryTimeout(int seconds) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (seconds < 0) {
                 throw SQLError.createSQLException(Messages.getString("Statement.21"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
             setTimeoutInMillis(seconds * 1000);
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1905,10 +2043,14 @@ public class StatementImpl implements JdbcStatement {
      */
     void setResultSetConcurrency(int concurrencyFlag) throws SQLException {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.resultSetConcurrency = concurrencyFlag;
                 // updating resultset factory because concurrency is cached there
                 this.resultSetFactory = new ResultSetFactory(this.connection, this);
+            } finally {
+                connectionLock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // FIXME: Can't break interface atm, we'll get the exception later when you try and do something useful with a closed statement...
@@ -1925,10 +2067,14 @@ public class StatementImpl implements JdbcStatement {
      */
     void setResultSetType(Resultset.Type typeFlag) throws SQLException {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.query.setResultType(typeFlag);
                 // updating resultset factory because type is cached there
                 this.resultSetFactory = new ResultSetFactory(this.connection, this);
+            } finally {
+                connectionLock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // FIXME: Can't break interface atm, we'll get the exception later when you try and do something useful with a closed statement...
@@ -1940,7 +2086,9 @@ public class StatementImpl implements JdbcStatement {
     }
 
     protected void getBatchedGeneratedKeys(java.sql.Statement batchedStatement) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.retrieveGeneratedKeys) {
                 java.sql.ResultSet rs = null;
 
@@ -1956,11 +2104,15 @@ public class StatementImpl implements JdbcStatement {
                     }
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     protected void getBatchedGeneratedKeys(int maxKeys) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.retrieveGeneratedKeys) {
                 java.sql.ResultSet rs = null;
 
@@ -1980,13 +2132,19 @@ public class StatementImpl implements JdbcStatement {
                     }
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     private boolean useServerFetch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.session.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue() && this.query.getResultFetchSize() > 0
                     && this.query.getResultType() == Type.FORWARD_ONLY;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1996,8 +2154,12 @@ public class StatementImpl implements JdbcStatement {
         if (locallyScopedConn == null) {
             return true;
         }
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.isClosed;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2063,15 +2225,23 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void closeOnCompletion() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.closeOnCompletion = true;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean isCloseOnCompletion() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.closeOnCompletion;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2108,7 +2278,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public long getLargeUpdateCount() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (this.results == null) {
                 return -1;
             }
@@ -2118,12 +2290,16 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.results.getUpdateCount();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setLargeMaxRows(long max) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if ((max > MAX_ROWS) || (max < 0)) {
                 throw SQLError.createSQLException(Messages.getString("Statement.15") + max + " > " + MAX_ROWS + ".",
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
@@ -2134,6 +2310,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             this.maxRows = (int) max;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2173,8 +2351,8 @@ public class StatementImpl implements JdbcStatement {
     }
 
     @Override
-    public Object getCancelTimeoutMutex() {
-        return this.query.getCancelTimeoutMutex();
+    public Lock getCancelTimeoutLock() {
+        return this.query.getCancelTimeoutLock();
     }
 
     @Override
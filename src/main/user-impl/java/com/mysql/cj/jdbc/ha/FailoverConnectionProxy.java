@@ -75,37 +75,6 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     private long primaryHostFailTimeMillis = 0;
     private long queriesIssuedSinceFailover = 0;
 
-    /**
-     * Proxy class to intercept and deal with errors that may occur in any object bound to the current connection.
-     * Additionally intercepts query executions and triggers an execution count on the outer class.
-     */
-    class FailoverJdbcInterfaceProxy extends JdbcInterfaceProxy {
-        FailoverJdbcInterfaceProxy(Object toInvokeOn) {
-            super(toInvokeOn);
-        }
-
-        @SuppressWarnings("synthetic-access")
-        @Override
-        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            String methodName = method.getName();
-
-            boolean isExecute = methodName.startsWith("execute");
-
-            if (FailoverConnectionProxy.this.connectedToSecondaryHost() && isExecute) {
-                FailoverConnectionProxy.this.incrementQueriesIssuedSinceFailover();
-            }
-
-            Object result = super.invoke(proxy, method, args);
-
-            if (FailoverConnectionProxy.this.explicitlyAutoCommit && isExecute && readyToFallBackToPrimaryHost()) {
-                // Fall back to primary host at transaction boundary
-                fallBackToPrimaryIfAvailable();
-            }
-
-            return result;
-        }
-    }
-
     public static JdbcConnection createProxyInstance(ConnectionUrl connectionUrl) throws SQLException {
         FailoverConnectionProxy connProxy = new FailoverConnectionProxy(connectionUrl);
 
@@ -140,12 +109,23 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     }
 
     /**
-     * Gets locally bound instances of FailoverJdbcInterfaceProxy.
-     * 
+     * Counts the queries issued while connected to a secondary host.
+     */
+    @Override
+    void jdbcInterfaceExecuteBegins() {
+        if (connectedToSecondaryHost()) {
+            incrementQueriesIssuedSinceFailover();
+        }
+    }
+
+    /**
+     * Falls back to the primary host at transaction boundaries.
      */
     @Override
-    JdbcInterfaceProxy getNewJdbcInterfaceProxy(Object toProxy) {
-        return new FailoverJdbcInterfaceProxy(toProxy);
+    void jdbcInterfaceExecuteEnds() {
+        if (this.explicitlyAutoCommit && readyToFallBackToPrimaryHost()) {
+            fallBackToPrimaryIfAvailable();
+        }
     }
 
     /*
@@ -185,20 +165,25 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * Local implementation for the new connection picker.
      */
     @Override
-    synchronized void pickNewConnection() throws SQLException {
-        if (this.isClosed && this.closedExplicitly) {
-            return;
-        }
+    void pickNewConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.isClosed && this.closedExplicitly) {
+                return;
+            }
 
-        if (!isConnected() || readyToFallBackToPrimaryHost()) {
-            try {
-                connectTo(this.primaryHostIndex);
-            } catch (SQLException e) {
-                resetAutoFallBackCounters();
-                failOver(this.primaryHostIndex);
+            if (!isConnected() || readyToFallBackToPrimaryHost()) {
+                try {
+                    connectTo(this.primaryHostIndex);
+                } catch (SQLException e) {
+                    resetAutoFallBackCounters();
+                    failOver(this.primaryHostIndex);
+                }
+            } else {
+                failOver();
             }
-        } else {
-            failOver();
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -212,8 +197,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    synchronized ConnectionImpl createConnectionForHostIndex(int hostIndex) throws SQLException {
-        return createConnectionForHost(this.hostsList.get(hostIndex));
+    ConnectionImpl createConnectionForHostIndex(int hostIndex) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            return createConnectionForHost(this.hostsList.get(hostIndex));
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -224,20 +214,25 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void connectTo(int hostIndex) throws SQLException {
+    private void connectTo(int hostIndex) throws SQLException {
+        this.connectionLock.lock();
         try {
-            switchCurrentConnectionTo(hostIndex, createConnectionForHostIndex(hostIndex));
-        } catch (SQLException e) {
-            if (this.currentConnection != null) {
-                StringBuilder msg = new StringBuilder("Connection to ").append(isPrimaryHostIndex(hostIndex) ? "primary" : "secondary").append(" host '")
-                        .append(this.hostsList.get(hostIndex)).append("' failed");
-                try {
-                    this.currentConnection.getSession().getLog().logWarn(msg.toString(), e);
-                } catch (CJException ex) {
-                    throw SQLExceptionsMapping.translateException(e, this.currentConnection.getExceptionInterceptor());
+            try {
+                switchCurrentConnectionTo(hostIndex, createConnectionForHostIndex(hostIndex));
+            } catch (SQLException e) {
+                if (this.currentConnection != null) {
+                    StringBuilder msg = new StringBuilder("Connection to ").append(isPrimaryHostIndex(hostIndex) ? "primary" : "secondary").append(" host '")
+                            .append(this.hostsList.get(hostIndex)).append("' failed");
+                    try {
+                        this.currentConnection.getSession().getLog().logWarn(msg.toString(), e);
+                    } catch (CJException ex) {
+                        throw SQLExceptionsMapping.translateException(e, this.currentConnection.getExceptionInterceptor());
+                    }
                 }
+                throw e;
             }
-            throw e;
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -251,24 +246,29 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void switchCurrentConnectionTo(int hostIndex, JdbcConnection connection) throws SQLException {
-        invalidateCurrentConnection();
-
-        boolean readOnly;
-        if (isPrimaryHostIndex(hostIndex)) {
-            readOnly = this.explicitlyReadOnly == null ? false : this.explicitlyReadOnly;
-        } else if (this.failoverReadOnly) {
-            readOnly = true;
-        } else if (this.explicitlyReadOnly != null) {
-            readOnly = this.explicitlyReadOnly;
-        } else if (this.currentConnection != null) {
-            readOnly = this.currentConnection.isReadOnly();
-        } else {
-            readOnly = false;
+    private void switchCurrentConnectionTo(int hostIndex, JdbcConnection connection) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            invalidateCurrentConnection();
+
+            boolean readOnly;
+            if (isPrimaryHostIndex(hostIndex)) {
+                readOnly = this.explicitlyReadOnly == null ? false : this.explicitlyReadOnly;
+            } else if (this.failoverReadOnly) {
+                readOnly = true;
+            } else if (this.explicitlyReadOnly != null) {
+                readOnly = this.explicitlyReadOnly;
+            } else if (this.currentConnection != null) {
+                readOnly = this.currentConnection.isReadOnly();
+            } else {
+                readOnly = false;
+            }
+            syncSessionState(this.currentConnection, connection, readOnly);
+            this.currentConnection = connection;
+            this.currentHostIndex = hostIndex;
+        } finally {
+            this.connectionLock.unlock();
         }
-        syncSessionState(this.currentConnection, connection, readOnly);
-        this.currentConnection = connection;
-        this.currentHostIndex = hostIndex;
     }
 
     /**
@@ -277,8 +277,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void failOver() throws SQLException {
-        failOver(this.currentHostIndex);
+    private void failOver() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            failOver(this.currentHostIndex);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -290,71 +295,81 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void failOver(int failedHostIdx) throws SQLException {
-        int prevHostIndex = this.currentHostIndex;
-        int nextHostIndex = nextHost(failedHostIdx, false);
-        int firstHostIndexTried = nextHostIndex;
-
-        SQLException lastExceptionCaught = null;
-        int attempts = 0;
-        boolean gotConnection = false;
-        boolean firstConnOrPassedByPrimaryHost = prevHostIndex == NO_CONNECTION_INDEX || isPrimaryHostIndex(prevHostIndex);
-        do {
-            try {
-                firstConnOrPassedByPrimaryHost = firstConnOrPassedByPrimaryHost || isPrimaryHostIndex(nextHostIndex);
+    private void failOver(int failedHostIdx) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            int prevHostIndex = this.currentHostIndex;
+            int nextHostIndex = nextHost(failedHostIdx, false);
+            int firstHostIndexTried = nextHostIndex;
+
+            SQLException lastExceptionCaught = null;
+            int attempts = 0;
+            boolean gotConnection = false;
+            boolean firstConnOrPassedByPrimaryHost = prevHostIndex == NO_CONNECTION_INDEX || isPrimaryHostIndex(prevHostIndex);
+            do {
+                try {
+                    firstConnOrPassedByPrimaryHost = firstConnOrPassedByPrimaryHost || isPrimaryHostIndex(nextHostIndex);
 
-                connectTo(nextHostIndex);
+                    connectTo(nextHostIndex);
 
-                if (firstConnOrPassedByPrimaryHost && connectedToSecondaryHost()) {
-                    resetAutoFallBackCounters();
-                }
-                gotConnection = true;
+                    if (firstConnOrPassedByPrimaryHost && connectedToSecondaryHost()) {
+                        resetAutoFallBackCounters();
+                    }
+                    gotConnection = true;
 
-            } catch (SQLException e) {
-                lastExceptionCaught = e;
+                } catch (SQLException e) {
+                    lastExceptionCaught = e;
 
-                if (shouldExceptionTriggerConnectionSwitch(e)) {
-                    int newNextHostIndex = nextHost(nextHostIndex, attempts > 0);
+                    if (shouldExceptionTriggerConnectionSwitch(e)) {
+                        int newNextHostIndex = nextHost(nextHostIndex, attempts > 0);
 
-                    if (newNextHostIndex == firstHostIndexTried && newNextHostIndex == (newNextHostIndex = nextHost(nextHostIndex, true))) { // Full turn
-                        attempts++;
+                        if (newNextHostIndex == firstHostIndexTried && newNextHostIndex == (newNextHostIndex = nextHost(nextHostIndex, true))) { // Full turn
+                            attempts++;
 
-                        try {
-                            Thread.sleep(250);
-                        } catch (InterruptedException ie) {
+                            try {
+                                Thread.sleep(250);
+                            } catch (InterruptedException ie) {
+                            }
                         }
-                    }
 
-                    nextHostIndex = newNextHostIndex;
+                        nextHostIndex = newNextHostIndex;
 
-                } else {
-                    throw e;
+                    } else {
+                        throw e;
+                    }
                 }
-            }
-        } while (attempts < this.retriesAllDown && !gotConnection);
+            } while (attempts < this.retriesAllDown && !gotConnection);
 
-        if (!gotConnection) {
-            throw lastExceptionCaught;
+            if (!gotConnection) {
+                throw lastExceptionCaught;
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
     /**
      * Falls back to primary host or keep current connection if primary not available.
      */
-    synchronized void fallBackToPrimaryIfAvailable() {
-        JdbcConnection connection = null;
+    void fallBackToPrimaryIfAvailable() {
+        this.connectionLock.lock();
         try {
-            connection = createConnectionForHostIndex(this.primaryHostIndex);
-            switchCurrentConnectionTo(this.primaryHostIndex, connection);
-        } catch (SQLException e1) {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException e2) {
+            JdbcConnection connection = null;
+            try {
+                connection = createConnectionForHostIndex(this.primaryHostIndex);
+                switchCurrentConnectionTo(this.primaryHostIndex, connection);
+            } catch (SQLException e1) {
+                if (connection != null) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e2) {
+                    }
                 }
+                // Keep current connection and reset counters
+                resetAutoFallBackCounters();
             }
-            // Keep current connection and reset counters
-            resetAutoFallBackCounters();
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -383,8 +398,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     /**
      * Increments counter for query executions.
      */
-    synchronized void incrementQueriesIssuedSinceFailover() {
-        this.queriesIssuedSinceFailover++;
+    void incrementQueriesIssuedSinceFailover() {
+        this.connectionLock.lock();
+        try {
+            this.queriesIssuedSinceFailover++;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -393,8 +413,14 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if ready
      */
-    synchronized boolean readyToFallBackToPrimaryHost() {
-        return this.enableFallBackToPrimaryHost && connectedToSecondaryHost() && (secondsBeforeRetryPrimaryHostIsMet() || queriesBeforeRetryPrimaryHostIsMet());
+    boolean readyToFallBackToPrimaryHost() {
+        this.connectionLock.lock();
+        try {
+            return this.enableFallBackToPrimaryHost && connectedToSecondaryHost()
+                    && (secondsBeforeRetryPrimaryHostIsMet() || queriesBeforeRetryPrimaryHostIsMet());
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -402,8 +428,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if there is a connection
      */
-    synchronized boolean isConnected() {
-        return this.currentHostIndex != NO_CONNECTION_INDEX;
+    boolean isConnected() {
+        this.connectionLock.lock();
+        try {
+            return this.currentHostIndex != NO_CONNECTION_INDEX;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -413,8 +444,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *            The host index in the global hosts list.
      * @return true if so
      */
-    synchronized boolean isPrimaryHostIndex(int hostIndex) {
-        return hostIndex == this.primaryHostIndex;
+    boolean isPrimaryHostIndex(int hostIndex) {
+        this.connectionLock.lock();
+        try {
+            return hostIndex == this.primaryHostIndex;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -422,8 +458,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if so
      */
-    synchronized boolean connectedToPrimaryHost() {
-        return isPrimaryHostIndex(this.currentHostIndex);
+    boolean connectedToPrimaryHost() {
+        this.connectionLock.lock();
+        try {
+            return isPrimaryHostIndex(this.currentHostIndex);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -431,8 +472,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if so
      */
-    synchronized boolean connectedToSecondaryHost() {
-        return this.currentHostIndex >= 0 && !isPrimaryHostIndex(this.currentHostIndex);
+    boolean connectedToSecondaryHost() {
+        this.connectionLock.lock();
+        try {
+            return this.currentHostIndex >= 0 && !isPrimaryHostIndex(this.currentHostIndex);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -440,8 +486,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return value
      */
-    private synchronized boolean secondsBeforeRetryPrimaryHostIsMet() {
-        return this.secondsBeforeRetryPrimaryHost > 0 && Util.secondsSinceMillis(this.primaryHostFailTimeMillis) >= this.secondsBeforeRetryPrimaryHost;
+    private boolean secondsBeforeRetryPrimaryHostIsMet() {
+        this.connectionLock.lock();
+        try {
+            return this.secondsBeforeRetryPrimaryHost > 0 && Util.secondsSinceMillis(this.primaryHostFailTimeMillis) >= this.secondsBeforeRetryPrimaryHost;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -449,16 +500,26 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return value
      */
-    private synchronized boolean queriesBeforeRetryPrimaryHostIsMet() {
-        return this.queriesBeforeRetryPrimaryHost > 0 && this.queriesIssuedSinceFailover >= this.queriesBeforeRetryPrimaryHost;
+    private boolean queriesBeforeRetryPrimaryHostIsMet() {
+        this.connectionLock.lock();
+        try {
+            return this.queriesBeforeRetryPrimaryHost > 0 && this.queriesIssuedSinceFailover >= this.queriesBeforeRetryPrimaryHost;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Resets auto-fall back counters.
      */
-    private synchronized void resetAutoFallBackCounters() {
-        this.primaryHostFailTimeMillis = System.currentTimeMillis();
-        this.queriesIssuedSinceFailover = 0;
+    private void resetAutoFallBackCounters() {
+        this.connectionLock.lock();
+        try {
+            this.primaryHostFailTimeMillis = System.currentTimeMillis();
+            this.queriesIssuedSinceFailover = 0;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -468,8 +529,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *             if an error occurs
      */
     @Override
-    synchronized void doClose() throws SQLException {
-        this.currentConnection.close();
+    void doClose() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.currentConnection.close();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -479,8 +545,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *             if an error occurs
      */
     @Override
-    synchronized void doAbortInternal() throws SQLException {
-        this.currentConnection.abortInternal();
+    void doAbortInternal() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.currentConnection.abortInternal();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -490,8 +561,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *             if an error occurs
      */
     @Override
-    synchronized void doAbort(Executor executor) throws SQLException {
-        this.currentConnection.abort(executor);
+    void doAbort(Executor executor) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.currentConnection.abort(executor);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /*
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.mysql.cj.util.Util;
+
+/**
+ * Base of the classes, generated by instrumentation.JdbcInterfaceDelegatesGenerator, that multi-host connections wrap their statements and result sets in
+ * instead of a {@link MultiHostConnectionProxy.JdbcInterfaceProxy}. Every call is forwarded directly to the target holding the connection lock, errors may
+ * trigger a connection switch and returned JDBC objects are wrapped in turn, just like the dynamic proxy does, without the cost of reflection.
+ */
+abstract class JdbcInterfaceDelegate {
+    private static final Class<?>[] DELEGATE_CLASSES = { StatementDelegate.class, PreparedStatementDelegate.class, CallableStatementDelegate.class,
+            ResultSetDelegate.class };
+
+    /**
+     * The index in DELEGATE_CLASSES of the delegate that implements exactly the same interfaces as a class, or -1 if none does. Marker interfaces, such as
+     * {@link java.io.Serializable}, have no calls to forward and are not taken into account.
+     */
+    private static final ClassValue<Integer> DELEGATE_INDEX = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            Set<Class<?>> interfaces = allInterfaces(type);
+            for (int i = 0; i < DELEGATE_CLASSES.length; i++) {
+                if (interfaces.equals(allInterfaces(DELEGATE_CLASSES[i]))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    };
+
+    final MultiHostConnectionProxy proxy;
+    private final Object target;
+
+    JdbcInterfaceDelegate(MultiHostConnectionProxy proxy, Object target) {
+        this.proxy = proxy;
+        this.target = target;
+    }
+
+    /**
+     * Wraps the given object in a delegate bound to the given connection proxy, if there is one implementing the same interfaces as the object does.
+     * 
+     * @param proxy
+     *            The connection proxy the object belongs to.
+     * @param target
+     *            The object to wrap.
+     * @return
+     *         The delegate or null if the object must be wrapped in a dynamic proxy instead.
+     */
+    static Object newInstance(MultiHostConnectionProxy proxy, Object target) {
+        switch (DELEGATE_INDEX.get(target.getClass())) {
+            case 0:
+                return new StatementDelegate(proxy, target);
+            case 1:
+                return new PreparedStatementDelegate(proxy, target);
+            case 2:
+                return new CallableStatementDelegate(proxy, target);
+            case 3:
+                return new ResultSetDelegate(proxy, target);
+            default:
+                return null;
+        }
+    }
+
+    private static Set<Class<?>> allInterfaces(Class<?> type) {
+        Set<Class<?>> interfaces = new HashSet<>();
+        for (Class<?> iface : Util.getImplementedInterfaces(type)) {
+            addWithSuperInterfaces(interfaces, iface);
+        }
+        return interfaces;
+    }
+
+    private static void addWithSuperInterfaces(Set<Class<?>> interfaces, Class<?> iface) {
+        if (iface.getMethods().length > 0 && interfaces.add(iface)) {
+            Arrays.stream(iface.getInterfaces()).forEach(i -> addWithSuperInterfaces(interfaces, i));
+        }
+    }
+
+    /**
+     * Deals with an unchecked exception thrown by a method that doesn't declare {@link SQLException}. A failure to switch connections can't be thrown from
+     * such a method, so it is attached to the original exception.
+     * 
+     * @param e
+     *            The exception thrown.
+     * @return
+     *         The given exception, for the caller to rethrow.
+     */
+    RuntimeException dealWithUncheckedException(RuntimeException e) {
+        try {
+            return this.proxy.dealWithException(e);
+        } catch (SQLException ex) {
+            e.addSuppressed(ex);
+            return e;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return this.target.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.target.toString();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.lang.reflect.InvocationHandler;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * Picks, out of two random hosts, the one with the lowest moving average of transaction times scaled by its transactions in flight ("power of two choices").
+ * Hosts whose recent error rate or 99th percentile of transaction times goes over the configured limits are ejected for a while, unless all hosts would be.
+ * The statistics are kept in {@link LoadBalancedHostStats}, shared by all the load-balanced connections in the JVM.
+ */
+public class LatencyAwareBalanceStrategy implements BalanceStrategy {
+    private double maxErrorRate;
+    private long maxP99Nanos;
+    private long ejectionNanos;
+
+    /**
+     * Constructor.
+     * 
+     * @param maxErrorRatePercent
+     *            percentage of failed transactions a host is ejected above
+     * @param maxP99Millis
+     *            99th percentile of the transaction times, in milliseconds, a host is ejected above, 0 for no limit
+     * @param ejectionMillis
+     *            how long hosts are ejected for, in milliseconds
+     */
+    public LatencyAwareBalanceStrategy(int maxErrorRatePercent, int maxP99Millis, int ejectionMillis) {
+        this.maxErrorRate = maxErrorRatePercent / 100.0;
+        this.maxP99Nanos = TimeUnit.MILLISECONDS.toNanos(maxP99Millis);
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(ejectionMillis);
+    }
+
+    @Override
+    public ConnectionImpl pickConnection(InvocationHandler proxy, List<String> configuredHosts, Map<String, JdbcConnection> liveConnections,
+            long[] responseTimes, int numRetries) throws SQLException {
+        if (configuredHosts.isEmpty()) {
+            throw SQLError.createSQLException(Messages.getString("RandomBalanceStrategy.0"), null);
+        }
+
+        SQLException ex = null;
+
+        List<String> candidates = getCandidates(configuredHosts, ((LoadBalancedConnectionProxy) proxy).getGlobalBlocklist());
+
+        for (int attempts = 0; attempts < numRetries;) {
+            if (candidates.isEmpty()) {
+                attempts++;
+                try {
+                    Thread.sleep(250);
+                } catch (InterruptedException e) {
+                }
+                // try again after a little bit
+                candidates = getCandidates(configuredHosts, ((LoadBalancedConnectionProxy) proxy).getGlobalBlocklist());
+                continue;
+            }
+
+            String host = pickHost(candidates);
+
+            ConnectionImpl conn = (ConnectionImpl) liveConnections.get(host);
+
+            if (conn == null) {
+                try {
+                    conn = ((LoadBalancedConnectionProxy) proxy).createConnectionForHost(host);
+                } catch (SQLException sqlEx) {
+                    ex = sqlEx;
+
+                    if (((LoadBalancedConnectionProxy) proxy).shouldExceptionTriggerConnectionSwitch(sqlEx)) {
+                        ((LoadBalancedConnectionProxy) proxy).addToGlobalBlocklist(host);
+                        candidates.remove(host);
+                        continue;
+                    }
+
+                    throw sqlEx;
+                }
+            }
+
+            return conn;
+        }
+
+        if (ex != null) {
+            throw ex;
+        }
+
+        throw SQLError.createSQLException(Messages.getString("LatencyAwareBalanceStrategy.0"), null);
+    }
+
+    /**
+     * Returns the hosts not in the blocklist and not ejected or, if all of them are ejected, the hosts not in the blocklist: when every host misbehaves it's
+     * better to keep spreading the load than to pile it on one of them.
+     */
+    List<String> getCandidates(List<String> configuredHosts, Map<String, Long> blockList) {
+        List<String> allowed = new ArrayList<>(configuredHosts.size());
+        List<String> healthy = new ArrayList<>(configuredHosts.size());
+        for (String host : configuredHosts) {
+            if (!blockList.containsKey(host)) {
+                allowed.add(host);
+                LoadBalancedHostStats stats = LoadBalancedHostStats.getIfPresent(host);
+                if (stats == null || !stats.checkEjected(this.maxErrorRate, this.maxP99Nanos, this.ejectionNanos)) {
+                    healthy.add(host);
+                }
+            }
+        }
+        return healthy.isEmpty() ? allowed : healthy;
+    }
+
+    /**
+     * Picks the cheaper of two distinct random candidates.
+     */
+    String pickHost(List<String> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        String a = candidates.get(first);
+        String b = candidates.get(second);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    private static double cost(String host) {
+        LoadBalancedHostStats stats = LoadBalancedHostStats.getIfPresent(host);
+        return stats == null ? 0 : stats.getCost();
+    }
+}
@@ -36,6 +36,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -45,6 +47,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.mysql.cj.Messages;
@@ -102,9 +105,15 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     private boolean inTransaction = false;
     private long transactionStartTime = 0;
     private long transactionCount = 0;
+    // statistics of the host the current transaction, or autocommit statement, runs on, until it ends
+    private LoadBalancedHostStats transactionHostStats = null;
+    private long sampleStartTime = 0;
 
     private LoadBalanceExceptionChecker exceptionChecker;
 
+    // when set, the balancer only picks among the hosts accepted by it, unless it accepts none
+    private Predicate<String> hostFilter = null;
+
     private static Class<?>[] INTERFACES_TO_PROXY = new Class<?>[] { LoadBalancedConnection.class, JdbcConnection.class };
 
     /**
@@ -117,7 +126,17 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     public static LoadBalancedConnection createProxyInstance(ConnectionUrl connectionUrl) throws SQLException {
-        LoadBalancedConnectionProxy connProxy = new LoadBalancedConnectionProxy(connectionUrl);
+        return createProxyInstance(new LoadBalancedConnectionProxy(connectionUrl));
+    }
+
+    /**
+     * Static factory to create {@link LoadBalancedConnection} instances for an existing proxy.
+     * 
+     * @param connProxy
+     *            The load-balanced connection proxy.
+     * @return A {@link LoadBalancedConnection} proxy.
+     */
+    static LoadBalancedConnection createProxyInstance(LoadBalancedConnectionProxy connProxy) {
         return (LoadBalancedConnection) java.lang.reflect.Proxy.newProxyInstance(LoadBalancedConnection.class.getClassLoader(), INTERFACES_TO_PROXY, connProxy);
     }
 
@@ -194,6 +213,13 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     new Object[] { hostRemovalGracePeriodAsString }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
         }
 
+        int ejectionErrorRate = parseEjectionProperty(props, PropertyKey.loadBalanceEjectionErrorRate, "50", 100,
+                "LoadBalancedConnectionProxy.badValueForLoadBalanceEjectionErrorRate");
+        int ejectionLatency = parseEjectionProperty(props, PropertyKey.loadBalanceEjectionLatency, "0", Integer.MAX_VALUE,
+                "LoadBalancedConnectionProxy.badValueForLoadBalanceEjectionLatency");
+        int ejectionTime = parseEjectionProperty(props, PropertyKey.loadBalanceEjectionTime, "30000", Integer.MAX_VALUE,
+                "LoadBalancedConnectionProxy.badValueForLoadBalanceEjectionTime");
+
         String strategy = props.getProperty(PropertyKey.ha_loadBalanceStrategy.getKeyName(), "random");
         try {
             switch (strategy) {
@@ -206,6 +232,9 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                 case "serverAffinity":
                     this.balancer = new ServerAffinityStrategy(props.getProperty(PropertyKey.serverAffinityOrder.getKeyName(), null));
                     break;
+                case "latencyAware":
+                    this.balancer = new LatencyAwareBalanceStrategy(ejectionErrorRate, ejectionLatency, ejectionTime);
+                    break;
                 default:
                     this.balancer = (BalanceStrategy) Class.forName(strategy).newInstance();
             }
@@ -307,26 +336,35 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    synchronized void invalidateConnection(JdbcConnection conn) throws SQLException {
-        super.invalidateConnection(conn);
+    void invalidateConnection(JdbcConnection conn) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            super.invalidateConnection(conn);
 
-        // add host to the global blocklist, if enabled
-        if (this.isGlobalBlocklistEnabled()) {
-            String host = this.connectionsToHostsMap.get(conn);
-            if (host != null) {
-                addToGlobalBlocklist(host);
+            // add host to the global blocklist, if enabled
+            if (this.isGlobalBlocklistEnabled()) {
+                String host = this.connectionsToHostsMap.get(conn);
+                if (host != null) {
+                    addToGlobalBlocklist(host);
+                }
             }
-        }
 
-        // remove from liveConnections
-        this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
-        Object mappedHost = this.connectionsToHostsMap.remove(conn);
-        if (mappedHost != null && this.hostsToListIndexMap.containsKey(mappedHost)) {
-            int hostIndex = this.hostsToListIndexMap.get(mappedHost);
-            // reset the statistics for the host
-            synchronized (this.responseTimes) {
-                this.responseTimes[hostIndex] = 0;
+            if (this.transactionHostStats != null && this.transactionHostStats.getHostPortPair().equals(this.connectionsToHostsMap.get(conn))) {
+                transactionEnded(true);
             }
+
+            // remove from liveConnections
+            this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
+            Object mappedHost = this.connectionsToHostsMap.remove(conn);
+            if (mappedHost != null && this.hostsToListIndexMap.containsKey(mappedHost)) {
+                int hostIndex = this.hostsToListIndexMap.get(mappedHost);
+                // reset the statistics for the host
+                synchronized (this.responseTimes) {
+                    this.responseTimes[hostIndex] = 0;
+                }
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -337,54 +375,94 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    public synchronized void pickNewConnection() throws SQLException {
-        if (this.isClosed && this.closedExplicitly) {
-            return;
-        }
+    public void pickNewConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.isClosed && this.closedExplicitly) {
+                return;
+            }
 
-        List<String> hostPortList = Collections.unmodifiableList(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
+            List<String> hostPortList = Collections.unmodifiableList(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
+            long[] hostResponseTimes = this.responseTimes.clone();
 
-        if (this.currentConnection == null) { // startup
-            this.currentConnection = this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
-                    this.responseTimes.clone(), this.retriesAllDown);
-            return;
-        }
+            if (this.hostFilter != null) {
+                List<String> acceptedHosts = new ArrayList<>(hostPortList.size());
+                long[] acceptedResponseTimes = new long[hostPortList.size()];
+                for (int i = 0; i < hostPortList.size(); i++) {
+                    if (this.hostFilter.test(hostPortList.get(i))) {
+                        acceptedResponseTimes[acceptedHosts.size()] = i < hostResponseTimes.length ? hostResponseTimes[i] : 0;
+                        acceptedHosts.add(hostPortList.get(i));
+                    }
+                }
+                if (!acceptedHosts.isEmpty()) {
+                    hostPortList = Collections.unmodifiableList(acceptedHosts);
+                    hostResponseTimes = Arrays.copyOf(acceptedResponseTimes, acceptedHosts.size());
+                }
+            }
 
-        if (this.currentConnection.isClosed()) {
-            invalidateCurrentConnection();
-        }
+            if (this.currentConnection == null) { // startup
+                this.currentConnection = this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections), hostResponseTimes,
+                        this.retriesAllDown);
+                return;
+            }
 
-        int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
-        boolean pingBeforeReturn = this.currentConnection.getPropertySet().getBooleanProperty(PropertyKey.loadBalanceValidateConnectionOnSwapServer).getValue();
+            if (this.currentConnection.isClosed()) {
+                invalidateCurrentConnection();
+            }
 
-        for (int hostsTried = 0, hostsToTry = this.hostsList.size(); hostsTried < hostsToTry; hostsTried++) {
-            ConnectionImpl newConn = null;
-            try {
-                newConn = (ConnectionImpl) this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
-                        this.responseTimes.clone(), this.retriesAllDown);
+            int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
+            boolean pingBeforeReturn = this.currentConnection.getPropertySet().getBooleanProperty(PropertyKey.loadBalanceValidateConnectionOnSwapServer)
+                    .getValue();
 
-                if (this.currentConnection != null) {
-                    if (pingBeforeReturn) {
-                        newConn.pingInternal(true, pingTimeout);
-                    }
+            for (int hostsTried = 0, hostsToTry = this.hostsList.size(); hostsTried < hostsToTry; hostsTried++) {
+                ConnectionImpl newConn = null;
+                try {
+                    newConn = (ConnectionImpl) this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
+                            hostResponseTimes.clone(), this.retriesAllDown);
 
-                    syncSessionState(this.currentConnection, newConn);
-                }
+                    if (this.currentConnection != null) {
+                        if (pingBeforeReturn) {
+                            newConn.pingInternal(true, pingTimeout);
+                        }
 
-                this.currentConnection = newConn;
-                return;
+                        syncSessionState(this.currentConnection, newConn);
+                    }
 
-            } catch (SQLException e) {
-                if (shouldExceptionTriggerConnectionSwitch(e) && newConn != null) {
-                    // connection error, close up shop on current connection
-                    invalidateConnection(newConn);
+                    if (newConn != this.currentConnection) {
+                        transactionAbandoned();
+                    }
+                    this.currentConnection = newConn;
+                    return;
+
+                } catch (SQLException e) {
+                    if (shouldExceptionTriggerConnectionSwitch(e) && newConn != null) {
+                        // connection error, close up shop on current connection
+                        invalidateConnection(newConn);
+                    }
                 }
             }
+
+            // no hosts available to swap connection to, close up.
+            this.isClosed = true;
+            this.closedReason = "Connection closed after inability to pick valid new connection during load-balance.";
+        } finally {
+            this.connectionLock.unlock();
         }
+    }
 
-        // no hosts available to swap connection to, close up.
-        this.isClosed = true;
-        this.closedReason = "Connection closed after inability to pick valid new connection during load-balance.";
+    /**
+     * Restricts the hosts picked from now on to those accepted by the given filter. If the filter accepts none of the hosts, all of them can be picked.
+     * 
+     * @param hostFilter
+     *            filter of "host:port" pairs, or null to pick among all the hosts
+     */
+    void setHostFilter(Predicate<String> hostFilter) {
+        this.connectionLock.lock();
+        try {
+            this.hostFilter = hostFilter;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -398,24 +476,29 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    public synchronized ConnectionImpl createConnectionForHost(HostInfo hostInfo) throws SQLException {
-        ConnectionImpl conn = super.createConnectionForHost(hostInfo);
+    public ConnectionImpl createConnectionForHost(HostInfo hostInfo) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            ConnectionImpl conn = super.createConnectionForHost(hostInfo);
 
-        this.liveConnections.put(hostInfo.getHostPortPair(), conn);
-        this.connectionsToHostsMap.put(conn, hostInfo.getHostPortPair());
+            this.liveConnections.put(hostInfo.getHostPortPair(), conn);
+            this.connectionsToHostsMap.put(conn, hostInfo.getHostPortPair());
 
-        removeFromGlobalBlocklist(hostInfo.getHostPortPair());
+            removeFromGlobalBlocklist(hostInfo.getHostPortPair());
 
-        this.totalPhysicalConnections++;
+            this.totalPhysicalConnections++;
 
-        for (QueryInterceptor stmtInterceptor : conn.getQueryInterceptorsInstances()) {
-            if (stmtInterceptor instanceof LoadBalancedAutoCommitInterceptor) {
-                ((LoadBalancedAutoCommitInterceptor) stmtInterceptor).resumeCounters();
-                break;
+            for (QueryInterceptor stmtInterceptor : conn.getQueryInterceptorsInstances()) {
+                if (stmtInterceptor instanceof LoadBalancedAutoCommitInterceptor) {
+                    ((LoadBalancedAutoCommitInterceptor) stmtInterceptor).resumeCounters();
+                    break;
+                }
             }
-        }
 
-        return conn;
+            return conn;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     @Override
@@ -445,89 +528,117 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @throws SQLException
      *             if an error occurs
      */
-    public synchronized ConnectionImpl createConnectionForHost(String hostPortPair) throws SQLException {
-        for (HostInfo hi : this.hostsList) {
-            if (hi.getHostPortPair().equals(hostPortPair)) {
-                return createConnectionForHost(hi);
+    public ConnectionImpl createConnectionForHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            for (HostInfo hi : this.hostsList) {
+                if (hi.getHostPortPair().equals(hostPortPair)) {
+                    return createConnectionForHost(hi);
+                }
             }
+            return null;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return null;
     }
 
     /**
      * Closes all live connections.
      */
-    private synchronized void closeAllConnections() {
-        // close all underlying connections
-        for (Connection c : this.liveConnections.values()) {
-            try {
-                c.close();
-            } catch (SQLException e) {
+    private void closeAllConnections() {
+        this.connectionLock.lock();
+        try {
+            // close all underlying connections
+            for (Connection c : this.liveConnections.values()) {
+                try {
+                    c.close();
+                } catch (SQLException e) {
+                }
             }
-        }
 
-        if (!this.isClosed) {
-            if (this.connectionGroup != null) {
-                this.connectionGroup.closeConnectionProxy(this);
+            if (!this.isClosed) {
+                if (this.connectionGroup != null) {
+                    this.connectionGroup.closeConnectionProxy(this);
+                }
             }
-        }
 
-        this.liveConnections.clear();
-        this.connectionsToHostsMap.clear();
+            transactionAbandoned();
+            this.liveConnections.clear();
+            this.connectionsToHostsMap.clear();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Closes all live connections.
      */
     @Override
-    synchronized void doClose() {
-        closeAllConnections();
+    void doClose() {
+        this.connectionLock.lock();
+        try {
+            closeAllConnections();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Aborts all live connections
      */
     @Override
-    synchronized void doAbortInternal() {
-        // abort all underlying connections
-        for (JdbcConnection c : this.liveConnections.values()) {
-            try {
-                c.abortInternal();
-            } catch (SQLException e) {
+    void doAbortInternal() {
+        this.connectionLock.lock();
+        try {
+            // abort all underlying connections
+            for (JdbcConnection c : this.liveConnections.values()) {
+                try {
+                    c.abortInternal();
+                } catch (SQLException e) {
+                }
             }
-        }
 
-        if (!this.isClosed) {
-            if (this.connectionGroup != null) {
-                this.connectionGroup.closeConnectionProxy(this);
+            if (!this.isClosed) {
+                if (this.connectionGroup != null) {
+                    this.connectionGroup.closeConnectionProxy(this);
+                }
             }
-        }
 
-        this.liveConnections.clear();
-        this.connectionsToHostsMap.clear();
+            transactionAbandoned();
+            this.liveConnections.clear();
+            this.connectionsToHostsMap.clear();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Aborts all live connections, using the provided Executor.
      */
     @Override
-    synchronized void doAbort(Executor executor) {
-        // close all underlying connections
-        for (Connection c : this.liveConnections.values()) {
-            try {
-                c.abort(executor);
-            } catch (SQLException e) {
+    void doAbort(Executor executor) {
+        this.connectionLock.lock();
+        try {
+            // close all underlying connections
+            for (Connection c : this.liveConnections.values()) {
+                try {
+                    c.abort(executor);
+                } catch (SQLException e) {
+                }
             }
-        }
 
-        if (!this.isClosed) {
-            if (this.connectionGroup != null) {
-                this.connectionGroup.closeConnectionProxy(this);
+            if (!this.isClosed) {
+                if (this.connectionGroup != null) {
+                    this.connectionGroup.closeConnectionProxy(this);
+                }
             }
-        }
 
-        this.liveConnections.clear();
-        this.connectionsToHostsMap.clear();
+            transactionAbandoned();
+            this.liveConnections.clear();
+            this.connectionsToHostsMap.clear();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -567,6 +678,10 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
             this.transactionStartTime = System.nanoTime();
             this.transactionCount++;
         }
+        if (this.transactionHostStats == null && !isAutoCommit()) {
+            // statements run in autocommit mode are recorded one by one instead, see jdbcInterfaceExecuteBegins()
+            sampleStarted();
+        }
 
         Object result = null;
 
@@ -584,8 +699,13 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
             dealWithInvocationException(e);
 
         } finally {
+            if ("setAutoCommit".equals(methodName) && Boolean.TRUE.equals(args[0])) {
+                // commits the transaction in progress, if any
+                transactionEnded(false);
+            }
             if ("commit".equals(methodName) || "rollback".equals(methodName)) {
                 this.inTransaction = false;
+                transactionEnded(false);
 
                 // Update stats
                 String host = this.connectionsToHostsMap.get(this.currentConnection);
@@ -606,6 +726,102 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         return result;
     }
 
+    /**
+     * Parses one of the "loadBalanceEjection*" properties, which must be an integer from 0 to the given maximum.
+     * 
+     * @param props
+     *            connection properties
+     * @param key
+     *            property
+     * @param defaultValue
+     *            value if the property isn't set
+     * @param max
+     *            maximum value
+     * @param badValueMessage
+     *            key of the error message
+     * @return value
+     * @throws SQLException
+     *             if the value is not a number or out of range
+     */
+    private static int parseEjectionProperty(Properties props, PropertyKey key, String defaultValue, int max, String badValueMessage) throws SQLException {
+        String valueAsString = props.getProperty(key.getKeyName(), defaultValue);
+        int value;
+        try {
+            value = Integer.parseInt(valueAsString);
+        } catch (NumberFormatException nfe) {
+            value = -1;
+        }
+        if (value < 0 || value > max) {
+            throw SQLError.createSQLException(Messages.getString(badValueMessage, new Object[] { valueAsString }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    null);
+        }
+        return value;
+    }
+
+    /**
+     * Records each statement run in autocommit mode as a transaction of its own in the statistics of its host.
+     */
+    @Override
+    void jdbcInterfaceExecuteBegins() {
+        if (isAutoCommit()) {
+            // a statement that failed without switching hosts didn't get to jdbcInterfaceExecuteEnds()
+            transactionAbandoned();
+            sampleStarted();
+        } else if (this.transactionHostStats == null) {
+            sampleStarted();
+        }
+    }
+
+    @Override
+    void jdbcInterfaceExecuteEnds() {
+        if (isAutoCommit()) {
+            transactionEnded(false);
+        }
+    }
+
+    /**
+     * Counts a transaction, or an autocommit statement, as in flight on the host of the current connection.
+     */
+    private void sampleStarted() {
+        String host = this.connectionsToHostsMap.get(this.currentConnection);
+        if (host != null) {
+            this.transactionHostStats = LoadBalancedHostStats.forHost(host);
+            this.transactionHostStats.transactionStarted();
+            this.sampleStartTime = System.nanoTime();
+        }
+    }
+
+    private boolean isAutoCommit() {
+        try {
+            return this.currentConnection != null && this.currentConnection.getAutoCommit();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records the end of the current transaction, or autocommit statement, in the statistics of its host.
+     * 
+     * @param failed
+     *            whether the transaction failed with an error that made the connection switch hosts
+     */
+    private void transactionEnded(boolean failed) {
+        if (this.transactionHostStats != null) {
+            this.transactionHostStats.transactionEnded(System.nanoTime() - this.sampleStartTime, failed);
+            this.transactionHostStats = null;
+        }
+    }
+
+    /**
+     * Stops counting the current transaction as in flight on its host, without recording its duration, because it didn't end on that host.
+     */
+    private void transactionAbandoned() {
+        if (this.transactionHostStats != null) {
+            this.transactionHostStats.transactionAbandoned();
+            this.transactionHostStats = null;
+        }
+    }
+
     /**
      * Pings live connections.
      * 
@@ -613,64 +829,72 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    public synchronized void doPing() throws SQLException {
-        SQLException se = null;
-        boolean foundHost = false;
-        int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
+    public void doPing() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            SQLException se = null;
+            boolean foundHost = false;
+            int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
 
-        synchronized (this) {
-            for (HostInfo hi : this.hostsList) {
-                String host = hi.getHostPortPair();
-                ConnectionImpl conn = this.liveConnections.get(host);
-                if (conn == null) {
-                    continue;
-                }
-                try {
-                    if (pingTimeout == 0) {
-                        conn.ping();
-                    } else {
-                        conn.pingInternal(true, pingTimeout);
-                    }
-                    foundHost = true;
-                } catch (SQLException e) {
-                    // give up if it is the current connection, otherwise NPE faking resultset later.
-                    if (host.equals(this.connectionsToHostsMap.get(this.currentConnection))) {
-                        // clean up underlying connections, since connection pool won't do it
-                        closeAllConnections();
-                        this.isClosed = true;
-                        this.closedReason = "Connection closed because ping of current connection failed.";
-                        throw e;
+            this.connectionLock.lock();
+            try {
+                for (HostInfo hi : this.hostsList) {
+                    String host = hi.getHostPortPair();
+                    ConnectionImpl conn = this.liveConnections.get(host);
+                    if (conn == null) {
+                        continue;
                     }
+                    try {
+                        if (pingTimeout == 0) {
+                            conn.ping();
+                        } else {
+                            conn.pingInternal(true, pingTimeout);
+                        }
+                        foundHost = true;
+                    } catch (SQLException e) {
+                        // give up if it is the current connection, otherwise NPE faking resultset later.
+                        if (host.equals(this.connectionsToHostsMap.get(this.currentConnection))) {
+                            // clean up underlying connections, since connection pool won't do it
+                            closeAllConnections();
+                            this.isClosed = true;
+                            this.closedReason = "Connection closed because ping of current connection failed.";
+                            throw e;
+                        }
 
-                    // if the Exception is caused by ping connection lifetime checks, don't add to blocklist
-                    if (e.getMessage().equals(Messages.getString("Connection.exceededConnectionLifetime"))) {
-                        // only set the return Exception if it's null
-                        if (se == null) {
+                        // if the Exception is caused by ping connection lifetime checks, don't add to blocklist
+                        if (e.getMessage().equals(Messages.getString("Connection.exceededConnectionLifetime"))) {
+                            // only set the return Exception if it's null
+                            if (se == null) {
+                                se = e;
+                            }
+                        } else {
+                            // overwrite the return Exception no matter what
                             se = e;
+                            if (isGlobalBlocklistEnabled()) {
+                                addToGlobalBlocklist(host);
+                            }
                         }
-                    } else {
-                        // overwrite the return Exception no matter what
-                        se = e;
-                        if (isGlobalBlocklistEnabled()) {
-                            addToGlobalBlocklist(host);
-                        }
+                        // take the connection out of the liveConnections Map
+                        this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
                     }
-                    // take the connection out of the liveConnections Map
-                    this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
                 }
+            } finally {
+                this.connectionLock.unlock();
             }
-        }
-        // if there were no successful pings
-        if (!foundHost) {
-            closeAllConnections();
-            this.isClosed = true;
-            this.closedReason = "Connection closed due to inability to ping any active connections.";
-            // throw the stored Exception, if exists
-            if (se != null) {
-                throw se;
+            // if there were no successful pings
+            if (!foundHost) {
+                closeAllConnections();
+                this.isClosed = true;
+                this.closedReason = "Connection closed due to inability to ping any active connections.";
+                // throw the stored Exception, if exists
+                if (se != null) {
+                    throw se;
+                }
+                // or create a new SQLException and throw it, must be no liveConnections
+                ((ConnectionImpl) this.currentConnection).throwConnectionClosedException();
             }
-            // or create a new SQLException and throw it, must be no liveConnections
-            ((ConnectionImpl) this.currentConnection).throwConnectionClosedException();
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -778,50 +1002,55 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @return
      *         A local hosts blocklist.
      */
-    public synchronized Map<String, Long> getGlobalBlocklist() {
-        if (!isGlobalBlocklistEnabled()) {
-            if (this.hostsToRemove.isEmpty()) {
-                return new HashMap<>(1);
-            }
-            HashMap<String, Long> fakedBlocklist = new HashMap<>();
-            for (String h : this.hostsToRemove) {
-                fakedBlocklist.put(h, System.currentTimeMillis() + 5000);
+    public Map<String, Long> getGlobalBlocklist() {
+        this.connectionLock.lock();
+        try {
+            if (!isGlobalBlocklistEnabled()) {
+                if (this.hostsToRemove.isEmpty()) {
+                    return new HashMap<>(1);
+                }
+                HashMap<String, Long> fakedBlocklist = new HashMap<>();
+                for (String h : this.hostsToRemove) {
+                    fakedBlocklist.put(h, System.currentTimeMillis() + 5000);
+                }
+                return fakedBlocklist;
             }
-            return fakedBlocklist;
-        }
-
-        // Make a local copy of the blocklist
-        Map<String, Long> blocklistClone = new HashMap<>(globalBlocklist.size());
-        // Copy everything from synchronized global blocklist to local copy for manipulation
-        synchronized (globalBlocklist) {
-            blocklistClone.putAll(globalBlocklist);
-        }
-        Set<String> keys = blocklistClone.keySet();
-
-        // We're only interested in blocklisted hosts that are in the hostList
-        keys.retainAll(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
 
-        // Don't need to synchronize here as we using a local copy
-        for (Iterator<String> i = keys.iterator(); i.hasNext();) {
-            String host = i.next();
-            // OK if null is returned because another thread already purged Map entry.
-            Long timeout = globalBlocklist.get(host);
-            if (timeout != null && timeout < System.currentTimeMillis()) {
-                // Timeout has expired, remove from blocklist
-                synchronized (globalBlocklist) {
-                    globalBlocklist.remove(host);
+            // Make a local copy of the blocklist
+            Map<String, Long> blocklistClone = new HashMap<>(globalBlocklist.size());
+            // Copy everything from synchronized global blocklist to local copy for manipulation
+            synchronized (globalBlocklist) {
+                blocklistClone.putAll(globalBlocklist);
+            }
+            Set<String> keys = blocklistClone.keySet();
+
+            // We're only interested in blocklisted hosts that are in the hostList
+            keys.retainAll(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
+
+            // Don't need to synchronize here as we using a local copy
+            for (Iterator<String> i = keys.iterator(); i.hasNext();) {
+                String host = i.next();
+                // OK if null is returned because another thread already purged Map entry.
+                Long timeout = globalBlocklist.get(host);
+                if (timeout != null && timeout < System.currentTimeMillis()) {
+                    // Timeout has expired, remove from blocklist
+                    synchronized (globalBlocklist) {
+                        globalBlocklist.remove(host);
+                    }
+                    i.remove();
                 }
-                i.remove();
+
+            }
+            if (keys.size() == this.hostsList.size()) {
+                // return an empty blocklist, let the BalanceStrategy implementations try to connect to everything since it appears that all hosts are
+                // unavailable - we don't want to wait for loadBalanceBlocklistTimeout to expire.
+                return new HashMap<>(1);
             }
 
+            return blocklistClone;
+        } finally {
+            this.connectionLock.unlock();
         }
-        if (keys.size() == this.hostsList.size()) {
-            // return an empty blocklist, let the BalanceStrategy implementations try to connect to everything since it appears that all hosts are
-            // unavailable - we don't want to wait for loadBalanceBlocklistTimeout to expire.
-            return new HashMap<>(1);
-        }
-
-        return blocklistClone;
     }
 
     /**
@@ -832,8 +1061,13 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @deprecated
      */
     @Deprecated
-    public synchronized Map<String, Long> getGlobalBlacklist() {
-        return getGlobalBlocklist();
+    public Map<String, Long> getGlobalBlacklist() {
+        this.connectionLock.lock();
+        try {
+            return getGlobalBlocklist();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -852,7 +1086,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
 
         int timeBetweenChecks = this.hostRemovalGracePeriod > 1000 ? 1000 : this.hostRemovalGracePeriod;
 
-        synchronized (this) {
+        this.connectionLock.lock();
+        try {
             addToGlobalBlocklist(hostPortPair, System.currentTimeMillis() + this.hostRemovalGracePeriod + timeBetweenChecks);
 
             long cur = System.currentTimeMillis();
@@ -871,6 +1106,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     // better to swallow this and retry.
                 }
             }
+        } finally {
+            this.connectionLock.unlock();
         }
 
         removeHost(hostPortPair);
@@ -884,35 +1121,40 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @throws SQLException
      *             if an error occurs
      */
-    public synchronized void removeHost(String hostPortPair) throws SQLException {
-        if (this.connectionGroup != null) {
-            if (this.connectionGroup.getInitialHosts().size() == 1 && this.connectionGroup.getInitialHosts().contains(hostPortPair)) {
-                throw SQLError.createSQLException(Messages.getString("LoadBalancedConnectionProxy.0"), null);
+    public void removeHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.connectionGroup != null) {
+                if (this.connectionGroup.getInitialHosts().size() == 1 && this.connectionGroup.getInitialHosts().contains(hostPortPair)) {
+                    throw SQLError.createSQLException(Messages.getString("LoadBalancedConnectionProxy.0"), null);
+                }
             }
-        }
 
-        this.hostsToRemove.add(hostPortPair);
-
-        this.connectionsToHostsMap.remove(this.liveConnections.remove(hostPortPair));
-        if (this.hostsToListIndexMap.remove(hostPortPair) != null) {
-            long[] newResponseTimes = new long[this.responseTimes.length - 1];
-            int newIdx = 0;
-            for (HostInfo hostInfo : this.hostsList) {
-                String host = hostInfo.getHostPortPair();
-                if (!this.hostsToRemove.contains(host)) {
-                    Integer idx = this.hostsToListIndexMap.get(host);
-                    if (idx != null && idx < this.responseTimes.length) {
-                        newResponseTimes[newIdx] = this.responseTimes[idx];
+            this.hostsToRemove.add(hostPortPair);
+
+            this.connectionsToHostsMap.remove(this.liveConnections.remove(hostPortPair));
+            if (this.hostsToListIndexMap.remove(hostPortPair) != null) {
+                long[] newResponseTimes = new long[this.responseTimes.length - 1];
+                int newIdx = 0;
+                for (HostInfo hostInfo : this.hostsList) {
+                    String host = hostInfo.getHostPortPair();
+                    if (!this.hostsToRemove.contains(host)) {
+                        Integer idx = this.hostsToListIndexMap.get(host);
+                        if (idx != null && idx < this.responseTimes.length) {
+                            newResponseTimes[newIdx] = this.responseTimes[idx];
+                        }
+                        this.hostsToListIndexMap.put(host, newIdx++);
                     }
-                    this.hostsToListIndexMap.put(host, newIdx++);
                 }
+                this.responseTimes = newResponseTimes;
             }
-            this.responseTimes = newResponseTimes;
-        }
 
-        if (hostPortPair.equals(this.currentConnection.getHostPortPair())) {
-            invalidateConnection(this.currentConnection);
-            pickNewConnection();
+            if (hostPortPair.equals(this.currentConnection.getHostPortPair())) {
+                invalidateConnection(this.currentConnection);
+                pickNewConnection();
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -923,60 +1165,100 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *            The host to be added.
      * @return true if host was added and false if the host list already contains it
      */
-    public synchronized boolean addHost(String hostPortPair) {
-        if (this.hostsToListIndexMap.containsKey(hostPortPair)) {
-            return false;
-        }
+    public boolean addHost(String hostPortPair) {
+        this.connectionLock.lock();
+        try {
+            if (this.hostsToListIndexMap.containsKey(hostPortPair)) {
+                return false;
+            }
 
-        long[] newResponseTimes = new long[this.responseTimes.length + 1];
-        System.arraycopy(this.responseTimes, 0, newResponseTimes, 0, this.responseTimes.length);
+            long[] newResponseTimes = new long[this.responseTimes.length + 1];
+            System.arraycopy(this.responseTimes, 0, newResponseTimes, 0, this.responseTimes.length);
 
-        this.responseTimes = newResponseTimes;
-        if (this.hostsList.stream().noneMatch(hi -> hostPortPair.equals(hi.getHostPortPair()))) {
-            this.hostsList.add(this.connectionUrl.getHostOrSpawnIsolated(hostPortPair));
-        }
-        this.hostsToListIndexMap.put(hostPortPair, this.responseTimes.length - 1);
-        this.hostsToRemove.remove(hostPortPair);
+            this.responseTimes = newResponseTimes;
+            if (this.hostsList.stream().noneMatch(hi -> hostPortPair.equals(hi.getHostPortPair()))) {
+                this.hostsList.add(this.connectionUrl.getHostOrSpawnIsolated(hostPortPair));
+            }
+            this.hostsToListIndexMap.put(hostPortPair, this.responseTimes.length - 1);
+            this.hostsToRemove.remove(hostPortPair);
 
-        return true;
+            return true;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized boolean inTransaction() {
-        return this.inTransaction;
+    public boolean inTransaction() {
+        this.connectionLock.lock();
+        try {
+            return this.inTransaction;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getTransactionCount() {
-        return this.transactionCount;
+    public long getTransactionCount() {
+        this.connectionLock.lock();
+        try {
+            return this.transactionCount;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getActivePhysicalConnectionCount() {
-        return this.liveConnections.size();
+    public long getActivePhysicalConnectionCount() {
+        this.connectionLock.lock();
+        try {
+            return this.liveConnections.size();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getTotalPhysicalConnectionCount() {
-        return this.totalPhysicalConnections;
+    public long getTotalPhysicalConnectionCount() {
+        this.connectionLock.lock();
+        try {
+            return this.totalPhysicalConnections;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getConnectionGroupProxyID() {
-        return this.connectionGroupProxyID;
+    public long getConnectionGroupProxyID() {
+        this.connectionLock.lock();
+        try {
+            return this.connectionGroupProxyID;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized String getCurrentActiveHost() {
-        JdbcConnection c = this.currentConnection;
-        if (c != null) {
-            Object o = this.connectionsToHostsMap.get(c);
-            if (o != null) {
-                return o.toString();
+    public String getCurrentActiveHost() {
+        this.connectionLock.lock();
+        try {
+            JdbcConnection c = this.currentConnection;
+            if (c != null) {
+                Object o = this.connectionsToHostsMap.get(c);
+                if (o != null) {
+                    return o.toString();
+                }
             }
+            return null;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return null;
     }
 
-    public synchronized long getCurrentTransactionDuration() {
-        if (this.inTransaction && this.transactionStartTime > 0) {
-            return System.nanoTime() - this.transactionStartTime;
+    public long getCurrentTransactionDuration() {
+        this.connectionLock.lock();
+        try {
+            if (this.inTransaction && this.transactionStartTime > 0) {
+                return System.nanoTime() - this.transactionStartTime;
+            }
+            return 0;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return 0;
     }
 
     /**
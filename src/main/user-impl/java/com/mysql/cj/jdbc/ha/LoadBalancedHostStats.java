@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Transaction statistics of a load-balanced host, shared by all the load-balanced connections to it in this JVM and updated without locking by
+ * {@link LoadBalancedConnectionProxy}:
+ * <ul>
+ * <li>a peak-sensitive, exponentially weighted moving average of the transaction times, which jumps up to slower samples and decays with time,</li>
+ * <li>the number of transactions currently in flight,</li>
+ * <li>the error rate and the 99th percentile, within 1/8, of the transaction times over the last few seconds, that {@link LatencyAwareBalanceStrategy} ejects hosts
+ * on.</li>
+ * </ul>
+ */
+public class LoadBalancedHostStats {
+    private static final ConcurrentMap<String, LoadBalancedHostStats> HOST_STATS = new ConcurrentHashMap<>();
+
+    /** Time for the weight of a transaction time in the moving average to fall to 1/e. */
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    /** Length of the windows the error rate and latency percentile are computed over. */
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    /** Transactions needed in a window before it tells anything about the host. */
+    static final int MIN_WINDOW_SAMPLES = 20;
+
+    private final String hostPortPair;
+
+    private final AtomicLong averageNanos = new AtomicLong(Double.doubleToRawLongBits(0));
+    private volatile long lastSampleTime = System.nanoTime();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong transactions = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private volatile long windowStart = System.nanoTime();
+    private final AtomicLong windowTransactions = new AtomicLong();
+    private final AtomicLong windowErrors = new AtomicLong();
+    /** Log-linear histogram buckets per power of two, see {@link #bucketOf(long)}. */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray windowHistogram = new AtomicLongArray(bucketOf(Integer.MAX_VALUE) + 1);
+
+    private volatile long ejectedUntil;
+    private final AtomicBoolean ejected = new AtomicBoolean();
+    private final AtomicLong ejections = new AtomicLong();
+
+    /**
+     * Returns the statistics of the given host, creating them if needed.
+     * 
+     * @param hostPortPair
+     *            host in "host:port" form
+     * @return {@link LoadBalancedHostStats}
+     */
+    public static LoadBalancedHostStats forHost(String hostPortPair) {
+        LoadBalancedHostStats stats = HOST_STATS.get(hostPortPair);
+        return stats != null ? stats : HOST_STATS.computeIfAbsent(hostPortPair, LoadBalancedHostStats::new);
+    }
+
+    /**
+     * Returns the statistics of the given host, if any transaction was ever run on it.
+     * 
+     * @param hostPortPair
+     *            host in "host:port" form
+     * @return {@link LoadBalancedHostStats} or null
+     */
+    public static LoadBalancedHostStats getIfPresent(String hostPortPair) {
+        return HOST_STATS.get(hostPortPair);
+    }
+
+    private LoadBalancedHostStats(String hostPortPair) {
+        this.hostPortPair = hostPortPair;
+    }
+
+    public String getHostPortPair() {
+        return this.hostPortPair;
+    }
+
+    void transactionStarted() {
+        this.inFlight.incrementAndGet();
+    }
+
+    void transactionAbandoned() {
+        this.inFlight.decrementAndGet();
+    }
+
+    /**
+     * Records the end of a transaction started with {@link #transactionStarted()}.
+     * 
+     * @param nanos
+     *            how long the transaction took
+     * @param failed
+     *            whether the transaction ended with an error that made the connection switch hosts
+     */
+    void transactionEnded(long nanos, boolean failed) {
+        this.inFlight.decrementAndGet();
+        this.transactions.incrementAndGet();
+        if (failed) {
+            this.errors.incrementAndGet();
+        }
+
+        long now = System.nanoTime();
+        long elapsed = now - this.lastSampleTime;
+        this.lastSampleTime = now;
+        double weight = Math.exp(-Math.max(elapsed, 0) / DECAY_NANOS);
+        long prev;
+        long next;
+        do {
+            prev = this.averageNanos.get();
+            double average = Double.longBitsToDouble(prev);
+            next = Double.doubleToRawLongBits(nanos > average ? nanos : average * weight + nanos * (1 - weight));
+        } while (!this.averageNanos.compareAndSet(prev, next));
+
+        if (now - this.windowStart > WINDOW_NANOS) {
+            // stale counts from the previous window may be lost or kept by concurrent updates, that's good enough for a health estimate
+            this.windowStart = now;
+            resetWindow();
+        }
+        this.windowTransactions.incrementAndGet();
+        if (failed) {
+            this.windowErrors.incrementAndGet();
+        }
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), Integer.MAX_VALUE);
+        this.windowHistogram.incrementAndGet(bucketOf(micros));
+    }
+
+    /**
+     * Returns the histogram bucket of a transaction time. Times below {@link #SUB_BUCKETS} microseconds have a bucket each, and every power of two above is
+     * split in {@link #SUB_BUCKETS} buckets of equal width, so a bucket is never wider than 1/8 of its lower edge.
+     * 
+     * @param micros
+     *            transaction time in microseconds, at least 1
+     * @return bucket index
+     */
+    static int bucketOf(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent < SUB_BUCKET_BITS) {
+            return (int) micros;
+        }
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) (micros >>> (exponent - SUB_BUCKET_BITS) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the lowest transaction time of a histogram bucket, the inverse of {@link #bucketOf(long)}.
+     * 
+     * @param bucket
+     *            bucket index
+     * @return lower edge of the bucket in microseconds
+     */
+    static long lowerEdgeOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private void resetWindow() {
+        this.windowTransactions.set(0);
+        this.windowErrors.set(0);
+        for (int i = 0; i < this.windowHistogram.length(); i++) {
+            this.windowHistogram.set(i, 0);
+        }
+    }
+
+    /**
+     * Checks whether this host is ejected, ejecting it first if the current window has enough transactions and its error rate or 99th percentile is above
+     * the given limits.
+     * 
+     * @param maxErrorRate
+     *            maximum ratio of failed transactions, from 0 to 1
+     * @param maxP99Nanos
+     *            maximum 99th percentile of the transaction times, or 0 for no limit
+     * @param ejectionNanos
+     *            how long a host that went over the limits is ejected for
+     * @return true if the host should not be picked
+     */
+    boolean checkEjected(double maxErrorRate, long maxP99Nanos, long ejectionNanos) {
+        long now = System.nanoTime();
+        if (this.ejected.get()) {
+            if (now - this.ejectedUntil < 0) {
+                return true;
+            }
+            this.ejected.compareAndSet(true, false);
+        }
+
+        long total = this.windowTransactions.get();
+        if (total >= MIN_WINDOW_SAMPLES
+                && ((double) this.windowErrors.get() / total > maxErrorRate || maxP99Nanos > 0 && getP99Nanos() > maxP99Nanos)) {
+            this.ejectedUntil = now + ejectionNanos;
+            if (this.ejected.compareAndSet(false, true)) {
+                this.ejections.incrementAndGet();
+                // the host comes back with a clean slate
+                this.windowStart = now;
+                resetWindow();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isEjected() {
+        return this.ejected.get() && System.nanoTime() - this.ejectedUntil < 0;
+    }
+
+    /**
+     * Returns the cost of sending a new transaction to this host, the moving average of its transaction times scaled by the transactions already in flight.
+     * Hosts without statistics cost nothing, so that they get tried.
+     * 
+     * @return cost
+     */
+    double getCost() {
+        return Double.longBitsToDouble(this.averageNanos.get()) * (Math.max(this.inFlight.get(), 0) + 1);
+    }
+
+    public long getAverageNanos() {
+        return (long) Double.longBitsToDouble(this.averageNanos.get());
+    }
+
+    public int getInFlightCount() {
+        return this.inFlight.get();
+    }
+
+    public long getTransactionCount() {
+        return this.transactions.get();
+    }
+
+    public long getErrorCount() {
+        return this.errors.get();
+    }
+
+    public long getEjectionCount() {
+        return this.ejections.get();
+    }
+
+    /**
+     * Returns the ratio of failed transactions in the current window.
+     * 
+     * @return error rate, from 0 to 1
+     */
+    public double getErrorRate() {
+        long total = this.windowTransactions.get();
+        return total == 0 ? 0 : (double) this.windowErrors.get() / total;
+    }
+
+    /**
+     * Returns the 99th percentile of the transaction times in the current window, rounded down to the lower edge of its histogram bucket, so that a host
+     * is never ejected for a percentile that may be under the limit.
+     * 
+     * @return 99th percentile in nanoseconds, 0 if there were no transactions
+     */
+    public long getP99Nanos() {
+        long total = 0;
+        for (int i = 0; i < this.windowHistogram.length(); i++) {
+            total += this.windowHistogram.get(i);
+        }
+        long above = 0;
+        for (int i = this.windowHistogram.length() - 1; i >= 0; i--) {
+            above += this.windowHistogram.get(i);
+            if (above * 100 > total) {
+                return TimeUnit.MICROSECONDS.toNanos(lowerEdgeOf(i));
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(this.hostPortPair);
+        sb.append("(average=").append(TimeUnit.NANOSECONDS.toMicros(getAverageNanos())).append("us");
+        sb.append(",p99=").append(TimeUnit.NANOSECONDS.toMicros(getP99Nanos())).append("us");
+        sb.append(",inFlight=").append(getInFlightCount());
+        sb.append(",transactions=").append(getTransactionCount());
+        sb.append(",errors=").append(getErrorCount());
+        sb.append(",ejections=").append(getEjectionCount());
+        if (isEjected()) {
+            sb.append(",ejected");
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -38,6 +38,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.HostInfo;
@@ -76,6 +78,9 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
 
     JdbcConnection currentConnection = null;
 
+    /** Serializes the use of this connection and of its underlying physical connections, see {@link JdbcConnection#getConnectionLock()}. */
+    final Lock connectionLock = new ReentrantLock();
+
     boolean isClosed = false;
     boolean closedExplicitly = false;
     String closedReason = null;
@@ -100,21 +105,41 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
                 return args[0].equals(this);
             }
 
-            synchronized (MultiHostConnectionProxy.this) {
+            boolean isExecute = method.getName().startsWith("execute");
+
+            MultiHostConnectionProxy.this.connectionLock.lock();
+            try {
                 Object result = null;
 
                 try {
+                    if (isExecute) {
+                        jdbcInterfaceExecuteBegins();
+                    }
                     result = method.invoke(this.invokeOn, args);
                     result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
+                    if (isExecute) {
+                        jdbcInterfaceExecuteEnds();
+                    }
                 } catch (InvocationTargetException e) {
                     dealWithInvocationException(e);
                 }
 
                 return result;
+            } finally {
+                MultiHostConnectionProxy.this.connectionLock.unlock();
             }
         }
     }
 
+    /**
+     * Returns the lock shared by this connection and its underlying physical connections.
+     * 
+     * @return {@link Lock}
+     */
+    public Lock getConnectionLock() {
+        return this.connectionLock;
+    }
+
     /**
      * Initializes a connection wrapper for this MultiHostConnectionProxy instance.
      * 
@@ -224,6 +249,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
 
     /**
      * If the given return type is or implements a JDBC interface, proxies the given object so that we can catch SQL errors and fire a connection switch.
+     * Statements and result sets get a generated {@link JdbcInterfaceDelegate}, anything else a dynamic proxy.
      * 
      * @param returnType
      *            The type the object instance to proxy is supposed to be.
@@ -235,6 +261,10 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     Object proxyIfReturnTypeIsJdbcInterface(Class<?> returnType, Object toProxy) {
         if (toProxy != null) {
             if (Util.isJdbcInterface(returnType)) {
+                Object delegate = JdbcInterfaceDelegate.newInstance(this, toProxy);
+                if (delegate != null) {
+                    return delegate;
+                }
                 Class<?> toProxyClass = toProxy.getClass();
                 return Proxy.newProxyInstance(toProxyClass.getClassLoader(), Util.getImplementedInterfaces(toProxyClass), getNewJdbcInterfaceProxy(toProxy));
             }
@@ -254,6 +284,19 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
         return new JdbcInterfaceProxy(toProxy);
     }
 
+    /**
+     * Called, holding the connection lock, before an "execute*" method is invoked on an object bound to the current connection. Subclasses can override this
+     * to keep track of the queries issued.
+     */
+    void jdbcInterfaceExecuteBegins() {
+    }
+
+    /**
+     * Called, holding the connection lock, after an "execute*" method invoked on an object bound to the current connection returned normally.
+     */
+    void jdbcInterfaceExecuteEnds() {
+    }
+
     /**
      * Deals with InvocationException from proxied objects.
      * 
@@ -270,16 +313,32 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
         Throwable t = e.getTargetException();
 
         if (t != null) {
-            if (this.lastExceptionDealtWith != t && shouldExceptionTriggerConnectionSwitch(t)) {
-                invalidateCurrentConnection();
-                pickNewConnection();
-                this.lastExceptionDealtWith = t;
-            }
-            throw t;
+            throw dealWithException(t);
         }
         throw e;
     }
 
+    /**
+     * Deals with an exception thrown by an object bound to the current connection, switching to a new connection if needed.
+     * 
+     * @param t
+     *            The exception thrown.
+     * @param <T>
+     *            exception type
+     * @return
+     *         The given exception, for the caller to rethrow.
+     * @throws SQLException
+     *             if switching to a new connection fails
+     */
+    <T extends Throwable> T dealWithException(T t) throws SQLException {
+        if (this.lastExceptionDealtWith != t && shouldExceptionTriggerConnectionSwitch(t)) {
+            invalidateCurrentConnection();
+            pickNewConnection();
+            this.lastExceptionDealtWith = t;
+        }
+        return t;
+    }
+
     /**
      * Checks if the given throwable should trigger a connection switch.
      * 
@@ -313,8 +372,13 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
      * @throws SQLException
      *             if an error occurs
      */
-    synchronized void invalidateCurrentConnection() throws SQLException {
-        invalidateConnection(this.currentConnection);
+    void invalidateCurrentConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            invalidateConnection(this.currentConnection);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -325,13 +389,18 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
      * @throws SQLException
      *             if an error occurs
      */
-    synchronized void invalidateConnection(JdbcConnection conn) throws SQLException {
+    void invalidateConnection(JdbcConnection conn) throws SQLException {
+        this.connectionLock.lock();
         try {
-            if (conn != null && !conn.isClosed()) {
-                conn.realClose(true, !conn.getAutoCommit(), true, null);
+            try {
+                if (conn != null && !conn.isClosed()) {
+                    conn.realClose(true, !conn.getAutoCommit(), true, null);
+                }
+            } catch (SQLException e) {
+                // swallow this exception, current connection should be useless anyway.
             }
-        } catch (SQLException e) {
-            // swallow this exception, current connection should be useless anyway.
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -353,14 +422,19 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
      * @throws SQLException
      *             if an error occurs
      */
-    synchronized ConnectionImpl createConnectionForHost(HostInfo hostInfo) throws SQLException {
-        ConnectionImpl conn = (ConnectionImpl) ConnectionImpl.getInstance(hostInfo);
-        JdbcConnection topmostProxy = getProxy();
-        if (topmostProxy != this.thisAsConnection) {
-            conn.setProxy(this.thisAsConnection); // First call sets this connection as underlying connection parent proxy (its creator).
+    ConnectionImpl createConnectionForHost(HostInfo hostInfo) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            ConnectionImpl conn = (ConnectionImpl) ConnectionImpl.getInstance(hostInfo);
+            JdbcConnection topmostProxy = getProxy();
+            if (topmostProxy != this.thisAsConnection) {
+                conn.setProxy(this.thisAsConnection); // First call sets this connection as underlying connection parent proxy (its creator).
+            }
+            conn.setProxy(topmostProxy); // Set the topmost proxy in the underlying connection.
+            return conn;
+        } finally {
+            this.connectionLock.unlock();
         }
-        conn.setProxy(topmostProxy); // Set the topmost proxy in the underlying connection.
-        return conn;
     }
 
     /**
@@ -482,7 +556,8 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
             return method.invoke(this, args);
         }
 
-        synchronized (this) {
+        this.connectionLock.lock();
+        try {
             if (METHOD_CLOSE.equals(methodName)) {
                 doClose();
                 this.isClosed = true;
@@ -524,6 +599,8 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
                 }
                 throw new IllegalStateException(e.getMessage(), e);
             }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
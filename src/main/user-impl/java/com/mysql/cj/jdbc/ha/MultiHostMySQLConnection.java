@@ -45,7 +45,9 @@ import java.sql.Struct;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.ServerVersion;
@@ -53,10 +55,12 @@ import com.mysql.cj.Session;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.jdbc.BulkLoader;
 import com.mysql.cj.jdbc.ClientInfoProvider;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.JdbcPreparedStatement;
 import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.Pipeline;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
@@ -94,8 +98,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
 
     @Override
     public JdbcConnection getActiveMySQLConnection() {
-        synchronized (this.thisAsProxy) {
+        this.thisAsProxy.connectionLock.lock();
+        try {
             return this.thisAsProxy.currentConnection;
+        } finally {
+            this.thisAsProxy.connectionLock.unlock();
         }
     }
 
@@ -451,6 +458,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         getActiveMySQLConnection().resetServerState();
     }
 
+    @Override
+    public void resetSession() throws SQLException {
+        getActiveMySQLConnection().resetSession();
+    }
+
     @Override
     public void rollback() throws SQLException {
         getActiveMySQLConnection().rollback();
@@ -506,6 +518,26 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         return getActiveMySQLConnection().getDatabase();
     }
 
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(String sql, Executor executor) {
+        return getActiveMySQLConnection().executeQueryAsync(sql, executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> executeUpdateAsync(String sql, Executor executor) {
+        return getActiveMySQLConnection().executeUpdateAsync(sql, executor);
+    }
+
+    @Override
+    public BulkLoader createBulkLoader(String table, String[] columns, Executor executor) throws SQLException {
+        return getActiveMySQLConnection().createBulkLoader(table, columns, executor);
+    }
+
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        return getActiveMySQLConnection().createPipeline();
+    }
+
     @Override
     public void setCatalog(String catalog) throws SQLException {
         getActiveMySQLConnection().setCatalog(catalog);
@@ -646,6 +678,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         return getActiveMySQLConnection().getConnectionMutex();
     }
 
+    @Override
+    public Lock getConnectionLock() {
+        return getActiveMySQLConnection().getConnectionLock();
+    }
+
     @Override
     public int getSessionMaxRows() {
         return getActiveMySQLConnection().getSessionMaxRows();
@@ -730,8 +767,12 @@ public class MultiHostMySQLConnection implements JdbcConnection {
 
     @Override
     public ClientInfoProvider getClientInfoProviderImpl() throws SQLException {
-        synchronized (getThisAsProxy()) {
+        Lock connectionLock = getThisAsProxy().getConnectionLock();
+        connectionLock.lock();
+        try {
             return getActiveMySQLConnection().getClientInfoProviderImpl();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
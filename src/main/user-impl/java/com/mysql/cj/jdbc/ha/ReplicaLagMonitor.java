@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.ServerVersion;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+
+/**
+ * Probes the replication lag of a replica host in the background, with "SHOW REPLICA STATUS" (or "SHOW SLAVE STATUS" before MySQL 8.0.22) or with a
+ * user-provided query returning the lag in seconds, e.g. from a heartbeat table. Monitors are shared by all the replication connections to the same host, as
+ * the same user, with the same query; the first one to acquire a monitor sets its probe interval. A monitor runs while it is acquired by a connection.
+ */
+class ReplicaLagMonitor implements Runnable {
+    /** Staleness of replicas that can't be probed or aren't replicating. */
+    static final long UNKNOWN = Long.MAX_VALUE;
+
+    /** Socket timeout of the probe sessions, so that a stuck replica doesn't hold up the probes of the others. */
+    private static final int PROBE_TIMEOUT_MILLIS = 10000;
+
+    /** Running monitors, guarded by itself. */
+    private static final Map<String, ReplicaLagMonitor> MONITORS = new HashMap<>();
+    private static ScheduledThreadPoolExecutor executor = null;
+
+    private final String key;
+    private final HostInfo hostInfo;
+    private final String lagQuery;
+    private final long intervalMillis;
+    private int references = 0;
+    private ScheduledFuture<?> task;
+
+    /** Session the probes run in, only used by the probe task. */
+    private JdbcConnection connection = null;
+    private volatile long lagMillis = UNKNOWN;
+    private volatile long probedAt;
+
+    /**
+     * Returns the running monitor of the given replica, starting one if needed. Each call must be paired with a call to {@link #release()}.
+     * 
+     * @param hostInfo
+     *            the replica host
+     * @param lagQuery
+     *            query returning the replication lag in seconds, or null to use the replica status
+     * @param intervalMillis
+     *            time between probes, in milliseconds
+     * @return {@link ReplicaLagMonitor}
+     */
+    static ReplicaLagMonitor acquire(HostInfo hostInfo, String lagQuery, int intervalMillis) {
+        String key = hostInfo.getHostPortPair() + '\0' + hostInfo.getUser() + '\0' + lagQuery;
+        synchronized (MONITORS) {
+            ReplicaLagMonitor monitor = MONITORS.get(key);
+            if (monitor == null) {
+                if (executor == null) {
+                    executor = new ScheduledThreadPoolExecutor(1, r -> {
+                        Thread t = new Thread(r, "MySQL Replica Lag Monitor");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                    executor.setRemoveOnCancelPolicy(true);
+                }
+                monitor = new ReplicaLagMonitor(key, hostInfo, lagQuery, intervalMillis);
+                monitor.task = executor.scheduleWithFixedDelay(monitor, 0, intervalMillis, TimeUnit.MILLISECONDS);
+                MONITORS.put(key, monitor);
+            }
+            monitor.references++;
+            return monitor;
+        }
+    }
+
+    private ReplicaLagMonitor(String key, HostInfo hostInfo, String lagQuery, int intervalMillis) {
+        this.key = key;
+        this.hostInfo = hostInfo;
+        this.lagQuery = lagQuery;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Releases this monitor, stopping it if no other connection uses it. The probe thread is stopped along with the last monitor.
+     */
+    void release() {
+        synchronized (MONITORS) {
+            if (--this.references > 0) {
+                return;
+            }
+            MONITORS.remove(this.key);
+            this.task.cancel(false);
+            // the session is closed by the executor thread, after the probe in progress if any
+            executor.execute(this::closeConnection);
+            if (MONITORS.isEmpty()) {
+                // the thread ends once the sessions are closed, a new executor is created for the next monitor
+                executor.shutdown();
+                executor = null;
+            }
+        }
+    }
+
+    String getHostPortPair() {
+        return this.hostInfo.getHostPortPair();
+    }
+
+    /**
+     * Returns an upper bound of how far behind its source this replica is: the lag found by the last probe plus the time elapsed since.
+     * 
+     * @return staleness in milliseconds, or {@link #UNKNOWN} if the replica isn't replicating, couldn't be probed or wasn't probed for a while
+     */
+    long getStalenessMillis() {
+        long lag = this.lagMillis;
+        if (lag == UNKNOWN) {
+            return UNKNOWN;
+        }
+        long age = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.probedAt);
+        return age > 3 * this.intervalMillis + PROBE_TIMEOUT_MILLIS ? UNKNOWN : lag + age;
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (this.connection == null || this.connection.isClosed()) {
+                this.connection = ConnectionImpl.getInstance(this.hostInfo);
+                this.connection.setNetworkTimeout(Runnable::run, PROBE_TIMEOUT_MILLIS);
+            }
+            long lag = UNKNOWN;
+            long probeTime = System.nanoTime();
+            if (this.lagQuery != null) {
+                try (Statement stmt = this.connection.createStatement(); ResultSet rs = stmt.executeQuery(this.lagQuery)) {
+                    if (rs.next()) {
+                        double seconds = rs.getDouble(1);
+                        if (!rs.wasNull()) {
+                            lag = (long) Math.ceil(Math.max(seconds, 0) * 1000);
+                        }
+                    }
+                }
+            } else {
+                boolean useReplica = this.connection.getServerVersion().meetsMinimum(new ServerVersion(8, 0, 22));
+                try (Statement stmt = this.connection.createStatement();
+                        ResultSet rs = stmt.executeQuery(useReplica ? "SHOW REPLICA STATUS" : "SHOW SLAVE STATUS")) {
+                    // no row: not a replica, NULL: replication stopped
+                    if (rs.next()) {
+                        long seconds = rs.getLong(useReplica ? "Seconds_Behind_Source" : "Seconds_Behind_Master");
+                        if (!rs.wasNull()) {
+                            lag = seconds * 1000;
+                        }
+                    }
+                }
+            }
+            this.probedAt = probeTime;
+            this.lagMillis = lag;
+        } catch (SQLException | RuntimeException e) {
+            this.lagMillis = UNKNOWN;
+            closeConnection();
+        }
+    }
+
+    private void closeConnection() {
+        if (this.connection != null) {
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                // ignore
+            }
+            this.connection = null;
+        }
+    }
+}
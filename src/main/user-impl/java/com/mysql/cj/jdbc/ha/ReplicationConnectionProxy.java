@@ -36,7 +36,9 @@ import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
 import com.mysql.cj.Messages;
@@ -75,6 +77,14 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
 
     private List<HostInfo> replicaHosts;
     protected LoadBalancedConnection replicasConnection;
+    private LoadBalancedConnectionProxy replicasConnectionProxy;
+
+    private int replicaLagProbeInterval = 0;
+    private String replicaLagQuery = null;
+    private int replicaMaxStaleness = 0;
+    private Map<String, ReplicaLagMonitor> replicaLagMonitors = new ConcurrentHashMap<>();
+    // set while reads go to the sources connection because no replica is fresh enough
+    private boolean readFromSourceForStaleness = false;
 
     /**
      * Static factory to create {@link ReplicationConnection} instances.
@@ -143,6 +153,25 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                     new Object[] { readFromSourceWhenNoReplicasAsString }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
         }
 
+        String replicaLagProbeIntervalAsString = props.getProperty(PropertyKey.replicaLagProbeInterval.getKeyName(), "0");
+        try {
+            this.replicaLagProbeInterval = Integer.parseInt(replicaLagProbeIntervalAsString);
+        } catch (NumberFormatException e) {
+            throw SQLError.createSQLException(Messages.getString("ReplicationConnectionProxy.badValueForReplicaLagProbeInterval",
+                    new Object[] { replicaLagProbeIntervalAsString }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
+        }
+
+        String replicaMaxStalenessAsString = props.getProperty(PropertyKey.replicaMaxStaleness.getKeyName(), "0");
+        try {
+            this.replicaMaxStaleness = Integer.parseInt(replicaMaxStalenessAsString);
+        } catch (NumberFormatException e) {
+            throw SQLError.createSQLException(Messages.getString("ReplicationConnectionProxy.badValueForReplicaMaxStaleness",
+                    new Object[] { replicaMaxStalenessAsString }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
+        }
+
+        String lagQuery = props.getProperty(PropertyKey.replicaLagQuery.getKeyName());
+        this.replicaLagQuery = isNullOrEmpty(lagQuery) ? null : lagQuery;
+
         String group = props.getProperty(PropertyKey.replicationConnectionGroup.getKeyName(), null);
         if (!isNullOrEmpty(group) && ReplicationConnectionUrl.class.isAssignableFrom(connectionUrl.getClass())) {
             this.connectionGroup = ReplicationConnectionGroupManager.getConnectionGroupInstance(group);
@@ -162,11 +191,14 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
 
         resetReadFromSourceWhenNoReplicas();
 
+        this.replicaHosts.forEach(this::startReplicaLagMonitor);
+
         // Initialize replicas connection first so that it is ready to be used in case the sources connection fails and 'allowSourceDownConnections=true'.
         try {
             initializeReplicasConnection();
         } catch (SQLException e) {
             if (!this.allowReplicaDownConnections) {
+                stopReplicaLagMonitors();
                 if (this.connectionGroup != null) {
                     this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
                 }
@@ -187,6 +219,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                 this.readOnly = true;
                 this.currentConnection = this.replicasConnection;
             } else {
+                stopReplicaLagMonitors();
                 if (this.connectionGroup != null) {
                     this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
                 }
@@ -292,6 +325,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         if (this.replicasConnection != null) {
             this.replicasConnection.close();
         }
+        stopReplicaLagMonitors();
 
         if (this.connectionGroup != null) {
             this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
@@ -302,6 +336,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
     void doAbortInternal() throws SQLException {
         this.sourceConnection.abortInternal();
         this.replicasConnection.abortInternal();
+        stopReplicaLagMonitors();
         if (this.connectionGroup != null) {
             this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
         }
@@ -311,6 +346,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
     void doAbort(Executor executor) throws SQLException {
         this.sourceConnection.abort(executor);
         this.replicasConnection.abort(executor);
+        stopReplicaLagMonitors();
         if (this.connectionGroup != null) {
             this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
         }
@@ -331,6 +367,9 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                 if (result != null && result instanceof JdbcStatement) {
                     ((JdbcStatement) result).setPingTarget(this);
                 }
+                if ("commit".equals(method.getName()) || "rollback".equals(method.getName())) {
+                    rerouteReadsIfNecessary();
+                }
                 return result;
             } catch (InvocationTargetException e) {
                 if (invokeAgain) {
@@ -449,54 +488,145 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
 
     private JdbcConnection initializeReplicasConnection() throws SQLException {
         this.replicasConnection = null;
+        this.replicasConnectionProxy = null;
 
         if (this.replicaHosts.size() == 0) {
             return null;
         }
 
-        LoadBalancedConnection newReplicasConn = LoadBalancedConnectionProxy
-                .createProxyInstance(new LoadBalanceConnectionUrl(this.replicaHosts, this.connectionUrl.getOriginalProperties()));
+        LoadBalancedConnectionProxy newReplicasConnProxy = new LoadBalancedConnectionProxy(
+                new LoadBalanceConnectionUrl(this.replicaHosts, this.connectionUrl.getOriginalProperties()));
+        if (this.replicaLagProbeInterval > 0) {
+            newReplicasConnProxy.setHostFilter(this::isReplicaFreshEnough);
+        }
+        LoadBalancedConnection newReplicasConn = LoadBalancedConnectionProxy.createProxyInstance(newReplicasConnProxy);
         newReplicasConn.setProxy(getProxy());
         newReplicasConn.setReadOnly(true);
 
         this.replicasConnection = newReplicasConn;
+        this.replicasConnectionProxy = newReplicasConnProxy;
         return this.replicasConnection;
     }
 
-    private synchronized boolean switchToSourceConnection() throws SQLException {
-        if (this.sourceConnection == null || this.sourceConnection.isClosed()) {
-            try {
-                if (initializeSourceConnection() == null) {
-                    return false;
-                }
-            } catch (SQLException e) {
-                this.currentConnection = null;
-                throw e;
-            }
+    private void startReplicaLagMonitor(HostInfo host) {
+        if (this.replicaLagProbeInterval > 0) {
+            this.replicaLagMonitors.computeIfAbsent(host.getHostPortPair(),
+                    k -> ReplicaLagMonitor.acquire(host, this.replicaLagQuery, this.replicaLagProbeInterval));
         }
-        if (!isSourceConnection() && this.sourceConnection != null) {
-            syncSessionState(this.currentConnection, this.sourceConnection, false);
-            this.currentConnection = this.sourceConnection;
+    }
+
+    private void stopReplicaLagMonitor(String hostPortPair) {
+        ReplicaLagMonitor monitor = this.replicaLagMonitors.remove(hostPortPair);
+        if (monitor != null) {
+            monitor.release();
         }
-        return true;
     }
 
-    private synchronized boolean switchToReplicasConnection() throws SQLException {
-        if (this.replicasConnection == null || this.replicasConnection.isClosed()) {
-            try {
-                if (initializeReplicasConnection() == null) {
-                    return false;
+    private void stopReplicaLagMonitors() {
+        new ArrayList<>(this.replicaLagMonitors.keySet()).forEach(this::stopReplicaLagMonitor);
+    }
+
+    /**
+     * Checks if the given replica is known to be within the current staleness bound. Always true if there is no bound.
+     * 
+     * @param hostPortPair
+     *            host:port
+     * @return true if reads can go to this replica
+     */
+    private boolean isReplicaFreshEnough(String hostPortPair) {
+        if (this.replicaLagProbeInterval <= 0 || this.replicaMaxStaleness <= 0) {
+            return true;
+        }
+        ReplicaLagMonitor monitor = this.replicaLagMonitors.get(hostPortPair);
+        return monitor != null && monitor.getStalenessMillis() <= this.replicaMaxStaleness;
+    }
+
+    /**
+     * Makes the replicas connection move away from a replica that went over the current staleness bound, if there is a fresher one.
+     * 
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private void pickFreshReplicaIfNecessary() throws SQLException {
+        if (this.replicasConnectionProxy == null || !isReplicasConnection()) {
+            return;
+        }
+        String currentHost = this.replicasConnectionProxy.getCurrentActiveHost();
+        if (currentHost != null && !isReplicaFreshEnough(currentHost)) {
+            this.replicasConnectionProxy.pickNewConnection();
+        }
+    }
+
+    /**
+     * Re-evaluates, at a transaction boundary, where read-only work goes under the staleness bound: to the sources connection once no replica is fresh
+     * enough anymore, back to the replicas connection once one is. The replicas connection itself moves to a fresh replica when it rebalances.
+     * 
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private void rerouteReadsIfNecessary() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (!this.readOnly || this.replicaLagProbeInterval <= 0 || this.replicaMaxStaleness <= 0) {
+                return;
+            }
+            boolean fresh = hasReplicaFreshEnough();
+            if (isSourceConnection() ? this.readFromSourceForStaleness && fresh : !fresh) {
+                setReadOnly(true);
+            }
+        } finally {
+            this.connectionLock.unlock();
+        }
+    }
+
+    private boolean hasReplicaFreshEnough() {
+        return this.replicaLagProbeInterval <= 0 || this.replicaMaxStaleness <= 0 || this.replicaHosts.stream().anyMatch(hi -> isReplicaFreshEnough(hi.getHostPortPair()));
+    }
+
+    private boolean switchToSourceConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.sourceConnection == null || this.sourceConnection.isClosed()) {
+                try {
+                    if (initializeSourceConnection() == null) {
+                        return false;
+                    }
+                } catch (SQLException e) {
+                    this.currentConnection = null;
+                    throw e;
                 }
-            } catch (SQLException e) {
-                this.currentConnection = null;
-                throw e;
             }
+            if (!isSourceConnection() && this.sourceConnection != null) {
+                syncSessionState(this.currentConnection, this.sourceConnection, false);
+                this.currentConnection = this.sourceConnection;
+            }
+            return true;
+        } finally {
+            this.connectionLock.unlock();
         }
-        if (!isReplicasConnection() && this.replicasConnection != null) {
-            syncSessionState(this.currentConnection, this.replicasConnection, true);
-            this.currentConnection = this.replicasConnection;
+    }
+
+    private boolean switchToReplicasConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.replicasConnection == null || this.replicasConnection.isClosed()) {
+                try {
+                    if (initializeReplicasConnection() == null) {
+                        return false;
+                    }
+                } catch (SQLException e) {
+                    this.currentConnection = null;
+                    throw e;
+                }
+            }
+            if (!isReplicasConnection() && this.replicasConnection != null) {
+                syncSessionState(this.currentConnection, this.replicasConnection, true);
+                this.currentConnection = this.replicasConnection;
+            }
+            return true;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return true;
     }
 
     private boolean switchToReplicasConnectionIfNecessary() throws SQLException {
@@ -512,16 +642,26 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return false;
     }
 
-    public synchronized JdbcConnection getCurrentConnection() {
-        return this.currentConnection == null ? LoadBalancedConnectionProxy.getNullLoadBalancedConnectionInstance() : this.currentConnection;
+    public JdbcConnection getCurrentConnection() {
+        this.connectionLock.lock();
+        try {
+            return this.currentConnection == null ? LoadBalancedConnectionProxy.getNullLoadBalancedConnectionInstance() : this.currentConnection;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     public long getConnectionGroupId() {
         return this.connectionGroupID;
     }
 
-    public synchronized JdbcConnection getSourceConnection() {
-        return this.sourceConnection;
+    public JdbcConnection getSourceConnection() {
+        this.connectionLock.lock();
+        try {
+            return this.sourceConnection;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -531,24 +671,34 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized JdbcConnection getMasterConnection() {
-        return getSourceConnection();
+    public JdbcConnection getMasterConnection() {
+        this.connectionLock.lock();
+        try {
+            return getSourceConnection();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void promoteReplicaToSource(String hostPortPair) throws SQLException {
-        HostInfo host = getReplicaHost(hostPortPair);
-        if (host == null) {
-            return;
-        }
-        this.sourceHosts.add(host);
-        removeReplica(hostPortPair);
-        if (this.sourceConnection != null) {
-            this.sourceConnection.addHost(hostPortPair);
-        }
+    public void promoteReplicaToSource(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            HostInfo host = getReplicaHost(hostPortPair);
+            if (host == null) {
+                return;
+            }
+            this.sourceHosts.add(host);
+            removeReplica(hostPortPair);
+            if (this.sourceConnection != null) {
+                this.sourceConnection.addHost(hostPortPair);
+            }
 
-        // Switch back to the sources connection if this connection was running in fail-safe mode.
-        if (!this.readOnly && !isSourceConnection()) {
-            switchToSourceConnection();
+            // Switch back to the sources connection if this connection was running in fail-safe mode.
+            if (!this.readOnly && !isSourceConnection()) {
+                switchToSourceConnection();
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -561,12 +711,22 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void promoteSlaveToMaster(String hostPortPair) throws SQLException {
-        promoteReplicaToSource(hostPortPair);
+    public void promoteSlaveToMaster(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            promoteReplicaToSource(hostPortPair);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeSourceHost(String hostPortPair) throws SQLException {
-        this.removeSourceHost(hostPortPair, true);
+    public void removeSourceHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.removeSourceHost(hostPortPair, true);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -578,12 +738,22 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void removeMasterHost(String hostPortPair) throws SQLException {
-        removeSourceHost(hostPortPair);
+    public void removeMasterHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeSourceHost(hostPortPair);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeSourceHost(String hostPortPair, boolean waitUntilNotInUse) throws SQLException {
-        this.removeSourceHost(hostPortPair, waitUntilNotInUse, false);
+    public void removeSourceHost(String hostPortPair, boolean waitUntilNotInUse) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.removeSourceHost(hostPortPair, waitUntilNotInUse, false);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -597,40 +767,50 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse) throws SQLException {
-        removeSourceHost(hostPortPair, waitUntilNotInUse);
+    public void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeSourceHost(hostPortPair, waitUntilNotInUse);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeSourceHost(String hostPortPair, boolean waitUntilNotInUse, boolean isNowReplica) throws SQLException {
-        HostInfo host = getSourceHost(hostPortPair);
-        if (host == null) {
-            return;
-        }
-        if (isNowReplica) {
-            this.replicaHosts.add(host);
-            resetReadFromSourceWhenNoReplicas();
-        }
-        this.sourceHosts.remove(host);
+    public void removeSourceHost(String hostPortPair, boolean waitUntilNotInUse, boolean isNowReplica) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            HostInfo host = getSourceHost(hostPortPair);
+            if (host == null) {
+                return;
+            }
+            if (isNowReplica) {
+                this.replicaHosts.add(host);
+                resetReadFromSourceWhenNoReplicas();
+            }
+            this.sourceHosts.remove(host);
 
-        // The source connection may have been implicitly closed by a previous op., don't let it stop us.
-        if (this.sourceConnection == null || this.sourceConnection.isClosed()) {
-            this.sourceConnection = null;
-            return;
-        }
+            // The source connection may have been implicitly closed by a previous op., don't let it stop us.
+            if (this.sourceConnection == null || this.sourceConnection.isClosed()) {
+                this.sourceConnection = null;
+                return;
+            }
 
-        if (waitUntilNotInUse) {
-            this.sourceConnection.removeHostWhenNotInUse(hostPortPair);
-        } else {
-            this.sourceConnection.removeHost(hostPortPair);
-        }
+            if (waitUntilNotInUse) {
+                this.sourceConnection.removeHostWhenNotInUse(hostPortPair);
+            } else {
+                this.sourceConnection.removeHost(hostPortPair);
+            }
 
-        // Close the connection if that was the last source.
-        if (this.sourceHosts.isEmpty()) {
-            this.sourceConnection.close();
-            this.sourceConnection = null;
+            // Close the connection if that was the last source.
+            if (this.sourceHosts.isEmpty()) {
+                this.sourceConnection.close();
+                this.sourceConnection = null;
 
-            // Default behavior, no need to check this.readFromSourceWhenNoReplicas.
-            switchToReplicasConnectionIfNecessary();
+                // Default behavior, no need to check this.readFromSourceWhenNoReplicas.
+                switchToReplicasConnectionIfNecessary();
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -647,8 +827,13 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse, boolean isNowReplica) throws SQLException {
-        removeSourceHost(hostPortPair, waitUntilNotInUse, isNowReplica);
+    public void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse, boolean isNowReplica) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeSourceHost(hostPortPair, waitUntilNotInUse, isNowReplica);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     public boolean isHostSource(String hostPortPair) {
@@ -671,8 +856,13 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return isHostSource(hostPortPair);
     }
 
-    public synchronized JdbcConnection getReplicasConnection() {
-        return this.replicasConnection;
+    public JdbcConnection getReplicasConnection() {
+        this.connectionLock.lock();
+        try {
+            return this.replicasConnection;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -682,21 +872,33 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized JdbcConnection getSlavesConnection() {
-        return getReplicasConnection();
+    public JdbcConnection getSlavesConnection() {
+        this.connectionLock.lock();
+        try {
+            return getReplicasConnection();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void addReplicaHost(String hostPortPair) throws SQLException {
-        if (this.isHostReplica(hostPortPair)) {
-            return;
-        }
-        this.replicaHosts.add(getConnectionUrl().getReplicaHostOrSpawnIsolated(hostPortPair));
-        resetReadFromSourceWhenNoReplicas();
-        if (this.replicasConnection == null) {
-            initializeReplicasConnection();
-            switchToReplicasConnectionIfNecessary();
-        } else {
-            this.replicasConnection.addHost(hostPortPair);
+    public void addReplicaHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.isHostReplica(hostPortPair)) {
+                return;
+            }
+            HostInfo host = getConnectionUrl().getReplicaHostOrSpawnIsolated(hostPortPair);
+            this.replicaHosts.add(host);
+            resetReadFromSourceWhenNoReplicas();
+            startReplicaLagMonitor(host);
+            if (this.replicasConnection == null) {
+                initializeReplicasConnection();
+                switchToReplicasConnectionIfNecessary();
+            } else {
+                this.replicasConnection.addHost(hostPortPair);
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -709,12 +911,22 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void addSlaveHost(String hostPortPair) throws SQLException {
-        addReplicaHost(hostPortPair);
+    public void addSlaveHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            addReplicaHost(hostPortPair);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeReplica(String hostPortPair) throws SQLException {
-        removeReplica(hostPortPair, true);
+    public void removeReplica(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeReplica(hostPortPair, true);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -726,39 +938,50 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void removeSlave(String hostPortPair) throws SQLException {
-        removeReplica(hostPortPair);
+    public void removeSlave(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeReplica(hostPortPair);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeReplica(String hostPortPair, boolean closeGently) throws SQLException {
-        HostInfo host = getReplicaHost(hostPortPair);
-        if (host == null) {
-            return;
-        }
-        this.replicaHosts.remove(host);
-        resetReadFromSourceWhenNoReplicas();
+    public void removeReplica(String hostPortPair, boolean closeGently) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            HostInfo host = getReplicaHost(hostPortPair);
+            if (host == null) {
+                return;
+            }
+            this.replicaHosts.remove(host);
+            resetReadFromSourceWhenNoReplicas();
+            stopReplicaLagMonitor(host.getHostPortPair());
 
-        if (this.replicasConnection == null || this.replicasConnection.isClosed()) {
-            this.replicasConnection = null;
-            return;
-        }
+            if (this.replicasConnection == null || this.replicasConnection.isClosed()) {
+                this.replicasConnection = null;
+                return;
+            }
 
-        if (closeGently) {
-            this.replicasConnection.removeHostWhenNotInUse(hostPortPair);
-        } else {
-            this.replicasConnection.removeHost(hostPortPair);
-        }
+            if (closeGently) {
+                this.replicasConnection.removeHostWhenNotInUse(hostPortPair);
+            } else {
+                this.replicasConnection.removeHost(hostPortPair);
+            }
 
-        // Close the connection if that was the last replica.
-        if (this.replicaHosts.isEmpty()) {
-            this.replicasConnection.close();
-            this.replicasConnection = null;
+            // Close the connection if that was the last replica.
+            if (this.replicaHosts.isEmpty()) {
+                this.replicasConnection.close();
+                this.replicasConnection = null;
 
-            // Default behavior, no need to check this.readFromSourceWhenNoReplicas.
-            switchToSourceConnection();
-            if (isSourceConnection()) {
-                this.currentConnection.setReadOnly(this.readOnly); // Maintain.
+                // Default behavior, no need to check this.readFromSourceWhenNoReplicas.
+                switchToSourceConnection();
+                if (isSourceConnection()) {
+                    this.currentConnection.setReadOnly(this.readOnly); // Maintain.
+                }
             }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -773,8 +996,13 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @deprecated
      */
     @Deprecated
-    public synchronized void removeSlave(String hostPortPair, boolean closeGently) throws SQLException {
-        removeReplica(hostPortPair, closeGently);
+    public void removeSlave(String hostPortPair, boolean closeGently) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeReplica(hostPortPair, closeGently);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     public boolean isHostReplica(String hostPortPair) {
@@ -797,50 +1025,62 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return isHostReplica(hostPortPair);
     }
 
-    public synchronized void setReadOnly(boolean readOnly) throws SQLException {
-        if (readOnly) {
-            if (!isReplicasConnection() || this.currentConnection.isClosed()) {
-                boolean switched = true;
-                SQLException exceptionCaught = null;
-                try {
-                    switched = switchToReplicasConnection();
-                } catch (SQLException e) {
-                    switched = false;
-                    exceptionCaught = e;
-                }
-                if (!switched && this.readFromSourceWhenNoReplicas && switchToSourceConnection()) {
-                    exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (readOnly && !hasReplicaFreshEnough() && this.sourceConnection != null && !this.sourceConnection.isClosed() && switchToSourceConnection()) {
+                // None of the replicas is known to be within the staleness bound, read from the sources connection.
+                this.readFromSourceForStaleness = true;
+            } else if (readOnly) {
+                if (!isReplicasConnection() || this.currentConnection.isClosed()) {
+                    boolean switched = true;
+                    SQLException exceptionCaught = null;
+                    try {
+                        switched = switchToReplicasConnection();
+                    } catch (SQLException e) {
+                        switched = false;
+                        exceptionCaught = e;
+                    }
+                    if (!switched && this.readFromSourceWhenNoReplicas && switchToSourceConnection()) {
+                        exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
+                    }
+                    if (exceptionCaught != null) {
+                        throw exceptionCaught;
+                    }
                 }
-                if (exceptionCaught != null) {
-                    throw exceptionCaught;
+                pickFreshReplicaIfNecessary();
+            } else {
+                if (!isSourceConnection() || this.currentConnection.isClosed()) {
+                    boolean switched = true;
+                    SQLException exceptionCaught = null;
+                    try {
+                        switched = switchToSourceConnection();
+                    } catch (SQLException e) {
+                        switched = false;
+                        exceptionCaught = e;
+                    }
+                    if (!switched && switchToReplicasConnectionIfNecessary()) {
+                        exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
+                    }
+                    if (exceptionCaught != null) {
+                        throw exceptionCaught;
+                    }
                 }
             }
-        } else {
-            if (!isSourceConnection() || this.currentConnection.isClosed()) {
-                boolean switched = true;
-                SQLException exceptionCaught = null;
-                try {
-                    switched = switchToSourceConnection();
-                } catch (SQLException e) {
-                    switched = false;
-                    exceptionCaught = e;
-                }
-                if (!switched && switchToReplicasConnectionIfNecessary()) {
-                    exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
-                }
-                if (exceptionCaught != null) {
-                    throw exceptionCaught;
+            this.readOnly = readOnly;
+
+            /*
+             * Reset sources connection read-only state if 'readFromSourceWhenNoReplicas=true'. If there are no replicas then the sources connection will be
+             * used with read-only state in its place. Even if not, it must be reset from a possible previous read-only state.
+             */
+            if ((this.readFromSourceWhenNoReplicas || this.readFromSourceForStaleness) && isSourceConnection()) {
+                this.currentConnection.setReadOnly(this.readOnly);
+                if (!this.readOnly) {
+                    this.readFromSourceForStaleness = false;
                 }
             }
-        }
-        this.readOnly = readOnly;
-
-        /*
-         * Reset sources connection read-only state if 'readFromSourceWhenNoReplicas=true'. If there are no replicas then the sources connection will be used
-         * with read-only state in its place. Even if not, it must be reset from a possible previous read-only state.
-         */
-        if (this.readFromSourceWhenNoReplicas && isSourceConnection()) {
-            this.currentConnection.setReadOnly(this.readOnly);
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -848,6 +1088,23 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return !isSourceConnection() || this.readOnly;
     }
 
+    public void setReplicaMaxStaleness(int millis) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.replicaMaxStaleness = Math.max(millis, 0);
+            if (this.readOnly) {
+                // Route the reads again under the new bound.
+                setReadOnly(true);
+            }
+        } finally {
+            this.connectionLock.unlock();
+        }
+    }
+
+    public int getReplicaMaxStaleness() {
+        return this.replicaMaxStaleness;
+    }
+
     private void resetReadFromSourceWhenNoReplicas() {
         this.readFromSourceWhenNoReplicas = this.replicaHosts.isEmpty() || this.readFromSourceWhenNoReplicasOriginal;
     }
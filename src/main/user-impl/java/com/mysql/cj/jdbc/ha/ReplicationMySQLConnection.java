@@ -32,6 +32,8 @@ package com.mysql.cj.jdbc.ha;
 import java.sql.SQLException;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
@@ -39,6 +41,8 @@ import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 
 public class ReplicationMySQLConnection extends MultiHostMySQLConnection implements ReplicationConnection {
+    private final Lock objectLock = new ReentrantLock();
+
     public ReplicationMySQLConnection(MultiHostConnectionProxy proxy) {
         super(proxy);
     }
@@ -54,8 +58,13 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
     }
 
     @Override
-    public synchronized JdbcConnection getCurrentConnection() {
-        return getThisAsProxy().getCurrentConnection();
+    public JdbcConnection getCurrentConnection() {
+        this.objectLock.lock();
+        try {
+            return getThisAsProxy().getCurrentConnection();
+        } finally {
+            this.objectLock.unlock();
+        }
     }
 
     @Override
@@ -64,8 +73,13 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
     }
 
     @Override
-    public synchronized JdbcConnection getSourceConnection() {
-        return getThisAsProxy().getSourceConnection();
+    public JdbcConnection getSourceConnection() {
+        this.objectLock.lock();
+        try {
+            return getThisAsProxy().getSourceConnection();
+        } finally {
+            this.objectLock.unlock();
+        }
     }
 
     private JdbcConnection getValidatedSourceConnection() {
@@ -98,8 +112,13 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
     }
 
     @Override
-    public synchronized JdbcConnection getReplicaConnection() {
-        return getThisAsProxy().getReplicasConnection();
+    public JdbcConnection getReplicaConnection() {
+        this.objectLock.lock();
+        try {
+            return getThisAsProxy().getReplicasConnection();
+        } finally {
+            this.objectLock.unlock();
+        }
     }
 
     private JdbcConnection getValidatedReplicasConnection() {
@@ -131,6 +150,16 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
         return getThisAsProxy().isHostReplica(host);
     }
 
+    @Override
+    public void setReplicaMaxStaleness(int millis) throws SQLException {
+        getThisAsProxy().setReplicaMaxStaleness(millis);
+    }
+
+    @Override
+    public int getReplicaMaxStaleness() {
+        return getThisAsProxy().getReplicaMaxStaleness();
+    }
+
     @Override
     public void setReadOnly(boolean readOnlyFlag) throws SQLException {
         getThisAsProxy().setReadOnly(readOnlyFlag);
@@ -142,47 +171,62 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
     }
 
     @Override
-    public synchronized void ping() throws SQLException {
-        JdbcConnection conn;
-        try {
-            if ((conn = getValidatedSourceConnection()) != null) {
-                conn.ping();
-            }
-        } catch (SQLException e) {
-            if (isSourceConnection()) {
-                throw e;
-            }
-        }
+    public void ping() throws SQLException {
+        this.objectLock.lock();
         try {
-            if ((conn = getValidatedReplicasConnection()) != null) {
-                conn.ping();
+            JdbcConnection conn;
+            try {
+                if ((conn = getValidatedSourceConnection()) != null) {
+                    conn.ping();
+                }
+            } catch (SQLException e) {
+                if (isSourceConnection()) {
+                    throw e;
+                }
             }
-        } catch (SQLException e) {
-            if (!isSourceConnection()) {
-                throw e;
+            try {
+                if ((conn = getValidatedReplicasConnection()) != null) {
+                    conn.ping();
+                }
+            } catch (SQLException e) {
+                if (!isSourceConnection()) {
+                    throw e;
+                }
             }
+        } finally {
+            this.objectLock.unlock();
         }
     }
 
     @Override
-    public synchronized void changeUser(String userName, String newPassword) throws SQLException {
-        JdbcConnection conn;
-        if ((conn = getValidatedSourceConnection()) != null) {
-            conn.changeUser(userName, newPassword);
-        }
-        if ((conn = getValidatedReplicasConnection()) != null) {
-            conn.changeUser(userName, newPassword);
+    public void changeUser(String userName, String newPassword) throws SQLException {
+        this.objectLock.lock();
+        try {
+            JdbcConnection conn;
+            if ((conn = getValidatedSourceConnection()) != null) {
+                conn.changeUser(userName, newPassword);
+            }
+            if ((conn = getValidatedReplicasConnection()) != null) {
+                conn.changeUser(userName, newPassword);
+            }
+        } finally {
+            this.objectLock.unlock();
         }
     }
 
     @Override
-    public synchronized void setStatementComment(String comment) {
-        JdbcConnection conn;
-        if ((conn = getValidatedSourceConnection()) != null) {
-            conn.setStatementComment(comment);
-        }
-        if ((conn = getValidatedReplicasConnection()) != null) {
-            conn.setStatementComment(comment);
+    public void setStatementComment(String comment) {
+        this.objectLock.lock();
+        try {
+            JdbcConnection conn;
+            if ((conn = getValidatedSourceConnection()) != null) {
+                conn.setStatementComment(comment);
+            }
+            if ((conn = getValidatedReplicasConnection()) != null) {
+                conn.setStatementComment(comment);
+            }
+        } finally {
+            this.objectLock.unlock();
         }
     }
 
@@ -244,9 +288,14 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
 
     @Deprecated
     @Override
-    public synchronized void clearHasTriedMaster() {
-        getThisAsProxy().sourceConnection.clearHasTriedMaster();
-        getThisAsProxy().replicasConnection.clearHasTriedMaster();
+    public void clearHasTriedMaster() {
+        this.objectLock.lock();
+        try {
+            getThisAsProxy().sourceConnection.clearHasTriedMaster();
+            getThisAsProxy().replicasConnection.clearHasTriedMaster();
+        } finally {
+            this.objectLock.unlock();
+        }
     }
 
 }
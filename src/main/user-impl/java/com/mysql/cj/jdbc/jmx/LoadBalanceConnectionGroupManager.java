@@ -126,6 +126,16 @@ public class LoadBalanceConnectionGroupManager implements LoadBalanceConnectionG
         return ConnectionGroupManager.getRegisteredConnectionGroups();
     }
 
+    @Override
+    public String getHostStats(String group) {
+        return ConnectionGroupManager.getHostStats(group);
+    }
+
+    @Override
+    public String getEjectedHostsList(String group) {
+        return ConnectionGroupManager.getEjectedHostsList(group);
+    }
+
     @Override
     public void stopNewConnectionsToHost(String group, String host) throws SQLException {
         ConnectionGroupManager.removeHost(group, host);
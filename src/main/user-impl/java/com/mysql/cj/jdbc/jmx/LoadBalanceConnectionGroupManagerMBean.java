@@ -57,4 +57,8 @@ public interface LoadBalanceConnectionGroupManagerMBean {
 
     String getRegisteredConnectionGroups();
 
+    String getHostStats(String group);
+
+    String getEjectedHostsList(String group);
+
 }
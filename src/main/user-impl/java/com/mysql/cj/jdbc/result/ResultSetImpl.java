@@ -64,6 +64,9 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
@@ -191,16 +194,49 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     private boolean useColumnNamesInFindColumn;
 
+    private boolean lockFreeReads;
+
+    /** Stands in for the connection lock when value reads run unlocked */
+    private static final Lock NO_LOCK = new Lock() {
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void lockInterruptibly() {
+        }
+
+        @Override
+        public boolean tryLock() {
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    };
+
     private ExceptionInterceptor exceptionInterceptor;
 
     private ValueFactory<Boolean> booleanValueFactory;
-    private ValueFactory<Byte> byteValueFactory;
-    private ValueFactory<Short> shortValueFactory;
-    private ValueFactory<Integer> integerValueFactory;
+    private ByteValueFactory byteValueFactory;
+    private ShortValueFactory shortValueFactory;
+    private IntegerValueFactory integerValueFactory;
     private ValueFactory<Long> longValueFactory;
-    private ValueFactory<Float> floatValueFactory;
-    private ValueFactory<Double> doubleValueFactory;
+    private FloatValueFactory floatValueFactory;
+    private DoubleValueFactory doubleValueFactory;
     private ValueFactory<BigDecimal> bigDecimalValueFactory;
+    private ValueFactory<String> stringValueFactory;
     private ValueFactory<InputStream> binaryStreamValueFactory;
     private ValueFactory<Time> defaultTimeValueFactory;
     private ValueFactory<Timestamp> defaultTimestampValueFactory;
@@ -281,6 +317,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         this.doubleValueFactory = new DoubleValueFactory(pset);
         this.bigDecimalValueFactory = new BigDecimalValueFactory(pset);
         this.binaryStreamValueFactory = new BinaryStreamValueFactory(pset);
+        this.stringValueFactory = new StringValueFactory(this.session.getPropertySet());
 
         this.defaultTimeValueFactory = new SqlTimeValueFactory(pset, null, this.session.getServerSession().getDefaultTimeZone(), this);
         this.defaultTimestampValueFactory = new SqlTimestampValueFactory(pset, null, this.session.getServerSession().getDefaultTimeZone(),
@@ -322,13 +359,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         } // else called by Connection.initializeResultsMetadataFromCache() when cached
 
         this.useColumnNamesInFindColumn = pset.getBooleanProperty(PropertyKey.useColumnNamesInFindColumn).getValue();
+        this.lockFreeReads = pset.getBooleanProperty(PropertyKey.lockFreeResultSetReads).getValue();
 
         setRowPositionValidity();
     }
 
     @Override
     public void initializeWithMetadata() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             initRowsWithMetadata();
 
             if (this.useUsageAdvisor) {
@@ -365,12 +405,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
                 this.session.getProtocol().getMetricsHolder().reportNumberOfTablesAccessed(tableNamesSet.size());
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean absolute(int row) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -418,12 +462,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void afterLast() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -439,12 +487,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             setRowPositionValidity();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void beforeFirst() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -462,6 +514,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             this.thisRow = null;
 
             setRowPositionValidity();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -489,6 +543,19 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return c;
     }
 
+    /**
+     * Returns the lock held by value reads and findColumn(). With 'lockFreeResultSetReads' this is a no-op lock and reads rely on the cursor position that
+     * next() and the other positioning methods validate, and on the open state checked here.
+     * 
+     * @return lock
+     * @throws SQLException
+     *             if the result set is closed
+     */
+    private Lock getReadLock() throws SQLException {
+        JdbcConnection c = checkClosed();
+        return this.lockFreeReads ? NO_LOCK : c.getConnectionLock();
+    }
+
     /**
      * Checks if columnIndex is within the number of columns in this result set.
      * 
@@ -499,7 +566,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      *             if the index is out of bounds
      */
     protected final void checkColumnBounds(int columnIndex) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
             if ((columnIndex < 1)) {
                 throw SQLError.createSQLException(
                         Messages.getString("ResultSet.Column_Index_out_of_range_low",
@@ -515,6 +584,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             if (this.useUsageAdvisor) {
                 this.columnUsed[columnIndex - 1] = true;
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -554,8 +625,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void clearWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             this.warningChain = null;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -577,7 +652,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int findColumn(String columnName) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
             int index = this.columnDefinition.findColumn(columnName, this.useColumnNamesInFindColumn, 1);
 
             if (index == -1) {
@@ -587,12 +664,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             return index;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean first() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -614,6 +695,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -715,8 +798,15 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public byte getByte(int columnIndex) throws SQLException {
-        Byte res = getObject(columnIndex, Byte.TYPE);
-        return res == null ? (byte) 0 : res;
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            return this.byteValueFactory.createByteFromLong(this.thisRow.getLong(columnIndex - 1, this.byteValueFactory));
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -805,8 +895,15 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public double getDouble(int columnIndex) throws SQLException {
-        Double res = getObject(columnIndex, Double.TYPE);
-        return res == null ? (double) 0 : res;
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            return this.doubleValueFactory.createDoubleFromDouble(this.thisRow.getDouble(columnIndex - 1, this.doubleValueFactory));
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -816,8 +913,15 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public float getFloat(int columnIndex) throws SQLException {
-        Float res = getObject(columnIndex, Float.TYPE);
-        return res == null ? (float) 0 : res;
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            return this.floatValueFactory.createFloatFromDouble(this.thisRow.getDouble(columnIndex - 1, this.floatValueFactory));
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -827,8 +931,15 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
-        Integer res = getObject(columnIndex, Integer.TYPE);
-        return res == null ? 0 : res;
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            return this.integerValueFactory.createIntFromLong(this.thisRow.getLong(columnIndex - 1, this.integerValueFactory));
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -853,8 +964,15 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
-        Long res = getObject(columnIndex, Long.TYPE);
-        return res == null ? 0L : res;
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            return this.thisRow.getLong(columnIndex - 1, this.longValueFactory);
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -864,8 +982,15 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public short getShort(int columnIndex) throws SQLException {
-        Short res = getObject(columnIndex, Short.TYPE);
-        return res == null ? (short) 0 : res;
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            return this.shortValueFactory.createShortFromLong(this.thisRow.getLong(columnIndex - 1, this.shortValueFactory));
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -879,8 +1004,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         checkColumnBounds(columnIndex);
 
         Field f = this.columnDefinition.getFields()[columnIndex - 1];
-        ValueFactory<String> vf = new StringValueFactory(this.session.getPropertySet());
-        String stringVal = this.thisRow.getValue(columnIndex - 1, vf);
+        String stringVal = this.thisRow.getValue(columnIndex - 1, this.stringValueFactory);
 
         if (this.padCharsWithSpace && stringVal != null && f.getMysqlTypeId() == MysqlType.FIELD_TYPE_STRING) {
             int maxBytesPerChar = this.session.getServerSession().getCharsetSettings().getMaxBytesPerChar(f.getCollationIndex(), f.getEncoding());
@@ -1080,23 +1204,35 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getFetchDirection() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.fetchDirection;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public int getFetchSize() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.fetchSize;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public char getFirstCharOfQuery() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 return this.firstCharOfQuery;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // FIXME: Need to evolve interface
@@ -1293,7 +1429,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             throw SQLError.createSQLException("Type parameter can not be null", MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
         }
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = getReadLock();
+        connectionLock.lock();
+        try {
             if (type.equals(String.class)) {
                 return (T) getString(columnIndex);
 
@@ -1428,6 +1566,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
             throw SQLError.createSQLException("Conversion not supported for type " + type.getName(), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
                     getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1624,12 +1764,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public java.sql.Statement getStatement() throws SQLException {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 if (this.wrapperStatement != null) {
                     return this.wrapperStatement;
                 }
 
                 return this.owningStatement;
+            } finally {
+                connectionLock.unlock();
             }
 
         } catch (SQLException sqlEx) {
@@ -1692,8 +1836,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public java.sql.SQLWarning getWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             return this.warningChain;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1704,48 +1852,64 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean isAfterLast() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
             }
             return this.rowData.isAfterLast();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean isBeforeFirst() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
             }
 
             return this.rowData.isBeforeFirst();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean isFirst() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
             }
 
             return this.rowData.isFirst();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean isLast() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
             }
 
             return this.rowData.isLast();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1762,7 +1926,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean last() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -1784,6 +1950,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1799,7 +1967,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean next() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -1825,6 +1995,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1842,7 +2014,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      *                if a database access error occurs
      */
     public boolean prev() throws java.sql.SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
 
             int rowIndex = this.rowData.getPosition();
 
@@ -1867,12 +2041,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public boolean previous() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -1883,6 +2061,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             return prev();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1894,7 +2074,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock connectionLock = locallyScopedConn.getConnectionLock();
+        connectionLock.lock();
+        try {
             // additional check in case ResultSet was closed while current thread was waiting for lock
             if (this.isClosed) {
                 return;
@@ -1984,6 +2166,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
                     throw exceptionDuringClose;
                 }
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -1999,7 +2183,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean relative(int rows) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (!hasRows()) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
                         MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
@@ -2021,6 +2207,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return (!this.rowData.isAfterLast() && !this.rowData.isBeforeFirst());
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -2041,7 +2229,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void setFetchDirection(int direction) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if ((direction != FETCH_FORWARD) && (direction != FETCH_REVERSE) && (direction != FETCH_UNKNOWN)) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.Illegal_value_for_fetch_direction_64"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
@@ -2053,26 +2243,36 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             this.fetchDirection = direction;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
             if (rows < 0) { /* || rows > getMaxRows() */
                 throw SQLError.createSQLException(Messages.getString("ResultSet.Value_must_be_between_0_and_getMaxRows()_66"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
             this.fetchSize = rows;
+        } finally {
+            connectionLock.unlock();
         }
     }
 
     @Override
     public void setFirstCharOfQuery(char c) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.firstCharOfQuery = c;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // FIXME: Need to evolve public interface
@@ -2082,8 +2282,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public void setOwningStatement(JdbcStatement owningStatement) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.owningStatement = (StatementImpl) owningStatement;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // FIXME: Need to evolve public interface
@@ -2098,8 +2302,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      */
     public synchronized void setResultSetConcurrency(int concurrencyFlag) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.resultSetConcurrency = concurrencyFlag;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2115,8 +2323,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      */
     public synchronized void setResultSetType(int typeFlag) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.resultSetType = typeFlag;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2131,8 +2343,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      */
     public void setServerInfo(String info) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.serverInfo = info;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2142,8 +2358,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public synchronized void setStatementUsedForFetchingRows(JdbcPreparedStatement stmt) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.statementUsedForFetchingRows = stmt;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2153,8 +2373,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public synchronized void setWrapperStatement(java.sql.Statement wrapperStatement) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock connectionLock = checkClosed().getConnectionLock();
+            connectionLock.lock();
+            try {
                 this.wrapperStatement = wrapperStatement;
+            } finally {
+                connectionLock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2740,4 +2964,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return this.connection != null ? this.connection.getConnectionMutex() : null;
     }
 
+    @Override
+    public Lock getSyncLock() {
+        return this.connection != null ? this.connection.getConnectionLock() : null;
+    }
+
 }
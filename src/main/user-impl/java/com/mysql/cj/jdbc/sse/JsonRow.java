@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import com.alibaba.fastjson.JSONArray;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * A {@link Row} over the cells of a gateway JSON row. Values already decoded by the JSON parser are handed to the {@link ValueFactory} in their
+ * natural form, text is passed as bytes so that the factory applies the same conversions as for a text protocol row.
+ */
+public class JsonRow implements Row {
+
+    private final Field[] fields;
+    private JSONArray cells;
+    private boolean wasNull;
+
+    public JsonRow(Field[] fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Points this row at the given cells, allowing one instance to be reused for every row of a result.
+     * 
+     * @param cells
+     *            cells of the row
+     * @return this row
+     */
+    public JsonRow setCells(JSONArray cells) {
+        this.cells = cells;
+        return this;
+    }
+
+    @Override
+    public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        Object v = this.cells.get(columnIndex);
+        if (v == null) {
+            this.wasNull = true;
+            return vf.createFromNull();
+        }
+        this.wasNull = false;
+        if (v instanceof Integer || v instanceof Long || v instanceof Short || v instanceof Byte) {
+            return vf.createFromLong(((Number) v).longValue());
+        }
+        if (v instanceof BigDecimal) {
+            return vf.createFromBigDecimal((BigDecimal) v);
+        }
+        if (v instanceof BigInteger) {
+            return vf.createFromBigInteger((BigInteger) v);
+        }
+        if (v instanceof Double || v instanceof Float) {
+            return vf.createFromDouble(((Number) v).doubleValue());
+        }
+        if (v instanceof Boolean) {
+            return vf.createFromLong((Boolean) v ? 1 : 0);
+        }
+        byte[] bytes = v.toString().getBytes(StandardCharsets.UTF_8);
+        return vf.createFromBytes(bytes, 0, bytes.length, this.fields[columnIndex]);
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        Object v = this.cells.get(columnIndex);
+        this.wasNull = v == null;
+        return v == null ? null : v.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean getNull(int columnIndex) {
+        this.wasNull = this.cells.get(columnIndex) == null;
+        return this.wasNull;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return this.wasNull;
+    }
+}
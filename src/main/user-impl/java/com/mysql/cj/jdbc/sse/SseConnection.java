@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyDefinitions.DatabaseTerm;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.sse.URI;
+
+/**
+ * JDBC connection to an HTTP query gateway, opened for URLs of the form {@code jdbc:mysql:sse://host[:port][/database][?properties]}.
+ * <p>
+ * The gateway runs each statement in its own session, so connections are stateless apart from the current database: they always run in auto-commit mode
+ * and statements of all connections to the same gateway share a pool of keep-alive HTTP connections. Besides the usual connection properties the
+ * following are recognized:
+ * <ul>
+ * <li>{@code ssePath} - path of the query endpoint, "/query_jar" by default;</li>
+ * <li>{@code maxConnections} - maximum number of concurrent HTTP connections to the gateway;</li>
+ * <li>{@code streamResults} - decode rows as they are read instead of parsing whole responses;</li>
+ * <li>{@code columnarResults} - ask the gateway for the binary columnar result format instead of JSON.</li>
+ * </ul>
+ */
+public class SseConnection implements Connection {
+
+    public static final String DEFAULT_PATH = "/query_jar";
+
+    private final JdbcPropertySet propertySet;
+    private final URI uri;
+    private final com.mysql.cj.sse.Connection sseConnection;
+    private final ExceptionInterceptor exceptionInterceptor = null;
+
+    private boolean closed = false;
+    private boolean readOnly = false;
+    private int isolationLevel = Connection.TRANSACTION_REPEATABLE_READ;
+    private Properties clientInfo = new Properties();
+    private Map<String, Class<?>> typeMap = new HashMap<>();
+
+    /**
+     * Creates a connection to the gateway described by the given host.
+     * 
+     * @param hostInfo
+     *            {@link HostInfo} instance
+     * @return new {@link SseConnection} instance
+     * @throws SQLException
+     *             if the connection properties are invalid
+     */
+    public static SseConnection getInstance(HostInfo hostInfo) throws SQLException {
+        return new SseConnection(hostInfo);
+    }
+
+    public SseConnection(HostInfo hostInfo) throws SQLException {
+        try {
+            this.propertySet = new JdbcPropertySetImpl();
+            this.propertySet.initializeProperties(hostInfo.exposeAsProperties());
+
+            Map<String, String> props = hostInfo.getHostProperties();
+            String path = props.get("ssePath");
+            if (path == null || path.isEmpty()) {
+                path = DEFAULT_PATH;
+            } else if (path.charAt(0) != '/') {
+                path = "/" + path;
+            }
+
+            this.uri = new URI();
+            this.uri.setUrl("http://" + hostInfo.getHost() + ":" + hostInfo.getPort() + path);
+            this.uri.setDb(hostInfo.getDatabase());
+            this.uri.setUsername(hostInfo.getUser());
+            this.uri.setPassword(hostInfo.getPassword());
+
+            RuntimeProperty<Integer> connectTimeout = this.propertySet.getIntegerProperty(PropertyKey.connectTimeout);
+            if (connectTimeout.isExplicitlySet()) {
+                this.uri.setConnectTimeout(connectTimeout.getValue());
+            }
+            this.uri.setSocketTimeout(this.propertySet.getIntegerProperty(PropertyKey.socketTimeout).getValue());
+            if (props.get("maxConnections") != null) {
+                this.uri.setMaxConnections(Integer.parseInt(props.get("maxConnections")));
+            }
+            if (props.get("streamResults") != null) {
+                this.uri.setStreamResults(Boolean.parseBoolean(props.get("streamResults")));
+            }
+            if (props.get("columnarResults") != null) {
+                this.uri.setColumnarResults(Boolean.parseBoolean(props.get("columnarResults")));
+            }
+
+            this.sseConnection = new com.mysql.cj.sse.Connection(this.uri);
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+        } catch (IllegalArgumentException e) {
+            throw SQLError.createSQLException(e.getMessage(), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, e, this.exceptionInterceptor);
+        }
+    }
+
+    JdbcPropertySet getPropertySet() {
+        return this.propertySet;
+    }
+
+    ExceptionInterceptor getExceptionInterceptor() {
+        return this.exceptionInterceptor;
+    }
+
+    /**
+     * @return a statement of the underlying gateway client, sending queries to the current database
+     */
+    com.mysql.cj.sse.Statement createSseStatement() {
+        return this.sseConnection.createStatement();
+    }
+
+    String getDatabase() {
+        return this.uri.getDb();
+    }
+
+    void checkClosed() throws SQLException {
+        if (this.closed) {
+            throw SQLError.createSQLException(Messages.getString("Connection.2"), MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, this.exceptionInterceptor);
+        }
+    }
+
+    private SQLException transactionsNotSupported() {
+        return SQLError.createSQLException(Messages.getString("SseConnection.0"), MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE, this.exceptionInterceptor);
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        checkClosed();
+        checkResultSetType(resultSetType, resultSetConcurrency);
+        return new SseStatement(this);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        setHoldability(resultSetHoldability);
+        return createStatement(resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        checkClosed();
+        checkResultSetType(resultSetType, resultSetConcurrency);
+        return new SsePreparedStatement(this, sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        setHoldability(resultSetHoldability);
+        return prepareStatement(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+            throw SQLError.createSQLFeatureNotSupportedException();
+        }
+        return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    private void checkResultSetType(int resultSetType, int resultSetConcurrency) throws SQLException {
+        if (resultSetType != ResultSet.TYPE_FORWARD_ONLY || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
+            throw SQLError.createSQLFeatureNotSupportedException();
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException(Messages.getString("SseConnection.1"), MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE,
+                this.exceptionInterceptor);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return prepareCall(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return prepareCall(sql);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        checkClosed();
+        return sql;
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        checkClosed();
+        if (!autoCommit) {
+            throw transactionsNotSupported();
+        }
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        checkClosed();
+        return true;
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        checkClosed();
+        throw SQLError.createSQLException(Messages.getString("Connection.3"), this.exceptionInterceptor);
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        checkClosed();
+        throw SQLError.createSQLException(Messages.getString("Connection.20"), MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, this.exceptionInterceptor);
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        throw transactionsNotSupported();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        throw transactionsNotSupported();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        throw transactionsNotSupported();
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        throw transactionsNotSupported();
+    }
+
+    /**
+     * Closes this connection. Pooled HTTP connections are shared with other connections to the same gateway and stay open until idle.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!this.closed) {
+            this.closed = true;
+            this.sseConnection.close();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return this.closed;
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        checkClosed();
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        checkClosed();
+        return this.readOnly;
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        checkClosed();
+        if (this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.CATALOG) {
+            this.uri.setDb(catalog);
+        }
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        checkClosed();
+        return this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA ? null : this.uri.getDb();
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        checkClosed();
+        if (this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA) {
+            this.uri.setDb(schema);
+        }
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        checkClosed();
+        return this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA ? this.uri.getDb() : null;
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        checkClosed();
+        this.isolationLevel = level;
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        checkClosed();
+        return this.isolationLevel;
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        checkClosed();
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        checkClosed();
+        return this.typeMap;
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        checkClosed();
+        this.typeMap = map;
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        checkClosed();
+        if (holdability != ResultSet.HOLD_CURSORS_OVER_COMMIT) {
+            throw SQLError.createSQLException(Messages.getString("Connection.17"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, this.exceptionInterceptor);
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return new com.mysql.cj.jdbc.Clob("", this.exceptionInterceptor);
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return new com.mysql.cj.jdbc.Blob(new byte[0], this.exceptionInterceptor);
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return new com.mysql.cj.jdbc.NClob("", this.exceptionInterceptor);
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    /**
+     * Checks the gateway can still run queries with a {@code SELECT 1} round trip.
+     */
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        if (this.closed) {
+            return false;
+        }
+        try (Statement stmt = createStatement()) {
+            stmt.setQueryTimeout(timeout);
+            try (ResultSet rs = stmt.executeQuery("SELECT 1")) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        this.clientInfo.setProperty(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        this.clientInfo = properties;
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return this.clientInfo.getProperty(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return this.clientInfo;
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        close();
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        checkClosed();
+        return this.uri.getSocketTimeout();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        try {
+            return iface.cast(this);
+        } catch (ClassCastException cce) {
+            throw SQLError.createSQLException(Messages.getString("Common.UnableToUnwrap", new Object[] { iface.toString() }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, this.exceptionInterceptor);
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+}
@@ -0,0 +1,683 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.MysqlParameterMetadata;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.util.StringUtils;
+import com.mysql.cj.util.Util;
+
+/**
+ * Client-side prepared statement for an HTTP query gateway. Parameters are bound as escaped SQL literals.
+ * <p>
+ * The gateway takes one SQL string per request, so with {@code rewriteBatchedStatements=true} batches of INSERT/REPLACE statements are rewritten into
+ * multi-values statements, as the classic protocol does, sending up to {@code maxAllowedPacket} bytes of SQL per request instead of one request per
+ * parameter set. Rows sent in a multi-values statement are reported with {@link java.sql.Statement#SUCCESS_NO_INFO}.
+ */
+public class SsePreparedStatement extends SseStatement implements PreparedStatement {
+
+    private static final String NULL = "NULL";
+
+    private final QueryInfo queryInfo;
+    private final String[] staticSqlParts;
+    private final int parameterCount;
+
+    private String[] bindValues;
+    private List<String[]> batchedArgs;
+
+    public SsePreparedStatement(SseConnection connection, String sql) throws SQLException {
+        super(connection);
+        if (sql == null) {
+            throw SQLError.createSQLException(Messages.getString("PreparedStatement.0"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    getExceptionInterceptor());
+        }
+        try {
+            this.queryInfo = new QueryInfo(sql, "UTF-8", false, this.pset.getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue(),
+                    this.pset.getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue(), getExceptionInterceptor());
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+        }
+        this.staticSqlParts = toStrings(this.queryInfo.getStaticSqlParts());
+        this.parameterCount = this.staticSqlParts.length - 1;
+        this.bindValues = new String[this.parameterCount];
+    }
+
+    private static String[] toStrings(byte[][] parts) {
+        String[] res = new String[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            res[i] = new String(parts[i], StandardCharsets.UTF_8);
+        }
+        return res;
+    }
+
+    /**
+     * Builds the SQL for the given parameter sets, interleaving their values with the static parts of the query.
+     */
+    private static String asSql(String[] parts, List<String[]> rows, int from, int to, int sizeHint) {
+        StringBuilder buf = new StringBuilder(sizeHint);
+        buf.append(parts[0]);
+        int p = 1;
+        for (int r = from; r < to; r++) {
+            for (String value : rows.get(r)) {
+                buf.append(value).append(parts[p++]);
+            }
+        }
+        return buf.toString();
+    }
+
+    private String asSql() throws SQLException {
+        for (int i = 0; i < this.parameterCount; i++) {
+            if (this.bindValues[i] == null) {
+                throw SQLError.createSQLException(Messages.getString("PreparedStatement.40") + (i + 1), MysqlErrorNumbers.SQL_STATE_WRONG_NO_OF_PARAMETERS,
+                        getExceptionInterceptor());
+            }
+        }
+        return asSql(this.staticSqlParts, Collections.singletonList(this.bindValues), 0, 1, this.queryInfo.getValuesClauseLength() + 64);
+    }
+
+    /**
+     * Returns the SQL that would be sent for the current parameters, as {@code ClientPreparedStatement.asSql()} does.
+     * 
+     * @return SQL with the bound values in place of the placeholders
+     * @throws SQLException
+     *             if a parameter is not set
+     */
+    public String asSqlString() throws SQLException {
+        checkClosed();
+        return asSql();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        return executeQueryInternal(asSql());
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        return Util.truncateAndConvertToInt(executeLargeUpdate());
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        return executeUpdateInternal(asSql());
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        return executeInternal(asSql());
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        checkClosed();
+        asSql(); // all parameters set
+        if (this.batchedArgs == null) {
+            this.batchedArgs = new ArrayList<>();
+        }
+        this.batchedArgs.add(this.bindValues.clone());
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        super.clearBatch();
+        if (this.batchedArgs != null) {
+            this.batchedArgs.clear();
+        }
+    }
+
+    @Override
+    protected long[] executeBatchInternal() throws SQLException {
+        checkClosed();
+        if (this.batchedArgs == null || this.batchedArgs.isEmpty()) {
+            return super.executeBatchInternal();
+        }
+        try {
+            if (this.queryInfo.isRewritableWithMultiValuesClause() && this.batchedArgs.size() > 1) {
+                return executeBatchWithMultiValuesClause();
+            }
+            List<String> sqls = new ArrayList<>(this.batchedArgs.size());
+            for (int i = 0; i < this.batchedArgs.size(); i++) {
+                sqls.add(asSql(this.staticSqlParts, this.batchedArgs, i, i + 1, this.queryInfo.getValuesClauseLength() + 64));
+            }
+            return executeSerially(sqls);
+        } finally {
+            clearBatch();
+        }
+    }
+
+    /**
+     * Sends the batched parameter sets as multi-values statements, each kept under {@code maxAllowedPacket} once encoded in UTF-8, as the gateway receives
+     * them.
+     */
+    private long[] executeBatchWithMultiValuesClause() throws SQLException {
+        int rows = this.batchedArgs.size();
+        long[] updateCounts = new long[rows];
+        Arrays.fill(updateCounts, EXECUTE_FAILED);
+
+        long maxSize = this.pset.getIntegerProperty(PropertyKey.maxAllowedPacket).getValue();
+        int baseLength = 0;
+        for (String part : this.staticSqlParts) {
+            baseLength += utf8Length(part);
+        }
+        int valuesClauseLength = this.queryInfo.getValuesClauseLength();
+
+        SQLException sqlEx = null;
+        int start = 0;
+        long size = baseLength;
+        for (int i = 0; i <= rows; i++) {
+            long rowSize = 0;
+            if (i < rows) {
+                rowSize = valuesClauseLength + 1;
+                for (String value : this.batchedArgs.get(i)) {
+                    rowSize += utf8Length(value);
+                }
+                if (i == start || size + rowSize <= maxSize) {
+                    size += rowSize;
+                    continue;
+                }
+            }
+
+            int count = i - start;
+            QueryInfo batchInfo = this.queryInfo.getQueryInfoForBatch(count);
+            String sql = asSql(count == 1 ? this.staticSqlParts : toStrings(batchInfo.getStaticSqlParts()), this.batchedArgs, start, i, (int) size);
+            try {
+                long updateCount = executeUpdateInternal(sql);
+                if (count == 1) {
+                    updateCounts[start] = updateCount;
+                } else {
+                    Arrays.fill(updateCounts, start, i, SUCCESS_NO_INFO);
+                }
+            } catch (SQLException ex) {
+                if (!this.continueBatchOnError) {
+                    throw SQLError.createBatchUpdateException(ex, Arrays.copyOf(updateCounts, start), getExceptionInterceptor());
+                }
+                sqlEx = ex;
+            }
+
+            start = i;
+            size = baseLength + rowSize;
+        }
+
+        if (sqlEx != null) {
+            throw SQLError.createBatchUpdateException(sqlEx, updateCounts, getExceptionInterceptor());
+        }
+        return updateCounts;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        super.close();
+        this.batchedArgs = null;
+    }
+
+    /**
+     * The number of bytes of the given string encoded in UTF-8, without encoding it.
+     */
+    static int utf8Length(String s) {
+        int length = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x800) {
+                // surrogate pairs take 4 bytes, 2 per char
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private void checkBounds(int parameterIndex) throws SQLException {
+        checkClosed();
+        if (parameterIndex < 1) {
+            throw SQLError.createSQLException(Messages.getString("PreparedStatement.49") + parameterIndex + Messages.getString("PreparedStatement.50"),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        } else if (parameterIndex > this.parameterCount) {
+            throw SQLError.createSQLException(
+                    Messages.getString("PreparedStatement.51") + parameterIndex + Messages.getString("PreparedStatement.52") + this.parameterCount
+                            + Messages.getString("PreparedStatement.53"),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+    }
+
+    private void bind(int parameterIndex, String literal) throws SQLException {
+        checkBounds(parameterIndex);
+        this.bindValues[parameterIndex - 1] = literal;
+    }
+
+    private static String quote(String x) {
+        return StringUtils.escapeString(new StringBuilder(x.length() + 2), x, false, null).toString();
+    }
+
+    private static String hex(byte[] x) {
+        StringBuilder buf = new StringBuilder(x.length * 2 + 3);
+        buf.append("X'");
+        for (byte b : x) {
+            buf.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return buf.append('\'').toString();
+    }
+
+    private static String format(java.util.Date x, String pattern, Calendar cal) {
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+        if (cal != null) {
+            sdf.setTimeZone(cal.getTimeZone());
+        }
+        return sdf.format(x);
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        checkClosed();
+        this.bindValues = new String[this.parameterCount];
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        bind(parameterIndex, NULL);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        bind(parameterIndex, NULL);
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        bind(parameterIndex, x ? "1" : "0");
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        bind(parameterIndex, String.valueOf(x));
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        bind(parameterIndex, String.valueOf(x));
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+        bind(parameterIndex, String.valueOf(x));
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+        bind(parameterIndex, String.valueOf(x));
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        setDouble(parameterIndex, x);
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+        if (Double.isNaN(x) || Double.isInfinite(x)) {
+            throw SQLError.createSQLException(Messages.getString("PreparedStatement.64", new Object[] { x }), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    getExceptionInterceptor());
+        }
+        bind(parameterIndex, String.valueOf(x));
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        bind(parameterIndex, x == null ? NULL : x.toPlainString());
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+        bind(parameterIndex, x == null ? NULL : quote(x));
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String value) throws SQLException {
+        setString(parameterIndex, value);
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        bind(parameterIndex, x == null ? NULL : hex(x));
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        setDate(parameterIndex, x, null);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        bind(parameterIndex, x == null ? NULL : "'" + format(x, "yyyy-MM-dd", cal) + "'");
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        setTime(parameterIndex, x, null);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        bind(parameterIndex, x == null ? NULL : "'" + format(x, "HH:mm:ss.SSS", cal) + "'");
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        setTimestamp(parameterIndex, x, null);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        if (x == null) {
+            bind(parameterIndex, NULL);
+            return;
+        }
+        String nanos = String.valueOf(1000000000 + x.getNanos()).substring(1);
+        bind(parameterIndex, "'" + format(x, "yyyy-MM-dd HH:mm:ss", cal) + "." + nanos + "'");
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+        setString(parameterIndex, x == null ? null : x.toString());
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        setObject(parameterIndex, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        if (x instanceof BigDecimal) {
+            setBigDecimal(parameterIndex, ((BigDecimal) x).setScale(scaleOrLength, RoundingMode.HALF_UP));
+        } else {
+            setObject(parameterIndex, x);
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+        if (x == null) {
+            bind(parameterIndex, NULL);
+        } else if (x instanceof String) {
+            setString(parameterIndex, (String) x);
+        } else if (x instanceof BigDecimal) {
+            setBigDecimal(parameterIndex, (BigDecimal) x);
+        } else if (x instanceof Double || x instanceof Float) {
+            setDouble(parameterIndex, ((Number) x).doubleValue());
+        } else if (x instanceof Integer || x instanceof Long || x instanceof Short || x instanceof Byte || x instanceof BigInteger) {
+            bind(parameterIndex, x.toString());
+        } else if (x instanceof Boolean) {
+            setBoolean(parameterIndex, (Boolean) x);
+        } else if (x instanceof byte[]) {
+            setBytes(parameterIndex, (byte[]) x);
+        } else if (x instanceof Date) {
+            setDate(parameterIndex, (Date) x);
+        } else if (x instanceof Time) {
+            setTime(parameterIndex, (Time) x);
+        } else if (x instanceof Timestamp) {
+            setTimestamp(parameterIndex, (Timestamp) x);
+        } else if (x instanceof java.util.Date) {
+            setTimestamp(parameterIndex, new Timestamp(((java.util.Date) x).getTime()));
+        } else if (x instanceof LocalDateTime) {
+            setString(parameterIndex, ((LocalDateTime) x).toString().replace('T', ' '));
+        } else if (x instanceof OffsetDateTime) {
+            setString(parameterIndex, ((OffsetDateTime) x).toLocalDateTime().toString().replace('T', ' '));
+        } else if (x instanceof LocalDate || x instanceof LocalTime) {
+            setString(parameterIndex, x.toString());
+        } else if (x instanceof Blob) {
+            setBlob(parameterIndex, (Blob) x);
+        } else if (x instanceof Clob) {
+            setClob(parameterIndex, (Clob) x);
+        } else if (x instanceof InputStream) {
+            setBinaryStream(parameterIndex, (InputStream) x);
+        } else if (x instanceof Reader) {
+            setCharacterStream(parameterIndex, (Reader) x);
+        } else {
+            setString(parameterIndex, x.toString());
+        }
+    }
+
+    private byte[] readFully(InputStream x, long length) throws SQLException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            long remaining = length < 0 ? Long.MAX_VALUE : length;
+            int n;
+            while (remaining > 0 && (n = x.read(buf, 0, (int) Math.min(buf.length, remaining))) != -1) {
+                out.write(buf, 0, n);
+                remaining -= n;
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw SQLError.createSQLException(e.getMessage(), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, e, getExceptionInterceptor());
+        }
+    }
+
+    private String readFully(Reader x, long length) throws SQLException {
+        try {
+            StringBuilder out = new StringBuilder();
+            char[] buf = new char[8192];
+            long remaining = length < 0 ? Long.MAX_VALUE : length;
+            int n;
+            while (remaining > 0 && (n = x.read(buf, 0, (int) Math.min(buf.length, remaining))) != -1) {
+                out.append(buf, 0, n);
+                remaining -= n;
+            }
+            return out.toString();
+        } catch (IOException e) {
+            throw SQLError.createSQLException(e.getMessage(), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, e, getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        setBytes(parameterIndex, x == null ? null : readFully(x, length));
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        setBinaryStream(parameterIndex, x, (long) length);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        setBinaryStream(parameterIndex, x, -1L);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        setString(parameterIndex, x == null ? null : new String(readFully(x, length), StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        setAsciiStream(parameterIndex, x, (long) length);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        setAsciiStream(parameterIndex, x, -1L);
+    }
+
+    @Deprecated
+    @Override
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        setString(parameterIndex, x == null ? null : new String(readFully(x, length), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+        setString(parameterIndex, reader == null ? null : readFully(reader, length));
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+        setCharacterStream(parameterIndex, reader, (long) length);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+        setCharacterStream(parameterIndex, reader, -1L);
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+        setCharacterStream(parameterIndex, value, length);
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+        setCharacterStream(parameterIndex, value);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+        setBinaryStream(parameterIndex, x == null ? null : x.getBinaryStream());
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+        setBinaryStream(parameterIndex, inputStream, length);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+        setBinaryStream(parameterIndex, inputStream);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+        setCharacterStream(parameterIndex, x == null ? null : x.getCharacterStream());
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        setCharacterStream(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader) throws SQLException {
+        setCharacterStream(parameterIndex, reader);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob value) throws SQLException {
+        setClob(parameterIndex, value);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        setCharacterStream(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+        setCharacterStream(parameterIndex, reader);
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    /**
+     * Result metadata is only known once the statement is executed.
+     * 
+     * @return null
+     */
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        checkClosed();
+        return null;
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        checkClosed();
+        return new MysqlParameterMetadata(this.parameterCount);
+    }
+}
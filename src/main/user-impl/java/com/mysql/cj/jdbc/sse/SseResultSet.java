@@ -0,0 +1,1375 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TimeZone;
+
+import com.alibaba.fastjson.JSONArray;
+import com.mysql.cj.CharsetMapping;
+import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.NotUpdatable;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.result.BigDecimalValueFactory;
+import com.mysql.cj.result.BooleanValueFactory;
+import com.mysql.cj.result.ByteValueFactory;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.FloatValueFactory;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LocalDateTimeValueFactory;
+import com.mysql.cj.result.LocalDateValueFactory;
+import com.mysql.cj.result.LocalTimeValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ShortValueFactory;
+import com.mysql.cj.result.SqlDateValueFactory;
+import com.mysql.cj.result.SqlTimeValueFactory;
+import com.mysql.cj.result.SqlTimestampValueFactory;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * Read-only, forward-only {@link ResultSet} over a gateway result. Cells are decoded with the same {@link ValueFactory} implementations as results of
+ * the classic protocol, so conversions and their errors behave the same.
+ * <p>
+ * The gateway sends column labels but no column types; types are inferred from the JSON values of the first row.
+ */
+public class SseResultSet implements ResultSet {
+
+    private final SseStatement owningStatement;
+    private final SseResultsetRows rowData;
+    private final PropertySet pset;
+    private final ExceptionInterceptor exceptionInterceptor;
+    private final String db;
+
+    private DefaultColumnDefinition columnDefinition;
+    private Row thisRow;
+    private boolean closed = false;
+    private int fetchSize;
+    private int maxRows;
+    private boolean maxRowsReached = false;
+
+    private final TimeZone defaultTimeZone = TimeZone.getDefault();
+    private final BooleanValueFactory booleanValueFactory;
+    private final ByteValueFactory byteValueFactory;
+    private final ShortValueFactory shortValueFactory;
+    private final IntegerValueFactory integerValueFactory;
+    private final LongValueFactory longValueFactory;
+    private final FloatValueFactory floatValueFactory;
+    private final DoubleValueFactory doubleValueFactory;
+    private final BigDecimalValueFactory bigDecimalValueFactory;
+    private final StringValueFactory stringValueFactory;
+    private final SqlDateValueFactory dateValueFactory;
+    private final SqlTimeValueFactory timeValueFactory;
+    private final SqlTimestampValueFactory timestampValueFactory;
+
+    public SseResultSet(SseResultsetRows rowData, SseStatement owningStatement, PropertySet pset, String db, ExceptionInterceptor exceptionInterceptor) {
+        this.rowData = rowData;
+        this.owningStatement = owningStatement;
+        this.pset = pset;
+        this.db = db;
+        this.exceptionInterceptor = exceptionInterceptor;
+
+        this.booleanValueFactory = new BooleanValueFactory(pset);
+        this.byteValueFactory = new ByteValueFactory(pset);
+        this.shortValueFactory = new ShortValueFactory(pset);
+        this.integerValueFactory = new IntegerValueFactory(pset);
+        this.longValueFactory = new LongValueFactory(pset);
+        this.floatValueFactory = new FloatValueFactory(pset);
+        this.doubleValueFactory = new DoubleValueFactory(pset);
+        this.bigDecimalValueFactory = new BigDecimalValueFactory(pset);
+        this.stringValueFactory = new StringValueFactory(pset);
+        this.dateValueFactory = new SqlDateValueFactory(pset, null, this.defaultTimeZone);
+        this.timeValueFactory = new SqlTimeValueFactory(pset, null, this.defaultTimeZone);
+        this.timestampValueFactory = new SqlTimestampValueFactory(pset, null, this.defaultTimeZone, this.defaultTimeZone);
+    }
+
+    /**
+     * @param maxRows
+     *            number of rows after which the remaining rows are silently dropped, 0 for no limit
+     */
+    void setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    private ExceptionInterceptor getExceptionInterceptor() {
+        return this.exceptionInterceptor;
+    }
+
+    private void checkClosed() throws SQLException {
+        if (this.closed) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.Operation_not_allowed_after_ResultSet_closed_144"),
+                    MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
+        }
+    }
+
+    /**
+     * Builds the fields once the column labels are known, typing each column after the value it holds in the first row.
+     */
+    private DefaultColumnDefinition getColumnDefinition() throws SQLException {
+        if (this.columnDefinition == null) {
+            JSONArray labels;
+            JSONArray sample;
+            try {
+                labels = this.rowData.getColumns();
+                sample = this.rowData.peek();
+                if (labels == null) {
+                    // labels sent after the rows
+                    labels = this.rowData.getColumns();
+                }
+            } catch (CJException e) {
+                throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+            }
+            int count = labels == null ? 0 : labels.size();
+            Field[] fields = new Field[count];
+            for (int i = 0; i < count; i++) {
+                Object value = sample != null && i < sample.size() ? sample.get(i) : null;
+                fields[i] = new Field(null, String.valueOf(labels.get(i)), CharsetMapping.MYSQL_COLLATION_INDEX_utf8mb4_0900_ai_ci, "UTF-8", inferType(value),
+                        0);
+            }
+            this.columnDefinition = new DefaultColumnDefinition(fields);
+            this.rowData.setMetadata(this.columnDefinition);
+            this.rowData.setFields(fields);
+        }
+        return this.columnDefinition;
+    }
+
+    private static MysqlType inferType(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return MysqlType.INT;
+        } else if (value instanceof Long) {
+            return MysqlType.BIGINT;
+        } else if (value instanceof BigInteger) {
+            return MysqlType.BIGINT_UNSIGNED;
+        } else if (value instanceof BigDecimal) {
+            return MysqlType.DECIMAL;
+        } else if (value instanceof Double || value instanceof Float) {
+            return MysqlType.DOUBLE;
+        } else if (value instanceof Boolean) {
+            return MysqlType.BOOLEAN;
+        } else if (value instanceof Timestamp) {
+            return MysqlType.DATETIME;
+        }
+        return MysqlType.VARCHAR;
+    }
+
+    Field[] getFields() throws SQLException {
+        return getColumnDefinition().getFields();
+    }
+
+    private void checkRowPos() throws SQLException {
+        checkClosed();
+        if (this.thisRow == null) {
+            throw SQLError.createSQLException(Messages.getString(this.maxRowsReached || this.rowData.isAfterLast() || this.rowData.wasEmpty()
+                    ? "ResultSet.After_end_of_result_set_148"
+                    : "ResultSet.Before_start_of_result_set_146"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
+        }
+    }
+
+    private void checkColumnBounds(int columnIndex) throws SQLException {
+        int count = getFields().length;
+        if (columnIndex < 1) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.Column_Index_out_of_range_low", new Object[] { columnIndex }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        } else if (columnIndex > count) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.Column_Index_out_of_range_high", new Object[] { columnIndex, count }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+    }
+
+    private <T> T getValue(int columnIndex, ValueFactory<T> vf) throws SQLException {
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        try {
+            return this.thisRow.getValue(columnIndex - 1, vf);
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+        }
+    }
+
+    private SQLException forwardOnly() {
+        return SQLError.createSQLException(Messages.getString("ResultSet.ForwardOnly"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, getExceptionInterceptor());
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        checkClosed();
+        getColumnDefinition();
+        if (this.maxRows > 0 && this.rowData.getPosition() + 1 >= this.maxRows) {
+            this.maxRowsReached = true;
+            this.thisRow = null;
+            return false;
+        }
+        try {
+            this.thisRow = this.rowData.next();
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+        }
+        return this.thisRow != null;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.thisRow = null;
+        try {
+            this.rowData.close();
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+        } finally {
+            if (this.owningStatement != null) {
+                this.owningStatement.resultSetClosed(this);
+            }
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        checkClosed();
+        return this.thisRow != null && this.thisRow.wasNull();
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        return getValue(columnIndex, this.stringValueFactory);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        Boolean res = getValue(columnIndex, this.booleanValueFactory);
+        return res == null ? false : res;
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        Byte res = getValue(columnIndex, this.byteValueFactory);
+        return res == null ? 0 : res;
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        Short res = getValue(columnIndex, this.shortValueFactory);
+        return res == null ? 0 : res;
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        Integer res = getValue(columnIndex, this.integerValueFactory);
+        return res == null ? 0 : res;
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        Long res = getValue(columnIndex, this.longValueFactory);
+        return res == null ? 0 : res;
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        Float res = getValue(columnIndex, this.floatValueFactory);
+        return res == null ? 0 : res;
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        Double res = getValue(columnIndex, this.doubleValueFactory);
+        return res == null ? 0 : res;
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        return getValue(columnIndex, new BigDecimalValueFactory(this.pset, scale));
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return this.thisRow.getBytes(columnIndex - 1);
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        return getValue(columnIndex, this.dateValueFactory);
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        return getValue(columnIndex, this.timeValueFactory);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        return getValue(columnIndex, this.timestampValueFactory);
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        return getBinaryStream(columnIndex);
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        return getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        byte[] b = getBytes(columnIndex);
+        return b == null ? null : new ByteArrayInputStream(b);
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel), scale);
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException {
+        return getAsciiStream(findColumn(columnLabel));
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        return getUnicodeStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        return getBinaryStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        checkClosed();
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        checkClosed();
+        return new SseResultSetMetaData(getFields(), this.db);
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        Field f = getFields()[columnIndex - 1];
+        switch (f.getMysqlType()) {
+            case INT:
+                return getValue(columnIndex, this.integerValueFactory);
+            case BIGINT:
+                return getValue(columnIndex, this.longValueFactory);
+            case BIGINT_UNSIGNED:
+                BigDecimal unsigned = getValue(columnIndex, this.bigDecimalValueFactory);
+                return unsigned == null ? null : unsigned.toBigInteger();
+            case DECIMAL:
+                return getValue(columnIndex, this.bigDecimalValueFactory);
+            case DOUBLE:
+                return getValue(columnIndex, this.doubleValueFactory);
+            case BOOLEAN:
+                return getValue(columnIndex, this.booleanValueFactory);
+            default:
+                return getValue(columnIndex, this.stringValueFactory);
+        }
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        checkClosed();
+        int index = getColumnDefinition().findColumn(columnLabel, this.pset.getBooleanProperty(PropertyKey.useColumnNamesInFindColumn).getValue(), 1);
+        if (index == -1) {
+            throw SQLError.createSQLException(
+                    Messages.getString("ResultSet.Column____112") + columnLabel + Messages.getString("ResultSet.___not_found._113"),
+                    MysqlErrorNumbers.SQL_STATE_COLUMN_NOT_FOUND, getExceptionInterceptor());
+        }
+        return index;
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        String s = getString(columnIndex);
+        return s == null ? null : new StringReader(s);
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException {
+        return getCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        return getValue(columnIndex, this.bigDecimalValueFactory);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        checkClosed();
+        return this.rowData.isBeforeFirst();
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        checkClosed();
+        return this.maxRowsReached || this.rowData.isAfterLast();
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        checkClosed();
+        return this.thisRow != null && this.rowData.isFirst();
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        checkClosed();
+        return this.thisRow != null && this.rowData.isLast();
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        checkClosed();
+        return this.thisRow == null ? 0 : this.rowData.getPosition() + 1;
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        checkClosed();
+        if (direction != FETCH_FORWARD) {
+            throw forwardOnly();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        checkClosed();
+        return FETCH_FORWARD;
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        checkClosed();
+        this.fetchSize = rows;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        checkClosed();
+        return this.fetchSize;
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        checkClosed();
+        return TYPE_FORWARD_ONLY;
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        checkClosed();
+        return CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        checkClosed();
+        return this.owningStatement;
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+        return getObject(columnIndex);
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        byte[] b = getBytes(columnIndex);
+        return b == null ? null : new com.mysql.cj.jdbc.Blob(b, getExceptionInterceptor());
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        String s = getString(columnIndex);
+        return s == null ? null : new com.mysql.cj.jdbc.Clob(s, getExceptionInterceptor());
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        return getObject(findColumn(columnLabel), map);
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException {
+        return getRef(findColumn(columnLabel));
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException {
+        return getBlob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException {
+        return getClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        return getArray(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        return getValue(columnIndex, new SqlDateValueFactory(this.pset, cal, cal != null ? cal.getTimeZone() : this.defaultTimeZone));
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        return getDate(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        return getValue(columnIndex, new SqlTimeValueFactory(this.pset, cal, cal != null ? cal.getTimeZone() : this.defaultTimeZone));
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        return getTime(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        return getValue(columnIndex, new SqlTimestampValueFactory(this.pset, cal, this.defaultTimeZone, cal != null ? cal.getTimeZone() : this.defaultTimeZone));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        return getTimestamp(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException {
+        String s = getString(columnIndex);
+        if (s == null) {
+            return null;
+        }
+        try {
+            return new URL(s);
+        } catch (MalformedURLException e) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.Malformed_URL____104") + s + "'", MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException {
+        return getURL(findColumn(columnLabel));
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return this.closed;
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        String s = getString(columnIndex);
+        return s == null ? null : new com.mysql.cj.jdbc.NClob(s, getExceptionInterceptor());
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        return getNClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        return getString(columnIndex);
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        return getString(columnLabel);
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        return getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        return getCharacterStream(columnLabel);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        if (type == null) {
+            throw SQLError.createSQLException("Type parameter can not be null", MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        if (type.equals(String.class)) {
+            return (T) getString(columnIndex);
+        } else if (type.equals(BigDecimal.class)) {
+            return (T) getBigDecimal(columnIndex);
+        } else if (type.equals(BigInteger.class)) {
+            BigDecimal d = getBigDecimal(columnIndex);
+            return d == null ? null : (T) d.toBigInteger();
+        } else if (type.equals(Boolean.class) || type.equals(Boolean.TYPE)) {
+            return (T) getValue(columnIndex, this.booleanValueFactory);
+        } else if (type.equals(Byte.class) || type.equals(Byte.TYPE)) {
+            return (T) getValue(columnIndex, this.byteValueFactory);
+        } else if (type.equals(Short.class) || type.equals(Short.TYPE)) {
+            return (T) getValue(columnIndex, this.shortValueFactory);
+        } else if (type.equals(Integer.class) || type.equals(Integer.TYPE)) {
+            return (T) getValue(columnIndex, this.integerValueFactory);
+        } else if (type.equals(Long.class) || type.equals(Long.TYPE)) {
+            return (T) getValue(columnIndex, this.longValueFactory);
+        } else if (type.equals(Float.class) || type.equals(Float.TYPE)) {
+            return (T) getValue(columnIndex, this.floatValueFactory);
+        } else if (type.equals(Double.class) || type.equals(Double.TYPE)) {
+            return (T) getValue(columnIndex, this.doubleValueFactory);
+        } else if (type.equals(byte[].class)) {
+            return (T) getBytes(columnIndex);
+        } else if (type.equals(Date.class)) {
+            return (T) getDate(columnIndex);
+        } else if (type.equals(Time.class)) {
+            return (T) getTime(columnIndex);
+        } else if (type.equals(Timestamp.class)) {
+            return (T) getTimestamp(columnIndex);
+        } else if (type.equals(LocalDate.class)) {
+            return (T) getValue(columnIndex, new LocalDateValueFactory(this.pset));
+        } else if (type.equals(LocalDateTime.class)) {
+            return (T) getValue(columnIndex, new LocalDateTimeValueFactory(this.pset));
+        } else if (type.equals(LocalTime.class)) {
+            return (T) getValue(columnIndex, new LocalTimeValueFactory(this.pset));
+        } else if (type.equals(Object.class)) {
+            return (T) getObject(columnIndex);
+        }
+        throw SQLError.createSQLException("Conversion not supported for type " + type.getName(), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                getExceptionInterceptor());
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        try {
+            return iface.cast(this);
+        } catch (ClassCastException cce) {
+            throw SQLError.createSQLException(Messages.getString("Common.UnableToUnwrap", new Object[] { iface.toString() }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateAsciiStream(String columnName, InputStream x, int length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBigDecimal(String columnName, BigDecimal x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBinaryStream(String columnName, InputStream x, int length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, java.sql.Blob arg1) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, java.sql.Blob arg1) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBoolean(String columnName, boolean x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateByte(String columnName, byte x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateBytes(String columnName, byte[] x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateCharacterStream(String columnName, Reader reader, int length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateDate(int columnIndex, java.sql.Date x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateDate(String columnName, java.sql.Date x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateDouble(String columnName, double x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateFloat(String columnName, float x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateInt(String columnName, int x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateLong(String columnName, long x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNClob(String columnName, NClob nClob) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNull(String columnName) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String nString) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String nString) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(String columnName, Object x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scale) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(String columnName, Object x, int scale) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, SQLType targetSqlType) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, SQLType targetSqlType) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateShort(String columnName, short x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateString(String columnName, String x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateTime(int columnIndex, java.sql.Time x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateTime(String columnName, java.sql.Time x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, java.sql.Timestamp x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateTimestamp(String columnName, java.sql.Timestamp x) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob arg1) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob arg1) throws SQLException {
+        throw new NotUpdatable(Messages.getString("NotUpdatable.0"));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.result.Field;
+
+/**
+ * {@link ResultSetMetaData} of a gateway result. Column types are those inferred by {@link SseResultSet}; every column is reported as nullable, read-only
+ * and without table information since the gateway does not send any.
+ */
+public class SseResultSetMetaData implements ResultSetMetaData {
+
+    private final Field[] fields;
+    private final String db;
+
+    public SseResultSetMetaData(Field[] fields, String db) {
+        this.fields = fields;
+        this.db = db;
+    }
+
+    protected Field getField(int columnIndex) throws SQLException {
+        if ((columnIndex < 1) || (columnIndex > this.fields.length)) {
+            throw SQLError.createSQLException(Messages.getString("ResultSetMetaData.46"), MysqlErrorNumbers.SQL_STATE_INVALID_COLUMN_NUMBER, null);
+        }
+        return this.fields[columnIndex - 1];
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+        return this.fields.length;
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) throws SQLException {
+        getField(column);
+        return false;
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) throws SQLException {
+        // values are compared with utf8mb4_0900_ai_ci
+        getField(column);
+        return false;
+    }
+
+    @Override
+    public boolean isSearchable(int column) throws SQLException {
+        getField(column);
+        return true;
+    }
+
+    @Override
+    public boolean isCurrency(int column) throws SQLException {
+        getField(column);
+        return false;
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+        getField(column);
+        return columnNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int column) throws SQLException {
+        MysqlType type = getField(column).getMysqlType();
+        return type != MysqlType.VARCHAR && type != MysqlType.BOOLEAN && type != MysqlType.BIGINT_UNSIGNED;
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) throws SQLException {
+        return (int) Math.min(getField(column).getMysqlType().getPrecision(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+        return getField(column).getColumnLabel();
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+        return getField(column).getName();
+    }
+
+    @Override
+    public String getSchemaName(int column) throws SQLException {
+        getField(column);
+        return "";
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+        return getColumnDisplaySize(column);
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+        getField(column);
+        return 0;
+    }
+
+    @Override
+    public String getTableName(int column) throws SQLException {
+        getField(column);
+        return "";
+    }
+
+    @Override
+    public String getCatalogName(int column) throws SQLException {
+        getField(column);
+        return this.db == null ? "" : this.db;
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+        return getField(column).getJavaType();
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+        return getField(column).getMysqlType().getName();
+    }
+
+    @Override
+    public boolean isReadOnly(int column) throws SQLException {
+        getField(column);
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) throws SQLException {
+        return !isReadOnly(column);
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) throws SQLException {
+        return isWritable(column);
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+        return getField(column).getMysqlType().getClassName();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        try {
+            return iface.cast(this);
+        } catch (ClassCastException cce) {
+            throw SQLError.createSQLException(Messages.getString("Common.UnableToUnwrap", new Object[] { iface.toString() }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.sql.SQLException;
+
+import com.alibaba.fastjson.JSONArray;
+import com.mysql.cj.exceptions.CJCommunicationsException;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.protocol.a.result.AbstractResultsetRows;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.Row;
+
+/**
+ * Forward-only rows of a gateway result, pulled from a {@link com.mysql.cj.sse.ResultSet} one at a time so that streaming results stay streaming.
+ */
+public class SseResultsetRows extends AbstractResultsetRows {
+
+    private final com.mysql.cj.sse.ResultSet source;
+    private JsonRow row;
+
+    /** Row read ahead by {@link #hasNext()}, null at the end. */
+    private JSONArray pending;
+    private boolean pendingFetched = false;
+
+    public SseResultsetRows(com.mysql.cj.sse.ResultSet source) {
+        this.source = source;
+    }
+
+    /**
+     * Sets the fields the rows are decoded with.
+     * 
+     * @param fields
+     *            result fields
+     */
+    public void setFields(Field[] fields) {
+        this.row = new JsonRow(fields);
+    }
+
+    /**
+     * @return the column labels sent by the gateway, possibly only known after the first row was read
+     */
+    public JSONArray getColumns() {
+        return this.source.getColumns();
+    }
+
+    /**
+     * @return the next row to be returned by {@link #next()} without moving to it, or null if there is none
+     */
+    public JSONArray peek() {
+        return hasNext() ? this.pending : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.pendingFetched) {
+            try {
+                this.pending = this.source.next() ? this.source.getRow() : null;
+            } catch (SQLException e) {
+                throw ExceptionFactory.createException(CJCommunicationsException.class, e.getMessage(), e);
+            }
+            this.pendingFetched = true;
+            if (this.pending == null && this.currentPositionInFetchedRows == BEFORE_START_OF_ROWS) {
+                this.wasEmpty = true;
+            }
+        }
+        return this.pending != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            this.currentPositionInFetchedRows++;
+            return null;
+        }
+        this.pendingFetched = false;
+        this.currentPositionInFetchedRows++;
+        return this.row.setCells(this.pending);
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        return this.currentPositionInFetchedRows == BEFORE_START_OF_ROWS && hasNext();
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        return this.currentPositionInFetchedRows != BEFORE_START_OF_ROWS && this.pendingFetched && this.pending == null;
+    }
+
+    @Override
+    public boolean isFirst() {
+        return this.currentPositionInFetchedRows == 0;
+    }
+
+    @Override
+    public boolean isLast() {
+        return this.currentPositionInFetchedRows != BEFORE_START_OF_ROWS && !isAfterLast() && !hasNext();
+    }
+
+    @Override
+    public int getPosition() {
+        return this.currentPositionInFetchedRows;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.source.close();
+        } catch (SQLException e) {
+            throw ExceptionFactory.createException(CJCommunicationsException.class, e.getMessage(), e);
+        }
+        this.pending = null;
+        this.pendingFetched = true;
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.QueryReturnType;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.util.Util;
+
+/**
+ * {@link Statement} sending queries to an HTTP query gateway. Each execution is one HTTP request on a pooled connection.
+ * <p>
+ * As with the classic protocol, {@code setFetchSize(Integer.MIN_VALUE)} makes results stream: rows are then decoded while the application reads them and
+ * the pooled HTTP connection stays leased until the result set is read through or closed.
+ */
+public class SseStatement implements Statement {
+
+    protected final SseConnection connection;
+    protected final JdbcPropertySet pset;
+    protected final com.mysql.cj.sse.Statement sseStatement;
+    protected final boolean continueBatchOnError;
+
+    private final boolean defaultStreamResults;
+
+    protected boolean closed = false;
+    protected SseResultSet results;
+    protected long updateCount = -1;
+    protected List<String> batchedSql;
+    protected int fetchSize = 0;
+    protected int maxRows = 0;
+    protected int queryTimeout = 0;
+    private boolean closeOnCompletion = false;
+
+    public SseStatement(SseConnection connection) {
+        this.connection = connection;
+        this.pset = connection.getPropertySet();
+        this.sseStatement = connection.createSseStatement();
+        this.defaultStreamResults = this.sseStatement.isStreamResults();
+        this.continueBatchOnError = this.pset.getBooleanProperty(PropertyKey.continueBatchOnError).getValue();
+    }
+
+    protected ExceptionInterceptor getExceptionInterceptor() {
+        return this.connection.getExceptionInterceptor();
+    }
+
+    protected SseConnection checkClosed() throws SQLException {
+        if (this.closed) {
+            throw SQLError.createSQLException(Messages.getString("Statement.AlreadyClosed"), MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN,
+                    getExceptionInterceptor());
+        }
+        this.connection.checkClosed();
+        return this.connection;
+    }
+
+    protected void checkNullOrEmptyQuery(String sql) throws SQLException {
+        if (sql == null) {
+            throw SQLError.createSQLException(Messages.getString("Statement.59"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        if (sql.length() == 0) {
+            throw SQLError.createSQLException(Messages.getString("Statement.61"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+    }
+
+    protected QueryReturnType getQueryReturnType(String sql) {
+        return QueryInfo.getQueryReturnType(sql, false);
+    }
+
+    /**
+     * Closes the result of the previous execution, which also gives a streaming result's HTTP connection back to the pool.
+     */
+    protected void closeResults() throws SQLException {
+        SseResultSet rs = this.results;
+        if (rs != null) {
+            // detach first so that closing it doesn't trigger closeOnCompletion()
+            this.results = null;
+            rs.close();
+        }
+        this.updateCount = -1;
+    }
+
+    protected SseResultSet executeQueryInternal(String sql) throws SQLException {
+        checkClosed();
+        checkNullOrEmptyQuery(sql);
+        if (getQueryReturnType(sql) == QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET) {
+            throw SQLError.createSQLException(Messages.getString("Statement.57"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        closeResults();
+
+        SseResultSet rs = new SseResultSet(new SseResultsetRows(this.sseStatement.executeQuery(sql)), this, this.pset, this.connection.getDatabase(),
+                getExceptionInterceptor());
+        rs.setMaxRows(this.maxRows);
+        rs.setFetchSize(this.fetchSize);
+        this.results = rs;
+        return rs;
+    }
+
+    protected long executeUpdateInternal(String sql) throws SQLException {
+        checkClosed();
+        checkNullOrEmptyQuery(sql);
+        if (getQueryReturnType(sql) == QueryReturnType.PRODUCES_RESULT_SET) {
+            throw SQLError.createSQLException(Messages.getString("Statement.46"), "01S03", getExceptionInterceptor());
+        }
+        closeResults();
+
+        this.updateCount = this.sseStatement.executeUpdate(sql);
+        return this.updateCount;
+    }
+
+    protected boolean executeInternal(String sql) throws SQLException {
+        checkClosed();
+        checkNullOrEmptyQuery(sql);
+        QueryReturnType type = getQueryReturnType(sql);
+        if (type == QueryReturnType.PRODUCES_RESULT_SET || type == QueryReturnType.MAY_PRODUCE_RESULT_SET) {
+            executeQueryInternal(sql);
+            return true;
+        }
+        executeUpdateInternal(sql);
+        return false;
+    }
+
+    /**
+     * Runs the given statements one request at a time.
+     * 
+     * @param sqls
+     *            statements to run
+     * @return update counts
+     * @throws SQLException
+     *             a {@link java.sql.BatchUpdateException} with the counts gathered so far if a statement fails
+     */
+    protected long[] executeSerially(List<String> sqls) throws SQLException {
+        long[] updateCounts = new long[sqls.size()];
+        Arrays.fill(updateCounts, EXECUTE_FAILED);
+        SQLException sqlEx = null;
+        for (int i = 0; i < sqls.size(); i++) {
+            try {
+                updateCounts[i] = executeUpdateInternal(sqls.get(i));
+            } catch (SQLException ex) {
+                if (!this.continueBatchOnError) {
+                    throw SQLError.createBatchUpdateException(ex, Arrays.copyOf(updateCounts, i), getExceptionInterceptor());
+                }
+                sqlEx = ex;
+            }
+        }
+        if (sqlEx != null) {
+            throw SQLError.createBatchUpdateException(sqlEx, updateCounts, getExceptionInterceptor());
+        }
+        return updateCounts;
+    }
+
+    protected long[] executeBatchInternal() throws SQLException {
+        checkClosed();
+        if (this.batchedSql == null || this.batchedSql.isEmpty()) {
+            return new long[0];
+        }
+        try {
+            return executeSerially(this.batchedSql);
+        } finally {
+            clearBatch();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        return executeQueryInternal(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        return Util.truncateAndConvertToInt(executeUpdateInternal(sql));
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        return executeUpdateInternal(sql);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        return executeInternal(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        checkGeneratedKeys(autoGeneratedKeys);
+        return executeUpdate(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        checkGeneratedKeys(autoGeneratedKeys);
+        return execute(sql);
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    private void checkGeneratedKeys(int autoGeneratedKeys) throws SQLException {
+        if (autoGeneratedKeys == RETURN_GENERATED_KEYS) {
+            throw SQLError.createSQLFeatureNotSupportedException();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        checkClosed();
+        checkNullOrEmptyQuery(sql);
+        if (this.batchedSql == null) {
+            this.batchedSql = new ArrayList<>();
+        }
+        this.batchedSql.add(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        checkClosed();
+        if (this.batchedSql != null) {
+            this.batchedSql.clear();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        return Util.truncateAndConvertToInt(executeBatchInternal());
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        return executeBatchInternal();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            closeResults();
+        } finally {
+            this.closed = true;
+            this.batchedSql = null;
+            this.sseStatement.close();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return this.closed;
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        checkClosed();
+        return this.pset.getIntegerProperty(PropertyKey.maxAllowedPacket).getValue();
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        checkClosed();
+        return this.maxRows;
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        checkClosed();
+        if (max < 0) {
+            throw SQLError.createSQLException(Messages.getString("Statement.15") + max + " < 0.", MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    getExceptionInterceptor());
+        }
+        this.maxRows = max;
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        checkClosed();
+        return this.queryTimeout;
+    }
+
+    /**
+     * Query timeouts are enforced by the gateway; see the {@code socketTimeout} connection property for a client-side limit.
+     */
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        checkClosed();
+        if (seconds < 0) {
+            throw SQLError.createSQLException(Messages.getString("Statement.21"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        this.queryTimeout = seconds;
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        throw SQLError.createSQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        checkClosed();
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        checkClosed();
+        return this.results;
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return Util.truncateAndConvertToInt(getLargeUpdateCount());
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        checkClosed();
+        return this.results != null ? -1 : this.updateCount;
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return getMoreResults(CLOSE_CURRENT_RESULT);
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        checkClosed();
+        if (current != KEEP_CURRENT_RESULT) {
+            closeResults();
+        } else {
+            this.results = null;
+        }
+        this.updateCount = -1;
+        return false;
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        checkClosed();
+        if (direction != ResultSet.FETCH_FORWARD) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.ForwardOnly"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                    getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        checkClosed();
+        return ResultSet.FETCH_FORWARD;
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        checkClosed();
+        if (((rows < 0) && (rows != Integer.MIN_VALUE)) || ((this.maxRows > 0) && (rows > this.maxRows))) {
+            throw SQLError.createSQLException(Messages.getString("Statement.7"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        this.fetchSize = rows;
+        this.sseStatement.setStreamResults(rows == Integer.MIN_VALUE || this.defaultStreamResults);
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        checkClosed();
+        return this.fetchSize;
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        checkClosed();
+        return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        checkClosed();
+        return ResultSet.TYPE_FORWARD_ONLY;
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        checkClosed();
+        return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkClosed();
+        return this.connection;
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        checkClosed();
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        checkClosed();
+        return false;
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        checkClosed();
+        this.closeOnCompletion = true;
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        checkClosed();
+        return this.closeOnCompletion;
+    }
+
+    /**
+     * Called by a result set of this statement when it is closed.
+     */
+    void resultSetClosed(SseResultSet rs) throws SQLException {
+        if (rs == this.results) {
+            this.results = null;
+            if (this.closeOnCompletion) {
+                close();
+            }
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        try {
+            return iface.cast(this);
+        } catch (ClassCastException cce) {
+            throw SQLError.createSQLException(Messages.getString("Common.UnableToUnwrap", new Object[] { iface.toString() }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+}
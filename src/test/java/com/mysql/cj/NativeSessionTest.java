@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.ConnectionUrl;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.a.NativeCapabilities;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeProtocol;
+import com.mysql.cj.protocol.a.NativeServerSession;
+import com.mysql.cj.util.PerVmServerConfigCacheFactory;
+
+/**
+ * Tests for the server configuration cache checks of NativeSession, which NativeCharsetSettings also applies to the custom character sets it caches.
+ */
+public class NativeSessionTest {
+    /**
+     * A session connected, as far as the server configuration cache is concerned, to a server of the given version.
+     */
+    private static NativeSession newSession(String url, String serverVersion, int ttl) {
+        PropertySet pset = new DefaultPropertySet();
+        pset.getBooleanProperty(PropertyKey.cacheServerConfiguration).setValue(true);
+        pset.getIntegerProperty(PropertyKey.serverConfigCacheTtl).setValue(ttl);
+
+        NativePacketPayload handshake = new NativePacketPayload(64);
+        handshake.writeInteger(IntegerDataType.INT1, 10);
+        byte[] version = serverVersion.getBytes(StandardCharsets.US_ASCII);
+        handshake.writeBytes(StringSelfDataType.STRING_TERM, version, 0, version.length);
+        handshake.writeInteger(IntegerDataType.INT4, 1);
+        handshake.writeBytes(StringLengthDataType.STRING_FIXED, new byte[8], 0, 8);
+        handshake.writeInteger(IntegerDataType.INT1, 0);
+        handshake.writeInteger(IntegerDataType.INT2, 0);
+        handshake.writeInteger(IntegerDataType.INT1, 255);
+        handshake.writeInteger(IntegerDataType.INT2, 0);
+        handshake.writeInteger(IntegerDataType.INT2, 0);
+        handshake.writeInteger(IntegerDataType.INT1, 0);
+        handshake.writeBytes(StringLengthDataType.STRING_FIXED, new byte[10], 0, 10);
+        handshake.setPosition(0);
+
+        NativeServerSession stubServerSession = new NativeServerSession(pset);
+        stubServerSession.setCapabilities(new NativeCapabilities(handshake));
+        NativeProtocol protocol = new NativeProtocol(null) {
+            @Override
+            public NativeServerSession getServerSession() {
+                return stubServerSession;
+            }
+        };
+
+        NativeSession session = new NativeSession(ConnectionUrl.getConnectionUrlInstance(url, null).getMainHost(), pset);
+        session.protocol = protocol;
+        return session;
+    }
+
+    private static Map<String, String> cache(String url, String serverVersion, long loadedAt) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("max_allowed_packet", "65535");
+        variables.put("server_version_string", serverVersion);
+        variables.put("server_config_loaded_at", String.valueOf(loadedAt));
+        CacheAdapter<String, Map<String, String>> cache = new PerVmServerConfigCacheFactory().getInstance(new Object(), url, 0, 0);
+        cache.invalidate(url);
+        cache.put(url, variables);
+        return variables;
+    }
+
+    private static Map<String, String> cached(String url) {
+        return new PerVmServerConfigCacheFactory().getInstance(new Object(), url, 0, 0).get(url);
+    }
+
+    @Test
+    public void testVersionMismatch() {
+        String url = "jdbc:mysql://version/db";
+        NativeSession session = newSession(url, "8.0.29", 0);
+        assertTrue(session.isCachedServerConfigurationValid("8.0.29", 0));
+        assertFalse(session.isCachedServerConfigurationValid("8.0.28", System.currentTimeMillis()));
+        assertFalse(session.isCachedServerConfigurationValid(null, System.currentTimeMillis()));
+
+        cache(url, "8.0.28", System.currentTimeMillis());
+        assertFalse(session.loadCachedServerVariables(new Object()));
+        assertNull(cached(url));
+        assertNull(session.getServerSession().getServerVariable("max_allowed_packet"));
+    }
+
+    @Test
+    public void testTtlExpiry() {
+        String url = "jdbc:mysql://ttl/db";
+        NativeSession session = newSession(url, "8.0.29", 60000);
+        long now = System.currentTimeMillis();
+        assertTrue(session.isCachedServerConfigurationValid("8.0.29", now - 1000));
+        assertFalse(session.isCachedServerConfigurationValid("8.0.29", now - 61000));
+
+        cache(url, "8.0.29", now - 1000);
+        assertTrue(session.loadCachedServerVariables(new Object()));
+        cache(url, "8.0.29", now - 61000);
+        assertFalse(session.loadCachedServerVariables(new Object()));
+        assertNull(cached(url));
+
+        // with no TTL cached configurations only expire when the server version changes
+        session.getPropertySet().getIntegerProperty(PropertyKey.serverConfigCacheTtl).setValue(0);
+        assertTrue(session.isCachedServerConfigurationValid("8.0.29", 0));
+        cache(url, "8.0.29", 0);
+        assertTrue(session.loadCachedServerVariables(new Object()));
+    }
+
+    @Test
+    public void testLoadedAtNotInServerVariables() {
+        String url = "jdbc:mysql://loadedat/db";
+        NativeSession session = newSession(url, "8.0.29", 0);
+        session.getServerSession().getServerVariables().put("max_allowed_packet", "1024");
+        session.getServerSession().getServerVariables().put("character_set_client", "utf8mb4");
+        Map<String, String> variables = cache(url, "8.0.29", System.currentTimeMillis());
+
+        assertTrue(session.loadCachedServerVariables(new Object()));
+        Map<String, String> live = session.getServerSession().getServerVariables();
+        assertFalse(live.containsKey("server_config_loaded_at"));
+        // variables set by earlier initialization steps win over the cached ones
+        assertEquals("1024", live.get("max_allowed_packet"));
+        assertEquals("utf8mb4", live.get("character_set_client"));
+        assertEquals("8.0.29", live.get("server_version_string"));
+        // the cached configuration keeps its load time
+        assertEquals(variables.get("server_config_loaded_at"), cached(url).get("server_config_loaded_at"));
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.PerVmQueryInfoCacheFactory.SharedQueryInfoCache;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.ServerSession;
+
+/**
+ * Tests for PerVmQueryInfoCacheFactory.
+ */
+public class PerVmQueryInfoCacheFactoryTest {
+    private static QueryInfo parse(String sql) {
+        return new QueryInfo(sql, "UTF-8", false, false, false, null);
+    }
+
+    private static CacheAdapter<String, QueryInfo> newCache(String url, int entries, int maxKeySize) {
+        PerVmQueryInfoCacheFactory.caches.remove(PerVmQueryInfoCacheFactory.key(url, ""));
+        return new PerVmQueryInfoCacheFactory().getInstance(new Object(), url, entries, maxKeySize);
+    }
+
+    private static SharedQueryInfoCache getCache(String url) {
+        List<SharedQueryInfoCache> caches = PerVmQueryInfoCacheFactory.getCaches(url);
+        assertEquals(1, caches.size());
+        return caches.get(0);
+    }
+
+    @Test
+    public void testSharedPerUrl() {
+        String url = "jdbc:mysql://shared/db";
+        CacheAdapter<String, QueryInfo> c1 = newCache(url, 10, 256);
+        CacheAdapter<String, QueryInfo> c2 = new PerVmQueryInfoCacheFactory().getInstance(new Object(), url, 10, 16);
+        CacheAdapter<String, QueryInfo> other = new PerVmQueryInfoCacheFactory().getInstance(new Object(), url + "?x=1", 10, 256);
+
+        String sql = "SELECT * FROM t WHERE a = ?";
+        QueryInfo qi = parse(sql);
+        assertNull(c1.get(sql));
+        c1.put(sql, qi);
+        assertSame(qi, c1.get(sql));
+        assertNull(other.get(sql));
+        // the second connection doesn't cache statements longer than its own limit
+        assertNull(c2.get(sql));
+        c2.put("SELECT 1", parse("SELECT 1"));
+        assertSame(qi, c1.get(sql));
+        assertTrue(c1.get("SELECT 1") != null);
+
+        SharedQueryInfoCache cache = getCache(url);
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        c1.invalidate(sql);
+        assertNull(c1.get(sql));
+        c1.invalidateAll(Collections.singleton("SELECT 1"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEstimatedBytes());
+    }
+
+    @Test
+    public void testEntryLimit() {
+        String url = "jdbc:mysql://entries/db";
+        CacheAdapter<String, QueryInfo> c = newCache(url, 10, 256);
+        for (int i = 0; i < 10; i++) {
+            c.put("SELECT " + i, parse("SELECT " + i));
+        }
+        // recently read entries get a second chance
+        for (int i = 0; i < 5; i++) {
+            c.get("SELECT " + i);
+        }
+        for (int i = 10; i < 15; i++) {
+            c.put("SELECT " + i, parse("SELECT " + i));
+        }
+        SharedQueryInfoCache cache = getCache(url);
+        assertEquals(10, cache.size());
+        assertEquals(5, cache.getEvictions());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(c.get("SELECT " + i) != null, "SELECT " + i);
+        }
+        for (int i = 5; i < 10; i++) {
+            assertNull(c.get("SELECT " + i), "SELECT " + i);
+        }
+    }
+
+    @Test
+    public void testByteLimit() {
+        String url = "jdbc:mysql://bytes/db";
+        PerVmQueryInfoCacheFactory.caches.remove(PerVmQueryInfoCacheFactory.key(url, ""));
+        SharedQueryInfoCache cache = PerVmQueryInfoCacheFactory.sharedCache(PerVmQueryInfoCacheFactory.key(url, ""));
+        StringBuilder sql = new StringBuilder("SELECT '");
+        for (int i = 0; i < 1000; i++) {
+            sql.append('x');
+        }
+        int size = SharedQueryInfoCache.estimateSize(sql + "00'", parse(sql + "00'"));
+        cache.ensureCapacity(1000, size * 4);
+        for (int i = 10; i < 30; i++) {
+            String s = sql.toString() + i + "'";
+            cache.put(s, parse(s));
+            assertTrue(cache.getEstimatedBytes() <= size * 4);
+        }
+        assertEquals(4, cache.size());
+        assertEquals(16, cache.getEvictions());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEstimatedBytes());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        String url = "jdbc:mysql://concurrent/db";
+        CacheAdapter<String, QueryInfo> c = newCache(url, 100, 256);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        String sql = "SELECT " + (i % 300);
+                        QueryInfo qi = c.get(sql);
+                        if (qi == null) {
+                            c.put(sql, parse(sql));
+                        } else {
+                            assertEquals(sql, qi.getSqlForBatch());
+                        }
+                    }
+                });
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        SharedQueryInfoCache cache = getCache(url);
+        // the last thread to sweep checked the limits after all the others were done adding
+        assertTrue(cache.size() <= 100, "size " + cache.size());
+        assertEquals(8 * 20000, cache.getHits() + cache.getMisses());
+        long expectedBytes = 0;
+        for (int i = 0; i < 300; i++) {
+            String sql = "SELECT " + i;
+            if (cache.get(sql) != null) {
+                expectedBytes += SharedQueryInfoCache.estimateSize(sql, parse(sql));
+            }
+        }
+        assertEquals(expectedBytes, cache.getEstimatedBytes());
+    }
+
+    /**
+     * A connection with the given properties, whose server has NO_BACKSLASH_ESCAPES set when noBackslashEscapes[0] is.
+     */
+    private static MysqlConnection connection(PropertySet pset, boolean[] noBackslashEscapes) {
+        ClassLoader loader = PerVmQueryInfoCacheFactoryTest.class.getClassLoader();
+        ServerSession serverSession = (ServerSession) Proxy.newProxyInstance(loader, new Class<?>[] { ServerSession.class },
+                (proxy, method, args) -> method.getName().equals("isNoBackslashEscapesSet") ? noBackslashEscapes[0] : null);
+        Session session = (Session) Proxy.newProxyInstance(loader, new Class<?>[] { Session.class },
+                (proxy, method, args) -> method.getName().equals("getServerSession") ? serverSession : null);
+        return (MysqlConnection) Proxy.newProxyInstance(loader, new Class<?>[] { MysqlConnection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getPropertySet":
+                    return pset;
+                case "getSession":
+                    return session;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    public void testSharedPerParseSettings() {
+        String url = "jdbc:mysql://settings/db";
+        PropertySet utf8 = new DefaultPropertySet();
+        utf8.getStringProperty(PropertyKey.characterEncoding).setValue("UTF-8");
+        PropertySet latin1 = new DefaultPropertySet();
+        latin1.getStringProperty(PropertyKey.characterEncoding).setValue("ISO-8859-1");
+        boolean[] noBackslashEscapes = { false };
+        boolean[] noBackslashEscapes2 = { false };
+
+        CacheAdapter<String, QueryInfo> c1 = new PerVmQueryInfoCacheFactory().getInstance(connection(utf8, noBackslashEscapes), url, 10, 256);
+        CacheAdapter<String, QueryInfo> c2 = new PerVmQueryInfoCacheFactory().getInstance(connection(utf8, noBackslashEscapes2), url, 10, 256);
+        CacheAdapter<String, QueryInfo> c3 = new PerVmQueryInfoCacheFactory().getInstance(connection(latin1, new boolean[1]), url, 10, 256);
+
+        String sql = "SELECT 'a\\'', ?";
+        QueryInfo qi = parse(sql);
+        c1.put(sql, qi);
+        assertSame(qi, c2.get(sql));
+        // a different encoding, set outside the URL, doesn't share the cache
+        assertNull(c3.get(sql));
+        assertEquals(2, PerVmQueryInfoCacheFactory.getCaches(url).size());
+
+        // nor does a connection whose server switched to NO_BACKSLASH_ESCAPES
+        noBackslashEscapes2[0] = true;
+        assertNull(c2.get(sql));
+        noBackslashEscapes2[0] = false;
+        assertSame(qi, c2.get(sql));
+
+        // nor a connection that changed 'rewriteBatchedStatements' at runtime
+        utf8.getBooleanProperty(PropertyKey.rewriteBatchedStatements).setValue(true);
+        assertNull(c1.get(sql));
+        assertNull(c2.get(sql));
+        c1.put(sql, qi);
+        assertSame(qi, c2.get(sql));
+    }
+
+    @Test
+    public void testReleased() throws Exception {
+        String url = "jdbc:mysql://released/db";
+        CacheAdapter<String, QueryInfo> c = new PerVmQueryInfoCacheFactory().getInstance(new Object(), url, 10, 256);
+        c.put("SELECT 1", parse("SELECT 1"));
+        assertEquals(1, PerVmQueryInfoCacheFactory.getCaches(url).size());
+        String key = PerVmQueryInfoCacheFactory.key(url, "");
+        assertTrue(PerVmQueryInfoCacheFactory.caches.containsKey(key));
+
+        // once no connection uses it, the cache is released and its entry dropped
+        c = null;
+        for (int i = 0; i < 100 && PerVmQueryInfoCacheFactory.caches.containsKey(key); i++) {
+            System.gc();
+            Thread.sleep(10);
+            PerVmQueryInfoCacheFactory.sharedCache(PerVmQueryInfoCacheFactory.key(url + "/other", ""));
+        }
+        assertFalse(PerVmQueryInfoCacheFactory.caches.containsKey(key));
+        assertTrue(PerVmQueryInfoCacheFactory.getCaches(url).isEmpty());
+    }
+}
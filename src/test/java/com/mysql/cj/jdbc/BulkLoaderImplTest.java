@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BulkLoaderImpl}, against a connection whose statements read the "LOAD DATA LOCAL INFILE" data and count its lines.
+ */
+public class BulkLoaderImplTest {
+
+    private ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private String executed;
+    private volatile boolean fail;
+    private volatile boolean aborted;
+
+    private JdbcConnection connection() {
+        return (JdbcConnection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { JdbcConnection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "createStatement":
+                    return statement();
+                case "abortInternal":
+                    this.aborted = true;
+                    return null;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private JdbcStatement statement() {
+        InputStream[] data = new InputStream[1];
+        return (JdbcStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { JdbcStatement.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "setLocalInfileInputStream":
+                    data[0] = (InputStream) args[0];
+                    return null;
+                case "executeLargeUpdate":
+                    this.executed = (String) args[0];
+                    if (this.fail) {
+                        throw new SQLSyntaxErrorException("Table 'test.t' doesn't exist");
+                    }
+                    long lines = 0;
+                    byte[] buf = new byte[100000];
+                    int n;
+                    try (InputStream in = data[0]) {
+                        while ((n = in.read(buf, 0, buf.length)) != -1) {
+                            this.received.write(buf, 0, n);
+                            for (int i = 0; i < n; i++) {
+                                if (buf[i] == '\n') {
+                                    lines++;
+                                }
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new SQLException(e);
+                    }
+                    return lines;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private String receivedText() {
+        return new String(this.received.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testValues() throws Exception {
+        BulkLoaderImpl loader = new BulkLoaderImpl(connection(), "LOAD DATA LOCAL INFILE 'x' INTO TABLE t", r -> new Thread(r).start());
+        loader.add(0).add(-1).add(Integer.MIN_VALUE).add(Long.MAX_VALUE).add(Long.MIN_VALUE).endRow();
+        loader.add("plain").add("tab\there").add("new\nline").add("back\\slash").add("nul\0").add("").endRow();
+        loader.add("é€😀").add("\ud83d").add((String) null).addNull().endRow();
+        loader.add(new byte[] { 0, 1, '\t', '\n', '\\', (byte) 0xff }).add((byte[]) null).endRow();
+        loader.add(LocalDate.of(2022, 1, 2)).add(LocalTime.of(3, 4, 5)).add(LocalTime.of(23, 59, 59, 123456000))
+                .add(LocalDateTime.of(999, 12, 31, 0, 0, 0, 1)).endRow();
+        loader.add("not ended");
+        assertEquals(5, loader.finish());
+        assertEquals("LOAD DATA LOCAL INFILE 'x' INTO TABLE t", this.executed);
+
+        byte[] bytes = this.received.toByteArray();
+        String[] lines = new String(bytes, StandardCharsets.ISO_8859_1).split("\n", -1);
+        assertEquals(6, lines.length);
+        assertEquals("0\t-1\t-2147483648\t9223372036854775807\t-9223372036854775808", lines[0]);
+        assertEquals("plain\ttab\\there\tnew\\nline\tback\\\\slash\tnul\\0\t", lines[1]);
+        assertEquals("é€😀\t?\t\\N\t\\N", new String(lines[2].getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8));
+        assertArrayEquals(new byte[] { '\\', '0', 1, '\\', 't', '\\', 'n', '\\', '\\', (byte) 0xff, '\t', '\\', 'N' },
+                lines[3].getBytes(StandardCharsets.ISO_8859_1));
+        assertEquals("2022-01-02\t03:04:05\t23:59:59.123456000\t0999-12-31 00:00:00.000000001", lines[4]);
+        assertEquals("", lines[5]);
+
+        assertThrows(SQLException.class, () -> loader.add(1));
+        loader.close();
+    }
+
+    @Test
+    public void testChunks() throws Exception {
+        List<long[]> progress = new ArrayList<>();
+        BulkLoader loader = new BulkLoaderImpl(connection(), "LOAD DATA", r -> new Thread(r).start());
+        loader.setProgressListener((rows, bytes) -> progress.add(new long[] { rows, bytes }));
+
+        // rows crossing chunk boundaries, and rows longer than a chunk
+        char[] big = new char[BulkLoaderImpl.CHUNK_SIZE * 2 + 17];
+        Arrays.fill(big, 'x');
+        String bigValue = new String(big);
+        StringBuilder expected = new StringBuilder();
+        int count = 0;
+        for (int i = 0; i < 50000; i++) {
+            String value = i % 10000 == 5000 ? bigValue : "value " + i;
+            loader.add(i).add(value).endRow();
+            expected.append(i).append('\t').append(value).append('\n');
+            count++;
+        }
+        assertEquals(count, loader.finish());
+        assertEquals(expected.toString(), receivedText());
+
+        assertTrue(progress.size() > 5);
+        long[] last = progress.get(progress.size() - 1);
+        assertEquals(count, last[0]);
+        assertEquals(this.received.size(), last[1]);
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i)[0] > progress.get(i - 1)[0]);
+            assertTrue(progress.get(i)[1] > progress.get(i - 1)[1]);
+        }
+    }
+
+    @Test
+    public void testCloseAborts() throws Exception {
+        BulkLoader loader = new BulkLoaderImpl(connection(), "LOAD DATA", r -> new Thread(r).start());
+        loader.add(1).add("a").endRow();
+        loader.add(2).add("b");
+        loader.close();
+        // the statement never got the end of the data, and the connection stuck in it was closed
+        assertEquals("", receivedText());
+        assertTrue(this.aborted);
+        assertThrows(SQLException.class, () -> loader.endRow());
+        assertThrows(SQLException.class, () -> loader.finish());
+        loader.close();
+    }
+
+    @Test
+    public void testCloseAfterStatementFailure() throws Exception {
+        this.fail = true;
+        BulkLoader loader = new BulkLoaderImpl(connection(), "LOAD DATA", r -> new Thread(r).start());
+        loader.add(1).endRow();
+        // the statement ended on its own, the connection is left open
+        loader.close();
+        assertFalse(this.aborted);
+    }
+
+    @Test
+    public void testYearOutOfRange() throws Exception {
+        BulkLoader loader = new BulkLoaderImpl(connection(), "LOAD DATA", r -> new Thread(r).start());
+        loader.add(1).add(LocalDate.of(0, 1, 1)).add(LocalDateTime.of(9999, 12, 31, 23, 59)).endRow();
+        assertThrows(SQLException.class, () -> loader.add(LocalDate.of(-1, 1, 1)));
+        assertThrows(SQLException.class, () -> loader.add(LocalDate.of(10000, 1, 1)));
+        assertThrows(SQLException.class, () -> loader.add(LocalDateTime.of(12345, 1, 1, 0, 0)));
+        // the rejected values left the row as it was
+        loader.add(2).endRow();
+        assertEquals(2, loader.finish());
+        assertEquals("1\t0000-01-01\t9999-12-31 23:59:00\n2\n", receivedText());
+    }
+
+    @Test
+    public void testStatementFailure() throws Exception {
+        this.fail = true;
+        BulkLoader loader = new BulkLoaderImpl(connection(), "LOAD DATA", r -> new Thread(r).start());
+        // the data isn't read, adding rows fails once the queue is full
+        SQLException e = assertThrows(SQLException.class, () -> {
+            for (int i = 0; i < 10000000; i++) {
+                loader.add(i).add("some value").endRow();
+            }
+        });
+        assertTrue(e instanceof SQLSyntaxErrorException);
+        assertThrows(SQLException.class, () -> loader.finish());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+
+/**
+ * Time per borrow/return pair of {@link MysqlPoolingDataSource} ("native") against a generic pool in the style of commons-pool, a blocking deque of
+ * {@link MysqlPooledConnection}s that are given back by a {@link ConnectionEventListener} ("generic"). Both hand out the same {@link ConnectionWrapper}
+ * handles over stand-in physical connections that never touch the network, so only the pools themselves are measured. Each thread holds a connection
+ * for a few hundred nanoseconds of work.
+ *
+ * Usage: <code>ConnectionPoolBenchmark [native|generic] [threads] [poolSize] [borrowsPerThread] [passes]</code>
+ */
+public class ConnectionPoolBenchmark {
+
+    private interface Pool {
+        Connection borrow() throws SQLException;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // one pool per JVM, as in an application
+        boolean nativePool = args.length == 0 || "native".equals(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int poolSize = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int borrows = args.length > 3 ? Integer.parseInt(args[3]) : 200000;
+        int passes = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        Pool pool;
+        if (nativePool) {
+            MysqlPoolingDataSource ds = new MysqlPoolingDataSource() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                java.sql.Connection openPhysicalConnection() throws SQLException {
+                    return physicalConnection();
+                }
+            };
+            ds.setMaximumPoolSize(poolSize);
+            ds.setResetSessionOnReturn(false);
+            pool = ds::getConnection;
+        } else {
+            pool = genericPool(poolSize);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int pass = 0; pass < passes + 3; pass++) {
+            long nanos = run(pool, threads, borrows);
+            if (pass >= 3) {
+                // the first passes warm up
+                best = Math.min(best, nanos);
+            }
+        }
+        System.out.printf("%-8s %2d threads, pool of %2d: %8.1f ns per borrow/return, %6.2f M/s%n", nativePool ? "native" : "generic", threads, poolSize,
+                (double) best / ((long) threads * borrows), (long) threads * borrows * 1e3 / best);
+    }
+
+    /** Keeps the work done while holding a connection from being optimized away. */
+    static volatile long sink;
+
+    private static long run(Pool pool, int threads, int borrows) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        Exception[] failure = new Exception[1];
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    long work = 0;
+                    for (int i = 0; i < borrows; i++) {
+                        Connection c = pool.borrow();
+                        try {
+                            for (int w = 0; w < 50; w++) {
+                                work += w * i;
+                            }
+                        } finally {
+                            c.close();
+                        }
+                    }
+                    sink = work;
+                } catch (Exception e) {
+                    failure[0] = e;
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long nanos = System.nanoTime() - begin;
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return nanos;
+    }
+
+    private static Pool genericPool(int size) {
+        LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+        ConnectionEventListener listener = new ConnectionEventListener() {
+            @Override
+            public void connectionClosed(ConnectionEvent event) {
+                idle.offerFirst((PooledConnection) event.getSource());
+            }
+
+            @Override
+            public void connectionErrorOccurred(ConnectionEvent event) {
+            }
+        };
+        for (int i = 0; i < size; i++) {
+            MysqlPooledConnection pc = new MysqlPooledConnection(physicalConnection());
+            pc.addConnectionEventListener(listener);
+            idle.add(pc);
+        }
+        return () -> {
+            try {
+                PooledConnection pc = idle.pollFirst(30, TimeUnit.SECONDS);
+                if (pc == null) {
+                    throw new SQLException("Timeout");
+                }
+                return pc.getConnection();
+            } catch (InterruptedException e) {
+                throw new SQLException(e);
+            }
+        };
+    }
+
+    private static JdbcConnection physicalConnection() {
+        JdbcPropertySetImpl propertySet = new JdbcPropertySetImpl();
+        return (JdbcConnection) Proxy.newProxyInstance(ConnectionPoolBenchmark.class.getClassLoader(), new Class<?>[] { JdbcConnection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getPropertySet":
+                            return propertySet;
+                        case "getAutoCommit":
+                            return Boolean.TRUE;
+                        default:
+                            return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                    }
+                });
+    }
+
+    private ConnectionPoolBenchmark() {
+    }
+}
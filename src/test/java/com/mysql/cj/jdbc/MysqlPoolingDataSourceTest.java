@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+
+/**
+ * Tests for {@link MysqlPoolingDataSource}, over stand-in physical connections that count resets and pings and can be made to fail.
+ */
+public class MysqlPoolingDataSourceTest {
+
+    private static class Physical {
+        final String id;
+        volatile boolean closed;
+        volatile boolean dead;
+        volatile boolean autoCommit = true;
+        final AtomicInteger resets = new AtomicInteger();
+        final AtomicInteger pings = new AtomicInteger();
+
+        Physical(String id) {
+            this.id = id;
+        }
+    }
+
+    private final List<Physical> opened = new ArrayList<>();
+
+    private final MysqlPoolingDataSource ds = new MysqlPoolingDataSource() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        java.sql.Connection openPhysicalConnection() throws SQLException {
+            synchronized (MysqlPoolingDataSourceTest.this.opened) {
+                Physical p = new Physical("c" + MysqlPoolingDataSourceTest.this.opened.size());
+                MysqlPoolingDataSourceTest.this.opened.add(p);
+                return connection(p);
+            }
+        }
+    };
+
+    private static JdbcConnection connection(Physical p) {
+        JdbcPropertySetImpl propertySet = new JdbcPropertySetImpl();
+        return (JdbcConnection) Proxy.newProxyInstance(MysqlPoolingDataSourceTest.class.getClassLoader(), new Class<?>[] { JdbcConnection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getPropertySet":
+                            return propertySet;
+                        case "getCatalog":
+                            if (p.dead) {
+                                throw new SQLException("Communications link failure", MysqlErrorNumbers.SQL_STATE_COMMUNICATION_LINK_FAILURE);
+                            }
+                            return p.id;
+                        case "getAutoCommit":
+                            return p.autoCommit;
+                        case "setAutoCommit":
+                            p.autoCommit = (Boolean) args[0];
+                            return null;
+                        case "resetSession":
+                            p.resets.incrementAndGet();
+                            p.autoCommit = true;
+                            return null;
+                        case "pingInternal":
+                            p.pings.incrementAndGet();
+                            if (p.dead) {
+                                throw new SQLException("Communications link failure", MysqlErrorNumbers.SQL_STATE_COMMUNICATION_LINK_FAILURE);
+                            }
+                            return null;
+                        case "isClosed":
+                            return p.closed;
+                        case "close":
+                            p.closed = true;
+                            return null;
+                        default:
+                            return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                    }
+                });
+    }
+
+    @AfterEach
+    public void closePool() {
+        this.ds.close();
+    }
+
+    @Test
+    public void testReuseAndReset() throws Exception {
+        Connection c = this.ds.getConnection();
+        assertEquals("c0", c.getCatalog());
+        c.setAutoCommit(false);
+        c.close();
+        assertThrows(SQLException.class, c::getCatalog);
+
+        Physical p = this.opened.get(0);
+        assertEquals(1, p.resets.get());
+        assertTrue(p.autoCommit);
+
+        c = this.ds.getConnection();
+        assertEquals("c0", c.getCatalog());
+        c.close();
+        assertEquals(1, this.opened.size());
+        assertEquals(2, p.resets.get());
+
+        this.ds.close();
+        this.ds.setResetSessionOnReturn(false);
+        c = this.ds.getConnection();
+        c.close();
+        assertEquals(0, this.opened.get(1).resets.get());
+
+        ConnectionPoolMetrics metrics = this.ds.getMetrics();
+        assertEquals(1, metrics.getBorrowCount());
+        assertEquals(0, metrics.getActiveConnections());
+        assertEquals(1, metrics.getIdleConnections());
+        assertEquals(1, metrics.getConnectionsCreated());
+    }
+
+    @Test
+    public void testWaitAndTimeout() throws Exception {
+        this.ds.setMaximumPoolSize(1);
+        this.ds.setConnectionTimeout(200);
+        Connection c = this.ds.getConnection();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<String> waiter = executor.submit(() -> {
+                started.countDown();
+                try (Connection other = this.ds.getConnection()) {
+                    return other.getCatalog();
+                }
+            });
+            started.await();
+            while (this.ds.getMetrics().getThreadsAwaitingConnection() == 0) {
+                Thread.sleep(1);
+            }
+            c.close();
+            assertEquals("c0", waiter.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        c = this.ds.getConnection();
+        long begin = System.nanoTime();
+        SQLException ex = assertThrows(SQLTransientConnectionException.class, this.ds::getConnection);
+        assertTrue(System.nanoTime() - begin >= TimeUnit.MILLISECONDS.toNanos(190), ex.getMessage());
+        assertEquals(MysqlErrorNumbers.SQL_STATE_UNABLE_TO_CONNECT_TO_DATASOURCE, ex.getSQLState());
+        c.close();
+
+        ConnectionPoolMetrics metrics = this.ds.getMetrics();
+        assertEquals(1, metrics.getTimeoutCount());
+        assertEquals(2, metrics.getWaitCount());
+        assertTrue(metrics.getTotalWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(190));
+        assertEquals(1, metrics.getConnectionsCreated());
+    }
+
+    @Test
+    public void testBrokenConnectionIsReplaced() throws Exception {
+        Connection c = this.ds.getConnection();
+        this.opened.get(0).dead = true;
+        assertThrows(SQLException.class, c::getCatalog);
+        c.close();
+
+        c = this.ds.getConnection();
+        assertEquals("c1", c.getCatalog());
+        c.close();
+        assertEquals(0, this.opened.get(0).resets.get());
+        assertEquals(1, this.ds.getMetrics().getConnectionsClosed());
+        assertEquals(1, this.ds.getMetrics().getTotalConnections());
+        // closed in the background
+        for (int i = 0; i < 500 && !this.opened.get(0).closed; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(this.opened.get(0).closed);
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        this.ds.setValidationInterval(20);
+        Connection c = this.ds.getConnection();
+        c.close();
+        Physical p = this.opened.get(0);
+
+        // pinged in the background while idle
+        for (int i = 0; i < 500 && p.pings.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertNotEquals(0, p.pings.get());
+
+        p.dead = true;
+        Thread.sleep(50);
+        c = this.ds.getConnection();
+        assertEquals("c1", c.getCatalog());
+        c.close();
+    }
+
+    @Test
+    public void testCredentialsAndClose() throws Exception {
+        this.ds.setUser("app");
+        this.ds.setPassword("secret");
+        this.ds.getConnection("app", "secret").close();
+        assertThrows(SQLException.class, () -> this.ds.getConnection("root", "secret"));
+
+        Connection c = this.ds.getConnection();
+        this.ds.getMetrics();
+        this.ds.close();
+        c.close();
+        assertTrue(this.opened.get(0).closed);
+    }
+
+    @Test
+    public void testConcurrentBorrowers() throws Exception {
+        this.ds.setMaximumPoolSize(3);
+        this.ds.setResetSessionOnReturn(false);
+        Map<String, AtomicBoolean> inUse = new ConcurrentHashMap<>();
+        AtomicBoolean shared = new AtomicBoolean();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        try (Connection c = this.ds.getConnection()) {
+                            AtomicBoolean flag = inUse.computeIfAbsent(c.getCatalog(), k -> new AtomicBoolean());
+                            if (!flag.compareAndSet(false, true)) {
+                                shared.set(true);
+                            }
+                            Thread.yield();
+                            flag.set(false);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(shared.get(), "a connection was handed to two threads at once");
+        assertEquals(3, this.opened.size());
+        assertEquals(threads * 5000, this.ds.getMetrics().getBorrowCount());
+        assertEquals(0, this.ds.getMetrics().getActiveConnections());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+
+import com.mysql.cj.jdbc.ha.JdbcInterfaceDelegateTest.StubConnectionProxy;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.util.Util;
+
+/**
+ * Time and bytes allocated per call on a result set bound to a multi-host connection: on the result set itself ("direct"), through its generated
+ * {@link ResultSetDelegate} ("delegate") and through the dynamic proxy used before ("proxy"). The calls, <code>getUpdateCount()</code> and
+ * <code>isClosed()</code>, do next to nothing, so what is measured is the wrapper overhead. Needs a HotSpot JVM for per-thread allocation counters.
+ * 
+ * Usage: <code>JdbcInterfaceDelegateBenchmark [calls] [passes]</code>
+ */
+public class JdbcInterfaceDelegateBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        // affected rows 42, no last insert id, status, warnings nor info
+        ResultSetImpl rs = new ResultSetImpl(OkPacket.parse(new NativePacketPayload(new byte[] { 0, 42, 0, 0, 0, 0, 0, 0 }), "UTF-8"), null, null);
+        StubConnectionProxy proxy = new StubConnectionProxy();
+
+        run("direct", rs, calls, passes);
+        run("delegate", (ResultSetInternalMethods) JdbcInterfaceDelegate.newInstance(proxy, rs), calls, passes);
+        run("proxy", (ResultSetInternalMethods) Proxy.newProxyInstance(ResultSetImpl.class.getClassLoader(), Util.getImplementedInterfaces(ResultSetImpl.class),
+                proxy.getNewJdbcInterfaceProxy(rs)), calls, passes);
+    }
+
+    private static void run(String name, ResultSetInternalMethods rs, int calls, int passes) throws SQLException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+
+        long bestBytes = Long.MAX_VALUE;
+        long bestNanos = Long.MAX_VALUE;
+        long check = 0;
+        for (int pass = 0; pass < passes + 2; pass++) {
+            long allocated = threads.getThreadAllocatedBytes(tid);
+            long begin = System.nanoTime();
+            for (int i = 0; i < calls; i += 2) {
+                check += rs.getUpdateCount();
+                check += rs.isClosed() ? 1 : 0;
+            }
+            long nanos = System.nanoTime() - begin;
+            allocated = threads.getThreadAllocatedBytes(tid) - allocated;
+            if (pass >= 2) {
+                // the first passes warm up
+                bestBytes = Math.min(bestBytes, allocated);
+                bestNanos = Math.min(bestNanos, nanos);
+            }
+        }
+        System.out.printf("%-8s %8.1f bytes/call %8.1f ns/call  (%d)%n", name, (double) bestBytes / calls, (double) bestNanos / calls, check);
+    }
+
+    private JdbcInterfaceDelegateBenchmark() {
+    }
+}
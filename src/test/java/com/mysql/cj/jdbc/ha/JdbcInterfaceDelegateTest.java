@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.WarningListener;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.result.OkPacket;
+
+/**
+ * Tests for {@link JdbcInterfaceDelegate} and the delegates generated from it, against a connection proxy that only counts connection switches and
+ * statement executions.
+ */
+public class JdbcInterfaceDelegateTest {
+
+    static class StubConnectionProxy extends MultiHostConnectionProxy {
+        int switches;
+        int executes;
+
+        StubConnectionProxy() throws SQLException {
+            super();
+        }
+
+        @Override
+        boolean shouldExceptionTriggerConnectionSwitch(Throwable t) {
+            return t instanceof SQLTransientConnectionException;
+        }
+
+        @Override
+        boolean isSourceConnection() {
+            return true;
+        }
+
+        @Override
+        void pickNewConnection() {
+            this.switches++;
+        }
+
+        @Override
+        void doClose() {
+        }
+
+        @Override
+        void doAbortInternal() {
+        }
+
+        @Override
+        void doAbort(Executor executor) {
+        }
+
+        @Override
+        Object invokeMore(Object proxy, Method method, Object[] args) {
+            return null;
+        }
+
+        @Override
+        void jdbcInterfaceExecuteBegins() {
+            this.executes++;
+        }
+    }
+
+    private SQLException toThrow;
+
+    private Object target(Class<?>... interfaces) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            if (this.toThrow != null) {
+                throw this.toThrow;
+            }
+            switch (method.getName()) {
+                case "executeQuery":
+                    return target(ResultSetInternalMethods.class, WarningListener.class);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getMaxRows":
+                    return 42;
+                case "isClosed":
+                    return true;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    public void delegateSelection() throws Exception {
+        StubConnectionProxy proxy = new StubConnectionProxy();
+
+        assertTrue(JdbcInterfaceDelegate.newInstance(proxy, target(JdbcStatement.class)) instanceof StatementDelegate);
+        assertTrue(JdbcInterfaceDelegate.newInstance(proxy, target(JdbcPreparedStatement.class, JdbcStatement.class)) instanceof PreparedStatementDelegate);
+        assertTrue(JdbcInterfaceDelegate.newInstance(proxy, target(ResultSetInternalMethods.class, WarningListener.class)) instanceof ResultSetDelegate);
+        assertTrue(JdbcInterfaceDelegate.newInstance(proxy, new ResultSetImpl(OkPacket.parse(new NativePacketPayload(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0 }), "UTF-8"), null, null)) instanceof ResultSetDelegate);
+
+        // anything else still gets a dynamic proxy
+        Object statement = target(Statement.class);
+        assertNull(JdbcInterfaceDelegate.newInstance(proxy, statement));
+        Object wrapped = proxy.proxyIfReturnTypeIsJdbcInterface(Statement.class, statement);
+        assertTrue(Proxy.isProxyClass(wrapped.getClass()));
+        assertNotSame(statement, wrapped);
+    }
+
+    @Test
+    public void forwardsCallsAndWrapsResults() throws Exception {
+        StubConnectionProxy proxy = new StubConnectionProxy();
+        Object target = target(JdbcStatement.class);
+        JdbcStatement statement = (JdbcStatement) proxy.proxyIfReturnTypeIsJdbcInterface(Statement.class, target);
+
+        assertTrue(statement instanceof StatementDelegate);
+        assertEquals(42, statement.getMaxRows());
+        assertEquals(0, proxy.executes);
+        assertEquals(target.hashCode(), statement.hashCode());
+
+        ResultSet rs = statement.executeQuery("SELECT 1");
+        assertTrue(rs instanceof ResultSetDelegate);
+        assertTrue(rs.isClosed());
+        assertEquals(1, proxy.executes);
+        assertEquals(0, proxy.switches);
+    }
+
+    @Test
+    public void errorsTriggerConnectionSwitch() throws Exception {
+        StubConnectionProxy proxy = new StubConnectionProxy();
+        ResultSet rs = (ResultSet) proxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, target(ResultSetInternalMethods.class, WarningListener.class));
+
+        this.toThrow = new SQLException("Syntax error");
+        assertSame(this.toThrow, assertThrows(SQLException.class, rs::next));
+        assertEquals(0, proxy.switches);
+
+        this.toThrow = new SQLTransientConnectionException("Communications link failure");
+        assertSame(this.toThrow, assertThrows(SQLException.class, rs::next));
+        assertEquals(1, proxy.switches);
+
+        // the same exception seen again up the call stack doesn't switch twice
+        SQLException e = this.toThrow;
+        assertSame(e, assertThrows(SQLException.class, rs::next));
+        assertEquals(1, proxy.switches);
+    }
+}
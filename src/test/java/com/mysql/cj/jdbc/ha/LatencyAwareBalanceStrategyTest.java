@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyAwareBalanceStrategy}.
+ */
+public class LatencyAwareBalanceStrategyTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static void run(String host, int count, long nanos, boolean failed) {
+        LoadBalancedHostStats stats = LoadBalancedHostStats.forHost(host);
+        for (int i = 0; i < count; i++) {
+            stats.transactionStarted();
+            stats.transactionEnded(nanos, failed);
+        }
+    }
+
+    @Test
+    public void powerOfTwoChoices() {
+        LatencyAwareBalanceStrategy strategy = new LatencyAwareBalanceStrategy(50, 0, 30000);
+        run("p2c-fast:3306", 10, MS, false);
+        run("p2c-medium:3306", 10, 5 * MS, false);
+        run("p2c-slow:3306", 10, 20 * MS, false);
+        List<String> hosts = Arrays.asList("p2c-fast:3306", "p2c-medium:3306", "p2c-slow:3306");
+
+        Map<String, Integer> picks = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            picks.merge(strategy.pickHost(hosts), 1, Integer::sum);
+        }
+        // the slowest host always loses against the other one, the fastest wins both of its pairs out of three
+        assertNull(picks.get("p2c-slow:3306"));
+        assertTrue(picks.get("p2c-fast:3306") > 1800, picks.toString());
+        assertTrue(picks.get("p2c-medium:3306") > 700, picks.toString());
+
+        // transactions in flight make a host more expensive
+        LoadBalancedHostStats fast = LoadBalancedHostStats.forHost("p2c-fast:3306");
+        for (int i = 0; i < 10; i++) {
+            fast.transactionStarted();
+        }
+        assertEquals("p2c-medium:3306", strategy.pickHost(Arrays.asList("p2c-fast:3306", "p2c-medium:3306")));
+        for (int i = 0; i < 10; i++) {
+            fast.transactionAbandoned();
+        }
+        assertEquals("p2c-fast:3306", strategy.pickHost(Arrays.asList("p2c-fast:3306", "p2c-medium:3306")));
+
+        // hosts without statistics get tried first
+        assertEquals("p2c-new:3306", strategy.pickHost(Arrays.asList("p2c-fast:3306", "p2c-new:3306")));
+    }
+
+    @Test
+    public void ejection() {
+        LatencyAwareBalanceStrategy strategy = new LatencyAwareBalanceStrategy(50, 10, 30000);
+        run("eject-ok:3306", LoadBalancedHostStats.MIN_WINDOW_SAMPLES, MS, false);
+        run("eject-errors:3306", LoadBalancedHostStats.MIN_WINDOW_SAMPLES, MS, true);
+        run("eject-slow:3306", LoadBalancedHostStats.MIN_WINDOW_SAMPLES, 50 * MS, false);
+        List<String> hosts = Arrays.asList("eject-ok:3306", "eject-errors:3306", "eject-slow:3306", "eject-blocked:3306");
+        Map<String, Long> blocklist = Collections.singletonMap("eject-blocked:3306", Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList("eject-ok:3306"), strategy.getCandidates(hosts, blocklist));
+        assertTrue(LoadBalancedHostStats.forHost("eject-errors:3306").isEjected());
+        assertTrue(LoadBalancedHostStats.forHost("eject-slow:3306").isEjected());
+    }
+
+    @Test
+    public void allEjectedFallback() {
+        LatencyAwareBalanceStrategy strategy = new LatencyAwareBalanceStrategy(50, 0, 30000);
+        run("fallback-a:3306", LoadBalancedHostStats.MIN_WINDOW_SAMPLES, MS, true);
+        run("fallback-b:3306", LoadBalancedHostStats.MIN_WINDOW_SAMPLES, MS, true);
+        List<String> hosts = Arrays.asList("fallback-a:3306", "fallback-b:3306", "fallback-blocked:3306");
+        Map<String, Long> blocklist = Collections.singletonMap("fallback-blocked:3306", Long.MAX_VALUE);
+
+        // every allowed host is ejected, the load keeps being spread over all of them, but never over blocklisted ones
+        assertEquals(Arrays.asList("fallback-a:3306", "fallback-b:3306"), strategy.getCandidates(hosts, blocklist));
+        assertTrue(LoadBalancedHostStats.forHost("fallback-a:3306").isEjected());
+        assertTrue(LoadBalancedHostStats.forHost("fallback-b:3306").isEjected());
+    }
+}
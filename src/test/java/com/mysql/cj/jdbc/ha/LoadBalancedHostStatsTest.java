@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LoadBalancedHostStats}.
+ */
+public class LoadBalancedHostStatsTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static void run(LoadBalancedHostStats stats, int count, long nanos, boolean failed) {
+        for (int i = 0; i < count; i++) {
+            stats.transactionStarted();
+            stats.transactionEnded(nanos, failed);
+        }
+    }
+
+    @Test
+    public void averageAndInFlight() {
+        LoadBalancedHostStats stats = LoadBalancedHostStats.forHost("averageAndInFlight:3306");
+        assertSame(stats, LoadBalancedHostStats.getIfPresent("averageAndInFlight:3306"));
+        assertEquals(0, stats.getCost(), 0);
+
+        run(stats, 10, 2 * MS, false);
+        assertEquals(2 * MS, stats.getAverageNanos(), MS / 100);
+        assertEquals(10, stats.getTransactionCount());
+
+        // a slower transaction is taken into account at once
+        run(stats, 1, 8 * MS, false);
+        assertEquals(8 * MS, stats.getAverageNanos());
+
+        stats.transactionStarted();
+        stats.transactionStarted();
+        assertEquals(2, stats.getInFlightCount());
+        assertEquals(3 * stats.getAverageNanos(), stats.getCost(), MS / 100);
+        stats.transactionAbandoned();
+        stats.transactionAbandoned();
+        assertEquals(0, stats.getInFlightCount());
+        assertEquals(11, stats.getTransactionCount());
+    }
+
+    @Test
+    public void p99() {
+        LoadBalancedHostStats stats = LoadBalancedHostStats.forHost("p99:3306");
+        assertEquals(0, stats.getP99Nanos());
+
+        run(stats, 990, 1 * MS, false);
+        run(stats, 10, 100 * MS, false);
+        // 1000us falls in [960us, 1024us)
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(960), stats.getP99Nanos());
+
+        run(stats, 1, 100 * MS, false);
+        // 100000us falls in [98304us, 106496us)
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(98304), stats.getP99Nanos());
+    }
+
+    @Test
+    public void buckets() {
+        for (long micros = 1; micros < 1 << 20; micros++) {
+            int bucket = LoadBalancedHostStats.bucketOf(micros);
+            long lower = LoadBalancedHostStats.lowerEdgeOf(bucket);
+            long upper = LoadBalancedHostStats.lowerEdgeOf(bucket + 1);
+            assertTrue(lower <= micros && micros < upper, micros + " not in [" + lower + ", " + upper + ")");
+            assertTrue(upper - lower <= Math.max(lower / 8, 1));
+        }
+        assertEquals(Integer.MAX_VALUE >> 27 << 27, LoadBalancedHostStats.lowerEdgeOf(LoadBalancedHostStats.bucketOf(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void ejection() throws Exception {
+        LoadBalancedHostStats stats = LoadBalancedHostStats.forHost("ejection:3306");
+
+        run(stats, LoadBalancedHostStats.MIN_WINDOW_SAMPLES - 1, MS, true);
+        assertFalse(stats.checkEjected(0.5, 0, 50 * MS), "too few transactions to tell");
+
+        run(stats, 1, MS, true);
+        assertTrue(stats.checkEjected(0.5, 0, 50 * MS));
+        assertTrue(stats.isEjected());
+        assertEquals(1, stats.getEjectionCount());
+        assertTrue(stats.toString().endsWith(",ejected)"), stats.toString());
+
+        // the window starts over after an ejection
+        assertEquals(0, stats.getErrorRate(), 0);
+        assertTrue(stats.checkEjected(0.5, 0, 50 * MS));
+
+        Thread.sleep(60);
+        assertFalse(stats.checkEjected(0.5, 0, 50 * MS));
+        assertFalse(stats.isEjected());
+
+        run(stats, LoadBalancedHostStats.MIN_WINDOW_SAMPLES, 20 * MS, false);
+        assertFalse(stats.checkEjected(0.5, 0, 50 * MS));
+        assertTrue(stats.checkEjected(0.5, 10 * MS, 50 * MS), "p99 over the limit");
+        assertEquals(2, stats.getEjectionCount());
+
+        // a percentile whose bucket straddles the limit doesn't eject the host
+        Thread.sleep(60);
+        run(stats, LoadBalancedHostStats.MIN_WINDOW_SAMPLES, TimeUnit.MICROSECONDS.toNanos(990), false);
+        assertFalse(stats.checkEjected(0.5, TimeUnit.MICROSECONDS.toNanos(1000), 50 * MS));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.HostInfo;
+
+/**
+ * Tests for {@link ReplicaLagMonitor}.
+ */
+public class ReplicaLagMonitorTest {
+    @Test
+    public void sharedMonitors() {
+        // nothing listens on port 1, so the probes fail
+        HostInfo host = new HostInfo(null, "127.0.0.1", 1, "user", "password");
+        ReplicaLagMonitor m1 = ReplicaLagMonitor.acquire(host, null, 100);
+        ReplicaLagMonitor m2 = ReplicaLagMonitor.acquire(host, null, 100);
+        ReplicaLagMonitor m3 = ReplicaLagMonitor.acquire(host, "SELECT lag FROM heartbeat", 100);
+        try {
+            assertSame(m1, m2);
+            assertNotSame(m1, m3);
+            assertEquals("127.0.0.1:1", m1.getHostPortPair());
+            assertEquals(ReplicaLagMonitor.UNKNOWN, m1.getStalenessMillis());
+            assertEquals(ReplicaLagMonitor.UNKNOWN, m3.getStalenessMillis());
+        } finally {
+            m1.release();
+            m3.release();
+        }
+
+        // still running for the second reference, stopped after the last one
+        assertSame(m2, ReplicaLagMonitor.acquire(host, null, 100));
+        m2.release();
+        m2.release();
+        ReplicaLagMonitor m4 = ReplicaLagMonitor.acquire(host, null, 100);
+        assertNotSame(m1, m4);
+        m4.release();
+    }
+
+    @Test
+    public void probeThreadStops() throws Exception {
+        HostInfo host = new HostInfo(null, "127.0.0.1", 1, "user", "password");
+        ReplicaLagMonitor m1 = ReplicaLagMonitor.acquire(host, null, 100);
+        m1.release();
+        // the thread of the last monitor ends, another one is started for the next monitor
+        waitForProbeThreadToStop();
+        ReplicaLagMonitor m2 = ReplicaLagMonitor.acquire(host, null, 100);
+        assertNotSame(m1, m2);
+        m2.release();
+        waitForProbeThreadToStop();
+    }
+
+    private static void waitForProbeThreadToStop() throws InterruptedException {
+        for (int i = 0; i < 100 && isProbeThreadAlive(); i++) {
+            Thread.sleep(50);
+        }
+        assertFalse(isProbeThreadAlive());
+    }
+
+    private static boolean isProbeThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().equals("MySQL Replica Lag Monitor") && t.isAlive());
+    }
+}
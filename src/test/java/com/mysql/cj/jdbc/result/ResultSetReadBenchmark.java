@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.TimeZone;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeProtocol;
+import com.mysql.cj.protocol.a.NativeServerSession;
+import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
+import com.mysql.cj.protocol.a.result.TextBufferRow;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.Row;
+
+/**
+ * Time per cell when reading 50-column INT rows with <code>ResultSet.getInt(String)</code> and <code>getInt(int)</code> from a {@link ResultSetImpl}
+ * over a stand-in connection that never touches the network, with the default locking reads and with 'lockFreeResultSetReads'. Properties are set by
+ * name, so the same class can be run against older builds for comparison.
+ *
+ * Usage: <code>ResultSetReadBenchmark [locked|lock-free] [rows] [passes]</code>
+ */
+public class ResultSetReadBenchmark {
+
+    private static final int COLUMNS = 50;
+
+    private interface Read {
+        long row(ResultSetImpl rs, String[] labels) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // one mode per JVM keeps the lock call sites monomorphic, as they are in an application
+        boolean lockFree = args.length > 0 && "lock-free".equals(args[0]);
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        int passes = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        String[] labels = new String[COLUMNS];
+        Field[] fields = new Field[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            labels[c] = "column_" + c;
+            fields[c] = new Field("t", labels[c], 63, "ISO-8859-1", MysqlType.INT, 11);
+            fields[c].setMysqlTypeId(MysqlType.FIELD_TYPE_LONG);
+        }
+        List<byte[]> packets = new ArrayList<>();
+        for (int r = 0; r < 1024; r++) {
+            ByteBuffer buf = ByteBuffer.allocate(COLUMNS * 8);
+            for (int c = 0; c < COLUMNS; c++) {
+                byte[] v = String.valueOf(r * COLUMNS + c).getBytes(StandardCharsets.US_ASCII);
+                buf.put((byte) v.length).put(v);
+            }
+            packets.add(Arrays.copyOf(buf.array(), buf.position()));
+        }
+
+        Read byLabel = (rs, l) -> {
+            long sum = 0;
+            for (int c = 0; c < COLUMNS; c++) {
+                sum += rs.getInt(l[c]);
+            }
+            return sum;
+        };
+        Read byIndex = (rs, l) -> {
+            long sum = 0;
+            for (int c = 1; c <= COLUMNS; c++) {
+                sum += rs.getInt(c);
+            }
+            return sum;
+        };
+
+        String mode = lockFree ? "lock-free" : "locked";
+        run(mode + " by label", lockFree, fields, packets, rows, passes, byLabel, labels);
+        run(mode + " by index", lockFree, fields, packets, rows, passes, byIndex, labels);
+    }
+
+    private static void run(String name, boolean lockFree, Field[] fields, List<byte[]> packets, int rows, int passes, Read read, String[] labels)
+            throws Exception {
+        Properties props = new Properties();
+        props.setProperty("lockFreeResultSetReads", String.valueOf(lockFree));
+        JdbcPropertySetImpl pset = new JdbcPropertySetImpl();
+        pset.initializeProperties(props);
+        JdbcConnection conn = connection(pset);
+
+        DefaultColumnDefinition cd = new DefaultColumnDefinition(fields);
+        List<Row> rowList = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            rowList.add(new TextBufferRow(new NativePacketPayload(packets.get(r % packets.size())), cd, null, new MysqlTextValueDecoder()));
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long check = 0;
+        for (int pass = 0; pass < passes + 20; pass++) {
+            ResultSetImpl rs = new ResultSetImpl(new ResultsetRowsStatic(rowList, cd), conn, null);
+
+            long begin = System.nanoTime();
+            while (rs.next()) {
+                check += read.row(rs, labels);
+            }
+            long nanos = System.nanoTime() - begin;
+            if (pass >= 20) {
+                // the first passes warm up
+                bestNanos = Math.min(bestNanos, nanos);
+            }
+        }
+        System.out.printf("%-20s %8.2f ns/cell  (%d)%n", name, (double) bestNanos / rows / COLUMNS, check);
+    }
+
+    /**
+     * An unconnected connection that hands out the property set and a session with default time zones.
+     */
+    private static JdbcConnection connection(JdbcPropertySet pset) {
+        NativeServerSession stubServerSession = new NativeServerSession(pset) {
+            @Override
+            public TimeZone getDefaultTimeZone() {
+                return TimeZone.getDefault();
+            }
+
+            @Override
+            public TimeZone getSessionTimeZone() {
+                return TimeZone.getDefault();
+            }
+        };
+        NativeProtocol stubProtocol = new NativeProtocol(null) {
+            @Override
+            public NativeServerSession getServerSession() {
+                return stubServerSession;
+            }
+        };
+        NativeSession session = new NativeSession(null, pset) {
+            @Override
+            public NativeProtocol getProtocol() {
+                return stubProtocol;
+            }
+
+            @Override
+            public NativeServerSession getServerSession() {
+                return stubServerSession;
+            }
+        };
+        return new ConnectionImpl() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public JdbcPropertySet getPropertySet() {
+                return pset;
+            }
+
+            @Override
+            public NativeSession getSession() {
+                return session;
+            }
+
+            @Override
+            public String getDatabase() {
+                return "test";
+            }
+        };
+    }
+
+    private ResultSetReadBenchmark() {
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.sse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.sse.ColumnarDecoder;
+import com.mysql.cj.sse.ColumnarEncoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the JDBC API over the HTTP query gateway, against a stub gateway.
+ */
+public class SseConnectionTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final List<Map<String, String>> requests = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Class.forName("com.mysql.cj.jdbc.Driver");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/query_jar", this::handle);
+        this.executor = Executors.newFixedThreadPool(4);
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Answers SELECTs with a fixed result and anything else with an update count of one per inserted row, failing statements that mention 'bad'.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        Map<String, String> form = parseForm(readAll(exchange.getRequestBody()));
+        this.requests.add(form);
+        String sql = form.get("query");
+        int status = 200;
+        String body;
+        if (sql.contains("bad")) {
+            status = 500;
+            body = "bad statement";
+        } else if (sql.toLowerCase().startsWith("select")) {
+            body = "{\"columns\":[[\"id\",\"Name\",\"price\",\"created\"]],\"result\":[[1,\"a\",9.5,\"2022-01-02 03:04:05\"],[2,null,10,\"2022-01-03 00:00:00\"]]}";
+        } else {
+            body = "{\"updateCount\":" + sql.split("\\),\\(").length + "}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        if (status == 200 && sql.toLowerCase().startsWith("select") && accept.contains(ColumnarDecoder.CONTENT_TYPE)) {
+            bytes = new ColumnarEncoder(new String[] { "id", "Name", "price", "created" },
+                    new byte[] { ColumnarDecoder.TYPE_INT32, ColumnarDecoder.TYPE_STRING, ColumnarDecoder.TYPE_DECIMAL, ColumnarDecoder.TYPE_TIMESTAMP }, 1)
+                            .addRow(1, "a", new BigDecimal("9.5"), Timestamp.valueOf("2022-01-02 03:04:05"))
+                            .addRow(2, null, BigDecimal.TEN, Timestamp.valueOf("2022-01-03 00:00:00")).toByteArray();
+            exchange.getResponseHeaders().set("Content-Type", ColumnarDecoder.CONTENT_TYPE);
+        } else {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Connection connect(String properties) throws SQLException {
+        return DriverManager.getConnection("jdbc:mysql:sse://127.0.0.1:" + this.server.getAddress().getPort() + "/points?user=root&password=pwd" + properties);
+    }
+
+    private String lastQuery() {
+        return this.requests.get(this.requests.size() - 1).get("query");
+    }
+
+    @Test
+    public void testQuery() throws Exception {
+        try (Connection conn = connect("")) {
+            assertTrue(conn instanceof SseConnection);
+            assertEquals("points", conn.getCatalog());
+
+            Statement st = conn.createStatement();
+            ResultSet rs = st.executeQuery("SELECT * FROM t");
+            assertEquals("points", this.requests.get(0).get("db"));
+            assertEquals("root", this.requests.get(0).get("user"));
+            assertEquals("pwd", this.requests.get(0).get("password"));
+
+            ResultSetMetaData md = rs.getMetaData();
+            assertEquals(4, md.getColumnCount());
+            assertEquals(Types.INTEGER, md.getColumnType(1));
+            assertEquals(Types.DECIMAL, md.getColumnType(3));
+            assertEquals("Name", md.getColumnLabel(2));
+
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            assertEquals("a", rs.getString("name"));
+            assertEquals(new BigDecimal("9.5"), rs.getBigDecimal("price"));
+            assertEquals(9, rs.getLong("price"));
+            assertEquals(Timestamp.valueOf("2022-01-02 03:04:05"), rs.getTimestamp("created"));
+            assertEquals(1, rs.getObject("id"));
+
+            assertTrue(rs.next());
+            assertNull(rs.getString(2));
+            assertTrue(rs.wasNull());
+            assertEquals(0, rs.getInt(2));
+            assertFalse(rs.next());
+            assertTrue(rs.isAfterLast());
+
+            assertThrows(SQLException.class, () -> rs.findColumn("nope"));
+            assertThrows(SQLException.class, rs::previous);
+            assertThrows(SQLException.class, () -> st.executeQuery("DELETE FROM t"));
+            assertThrows(SQLException.class, () -> st.executeUpdate("SELECT 1"));
+        }
+    }
+
+    @Test
+    public void testColumnarResults() throws Exception {
+        try (Connection conn = connect("&columnarResults=true")) {
+            ResultSet rs = conn.createStatement().executeQuery("SELECT * FROM t");
+            ResultSetMetaData md = rs.getMetaData();
+            assertEquals(Types.INTEGER, md.getColumnType(1));
+            assertEquals(Types.DECIMAL, md.getColumnType(3));
+            assertEquals(Types.TIMESTAMP, md.getColumnType(4));
+
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt("id"));
+            assertEquals("a", rs.getString(2));
+            assertEquals(new BigDecimal("9.5"), rs.getBigDecimal("price"));
+            assertEquals(Timestamp.valueOf("2022-01-02 03:04:05"), rs.getTimestamp("created"));
+
+            assertTrue(rs.next());
+            assertNull(rs.getString(2));
+            assertTrue(rs.wasNull());
+            assertEquals(10, rs.getLong("price"));
+            assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    public void testStreamingAndMaxRows() throws Exception {
+        try (Connection conn = connect("")) {
+            Statement st = conn.createStatement();
+            st.setFetchSize(Integer.MIN_VALUE);
+            st.setMaxRows(1);
+            ResultSet rs = st.executeQuery("SELECT * FROM t");
+            assertTrue(rs.next());
+            assertEquals("a", rs.getString(2));
+            assertFalse(rs.next());
+            rs.close();
+
+            st.setMaxRows(0);
+            assertTrue(st.execute("SELECT * FROM t"));
+            int rows = 0;
+            for (ResultSet rs2 = st.getResultSet(); rs2.next();) {
+                rows++;
+            }
+            assertEquals(2, rows);
+            assertFalse(st.execute("UPDATE t SET a = 1"));
+            assertEquals(1, st.getUpdateCount());
+        }
+    }
+
+    @Test
+    public void testPreparedStatementBindsLiterals() throws Exception {
+        try (Connection conn = connect("")) {
+            PreparedStatement ps = conn.prepareStatement("SELECT * FROM t WHERE a = ? AND b = ? AND c = ? AND d = ? AND e = '?'");
+            ps.setString(1, "it's a \\ \"test\"\n");
+            ps.setBytes(2, new byte[] { 0, (byte) 0xAB });
+            ps.setNull(3, Types.VARCHAR);
+            assertThrows(SQLException.class, ps::executeQuery);
+            ps.setBigDecimal(4, new BigDecimal("1E+3"));
+            assertThrows(SQLException.class, () -> ps.setInt(5, 1));
+
+            ps.executeQuery();
+            assertEquals("SELECT * FROM t WHERE a = 'it''s a \\\\ \"test\"\\n' AND b = X'00ab' AND c = NULL AND d = 1000 AND e = '?'", lastQuery());
+        }
+    }
+
+    @Test
+    public void testRewrittenBatch() throws Exception {
+        try (Connection conn = connect("&rewriteBatchedStatements=true")) {
+            PreparedStatement ps = conn.prepareStatement("INSERT INTO t (a, b) VALUES (?, ?)");
+            for (int i = 0; i < 100; i++) {
+                ps.setInt(1, i);
+                ps.setString(2, "x");
+                ps.addBatch();
+            }
+            int[] counts = ps.executeBatch();
+            assertEquals(1, this.requests.size());
+            assertTrue(lastQuery().startsWith("INSERT INTO t (a, b) VALUES (0, 'x'),(1, 'x'),"));
+            assertTrue(lastQuery().endsWith("(99, 'x')"));
+            assertEquals(100, counts.length);
+            for (int c : counts) {
+                assertEquals(Statement.SUCCESS_NO_INFO, c);
+            }
+        }
+
+        // each request stays under maxAllowedPacket
+        this.requests.clear();
+        try (Connection conn = connect("&rewriteBatchedStatements=true&maxAllowedPacket=300")) {
+            PreparedStatement ps = conn.prepareStatement("INSERT INTO t (a, b) VALUES (?, ?)");
+            for (int i = 0; i < 100; i++) {
+                ps.setInt(1, i);
+                ps.setString(2, "x");
+                ps.addBatch();
+            }
+            assertEquals(100, ps.executeBatch().length);
+            assertTrue(this.requests.size() > 1);
+            int rows = 0;
+            for (Map<String, String> r : this.requests) {
+                assertTrue(r.get("query").length() <= 300);
+                rows += r.get("query").split("\\),\\(").length;
+            }
+            assertEquals(100, rows);
+        }
+
+        // the limit applies to the UTF-8 encoded statements
+        this.requests.clear();
+        try (Connection conn = connect("&rewriteBatchedStatements=true&maxAllowedPacket=300")) {
+            PreparedStatement ps = conn.prepareStatement("INSERT INTO t (a, b) VALUES (?, ?)");
+            for (int i = 0; i < 40; i++) {
+                ps.setInt(1, i);
+                ps.setString(2, "\u00e9t\u00e9 \u4e2d\u6587 \ud83d\ude00");
+                ps.addBatch();
+            }
+            assertEquals(40, ps.executeBatch().length);
+            assertTrue(this.requests.size() > 1);
+            int rows = 0;
+            boolean closeToLimit = false;
+            for (Map<String, String> r : this.requests) {
+                int bytes = r.get("query").getBytes(StandardCharsets.UTF_8).length;
+                assertTrue(bytes <= 300, bytes + " bytes");
+                closeToLimit |= bytes > 300 - 40;
+                rows += r.get("query").split("\\),\\(").length;
+            }
+            assertTrue(closeToLimit);
+            assertEquals(40, rows);
+        }
+    }
+
+    @Test
+    public void testSerialBatch() throws Exception {
+        try (Connection conn = connect("")) {
+            PreparedStatement ps = conn.prepareStatement("INSERT INTO t (a) VALUES (?)");
+            // continueBatchOnError=true by default
+            for (String v : new String[] { "x", "bad", "y" }) {
+                ps.setString(1, v);
+                ps.addBatch();
+            }
+            BatchUpdateException ex = assertThrows(BatchUpdateException.class, ps::executeBatch);
+            assertArrayEquals(new int[] { 1, Statement.EXECUTE_FAILED, 1 }, ex.getUpdateCounts());
+            assertEquals(3, this.requests.size());
+
+            Statement st = conn.createStatement();
+            st.addBatch("DELETE FROM t");
+            st.addBatch("UPDATE t SET a = 1");
+            assertArrayEquals(new int[] { 1, 1 }, st.executeBatch());
+        }
+
+        this.requests.clear();
+        try (Connection conn = connect("&continueBatchOnError=false")) {
+            PreparedStatement ps = conn.prepareStatement("INSERT INTO t (a) VALUES (?)");
+            for (String v : new String[] { "x", "bad", "y" }) {
+                ps.setString(1, v);
+                ps.addBatch();
+            }
+            BatchUpdateException ex = assertThrows(BatchUpdateException.class, ps::executeBatch);
+            assertArrayEquals(new int[] { 1 }, ex.getUpdateCounts());
+            assertEquals(2, this.requests.size());
+        }
+    }
+
+    @Test
+    public void testAutoCommitOnly() throws Exception {
+        try (Connection conn = connect("")) {
+            assertTrue(conn.getAutoCommit());
+            assertThrows(SQLException.class, () -> conn.setAutoCommit(false));
+            assertThrows(SQLException.class, conn::commit);
+            assertThrows(SQLFeatureNotSupportedException.class, () -> conn.prepareCall("CALL p()"));
+            assertTrue(conn.isValid(1));
+
+            conn.setCatalog("other");
+            conn.createStatement().executeUpdate("DELETE FROM t");
+            assertEquals("other", this.requests.get(this.requests.size() - 1).get("db"));
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[1024];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, String> parseForm(byte[] body) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : new String(body, StandardCharsets.US_ASCII).split("&")) {
+            int eq = pair.indexOf('=');
+            form.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"), URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+        }
+        return form;
+    }
+}
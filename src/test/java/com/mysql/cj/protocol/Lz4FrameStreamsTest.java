@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Lz4FrameInputStream} and {@link Lz4FrameOutputStream}, with a frame of the reference implementation and round trips.
+ */
+public class Lz4FrameStreamsTest {
+    /** The first 900 bytes of {@link ZstdStreamsTest#records(int)}, compressed by the reference implementation with content size and all checksums. */
+    static final String REFERENCE_FRAME = ""
+            + "BCJNGHxAhAMAAAAAAAC6PwEAAPcSaWQ9MCxuYW1lPXVzw6lyMCxjaXR5PUxpc2JvYTtpZD03HQAiMTMeAHBaw7xyaWNoHwAnMTQgACIyNiAAcEtyYWvDs3cgACcyMSAAIjM5IABBT3Ns"
+            + "bx0AFzgdACw1MnsAJzM1HwAtNjV8ACc0MiAALTc4fAAnNDkgACo5MXwAKDU2PQAMewAoNjPXAB0wewAYNzQBLTMzewAYNzcBKjQ2ewAYODQBLDU5fAAYOTMBLTcyfAAYOTYBLTg1fAAo"
+            + "MTA4AQv3ACgxMTUBLDE0fQAoMTE1AS4yN/EBGDI5AS40MH8AGDM8ASs1M4AAGDQ6AS02NoAAGDQ6AS43OYAAGDU+AS45MoAAGDZAARs4fwAYNj0BLTIxfwAYNzwBLjM0fwAYOEABLjQ3"
+            + "fwAYOEEBKzYwgAAZOXcCcDMsY2l0eT1Gsyj/AAAAAKaf+Sc="            ;
+
+    static byte[] compress(byte[] data, int flushEvery) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream lz4 = new Lz4FrameOutputStream(out)) {
+            for (int off = 0; off < data.length; off += flushEvery) {
+                lz4.write(data, off, Math.min(flushEvery, data.length - off));
+                lz4.flush();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testReferenceFrame() throws Exception {
+        byte[] expected = Arrays.copyOf(ZstdStreamsTest.records(120), 900);
+        byte[] compressed = Base64.getDecoder().decode(REFERENCE_FRAME);
+        for (int chunk : new int[] { 1, 7, 4096 }) {
+            try (InputStream in = new Lz4FrameInputStream(new ByteArrayInputStream(compressed))) {
+                assertArrayEquals(expected, ZstdStreamsTest.readAll(in, chunk));
+            }
+        }
+
+        // Concatenated frames, with a skippable frame in between.
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.write(compressed);
+        concatenated.write(new byte[] { 0x50, 0x2A, 0x4D, 0x18, 2, 0, 0, 0, 1, 2 });
+        concatenated.write(compressed);
+        try (InputStream in = new Lz4FrameInputStream(new ByteArrayInputStream(concatenated.toByteArray()))) {
+            byte[] read = ZstdStreamsTest.readAll(in, 1000);
+            assertArrayEquals(expected, Arrays.copyOf(read, 900));
+            assertArrayEquals(expected, Arrays.copyOfRange(read, 900, read.length));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Random random = new Random(16);
+        for (int size : new int[] { 0, 1, 15, 300, 70000, 300000 }) {
+            byte[] data = ZstdStreamsTest.testData(random, size);
+            for (int flushEvery : new int[] { 1000, 65536, Integer.MAX_VALUE }) {
+                byte[] compressed = compress(data, flushEvery);
+                try (InputStream in = new Lz4FrameInputStream(new ByteArrayInputStream(compressed))) {
+                    assertArrayEquals(data, ZstdStreamsTest.readAll(in, 8191), "size " + size + ", flushes every " + flushEvery);
+                }
+            }
+        }
+
+        byte[] text = ZstdStreamsTest.records(5000);
+        assertTrue(compress(text, Integer.MAX_VALUE).length < text.length / 3);
+    }
+
+    @Test
+    public void testMalformedData() throws Exception {
+        byte[] compressed = Base64.getDecoder().decode(REFERENCE_FRAME);
+        Random random = new Random(18);
+        for (int i = 0; i < 500; i++) {
+            byte[] corrupted = compressed.clone();
+            corrupted[random.nextInt(corrupted.length)] ^= 1 << random.nextInt(8);
+            if (i % 5 == 0) {
+                corrupted = Arrays.copyOf(corrupted, 1 + random.nextInt(corrupted.length - 1));
+            }
+            byte[] data = corrupted;
+            // All parts of the frame are covered by checksums.
+            assertThrows(IOException.class, () -> ZstdStreamsTest.readAll(new Lz4FrameInputStream(new ByteArrayInputStream(data)), 4096));
+        }
+
+        byte[] withDictionary = { 0x04, 0x22, 0x4D, 0x18, 0x61, 0x40, 1, 0, 0, 0, 0 };
+        withDictionary[10] = (byte) (XxHash32.hash(withDictionary, 4, 6) >>> 8);
+        IOException e = assertThrows(IOException.class, () -> ZstdStreamsTest.readAll(new Lz4FrameInputStream(new ByteArrayInputStream(withDictionary)), 10));
+        assertEquals("The LZ4 compressed data uses the unsupported feature 'dictionary'.", e.getMessage());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativePacketHeader;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.SimplePacketReader;
+import com.mysql.cj.protocol.a.SimplePacketReaderTest.FixedBufferSocketConnection;
+
+/**
+ * Waits for the responses of many sockets on the shared {@link ReadinessSelector}, against a local server that answers each request with a MySQL
+ * packet.
+ */
+public class NioSocketFactoryTest {
+
+    private ServerSocket server;
+    private List<Socket> accepted = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new ServerSocket(0, 1000, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(() -> {
+            while (!this.server.isClosed()) {
+                try {
+                    this.accepted.add(this.server.accept());
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+        for (Socket s : this.accepted) {
+            s.close();
+        }
+    }
+
+    private NioSocketFactory connect() throws IOException {
+        PropertySet props = new JdbcPropertySetImpl();
+        NioSocketFactory factory = new NioSocketFactory();
+        Socket socket = factory.connect(this.server.getInetAddress().getHostAddress(), this.server.getLocalPort(), props, 0);
+        assertTrue(socket.getChannel().isBlocking());
+        return factory;
+    }
+
+    private Socket accepted(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (this.accepted.size() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Connections not accepted");
+            }
+            Thread.sleep(5);
+        }
+        return this.accepted.get(count - 1);
+    }
+
+    private static void respond(Socket peer, int value) throws IOException {
+        OutputStream out = peer.getOutputStream();
+        // a 4 byte packet, sequence 1
+        out.write(new byte[] { 4, 0, 0, 1, (byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24) });
+        out.flush();
+    }
+
+    @Test
+    public void testManyWaits() throws Exception {
+        int count = 200;
+        List<NioSocketFactory> factories = new ArrayList<>();
+        List<Socket> peers = new ArrayList<>();
+        List<CompletableFuture<Void>> waits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            factories.add(connect());
+            peers.add(accepted(i + 1));
+            waits.add(factories.get(i).awaitReadable(0));
+        }
+
+        // answer in reverse order, no thread is blocked meanwhile
+        Thread.sleep(50);
+        for (CompletableFuture<Void> wait : waits) {
+            assertFalse(wait.isDone());
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            respond(peers.get(i), i);
+        }
+
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        for (int i = 0; i < count; i++) {
+            waits.get(i).get(10, TimeUnit.SECONDS);
+            Socket socket = factories.get(i).getChannel().socket();
+            assertTrue(socket.getChannel().isBlocking());
+
+            // the response is read with the usual blocking stream and packet reader
+            SimplePacketReader reader = new SimplePacketReader(new FixedBufferSocketConnection(new byte[0]) {
+                FullReadInputStream in = new FullReadInputStream(socket.getInputStream());
+
+                @Override
+                public FullReadInputStream getMysqlInput() {
+                    return this.in;
+                }
+            }, maxAllowedPacket);
+            NativePacketHeader hdr = reader.readHeader();
+            assertEquals(1, hdr.getMessageSequence());
+            NativePacketPayload packet = reader.readMessage(Optional.empty(), hdr);
+            assertEquals(i, packet.readInteger(IntegerDataType.INT4));
+
+            // and the channel can wait again
+            respond(peers.get(i), -i);
+            factories.get(i).awaitReadable(0).get(10, TimeUnit.SECONDS);
+            hdr = reader.readHeader();
+            assertEquals(-i, (int) reader.readMessage(Optional.empty(), hdr).readInteger(IntegerDataType.INT4));
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        NioSocketFactory factory = connect();
+        long begin = System.nanoTime();
+        try {
+            factory.awaitReadable(200).get(10, TimeUnit.SECONDS);
+            fail("Wait should time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SocketTimeoutException);
+        }
+        assertTrue(System.nanoTime() - begin >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertTrue(factory.getChannel().isBlocking());
+        factory.getChannel().close();
+    }
+
+    @Test
+    public void testClosedWhileWaiting() throws Exception {
+        NioSocketFactory factory = connect();
+        CompletableFuture<Void> wait = factory.awaitReadable(0);
+        Thread.sleep(50);
+        factory.getChannel().close();
+        try {
+            wait.get(10, TimeUnit.SECONDS);
+            fail("Wait should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ClosedChannelException);
+        }
+    }
+}
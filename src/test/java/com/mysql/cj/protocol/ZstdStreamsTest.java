@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ZstdInputStream} and {@link ZstdOutputStream}, with frames of the reference implementation and round trips.
+ */
+public class ZstdStreamsTest {
+    /** 120 records, compressed by the reference implementation at level 19 with a checksum: Huffman weights described with FSE, FSE tables. */
+    static final String LEVEL_19_FRAME = ""
+            + "KLUv/WTiDeUOAPahTB2gazpr9KuqJcc6fbevWTINqDD2mZQyJZkSqP8VDFsAOwA8ACWuGflD6jbkHNYm4zbHTFScVVnoMtPGBPu5VyU0FN+l6QGDCASqI4ULGRY4QBBwyhQceICAIUOB"
+            + "bhoQPARweGAgwsOAhgoSHg4ACAgWMkSY0JCggYMDANGA4CE1lTSxjZR8NKaH7QrlLRY/svU6RFGZRXcpkiE3iOzU3yoH0XOLmDpZiUJ6MzLGU4OdV7xohCT1jHTaGa/4zDjVZRJxo5dM"
+            + "aR4TH9cil7VKY226iObP5l7C4alplLC0fVx1El+3b5LKJCqdDUWCQtSJ5yF8VQnrAay25qS/RjVHIQ4aUslWEzLNcGLK/eVuS4KUcVdEmnF82dATU42Ys9WdokaIs/HJZMvMitSmj0aV"
+            + "n/kuAYDxqBFA0GzZfwOgmdIBEBBChHmRzNgBO+MmdOOGQxV+cqP7c9ry/eOqgt3OllQg39HWe53L7d/GGz/PT7e7bz4fvrtsxc3MhiJeavF6sYk/ceYdX+en1/vzm9+bjTsi8uQ2uOon"
+            + "Bvf7i7me36UJ9vabmVvnT8jnI34gYIFMyOhTDPIAsgHNsEeW87fROP9b81j/N4K8PygGADdUBJ5BKCYIEAgigJIqBPlkAg=="            ;
+    /** The same records, compressed at level 1. */
+    static final String LEVEL_1_FRAME = ""
+            + "KLUv/WDiDc0TAGZgSyKQKRkO+U1sZsYf/xZC8ZG2smz4L2lbm3Qpk5QpJQKZmeYEVgA6ADoA5Sl1zDlnPDMyZHb8HNnKfysXtl40d7bTVFSSLSBQCLgODcRhaABhceCQAFD0GIjDYEDh"
+            + "SERYDOjcQByGwwIBxRHAcLDgUEiQxIOFgoFRIMFBQYIYiCM+V8dOtRIq1XT1eByyNL2Z1B9p+cw3qhjZV7F3RDESX2SSdTw1mpwPZVhWYV9XZzfNpQ+tpnim+10Br73kUi+RXabplYwl"
+            + "Ip3ZUH2GWhain185mzVPne6KxjoiF5ldjy11/dNCm3VMLzHrrmdeS9bSXpl5Azy7W5WVzE47z5yN7OflrbcX/nO8/VTn5VeRV6/K7jZ+TmVG5KFi7bq3pHJl/TVVJzVEKSsd0WzG6hyB"
+            + "DKixJDHbZ9/hhiJCRx0RJBDFEAIzREPqAWSDwAVwAORR4f4Ongb/DI8Tp/kCSfFt3HmwAy9obQGoUfDP5DjURxy3IsCxkr8EA+Hb4Fg5AJJpBzVJ7Eavsjbi3WFHPoj5JykauHAN+Kim"
+            + "NpThXKM8uQicUrcNo4ENSJBuW8Yagt07ArHG65nXtUui3ilEoCwUrSxdFpAjEqTbLsb0j/IgTPfixC/EaIEovaARCFnClsuQYBQwByRIt11EogS9+N/tIoWSPBYBnEKIIAJ6hpE7HFh+"
+            + "xLxvsX0R7Nch0HgoAxYFSMdIyeoLEwHMQkAYAftlRI8bmHcEscfp3bhguzMg0vjwwILokag9hPXTX6+PBzMeBc+DwOliAQkWjrTrt+4URRPtv5IXpQ+l94z7Zfr/kv2VfyoUOp0/re94"
+            + "AWhPOeOhr6AfBxx6FQ=="            ;
+
+    static byte[] records(int count) {
+        String[] cities = { "Lisboa", "Zürich", "Kraków", "Oslo" };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("id=").append(i * 7 % 1000).append(",name=usér").append(i * 13 % 97).append(",city=").append(cities[i % 4]).append(';');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] readAll(InputStream in, int chunk) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[chunk];
+        int n;
+        while ((n = in.read(buf, 0, chunk)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] compress(byte[] data, int flushEvery) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream zstd = new ZstdOutputStream(out)) {
+            for (int off = 0; off < data.length; off += flushEvery) {
+                zstd.write(data, off, Math.min(flushEvery, data.length - off));
+                zstd.flush();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] testData(Random random, int size) {
+        byte[] data = new byte[size];
+        byte[] text = records(2000);
+        int p = 0;
+        while (p < size) {
+            int n = Math.min(size - p, 1 + random.nextInt(5000));
+            switch (random.nextInt(4)) {
+                case 0: // Text.
+                    int from = random.nextInt(text.length - n > 0 ? text.length - n : 1);
+                    System.arraycopy(text, from, data, p, Math.min(n, text.length - from));
+                    break;
+                case 1: // Noise.
+                    for (int i = p; i < p + n; i++) {
+                        data[i] = (byte) random.nextInt();
+                    }
+                    break;
+                case 2: // Runs.
+                    Arrays.fill(data, p, p + n, (byte) random.nextInt());
+                    break;
+                default: // Repetition of earlier data.
+                    if (p > 0) {
+                        int src = random.nextInt(p);
+                        for (int i = 0; i < n; i++) {
+                            data[p + i] = data[src + i];
+                        }
+                    }
+            }
+            p += n;
+        }
+        return data;
+    }
+
+    @Test
+    public void testReferenceFrames() throws Exception {
+        byte[] expected = records(120);
+        for (String frame : new String[] { LEVEL_19_FRAME, LEVEL_1_FRAME }) {
+            byte[] compressed = Base64.getDecoder().decode(frame);
+            for (int chunk : new int[] { 1, 7, 4096 }) {
+                try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+                    assertArrayEquals(expected, readAll(in, chunk));
+                }
+            }
+        }
+
+        // Concatenated frames, with a skippable frame in between.
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.write(Base64.getDecoder().decode(LEVEL_19_FRAME));
+        concatenated.write(new byte[] { 0x5A, 0x2A, 0x4D, 0x18, 3, 0, 0, 0, 1, 2, 3 });
+        concatenated.write(Base64.getDecoder().decode(LEVEL_1_FRAME));
+        ByteArrayOutputStream expectedTwice = new ByteArrayOutputStream();
+        expectedTwice.write(expected);
+        expectedTwice.write(expected);
+        try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(concatenated.toByteArray()))) {
+            assertArrayEquals(expectedTwice.toByteArray(), readAll(in, 1000));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Random random = new Random(16);
+        for (int size : new int[] { 0, 1, 15, 300, 70000, 600000 }) {
+            byte[] data = testData(random, size);
+            for (int flushEvery : new int[] { 1000, 130000, Integer.MAX_VALUE }) {
+                if (flushEvery == 1000 && size > 70000) {
+                    continue;
+                }
+                byte[] compressed = compress(data, flushEvery);
+                try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+                    assertArrayEquals(data, readAll(in, 8191), "size " + size + ", flushes every " + flushEvery);
+                }
+            }
+        }
+
+        byte[] text = records(5000);
+        assertTrue(compress(text, Integer.MAX_VALUE).length < text.length / 5);
+    }
+
+    /**
+     * Reads each flushed block as soon as it is available, without waiting for the following ones, as needed by the X Protocol "zstd_stream" algorithm.
+     */
+    @Test
+    public void testStreaming() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ByteArrayOutputStream available = new ByteArrayOutputStream();
+        InputStream source = new InputStream() {
+            int pos = 0;
+
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == 1 ? b[0] & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                byte[] flushed = available.toByteArray();
+                if (this.pos == flushed.length) {
+                    throw new IOException("Read past the flushed data");
+                }
+                int n = Math.min(len, flushed.length - this.pos);
+                System.arraycopy(flushed, this.pos, b, off, n);
+                this.pos += n;
+                return n;
+            }
+        };
+
+        Random random = new Random(17);
+        try (OutputStream out = new ZstdOutputStream(compressed); InputStream in = new ZstdInputStream(source)) {
+            for (int i = 0; i < 50; i++) {
+                byte[] message = testData(random, 1 + random.nextInt(i % 10 == 0 ? 200000 : 3000));
+                out.write(message);
+                out.flush();
+                available.write(compressed.toByteArray());
+                compressed.reset();
+
+                byte[] read = new byte[message.length];
+                for (int n = 0; n < read.length;) {
+                    n += in.read(read, n, read.length - n);
+                }
+                assertArrayEquals(message, read);
+            }
+        }
+    }
+
+    @Test
+    public void testMalformedData() throws Exception {
+        byte[] compressed = Base64.getDecoder().decode(LEVEL_19_FRAME);
+        Random random = new Random(18);
+        for (int i = 0; i < 500; i++) {
+            byte[] corrupted = compressed.clone();
+            corrupted[random.nextInt(corrupted.length)] ^= 1 << random.nextInt(8);
+            if (i % 5 == 0) {
+                corrupted = Arrays.copyOf(corrupted, random.nextInt(corrupted.length));
+            }
+            try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(corrupted))) {
+                readAll(in, 4096);
+            } catch (IOException e) {
+                // Expected, unless the corruption only changed the content or the skipped checksum.
+            }
+        }
+
+        // Dictionaries aren't supported.
+        byte[] withDictionary = { 0x28, (byte) 0xB5, 0x2F, (byte) 0xFD, 0x01, 0x38, 0x07, 0x01, 0x00, 0x00 };
+        IOException e = assertThrows(IOException.class, () -> readAll(new ZstdInputStream(new ByteArrayInputStream(withDictionary)), 10));
+        assertEquals("The Zstandard compressed data uses the unsupported feature 'dictionary'.", e.getMessage());
+        assertThrows(IOException.class, () -> readAll(new ZstdInputStream(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6 })), 10));
+    }
+}
@@ -29,19 +29,26 @@
 
 package com.mysql.cj.protocol.a;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Random;
 import java.util.zip.InflaterOutputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.log.NullLogger;
 import com.mysql.cj.protocol.MessageSender;
+import com.mysql.cj.protocol.ZstdOutputStream;
 
 public class CompressedPacketSenderTest extends PacketSenderTestBase {
     private ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -293,4 +300,194 @@ public class CompressedPacketSenderTest extends PacketSenderTestBase {
         assertEquals(packetSequence, sentPacket[CompressedPacketSender.COMP_HEADER_LENGTH + 3]);
         checkSequentiallyFilledPacket(sentPacket, CompressedPacketSender.COMP_HEADER_LENGTH + NativeConstants.HEADER_LENGTH, packetLen);
     }
+
+    /**
+     * Sends packets of various sizes and contents with the given algorithm and checks that {@link CompressedInputStream} reads them back as they would be
+     * sent uncompressed.
+     * 
+     * @param algorithm
+     *            compression algorithm
+     * @throws IOException
+     */
+    private void checkRoundTrip(NativeCompressionAlgorithm algorithm) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MessageSender<NativePacketPayload> uncompressedSender = new SimplePacketSender(new BufferedOutputStream(expected));
+        MessageSender<NativePacketPayload> compressedSender = new CompressedPacketSender(new BufferedOutputStream(this.outputStream), algorithm,
+                CompressedPacketSender.MIN_COMPRESS_LEN);
+
+        Random random = new Random(17);
+        String alphabet = "{\"id\": , \"name\": \"row\"}\n";
+        byte[] text = new byte[100000];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (byte) alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        byte[] noise = new byte[5000];
+        random.nextBytes(noise);
+        byte[] sequential = new byte[3000];
+        fillPacketSequentially(sequential);
+        byte[][] packets = { text, new byte[10], sequential, noise, new byte[NativeConstants.MAX_PACKET_SIZE + 20000], text };
+
+        byte packetSequence = 0;
+        for (byte[] packet : packets) {
+            uncompressedSender.send(packet, packet.length, packetSequence);
+            compressedSender.send(packet, packet.length, packetSequence);
+            packetSequence += 3;
+        }
+        assertTrue(this.outputStream.size() < expected.size() / 10);
+
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(this.outputStream.toByteArray()),
+                new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null), algorithm);
+        byte[] received = new byte[expected.size()];
+        int n = 0;
+        int count;
+        while (n < received.length && (count = in.read(received, n, received.length - n)) != -1) {
+            n += count;
+        }
+        assertArrayEquals(expected.toByteArray(), received);
+        assertEquals(-1, in.read());
+        in.close();
+    }
+
+    @Test
+    public void zlibRoundTrip() throws IOException {
+        checkRoundTrip(NativeCompressionAlgorithm.ZLIB);
+    }
+
+    @Test
+    public void zstdRoundTrip() throws IOException {
+        checkRoundTrip(NativeCompressionAlgorithm.ZSTD);
+    }
+
+    /**
+     * Tests that a packet must hold exactly one Zstandard frame of the announced length, which may end with an empty block.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void zstdPacketFrames() throws IOException {
+        byte[] payload = new byte[1000];
+        fillPacketSequentially(payload);
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        ZstdOutputStream zstd = new ZstdOutputStream(frame);
+        zstd.write(payload);
+        zstd.flush();
+        zstd.finish(); // empty last block
+        byte[] frameBytes = frame.toByteArray();
+
+        assertArrayEquals(payload, readZstdPacket(frameBytes, payload.length));
+        assertArrayEquals(null, readZstdPacket(frameBytes, payload.length - 1));
+        assertArrayEquals(null, readZstdPacket(frameBytes, payload.length + 1));
+
+        zstd.write(payload, 0, 10);
+        zstd.finish();
+        assertArrayEquals(null, readZstdPacket(frame.toByteArray(), payload.length)); // another frame follows
+    }
+
+    private byte[] readZstdPacket(byte[] frame, int uncompressedLength) throws IOException {
+        ByteArrayOutputStream packet = new ByteArrayOutputStream();
+        packet.write(NativeUtils.encodeMysqlThreeByteInteger(frame.length));
+        packet.write(0);
+        packet.write(NativeUtils.encodeMysqlThreeByteInteger(uncompressedLength));
+        packet.write(frame);
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(packet.toByteArray()),
+                new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null), NativeCompressionAlgorithm.ZSTD);
+        byte[] data = new byte[uncompressedLength];
+        return in.read(data) == uncompressedLength ? data : null;
+    }
+
+    @Test
+    public void compressionThresholdIsTunable() throws IOException {
+        byte[] packet = new byte[CompressedPacketSender.MIN_COMPRESS_LEN - 10];
+        new CompressedPacketSender(new BufferedOutputStream(this.outputStream), NativeCompressionAlgorithm.ZLIB, 0).send(packet, packet.length, (byte) 0);
+        CompressedPackets packets = new CompressedPackets(this.outputStream.toByteArray());
+        assertTrue(packets.nextPayload());
+        assertEquals(packet.length + NativeConstants.HEADER_LENGTH, packets.uncompressedPayloadLen);
+        assertFalse(packets.nextPayload());
+
+        this.outputStream.reset();
+        packet = new byte[3000];
+        new CompressedPacketSender(new BufferedOutputStream(this.outputStream), NativeCompressionAlgorithm.ZLIB, 10000).send(packet, packet.length, (byte) 0);
+        packets = new CompressedPackets(this.outputStream.toByteArray());
+        assertTrue(packets.nextPayload());
+        assertEquals(0, packets.uncompressedPayloadLen);
+        assertEquals(packet.length + NativeConstants.HEADER_LENGTH, packets.compressedPayloadLen);
+        assertFalse(packets.nextPayload());
+    }
+
+    /**
+     * Tests that small packets are held while flushing is deferred, and then sent together in one compressed packet.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void deferredPacketsAreCoalesced() throws IOException {
+        CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(this.outputStream), NativeCompressionAlgorithm.ZLIB,
+                CompressedPacketSender.MIN_COMPRESS_LEN);
+        sender.setFlushDeferred(true);
+        for (int i = 0; i < 100; i++) {
+            byte[] packet = ("\3SELECT c FROM t WHERE id = " + i).getBytes();
+            sender.send(packet, packet.length, (byte) 0);
+        }
+        assertEquals(0, this.outputStream.size());
+        sender.flush();
+
+        CompressedPackets packets = new CompressedPackets(this.outputStream.toByteArray());
+        assertTrue(packets.nextPayload());
+        assertTrue(packets.uncompressedPayloadLen > 0);
+        int offset = 0;
+        for (int i = 0; i < 100; i++) {
+            byte[] packet = ("\3SELECT c FROM t WHERE id = " + i).getBytes();
+            assertEquals(packet.length, NativeUtils.decodeMysqlThreeByteInteger(packets.payload, offset));
+            assertEquals(0, packets.payload[offset + 3]);
+            assertArrayEquals(packet, java.util.Arrays.copyOfRange(packets.payload, offset + NativeConstants.HEADER_LENGTH,
+                    offset + NativeConstants.HEADER_LENGTH + packet.length));
+            offset += NativeConstants.HEADER_LENGTH + packet.length;
+        }
+        assertEquals(offset, packets.payload.length);
+        assertFalse(packets.nextPayload());
+
+        // packets sent after deferring ends are flushed right away
+        this.outputStream.reset();
+        sender.setFlushDeferred(false);
+        sender.send(new byte[10], 10, (byte) 0);
+        assertEquals(CompressedPacketSender.COMP_HEADER_LENGTH + NativeConstants.HEADER_LENGTH + 10, this.outputStream.size());
+    }
+
+    @Test
+    public void deferredPacketsRoundTrip() throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        MessageSender<NativePacketPayload> uncompressedSender = new SimplePacketSender(new BufferedOutputStream(expected));
+        CompressedPacketSender compressedSender = new CompressedPacketSender(new BufferedOutputStream(this.outputStream), NativeCompressionAlgorithm.ZSTD,
+                CompressedPacketSender.MIN_COMPRESS_LEN);
+        compressedSender.setFlushDeferred(true);
+
+        int count = 0;
+        for (int i = 0; i < 2000; i++) {
+            byte[] packet = i == 1000 ? new byte[100000] : ("\3INSERT INTO t VALUES (" + i + ", 'row " + i + "')").getBytes();
+            uncompressedSender.send(packet, packet.length, (byte) 0);
+            compressedSender.send(packet, packet.length, (byte) 0);
+            count++;
+        }
+        compressedSender.flush();
+
+        CompressedPackets packets = new CompressedPackets(this.outputStream.toByteArray());
+        int compressedPackets = 0;
+        while (packets.offset < packets.packetData.length) {
+            packets.offset += CompressedPacketSender.COMP_HEADER_LENGTH + NativeUtils.decodeMysqlThreeByteInteger(packets.packetData, packets.offset);
+            compressedPackets++;
+        }
+        assertTrue(compressedPackets < count / 100);
+
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(this.outputStream.toByteArray()),
+                new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null), NativeCompressionAlgorithm.ZSTD);
+        byte[] received = new byte[expected.size()];
+        int n = 0;
+        int read;
+        while (n < received.length && (read = in.read(received, n, received.length - n)) != -1) {
+            n += read;
+        }
+        assertArrayEquals(expected.toByteArray(), received);
+        assertEquals(-1, in.read());
+        in.close();
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.log.NullLogger;
+
+/**
+ * CPU time per MB and compression ratio of the classic protocol compression algorithms, for result sets with a JSON document in a VARCHAR column. A stub
+ * server thread streams text protocol rows over a loopback socket through a {@link CompressedPacketSender}, coalescing them in compressed packets of up to
+ * 16 KiB as the server does when it flushes its network buffer, and the client reads them back through a {@link CompressedInputStream}. CPU times are
+ * per-thread, so each side is measured without the other's work.
+ *
+ * Usage: <code>CompressionBenchmark [rows] [passes]</code>
+ */
+public class CompressionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        List<byte[]> packets = rowPackets(rows);
+        long payloadBytes = 0;
+        for (byte[] p : packets) {
+            payloadBytes += p.length + NativeConstants.HEADER_LENGTH;
+        }
+        System.out.printf("%d rows, %.1f MB per pass%n", rows, payloadBytes / 1e6);
+
+        for (NativeCompressionAlgorithm algorithm : NativeCompressionAlgorithm.values()) {
+            // the first half of the passes warms up
+            run(algorithm, packets, payloadBytes, passes / 2, false);
+            run(algorithm, packets, payloadBytes, passes, true);
+        }
+    }
+
+    /**
+     * Builds the rows of "SELECT id, doc FROM t": an INT and a JSON document of a few hundred bytes, with the repetitive keys and varied values typical of
+     * application data.
+     */
+    private static List<byte[]> rowPackets(int rows) {
+        Random random = new Random(42);
+        String[] statuses = { "active", "pending", "suspended", "closed" };
+        String[] tags = { "priority", "internal", "billing", "eu-west", "us-east", "beta", "legacy", "mobile" };
+        List<byte[]> packets = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            StringBuilder doc = new StringBuilder();
+            doc.append("{\"id\":").append(i).append(",\"account\":\"acct-").append(Integer.toHexString(random.nextInt())).append("\",\"status\":\"")
+                    .append(statuses[random.nextInt(statuses.length)]).append("\",\"created\":\"2022-0").append(1 + random.nextInt(9)).append('-')
+                    .append(10 + random.nextInt(18)).append('T').append(10 + random.nextInt(13)).append(':').append(10 + random.nextInt(49))
+                    .append(":00Z\",\"balance\":").append(random.nextInt(1000000) / 100.0).append(",\"tags\":[");
+            for (int t = random.nextInt(4); t >= 0; t--) {
+                doc.append('"').append(tags[random.nextInt(tags.length)]).append('"').append(t > 0 ? "," : "");
+            }
+            doc.append("],\"address\":{\"street\":\"").append(random.nextInt(9999)).append(" Main Street\",\"city\":\"City ").append(random.nextInt(500))
+                    .append("\",\"zip\":\"").append(10000 + random.nextInt(89999)).append("\"},\"events\":[");
+            for (int e = random.nextInt(5); e >= 0; e--) {
+                doc.append("{\"type\":\"login\",\"ip\":\"10.").append(random.nextInt(256)).append('.').append(random.nextInt(256)).append('.')
+                        .append(random.nextInt(256)).append("\",\"at\":").append(1640995200L + random.nextInt(31536000)).append('}')
+                        .append(e > 0 ? "," : "");
+            }
+            doc.append("]}");
+
+            byte[] id = String.valueOf(i).getBytes(StandardCharsets.US_ASCII);
+            byte[] json = doc.toString().getBytes(StandardCharsets.UTF_8);
+            NativePacketPayload row = new NativePacketPayload(id.length + json.length + 16);
+            row.writeBytes(NativeConstants.StringSelfDataType.STRING_LENENC, id, 0, id.length);
+            row.writeBytes(NativeConstants.StringSelfDataType.STRING_LENENC, json, 0, json.length);
+            byte[] packet = new byte[row.getPosition()];
+            System.arraycopy(row.getByteBuffer(), 0, packet, 0, packet.length);
+            packets.add(packet);
+        }
+        return packets;
+    }
+
+    private static void run(NativeCompressionAlgorithm algorithm, List<byte[]> packets, long payloadBytes, int passes, boolean report) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong wireBytes = new AtomicLong();
+        long[] serverCpu = new long[1];
+        Exception[] failure = new Exception[1];
+
+        try (ServerSocket listener = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = listener.accept()) {
+                    OutputStream counting = new FilterOutputStream(socket.getOutputStream()) {
+                        @Override
+                        public void write(byte[] b, int off, int len) throws IOException {
+                            wireBytes.addAndGet(len);
+                            this.out.write(b, off, len);
+                        }
+                    };
+                    CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(counting, 64 * 1024), algorithm,
+                            CompressedPacketSender.MIN_COMPRESS_LEN);
+                    sender.setFlushDeferred(true);
+                    long cpu = threads.getCurrentThreadCpuTime();
+                    for (int p = 0; p < passes; p++) {
+                        byte sequence = 1;
+                        for (byte[] packet : packets) {
+                            sender.send(packet, packet.length, sequence++);
+                        }
+                        sender.flush();
+                    }
+                    serverCpu[0] = threads.getCurrentThreadCpuTime() - cpu;
+                    sender.stop();
+                } catch (Exception e) {
+                    failure[0] = e;
+                }
+            }, "stub server");
+            server.start();
+
+            long clientCpu;
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), listener.getLocalPort())) {
+                InputStream in = new CompressedInputStream(socket.getInputStream(),
+                        new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null), algorithm);
+                byte[] buf = new byte[16 * 1024];
+                long remaining = payloadBytes * passes;
+                long cpu = threads.getCurrentThreadCpuTime();
+                while (remaining > 0) {
+                    int n = in.read(buf, 0, (int) Math.min(buf.length, remaining));
+                    if (n < 0) {
+                        throw new IOException("Stub server closed the connection with " + remaining + " bytes left");
+                    }
+                    remaining -= n;
+                }
+                clientCpu = threads.getCurrentThreadCpuTime() - cpu;
+            }
+            server.join();
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+
+            if (report) {
+                double mb = payloadBytes * passes / 1e6;
+                System.out.printf("%-5s ratio %5.2f   compress %6.2f ms/MB   decompress %6.2f ms/MB%n", algorithm.getName(),
+                        (double) payloadBytes * passes / wireBytes.get(), serverCpu[0] / 1e6 / mb, clientCpu / 1e6 / mb);
+            }
+        }
+    }
+
+    private CompressionBenchmark() {
+    }
+}
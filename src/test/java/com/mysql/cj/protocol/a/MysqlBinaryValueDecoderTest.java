@@ -38,7 +38,9 @@ import java.nio.ByteOrder;
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.result.Field;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
@@ -104,4 +106,33 @@ public class MysqlBinaryValueDecoderTest {
         decoded = this.valueDecoder.decodeUInt8(unsignedInt8Max, 0, 8, vf);
         assertEquals("18446744073709551615", decoded);
     }
+
+    @Test
+    public void testDecodeAsPrimitive() {
+        ByteBuffer buf = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(-1L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xff }, 0, 1, field(MysqlType.TINYINT, MysqlType.FIELD_TYPE_TINY)));
+        assertEquals(255L,
+                this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xff }, 0, 1, field(MysqlType.TINYINT_UNSIGNED, MysqlType.FIELD_TYPE_TINY)));
+        assertEquals(-2L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xfe, (byte) 0xff }, 0, 2, field(MysqlType.SMALLINT, MysqlType.FIELD_TYPE_SHORT)));
+        assertEquals(65534L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xfe, (byte) 0xff }, 0, 2,
+                field(MysqlType.SMALLINT_UNSIGNED, MysqlType.FIELD_TYPE_SHORT)));
+        assertEquals(-8388608L, this.valueDecoder.decodeAsLong(buf.putInt(0, -8388608).array(), 0, 4, field(MysqlType.MEDIUMINT, MysqlType.FIELD_TYPE_INT24)));
+        assertEquals(Integer.MIN_VALUE,
+                this.valueDecoder.decodeAsLong(buf.putInt(0, Integer.MIN_VALUE).array(), 0, 4, field(MysqlType.INT, MysqlType.FIELD_TYPE_LONG)));
+        assertEquals(4294967295L,
+                this.valueDecoder.decodeAsLong(buf.putInt(0, -1).array(), 0, 4, field(MysqlType.INT_UNSIGNED, MysqlType.FIELD_TYPE_LONG)));
+        assertEquals(Long.MIN_VALUE,
+                this.valueDecoder.decodeAsLong(buf.putLong(0, Long.MIN_VALUE).array(), 0, 8, field(MysqlType.BIGINT, MysqlType.FIELD_TYPE_LONGLONG)));
+
+        assertEquals(1.1f, this.valueDecoder.decodeAsDouble(buf.putFloat(0, 1.1f).array(), 0, 4, field(MysqlType.FLOAT, MysqlType.FIELD_TYPE_FLOAT)));
+        assertEquals(-Double.MAX_VALUE,
+                this.valueDecoder.decodeAsDouble(buf.putDouble(0, -Double.MAX_VALUE).array(), 0, 8, field(MysqlType.DOUBLE, MysqlType.FIELD_TYPE_DOUBLE)));
+    }
+
+    private static Field field(MysqlType mysqlType, int mysqlTypeId) {
+        Field f = new Field("t", "c", 63, "ISO-8859-1", mysqlType, 8);
+        f.setMysqlTypeId(mysqlTypeId);
+        return f;
+    }
 }
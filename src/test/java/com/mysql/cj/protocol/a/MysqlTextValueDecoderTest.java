@@ -34,6 +34,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
@@ -189,4 +191,25 @@ public class MysqlTextValueDecoderTest {
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00Z"));
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00+01:00"));
     }
+
+    @Test
+    public void testDoubleValues() {
+        String[] values = { "0", "-0", "0.1", "-0.0001", "3.14159", "5.", ".5", "+2.5", "123456789012345", "1234567890123456789", "9007199254740993",
+                "0.3000000000000000444", "1e10", "-1.5E-7", "1.7976931348623157e308", "4.9e-324", "  1.5", "0.0000000000000000000000001" };
+        for (String v : values) {
+            byte[] b = v.getBytes();
+            assertEquals(Double.valueOf(Double.parseDouble(v)), Double.valueOf(MysqlTextValueDecoder.getDouble(b, 0, b.length)), v);
+        }
+        Random rnd = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            String v = String.valueOf(rnd.nextInt(2000000000) / Math.pow(10, rnd.nextInt(12)));
+            byte[] b = v.getBytes();
+            assertEquals(Double.parseDouble(v), MysqlTextValueDecoder.getDouble(b, 0, b.length), v);
+        }
+        assertThrows(NumberFormatException.class, () -> MysqlTextValueDecoder.getDouble(".".getBytes(), 0, 1));
+        assertThrows(NumberFormatException.class, () -> MysqlTextValueDecoder.getDouble("-".getBytes(), 0, 1));
+
+        assertEquals(-42L, this.valueDecoder.decodeAsLong("-42".getBytes(), 0, 3, null));
+        assertEquals(18.25, this.valueDecoder.decodeAsDouble("18.25".getBytes(), 0, 5, null));
+    }
 }
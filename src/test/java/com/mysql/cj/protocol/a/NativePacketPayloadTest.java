@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class NativePacketPayloadTest {
+
+    @Test
+    public void testTags() {
+        NativePacketPayload p = new NativePacketPayload(100);
+        assertEquals(-1, p.getTag("QUERY"));
+
+        p.setPosition(5);
+        assertEquals(-1, p.setTag("QUERY"));
+        assertEquals(5, p.getTag("QUERY"));
+        p.setPosition(7);
+        assertEquals(5, p.setTag("QUERY"));
+        assertEquals(7, p.getTag("QUERY"));
+
+        // more tags than the initial slots
+        for (int i = 0; i < NativePacketPayload.TAG_SLOTS * 3; i++) {
+            p.setPosition(10 + i);
+            assertEquals(-1, p.setTag("T" + i));
+        }
+        for (int i = 0; i < NativePacketPayload.TAG_SLOTS * 3; i++) {
+            assertEquals(10 + i, p.getTag("T" + i));
+        }
+        assertEquals(7, p.getTag("QUERY"));
+        assertEquals(-1, p.getTag("OTHER"));
+    }
+}
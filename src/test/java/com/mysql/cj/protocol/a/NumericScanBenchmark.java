@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.a.result.AbstractBufferRow;
+import com.mysql.cj.protocol.a.result.BinaryBufferRow;
+import com.mysql.cj.protocol.a.result.TextBufferRow;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+
+/**
+ * Time and bytes allocated per cell when scanning (INT, BIGINT, DOUBLE) rows the way <code>ResultSet.getInt()</code>, <code>getLong()</code> and
+ * <code>getDouble()</code> do, through the boxing {@link Row#getValue(int, com.mysql.cj.result.ValueFactory)} ("boxed") and through the primitive
+ * {@link Row#getLong(int, com.mysql.cj.result.ValueFactory)} and {@link Row#getDouble(int, com.mysql.cj.result.ValueFactory)} ("primitive"), for both
+ * text and binary rows. Needs a HotSpot JVM for per-thread allocation counters.
+ *
+ * Usage: <code>NumericScanBenchmark [cells] [passes]</code>
+ */
+public class NumericScanBenchmark {
+
+    private static final int COLUMNS = 3;
+    private static final int DISTINCT_ROWS = 1024;
+
+    private interface Scan {
+        long row(Row row);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int cells = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int rows = cells / COLUMNS;
+
+        Field[] fields = { field(MysqlType.INT, MysqlType.FIELD_TYPE_LONG), field(MysqlType.BIGINT, MysqlType.FIELD_TYPE_LONGLONG),
+                field(MysqlType.DOUBLE, MysqlType.FIELD_TYPE_DOUBLE) };
+        ColumnDefinition cd = new DefaultColumnDefinition(fields);
+
+        // values well outside of the Integer/Long caches, e.g. 100042, 4294967296042, 63.5
+        byte[][] text = new byte[DISTINCT_ROWS][];
+        byte[][] binary = new byte[DISTINCT_ROWS][];
+        for (int i = 0; i < DISTINCT_ROWS; i++) {
+            int intValue = 100000 + i;
+            long longValue = (1L << 32) * 1000 + i;
+            double doubleValue = i + 0.5;
+
+            ByteBuffer t = ByteBuffer.allocate(64);
+            for (String v : new String[] { String.valueOf(intValue), String.valueOf(longValue), String.valueOf(doubleValue) }) {
+                t.put((byte) v.length()).put(v.getBytes(StandardCharsets.US_ASCII));
+            }
+            text[i] = Arrays.copyOf(t.array(), t.position());
+
+            // header byte, NULL bitmap, values
+            binary[i] = ByteBuffer.allocate(1 + 1 + 4 + 8 + 8).order(ByteOrder.LITTLE_ENDIAN).put((byte) 0).put((byte) 0).putInt(intValue).putLong(longValue)
+                    .putDouble(doubleValue).array();
+        }
+
+        PropertySet pset = new DefaultPropertySet();
+        IntegerValueFactory intVf = new IntegerValueFactory(pset);
+        LongValueFactory longVf = new LongValueFactory(pset);
+        DoubleValueFactory doubleVf = new DoubleValueFactory(pset);
+
+        Scan boxed = row -> {
+            Integer i = row.getValue(0, intVf);
+            Long l = row.getValue(1, longVf);
+            Double d = row.getValue(2, doubleVf);
+            return i + l + (long) (double) d;
+        };
+        Scan primitive = row -> intVf.createIntFromLong(row.getLong(0, intVf)) + row.getLong(1, longVf)
+                + (long) doubleVf.createDoubleFromDouble(row.getDouble(2, doubleVf));
+
+        run("text boxed", text, false, cd, rows, passes, boxed);
+        run("text primitive", text, false, cd, rows, passes, primitive);
+        run("binary boxed", binary, true, cd, rows, passes, boxed);
+        run("binary primitive", binary, true, cd, rows, passes, primitive);
+    }
+
+    private static void run(String name, byte[][] packets, boolean binary, ColumnDefinition cd, int rows, int passes, Scan scan) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+
+        long bestBytes = Long.MAX_VALUE;
+        long bestNanos = Long.MAX_VALUE;
+        long check = 0;
+        for (int pass = 0; pass < passes + 2; pass++) {
+            // rows are created up front, as ResultsetRowsStatic holds them, so only the value reads are measured
+            AbstractBufferRow[] rowObjects = new AbstractBufferRow[DISTINCT_ROWS];
+            for (int i = 0; i < DISTINCT_ROWS; i++) {
+                NativePacketPayload payload = new NativePacketPayload(packets[i]);
+                if (binary) {
+                    payload.setPosition(1);
+                    rowObjects[i] = new BinaryBufferRow(payload, cd, null, new MysqlBinaryValueDecoder());
+                } else {
+                    rowObjects[i] = new TextBufferRow(payload, cd, null, new MysqlTextValueDecoder());
+                }
+            }
+            long allocated = threads.getThreadAllocatedBytes(tid);
+            long begin = System.nanoTime();
+            for (int i = 0; i < rows; i++) {
+                check += scan.row(rowObjects[i & (DISTINCT_ROWS - 1)]);
+            }
+            long nanos = System.nanoTime() - begin;
+            allocated = threads.getThreadAllocatedBytes(tid) - allocated;
+            if (pass >= 2) {
+                // the first passes warm up
+                bestBytes = Math.min(bestBytes, allocated);
+                bestNanos = Math.min(bestNanos, nanos);
+            }
+        }
+        long cells = (long) rows * COLUMNS;
+        System.out.printf("%-17s %8.2f bytes/cell %8.2f ns/cell  (%d)%n", name, (double) bestBytes / cells, (double) bestNanos / cells, check);
+    }
+
+    private static Field field(MysqlType mysqlType, int mysqlTypeId) {
+        Field f = new Field("t", "c", 63, "ISO-8859-1", mysqlType, 20);
+        f.setMysqlTypeId(mysqlTypeId);
+        return f;
+    }
+
+    private NumericScanBenchmark() {
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.protocol.MessageReader;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.SimplePacketReaderTest.FixedBufferSocketConnection;
+
+/**
+ * Bytes allocated per row when reading narrow text result rows the way {@link ResultsetRowReader} does: a new payload per row whose values are copied
+ * out ("copy"), one reusable payload as when streaming ("reuse") and payloads leased from a {@link PacketBufferPool} ("pooled"). Needs a HotSpot JVM
+ * for per-thread allocation counters.
+ * 
+ * Usage: <code>PacketAllocationBenchmark [rows] [passes]</code>
+ */
+public class PacketAllocationBenchmark {
+
+    private interface Read {
+        NativePacketPayload next(MessageReader<NativePacketHeader, NativePacketPayload> reader, NativePacketHeader hdr) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        // (INT, VARCHAR, DOUBLE) rows, e.g. "42", "name42", "63.0"
+        ByteBuffer wire = ByteBuffer.allocate(rows * 40).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < rows; i++) {
+            byte[][] values = { String.valueOf(i).getBytes(StandardCharsets.US_ASCII), ("name" + i).getBytes(StandardCharsets.US_ASCII),
+                    String.valueOf(i * 1.5).getBytes(StandardCharsets.US_ASCII) };
+            int len = 0;
+            for (byte[] v : values) {
+                len += 1 + v.length;
+            }
+            wire.putInt(len | (i & 0xff) << 24);
+            for (byte[] v : values) {
+                wire.put((byte) v.length).put(v);
+            }
+        }
+        byte[] bytes = new byte[wire.position()];
+        wire.flip();
+        wire.get(bytes);
+
+        NativePacketPayload reusable = new NativePacketPayload(1024);
+        PacketBufferPool pool = new PacketBufferPool();
+        run("copy", bytes, rows, passes, (reader, hdr) -> reader.readMessage(Optional.empty(), hdr));
+        run("reuse", bytes, rows, passes, (reader, hdr) -> reader.readMessage(Optional.of(reusable), hdr));
+        run("pooled", bytes, rows, passes, (reader, hdr) -> reader.readMessage(Optional.of(new NativePacketPayload(0, pool)), hdr));
+    }
+
+    private static void run(String name, byte[] wire, int rows, int passes, Read read) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+
+        long bestBytes = Long.MAX_VALUE;
+        long bestNanos = Long.MAX_VALUE;
+        long check = 0;
+        for (int pass = 0; pass < passes + 2; pass++) {
+            MessageReader<NativePacketHeader, NativePacketPayload> reader = new SimplePacketReader(new FixedBufferSocketConnection(wire), maxAllowedPacket);
+            long allocated = threads.getThreadAllocatedBytes(tid);
+            long begin = System.nanoTime();
+            for (int i = 0; i < rows; i++) {
+                NativePacketPayload packet = read.next(reader, reader.readHeader());
+                // what TextRowFactory does for a ByteArrayRow
+                byte[][] row = new byte[3][];
+                for (int c = 0; c < 3; c++) {
+                    row[c] = packet.readBytes(StringSelfDataType.STRING_LENENC);
+                }
+                packet.release();
+                check += row[1].length;
+            }
+            long nanos = System.nanoTime() - begin;
+            allocated = threads.getThreadAllocatedBytes(tid) - allocated;
+            if (pass >= 2) {
+                // the first passes warm up
+                bestBytes = Math.min(bestBytes, allocated);
+                bestNanos = Math.min(bestNanos, nanos);
+            }
+        }
+        System.out.printf("%-8s %8.1f bytes/row %8.1f ns/row  (%d)%n", name, (double) bestBytes / rows, (double) bestNanos / rows, check);
+    }
+
+    private PacketAllocationBenchmark() {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+
+public class PacketBufferPoolTest {
+
+    @Test
+    public void testSizeClasses() {
+        PacketBufferPool pool = new PacketBufferPool();
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE, pool.lease(1).length);
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE, pool.lease(PacketBufferPool.MIN_CLASS_SIZE).length);
+        assertEquals(2 * PacketBufferPool.MIN_CLASS_SIZE, pool.lease(PacketBufferPool.MIN_CLASS_SIZE + 1).length);
+        assertEquals(4096, pool.lease(3000).length);
+        assertEquals(PacketBufferPool.MAX_CLASS_SIZE, pool.lease(PacketBufferPool.MAX_CLASS_SIZE).length);
+        // larger requests are allocated exactly and never retained
+        byte[] big = pool.lease(PacketBufferPool.MAX_CLASS_SIZE + 1);
+        assertEquals(PacketBufferPool.MAX_CLASS_SIZE + 1, big.length);
+        pool.release(big);
+        assertEquals(0, pool.getRetainedBytes());
+        assertEquals(0, pool.getReuseCount());
+    }
+
+    @Test
+    public void testReuse() {
+        PacketBufferPool pool = new PacketBufferPool();
+        byte[] a = pool.lease(100);
+        byte[] b = pool.lease(100);
+        pool.release(a);
+        pool.release(b);
+        assertEquals(256, pool.getRetainedBytes());
+        assertSame(b, pool.lease(120));
+        assertSame(a, pool.lease(128));
+        assertNotSame(a, pool.lease(128));
+        assertEquals(2, pool.getReuseCount());
+        assertEquals(5, pool.getLeaseCount());
+
+        // arrays not sized as a class are left to the garbage collector
+        pool.release(new byte[100]);
+        assertEquals(0, pool.getRetainedBytes());
+
+        // bounded per class
+        for (int i = 0; i < PacketBufferPool.ARRAYS_PER_CLASS + 2; i++) {
+            pool.release(new byte[1024]);
+        }
+        assertEquals(PacketBufferPool.ARRAYS_PER_CLASS * 1024, pool.getRetainedBytes());
+
+        // and overall
+        pool.clear();
+        for (int i = 0; i < PacketBufferPool.ARRAYS_PER_CLASS; i++) {
+            pool.release(new byte[PacketBufferPool.MAX_CLASS_SIZE]);
+        }
+        assertEquals(PacketBufferPool.MAX_RETAINED_BYTES, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testPooledPayload() {
+        PacketBufferPool pool = new PacketBufferPool();
+        NativePacketPayload p = new NativePacketPayload(10, pool);
+        assertEquals(10, p.getPayloadLength());
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE, p.getCapacity());
+
+        // growing swaps the buffer for a larger leased one and returns the old one
+        byte[] first = p.getByteBuffer();
+        p.setPosition(0);
+        byte[] data = new byte[200];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        p.writeBytes(StringLengthDataType.STRING_FIXED, data);
+        assertEquals(200, p.getPayloadLength());
+        assertEquals(512, p.getCapacity());
+        p.setPosition(0);
+        assertArrayEquals(data, p.readBytes(StringLengthDataType.STRING_FIXED, 200));
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE, pool.getRetainedBytes());
+
+        byte[] second = p.getByteBuffer();
+        p.release();
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE + 512, pool.getRetainedBytes());
+        // a second release must not hand the buffer out twice
+        p.release();
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE + 512, pool.getRetainedBytes());
+
+        assertSame(first, new NativePacketPayload(1, pool).getByteBuffer());
+        assertSame(second, new NativePacketPayload(300, pool).getByteBuffer());
+
+        // unpooled payloads are unaffected
+        NativePacketPayload q = new NativePacketPayload(10, null);
+        assertEquals(10, q.getCapacity());
+        q.release();
+        assertEquals(10, q.getCapacity());
+    }
+}
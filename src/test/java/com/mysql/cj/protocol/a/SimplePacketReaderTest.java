@@ -30,6 +30,7 @@
 package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -134,6 +135,28 @@ public class SimplePacketReaderTest {
         assertEquals(4, b.getByteBuffer()[2]);
     }
 
+    // payloads leased from a pool are read into a buffer of the pool's size class
+    @Test
+    public void readPooledPayload() throws IOException {
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        SocketConnection connection = new FixedBufferSocketConnection(new byte[] { 3, 2, 1, 6, 5, 4 });
+        MessageReader<NativePacketHeader, NativePacketPayload> reader = new SimplePacketReader(connection, maxAllowedPacket);
+        PacketBufferPool pool = new PacketBufferPool();
+        NativePacketPayload b = reader.readMessage(Optional.of(new NativePacketPayload(0, pool)), new NativePacketHeader(new byte[] { 3, 0, 0, 0 }));
+        assertEquals(3, b.getPayloadLength());
+        assertEquals(PacketBufferPool.MIN_CLASS_SIZE, b.getCapacity());
+        assertEquals(3, b.getByteBuffer()[0]);
+        assertEquals(1, b.getByteBuffer()[2]);
+        byte[] buf = b.getByteBuffer();
+        b.release();
+        assertEquals(0, b.getPayloadLength());
+
+        b = reader.readMessage(Optional.of(new NativePacketPayload(0, pool)), new NativePacketHeader(new byte[] { 3, 0, 0, 0 }));
+        assertSame(buf, b.getByteBuffer());
+        assertEquals(6, b.getByteBuffer()[0]);
+        assertEquals(4, b.getByteBuffer()[2]);
+    }
+
     // test error handling when reading payload
     @Test
     public void readPayloadErrors() throws IOException {
@@ -29,11 +29,21 @@
 
 package com.mysql.cj.protocol.a;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -158,4 +168,57 @@ public class SimplePacketSenderTest extends PacketSenderTestBase {
             }
         }
     }
+
+    @Test
+    public void fileRegionTest() throws IOException {
+        byte[] contents = new byte[100000];
+        fillPacketSequentially(contents);
+        Path file = Files.createTempFile("SimplePacketSenderTest", ".txt");
+        try (FileChannel channel = FileChannel.open(Files.write(file, contents), StandardOpenOption.READ)) {
+            // the payload reaches the same destination as the header, after it
+            WritableByteChannel out = Channels.newChannel(this.outputStream);
+            this.sender.sendFileRegion(channel, 0, 60000, (byte) 3, out);
+            this.sender.sendFileRegion(channel, 60000, 40000, (byte) 4, out);
+
+            byte[] sent = this.outputStream.toByteArray();
+            assertEquals(2 * NativeConstants.HEADER_LENGTH + contents.length, sent.length);
+            assertEquals(60000, NativeUtils.decodeMysqlThreeByteInteger(sent));
+            assertEquals(3, sent[NativeConstants.HEADER_LENGTH - 1]);
+            assertArrayEquals(Arrays.copyOfRange(contents, 0, 60000), Arrays.copyOfRange(sent, NativeConstants.HEADER_LENGTH, 60004));
+            assertEquals(40000, NativeUtils.decodeMysqlThreeByteInteger(sent, 60004));
+            assertEquals(4, sent[60004 + NativeConstants.HEADER_LENGTH - 1]);
+            assertArrayEquals(Arrays.copyOfRange(contents, 60000, contents.length), Arrays.copyOfRange(sent, 60008, sent.length));
+
+            // the file ends before the region does
+            assertThrows(EOFException.class, () -> this.sender.sendFileRegion(channel, 90000, 20000, (byte) 5, out));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void deferredFlushTest() throws IOException {
+        byte[] packet = new byte[20];
+        fillPacketSequentially(packet);
+
+        // pipelined packets stay in the output stream until flushed
+        this.sender.setFlushDeferred(true);
+        this.sender.send(packet, packet.length, (byte) 0);
+        this.sender.send(packet, packet.length, (byte) 0);
+        assertEquals(0, this.outputStream.size());
+        this.sender.flush();
+        this.sender.setFlushDeferred(false);
+
+        byte[] sent = this.outputStream.toByteArray();
+        assertEquals(2 * (NativeConstants.HEADER_LENGTH + packet.length), sent.length);
+        for (int offset = 0; offset < sent.length; offset += NativeConstants.HEADER_LENGTH + packet.length) {
+            assertEquals(packet.length, NativeUtils.decodeMysqlThreeByteInteger(sent, offset));
+            assertEquals(0, sent[offset + NativeConstants.HEADER_LENGTH - 1]);
+            checkSequentiallyFilledPacket(sent, offset + NativeConstants.HEADER_LENGTH, packet.length);
+        }
+
+        this.outputStream.reset();
+        this.sender.send(packet, packet.length, (byte) 1);
+        assertEquals(NativeConstants.HEADER_LENGTH + packet.length, this.outputStream.size());
+    }
 }
@@ -33,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
@@ -381,4 +382,64 @@ public class CompressionTest {
             assertArrayEquals(uncompressedFrame2, dataWritten);
         }
     }
+
+    /**
+     * Tests that messages deflated by each natively supported algorithm through {@link CompressionSplittedOutputStream} are inflated back by
+     * {@link CompressionSplittedInputStream}.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void compressionRoundTripNativeAlgorithms() throws Exception {
+        byte[] largeData = new byte[200000];
+        for (int i = 0; i < largeData.length; i++) {
+            largeData[i] = data1[i % data1.length == 0 ? i % 251 : i % data1.length];
+        }
+        byte[] largeFrame = new byte[XMessageHeader.HEADER_LENGTH + largeData.length];
+        ByteBuffer.wrap(largeFrame).order(ByteOrder.LITTLE_ENDIAN).putInt(XMessageHeader.MESSAGE_TYPE_LENGTH + largeData.length).put((byte) 3).put(largeData);
+        byte[][] frames = { uncompressedFrame1, largeFrame, uncompressedFrame1, uncompressedFrame2, largeFrame };
+
+        for (String algorithm : new String[] { "lz4_message", "zstd_stream", "deflate_stream" }) {
+            CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.getDefaultInstances().get(algorithm);
+            ByteArrayOutputStream dataOut = new ByteArrayOutputStream();
+            ByteArrayOutputStream downlink = new ByteArrayOutputStream();
+            try (OutputStream compressorOut = new CompressionSplittedOutputStream(dataOut, new CompressorStreamsFactory(compressionAlgorithm))) {
+                for (byte[] frame : frames) {
+                    dataOut.reset();
+                    compressorOut.write(frame);
+                    ByteBuffer written = ByteBuffer.wrap(dataOut.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+                    int length = written.getInt();
+                    if (written.get() != ClientMessages.Type.COMPRESSION_VALUE) {
+                        assertArrayEquals(frame, dataOut.toByteArray(), algorithm); // Not compressed.
+                        downlink.write(frame);
+                        continue;
+                    }
+                    assertEquals(written.capacity(), XMessageHeader.MESSAGE_SIZE_LENGTH + length, algorithm);
+                    Compression uplinkMessage = Compression.parseFrom(ByteString.copyFrom(written.array(), XMessageHeader.HEADER_LENGTH, length - 1));
+                    assertEquals(frame.length, uplinkMessage.getUncompressedSize(), algorithm);
+                    assertTrue(uplinkMessage.getPayload().size() < frame.length / 2, algorithm);
+
+                    // Sent back as the server would.
+                    byte[] downlinkMessage = Compression.newBuilder(uplinkMessage).clearClientMessages()
+                            .setServerMessages(Mysqlx.ServerMessages.Type.forNumber(frame[XMessageHeader.MESSAGE_SIZE_LENGTH])).build().toByteArray();
+                    ByteBuffer header = ByteBuffer.allocate(XMessageHeader.HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+                    header.putInt(XMessageHeader.MESSAGE_TYPE_LENGTH + downlinkMessage.length).put((byte) 19);
+                    downlink.write(header.array());
+                    downlink.write(downlinkMessage);
+                }
+            }
+
+            try (InputStream compressorIn = new CompressionSplittedInputStream(new ByteArrayInputStream(downlink.toByteArray()),
+                    new CompressorStreamsFactory(compressionAlgorithm))) {
+                for (byte[] frame : frames) {
+                    byte[] uncompressedRead = new byte[frame.length];
+                    for (int n = 0; n < frame.length;) {
+                        n += compressorIn.read(uncompressedRead, n, Math.min(frame.length - n, 1000));
+                    }
+                    assertArrayEquals(frame, uncompressedRead, algorithm);
+                }
+                assertEquals(0, compressorIn.available(), algorithm);
+            }
+        }
+    }
 }
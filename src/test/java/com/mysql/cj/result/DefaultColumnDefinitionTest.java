@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019, 2020, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.util.LazyString;
+
+/**
+ * Tests for {@link DefaultColumnDefinition}
+ */
+public class DefaultColumnDefinitionTest {
+
+    private static Field field(String table, String label, String name) {
+        return new Field(new LazyString(null), new LazyString(table), new LazyString(table), new LazyString(label), new LazyString(name), 11,
+                MysqlType.FIELD_TYPE_LONG, (short) 0, 0, 63, "ISO-8859-1", MysqlType.INT);
+    }
+
+    @Test
+    public void testFindColumnByLabel() {
+        DefaultColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("t", "a", "x"), field("t", "Bb", "y"), field("t", "c", "z") });
+
+        assertEquals(1, cd.findColumn("a", false, 1));
+        assertEquals(2, cd.findColumn("Bb", false, 1));
+        assertEquals(2, cd.findColumn("bB", false, 1));
+        assertEquals(2, cd.findColumn("BB", false, 1));
+        assertEquals(3, cd.findColumn("C", false, 1));
+        assertEquals(0, cd.findColumn("a", false, 0));
+        assertEquals(-1, cd.findColumn("d", false, 1));
+        assertEquals(-1, cd.findColumn("", false, 1));
+    }
+
+    @Test
+    public void testFindColumnFirstMatchWins() {
+        DefaultColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("t1", "id", "id"), field("t2", "ID", "id"), field("t2", "Id", "id") });
+
+        assertEquals(1, cd.findColumn("id", false, 1));
+        assertEquals(1, cd.findColumn("ID", false, 1));
+        assertEquals(1, cd.findColumn("Id", false, 1));
+        assertEquals(1, cd.findColumn("iD", false, 1));
+        assertEquals(2, cd.findColumn("t2.id", false, 1));
+        assertEquals(2, cd.findColumn("T2.Id", false, 1));
+    }
+
+    @Test
+    public void testFindColumnByNameAndFullName() {
+        DefaultColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("t", "total", "amount"), field("t", "amount", "price") });
+
+        // labels come before column names
+        assertEquals(2, cd.findColumn("amount", true, 1));
+        assertEquals(2, cd.findColumn("amount", false, 1));
+        assertEquals(2, cd.findColumn("price", true, 1));
+        assertEquals(-1, cd.findColumn("price", false, 1));
+
+        assertEquals(1, cd.findColumn("t.total", false, 1));
+        assertEquals(1, cd.findColumn("T.TOTAL", true, 1));
+        assertEquals(-1, cd.findColumn("t.price", true, 1));
+    }
+
+    @Test
+    public void testFindColumnAfterSetFields() {
+        DefaultColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("t", "a", "a") });
+        assertEquals(1, cd.findColumn("a", false, 1));
+
+        cd.setFields(new Field[] { field("t", "b", "b"), field("t", "a", "a") });
+        assertEquals(2, cd.findColumn("a", false, 1));
+        assertEquals(1, cd.findColumn("B", false, 1));
+    }
+
+    @Test
+    public void testFindColumnManyColumns() {
+        Field[] fields = new Field[200];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = field("t", "col_" + i, "c" + i);
+        }
+        DefaultColumnDefinition cd = new DefaultColumnDefinition(fields);
+
+        for (int i = 0; i < fields.length; i++) {
+            assertEquals(i + 1, cd.findColumn("col_" + i, false, 1));
+            assertEquals(i + 1, cd.findColumn("COL_" + i, false, 1));
+            assertEquals(i + 1, cd.findColumn("c" + i, true, 1));
+            assertEquals(i + 1, cd.findColumn("T.Col_" + i, false, 1));
+        }
+        assertEquals(-1, cd.findColumn("col_200", false, 1));
+    }
+}
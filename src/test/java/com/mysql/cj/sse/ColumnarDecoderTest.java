@@ -0,0 +1,119 @@
+package com.mysql.cj.sse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnarDecoderTest {
+
+    private static final String[] LABELS = { "i", "l", "d", "dec", "s", "ts" };
+    private static final byte[] TYPES = { ColumnarDecoder.TYPE_INT32, ColumnarDecoder.TYPE_INT64, ColumnarDecoder.TYPE_DOUBLE,
+            ColumnarDecoder.TYPE_DECIMAL, ColumnarDecoder.TYPE_STRING, ColumnarDecoder.TYPE_TIMESTAMP };
+
+    /**
+     * Hands out at most 3 bytes per read so that every value crosses a buffer refill.
+     */
+    private static InputStream trickle(byte[] bytes) {
+        return new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+    }
+
+    @Test
+    public void testAllTypes() throws Exception {
+        Timestamp ts = Timestamp.valueOf("2022-03-04 05:06:07.123");
+        byte[] body = new ColumnarEncoder(LABELS, TYPES, 2) //
+                .addRow(Integer.MIN_VALUE, Long.MAX_VALUE, -1.5, new BigDecimal("12345678901234567890.0001"), "é中😀", ts) //
+                .addRow(null, null, null, null, null, null) //
+                .addRow(7, -7L, 0.25, BigDecimal.ONE, "", new Timestamp(0)) //
+                .toByteArray();
+
+        for (InputStream in : new InputStream[] { new ByteArrayInputStream(body), trickle(body) }) {
+            ColumnarDecoder decoder = new ColumnarDecoder(in);
+            assertArrayEquals(LABELS, decoder.getLabels());
+            assertArrayEquals(TYPES, decoder.getTypes());
+
+            ColumnarBlock block = decoder.nextBlock(null);
+            assertEquals(2, block.getRowCount());
+            assertEquals(Integer.MIN_VALUE, block.getLong(0, 0));
+            assertEquals(Long.MAX_VALUE, block.getLong(1, 0));
+            assertEquals(-1.5, block.getDouble(2, 0));
+            assertEquals(new BigDecimal("12345678901234567890.0001"), block.getObject(3, 0));
+            assertEquals("é中😀", block.getObject(4, 0));
+            assertEquals(ts, block.getObject(5, 0));
+            for (int c = 0; c < TYPES.length; c++) {
+                assertFalse(block.isNull(c, 0));
+                assertTrue(block.isNull(c, 1));
+                assertNull(block.getObject(c, 1));
+            }
+
+            // the next block is decoded into the same vectors
+            assertSame(block, decoder.nextBlock(block));
+            assertEquals(1, block.getRowCount());
+            assertEquals(7, block.getObject(0, 0));
+            assertEquals(-7L, block.getObject(1, 0));
+            assertEquals(0.25, block.getObject(2, 0));
+            assertEquals(BigDecimal.ONE, block.getObject(3, 0));
+            assertEquals("", block.getObject(4, 0));
+            assertEquals(new Timestamp(0), block.getObject(5, 0));
+            assertFalse(block.isNull(0, 0));
+
+            assertNull(decoder.nextBlock(block));
+            assertNull(decoder.nextBlock(block));
+        }
+    }
+
+    @Test
+    public void testLargeValues() throws Exception {
+        char[] chars = new char[100000];
+        Arrays.fill(chars, 'x');
+        String big = new String(chars);
+        ColumnarEncoder encoder = new ColumnarEncoder(new String[] { "s" }, new byte[] { ColumnarDecoder.TYPE_STRING }, 1000);
+        for (int i = 0; i < 3000; i++) {
+            encoder.addRow(i % 500 == 0 ? big : "v" + i);
+        }
+        ColumnarDecoder decoder = new ColumnarDecoder(new ByteArrayInputStream(encoder.toByteArray()));
+        ColumnarBlock block = null;
+        int row = 0;
+        while ((block = decoder.nextBlock(block)) != null) {
+            for (int i = 0; i < block.getRowCount(); i++, row++) {
+                assertEquals(row % 500 == 0 ? big : "v" + row, block.getText(0, i));
+            }
+        }
+        assertEquals(3000, row);
+    }
+
+    @Test
+    public void testMalformed() throws Exception {
+        assertThrows(IOException.class, () -> new ColumnarDecoder(new ByteArrayInputStream("{\"columns\":[]}".getBytes())));
+
+        byte[] body = new ColumnarEncoder(LABELS, TYPES, 10).addRow(1, 2L, 3.0, BigDecimal.TEN, "s", new Timestamp(0)).toByteArray();
+        ColumnarDecoder decoder = new ColumnarDecoder(new ByteArrayInputStream(Arrays.copyOf(body, body.length - 10)));
+        assertThrows(EOFException.class, () -> decoder.nextBlock(null));
+    }
+
+    @Test
+    public void testContentType() {
+        assertTrue(ColumnarDecoder.isColumnar("application/x-mysql-columnar"));
+        assertTrue(ColumnarDecoder.isColumnar("Application/X-MySQL-Columnar; version=1"));
+        assertFalse(ColumnarDecoder.isColumnar("application/json"));
+        assertFalse(ColumnarDecoder.isColumnar(null));
+    }
+}
@@ -0,0 +1,102 @@
+package com.mysql.cj.sse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway side of the columnar result format, see {@link ColumnarDecoder}. Rows are buffered until a block is full.
+ */
+public class ColumnarEncoder {
+
+    private final byte[] types;
+    private final int blockSize;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(this.bytes);
+    private final List<Object[]> pending = new ArrayList<>();
+
+    public ColumnarEncoder(String[] labels, byte[] types, int blockSize) throws IOException {
+        this.types = types;
+        this.blockSize = blockSize;
+        this.out.write(ColumnarDecoder.MAGIC);
+        this.out.writeByte(ColumnarDecoder.VERSION);
+        this.out.writeShort(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            byte[] label = labels[i].getBytes(StandardCharsets.UTF_8);
+            this.out.writeShort(label.length);
+            this.out.write(label);
+            this.out.writeByte(types[i]);
+        }
+    }
+
+    public ColumnarEncoder addRow(Object... row) throws IOException {
+        this.pending.add(row);
+        if (this.pending.size() == this.blockSize) {
+            flushBlock();
+        }
+        return this;
+    }
+
+    public byte[] toByteArray() throws IOException {
+        flushBlock();
+        this.out.writeInt(0);
+        this.out.flush();
+        return this.bytes.toByteArray();
+    }
+
+    private void flushBlock() throws IOException {
+        int rows = this.pending.size();
+        if (rows == 0) {
+            return;
+        }
+        this.out.writeInt(rows);
+        for (int c = 0; c < this.types.length; c++) {
+            byte[] nulls = new byte[(rows + 7) / 8];
+            boolean hasNulls = false;
+            for (int r = 0; r < rows; r++) {
+                if (this.pending.get(r)[c] == null) {
+                    nulls[r / 8] |= 1 << (r % 8);
+                    hasNulls = true;
+                }
+            }
+            this.out.writeByte(hasNulls ? 1 : 0);
+            if (hasNulls) {
+                this.out.write(nulls);
+            }
+            for (int r = 0; r < rows; r++) {
+                Object v = this.pending.get(r)[c];
+                switch (this.types[c]) {
+                    case ColumnarDecoder.TYPE_INT32:
+                        this.out.writeInt(v == null ? 0 : ((Number) v).intValue());
+                        break;
+                    case ColumnarDecoder.TYPE_INT64:
+                        this.out.writeLong(v == null ? 0 : ((Number) v).longValue());
+                        break;
+                    case ColumnarDecoder.TYPE_DOUBLE:
+                        this.out.writeDouble(v == null ? 0 : ((Number) v).doubleValue());
+                        break;
+                    case ColumnarDecoder.TYPE_TIMESTAMP:
+                        this.out.writeLong(v == null ? 0 : ((Timestamp) v).getTime());
+                        break;
+                    default:
+                        byte[] text = v == null ? new byte[0]
+                                : (v instanceof BigDecimal ? ((BigDecimal) v).toPlainString() : v.toString()).getBytes(StandardCharsets.UTF_8);
+                        int len = text.length;
+                        while (len >= 0x80) {
+                            this.out.writeByte(len & 0x7f | 0x80);
+                            len >>>= 7;
+                        }
+                        this.out.writeByte(len);
+                        this.out.write(text);
+                        break;
+                }
+            }
+        }
+        this.pending.clear();
+    }
+}
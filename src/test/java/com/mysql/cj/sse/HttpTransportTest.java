@@ -0,0 +1,297 @@
+package com.mysql.cj.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpTransportTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final Set<InetSocketAddress> clients = new HashSet<>();
+    private volatile Map<String, String> lastForm;
+    private volatile boolean chunked = false;
+    private volatile int status = 200;
+    private volatile byte[] responseBody = null;
+    private volatile byte[] columnarBody = null;
+    private volatile String lastAccept;
+    private volatile long delay = 0;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/query_jar", this::handle);
+        this.executor = Executors.newFixedThreadPool(8);
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        synchronized (this.clients) {
+            this.clients.add(exchange.getRemoteAddress());
+        }
+        this.lastForm = parseForm(readAll(exchange.getRequestBody()));
+        this.lastAccept = exchange.getRequestHeaders().getFirst("Accept");
+        this.requests.incrementAndGet();
+        if (this.delay > 0) {
+            try {
+                Thread.sleep(this.delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = this.responseBody != null ? this.responseBody
+                : (this.status == 200 ? "{\"columns\":[[\"age\",\"score\"]],\"result\":[[20,\"90.5\"],[21,\"88\"]]}" : "boom")
+                        .getBytes(StandardCharsets.UTF_8);
+        if (this.columnarBody != null && this.lastAccept.contains(ColumnarDecoder.CONTENT_TYPE)) {
+            body = this.columnarBody;
+            exchange.getResponseHeaders().set("Content-Type", ColumnarDecoder.CONTENT_TYPE);
+        } else {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+        }
+        exchange.sendResponseHeaders(this.status, this.chunked ? 0 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (this.chunked) {
+                // several chunks
+                int chunk = body.length > 1024 ? 8192 : 7;
+                for (int i = 0; i < body.length; i += chunk) {
+                    out.write(body, i, Math.min(chunk, body.length - i));
+                    out.flush();
+                }
+            } else {
+                out.write(body);
+            }
+        }
+    }
+
+    private Connection connect() {
+        return connect("");
+    }
+
+    private Connection connect(String properties) {
+        return DriverManager.getConnection("jdbc:mysql://127.0.0.1:" + this.server.getAddress().getPort() + "/points?maxConnections=4" + properties, "root",
+                "p&w=d");
+    }
+
+    @Test
+    public void testQueryReusesConnection() throws Exception {
+        Connection conn = connect();
+        for (int i = 0; i < 20; i++) {
+            Statement st = conn.createStatement();
+            ResultSet rs = st.executeQuery("select * from t");
+            int rows = 0;
+            while (rs.next()) {
+                assertTrue(rs.getString("age").startsWith("2"));
+                rows++;
+            }
+            assertEquals(2, rows);
+        }
+        assertEquals(1, this.clients.size());
+    }
+
+    @Test
+    public void testChunkedResponse() throws Exception {
+        this.chunked = true;
+        Connection conn = connect();
+        for (int i = 0; i < 5; i++) {
+            ResultSet rs = conn.createStatement().executeQuery("select 1");
+            assertTrue(rs.next());
+            assertTrue(rs.next());
+            assertFalse(rs.next());
+        }
+        assertEquals(1, this.clients.size());
+    }
+
+    @Test
+    public void testFormEncoding() throws Exception {
+        String sql = "select * from t where a = 'x&y=z+1 %' and b = 'é中😀'";
+        connect().createStatement().executeQuery(sql);
+        assertEquals(sql, this.lastForm.get("query"));
+        assertEquals("points", this.lastForm.get("db"));
+        assertEquals("root", this.lastForm.get("user"));
+        assertEquals("p&w=d", this.lastForm.get("password"));
+    }
+
+    @Test
+    public void testHttpError() throws Exception {
+        this.status = 500;
+        Connection conn = connect();
+        SQLException e = assertThrows(SQLException.class, () -> conn.createStatement().executeQuery("select 1"));
+        assertTrue(e.getMessage().contains("500"));
+        this.status = 200;
+        assertTrue(conn.createStatement().executeQuery("select 1").next());
+    }
+
+    @Test
+    public void testReadTimeoutNotRetried() throws Exception {
+        Connection conn = connect("&maxConnections=1&socketTimeout=200");
+        assertTrue(conn.createStatement().executeQuery("select 1").next());
+        this.delay = 1000;
+        // the reused channel times out waiting for the response, the server already runs the query so it must not be sent again
+        assertThrows(SQLException.class, () -> conn.createStatement().executeQuery("select 1"));
+        Thread.sleep(1500);
+        assertEquals(2, this.requests.get());
+        this.delay = 0;
+        // the single pool slot was given back exactly once
+        assertTrue(conn.createStatement().executeQuery("select 1").next());
+        assertEquals(3, this.requests.get());
+    }
+
+    @Test
+    public void testConcurrentQueriesBounded() throws Exception {
+        Connection conn = connect();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            Future<?>[] futures = new Future<?>[200];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    ResultSet rs = conn.createStatement().executeQuery("select 1");
+                    assertTrue(rs.next());
+                    return null;
+                });
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(this.clients.size() <= 4, "Opened " + this.clients.size() + " connections");
+    }
+
+    @Test
+    public void testStreamingResults() throws Exception {
+        int rowCount = 100000;
+        StringBuilder json = new StringBuilder("{\"columns\":[[\"id\",\"name\"]],\"result\":[");
+        for (int i = 0; i < rowCount; i++) {
+            json.append(i == 0 ? "" : ",").append("[").append(i).append(",\"n").append(i).append("\"]");
+        }
+        this.responseBody = json.append("],\"elapsed\":3}").toString().getBytes(StandardCharsets.UTF_8);
+        this.chunked = true;
+
+        Connection conn = connect("&streamResults=true");
+        for (int pass = 0; pass < 2; pass++) {
+            Statement st = conn.createStatement();
+            assertTrue(st.isStreamResults());
+            ResultSet rs = st.executeQuery("select id, name from t");
+            int rows = 0;
+            while (rs.next()) {
+                String id = rs.getString("id");
+                assertEquals("n" + id, rs.getString("name"));
+                rows++;
+            }
+            assertEquals(rowCount, rows);
+            rs.close();
+        }
+        // the connection went back to the pool once the document was read
+        assertEquals(1, this.clients.size());
+
+        // closing before the end abandons the connection
+        ResultSet rs = conn.createStatement().executeQuery("select id, name from t");
+        assertTrue(rs.next());
+        rs.close();
+        assertTrue(conn.createStatement().executeQuery("select id, name from t").next());
+        assertEquals(2, this.clients.size());
+    }
+
+    @Test
+    public void testStreamingResultsColumnsLast() throws Exception {
+        this.responseBody = "{\"result\":[[1,\"a\"],[2,\"b\"]],\"columns\":[[\"id\",\"name\"]]}".getBytes(StandardCharsets.UTF_8);
+        Connection conn = connect("&streamResults=true");
+        ResultSet rs = conn.createStatement().executeQuery("select id, name from t");
+        StringBuilder names = new StringBuilder();
+        while (rs.next()) {
+            names.append(rs.getString("name"));
+        }
+        assertEquals("ab", names.toString());
+        assertTrue(conn.createStatement().executeQuery("select id, name from t").next());
+        assertEquals(1, this.clients.size());
+    }
+
+    @Test
+    public void testColumnarResults() throws Exception {
+        ColumnarEncoder encoder = new ColumnarEncoder(new String[] { "id", "name" }, new byte[] { ColumnarDecoder.TYPE_INT64, ColumnarDecoder.TYPE_STRING },
+                1000);
+        int rowCount = 25000;
+        for (int i = 0; i < rowCount; i++) {
+            encoder.addRow((long) i, i % 10 == 0 ? null : "n" + i);
+        }
+        this.columnarBody = encoder.toByteArray();
+
+        // the JSON fallback is used unless the format is asked for
+        Connection conn = connect();
+        assertTrue(conn.createStatement().executeQuery("select 1").next());
+        assertEquals("application/json", this.lastAccept);
+
+        for (String properties : new String[] { "&columnarResults=true", "&columnarResults=true&streamResults=true" }) {
+            for (boolean chunkedBody : new boolean[] { false, true }) {
+                this.chunked = chunkedBody;
+                ResultSet rs = connect(properties).createStatement().executeQuery("select id, name from t");
+                assertEquals(ColumnarDecoder.ACCEPT, this.lastAccept);
+                int rows = 0;
+                while (rs.next()) {
+                    long id = rs.getLong(1);
+                    assertEquals(rows, id);
+                    assertEquals(id % 10 == 0 ? null : "n" + id, rs.getString("name"));
+                    rows++;
+                }
+                assertEquals(rowCount, rows);
+                rs.close();
+            }
+        }
+        // fully read responses hand the connection back
+        assertEquals(1, this.clients.size());
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[1024];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, String> parseForm(byte[] body) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : new String(body, StandardCharsets.US_ASCII).split("&")) {
+            int eq = pair.indexOf('=');
+            form.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"), URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+        }
+        return form;
+    }
+}
@@ -0,0 +1,91 @@
+package com.mysql.cj.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+
+public class ResultSetTest {
+
+    private static ResultSet resultSet(String json) {
+        JSONObject response = JSON.parseObject(json);
+        ResultSet rs = new ResultSet();
+        rs.setValues(response.getJSONArray("result"));
+        rs.setColumns(response.getJSONArray("columns").getJSONArray(0));
+        return rs;
+    }
+
+    @Test
+    public void testForwardIteration() throws Exception {
+        ResultSet rs = resultSet("{\"columns\":[[\"id\"]],\"result\":[[1],[2],[3]]}");
+        assertEquals(-1, rs.getCurrent());
+        StringBuilder order = new StringBuilder();
+        while (rs.next()) {
+            order.append(rs.getString("id"));
+        }
+        assertEquals("123", order.toString());
+        assertFalse(rs.next());
+        assertThrows(SQLException.class, () -> rs.getInt(1));
+    }
+
+    @Test
+    public void testColumnLookup() throws Exception {
+        ResultSet rs = resultSet("{\"columns\":[[\"id\",\"Name\",\"id\"]],\"result\":[[1,\"a\",2]]}");
+        assertTrue(rs.next());
+        assertEquals(1, rs.findColumn("id"));
+        assertEquals(2, rs.findColumn("Name"));
+        assertEquals(2, rs.findColumn("NAME"));
+        assertEquals("a", rs.getString("name"));
+        assertNull(rs.getString("missing"));
+        assertThrows(SQLException.class, () -> rs.findColumn("missing"));
+        assertThrows(SQLException.class, () -> rs.getString(4));
+        assertEquals(3, rs.getColumnCount());
+    }
+
+    @Test
+    public void testTypedGetters() throws Exception {
+        ResultSet rs = resultSet("{\"columns\":[[\"i\",\"l\",\"d\",\"s\",\"n\",\"ts\",\"dt\",\"ms\"]],"
+                + "\"result\":[[42,9007199254740993,1.25,\" -17.9 \",null,\"2022-03-04 05:06:07.5\",\"2022-03-04\",1646370367000]]}");
+        assertTrue(rs.next());
+        assertEquals(42, rs.getInt(1));
+        assertEquals(42L, rs.getLong("i"));
+        assertEquals(9007199254740993L, rs.getLong(2));
+        assertThrows(SQLException.class, () -> rs.getInt(2));
+        assertEquals(1.25, rs.getDouble(3));
+        assertEquals(new BigDecimal("1.25"), rs.getBigDecimal(3));
+        assertEquals(-17, rs.getInt(4));
+        assertEquals(-17.9, rs.getDouble(4));
+        assertEquals(new BigDecimal("-17.9"), rs.getBigDecimal(4));
+        assertFalse(rs.wasNull());
+        assertEquals(0, rs.getInt(5));
+        assertTrue(rs.wasNull());
+        assertNull(rs.getBigDecimal(5));
+        assertNull(rs.getString(5));
+        assertEquals(Timestamp.valueOf("2022-03-04 05:06:07.5"), rs.getTimestamp(6));
+        assertEquals(Timestamp.valueOf("2022-03-04 00:00:00"), rs.getTimestamp("dt"));
+        assertEquals(new Timestamp(1646370367000L), rs.getTimestamp(8));
+        assertThrows(SQLException.class, () -> rs.getTimestamp(4));
+    }
+
+    @Test
+    public void testLongParsing() throws Exception {
+        ResultSet rs = resultSet("{\"columns\":[[\"a\",\"b\",\"c\",\"d\",\"e\"]],"
+                + "\"result\":[[\"9223372036854775807\",\"-9223372036854775808\",\"9223372036854775808\",\"1e3\",\"12abc\"]]}");
+        assertTrue(rs.next());
+        assertEquals(Long.MAX_VALUE, rs.getLong(1));
+        assertEquals(Long.MIN_VALUE, rs.getLong(2));
+        assertThrows(SQLException.class, () -> rs.getLong(3));
+        assertEquals(1000L, rs.getLong(4));
+        assertThrows(SQLException.class, () -> rs.getLong(5));
+    }
+}
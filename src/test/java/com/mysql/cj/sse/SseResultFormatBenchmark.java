@@ -0,0 +1,103 @@
+package com.mysql.cj.sse;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+
+/**
+ * Size and decode cost of a synthetic numeric-heavy result in the JSON and the columnar gateway formats. Each pass decodes the whole body and reads
+ * every cell with the typed getters, as a caller scanning the result would.
+ * <p>
+ * Usage: <code>SseResultFormatBenchmark [rows] [passes]</code>
+ */
+public class SseResultFormatBenchmark {
+
+    private interface Decode {
+        long run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        String[] labels = { "id", "qty", "price", "amount", "name", "created" };
+        byte[] types = { ColumnarDecoder.TYPE_INT64, ColumnarDecoder.TYPE_INT32, ColumnarDecoder.TYPE_DOUBLE, ColumnarDecoder.TYPE_DECIMAL,
+                ColumnarDecoder.TYPE_STRING, ColumnarDecoder.TYPE_TIMESTAMP };
+        ColumnarEncoder encoder = new ColumnarEncoder(labels, types, 4096);
+        StringBuilder json = new StringBuilder("{\"columns\":[[\"id\",\"qty\",\"price\",\"amount\",\"name\",\"created\"]],\"result\":[");
+        long base = Timestamp.valueOf("2022-01-01 00:00:00").getTime();
+        for (int i = 0; i < rows; i++) {
+            long id = 1000000000L + i;
+            int qty = i % 1000;
+            double price = i * 0.37;
+            BigDecimal amount = BigDecimal.valueOf(i * 37L, 2);
+            String name = "item" + (i % 5000);
+            long created = base + i * 1000L;
+            encoder.addRow(id, qty, price, amount, name, new Timestamp(created));
+            json.append(i == 0 ? "[" : ",[").append(id).append(',').append(qty).append(',').append(price).append(',').append(amount.toPlainString())
+                    .append(",\"").append(name).append("\",").append(created).append(']');
+        }
+        byte[] columnarBody = encoder.toByteArray();
+        byte[] jsonBody = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        json = null;
+
+        Decode jsonDecode = () -> {
+            JSONObject response = JSON.parseObject(jsonBody, 0, jsonBody.length, StandardCharsets.UTF_8, JSONObject.class);
+            ResultSet rs = new ResultSet();
+            rs.setValues(response.getJSONArray("result"));
+            rs.setColumns(response.getJSONArray("columns").getJSONArray(0));
+            long check = 0;
+            while (rs.next()) {
+                check += rs.getLong(1) + rs.getInt(2) + (long) rs.getDouble(3) + rs.getBigDecimal(4).scale() + rs.getString(5).length()
+                        + rs.getTimestamp(6).getTime();
+            }
+            return check;
+        };
+        Decode columnarDecode = () -> {
+            ColumnarDecoder decoder = new ColumnarDecoder(new ByteArrayInputStream(columnarBody));
+            long check = 0;
+            ColumnarBlock block = null;
+            // the same block reuse and per-cell access as ResultSet in streaming mode
+            while ((block = decoder.nextBlock(block)) != null) {
+                for (int r = 0; r < block.getRowCount(); r++) {
+                    check += block.getLong(0, r) + block.getLong(1, r) + (long) block.getDouble(2, r) + new BigDecimal(block.getText(3, r)).scale()
+                            + block.getText(4, r).length() + new Timestamp(block.getLong(5, r)).getTime();
+                }
+            }
+            return check;
+        };
+
+        System.out.printf("%-10s %12s %10s%n", "format", "bytes", "bytes/row");
+        System.out.printf("%-10s %12d %10.1f%n", "json", jsonBody.length, (double) jsonBody.length / rows);
+        System.out.printf("%-10s %12d %10.1f%n", "columnar", columnarBody.length, (double) columnarBody.length / rows);
+
+        long jsonCheck = run("json", jsonDecode, rows, passes);
+        long columnarCheck = run("columnar", columnarDecode, rows, passes);
+        if (jsonCheck != columnarCheck) {
+            throw new IllegalStateException("Formats decoded different values");
+        }
+    }
+
+    private static long run(String name, Decode decode, int rows, int passes) throws Exception {
+        long check = 0;
+        // warm up
+        for (int i = 0; i < 2; i++) {
+            check = decode.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < passes; i++) {
+            long begin = System.nanoTime();
+            check = decode.run();
+            best = Math.min(best, System.nanoTime() - begin);
+        }
+        System.out.printf("%-10s %10.1f ms/pass %8.1f ns/row%n", name, best / 1e6, (double) best / rows);
+        return check;
+    }
+
+    private SseResultFormatBenchmark() {
+    }
+}
@@ -0,0 +1,117 @@
+package com.mysql.cj.sse;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Throughput and latency of the SSE query path against a local stub gateway, comparing the legacy one-connection-per-query transport
+ * ({@link Statement#sendPost1(String, String)}) with the pooled keep-alive transport used by {@link Statement#executeQuery(String)}.
+ * <p>
+ * Usage: <code>SseTransportBenchmark [threads] [queriesPerThread] [rows]</code>
+ */
+public class SseTransportBenchmark {
+
+    private interface Query {
+        void run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int rows = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        StringBuilder json = new StringBuilder("{\"columns\":[[\"id\",\"name\",\"score\"]],\"result\":[");
+        for (int i = 0; i < rows; i++) {
+            json.append(i == 0 ? "" : ",").append("[").append(i).append(",\"name").append(i).append("\",").append(i * 1.5).append("]");
+        }
+        byte[] body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        // otherwise Nagle's algorithm on the stub server dominates every measurement
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/query_jar", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] skip = new byte[1024];
+                while (in.read(skip) != -1) {
+                    // drain
+                }
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(threads * 2));
+        server.start();
+
+        try {
+            String url = "jdbc:mysql://127.0.0.1:" + server.getAddress().getPort() + "/bench?maxConnections=" + threads;
+            Connection conn = DriverManager.getConnection(url, "root", "root");
+            String sql = "select id, name, score from t limit " + rows;
+            String param = "query=" + sql + "&db=bench&user=root&password=root";
+
+            Query legacy = () -> conn.createStatement().sendPost1(conn.uri.url, param);
+            Query pooled = () -> conn.createStatement().executeQuery(sql);
+
+            // warm up both paths before measuring
+            run("legacy (warm-up)", legacy, threads, queries / 4, false);
+            run("pooled (warm-up)", pooled, threads, queries / 4, false);
+            run("legacy HttpURLConnection", legacy, threads, queries, true);
+            run("pooled keep-alive", pooled, threads, queries, true);
+        } finally {
+            server.stop(0);
+            System.exit(0);
+        }
+    }
+
+    private static void run(String name, Query query, int threads, int queries, boolean report) throws Exception {
+        long[][] latencies = new long[threads][queries];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        Exception[] failure = new Exception[1];
+        for (int t = 0; t < threads; t++) {
+            long[] lat = latencies[t];
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < queries; i++) {
+                        long begin = System.nanoTime();
+                        query.run();
+                        lat[i] = System.nanoTime() - begin;
+                    }
+                } catch (Exception e) {
+                    failure[0] = e;
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        if (!report) {
+            return;
+        }
+        long[] all = new long[threads * queries];
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(latencies[t], 0, all, t * queries, queries);
+        }
+        Arrays.sort(all);
+        System.out.printf("%-26s %10.0f queries/s   p50 %8.1f us   p99 %8.1f us%n", name, all.length / (elapsed / 1e9), all[all.length / 2] / 1e3,
+                all[(int) (all.length * 0.99)] / 1e3);
+    }
+
+    private SseTransportBenchmark() {
+    }
+}
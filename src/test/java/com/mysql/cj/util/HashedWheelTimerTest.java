@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HashedWheelTimer}.
+ */
+public class HashedWheelTimerTest {
+
+    @Test
+    public void testExpiry() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("HashedWheelTimerTest", 5, 8);
+        int count = 50;
+        CountDownLatch latch = new CountDownLatch(count);
+        long[] firedAfter = new long[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            // delays going several times around the wheel
+            int index = i;
+            int delay = i * 7;
+            timer.schedule(() -> {
+                firedAfter[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                latch.countDown();
+            }, delay);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < count; i++) {
+            assertTrue(firedAfter[i] >= i * 7, "Timeout " + i + " fired after " + firedAfter[i] + " ms");
+        }
+        assertEquals(count, timer.getScheduledCount());
+        assertEquals(count, timer.getFiredCount());
+        assertEquals(0, timer.getCancelledCount());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("HashedWheelTimerTest", 5, 8);
+        AtomicInteger fired = new AtomicInteger();
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            timeouts.add(timer.schedule(fired::incrementAndGet, 50 + i % 10));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(timeouts.get(i).cancel());
+            assertFalse(timeouts.get(i).cancel());
+        }
+        assertEquals(50, timer.getPendingCount());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Timeout last = timer.schedule(latch::countDown, 100);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertFalse(last.cancel());
+        assertEquals(50, fired.get());
+        assertEquals(101, timer.getScheduledCount());
+        assertEquals(51, timer.getFiredCount());
+        assertEquals(50, timer.getCancelledCount());
+        assertEquals(0, timer.getPendingCount());
+
+        // the timer thread waits for new timeouts
+        CountDownLatch again = new CountDownLatch(1);
+        timer.schedule(again::countDown, 0);
+        assertTrue(again.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIdleThreadEnds() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("HashedWheelTimerTest", 5, 8, 50);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(latch::countDown, 10);
+        assertTrue(timer.isRunning());
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        waitForThreadToEnd(timer);
+
+        // the next timeout starts a new thread
+        CountDownLatch again = new CountDownLatch(1);
+        timer.schedule(again::countDown, 10);
+        assertTrue(again.await(10, TimeUnit.SECONDS));
+        waitForThreadToEnd(timer);
+
+        // a long timeout keeps the thread
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+        }, 10000);
+        Thread.sleep(200);
+        assertTrue(timer.isRunning());
+        assertTrue(timeout.cancel());
+        waitForThreadToEnd(timer);
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("HashedWheelTimerTest", 5, 8);
+        AtomicInteger fired = new AtomicInteger();
+        timer.schedule(fired::incrementAndGet, 100);
+        timer.stop();
+        assertFalse(timer.isRunning());
+        Thread.sleep(200);
+        assertEquals(0, fired.get());
+        assertEquals(1, timer.getPendingCount());
+
+        // the pending timeout expires once a new thread is started
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(latch::countDown, 0);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, fired.get());
+        timer.stop();
+    }
+
+    private static void waitForThreadToEnd(HashedWheelTimer timer) throws InterruptedException {
+        for (int i = 0; i < 100 && timer.isRunning(); i++) {
+            Thread.sleep(20);
+        }
+        assertFalse(timer.isRunning());
+    }
+}
@@ -11695,4 +11695,130 @@ public class ConnectionRegressionTest extends BaseTestCase {
             }
         }
     }
+
+    /**
+     * Returns a replica whose probe sessions see the given replication lag in the user variable "@lag".
+     */
+    private static MockConnectionConfiguration replicaWithLag(String hostName, int lagSeconds) {
+        return new MockConnectionConfiguration(hostName, "replica", null, false) {
+            @Override
+            public String getAddress() {
+                return super.getAddress() + "(sessionVariables=@lag=" + lagSeconds + ")";
+            }
+        };
+    }
+
+    private Properties getReplicaLagProperties(String lagQuery) {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.replicaLagProbeInterval.getKeyName(), "100");
+        props.setProperty(PropertyKey.replicaLagQuery.getKeyName(), lagQuery);
+        props.setProperty(PropertyKey.replicaMaxStaleness.getKeyName(), "5000");
+        return props;
+    }
+
+    /**
+     * Tests that reads only go to the replicas within the staleness bound.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testReplicationConnectionStaleReplicasFilteredOut() throws Exception {
+        Set<MockConnectionConfiguration> configs = new HashSet<>();
+        configs.add(new MockConnectionConfiguration("source1", "source", null, false));
+        configs.add(replicaWithLag("fresh1", 0));
+        configs.add(replicaWithLag("stale1", 100));
+
+        ReplicationConnection replConn = getUnreliableReplicationConnection(configs, getReplicaLagProperties("SELECT @lag"));
+        try {
+            // let the first probes complete
+            Thread.sleep(1000);
+            replConn.setAutoCommit(false);
+            replConn.setReadOnly(true);
+            for (int i = 0; i < 10; i++) {
+                assertFalse(replConn.isSourceConnection());
+                assertEquals("fresh1", replConn.getCurrentConnection().getHost());
+                // rebalances among the fresh replicas
+                replConn.commit();
+            }
+        } finally {
+            replConn.close();
+        }
+    }
+
+    /**
+     * Tests that reads fall back to the sources connection, set read-only, when no replica is within the staleness bound, and that its read-only state is
+     * reset when the connection leaves read-only mode.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testReplicationConnectionStaleReplicasFallBackToSource() throws Exception {
+        Set<MockConnectionConfiguration> configs = new HashSet<>();
+        configs.add(new MockConnectionConfiguration("source2", "source", null, false));
+        configs.add(replicaWithLag("stale2", 100));
+        configs.add(replicaWithLag("stale3", 100));
+
+        ReplicationConnection replConn = getUnreliableReplicationConnection(configs, getReplicaLagProperties("SELECT @lag"));
+        try {
+            Thread.sleep(1000);
+            replConn.setReadOnly(true);
+            assertTrue(replConn.isSourceConnection());
+            assertTrue(replConn.getCurrentConnection().isReadOnly());
+
+            replConn.setReadOnly(false);
+            assertTrue(replConn.isSourceConnection());
+            assertFalse(replConn.getCurrentConnection().isReadOnly());
+
+            // no bound, the replicas are used whatever their lag
+            replConn.setReplicaMaxStaleness(0);
+            replConn.setReadOnly(true);
+            assertFalse(replConn.isSourceConnection());
+        } finally {
+            replConn.close();
+        }
+    }
+
+    /**
+     * Tests that reads move to the sources connection and back at transaction boundaries as the replicas fall behind and catch up.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testReplicationConnectionStalenessReevaluatedOnRebalance() throws Exception {
+        createTable("testReplicaLagReroute", "(lag_seconds INT)");
+        this.stmt.executeUpdate("INSERT INTO testReplicaLagReroute VALUES (0)");
+
+        Set<MockConnectionConfiguration> configs = new HashSet<>();
+        configs.add(new MockConnectionConfiguration("source3", "source", null, false));
+        configs.add(new MockConnectionConfiguration("replica3", "replica", null, false));
+        configs.add(new MockConnectionConfiguration("replica4", "replica", null, false));
+
+        ReplicationConnection replConn = getUnreliableReplicationConnection(configs,
+                getReplicaLagProperties("SELECT lag_seconds FROM testReplicaLagReroute"));
+        try {
+            Thread.sleep(1000);
+            replConn.setAutoCommit(false);
+            replConn.setReadOnly(true);
+            assertFalse(replConn.isSourceConnection());
+
+            this.stmt.executeUpdate("UPDATE testReplicaLagReroute SET lag_seconds = 100");
+            Thread.sleep(1000);
+            replConn.commit();
+            assertTrue(replConn.isSourceConnection());
+            assertTrue(replConn.getCurrentConnection().isReadOnly());
+
+            this.stmt.executeUpdate("UPDATE testReplicaLagReroute SET lag_seconds = 0");
+            Thread.sleep(1000);
+            replConn.rollback();
+            assertFalse(replConn.isSourceConnection());
+
+            replConn.setReadOnly(false);
+            assertTrue(replConn.isSourceConnection());
+            assertFalse(replConn.getCurrentConnection().isReadOnly());
+        } finally {
+            replConn.close();
+        }
+    }
 }
@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -77,6 +78,10 @@ import java.util.List;
 import java.util.Properties;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -3004,4 +3009,83 @@ public class ConnectionTest extends BaseTestCase {
         assertNonSecureConnection(testConn);
         testConn.close();
     }
+
+    /**
+     * Tests that statements run by many virtual threads sharing a few connections don't pin their carrier threads, neither while waiting for the server
+     * nor while waiting for a connection that another thread is using.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testVirtualThreadsNotPinned() throws Exception {
+        assumeTrue(Util.getJVMVersion() >= 21, "Java 21+ is required to run this test.");
+
+        // both are read when the first virtual thread is created
+        System.setProperty("jdk.tracePinnedThreads", "short");
+        System.setProperty("jdk.virtualThreadScheduler.parallelism", "2");
+
+        PrintStream out = System.out;
+        ByteArrayOutputStream traces = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(traces, true));
+        Connection[] pool = new Connection[4];
+        try {
+            Method startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+            Object mutex = new Object();
+            ((Thread) startVirtualThread.invoke(null, (Runnable) () -> {
+                synchronized (mutex) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                }
+            })).join();
+            assumeTrue(traces.toString().contains("monitors:1"), "Pinned virtual threads are not traced in this JVM.");
+            traces.reset();
+
+            Properties props = new Properties();
+            for (int i = 0; i < pool.length; i++) {
+                props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), String.valueOf(i % 2 == 1));
+                pool[i] = getConnectionWithProps(props);
+            }
+            AtomicInteger done = new AtomicInteger();
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            for (int i = 0; i < 10000; i++) {
+                Connection testConn = pool[i % pool.length];
+                boolean prepared = i / pool.length % 2 == 0;
+                executor.execute(() -> {
+                    try {
+                        if (prepared) {
+                            try (PreparedStatement testPstmt = testConn.prepareStatement("SELECT ?, SLEEP(0.001)")) {
+                                testPstmt.setInt(1, 1);
+                                try (ResultSet testRs = testPstmt.executeQuery()) {
+                                    assertTrue(testRs.next());
+                                    assertEquals(1, testRs.getInt(1));
+                                }
+                            }
+                        } else {
+                            try (Statement testStmt = testConn.createStatement(); ResultSet testRs = testStmt.executeQuery("SELECT 1, SLEEP(0.001)")) {
+                                assertTrue(testRs.next());
+                                assertEquals(1, testRs.getInt(1));
+                            }
+                        }
+                        done.incrementAndGet();
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+            assertEquals(10000, done.get());
+        } finally {
+            System.setOut(out);
+            for (Connection c : pool) {
+                if (c != null) {
+                    c.close();
+                }
+            }
+        }
+        assertFalse(traces.toString().contains("com.mysql.cj"), traces.toString());
+    }
 }
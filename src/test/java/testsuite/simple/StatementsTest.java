@@ -29,10 +29,12 @@
 
 package testsuite.simple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -87,10 +89,12 @@ import com.mysql.cj.Query;
 import com.mysql.cj.conf.PropertyDefinitions.SslMode;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.BulkLoader;
 import com.mysql.cj.jdbc.ClientPreparedStatement;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.ParameterBindings;
+import com.mysql.cj.jdbc.Pipeline;
 import com.mysql.cj.jdbc.ServerPreparedStatement;
 import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
@@ -5376,6 +5380,144 @@ public class StatementsTest extends BaseTestCase {
         } while ((useSPS = !useSPS) || (rwBS = !rwBS));
     }
 
+    /**
+     * Tests batches of server-side prepared statements executed with 'pipelineBatchedStatements=true', across several groups of executions, with
+     * parameter type changes and failing executions.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPipelinedServerPreparedBatch() throws Exception {
+        createTable("testPipelinedBatch", "(id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, k INT UNIQUE, v VARCHAR(20))");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.pipelineBatchedStatements.getKeyName(), "true");
+        Connection testConn = getConnectionWithProps(props);
+
+        final int rows = 2500;
+        PreparedStatement ps = testConn.prepareStatement("INSERT INTO testPipelinedBatch (k, v) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+        for (int i = 0; i < rows; i++) {
+            // duplicate keys make some executions fail
+            ps.setInt(1, i % 1000 == 999 ? i - 1 : i);
+            if (i % 3 == 0) {
+                ps.setString(2, "v" + i);
+            } else {
+                ps.setInt(2, i);
+            }
+            ps.addBatch();
+        }
+        try {
+            ps.executeBatch();
+            fail("BatchUpdateException expected");
+        } catch (BatchUpdateException e) {
+            int[] counts = e.getUpdateCounts();
+            assertEquals(rows, counts.length);
+            for (int i = 0; i < rows; i++) {
+                assertEquals(i % 1000 == 999 ? Statement.EXECUTE_FAILED : 1, counts[i], "Execution " + i);
+            }
+        }
+        int keys = 0;
+        for (this.rs = ps.getGeneratedKeys(); this.rs.next();) {
+            keys++;
+        }
+        assertEquals(rows - 2, keys);
+
+        this.rs = testConn.createStatement().executeQuery("SELECT k, v FROM testPipelinedBatch ORDER BY k");
+        for (int i = 0; i < rows; i++) {
+            if (i % 1000 == 999) {
+                continue;
+            }
+            assertTrue(this.rs.next());
+            assertEquals(i, this.rs.getInt(1));
+            assertEquals(i % 3 == 0 ? "v" + i : String.valueOf(i), this.rs.getString(2));
+        }
+        assertFalse(this.rs.next());
+
+        // the connection is usable after the batch
+        ps.setInt(1, -1);
+        ps.setString(2, "last");
+        assertEquals(1, ps.executeUpdate());
+        testConn.close();
+    }
+
+    /**
+     * Tests that truncation warnings in pipelined statements are not turned into exceptions, as "SHOW WARNINGS" can't be sent while the responses to the
+     * next statements are pending.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPipelinedTruncationWarnings() throws Exception {
+        createTable("testPipelinedTruncation", "(id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, v VARCHAR(3))");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        JdbcConnection testConn = (JdbcConnection) getConnectionWithProps(props);
+        // truncations are warnings, which the driver would turn into exceptions
+        testConn.createStatement().execute("SET sql_mode=''");
+        testConn.getPropertySet().getBooleanProperty(PropertyKey.jdbcCompliantTruncation).setValue(true);
+
+        try (Pipeline pipeline = testConn.createPipeline()) {
+            pipeline.add("INSERT INTO testPipelinedTruncation (v) VALUES ('a')");
+            pipeline.add("INSERT INTO testPipelinedTruncation (v) VALUES ('abcdef')");
+            pipeline.add("SELECT COUNT(*) FROM testPipelinedTruncation");
+            List<Pipeline.Result> results = pipeline.execute();
+            for (Pipeline.Result result : results) {
+                assertNull(result.getException());
+            }
+            assertEquals(1, results.get(0).getUpdateCount());
+            assertEquals(1, results.get(1).getUpdateCount());
+            this.rs = results.get(2).getResultSet();
+            assertTrue(this.rs.next());
+            assertEquals(2, this.rs.getInt(1));
+        }
+        testConn.close();
+    }
+
+    /**
+     * Tests that a truncation warning in a pipelined batch of server-side prepared statements doesn't fail the execution it comes from.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPipelinedServerPreparedBatchTruncationWarnings() throws Exception {
+        createTable("testPipelinedTruncation", "(id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, v VARCHAR(3))");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.pipelineBatchedStatements.getKeyName(), "true");
+        JdbcConnection testConn = (JdbcConnection) getConnectionWithProps(props);
+        // truncations are warnings, which the driver would turn into exceptions
+        testConn.createStatement().execute("SET sql_mode=''");
+        testConn.getPropertySet().getBooleanProperty(PropertyKey.jdbcCompliantTruncation).setValue(true);
+
+        PreparedStatement ps = testConn.prepareStatement("INSERT INTO testPipelinedTruncation (v) VALUES (?)");
+        for (int i = 0; i < 5; i++) {
+            // the middle row is truncated
+            ps.setString(1, i == 2 ? "abcdef" : "v" + i);
+            ps.addBatch();
+        }
+        int[] counts = ps.executeBatch();
+        assertEquals(5, counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            assertEquals(1, counts[i], "Execution " + i);
+        }
+
+        this.rs = testConn.createStatement().executeQuery("SELECT v FROM testPipelinedTruncation ORDER BY id");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(this.rs.next());
+            assertEquals(i == 2 ? "abc" : "v" + i, this.rs.getString(1));
+        }
+        assertFalse(this.rs.next());
+        testConn.close();
+    }
+
     public static class QueryInfoQueryInterceptor extends BaseQueryInterceptor {
         private static boolean enabled = false;
         private static List<String> capturedSql = new ArrayList<>();
@@ -5401,4 +5543,38 @@ public class StatementsTest extends BaseTestCase {
             return super.preProcess(sql, interceptedQuery);
         }
     }
+
+    /**
+     * Tests the character set contract of BulkLoader: text is sent in UTF-8 and binary values as they are, and the server stores both without conversion.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testBulkLoaderCharacterSets() throws Exception {
+        createTable("testBulkLoaderCharsets", "(id INT, u VARCHAR(10) CHARACTER SET utf8mb4, l VARCHAR(10) CHARACTER SET latin1, b VARBINARY(10))");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.allowLoadLocalInfile.getKeyName(), "true");
+        JdbcConnection testConn = (JdbcConnection) getConnectionWithProps(props);
+        try (BulkLoader loader = testConn.createBulkLoader("testBulkLoaderCharsets", "id", "u", "l", "b")) {
+            loader.add(1).add("\u00e9\u20ac").add("abc").add(new byte[] { 0, '\t', (byte) 0xc3, (byte) 0xff }).endRow();
+            loader.add(2).add("\u00e9").add("\u00e9").addNull().endRow();
+            assertEquals(2, loader.finish());
+        }
+
+        this.rs = testConn.createStatement().executeQuery("SELECT u, l, HEX(l), b FROM testBulkLoaderCharsets ORDER BY id");
+        assertTrue(this.rs.next());
+        assertEquals("\u00e9\u20ac", this.rs.getString(1));
+        assertEquals("abc", this.rs.getString(2));
+        assertArrayEquals(new byte[] { 0, '\t', (byte) 0xc3, (byte) 0xff }, this.rs.getBytes(4));
+        assertTrue(this.rs.next());
+        assertEquals("\u00e9", this.rs.getString(1));
+        // non-ASCII text in a latin1 column is stored as its UTF-8 bytes
+        assertEquals("C3A9", this.rs.getString(3));
+        assertNull(this.rs.getBytes(4));
+        assertFalse(this.rs.next());
+        testConn.close();
+    }
 }